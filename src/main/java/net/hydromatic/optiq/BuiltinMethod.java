@@ -21,11 +21,29 @@ import net.hydromatic.linq4j.*;
 import net.hydromatic.linq4j.expressions.FunctionExpression;
 import net.hydromatic.linq4j.expressions.Types;
 import net.hydromatic.linq4j.function.*;
+import net.hydromatic.optiq.impl.java.ColumnarTable;
+import net.hydromatic.optiq.impl.java.IndexedTable;
 import net.hydromatic.optiq.impl.java.ReflectiveSchema;
+import net.hydromatic.optiq.impl.jdbc.JdbcSchema;
+import net.hydromatic.optiq.runtime.Aggregator;
+import net.hydromatic.optiq.runtime.ComparableComparator;
+import net.hydromatic.optiq.runtime.CompositeKey;
+import net.hydromatic.optiq.runtime.Exchange;
+import net.hydromatic.optiq.runtime.ExecutionContext;
+import net.hydromatic.optiq.runtime.ExternalSort;
+import net.hydromatic.optiq.runtime.HashAggregate;
+import net.hydromatic.optiq.runtime.HashJoin;
+import net.hydromatic.optiq.runtime.Limit;
+import net.hydromatic.optiq.runtime.MergeJoin;
+import net.hydromatic.optiq.runtime.SortedAggregate;
+import net.hydromatic.optiq.runtime.SyntheticRow;
+
+import org.eigenbase.util.CancelFlag;
 
 import java.lang.reflect.Method;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * Builtin methods.
@@ -41,13 +59,85 @@ public enum BuiltinMethod {
         DataContext.class, "getSubSchema", String.class),
     GET_TARGET(
         ReflectiveSchema.class, "getTarget"),
+    JDBC_QUERY(
+        JdbcSchema.class, "query", String.class, Class[].class,
+        boolean.class),
     SCHEMA_GET_TABLE(
         Schema.class, "getTable", String.class),
+    INDEX_LOOKUP(
+        IndexedTable.class, "lookup", String.class, Object[].class),
+    INDEX_RANGE(
+        IndexedTable.class, "range", String.class, Object[].class,
+        Boolean.TYPE, Object[].class, Boolean.TYPE),
+    COLUMNAR_SNAPSHOT(
+        ColumnarTable.class, "snapshot"),
+    COLUMNAR_INTS(
+        ColumnarTable.Snapshot.class, "ints", Integer.TYPE),
+    COLUMNAR_LONGS(
+        ColumnarTable.Snapshot.class, "longs", Integer.TYPE),
+    COLUMNAR_DOUBLES(
+        ColumnarTable.Snapshot.class, "doubles", Integer.TYPE),
+    COLUMNAR_OBJECTS(
+        ColumnarTable.Snapshot.class, "objects", Integer.TYPE),
+    COLUMNAR_DICTIONARY(
+        ColumnarTable.Snapshot.class, "dictionary", Integer.TYPE),
+    COLUMNAR_NULLS(
+        ColumnarTable.Snapshot.class, "nulls", Integer.TYPE),
+    COLUMNAR_IS_NULL(
+        ColumnarTable.Snapshot.class, "isNull", long[].class, Integer.TYPE),
     DATA_CONTEXT_GET_TABLE(
         DataContext.class, "getTable", String.class, Class.class),
+    DATA_CONTEXT_GET(
+        DataContext.class, "get", String.class),
     JOIN(
         ExtendedEnumerable.class, "join", Enumerable.class, Function1.class,
         Function1.class, Function2.class),
+    HASH_JOIN(
+        HashJoin.class, "join", Enumerable.class, Enumerable.class,
+        Function1.class, Function1.class, Function2.class, Predicate2.class,
+        Function1.class, Function1.class, Boolean.TYPE),
+    MERGE_JOIN(
+        MergeJoin.class, "join", Enumerable.class, Enumerable.class,
+        Function1.class, Function1.class, Comparator.class, Function2.class,
+        Predicate2.class, Function1.class),
+    HASH_AGGREGATE(
+        HashAggregate.class, "aggregate", Enumerable.class, Function1.class,
+        Integer.TYPE, Aggregator[].class),
+    HASH_AGGREGATE_SOURCE(
+        HashAggregate.class, "aggregate", HashAggregate.Source.class,
+        Function1.class, Integer.TYPE, Aggregator[].class),
+    SORTED_AGGREGATE(
+        SortedAggregate.class, "aggregate", Enumerable.class,
+        Function1.class, Integer.TYPE, Aggregator[].class),
+    AGG_SINK_ADD(
+        HashAggregate.Sink.class, "add", Object.class),
+    EXCHANGE_SPLIT(
+        Exchange.class, "split", Object.class, Integer.TYPE),
+    EXCHANGE_SINGLE(
+        Exchange.class, "single", Enumerable.class),
+    EXCHANGE_MAP(
+        Exchange.class, "map", List.class, Function1.class),
+    EXCHANGE_AGGREGATE(
+        Exchange.class, "aggregate", List.class, Function1.class,
+        Integer.TYPE, Aggregator[].class, Integer.TYPE),
+    EXCHANGE_JOIN(
+        Exchange.class, "join", List.class, List.class, Function1.class,
+        Function1.class, Function2.class, Predicate2.class, Function1.class,
+        Function1.class, Boolean.TYPE, Integer.TYPE),
+    CHECK_CANCEL(
+        ExecutionContext.class, "checkCancel", CancelFlag.class),
+    AGG_COUNT_STAR(
+        HashAggregate.class, "count"),
+    AGG_COUNT(
+        HashAggregate.class, "count", Function1.class),
+    AGG_DISTINCT(
+        HashAggregate.class, "distinct", Function1.class, Aggregator.class),
+    COMPOSITE_KEY2(
+        CompositeKey.class, "of", Object.class, Object.class),
+    COMPOSITE_KEY3(
+        CompositeKey.class, "of", Object.class, Object.class, Object.class),
+    COMPOSITE_KEY(
+        CompositeKey.class, "of", Object[].class),
     SELECT(
         ExtendedEnumerable.class, "select", Function1.class),
     SELECT2(
@@ -60,6 +150,13 @@ public enum BuiltinMethod {
         ExtendedEnumerable.class, "groupBy", Function1.class),
     ORDER_BY(
         ExtendedEnumerable.class, "orderBy", Function1.class, Comparator.class),
+    EXTERNAL_SORT(
+        ExternalSort.class, "sort", Enumerable.class, Function1.class,
+        Comparator.class, Integer.TYPE, Integer.TYPE),
+    LIMIT(
+        Limit.class, "limit", Enumerable.class, Integer.TYPE, Integer.TYPE),
+    COMPARATOR(
+        ComparableComparator.class, "of", Boolean.TYPE, Boolean.TYPE),
     UNION(
         ExtendedEnumerable.class, "union", Enumerable.class),
     CONCAT(
@@ -81,7 +178,9 @@ public enum BuiltinMethod {
     ENUMERATOR_RESET(
         Enumerator.class, "reset"),
     ENUMERABLE_ENUMERATOR(
-        Enumerable.class, "enumerator");
+        Enumerable.class, "enumerator"),
+    SYNTHETIC_ROWS_TO_ARRAYS(
+        SyntheticRow.class, "toArrays", Enumerable.class);
 
     public final Method method;
 
@@ -0,0 +1,64 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq;
+
+/**
+ * Statistics about the values in a column of a {@link Table}.
+ *
+ * <p>Values returned by {@link #getMin()} and {@link #getMax()} are in the
+ * canonical form produced by {@link Statistics#normalize(Object)}.</p>
+ */
+public interface ColumnStatistic {
+    /**
+     * Returns the approximate number of distinct non-null values in the
+     * column.
+     *
+     * @return Number of distinct values, or null if not known
+     */
+    Double getDistinctCount();
+
+    /**
+     * Returns the fraction of rows in which the column is null.
+     *
+     * @return Fraction between 0 and 1, or null if not known
+     */
+    Double getNullFraction();
+
+    /**
+     * Returns the smallest non-null value in the column.
+     *
+     * @return Smallest value, or null if not known
+     */
+    Comparable getMin();
+
+    /**
+     * Returns the largest non-null value in the column.
+     *
+     * @return Largest value, or null if not known
+     */
+    Comparable getMax();
+
+    /**
+     * Returns a histogram of the non-null values in the column.
+     *
+     * @return Histogram, or null if not known
+     */
+    Histogram getHistogram();
+}
+
+// End ColumnStatistic.java
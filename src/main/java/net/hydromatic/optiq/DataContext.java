@@ -18,6 +18,8 @@
 package net.hydromatic.optiq;
 
 import net.hydromatic.linq4j.Queryable;
+import net.hydromatic.linq4j.expressions.Expressions;
+import net.hydromatic.linq4j.expressions.ParameterExpression;
 
 /**
  * Runtime context allowing access to the tables in a database.
@@ -25,12 +27,25 @@ import net.hydromatic.linq4j.Queryable;
  * @author jhyde
  */
 public interface DataContext {
+    /** Variable by which generated code refers to the data context of the
+     * statement being executed. */
+    ParameterExpression ROOT =
+        Expressions.parameter(DataContext.class, "root");
+
     <T> Queryable<T> getTable(String name, Class<T> elementType);
 
     /**
      * Returns a sub-schema with a given name, or null.
      */
     Schema getSubSchema(String name);
+
+    /**
+     * Returns the value of a variable bound for the current execution of a
+     * statement, or null if the variable is not bound. For example, the
+     * value of the first dynamic parameter is called "?0"; see
+     * {@link net.hydromatic.optiq.runtime.BoundDataContext}.
+     */
+    Object get(String name);
 }
 
 // End DataContext.java
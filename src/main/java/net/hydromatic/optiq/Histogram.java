@@ -0,0 +1,162 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq;
+
+import java.util.*;
+
+/**
+ * Equi-depth histogram of the non-null values in a column.
+ *
+ * <p>The histogram consists of <i>n</i> + 1 ascending bounds, which divide
+ * the values into <i>n</i> buckets each holding (approximately) the same
+ * number of values. Bounds are in the canonical form produced by
+ * {@link Statistics#normalize(Object)}.</p>
+ *
+ * <p>Immutable.</p>
+ *
+ * @author jhyde
+ */
+public class Histogram {
+    private final Comparable[] bounds;
+
+    /**
+     * Creates a histogram.
+     *
+     * @param bounds Bucket bounds; there must be at least two, and they must
+     *   be in ascending order
+     */
+    public Histogram(List<? extends Comparable> bounds) {
+        assert bounds.size() >= 2 : bounds;
+        this.bounds = new Comparable[bounds.size()];
+        for (int i = 0; i < this.bounds.length; i++) {
+            this.bounds[i] = Statistics.normalize(bounds.get(i));
+            assert this.bounds[i] != null : bounds;
+            assert i == 0
+                || this.bounds[i - 1].compareTo(this.bounds[i]) <= 0
+                : bounds;
+        }
+    }
+
+    /**
+     * Creates a histogram from a sorted list of values, dividing them into a
+     * given number of buckets. Returns null if there are fewer than two
+     * values.
+     *
+     * @param sortedValues Values, normalized, in ascending order
+     * @param bucketCount Maximum number of buckets
+     * @return Histogram, or null
+     */
+    public static Histogram of(
+        List<? extends Comparable> sortedValues,
+        int bucketCount)
+    {
+        final int n = sortedValues.size();
+        if (n < 2) {
+            return null;
+        }
+        bucketCount = Math.min(bucketCount, n - 1);
+        final List<Comparable> bounds = new ArrayList<Comparable>();
+        for (int i = 0; i <= bucketCount; i++) {
+            bounds.add(
+                sortedValues.get(
+                    (int) ((long) i * (n - 1) / bucketCount)));
+        }
+        return new Histogram(bounds);
+    }
+
+    public String toString() {
+        return "Histogram" + Arrays.toString(bounds);
+    }
+
+    /**
+     * Returns the bucket bounds.
+     */
+    public List<Comparable> getBounds() {
+        return Collections.unmodifiableList(Arrays.asList(bounds));
+    }
+
+    /**
+     * Returns whether a value can be compared with the bounds of this
+     * histogram.
+     *
+     * @param value Normalized value
+     */
+    public boolean isComparable(Comparable value) {
+        return value != null && value.getClass() == bounds[0].getClass();
+    }
+
+    /**
+     * Estimates the fraction of values that are less than (or, if
+     * {@code inclusive}, less than or equal to) a given value.
+     *
+     * <p>Within a bucket, values are assumed to be uniformly distributed if
+     * they are numeric; otherwise the value is assumed to be half way through
+     * the bucket.</p>
+     *
+     * @param value Normalized value; must be {@link #isComparable comparable}
+     * @param inclusive Whether to include values equal to {@code value}
+     * @return Fraction between 0 and 1
+     */
+    @SuppressWarnings("unchecked")
+    public double getFractionBelow(Comparable value, boolean inclusive) {
+        assert isComparable(value) : value;
+        // Number of bounds that are below the value.
+        int k = 0;
+        while (k < bounds.length) {
+            final int c = bounds[k].compareTo(value);
+            if (c > 0 || c == 0 && !inclusive) {
+                break;
+            }
+            ++k;
+        }
+        if (k == 0) {
+            return 0d;
+        }
+        if (k == bounds.length) {
+            return 1d;
+        }
+        // Value lies in the bucket between bounds[k - 1] and bounds[k].
+        final int bucketCount = bounds.length - 1;
+        return (k - 1 + interpolate(bounds[k - 1], bounds[k], value))
+            / bucketCount;
+    }
+
+    /** Returns how far a value lies between a lower and upper bound, between
+     * 0 and 1. */
+    static double interpolate(
+        Comparable lower,
+        Comparable upper,
+        Comparable value)
+    {
+        if (lower instanceof Number
+            && upper instanceof Number
+            && value instanceof Number)
+        {
+            final double lo = ((Number) lower).doubleValue();
+            final double hi = ((Number) upper).doubleValue();
+            final double v = ((Number) value).doubleValue();
+            if (hi <= lo) {
+                return 0.5d;
+            }
+            return Math.max(0d, Math.min(1d, (v - lo) / (hi - lo)));
+        }
+        return 0.5d;
+    }
+}
+
+// End Histogram.java
@@ -37,6 +37,11 @@ public interface MutableSchema extends Schema {
     /** Returns the expression with which a sub-schema of this schema with a
      * given name and type should be accessed. */
     Expression getSubSchemaExpression(String name, Class type);
+
+    /** Returns a stamp that increases whenever this schema, or any mutable
+     * sub-schema, is modified. A statement prepared against one version of a
+     * schema must not be re-used against a later version. */
+    long getVersion();
 }
 
 // End MutableSchema.java
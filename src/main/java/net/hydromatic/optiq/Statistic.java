@@ -0,0 +1,63 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq;
+
+import org.eigenbase.rel.RelCollation;
+
+import java.util.List;
+
+/**
+ * Statistics about the contents of a {@link Table}.
+ *
+ * <p>The planner uses statistics to estimate the number of rows returned by
+ * each relational expression, and hence to choose join orders and
+ * algorithms. All statistics are approximate, and any of them may be
+ * unknown.</p>
+ *
+ * @see Statistics
+ */
+public interface Statistic {
+    /**
+     * Returns the approximate number of rows in the table.
+     *
+     * @return Row count, or null if not known
+     */
+    Double getRowCount();
+
+    /**
+     * Returns statistics about a column.
+     *
+     * @param ordinal Zero-based ordinal of column
+     * @return Column statistics, or null if not known
+     */
+    ColumnStatistic getColumnStatistic(int ordinal);
+
+    /**
+     * Returns the orders in which the rows of the table are known to be
+     * sorted. For example, a table whose rows are held in an array sorted
+     * by its first column returns a list containing one collation, on field
+     * 0. The planner can then omit a sort on that column, and use
+     * algorithms that need sorted input, such as merge join.
+     *
+     * @return List of collations; empty if the table is not known to be
+     *   sorted
+     */
+    List<RelCollation> getCollations();
+}
+
+// End Statistic.java
@@ -0,0 +1,286 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq;
+
+import org.eigenbase.rel.RelCollation;
+
+import java.util.*;
+
+/**
+ * Utility functions regarding {@link Statistic} and {@link ColumnStatistic}.
+ *
+ * @author jhyde
+ */
+public final class Statistics {
+    /** Number of buckets in a histogram computed from a sample. */
+    public static final int HISTOGRAM_BUCKET_COUNT = 10;
+
+    /** Statistic that knows nothing about a table. */
+    public static final Statistic UNKNOWN = of(null, null);
+
+    private Statistics() {
+        throw new AssertionError("no instances!");
+    }
+
+    /**
+     * Creates a statistic.
+     *
+     * @param rowCount Row count, or null if not known
+     * @param columns Statistics for each column, or null if not known; an
+     *   element may be null if nothing is known about that column
+     * @return Statistic
+     */
+    public static Statistic of(
+        Double rowCount,
+        List<ColumnStatistic> columns)
+    {
+        return of(
+            rowCount, columns, Collections.<RelCollation>emptyList());
+    }
+
+    /**
+     * Creates a statistic for a table whose rows are sorted.
+     *
+     * @param rowCount Row count, or null if not known
+     * @param columns Statistics for each column, or null if not known
+     * @param collations Orders in which the rows are sorted; not null
+     * @return Statistic
+     */
+    public static Statistic of(
+        final Double rowCount,
+        final List<ColumnStatistic> columns,
+        final List<RelCollation> collations)
+    {
+        assert collations != null;
+        return new Statistic() {
+            public Double getRowCount() {
+                return rowCount;
+            }
+
+            public ColumnStatistic getColumnStatistic(int ordinal) {
+                if (columns == null
+                    || ordinal < 0
+                    || ordinal >= columns.size())
+                {
+                    return null;
+                }
+                return columns.get(ordinal);
+            }
+
+            public List<RelCollation> getCollations() {
+                return collations;
+            }
+
+            public String toString() {
+                return "{rowCount=" + rowCount + ", columns=" + columns
+                    + (collations.isEmpty()
+                        ? ""
+                        : ", collations=" + collations)
+                    + "}";
+            }
+        };
+    }
+
+    /**
+     * Creates a column statistic. Any argument may be null, meaning not known.
+     *
+     * @param distinctCount Number of distinct non-null values
+     * @param nullFraction Fraction of rows that are null
+     * @param min Smallest non-null value
+     * @param max Largest non-null value
+     * @param histogram Histogram of non-null values
+     * @return Column statistic
+     */
+    public static ColumnStatistic column(
+        Double distinctCount,
+        Double nullFraction,
+        Object min,
+        Object max,
+        Histogram histogram)
+    {
+        return new ColumnStatisticImpl(
+            distinctCount, nullFraction, normalize(min), normalize(max),
+            histogram);
+    }
+
+    /**
+     * Estimates the statistics of a column from a random sample of its
+     * values.
+     *
+     * <p>If the sample contains every row, the statistics are exact (except
+     * for the histogram). Otherwise the number of distinct values is
+     * estimated using the "Duj1" estimator of Haas et al., which
+     * extrapolates from the number of values that occur exactly once in the
+     * sample.</p>
+     *
+     * @param values Sample of values, possibly including nulls
+     * @param rowCount Number of rows in the table
+     * @return Column statistic
+     */
+    public static ColumnStatistic sample(List<?> values, double rowCount) {
+        final int n = values.size();
+        if (n == 0) {
+            return column(0d, null, null, null, null);
+        }
+        int nullCount = 0;
+        final Map<Object, int[]> counts = new HashMap<Object, int[]>();
+        final List<Comparable> sorted = new ArrayList<Comparable>();
+        boolean sortable = true;
+        Class sortClass = null;
+        for (Object value : values) {
+            if (value == null) {
+                ++nullCount;
+                continue;
+            }
+            final int[] count = counts.get(value);
+            if (count == null) {
+                counts.put(value, new int[] {1});
+            } else {
+                ++count[0];
+            }
+            if (sortable) {
+                final Comparable normalized = normalize(value);
+                if (normalized == null
+                    || sortClass != null
+                    && normalized.getClass() != sortClass)
+                {
+                    sortable = false;
+                } else {
+                    sortClass = normalized.getClass();
+                    sorted.add(normalized);
+                }
+            }
+        }
+        final double nullFraction = (double) nullCount / n;
+        final int nonNullCount = n - nullCount;
+        final int distinct = counts.size();
+        double distinctCount;
+        if (n >= rowCount || nonNullCount == 0) {
+            distinctCount = distinct;
+        } else {
+            int singletons = 0;
+            for (int[] count : counts.values()) {
+                if (count[0] == 1) {
+                    ++singletons;
+                }
+            }
+            distinctCount =
+                nonNullCount * distinct
+                / (nonNullCount - singletons
+                   + singletons * nonNullCount / rowCount);
+            distinctCount =
+                Math.max(
+                    distinct,
+                    Math.min(distinctCount, rowCount * (1d - nullFraction)));
+        }
+        if (!sortable || sorted.isEmpty()) {
+            return column(distinctCount, nullFraction, null, null, null);
+        }
+        //noinspection unchecked
+        Collections.sort((List) sorted);
+        return column(
+            distinctCount,
+            nullFraction,
+            sorted.get(0),
+            sorted.get(sorted.size() - 1),
+            Histogram.of(sorted, HISTOGRAM_BUCKET_COUNT));
+    }
+
+    /**
+     * Converts a value to a canonical form that can be compared with values
+     * from other sources. Numbers become {@link Double}, characters become
+     * {@link String}, and dates become {@link Long} milliseconds since the
+     * epoch. Strings and booleans are unchanged. Returns null if the value
+     * is null or of any other type.
+     *
+     * @param value Value
+     * @return Normalized value, or null
+     */
+    public static Comparable normalize(Object value) {
+        if (value instanceof Double
+            || value instanceof String
+            || value instanceof Boolean)
+        {
+            return (Comparable) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof Character) {
+            return value.toString();
+        } else if (value instanceof java.util.Date) {
+            return ((java.util.Date) value).getTime();
+        } else if (value instanceof Calendar) {
+            return ((Calendar) value).getTimeInMillis();
+        } else {
+            return null;
+        }
+    }
+
+    /** Implementation of {@link ColumnStatistic} that holds its values in
+     * fields. */
+    private static class ColumnStatisticImpl implements ColumnStatistic {
+        private final Double distinctCount;
+        private final Double nullFraction;
+        private final Comparable min;
+        private final Comparable max;
+        private final Histogram histogram;
+
+        ColumnStatisticImpl(
+            Double distinctCount,
+            Double nullFraction,
+            Comparable min,
+            Comparable max,
+            Histogram histogram)
+        {
+            this.distinctCount = distinctCount;
+            this.nullFraction = nullFraction;
+            this.min = min;
+            this.max = max;
+            this.histogram = histogram;
+        }
+
+        public String toString() {
+            return "{distinctCount=" + distinctCount
+                + ", nullFraction=" + nullFraction
+                + ", min=" + min
+                + ", max=" + max
+                + ", histogram=" + histogram + "}";
+        }
+
+        public Double getDistinctCount() {
+            return distinctCount;
+        }
+
+        public Double getNullFraction() {
+            return nullFraction;
+        }
+
+        public Comparable getMin() {
+            return min;
+        }
+
+        public Comparable getMax() {
+            return max;
+        }
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+    }
+}
+
+// End Statistics.java
@@ -26,6 +26,14 @@ import net.hydromatic.linq4j.Queryable;
  */
 public interface Table<T> extends Queryable<T> {
     DataContext getDataContext();
+
+    /**
+     * Returns statistics about this table, used by the planner to estimate
+     * the cost of queries.
+     *
+     * @return Statistics; never null, but may be {@link Statistics#UNKNOWN}
+     */
+    Statistic getStatistic();
 }
 
 // End Table.java
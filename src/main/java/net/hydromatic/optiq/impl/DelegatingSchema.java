@@ -71,6 +71,9 @@ public class DelegatingSchema implements Schema {
         return schema.getSubSchema(name);
     }
 
+    public Object get(String name) {
+        return schema.get(name);
+    }
 }
 
 // End DelegatingSchema.java
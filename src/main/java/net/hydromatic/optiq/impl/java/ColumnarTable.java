@@ -0,0 +1,762 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.java;
+
+import net.hydromatic.linq4j.*;
+import net.hydromatic.linq4j.expressions.Expressions;
+import net.hydromatic.linq4j.expressions.Types;
+
+import net.hydromatic.optiq.*;
+import net.hydromatic.optiq.rules.java.JavaRules;
+
+import org.eigenbase.rel.RelNode;
+import org.eigenbase.relopt.RelOptTable;
+import org.eigenbase.reltype.RelDataType;
+import org.eigenbase.reltype.RelDataTypeFactory;
+import org.eigenbase.reltype.RelDataTypeField;
+import org.eigenbase.sql.type.SqlTypeName;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Table whose rows are held in memory, one array per column.
+ *
+ * <p>Each column is stored in the most compact {@link Representation} for
+ * its type. Integer, bigint and double columns are held in arrays of
+ * primitives, with a bitmap of which values are null if the column is
+ * nullable; character columns are dictionary-encoded, each value being an
+ * index into an array of the column's distinct strings; other columns are
+ * held in arrays of objects.</p>
+ *
+ * <p>Rows can be added, one by one or in bulk from a collection of Java
+ * objects or from a JDBC {@link ResultSet}, but not modified or removed,
+ * except by {@link #clear}. A query reads a {@link Snapshot} of the table,
+ * so it does not see rows added while it is running.</p>
+ *
+ * <p>The table is scanned by
+ * {@link JavaRules.EnumerableColumnarScanRel}. A filter, project or
+ * aggregate over the scan is generated as a single loop that reads values
+ * straight from the column arrays, without creating a row object for each
+ * row and, for NOT NULL numeric columns, without boxing.</p>
+ *
+ * @author jhyde
+ */
+public class ColumnarTable
+    extends BaseQueryable<Object>
+    implements TranslatableTable<Object>
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Schema schema;
+    private final RelDataType rowType;
+    private final List<Representation> representations;
+    private final Column[] columns;
+    private int rowCount;
+
+    /**
+     * Creates a ColumnarTable.
+     *
+     * @param schema Schema that the table will belong to
+     * @param typeFactory Type factory
+     * @param rowType Row type; a record type
+     * @param tableName Name of the table within the schema
+     */
+    public ColumnarTable(
+        Schema schema,
+        JavaTypeFactory typeFactory,
+        RelDataType rowType,
+        String tableName)
+    {
+        super(
+            schema.getQueryProvider(),
+            typeFactory.getJavaClass(rowType),
+            Types.castIfNecessary(
+                ColumnarTable.class,
+                Expressions.call(
+                    Types.castIfNecessary(
+                        Schema.class, schema.getExpression()),
+                    BuiltinMethod.SCHEMA_GET_TABLE.method,
+                    Expressions.constant(tableName))));
+        this.schema = schema;
+        this.rowType = rowType;
+        final List<RelDataTypeField> fields = rowType.getFieldList();
+        final List<Representation> list = new ArrayList<Representation>();
+        this.columns = new Column[fields.size()];
+        for (RelDataTypeField field : fields) {
+            final Representation representation =
+                Representation.of(typeFactory, field.getType());
+            list.add(representation);
+            columns[field.getIndex()] =
+                new Column(
+                    field.getName(),
+                    representation,
+                    field.getType().isNullable());
+        }
+        this.representations = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Creates an empty ColumnarTable and adds it to a schema.
+     *
+     * @param schema Schema
+     * @param typeFactory Type factory
+     * @param tableName Name of the table within the schema
+     * @param rowType Row type
+     * @return New table
+     */
+    public static ColumnarTable create(
+        MutableSchema schema,
+        JavaTypeFactory typeFactory,
+        String tableName,
+        RelDataType rowType)
+    {
+        final ColumnarTable table =
+            new ColumnarTable(schema, typeFactory, rowType, tableName);
+        schema.addTable(tableName, table);
+        return table;
+    }
+
+    /**
+     * Creates a ColumnarTable whose columns are the public fields of a Java
+     * class, loads it from a collection of instances of that class, and adds
+     * it to a schema.
+     *
+     * @param schema Schema
+     * @param typeFactory Type factory
+     * @param tableName Name of the table within the schema
+     * @param rowClass Class of each row
+     * @param rows Rows
+     * @return New table
+     */
+    public static <T> ColumnarTable load(
+        MutableSchema schema,
+        JavaTypeFactory typeFactory,
+        String tableName,
+        Class<T> rowClass,
+        Iterable<? extends T> rows)
+    {
+        final Field[] fields = rowClass.getFields();
+        final List<RelDataType> types = new ArrayList<RelDataType>();
+        final List<String> names = new ArrayList<String>();
+        for (Field field : fields) {
+            types.add(typeFactory.createJavaType(field.getType()));
+            names.add(field.getName());
+        }
+        final ColumnarTable table =
+            create(
+                schema, typeFactory, tableName,
+                typeFactory.createStructType(types, names));
+        final Object[] values = new Object[fields.length];
+        try {
+            for (T row : rows) {
+                for (int i = 0; i < fields.length; i++) {
+                    values[i] = fields[i].get(row);
+                }
+                table.add(values);
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(
+                "Error while loading table '" + tableName + "'", e);
+        }
+        return table;
+    }
+
+    /**
+     * Creates a ColumnarTable whose columns are those of a JDBC result set,
+     * loads it with the result set's remaining rows, and adds it to a
+     * schema. Does not close the result set.
+     *
+     * @param schema Schema
+     * @param typeFactory Type factory
+     * @param tableName Name of the table within the schema
+     * @param resultSet Result set
+     * @return New table
+     * @throws SQLException if there is an error reading the result set
+     */
+    public static ColumnarTable load(
+        MutableSchema schema,
+        JavaTypeFactory typeFactory,
+        String tableName,
+        ResultSet resultSet)
+        throws SQLException
+    {
+        final ResultSetMetaData metaData = resultSet.getMetaData();
+        final RelDataTypeFactory.FieldInfoBuilder fieldInfo =
+            new RelDataTypeFactory.FieldInfoBuilder();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            RelDataType type =
+                sqlType(
+                    typeFactory,
+                    metaData.getColumnType(i),
+                    metaData.getPrecision(i),
+                    metaData.getScale(i));
+            type =
+                typeFactory.createTypeWithNullability(
+                    type,
+                    metaData.isNullable(i)
+                    != ResultSetMetaData.columnNoNulls);
+            fieldInfo.add(metaData.getColumnLabel(i), type);
+        }
+        final ColumnarTable table =
+            create(
+                schema, typeFactory, tableName,
+                typeFactory.createStructType(fieldInfo));
+        table.addAll(resultSet);
+        return table;
+    }
+
+    /** Converts a JDBC type to a SQL type; same logic as
+     * {@link net.hydromatic.optiq.impl.jdbc.JdbcSchema}. Types that have no
+     * SQL equivalent become Java objects. */
+    private static RelDataType sqlType(
+        JavaTypeFactory typeFactory,
+        int dataType,
+        int precision,
+        int scale)
+    {
+        final SqlTypeName sqlTypeName;
+        try {
+            sqlTypeName = SqlTypeName.getNameForJdbcType(dataType);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return typeFactory.createJavaType(Object.class);
+        }
+        if (sqlTypeName == null) {
+            return typeFactory.createJavaType(Object.class);
+        }
+        if (precision > 0
+            && scale >= 0
+            && sqlTypeName.allowsPrecScale(true, true))
+        {
+            return typeFactory.createSqlType(sqlTypeName, precision, scale);
+        } else if (precision > 0 && sqlTypeName.allowsPrecNoScale()) {
+            return typeFactory.createSqlType(sqlTypeName, precision);
+        } else {
+            return typeFactory.createSqlType(sqlTypeName);
+        }
+    }
+
+    public DataContext getDataContext() {
+        return schema;
+    }
+
+    /** Returns the representation of each column. */
+    public List<Representation> getRepresentations() {
+        return representations;
+    }
+
+    public RelNode toRel(
+        RelOptTable.ToRelContext context,
+        RelOptTable relOptTable)
+    {
+        return new JavaRules.EnumerableColumnarScanRel(
+            context.getCluster(),
+            relOptTable,
+            getExpression(),
+            representations);
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>The row count and the fraction of nulls in each column are exact;
+     * so are the number of distinct values of each character column, and
+     * the bounds of each numeric column.</p> */
+    public synchronized Statistic getStatistic() {
+        final List<ColumnStatistic> list = new ArrayList<ColumnStatistic>();
+        for (Column column : columns) {
+            list.add(column.statistic(rowCount));
+        }
+        return Statistics.of((double) rowCount, list);
+    }
+
+    /** Returns the number of rows in this table. */
+    public synchronized int size() {
+        return rowCount;
+    }
+
+    /** Returns a snapshot of the rows currently in this table. Called from
+     * generated code. */
+    public synchronized Snapshot snapshot() {
+        final Object[] arrays = new Object[columns.length];
+        final String[][] dictionaries = new String[columns.length][];
+        final long[][] nulls = new long[columns.length][];
+        for (int i = 0; i < columns.length; i++) {
+            final Column column = columns[i];
+            arrays[i] = column.array;
+            dictionaries[i] = column.dictionary;
+            nulls[i] = column.nulls;
+        }
+        return new Snapshot(
+            representations, rowCount, arrays, dictionaries, nulls);
+    }
+
+    public Enumerator<Object> enumerator() {
+        return snapshot().rows().enumerator();
+    }
+
+    /**
+     * Adds a row to this table.
+     *
+     * @param values Value of each column; null if the column is nullable
+     *   and the value is null
+     */
+    public synchronized void add(Object... values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(
+                "row has " + values.length + " values; table has "
+                + columns.length + " columns");
+        }
+        // Check every value before writing any, so that an invalid row is
+        // not partly added.
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(values[i]);
+        }
+        for (Column column : columns) {
+            column.commit(rowCount);
+        }
+        ++rowCount;
+    }
+
+    /** Adds several rows to this table. */
+    public synchronized void addAll(Iterable<Object[]> rows) {
+        for (Object[] row : rows) {
+            add(row);
+        }
+    }
+
+    /** Adds the remaining rows of a JDBC result set to this table. Its
+     * columns must be in the same order as the table's. */
+    public synchronized void addAll(ResultSet resultSet) throws SQLException {
+        final Object[] values = new Object[columns.length];
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = resultSet.getObject(i + 1);
+            }
+            add(values);
+        }
+    }
+
+    /** Removes all rows from this table. Snapshots taken earlier are
+     * unaffected. */
+    public synchronized void clear() {
+        for (int i = 0; i < columns.length; i++) {
+            final Column column = columns[i];
+            columns[i] =
+                new Column(column.name, column.representation, column.nullable);
+        }
+        rowCount = 0;
+    }
+
+    /** How the values of a column are stored. */
+    public enum Representation {
+        /** Each value is an element of an {@code int[]}. */
+        INT,
+
+        /** Each value is an element of a {@code long[]}. */
+        LONG,
+
+        /** Each value is an element of a {@code double[]}. */
+        DOUBLE,
+
+        /** Each value is an {@code int} code, an element of an
+         * {@code int[]}, that indexes into a {@code String[]} dictionary of
+         * the column's distinct values. Code 0 means null. */
+        STRING,
+
+        /** Each value is an element of an {@code Object[]}. */
+        OBJECT;
+
+        /** Returns the representation for a column of a given type. */
+        static Representation of(
+            JavaTypeFactory typeFactory, RelDataType type)
+        {
+            final Type javaType = typeFactory.getJavaClass(type);
+            if (javaType == Integer.class || javaType == int.class) {
+                return INT;
+            }
+            if (javaType == Long.class || javaType == long.class) {
+                return LONG;
+            }
+            if (javaType == Double.class || javaType == double.class) {
+                return DOUBLE;
+            }
+            if (javaType == String.class) {
+                return STRING;
+            }
+            return OBJECT;
+        }
+    }
+
+    /** Values of a column, for the rows of a table. */
+    private static class Column {
+        final String name;
+        final Representation representation;
+
+        /** Bitmap of which values are null, 64 rows per element; null if the
+         * column is NOT NULL or has a representation that can hold null.
+         * Bits are set once, after the last row, and the array is copied
+         * when it grows, so a snapshot can share it, like {@link #array}. */
+        long[] nulls;
+
+        /** Array of values; see {@link Representation}. Its length is the
+         * column's capacity. Elements are written once, after the last
+         * row, so a snapshot can share the array. When the capacity is
+         * exhausted the array is copied into a larger one. */
+        Object array;
+
+        /** For a STRING column, the distinct values, indexed by code; null
+         * otherwise. Shared by snapshots, like {@link #array}. */
+        String[] dictionary;
+        private int dictionarySize;
+        private final Map<String, Integer> codes;
+
+        private final boolean nullable;
+        private int nullCount;
+        private Object min;
+        private Object max;
+
+        /** Value to be written to the column by {@link #commit}. */
+        private Object pending;
+
+        Column(String name, Representation representation, boolean nullable) {
+            this.name = name;
+            this.representation = representation;
+            this.nullable = nullable;
+            switch (representation) {
+            case INT:
+            case STRING:
+                array = new int[INITIAL_CAPACITY];
+                break;
+            case LONG:
+                array = new long[INITIAL_CAPACITY];
+                break;
+            case DOUBLE:
+                array = new double[INITIAL_CAPACITY];
+                break;
+            default:
+                array = new Object[INITIAL_CAPACITY];
+            }
+            if (representation == Representation.STRING) {
+                dictionary = new String[INITIAL_CAPACITY];
+                dictionarySize = 1; // code 0 is null
+                codes = new HashMap<String, Integer>();
+            } else {
+                codes = null;
+            }
+            nulls = nullable
+                && representation != Representation.STRING
+                && representation != Representation.OBJECT
+                ? new long[words(INITIAL_CAPACITY)]
+                : null;
+        }
+
+        /** Checks and converts a value of the row being added; the value is
+         * written by {@link #commit}. */
+        void set(Object value) {
+            if (value == null) {
+                if (!nullable) {
+                    throw new IllegalArgumentException(
+                        "column '" + name + "' is NOT NULL");
+                }
+                pending = null;
+                return;
+            }
+            switch (representation) {
+            case INT:
+                pending = ((Number) value).intValue();
+                break;
+            case LONG:
+                pending = ((Number) value).longValue();
+                break;
+            case DOUBLE:
+                pending = ((Number) value).doubleValue();
+                break;
+            case STRING:
+                pending = (String) value;
+                break;
+            default:
+                pending = value;
+            }
+        }
+
+        /** Writes the value checked by {@link #set} into a given row. */
+        void commit(int row) {
+            ensureCapacity(row);
+            final Object value = pending;
+            pending = null;
+            if (value == null) {
+                if (nulls != null) {
+                    nulls[row >> 6] |= 1L << row;
+                }
+                ++nullCount;
+            }
+            switch (representation) {
+            case INT:
+                ((int[]) array)[row] = value == null ? 0 : (Integer) value;
+                break;
+            case LONG:
+                ((long[]) array)[row] = value == null ? 0L : (Long) value;
+                break;
+            case DOUBLE:
+                ((double[]) array)[row] = value == null ? 0D : (Double) value;
+                break;
+            case STRING:
+                ((int[]) array)[row] = value == null ? 0 : code((String) value);
+                return;
+            default:
+                ((Object[]) array)[row] = value;
+                return;
+            }
+            if (value != null) {
+                @SuppressWarnings("unchecked")
+                final Comparable<Object> comparable = (Comparable) value;
+                if (min == null || comparable.compareTo(min) < 0) {
+                    min = comparable;
+                }
+                if (max == null || comparable.compareTo(max) > 0) {
+                    max = comparable;
+                }
+            }
+        }
+
+        /** Returns the code of a string, adding it to the dictionary if it
+         * is new. */
+        private int code(String value) {
+            final Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (dictionarySize == dictionary.length) {
+                dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+            }
+            dictionary[dictionarySize] = value;
+            codes.put(value, dictionarySize);
+            return dictionarySize++;
+        }
+
+        private void ensureCapacity(int row) {
+            final int length = Array.getLength(array);
+            if (row < length) {
+                return;
+            }
+            final int capacity = length * 2;
+            switch (representation) {
+            case INT:
+            case STRING:
+                array = Arrays.copyOf((int[]) array, capacity);
+                break;
+            case LONG:
+                array = Arrays.copyOf((long[]) array, capacity);
+                break;
+            case DOUBLE:
+                array = Arrays.copyOf((double[]) array, capacity);
+                break;
+            default:
+                array = Arrays.copyOf((Object[]) array, capacity);
+            }
+            if (nulls != null) {
+                nulls = Arrays.copyOf(nulls, words(capacity));
+            }
+        }
+
+        /** Returns the number of bitmap elements needed for a given number
+         * of rows. */
+        private static int words(int capacity) {
+            return (capacity + 63) >> 6;
+        }
+
+        ColumnStatistic statistic(int rowCount) {
+            return Statistics.column(
+                codes == null ? null : (double) codes.size(),
+                rowCount == 0 ? null : (double) nullCount / rowCount,
+                min,
+                max,
+                null);
+        }
+    }
+
+    /**
+     * Rows of a {@link ColumnarTable} at a point in time.
+     *
+     * <p>Generated code reads a snapshot one column at a time: it calls
+     * {@link #ints}, {@link #longs}, {@link #doubles}, {@link #objects},
+     * {@link #dictionary} and {@link #nulls} once for each column it needs,
+     * then loops over the rows using a {@link Cursor}. The arrays may be
+     * longer than the number of rows; elements beyond the last row must not
+     * be read.</p>
+     */
+    public static class Snapshot extends AbstractEnumerable<Cursor> {
+        private final List<Representation> representations;
+        private final int rowCount;
+        private final Object[] arrays;
+        private final String[][] dictionaries;
+        private final long[][] nulls;
+
+        Snapshot(
+            List<Representation> representations,
+            int rowCount,
+            Object[] arrays,
+            String[][] dictionaries,
+            long[][] nulls)
+        {
+            this.representations = representations;
+            this.rowCount = rowCount;
+            this.arrays = arrays;
+            this.dictionaries = dictionaries;
+            this.nulls = nulls;
+        }
+
+        /** Returns the number of rows. */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /** Returns the values of an INT column, or the codes of a STRING
+         * column. */
+        public int[] ints(int column) {
+            return (int[]) arrays[column];
+        }
+
+        /** Returns the values of a LONG column. */
+        public long[] longs(int column) {
+            return (long[]) arrays[column];
+        }
+
+        /** Returns the values of a DOUBLE column. */
+        public double[] doubles(int column) {
+            return (double[]) arrays[column];
+        }
+
+        /** Returns the values of an OBJECT column. */
+        public Object[] objects(int column) {
+            return (Object[]) arrays[column];
+        }
+
+        /** Returns the dictionary of a STRING column; element 0 is null. */
+        public String[] dictionary(int column) {
+            return dictionaries[column];
+        }
+
+        /** Returns the bitmap of which values of a nullable INT, LONG or
+         * DOUBLE column are null; see {@link #isNull}. */
+        public long[] nulls(int column) {
+            return nulls[column];
+        }
+
+        /** Returns whether a row's bit is set in a null bitmap. Called from
+         * generated code. */
+        public static boolean isNull(long[] nulls, int row) {
+            return (nulls[row >> 6] & (1L << row)) != 0;
+        }
+
+        /** Returns the value of a given column in a given row. */
+        public Object get(int row, int column) {
+            if (nulls[column] != null && isNull(nulls[column], row)) {
+                return null;
+            }
+            final Object array = arrays[column];
+            switch (representations.get(column)) {
+            case INT:
+                return ((int[]) array)[row];
+            case LONG:
+                return ((long[]) array)[row];
+            case DOUBLE:
+                return ((double[]) array)[row];
+            case STRING:
+                return dictionaries[column][((int[]) array)[row]];
+            default:
+                return ((Object[]) array)[row];
+            }
+        }
+
+        /** Returns a given row, as an array of column values or, if there
+         * is only one column, as a value. */
+        public Object row(int row) {
+            if (arrays.length == 1) {
+                return get(row, 0);
+            }
+            final Object[] values = new Object[arrays.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = get(row, i);
+            }
+            return values;
+        }
+
+        public Enumerator<Cursor> enumerator() {
+            return new Cursor(rowCount);
+        }
+
+        /** Returns the rows of this snapshot, each created by
+         * {@link #row(int)}. */
+        public Enumerable<Object> rows() {
+            return new AbstractEnumerable<Object>() {
+                public Enumerator<Object> enumerator() {
+                    final Cursor cursor = new Cursor(rowCount);
+                    return new Enumerator<Object>() {
+                        public Object current() {
+                            return row(cursor.index);
+                        }
+
+                        public boolean moveNext() {
+                            return cursor.moveNext();
+                        }
+
+                        public void reset() {
+                            cursor.reset();
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /** Enumerator over the row ordinals of a {@link Snapshot}. It is its own
+     * current element; generated code reads {@link #index}. */
+    public static class Cursor implements Enumerator<Cursor> {
+        private final int rowCount;
+
+        /** Ordinal of the current row. */
+        public int index = -1;
+
+        Cursor(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        public Cursor current() {
+            return this;
+        }
+
+        public boolean moveNext() {
+            if (index < rowCount) {
+                ++index;
+            }
+            return index < rowCount;
+        }
+
+        public void reset() {
+            index = -1;
+        }
+    }
+}
+
+// End ColumnarTable.java
@@ -0,0 +1,553 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.java;
+
+import net.hydromatic.linq4j.*;
+import net.hydromatic.linq4j.expressions.Expression;
+import net.hydromatic.linq4j.expressions.Expressions;
+import net.hydromatic.linq4j.expressions.Types;
+
+import net.hydromatic.optiq.*;
+import net.hydromatic.optiq.runtime.CompositeKey;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * Table whose rows are held in memory, and which may have secondary indexes
+ * on one or more of its columns.
+ *
+ * <p>The element type is a class whose public fields are the columns of the
+ * table, in the same order as in the row type created by
+ * {@link JavaTypeFactory}. Rows are added and removed by {@link #add},
+ * {@link #remove} and {@link #clear}, which maintain every index. A row
+ * must not be modified while it is in the table.</p>
+ *
+ * <p>A {@link IndexType#HASH} index finds the rows whose key columns have
+ * given values. A {@link IndexType#TREE} index can also find the rows whose
+ * leading key columns have given values, and whose next key column is in a
+ * range. In both kinds of index, null is a value like any other; it sorts
+ * before every other value.</p>
+ *
+ * <p>The planner uses an index to evaluate a filter on the table if that is
+ * cheaper than reading every row; see
+ * {@link net.hydromatic.optiq.rules.java.JavaRules#ENUMERABLE_INDEX_SCAN_RULE}.
+ * The {@link #lookup} and {@link #range} methods, called from generated
+ * code, return a snapshot of the matching rows, so a query does not see
+ * modifications made while it is reading them.</p>
+ *
+ * @author jhyde
+ */
+public class IndexedTable<T>
+    extends BaseQueryable<T>
+    implements Table<T>
+{
+    private final Schema schema;
+    private final Class<T> rowClass;
+    private final List<Field> fields;
+    private final List<T> rows = new ArrayList<T>();
+    private final Map<String, Index<T>> indexes =
+        new LinkedHashMap<String, Index<T>>();
+
+    /** Incremented when an index is created or dropped. */
+    private long version;
+
+    /**
+     * Creates an IndexedTable.
+     *
+     * @param schema Schema that the table will belong to
+     * @param rowClass Class of each row
+     * @param tableName Name of the table within the schema
+     */
+    public IndexedTable(Schema schema, Class<T> rowClass, String tableName) {
+        super(
+            schema.getQueryProvider(),
+            rowClass,
+            Types.castIfNecessary(
+                IndexedTable.class,
+                Expressions.call(
+                    Types.castIfNecessary(
+                        Schema.class, schema.getExpression()),
+                    BuiltinMethod.SCHEMA_GET_TABLE.method,
+                    Expressions.constant(tableName))));
+        this.schema = schema;
+        this.rowClass = rowClass;
+        // Same fields, in the same order, as the row type created by
+        // JavaTypeFactory.
+        this.fields = Arrays.asList(rowClass.getFields());
+    }
+
+    /**
+     * Creates an empty IndexedTable and adds it to a schema.
+     *
+     * @param schema Schema
+     * @param tableName Name of the table within the schema
+     * @param rowClass Class of each row
+     * @return New table
+     */
+    public static <T> IndexedTable<T> create(
+        MutableSchema schema,
+        String tableName,
+        Class<T> rowClass)
+    {
+        final IndexedTable<T> table =
+            new IndexedTable<T>(schema, rowClass, tableName);
+        schema.addTable(tableName, table);
+        return table;
+    }
+
+    public DataContext getDataContext() {
+        return schema;
+    }
+
+    public synchronized Statistic getStatistic() {
+        return Statistics.of((double) rows.size(), null);
+    }
+
+    public Enumerator<T> enumerator() {
+        return Linq4j.asEnumerable(snapshot()).enumerator();
+    }
+
+    private synchronized List<T> snapshot() {
+        return new ArrayList<T>(rows);
+    }
+
+    /** Returns the number of rows in this table. */
+    public synchronized int size() {
+        return rows.size();
+    }
+
+    /** Adds a row to this table and to each of its indexes. */
+    public synchronized void add(T row) {
+        if (!rowClass.isInstance(row)) {
+            throw new IllegalArgumentException(
+                "row " + row + " is not an instance of " + rowClass);
+        }
+        rows.add(row);
+        for (Index<T> index : indexes.values()) {
+            index.add(key(index, row), row);
+        }
+    }
+
+    /** Adds each of a collection of rows to this table. */
+    public synchronized void addAll(Collection<? extends T> rows) {
+        for (T row : rows) {
+            add(row);
+        }
+    }
+
+    /** Removes a row, and its entries in each index, from this table.
+     * Returns whether the table contained the row. */
+    public synchronized boolean remove(T row) {
+        if (!rows.remove(row)) {
+            return false;
+        }
+        for (Index<T> index : indexes.values()) {
+            index.remove(key(index, row), row);
+        }
+        return true;
+    }
+
+    /** Removes all rows from this table and its indexes. */
+    public synchronized void clear() {
+        rows.clear();
+        for (Index<T> index : indexes.values()) {
+            index.clear();
+        }
+    }
+
+    /**
+     * Creates an index on one or more columns, and populates it with the
+     * rows currently in the table.
+     *
+     * @param name Name of the index; must be unique within the table
+     * @param type Type of index
+     * @param columnNames Names of the key columns
+     */
+    public synchronized void createIndex(
+        String name,
+        IndexType type,
+        String... columnNames)
+    {
+        if (indexes.containsKey(name)) {
+            throw new IllegalArgumentException(
+                "index " + name + " already exists");
+        }
+        if (columnNames.length == 0) {
+            throw new IllegalArgumentException(
+                "index " + name + " has no columns");
+        }
+        final List<Integer> columns = new ArrayList<Integer>();
+        for (String columnName : columnNames) {
+            final int column = column(columnName);
+            if (type == IndexType.TREE
+                && !fields.get(column).getType().isPrimitive()
+                && !Comparable.class.isAssignableFrom(
+                    fields.get(column).getType()))
+            {
+                throw new IllegalArgumentException(
+                    "column " + columnName + " is not comparable, so cannot"
+                    + " be a key of a tree index");
+            }
+            columns.add(column);
+        }
+        final Index<T> index =
+            type == IndexType.HASH
+                ? new HashIndex<T>(name, columns)
+                : new TreeIndex<T>(name, columns);
+        for (T row : rows) {
+            index.add(key(index, row), row);
+        }
+        indexes.put(name, index);
+        ++version;
+    }
+
+    /** Removes an index. Returns whether the index existed. */
+    public synchronized boolean dropIndex(String name) {
+        if (indexes.remove(name) == null) {
+            return false;
+        }
+        ++version;
+        return true;
+    }
+
+    /** Returns the number of times an index has been created or dropped.
+     * A plan prepared against one version of the table's indexes must not
+     * be re-used against a later version; see
+     * {@link MapSchema#getVersion()}. */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /** Returns this table's indexes. */
+    public synchronized List<Index<T>> getIndexes() {
+        return new ArrayList<Index<T>>(indexes.values());
+    }
+
+    /**
+     * Returns the rows whose key in a given index is equal to a given key.
+     * (May not appear to be used, but is used in generated code via
+     * {@link BuiltinMethod#INDEX_LOOKUP}.)
+     *
+     * @param indexName Name of index
+     * @param key Value of each key column of the index
+     * @return Matching rows
+     */
+    public synchronized Enumerable<T> lookup(String indexName, Object[] key) {
+        final Index<T> index = index(indexName);
+        assert key.length == index.columns.size();
+        final List<T> list = new ArrayList<T>();
+        index.lookup(key, list);
+        return Linq4j.asEnumerable(list);
+    }
+
+    /**
+     * Returns the rows whose key in a given tree index is within a range.
+     * (May not appear to be used, but is used in generated code via
+     * {@link BuiltinMethod#INDEX_RANGE}.)
+     *
+     * <p>Each bound is a list of values for the leading columns of the key.
+     * A row is in the range if its leading columns are between the bounds,
+     * comparing only as many columns as there are values in a bound. For
+     * example, the range {@code [10], true, [10, "M"], false} contains all
+     * rows whose first column is 10 and whose second column is less than
+     * "M"; and the range {@code [], true, [], true} contains all rows.</p>
+     *
+     * @param indexName Name of a tree index
+     * @param lower Values of the lower bound
+     * @param lowerInclusive Whether rows equal to the lower bound are in
+     *   the range
+     * @param upper Values of the upper bound
+     * @param upperInclusive Whether rows equal to the upper bound are in
+     *   the range
+     * @return Matching rows, in index order
+     */
+    public synchronized Enumerable<T> range(
+        String indexName,
+        Object[] lower,
+        boolean lowerInclusive,
+        Object[] upper,
+        boolean upperInclusive)
+    {
+        final Index<T> index = index(indexName);
+        if (!(index instanceof TreeIndex)) {
+            throw new IllegalArgumentException(
+                "index " + indexName + " does not support range lookup");
+        }
+        final List<T> list = new ArrayList<T>();
+        ((TreeIndex<T>) index).range(
+            bound(lower, lowerInclusive ? Sentinel.MIN : Sentinel.MAX),
+            bound(upper, upperInclusive ? Sentinel.MAX : Sentinel.MIN),
+            list);
+        return Linq4j.asEnumerable(list);
+    }
+
+    /** Appends a sentinel to the values of a bound. The sentinel sorts
+     * before or after every key that starts with those values. */
+    private static Object[] bound(Object[] values, Sentinel sentinel) {
+        final Object[] bound = Arrays.copyOf(values, values.length + 1);
+        bound[values.length] = sentinel;
+        return bound;
+    }
+
+    private Index<T> index(String indexName) {
+        final Index<T> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                "index " + indexName + " not found");
+        }
+        return index;
+    }
+
+    private int column(String columnName) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getName().equals(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(
+            "column " + columnName + " not found");
+    }
+
+    /** Returns the values of the key columns of an index in a row. */
+    private Object[] key(Index<T> index, T row) {
+        final Object[] values = new Object[index.columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            final Field field = fields.get(index.columns.get(i));
+            try {
+                values[i] = field.get(row);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(
+                    "Error while accessing field " + field, e);
+            }
+        }
+        return values;
+    }
+
+    /** Type of index. */
+    public enum IndexType {
+        /** Index that finds rows whose key equals a given value. */
+        HASH,
+
+        /** Index that keeps keys sorted, and so can also find rows whose key
+         * is in a range, or starts with given values. */
+        TREE
+    }
+
+    /** Values that sort before ({@link #MIN}) or after ({@link #MAX}) every
+     * key value, including null. */
+    private enum Sentinel {
+        MIN, MAX
+    }
+
+    /** Compares keys of a tree index, and bounds created by
+     * {@link IndexedTable#bound}. Null sorts before every other value. */
+    private static final Comparator<Object[]> KEY_COMPARATOR =
+        new Comparator<Object[]>() {
+            public int compare(Object[] o1, Object[] o2) {
+                final int n = Math.min(o1.length, o2.length);
+                for (int i = 0; i < n; i++) {
+                    final int c = compareValues(o1[i], o2[i]);
+                    if (c != 0) {
+                        return c;
+                    }
+                }
+                // A bound is longer than the keys it is compared to; its
+                // last value is a sentinel.
+                if (o1.length > n) {
+                    return o1[n] == Sentinel.MIN ? -1 : 1;
+                }
+                if (o2.length > n) {
+                    return o2[n] == Sentinel.MIN ? 1 : -1;
+                }
+                return 0;
+            }
+        };
+
+    private static int compareValues(Object v1, Object v2) {
+        if (v1 == v2) {
+            return 0;
+        }
+        if (v1 == Sentinel.MIN || v2 == Sentinel.MAX) {
+            return -1;
+        }
+        if (v1 == Sentinel.MAX || v2 == Sentinel.MIN) {
+            return 1;
+        }
+        if (v1 == null) {
+            return -1;
+        }
+        if (v2 == null) {
+            return 1;
+        }
+        //noinspection unchecked
+        return ((Comparable) v1).compareTo(v2);
+    }
+
+    /**
+     * Secondary index on one or more columns of an {@link IndexedTable}.
+     *
+     * @param <T> Row type
+     */
+    public static abstract class Index<T> {
+        private final String name;
+        private final List<Integer> columns;
+
+        Index(String name, List<Integer> columns) {
+            this.name = name;
+            this.columns = Collections.unmodifiableList(columns);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** Returns the ordinals of the key columns. */
+        public List<Integer> getColumns() {
+            return columns;
+        }
+
+        public abstract IndexType getType();
+
+        /** Returns the number of distinct keys in the index. */
+        public abstract int getKeyCount();
+
+        abstract void add(Object[] key, T row);
+
+        abstract void remove(Object[] key, T row);
+
+        abstract void clear();
+
+        /** Adds the rows whose key equals a given key to a list. */
+        abstract void lookup(Object[] key, List<T> list);
+
+        public String toString() {
+            return name + " " + getType() + " " + columns;
+        }
+    }
+
+    /** Index that holds each key and its rows in a {@link HashMap}. */
+    private static class HashIndex<T> extends Index<T> {
+        private final Map<Object, List<T>> map =
+            new HashMap<Object, List<T>>();
+
+        HashIndex(String name, List<Integer> columns) {
+            super(name, columns);
+        }
+
+        public IndexType getType() {
+            return IndexType.HASH;
+        }
+
+        public int getKeyCount() {
+            return map.size();
+        }
+
+        /** Converts the values of a key to an object with value semantics. */
+        private static Object hashKey(Object[] key) {
+            return key.length == 1 ? key[0] : CompositeKey.of(key);
+        }
+
+        void add(Object[] key, T row) {
+            final Object hashKey = hashKey(key);
+            List<T> list = map.get(hashKey);
+            if (list == null) {
+                list = new ArrayList<T>(1);
+                map.put(hashKey, list);
+            }
+            list.add(row);
+        }
+
+        void remove(Object[] key, T row) {
+            final Object hashKey = hashKey(key);
+            final List<T> list = map.get(hashKey);
+            if (list != null && list.remove(row) && list.isEmpty()) {
+                map.remove(hashKey);
+            }
+        }
+
+        void clear() {
+            map.clear();
+        }
+
+        void lookup(Object[] key, List<T> list) {
+            final List<T> rows = map.get(hashKey(key));
+            if (rows != null) {
+                list.addAll(rows);
+            }
+        }
+    }
+
+    /** Index that holds each key and its rows in a {@link TreeMap}, sorted
+     * by {@link IndexedTable#KEY_COMPARATOR}. */
+    private static class TreeIndex<T> extends Index<T> {
+        private final NavigableMap<Object[], List<T>> map =
+            new TreeMap<Object[], List<T>>(KEY_COMPARATOR);
+
+        TreeIndex(String name, List<Integer> columns) {
+            super(name, columns);
+        }
+
+        public IndexType getType() {
+            return IndexType.TREE;
+        }
+
+        public int getKeyCount() {
+            return map.size();
+        }
+
+        void add(Object[] key, T row) {
+            List<T> list = map.get(key);
+            if (list == null) {
+                list = new ArrayList<T>(1);
+                map.put(key, list);
+            }
+            list.add(row);
+        }
+
+        void remove(Object[] key, T row) {
+            final List<T> list = map.get(key);
+            if (list != null && list.remove(row) && list.isEmpty()) {
+                map.remove(key);
+            }
+        }
+
+        void clear() {
+            map.clear();
+        }
+
+        void lookup(Object[] key, List<T> list) {
+            final List<T> rows = map.get(key);
+            if (rows != null) {
+                list.addAll(rows);
+            }
+        }
+
+        /** Adds the rows whose key is between two bounds to a list. */
+        void range(Object[] lower, Object[] upper, List<T> list) {
+            if (KEY_COMPARATOR.compare(lower, upper) > 0) {
+                return;
+            }
+            for (List<T> rows : map.subMap(lower, true, upper, true).values()) {
+                list.addAll(rows);
+            }
+        }
+    }
+}
+
+// End IndexedTable.java
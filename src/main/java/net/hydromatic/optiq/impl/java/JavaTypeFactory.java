@@ -47,6 +47,28 @@ public interface JavaTypeFactory extends RelDataTypeFactory {
     RelDataType createType(Type type);
 
     Type getJavaClass(RelDataType type);
+
+    /**
+     * Returns a class whose instances hold rows of a given record type,
+     * generating and compiling it if necessary.
+     *
+     * <p>The class is a subclass of
+     * {@link net.hydromatic.optiq.runtime.SyntheticRow}. Record types whose
+     * fields have the same Java representation share a class.</p>
+     *
+     * @param type Record type
+     * @return Row class
+     */
+    Class getRowClass(RelDataType type);
+
+    /**
+     * Returns a class loader that can load every class returned by
+     * {@link #getRowClass(RelDataType)}. Generated code that refers to those
+     * classes must be compiled with this class loader as its parent.
+     *
+     * @return Class loader
+     */
+    ClassLoader getClassLoader();
 }
 
 // End JavaTypeFactory.java
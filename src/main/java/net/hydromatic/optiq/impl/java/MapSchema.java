@@ -49,6 +49,9 @@ public class MapSchema implements MutableSchema {
     protected final JavaTypeFactory typeFactory;
     private final Expression expression;
 
+    /** Number of times this schema has been modified. */
+    private volatile long modCount;
+
     /**
      * Creates a MapSchema.
      *
@@ -140,16 +143,51 @@ public class MapSchema implements MutableSchema {
         return subSchemaMap.get(name);
     }
 
+    public Object get(String name) {
+        // A schema binds no variables; see BoundDataContext.
+        return null;
+    }
+
     public void addTableFunction(String name, TableFunction tableFunction) {
         putMulti(membersMap, name, tableFunction);
+        ++modCount;
     }
 
     public void addTable(String name, Table table) {
-        tableMap.put(name, table);
+        final Table previous = tableMap.put(name, table);
+        if (previous instanceof IndexedTable) {
+            // Keep the version monotonic when an indexed table is replaced.
+            modCount += ((IndexedTable) previous).getVersion();
+        }
+        ++modCount;
     }
 
     public void addSchema(String name, Schema schema) {
-        subSchemaMap.put(name, schema);
+        final Schema previous = subSchemaMap.put(name, schema);
+        if (previous instanceof MutableSchema) {
+            // Keep the version monotonic when a sub-schema is replaced.
+            modCount += ((MutableSchema) previous).getVersion();
+        }
+        ++modCount;
+    }
+
+    public long getVersion() {
+        // Sub-schemas do not know their parent, so rather than propagating
+        // modifications upwards, sum the counts on the way down. Creating or
+        // dropping an index changes which plans are valid, so indexed tables
+        // count too.
+        long version = modCount;
+        for (Table table : tableMap.values()) {
+            if (table instanceof IndexedTable) {
+                version += ((IndexedTable) table).getVersion();
+            }
+        }
+        for (Schema subSchema : subSchemaMap.values()) {
+            if (subSchema instanceof MutableSchema) {
+                version += ((MutableSchema) subSchema).getVersion();
+            }
+        }
+        return version;
     }
 
     public Expression getSubSchemaExpression(String name, Class type) {
@@ -159,6 +159,10 @@ public class ReflectiveSchema
                             method,
                             list))
                     {
+                        Object collection() {
+                            return o;
+                        }
+
                         public Enumerator<T> enumerator() {
                             @SuppressWarnings("unchecked")
                             final Enumerable<T> enumerable = toEnumerable(o);
@@ -199,6 +203,15 @@ public class ReflectiveSchema
                 return "Relation {field=" + field.getName() + "}";
             }
 
+            Object collection() {
+                try {
+                    return field.get(target);
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(
+                        "Error while accessing field " + field, e);
+                }
+            }
+
             public Enumerator<T> enumerator() {
                 try {
                     Object o = field.get(target);
@@ -244,8 +257,17 @@ public class ReflectiveSchema
         extends BaseQueryable<T>
         implements Table<T>
     {
+        /** Maximum number of rows read to compute statistics. */
+        private static final int SAMPLE_SIZE = 1000;
+
         private final ReflectiveSchema schema;
 
+        /** Collection from which {@link #statistic} was computed, and its
+         * size at the time. If either changes, statistics are recomputed. */
+        private Object statisticCollection;
+        private int statisticSize;
+        private Statistic statistic;
+
         public ReflectiveTable(
             ReflectiveSchema schema,
             Type elementType,
@@ -258,6 +280,91 @@ public class ReflectiveSchema
         public DataContext getDataContext() {
             return schema;
         }
+
+        /** Returns the array or collection that holds the rows of this
+         * table. */
+        abstract Object collection();
+
+        public synchronized Statistic getStatistic() {
+            final Object o = collection();
+            final int size = size(o);
+            if (statistic == null
+                || o != statisticCollection
+                || size != statisticSize)
+            {
+                statistic = computeStatistic(o);
+                statisticCollection = o;
+                statisticSize = size;
+            }
+            return statistic;
+        }
+
+        private static int size(Object o) {
+            if (o instanceof Object[]) {
+                return ((Object[]) o).length;
+            }
+            if (o instanceof Collection) {
+                return ((Collection) o).size();
+            }
+            return -1;
+        }
+
+        /** Computes statistics from a sample of at most {@link #SAMPLE_SIZE}
+         * rows. Arrays are sampled at regular intervals; other collections by
+         * reservoir sampling, which reads every row once. */
+        private Statistic computeStatistic(Object o) {
+            final List<Object> rows = new ArrayList<Object>();
+            final int rowCount;
+            if (o instanceof Object[]) {
+                final Object[] array = (Object[]) o;
+                rowCount = array.length;
+                final int step = Math.max(1, rowCount / SAMPLE_SIZE);
+                for (int i = 0; i < rowCount; i += step) {
+                    rows.add(array[i]);
+                }
+            } else if (o instanceof Iterable) {
+                final Random random = new Random(0);
+                int i = 0;
+                for (Object row : (Iterable) o) {
+                    if (i < SAMPLE_SIZE) {
+                        rows.add(row);
+                    } else {
+                        final int j = random.nextInt(i + 1);
+                        if (j < SAMPLE_SIZE) {
+                            rows.set(j, row);
+                        }
+                    }
+                    ++i;
+                }
+                rowCount = i;
+            } else {
+                return Statistics.UNKNOWN;
+            }
+            final Type elementType = this.getElementType();
+            if (!(elementType instanceof Class)) {
+                return Statistics.of((double) rowCount, null);
+            }
+            final Class clazz = (Class) elementType;
+            final List<ColumnStatistic> columns =
+                new ArrayList<ColumnStatistic>();
+            final List<Object> values = new ArrayList<Object>();
+            // Same fields, in the same order, as the row type created by
+            // JavaTypeFactory.
+            for (Field field : clazz.getFields()) {
+                values.clear();
+                try {
+                    for (Object row : rows) {
+                        values.add(
+                            clazz.isInstance(row) ? field.get(row) : null);
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(
+                        "Error while accessing field " + field, e);
+                }
+                columns.add(Statistics.sample(values, rowCount));
+            }
+            return Statistics.of((double) rowCount, columns);
+        }
     }
 }
 
@@ -0,0 +1,204 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a column of a JDBC result set as the Java class that Optiq expects.
+ *
+ * <p>Readers are chosen once per query, from the Java classes of the row
+ * type's fields, and call the typed accessor ({@link ResultSet#getInt},
+ * {@link ResultSet#getDouble} and so forth) rather than
+ * {@link ResultSet#getObject} followed by a conversion. A column whose class
+ * is primitive is not nullable, so its reader does not need to call
+ * {@link ResultSet#wasNull()}.</p>
+ *
+ * @author jhyde
+ */
+abstract class ColumnReader {
+    /** Reader that returns the object that the JDBC driver returns. */
+    static final ColumnReader OBJECT = new ColumnReader() {
+        Object read(ResultSet resultSet, int i) throws SQLException {
+            return resultSet.getObject(i);
+        }
+    };
+
+    private static final Map<Class, ColumnReader> MAP =
+        new HashMap<Class, ColumnReader>();
+
+    static {
+        MAP.put(
+            int.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getInt(i);
+                }
+            });
+        MAP.put(
+            Integer.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    final int v = resultSet.getInt(i);
+                    return v == 0 && resultSet.wasNull() ? null : v;
+                }
+            });
+        MAP.put(
+            long.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getLong(i);
+                }
+            });
+        MAP.put(
+            Long.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    final long v = resultSet.getLong(i);
+                    return v == 0L && resultSet.wasNull() ? null : v;
+                }
+            });
+        MAP.put(
+            short.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getShort(i);
+                }
+            });
+        MAP.put(
+            Short.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    final short v = resultSet.getShort(i);
+                    return v == 0 && resultSet.wasNull() ? null : v;
+                }
+            });
+        MAP.put(
+            byte.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getByte(i);
+                }
+            });
+        MAP.put(
+            Byte.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    final byte v = resultSet.getByte(i);
+                    return v == 0 && resultSet.wasNull() ? null : v;
+                }
+            });
+        MAP.put(
+            double.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getDouble(i);
+                }
+            });
+        MAP.put(
+            Double.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    final double v = resultSet.getDouble(i);
+                    return v == 0D && resultSet.wasNull() ? null : v;
+                }
+            });
+        MAP.put(
+            float.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getFloat(i);
+                }
+            });
+        MAP.put(
+            Float.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    final float v = resultSet.getFloat(i);
+                    return v == 0F && resultSet.wasNull() ? null : v;
+                }
+            });
+        MAP.put(
+            boolean.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getBoolean(i);
+                }
+            });
+        MAP.put(
+            Boolean.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    final boolean v = resultSet.getBoolean(i);
+                    return !v && resultSet.wasNull() ? null : v;
+                }
+            });
+        MAP.put(
+            String.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getString(i);
+                }
+            });
+        MAP.put(
+            BigDecimal.class,
+            new ColumnReader() {
+                Object read(ResultSet resultSet, int i) throws SQLException {
+                    return resultSet.getBigDecimal(i);
+                }
+            });
+    }
+
+    /** Reads the value of the column with a given ordinal (1-based) in the
+     * current row. */
+    abstract Object read(ResultSet resultSet, int i) throws SQLException;
+
+    /** Returns a reader for a column whose values are of a given class. */
+    static ColumnReader of(final Class clazz) {
+        final ColumnReader reader = MAP.get(clazz);
+        if (reader != null) {
+            return reader;
+        }
+        return new ColumnReader() {
+            Object read(ResultSet resultSet, int i) throws SQLException {
+                return JdbcUtils.convert(resultSet.getObject(i), clazz);
+            }
+        };
+    }
+
+    /** Returns a reader for each column.
+     *
+     * @param columnClasses Class of each column, or null if values are to be
+     *   returned as the JDBC driver returns them
+     * @param columnCount Number of columns
+     */
+    static ColumnReader[] of(Class[] columnClasses, int columnCount) {
+        final ColumnReader[] readers = new ColumnReader[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            readers[i] =
+                columnClasses == null ? OBJECT : of(columnClasses[i]);
+        }
+        return readers;
+    }
+}
+
+// End ColumnReader.java
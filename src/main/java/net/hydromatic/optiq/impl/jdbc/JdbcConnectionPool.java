@@ -0,0 +1,267 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import java.sql.*;
+import java.util.*;
+import javax.sql.DataSource;
+
+/**
+ * Pool of connections to a JDBC data source, each with a cache of prepared
+ * statements.
+ *
+ * <p>A connection is borrowed by one enumerator at a time, which returns it
+ * to the pool when it has read all of its rows or has been closed. Prepared
+ * statements are keyed by their SQL text; the generated SQL for a given
+ * query is always the same, so a query that is executed repeatedly reuses
+ * the statement.</p>
+ *
+ * <p>At most {@code maxActive} connections are borrowed at a time. If
+ * they are all in use, {@link #acquire} waits for one to be released, and
+ * fails if none is released within {@code maxWaitMillis}. So concurrent
+ * queries, or the partitions of a parallel query, cannot open an unbounded
+ * number of connections to the data source.</p>
+ *
+ * @author jhyde
+ */
+class JdbcConnectionPool {
+    private final DataSource dataSource;
+    private final int maxIdle;
+    private final int maxStatements;
+    private final Deque<PooledConnection> idle =
+        new ArrayDeque<PooledConnection>();
+    private boolean closed;
+
+    /** Maximum number of connections borrowed at a time. */
+    private int maxActive;
+
+    /** Time, in milliseconds, that {@link #acquire} waits for a connection
+     * if {@link #maxActive} are borrowed. */
+    private long maxWaitMillis;
+
+    /** Number of connections borrowed and not yet released or closed. */
+    private int active;
+
+    /**
+     * Creates a JdbcConnectionPool.
+     *
+     * @param dataSource Data source
+     * @param maxIdle Maximum number of idle connections to keep
+     * @param maxActive Maximum number of connections borrowed at a time
+     * @param maxWaitMillis Time, in milliseconds, to wait for a connection
+     *   if the maximum number are borrowed
+     * @param maxStatements Maximum number of prepared statements to keep per
+     *   connection
+     */
+    JdbcConnectionPool(
+        DataSource dataSource,
+        int maxIdle,
+        int maxActive,
+        long maxWaitMillis,
+        int maxStatements)
+    {
+        assert maxActive > 0;
+        this.dataSource = dataSource;
+        this.maxIdle = maxIdle;
+        this.maxActive = maxActive;
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxStatements = maxStatements;
+    }
+
+    /** Sets the maximum number of connections borrowed at a time, and how
+     * long to wait for one when that many are borrowed. */
+    synchronized void setMaxActive(int maxActive, long maxWaitMillis) {
+        assert maxActive > 0;
+        this.maxActive = maxActive;
+        this.maxWaitMillis = maxWaitMillis;
+        notifyAll();
+    }
+
+    /** Returns the number of connections borrowed and not yet released or
+     * closed. */
+    synchronized int getActiveCount() {
+        return active;
+    }
+
+    /** Borrows a connection, reusing an idle one if possible. If the
+     * maximum number of connections are borrowed, waits for one to be
+     * released. */
+    PooledConnection acquire() throws SQLException {
+        for (;;) {
+            PooledConnection connection;
+            synchronized (this) {
+                waitForConnection();
+                connection = idle.pollFirst();
+                ++active;
+            }
+            if (connection == null) {
+                try {
+                    connection =
+                        new PooledConnection(dataSource.getConnection());
+                } catch (SQLException e) {
+                    returned(null);
+                    throw e;
+                } catch (RuntimeException e) {
+                    returned(null);
+                    throw e;
+                }
+            }
+            synchronized (this) {
+                connection.borrowed = true;
+            }
+            boolean open = false;
+            try {
+                open = !connection.connection.isClosed();
+            } finally {
+                if (!open) {
+                    connection.close();
+                }
+            }
+            if (open) {
+                return connection;
+            }
+        }
+    }
+
+    /** Waits until there is an idle connection or fewer than
+     * {@link #maxActive} connections are borrowed. Caller must hold the
+     * lock. */
+    private void waitForConnection() throws SQLException {
+        final long deadline = System.currentTimeMillis() + maxWaitMillis;
+        while (idle.isEmpty() && active >= maxActive) {
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new SQLException(
+                    "Timed out after " + maxWaitMillis
+                    + " ms waiting for a connection; " + active
+                    + " connections are in use");
+            }
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(
+                    "Interrupted while waiting for a connection");
+            }
+        }
+    }
+
+    /** Records that a borrowed connection has been released or closed, and
+     * wakes a thread that is waiting for one. A null connection means one
+     * that failed to open. */
+    private synchronized void returned(PooledConnection connection) {
+        if (connection != null) {
+            if (!connection.borrowed) {
+                return;
+            }
+            connection.borrowed = false;
+        }
+        --active;
+        notifyAll();
+    }
+
+    /** Returns a connection to the pool. If the pool is full, closes the
+     * connection. */
+    void release(PooledConnection connection) {
+        returned(connection);
+        synchronized (this) {
+            if (!closed && idle.size() < maxIdle) {
+                idle.addFirst(connection);
+                return;
+            }
+        }
+        connection.close();
+    }
+
+    /** Closes all idle connections. Connections that are in use are closed
+     * when they are released. */
+    void close() {
+        final List<PooledConnection> list;
+        synchronized (this) {
+            closed = true;
+            list = new ArrayList<PooledConnection>(idle);
+            idle.clear();
+        }
+        for (PooledConnection connection : list) {
+            connection.close();
+        }
+    }
+
+    /** A connection and its cache of prepared statements. */
+    class PooledConnection {
+        final Connection connection;
+
+        /** Whether the connection is borrowed; guarded by the pool's
+         * lock. */
+        private boolean borrowed;
+
+        /** Prepared statements, least recently used first. */
+        private final Map<String, PreparedStatement> statements =
+            new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+                protected boolean removeEldestEntry(
+                    Map.Entry<String, PreparedStatement> eldest)
+                {
+                    if (size() <= maxStatements) {
+                        return false;
+                    }
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+            };
+
+        PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        /** Returns a prepared statement for a SQL string, preparing it if it
+         * is not in the cache. */
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        /** Closes the connection and its statements, ignoring errors. A
+         * borrowed connection no longer counts as borrowed. */
+        void close() {
+            returned(this);
+            for (PreparedStatement statement : statements.values()) {
+                closeQuietly(statement);
+            }
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // ignore
+            }
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // ignore
+        }
+    }
+}
+
+// End JdbcConnectionPool.java
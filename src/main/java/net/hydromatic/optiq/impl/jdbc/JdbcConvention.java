@@ -0,0 +1,71 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import org.eigenbase.relopt.CallingConvention;
+import org.eigenbase.relopt.RelOptPlanner;
+import org.eigenbase.relopt.RelOptRule;
+
+import java.util.List;
+
+/**
+ * Calling convention for relational expressions that are executed as SQL by
+ * a particular {@link JdbcSchema}.
+ *
+ * <p>Each JDBC schema has its own convention, because a relational expression
+ * can only be pushed down to a database if all of its inputs come from the
+ * same database. Relational expressions of this convention implement
+ * {@link JdbcRel}.</p>
+ *
+ * @author jhyde
+ */
+public class JdbcConvention extends CallingConvention {
+    public final JdbcSchema schema;
+
+    /** Rules that convert logical relational expressions to this
+     * convention. Created once, so that registering them again with the
+     * same planner is a no-op. */
+    private final List<RelOptRule> rules;
+
+    private JdbcConvention(JdbcSchema schema, String name) {
+        super(name, generateOrdinal(), JdbcRel.class);
+        this.schema = schema;
+        this.rules = JdbcRules.rules(this);
+    }
+
+    /**
+     * Creates a calling convention for a JDBC schema.
+     *
+     * @param schema Schema
+     * @param name Name of the schema in the data source, or null
+     * @return Calling convention
+     */
+    public static JdbcConvention of(JdbcSchema schema, String name) {
+        return new JdbcConvention(
+            schema, name == null ? "JDBC" : "JDBC." + name);
+    }
+
+    /** Registers the rules for this convention with a planner. */
+    public void register(RelOptPlanner planner) {
+        for (RelOptRule rule : rules) {
+            planner.addRule(rule);
+        }
+    }
+}
+
+// End JdbcConvention.java
@@ -0,0 +1,392 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import org.eigenbase.rel.AggregateCall;
+import org.eigenbase.rel.Aggregation;
+import org.eigenbase.rel.RelNode;
+import org.eigenbase.reltype.RelDataType;
+import org.eigenbase.reltype.RelDataTypeField;
+import org.eigenbase.rex.*;
+import org.eigenbase.sql.*;
+import org.eigenbase.sql.fun.*;
+import org.eigenbase.sql.parser.SqlParserPos;
+
+import java.util.*;
+
+/**
+ * State for generating a SQL statement from a tree of {@link JdbcRel}s.
+ *
+ * <p>Each relational expression returns a {@link Result}, which contains a
+ * {@link SqlSelect}. A parent adds its clause to its child's
+ * <code>SELECT</code> if it can do so without changing the meaning of the
+ * query (for example, a filter can add a <code>WHERE</code> clause to
+ * <code>SELECT * FROM emp</code>); otherwise it wraps the child's query as a
+ * sub-query in the <code>FROM</code> clause of a new <code>SELECT</code>.</p>
+ *
+ * @author jhyde
+ */
+public class JdbcImplementor {
+    public static final SqlParserPos POS = SqlParserPos.ZERO;
+
+    private static final RexSqlConvertletTable CONVERTLET_TABLE =
+        new RexSqlStandardConvertletTable();
+
+    final SqlDialect dialect;
+    private int aliasCount;
+
+    public JdbcImplementor(SqlDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    /** Generates SQL for a child relational expression. */
+    public Result visitChild(int ordinal, RelNode input) {
+        return ((JdbcRel) input).implement(this);
+    }
+
+    /** Creates a result for a table, namely
+     * <code>SELECT * FROM table AS alias</code>. The table may also be a
+     * call to a table function. */
+    public Result table(SqlNode table, RelDataType rowType) {
+        final String alias = newAlias();
+        return new Result(
+            select(star(), as(table, alias)),
+            alias,
+            fieldNames(rowType));
+    }
+
+    /** Creates a result for a query whose select list has been specified
+     * explicitly. */
+    public Result result(SqlSelect select, RelDataType rowType) {
+        return new Result(select, null, fieldNames(rowType));
+    }
+
+    /** Returns the SQL text of a result, in this implementor's dialect. */
+    public String toSql(Result result) {
+        return result.select.toSqlString(dialect).getSql();
+    }
+
+    private String newAlias() {
+        return "t" + aliasCount++;
+    }
+
+    static List<String> fieldNames(RelDataType rowType) {
+        final List<String> names = new ArrayList<String>();
+        for (RelDataTypeField field : rowType.getFieldList()) {
+            names.add(field.getName());
+        }
+        return names;
+    }
+
+    static SqlIdentifier identifier(String... names) {
+        return new SqlIdentifier(names, POS);
+    }
+
+    /** Creates <code>e AS alias</code>, or returns <code>e</code> if it
+     * already has that name. */
+    static SqlNode as(SqlNode e, String alias) {
+        if (e instanceof SqlIdentifier) {
+            final String[] names = ((SqlIdentifier) e).names;
+            if (names[names.length - 1].equals(alias)) {
+                return e;
+            }
+        }
+        return SqlStdOperatorTable.asOperator.createCall(
+            POS, e, new SqlIdentifier(alias, POS));
+    }
+
+    private static SqlNodeList star() {
+        final SqlNodeList list = new SqlNodeList(POS);
+        list.add(new SqlIdentifier("*", POS));
+        return list;
+    }
+
+    static SqlSelect select(SqlNodeList selectList, SqlNode from) {
+        return SqlStdOperatorTable.selectOperator.createCall(
+            null, selectList, from, null, null, null, null, null, POS);
+    }
+
+    /** Returns whether an expression can be translated to SQL. Rules call
+     * this before creating a {@link JdbcRel}, because it is too late to
+     * back out when the SQL is being generated. */
+    public static boolean canTranslate(RexNode node) {
+        return new Context(Collections.<SqlNode>emptyList()) {
+            public SqlNode field(int ordinal) {
+                return identifier("$" + ordinal);
+            }
+        }.toSql(node) != null;
+    }
+
+    /** Returns whether a call to an aggregate function can be translated to
+     * SQL. */
+    public static boolean canTranslate(AggregateCall aggCall) {
+        final Aggregation aggregation = aggCall.getAggregation();
+        if (aggregation instanceof SqlAvgAggFunction) {
+            return ((SqlAvgAggFunction) aggregation).getSubtype()
+                == SqlAvgAggFunction.Subtype.AVG;
+        }
+        return aggregation instanceof SqlCountAggFunction
+            || aggregation instanceof SqlSumAggFunction
+            || aggregation instanceof SqlMinMaxAggFunction;
+    }
+
+    /** Maps the fields of the input to a relational expression to SQL
+     * expressions, and translates row expressions into SQL. */
+    public static class Context {
+        private final List<SqlNode> fields;
+
+        Context(List<SqlNode> fields) {
+            this.fields = fields;
+        }
+
+        /** Returns a reference to the <code>ordinal</code>th input field. */
+        public SqlNode field(int ordinal) {
+            return fields.get(ordinal);
+        }
+
+        /** Translates a row expression to SQL, or returns null if it
+         * cannot be translated. */
+        public SqlNode toSql(RexNode node) {
+            return new RexToSqlNodeConverterImpl(CONVERTLET_TABLE) {
+                public SqlNode convertInputRef(RexInputRef ref) {
+                    return field(ref.getIndex());
+                }
+
+                public SqlNode convertLiteral(RexLiteral literal) {
+                    if (RexLiteral.isNullLiteral(literal)) {
+                        return SqlLiteral.createNull(POS);
+                    }
+                    return super.convertLiteral(literal);
+                }
+            }.convertNode(node);
+        }
+
+        /** Translates a call to an aggregate function to SQL. */
+        public SqlNode toSql(AggregateCall aggCall) {
+            final SqlAggFunction op =
+                (SqlAggFunction) aggCall.getAggregation();
+            final List<Integer> args = aggCall.getArgList();
+            final SqlNode[] operands;
+            if (args.isEmpty()) {
+                // COUNT(*)
+                operands = new SqlNode[] {new SqlIdentifier("*", POS)};
+            } else {
+                operands = new SqlNode[args.size()];
+                for (int i = 0; i < operands.length; i++) {
+                    operands[i] = field(args.get(i));
+                }
+            }
+            return op.createCall(
+                aggCall.isDistinct()
+                    ? SqlLiteral.createSymbol(SqlSelectKeyword.Distinct, POS)
+                    : null,
+                POS,
+                operands);
+        }
+    }
+
+    /** Clauses in a SELECT statement, in the order that they are applied. */
+    public enum Clause {
+        FROM, WHERE, GROUP_BY, SELECT, ORDER_BY
+    }
+
+    /** The SQL generated for a relational expression. */
+    public class Result {
+        final SqlSelect select;
+
+        /** Alias of the only item in the FROM clause, if the query is of the
+         * form <code>SELECT * FROM item AS alias</code> (possibly with
+         * <code>WHERE</code>, <code>ORDER BY</code>, <code>OFFSET</code> and
+         * <code>FETCH</code> clauses); otherwise null. */
+        final String alias;
+
+        final List<String> fieldNames;
+
+        Result(SqlSelect select, String alias, List<String> fieldNames) {
+            this.select = select;
+            this.alias = alias;
+            this.fieldNames = fieldNames;
+        }
+
+        /** Returns this query as an item in the FROM clause of another query,
+         * and a context that references its fields. Uses the underlying
+         * table if the query is a trivial query against a single table;
+         * otherwise the query becomes a sub-query. */
+        public From asFrom() {
+            if (alias != null
+                && select.getWhere() == null
+                && select.getOrderList() == null
+                && !hasOffsetFetch())
+            {
+                return new From(select.getFrom(), alias, fieldNames);
+            }
+            // An ORDER BY is meaningless in a sub-query, unless it decides
+            // which rows OFFSET and FETCH return.
+            if (!hasOffsetFetch()) {
+                select.setOperand(SqlSelect.ORDER_OPERAND, null);
+            }
+            final String newAlias = newAlias();
+            return new From(as(select, newAlias), newAlias, fieldNames);
+        }
+
+        /** Returns a builder that adds a clause to this query, or, if that is
+         * not possible, to a new query that reads from this one. */
+        public Builder builder(Clause clause) {
+            if (canAdd(clause)) {
+                if (clause == Clause.GROUP_BY) {
+                    // Aggregation does not preserve order.
+                    select.setOperand(SqlSelect.ORDER_OPERAND, null);
+                }
+                return new Builder(
+                    select,
+                    alias,
+                    alias == null
+                        ? null
+                        : new From(select.getFrom(), alias, fieldNames)
+                            .context);
+            }
+            final SqlNodeList orderList = select.getOrderList();
+            final From from = asFrom();
+            final SqlSelect newSelect = select(star(), from.node);
+            if (orderList != null && clause != Clause.GROUP_BY) {
+                // Filter and project preserve order, so sort the outer query
+                // the same way as the inner query.
+                final SqlNodeList newOrderList = new SqlNodeList(POS);
+                for (SqlNode node : orderList) {
+                    newOrderList.add(from.reorder(node));
+                }
+                newSelect.setOperand(SqlSelect.ORDER_OPERAND, newOrderList);
+            }
+            return new Builder(newSelect, from.alias, from.context);
+        }
+
+        private boolean hasOffsetFetch() {
+            return select.getOffset() != null || select.getFetch() != null;
+        }
+
+        private boolean canAdd(Clause clause) {
+            if (hasOffsetFetch()) {
+                // Every other clause is applied before OFFSET and FETCH, so
+                // the query must become a sub-query.
+                return false;
+            }
+            if (clause == Clause.ORDER_BY) {
+                // A new sort replaces any existing ORDER BY, and ordinals
+                // refer to the columns of the select list.
+                return true;
+            }
+            if (alias == null || select.getGroup() != null) {
+                return false;
+            }
+            switch (clause) {
+            case SELECT:
+                return select.getOrderList() == null;
+            default:
+                return true;
+            }
+        }
+    }
+
+    /** An item in a FROM clause, with the alias by which its fields are
+     * referenced. */
+    public static class From {
+        public final SqlNode node;
+        public final String alias;
+        public final List<String> fieldNames;
+        public final Context context;
+
+        From(SqlNode node, String alias, List<String> fieldNames) {
+            this.node = node;
+            this.alias = alias;
+            this.fieldNames = fieldNames;
+            final List<SqlNode> fields = new ArrayList<SqlNode>();
+            for (String fieldName : fieldNames) {
+                fields.add(identifier(alias, fieldName));
+            }
+            this.context = new Context(fields);
+        }
+
+        /** Converts an ORDER BY item of the query that this item wraps,
+         * which references a column by ordinal, to reference the column by
+         * name. */
+        SqlNode reorder(SqlNode node) {
+            if (node instanceof SqlCall
+                && ((SqlCall) node).getOperator()
+                == SqlStdOperatorTable.descendingOperator)
+            {
+                return SqlStdOperatorTable.descendingOperator.createCall(
+                    POS, reorder(((SqlCall) node).getOperands()[0]));
+            }
+            final int ordinal = ((SqlLiteral) node).intValue(true);
+            return context.field(ordinal - 1);
+        }
+    }
+
+    /** Builder for a SELECT statement. */
+    public static class Builder {
+        private final SqlSelect select;
+        private String alias;
+        public final Context context;
+
+        Builder(SqlSelect select, String alias, Context context) {
+            this.select = select;
+            this.alias = alias;
+            this.context = context;
+        }
+
+        public void setSelect(SqlNodeList selectList) {
+            select.setOperand(SqlSelect.SELECT_OPERAND, selectList);
+            alias = null;
+        }
+
+        public void setWhere(SqlNode condition) {
+            final SqlNode where = select.getWhere();
+            select.setOperand(
+                SqlSelect.WHERE_OPERAND,
+                where == null
+                    ? condition
+                    : SqlStdOperatorTable.andOperator.createCall(
+                        POS, where, condition));
+        }
+
+        public void setGroupBy(SqlNodeList groupBy) {
+            select.setOperand(SqlSelect.GROUP_OPERAND, groupBy);
+        }
+
+        public void setOrderBy(SqlNodeList orderBy) {
+            select.setOperand(SqlSelect.ORDER_OPERAND, orderBy);
+        }
+
+        public void setOffset(SqlNode offset) {
+            select.setOperand(SqlSelect.OFFSET_OPERAND, offset);
+        }
+
+        public void setFetch(SqlNode fetch) {
+            select.setOperand(SqlSelect.FETCH_OPERAND, fetch);
+        }
+
+        /** Returns the result for a relational expression whose SQL is
+         * this query. */
+        public Result result(JdbcImplementor implementor, RelNode rel) {
+            return implementor.new Result(
+                select, alias, fieldNames(rel.getRowType()));
+        }
+    }
+}
+
+// End JdbcImplementor.java
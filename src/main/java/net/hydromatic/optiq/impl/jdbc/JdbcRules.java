@@ -0,0 +1,571 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import org.eigenbase.rel.*;
+import org.eigenbase.rel.convert.ConverterRule;
+import org.eigenbase.relopt.*;
+import org.eigenbase.reltype.RelDataType;
+import org.eigenbase.reltype.RelDataTypeField;
+import org.eigenbase.rex.RexLiteral;
+import org.eigenbase.rex.RexNode;
+import org.eigenbase.sql.*;
+import org.eigenbase.sql.fun.SqlStdOperatorTable;
+import org.eigenbase.util.Util;
+
+import java.util.*;
+
+/**
+ * Rules and relational operators for
+ * {@link JdbcConvention JDBC calling convention}.
+ *
+ * <p>Each rule converts a logical relational expression whose inputs can be
+ * converted to a JDBC convention into an equivalent relational expression in
+ * that convention. The result is pushed down to the database as part of a
+ * SQL query.</p>
+ *
+ * @author jhyde
+ */
+public class JdbcRules {
+    private JdbcRules() {
+    }
+
+    /** Factor by which the cost of a relational expression evaluated in the
+     * database is less than the same expression evaluated in Java. It makes
+     * the planner prefer to push work down to the database, and thereby
+     * reduce the number of rows that are transferred. */
+    private static final double COST_MULTIPLIER = 0.8d;
+
+    /** Creates the rules that convert relational expressions to a given
+     * JDBC calling convention. */
+    public static List<RelOptRule> rules(JdbcConvention out) {
+        return Arrays.<RelOptRule>asList(
+            new JdbcToEnumerableConverterRule(out),
+            new JdbcJoinRule(out),
+            new JdbcFilterRule(out),
+            new JdbcProjectRule(out),
+            new JdbcAggregateRule(out),
+            new JdbcSortRule(out));
+    }
+
+    /** Returns a description for a rule that converts to a given convention.
+     * Each JDBC schema has its own convention, and rule descriptions must be
+     * unique within a planner. */
+    static String description(String name, CallingConvention out) {
+        return name + ":" + out.getName() + "#" + out.getOrdinal();
+    }
+
+    /** Abstract base class for rules that convert to JDBC. */
+    abstract static class JdbcConverterRule extends ConverterRule {
+        protected final JdbcConvention out;
+
+        public JdbcConverterRule(
+            Class clazz,
+            RelTrait in,
+            JdbcConvention out,
+            String description)
+        {
+            super(clazz, in, out, description(description, out));
+            this.out = out;
+        }
+    }
+
+    /**
+     * Rule that converts a {@link JoinRel} to a {@link JdbcJoinRel}.
+     */
+    private static class JdbcJoinRule extends JdbcConverterRule {
+        private JdbcJoinRule(JdbcConvention out) {
+            super(JoinRel.class, CallingConvention.NONE, out, "JdbcJoinRule");
+        }
+
+        @Override
+        public RelNode convert(RelNode rel) {
+            JoinRel join = (JoinRel) rel;
+            if (JdbcJoinRel.joinType(join.getJoinType()) == null
+                || !JdbcImplementor.canTranslate(join.getCondition()))
+            {
+                return null;
+            }
+            List<RelNode> newInputs = convert(out, join.getInputs());
+            if (newInputs == null) {
+                return null;
+            }
+            return new JdbcJoinRel(
+                join.getCluster(),
+                join.getTraitSet().replace(out),
+                newInputs.get(0),
+                newInputs.get(1),
+                join.getCondition(),
+                join.getJoinType(),
+                join.getVariablesStopped());
+        }
+    }
+
+    /** Join operator implemented in JDBC convention. */
+    public static class JdbcJoinRel extends JoinRelBase implements JdbcRel {
+        protected JdbcJoinRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode left,
+            RelNode right,
+            RexNode condition,
+            JoinRelType joinType,
+            Set<String> variablesStopped)
+        {
+            super(
+                cluster, traits, left, right, condition, joinType,
+                variablesStopped);
+        }
+
+        @Override
+        public JdbcJoinRel copy(
+            RelTraitSet traitSet,
+            RexNode conditionExpr,
+            RelNode left,
+            RelNode right)
+        {
+            return new JdbcJoinRel(
+                getCluster(), traitSet, left, right, conditionExpr, joinType,
+                variablesStopped);
+        }
+
+        @Override
+        public RelOptCost computeSelfCost(RelOptPlanner planner) {
+            return super.computeSelfCost(planner).multiplyBy(COST_MULTIPLIER);
+        }
+
+        /** Converts a join type to SQL, or returns null if there is no SQL
+         * equivalent. */
+        static SqlJoinOperator.JoinType joinType(JoinRelType joinType) {
+            switch (joinType) {
+            case INNER:
+                return SqlJoinOperator.JoinType.Inner;
+            case LEFT:
+                return SqlJoinOperator.JoinType.Left;
+            case RIGHT:
+                return SqlJoinOperator.JoinType.Right;
+            case FULL:
+                return SqlJoinOperator.JoinType.Full;
+            default:
+                return null;
+            }
+        }
+
+        public JdbcImplementor.Result implement(JdbcImplementor implementor) {
+            final JdbcImplementor.From leftFrom =
+                implementor.visitChild(0, left).asFrom();
+            final JdbcImplementor.From rightFrom =
+                implementor.visitChild(1, right).asFrom();
+            final List<SqlNode> fields = new ArrayList<SqlNode>();
+            for (int i = 0; i < leftFrom.fieldNames.size(); i++) {
+                fields.add(leftFrom.context.field(i));
+            }
+            for (int i = 0; i < rightFrom.fieldNames.size(); i++) {
+                fields.add(rightFrom.context.field(i));
+            }
+            final JdbcImplementor.Context context =
+                new JdbcImplementor.Context(fields);
+            final SqlNode join =
+                SqlStdOperatorTable.joinOperator.createCall(
+                    leftFrom.node,
+                    SqlLiteral.createBoolean(false, JdbcImplementor.POS),
+                    SqlLiteral.createSymbol(
+                        joinType(joinType), JdbcImplementor.POS),
+                    rightFrom.node,
+                    SqlLiteral.createSymbol(
+                        SqlJoinOperator.ConditionType.On,
+                        JdbcImplementor.POS),
+                    context.toSql(condition),
+                    JdbcImplementor.POS);
+            // Name each column explicitly; the inputs may have columns with
+            // the same name.
+            final SqlNodeList selectList =
+                new SqlNodeList(JdbcImplementor.POS);
+            final List<String> fieldNames =
+                JdbcImplementor.fieldNames(getRowType());
+            for (int i = 0; i < fields.size(); i++) {
+                selectList.add(
+                    JdbcImplementor.as(fields.get(i), fieldNames.get(i)));
+            }
+            return implementor.result(
+                JdbcImplementor.select(selectList, join), getRowType());
+        }
+    }
+
+    /**
+     * Rule that converts a {@link FilterRel} to a {@link JdbcFilterRel}.
+     */
+    private static class JdbcFilterRule extends JdbcConverterRule {
+        private JdbcFilterRule(JdbcConvention out) {
+            super(
+                FilterRel.class, CallingConvention.NONE, out,
+                "JdbcFilterRule");
+        }
+
+        public RelNode convert(RelNode rel) {
+            final FilterRel filter = (FilterRel) rel;
+            if (!JdbcImplementor.canTranslate(filter.getCondition())) {
+                return null;
+            }
+            final RelNode convertedChild =
+                mergeTraitsAndConvert(
+                    filter.getTraitSet(), out, filter.getChild());
+            if (convertedChild == null) {
+                return null;
+            }
+            return new JdbcFilterRel(
+                rel.getCluster(),
+                rel.getTraitSet().replace(out),
+                convertedChild,
+                filter.getCondition());
+        }
+    }
+
+    /** Implementation of {@link FilterRel} in JDBC convention. */
+    public static class JdbcFilterRel extends FilterRelBase implements JdbcRel {
+        public JdbcFilterRel(
+            RelOptCluster cluster,
+            RelTraitSet traitSet,
+            RelNode child,
+            RexNode condition)
+        {
+            super(cluster, traitSet, child, condition);
+        }
+
+        public JdbcFilterRel copy(RelTraitSet traitSet, List<RelNode> inputs) {
+            return new JdbcFilterRel(
+                getCluster(), traitSet, sole(inputs), getCondition());
+        }
+
+        @Override
+        public RelOptCost computeSelfCost(RelOptPlanner planner) {
+            return super.computeSelfCost(planner).multiplyBy(COST_MULTIPLIER);
+        }
+
+        public JdbcImplementor.Result implement(JdbcImplementor implementor) {
+            final JdbcImplementor.Builder builder =
+                implementor.visitChild(0, getChild())
+                    .builder(JdbcImplementor.Clause.WHERE);
+            builder.setWhere(builder.context.toSql(getCondition()));
+            return builder.result(implementor, this);
+        }
+    }
+
+    /**
+     * Rule that converts a {@link ProjectRel} to a {@link JdbcProjectRel}.
+     */
+    private static class JdbcProjectRule extends JdbcConverterRule {
+        private JdbcProjectRule(JdbcConvention out) {
+            super(
+                ProjectRel.class, CallingConvention.NONE, out,
+                "JdbcProjectRule");
+        }
+
+        public RelNode convert(RelNode rel) {
+            final ProjectRel project = (ProjectRel) rel;
+            for (RexNode exp : project.getProjectExps()) {
+                if (!JdbcImplementor.canTranslate(exp)) {
+                    return null;
+                }
+            }
+            final RelNode convertedChild =
+                mergeTraitsAndConvert(
+                    project.getTraitSet(), out, project.getChild());
+            if (convertedChild == null) {
+                return null;
+            }
+            return new JdbcProjectRel(
+                rel.getCluster(),
+                rel.getTraitSet().replace(out),
+                convertedChild,
+                project.getProjectExps(),
+                project.getRowType(),
+                ProjectRelBase.Flags.Boxed);
+        }
+    }
+
+    /** Implementation of {@link ProjectRel} in JDBC convention. */
+    public static class JdbcProjectRel
+        extends ProjectRelBase
+        implements JdbcRel
+    {
+        public JdbcProjectRel(
+            RelOptCluster cluster,
+            RelTraitSet traitSet,
+            RelNode child,
+            RexNode[] exps,
+            RelDataType rowType,
+            int flags)
+        {
+            super(
+                cluster, traitSet, child, exps, rowType, flags,
+                Collections.<RelCollation>emptyList());
+        }
+
+        public JdbcProjectRel copy(RelTraitSet traitSet, List<RelNode> inputs) {
+            return new JdbcProjectRel(
+                getCluster(), traitSet, sole(inputs), exps.clone(), rowType,
+                flags);
+        }
+
+        @Override
+        public RelOptCost computeSelfCost(RelOptPlanner planner) {
+            return super.computeSelfCost(planner).multiplyBy(COST_MULTIPLIER);
+        }
+
+        public JdbcImplementor.Result implement(JdbcImplementor implementor) {
+            final JdbcImplementor.Builder builder =
+                implementor.visitChild(0, getChild())
+                    .builder(JdbcImplementor.Clause.SELECT);
+            final List<String> fieldNames =
+                JdbcImplementor.fieldNames(getRowType());
+            final SqlNodeList selectList =
+                new SqlNodeList(JdbcImplementor.POS);
+            for (int i = 0; i < exps.length; i++) {
+                selectList.add(
+                    JdbcImplementor.as(
+                        builder.context.toSql(exps[i]), fieldNames.get(i)));
+            }
+            builder.setSelect(selectList);
+            return builder.result(implementor, this);
+        }
+    }
+
+    /**
+     * Rule that converts an {@link AggregateRel} to a
+     * {@link JdbcAggregateRel}.
+     */
+    private static class JdbcAggregateRule extends JdbcConverterRule {
+        private JdbcAggregateRule(JdbcConvention out) {
+            super(
+                AggregateRel.class, CallingConvention.NONE, out,
+                "JdbcAggregateRule");
+        }
+
+        public RelNode convert(RelNode rel) {
+            final AggregateRel agg = (AggregateRel) rel;
+            for (AggregateCall aggCall : agg.getAggCallList()) {
+                if (!JdbcImplementor.canTranslate(aggCall)) {
+                    return null;
+                }
+            }
+            final RelNode convertedChild =
+                mergeTraitsAndConvert(agg.getTraitSet(), out, agg.getChild());
+            if (convertedChild == null) {
+                return null;
+            }
+            return new JdbcAggregateRel(
+                rel.getCluster(),
+                rel.getTraitSet().replace(out),
+                convertedChild,
+                agg.getGroupSet(),
+                agg.getAggCallList());
+        }
+    }
+
+    /** Aggregate operator implemented in JDBC convention. */
+    public static class JdbcAggregateRel
+        extends AggregateRelBase
+        implements JdbcRel
+    {
+        public JdbcAggregateRel(
+            RelOptCluster cluster,
+            RelTraitSet traitSet,
+            RelNode child,
+            BitSet groupSet,
+            List<AggregateCall> aggCalls)
+        {
+            super(cluster, traitSet, child, groupSet, aggCalls);
+        }
+
+        @Override
+        public JdbcAggregateRel copy(
+            RelTraitSet traitSet, List<RelNode> inputs)
+        {
+            return new JdbcAggregateRel(
+                getCluster(), traitSet, sole(inputs), groupSet, aggCalls);
+        }
+
+        @Override
+        public RelOptCost computeSelfCost(RelOptPlanner planner) {
+            return super.computeSelfCost(planner).multiplyBy(COST_MULTIPLIER);
+        }
+
+        public JdbcImplementor.Result implement(JdbcImplementor implementor) {
+            // "select a, b, sum(x) from ( ... ) group by a, b"
+            final JdbcImplementor.Builder builder =
+                implementor.visitChild(0, getChild())
+                    .builder(JdbcImplementor.Clause.GROUP_BY);
+            final List<String> fieldNames =
+                JdbcImplementor.fieldNames(getRowType());
+            final SqlNodeList groupByList =
+                new SqlNodeList(JdbcImplementor.POS);
+            final SqlNodeList selectList =
+                new SqlNodeList(JdbcImplementor.POS);
+            int i = 0;
+            for (int group : Util.toIter(groupSet)) {
+                final SqlNode field = builder.context.field(group);
+                groupByList.add(field);
+                selectList.add(JdbcImplementor.as(field, fieldNames.get(i++)));
+            }
+            for (AggregateCall aggCall : aggCalls) {
+                selectList.add(
+                    JdbcImplementor.as(
+                        builder.context.toSql(aggCall), fieldNames.get(i++)));
+            }
+            builder.setSelect(selectList);
+            if (groupByList.size() > 0) {
+                builder.setGroupBy(groupByList);
+            }
+            return builder.result(implementor, this);
+        }
+    }
+
+    /**
+     * Rule that converts a {@link SortRel} to a {@link JdbcSortRel}.
+     */
+    private static class JdbcSortRule extends JdbcConverterRule {
+        private JdbcSortRule(JdbcConvention out) {
+            super(SortRel.class, CallingConvention.NONE, out, "JdbcSortRule");
+        }
+
+        public RelNode convert(RelNode rel) {
+            final SortRel sort = (SortRel) rel;
+            // Where nulls sort by default differs between databases, and
+            // may differ from where Optiq sorts them (see
+            // RelFieldCollation.nullsFirst), so a nullable key is pushed
+            // down only if the database can be told where to put nulls.
+            if (!out.schema.dialect.supportsNullsOrdering()) {
+                final List<RelDataTypeField> fields =
+                    sort.getChild().getRowType().getFieldList();
+                for (RelFieldCollation collation : sort.getCollations()) {
+                    if (fields.get(collation.getFieldIndex()).getType()
+                        .isNullable())
+                    {
+                        return null;
+                    }
+                }
+            }
+            if ((sort.getOffset() != null || sort.getFetch() != null)
+                && !out.schema.dialect.supportsOffsetFetch())
+            {
+                return null;
+            }
+            final RelNode convertedChild =
+                mergeTraitsAndConvert(
+                    sort.getTraitSet(), out, sort.getChild());
+            if (convertedChild == null) {
+                return null;
+            }
+            return new JdbcSortRel(
+                rel.getCluster(),
+                rel.getTraitSet().replace(out),
+                convertedChild,
+                sort.getCollations(),
+                sort.getOffset(),
+                sort.getFetch());
+        }
+    }
+
+    /** Sort operator implemented in JDBC convention. */
+    public static class JdbcSortRel extends SortRel implements JdbcRel {
+        public JdbcSortRel(
+            RelOptCluster cluster,
+            RelTraitSet traitSet,
+            RelNode child,
+            List<RelFieldCollation> collations,
+            RexNode offset,
+            RexNode fetch)
+        {
+            super(cluster, traitSet, child, collations, offset, fetch);
+        }
+
+        @Override
+        public JdbcSortRel copy(
+            RelTraitSet traitSet,
+            RelNode newInput,
+            List<RelFieldCollation> newCollations,
+            RexNode offset,
+            RexNode fetch)
+        {
+            return new JdbcSortRel(
+                getCluster(), traitSet, newInput, newCollations, offset,
+                fetch);
+        }
+
+        @Override
+        public RelOptCost computeSelfCost(RelOptPlanner planner) {
+            return super.computeSelfCost(planner).multiplyBy(COST_MULTIPLIER);
+        }
+
+        public JdbcImplementor.Result implement(JdbcImplementor implementor) {
+            final JdbcImplementor.Builder builder =
+                implementor.visitChild(0, getChild())
+                    .builder(JdbcImplementor.Clause.ORDER_BY);
+            final SqlNodeList orderByList =
+                new SqlNodeList(JdbcImplementor.POS);
+            for (RelFieldCollation collation : collations) {
+                SqlNode node =
+                    SqlLiteral.createExactNumeric(
+                        Integer.toString(collation.getFieldIndex() + 1),
+                        JdbcImplementor.POS);
+                switch (collation.getDirection()) {
+                case Descending:
+                case StrictlyDescending:
+                    node =
+                        SqlStdOperatorTable.descendingOperator.createCall(
+                            JdbcImplementor.POS, node);
+                    break;
+                default:
+                    break;
+                }
+                if (getChild().getRowType().getFieldList()
+                    .get(collation.getFieldIndex()).getType().isNullable())
+                {
+                    // Say where nulls go, rather than relying on the
+                    // database's default. JdbcSortRule checks that the
+                    // dialect supports it.
+                    node =
+                        (collation.nullsFirst()
+                            ? SqlStdOperatorTable.nullsFirstOperator
+                            : SqlStdOperatorTable.nullsLastOperator)
+                            .createCall(JdbcImplementor.POS, node);
+                }
+                orderByList.add(node);
+            }
+            if (orderByList.size() > 0) {
+                builder.setOrderBy(orderByList);
+            }
+            if (offset != null) {
+                builder.setOffset(rowCount(offset));
+            }
+            if (fetch != null) {
+                builder.setFetch(rowCount(fetch));
+            }
+            return builder.result(implementor, this);
+        }
+
+        private static SqlNode rowCount(RexNode node) {
+            return SqlLiteral.createExactNumeric(
+                Integer.toString(RexLiteral.intValue(node)),
+                JdbcImplementor.POS);
+        }
+    }
+}
+
+// End JdbcRules.java
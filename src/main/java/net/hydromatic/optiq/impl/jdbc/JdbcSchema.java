@@ -17,12 +17,16 @@
 */
 package net.hydromatic.optiq.impl.jdbc;
 
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
 import net.hydromatic.linq4j.QueryProvider;
 import net.hydromatic.linq4j.expressions.Expression;
 
 import net.hydromatic.optiq.*;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
 import net.hydromatic.optiq.jdbc.OptiqConnection;
+import net.hydromatic.optiq.runtime.ExecutionContext;
 
 import org.eigenbase.reltype.RelDataType;
 import org.eigenbase.reltype.RelDataTypeFactory;
@@ -31,9 +35,7 @@ import org.eigenbase.sql.type.SqlTypeName;
 
 import java.lang.reflect.Type;
 import java.sql.*;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import javax.sql.DataSource;
 
 /**
@@ -46,6 +48,24 @@ import javax.sql.DataSource;
  * @author jhyde
  */
 public class JdbcSchema implements Schema {
+    /** Maximum number of idle connections that each schema keeps open. */
+    private static final int MAX_IDLE_CONNECTIONS = 8;
+
+    /** Default maximum number of connections that each schema has open
+     * and in use at a time. */
+    private static final int MAX_ACTIVE_CONNECTIONS = 32;
+
+    /** Default time, in milliseconds, that a query waits for a connection
+     * if the maximum number are in use. */
+    private static final long MAX_WAIT_MILLIS = 30000L;
+
+    /** Maximum number of prepared statements cached per connection. */
+    private static final int MAX_CACHED_STATEMENTS = 32;
+
+    /** Default time, in milliseconds, for which tables read from metadata
+     * are cached. */
+    public static final long DEFAULT_CACHE_TTL_MILLIS = 5 * 60 * 1000L;
+
     final QueryProvider queryProvider;
     final DataSource dataSource;
     private final String catalog;
@@ -53,6 +73,11 @@ public class JdbcSchema implements Schema {
     private final JavaTypeFactory typeFactory;
     private final Expression expression;
     final SqlDialect dialect;
+    final JdbcConvention convention;
+    final JdbcConnectionPool pool;
+    private volatile long cacheTtlMillis = DEFAULT_CACHE_TTL_MILLIS;
+    private volatile Snapshot snapshot;
+    private volatile boolean analyze;
 
     /**
      * Creates a JDBC schema.
@@ -81,6 +106,12 @@ public class JdbcSchema implements Schema {
         this.schema = schema;
         this.typeFactory = typeFactory;
         this.expression = expression;
+        this.convention =
+            JdbcConvention.of(this, schema != null ? schema : catalog);
+        this.pool =
+            new JdbcConnectionPool(
+                dataSource, MAX_IDLE_CONNECTIONS, MAX_ACTIVE_CONNECTIONS,
+                MAX_WAIT_MILLIS, MAX_CACHED_STATEMENTS);
         assert expression != null;
         assert typeFactory != null;
         assert dialect != null;
@@ -117,6 +148,9 @@ public class JdbcSchema implements Schema {
                 optiqConnection.getTypeFactory(),
                 parentSchema.getSubSchemaExpression(
                     name, Schema.class));
+        // Read the definitions of all tables now, in bulk, rather than one
+        // by one as statements are prepared.
+        schema.snapshot();
         parentSchema.addSchema(name, schema);
         return schema;
     }
@@ -134,42 +168,164 @@ public class JdbcSchema implements Schema {
         return queryProvider;
     }
 
-    public List<TableFunction> getTableFunctions(String name) {
-        return Collections.emptyList();
+    /**
+     * Executes a SQL query against this schema's data source. Called from
+     * code generated by {@link JdbcToEnumerableConverter}.
+     *
+     * <p>If the query returns one column, each row is the value of that
+     * column; otherwise each row is an array of values. Each value is
+     * converted to the corresponding class; for example, a DECIMAL returned
+     * by the database for SUM of an INTEGER column is converted to
+     * {@link Integer}.</p>
+     *
+     * @param sql SQL query
+     * @param columnClasses Java class of each column
+     * @return Enumerable over the rows of the query
+     */
+    public Enumerable<Object> query(String sql, Class[] columnClasses) {
+        return query(sql, columnClasses, false);
     }
 
-    public <T> Table<T> getTable(String name, Class<T> elementType) {
-        assert elementType != null;
-        //noinspection unchecked
-        return getTable(name);
+    /**
+     * Executes a SQL query, optionally returning the same array for each
+     * row.
+     *
+     * <p>Generated code passes <code>reuseRow</code> = true if the rows go
+     * straight to the consumer of the statement. The array is only reused if
+     * the consumer reads each row before fetching the next and does not
+     * retain it; see {@link ExecutionContext#isRowReuseAllowed()}.</p>
+     *
+     * @param sql SQL query
+     * @param columnClasses Java class of each column
+     * @param reuseRow Whether the same array may be returned for each row
+     * @return Enumerable over the rows of the query
+     */
+    public Enumerable<Object> query(
+        final String sql,
+        final Class[] columnClasses,
+        final boolean reuseRow)
+    {
+        return new AbstractEnumerable<Object>() {
+            public Enumerator<Object> enumerator() {
+                return JdbcUtils.sqlEnumerator(
+                    sql, JdbcSchema.this, columnClasses, reuseRow);
+            }
+        };
     }
 
-    public Table getTable(String name) {
-        Connection connection = null;
+    /**
+     * Sets how long the tables and table functions read from the data
+     * source's metadata are cached before they are read again.
+     *
+     * @param millis Time to live, in milliseconds; negative means that the
+     *   cache does not expire, and is only re-read on {@link #refresh()}
+     */
+    public void setCacheTtl(long millis) {
+        this.cacheTtlMillis = millis;
+    }
+
+    /**
+     * Sets whether to compute column statistics by querying each table.
+     *
+     * <p>If false (the default), statistics come from the data source's
+     * metadata, and a table is only queried (to count its rows) if the
+     * metadata does not provide a row count. If true, the first time a table
+     * is used in a query, a query computes its row count and the number of
+     * distinct values, null values, minimum and maximum of each column. This
+     * gives better plans but may be expensive for large tables.</p>
+     *
+     * @param analyze Whether to compute column statistics
+     */
+    public void setAnalyze(boolean analyze) {
+        this.analyze = analyze;
+    }
+
+    /**
+     * Sets the maximum number of connections to the data source that are in
+     * use at a time. A query that needs a connection when that many are in
+     * use waits for one to be released, and fails if none is released in
+     * time.
+     *
+     * @param maxActive Maximum number of connections in use; positive
+     * @param maxWaitMillis Time, in milliseconds, to wait for a connection
+     */
+    public void setMaxActiveConnections(int maxActive, long maxWaitMillis) {
+        if (maxActive <= 0) {
+            throw new IllegalArgumentException(
+                "maxActive must be positive: " + maxActive);
+        }
+        pool.setMaxActive(maxActive, maxWaitMillis);
+    }
+
+    /** Returns the number of connections to the data source that are in
+     * use. */
+    public int getActiveConnectionCount() {
+        return pool.getActiveCount();
+    }
+
+    /** Discards the cached tables and table functions, so that they will be
+     * read again from the data source's metadata when next needed. */
+    public void refresh() {
+        snapshot = null;
+    }
+
+    /** Returns the current snapshot of the metadata, reading it from the
+     * data source if it has not been read or has expired. */
+    private Snapshot snapshot() {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot == null
+            || cacheTtlMillis >= 0
+            && System.currentTimeMillis() - snapshot.loadTime
+                > cacheTtlMillis)
+        {
+            // Two threads may load at the same time; both results are
+            // valid, and the later one wins.
+            snapshot = load();
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /** Reads all tables and table functions in this schema. Uses one call to
+     * {@link DatabaseMetaData#getTables} and one to
+     * {@link DatabaseMetaData#getColumns}, however many tables there are. */
+    private Snapshot load() {
+        final long loadTime = System.currentTimeMillis();
+        JdbcConnectionPool.PooledConnection connection = null;
         ResultSet resultSet = null;
         try {
-            connection = dataSource.getConnection();
-            DatabaseMetaData metaData = connection.getMetaData();
-            resultSet = metaData.getTables(
-                catalog,
-                schema,
-                name,
-                null);
-            if (!resultSet.next()) {
-                return null;
-            }
-            final String catalogName = resultSet.getString(1);
-            final String schemaName = resultSet.getString(2);
-            final String tableName = resultSet.getString(3);
+            connection = pool.acquire();
+            final DatabaseMetaData metaData =
+                connection.connection.getMetaData();
+
+            // Columns of all tables, keyed by [catalog, schema, table]. If
+            // there are tables with the same name in several schemas that
+            // match the pattern, the first wins.
+            final Map<List<String>, RelDataTypeFactory.FieldInfoBuilder>
+                fieldInfos =
+                    new LinkedHashMap<List<String>,
+                        RelDataTypeFactory.FieldInfoBuilder>();
+            resultSet = metaData.getTables(catalog, schema, null, null);
+            while (resultSet.next()) {
+                fieldInfos.put(
+                    Arrays.asList(
+                        resultSet.getString(1),
+                        resultSet.getString(2),
+                        resultSet.getString(3)),
+                    new RelDataTypeFactory.FieldInfoBuilder());
+            }
             resultSet.close();
-            resultSet = metaData.getColumns(
-                catalogName,
-                schemaName,
-                tableName,
-                null);
-            final RelDataTypeFactory.FieldInfoBuilder fieldInfo =
-                new RelDataTypeFactory.FieldInfoBuilder();
+            resultSet = metaData.getColumns(catalog, schema, null, null);
             while (resultSet.next()) {
+                final RelDataTypeFactory.FieldInfoBuilder fieldInfo =
+                    fieldInfos.get(
+                        Arrays.asList(
+                            resultSet.getString(1),
+                            resultSet.getString(2),
+                            resultSet.getString(3)));
+                if (fieldInfo == null) {
+                    continue;
+                }
                 final String columnName = resultSet.getString(4);
                 final int dataType = resultSet.getInt(5);
                 final int size = resultSet.getInt(7);
@@ -182,16 +338,456 @@ public class JdbcSchema implements Schema {
                 }
                 fieldInfo.add(columnName, sqlType);
             }
-            final RelDataType type =
-                typeFactory.createStructType(fieldInfo);
-            Type javaType = typeFactory.getJavaClass(type);
-            return new JdbcTable<Object>(javaType, this, name);
+            resultSet.close();
+            resultSet = null;
+
+            final Map<String, Table> tables = new HashMap<String, Table>();
+            for (Map.Entry<List<String>, RelDataTypeFactory.FieldInfoBuilder>
+                entry : fieldInfos.entrySet())
+            {
+                final String catalogName = entry.getKey().get(0);
+                final String schemaName = entry.getKey().get(1);
+                final String tableName = entry.getKey().get(2);
+                if (tables.containsKey(tableName)) {
+                    continue;
+                }
+                final RelDataType type =
+                    typeFactory.createStructType(entry.getValue());
+                Type javaType = typeFactory.getJavaClass(type);
+                tables.put(
+                    tableName,
+                    new JdbcTable<Object>(
+                        javaType, this, catalogName, schemaName, tableName));
+            }
+            final Snapshot snapshot =
+                new Snapshot(loadTime, tables, loadTableFunctions(metaData));
+            pool.release(connection);
+            connection = null;
+            return snapshot;
         } catch (SQLException e) {
             throw new RuntimeException(
-                "Exception while reading definition of table '" + name + "'",
+                "Exception while reading definitions of tables in schema '"
+                + schema + "'",
                 e);
         } finally {
-            close(connection, null, resultSet);
+            close(null, null, resultSet);
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
+    /** Reads the table functions in this schema. Returns an empty map if the
+     * driver does not support {@link DatabaseMetaData#getFunctions}. */
+    private Map<String, List<TableFunction>> loadTableFunctions(
+        DatabaseMetaData metaData)
+        throws SQLException
+    {
+        // Specific names of functions that return tables.
+        final Set<String> specificNames = new HashSet<String>();
+        ResultSet resultSet;
+        try {
+            resultSet = metaData.getFunctions(catalog, schema, null);
+        } catch (SQLFeatureNotSupportedException e) {
+            return Collections.emptyMap();
+        } catch (AbstractMethodError e) {
+            // Pre-JDBC 4.0 driver.
+            return Collections.emptyMap();
+        }
+        try {
+            while (resultSet.next()) {
+                if (resultSet.getShort(5)
+                    == DatabaseMetaData.functionReturnsTable)
+                {
+                    specificNames.add(resultSet.getString(6));
+                }
+            }
+        } finally {
+            close(null, null, resultSet);
+        }
+        if (specificNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // For each function, its [catalog, schema, name], and its
+        // parameters and result columns, sorted by ordinal.
+        final Map<String, List<String>> names =
+            new LinkedHashMap<String, List<String>>();
+        final Map<String, SortedMap<Integer, Object[]>> parameterMap =
+            new HashMap<String, SortedMap<Integer, Object[]>>();
+        final Map<String, SortedMap<Integer, Object[]>> columnMap =
+            new HashMap<String, SortedMap<Integer, Object[]>>();
+        resultSet = metaData.getFunctionColumns(catalog, schema, null, null);
+        try {
+            while (resultSet.next()) {
+                final String specificName = resultSet.getString(17);
+                if (!specificNames.contains(specificName)) {
+                    continue;
+                }
+                if (!names.containsKey(specificName)) {
+                    names.put(
+                        specificName,
+                        Arrays.asList(
+                            resultSet.getString(1),
+                            resultSet.getString(2),
+                            resultSet.getString(3)));
+                    parameterMap.put(
+                        specificName, new TreeMap<Integer, Object[]>());
+                    columnMap.put(
+                        specificName, new TreeMap<Integer, Object[]>());
+                }
+                final Map<String, SortedMap<Integer, Object[]>> map;
+                switch (resultSet.getShort(5)) {
+                case DatabaseMetaData.functionColumnIn:
+                case DatabaseMetaData.functionColumnInOut:
+                    map = parameterMap;
+                    break;
+                case DatabaseMetaData.functionColumnResult:
+                    map = columnMap;
+                    break;
+                default:
+                    continue;
+                }
+                RelDataType type =
+                    zzz(
+                        resultSet.getInt(6),
+                        resultSet.getInt(8),
+                        resultSet.getInt(10));
+                if (resultSet.getShort(12)
+                    != DatabaseMetaData.functionNoNulls)
+                {
+                    type = typeFactory.createTypeWithNullability(type, true);
+                }
+                map.get(specificName).put(
+                    resultSet.getInt(15),
+                    new Object[] {resultSet.getString(4), type});
+            }
+        } finally {
+            close(null, null, resultSet);
+        }
+
+        final Map<String, List<TableFunction>> map =
+            new HashMap<String, List<TableFunction>>();
+        for (Map.Entry<String, List<String>> entry : names.entrySet()) {
+            final String specificName = entry.getKey();
+            final List<Parameter> parameters = new ArrayList<Parameter>();
+            for (final Object[] pair
+                : parameterMap.get(specificName).values())
+            {
+                final int ordinal = parameters.size();
+                parameters.add(
+                    new Parameter() {
+                        public int getOrdinal() {
+                            return ordinal;
+                        }
+
+                        public String getName() {
+                            return (String) pair[0];
+                        }
+
+                        public RelDataType getType() {
+                            return (RelDataType) pair[1];
+                        }
+                    });
+            }
+            final RelDataTypeFactory.FieldInfoBuilder fieldInfo =
+                new RelDataTypeFactory.FieldInfoBuilder();
+            for (Object[] pair : columnMap.get(specificName).values()) {
+                fieldInfo.add((String) pair[0], (RelDataType) pair[1]);
+            }
+            final List<String> name = entry.getValue();
+            final JdbcTableFunction tableFunction =
+                new JdbcTableFunction(
+                    this, name.get(0), name.get(1), name.get(2),
+                    specificName,
+                    Collections.unmodifiableList(parameters),
+                    typeFactory.createStructType(fieldInfo));
+            List<TableFunction> list = map.get(name.get(2));
+            if (list == null) {
+                list = new ArrayList<TableFunction>();
+                map.put(name.get(2), list);
+            }
+            list.add(tableFunction);
+        }
+        return map;
+    }
+
+    public List<TableFunction> getTableFunctions(String name) {
+        final List<TableFunction> list =
+            snapshot().tableFunctions.get(name);
+        if (list != null) {
+            return list;
+        }
+        return Collections.emptyList();
+    }
+
+    public Map<String, List<TableFunction>> getTableFunctions() {
+        return snapshot().tableFunctions;
+    }
+
+    /** Applies a table function to arguments. Called from the expression of
+     * a {@link JdbcTable} that is the result of a table function. */
+    public Table<Object> applyTableFunction(
+        String specificName,
+        Object[] arguments)
+    {
+        for (List<TableFunction> list
+            : snapshot().tableFunctions.values())
+        {
+            for (TableFunction tableFunction : list) {
+                if (((JdbcTableFunction) tableFunction).getSpecificName()
+                    .equals(specificName))
+                {
+                    return tableFunction.apply(Arrays.asList(arguments));
+                }
+            }
+        }
+        throw new IllegalArgumentException(
+            "table function not found: " + specificName);
+    }
+
+    public <T> Table<T> getTable(String name, Class<T> elementType) {
+        assert elementType != null;
+        //noinspection unchecked
+        return getTable(name);
+    }
+
+    public Table getTable(String name) {
+        final Snapshot snapshot = snapshot();
+        // First look for a table.
+        final Table table = snapshot.tables.get(name);
+        if (table != null) {
+            return table;
+        }
+        // Then look for a table function with no arguments.
+        final List<TableFunction> tableFunctions =
+            snapshot.tableFunctions.get(name);
+        if (tableFunctions != null) {
+            for (TableFunction tableFunction : tableFunctions) {
+                if (tableFunction.getParameters().isEmpty()) {
+                    return tableFunction.apply(Collections.emptyList());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads statistics about a table from the data source. Returns
+     * {@link Statistics#UNKNOWN} if they cannot be read.
+     *
+     * <p>The row count, and the number of distinct values of columns that
+     * have a single-column index, come from
+     * {@link DatabaseMetaData#getIndexInfo}, if the driver provides them. If
+     * it does not, or if {@link #setAnalyze analysis} is enabled, runs an
+     * aggregate query on the table.</p>
+     */
+    Statistic computeStatistic(
+        String catalogName,
+        String schemaName,
+        String tableName)
+    {
+        JdbcConnectionPool.PooledConnection connection = null;
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = pool.acquire();
+            final DatabaseMetaData metaData =
+                connection.connection.getMetaData();
+            final List<String> columnNames = new ArrayList<String>();
+            final List<Integer> columnTypes = new ArrayList<Integer>();
+            resultSet =
+                metaData.getColumns(catalogName, schemaName, tableName, null);
+            while (resultSet.next()) {
+                if (tableName.equals(resultSet.getString(3))) {
+                    columnNames.add(resultSet.getString(4));
+                    columnTypes.add(resultSet.getInt(5));
+                }
+            }
+            resultSet.close();
+            resultSet = null;
+
+            Double rowCount = null;
+            final int columnCount = columnNames.size();
+            final Double[] distinctCounts = new Double[columnCount];
+            final Double[] nullFractions = new Double[columnCount];
+            final Object[] mins = new Object[columnCount];
+            final Object[] maxes = new Object[columnCount];
+            try {
+                rowCount =
+                    readIndexStatistics(
+                        metaData, catalogName, schemaName, tableName,
+                        columnNames, distinctCounts);
+            } catch (SQLException e) {
+                // Driver does not support index statistics. Carry on.
+            }
+
+            if (rowCount == null || analyze) {
+                final StringBuilder buf = new StringBuilder("SELECT COUNT(*)");
+                for (int i = 0; i < columnCount; i++) {
+                    final String column =
+                        dialect.quoteIdentifier(columnNames.get(i));
+                    buf.append(", COUNT(").append(column).append(")");
+                    if (analyze && isOrdered(columnTypes.get(i))) {
+                        buf.append(", COUNT(DISTINCT ").append(column)
+                            .append("), MIN(").append(column)
+                            .append("), MAX(").append(column).append(")");
+                    }
+                }
+                buf.append(" FROM ");
+                final List<String> names = new ArrayList<String>();
+                if (catalogName != null) {
+                    names.add(catalogName);
+                }
+                if (schemaName != null) {
+                    names.add(schemaName);
+                }
+                names.add(tableName);
+                dialect.quoteIdentifier(buf, names);
+                statement = connection.connection.createStatement();
+                resultSet = statement.executeQuery(buf.toString());
+                if (resultSet.next()) {
+                    final double count = resultSet.getLong(1);
+                    rowCount = count;
+                    int j = 2;
+                    for (int i = 0; i < columnCount; i++) {
+                        if (count > 0) {
+                            nullFractions[i] =
+                                1d - resultSet.getLong(j) / count;
+                        }
+                        ++j;
+                        if (analyze && isOrdered(columnTypes.get(i))) {
+                            distinctCounts[i] =
+                                (double) resultSet.getLong(j++);
+                            mins[i] = resultSet.getObject(j++);
+                            maxes[i] = resultSet.getObject(j++);
+                        }
+                    }
+                }
+            }
+
+            final List<ColumnStatistic> columns =
+                new ArrayList<ColumnStatistic>();
+            for (int i = 0; i < columnCount; i++) {
+                columns.add(
+                    Statistics.column(
+                        distinctCounts[i], nullFractions[i], mins[i],
+                        maxes[i], null));
+            }
+            // Close the statement before another thread can borrow the
+            // connection.
+            close(null, statement, resultSet);
+            statement = null;
+            resultSet = null;
+            pool.release(connection);
+            connection = null;
+            return Statistics.of(rowCount, columns);
+        } catch (SQLException e) {
+            // Statistics only help the planner; plan without them.
+            return Statistics.UNKNOWN;
+        } finally {
+            close(null, statement, resultSet);
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
+    /** Reads the row count of a table, and the number of distinct values of
+     * each column that is the only column of an index, from the driver's
+     * index statistics. Returns the row count, or null if the driver does not
+     * provide it. */
+    private static Double readIndexStatistics(
+        DatabaseMetaData metaData,
+        String catalogName,
+        String schemaName,
+        String tableName,
+        List<String> columnNames,
+        Double[] distinctCounts)
+        throws SQLException
+    {
+        Double rowCount = null;
+        // For each index, its columns; and for the first column, whether it
+        // is unique and its cardinality.
+        final Map<String, List<String>> indexColumns =
+            new HashMap<String, List<String>>();
+        final Map<String, Double> indexCardinalities =
+            new HashMap<String, Double>();
+        final Set<String> uniqueIndexes = new HashSet<String>();
+        final ResultSet resultSet =
+            metaData.getIndexInfo(
+                catalogName, schemaName, tableName, false, true);
+        try {
+            while (resultSet.next()) {
+                // Some drivers report 0 if they do not know the cardinality.
+                final long cardinality = resultSet.getLong(11);
+                final boolean known = cardinality > 0;
+                final short type = resultSet.getShort(7);
+                if (type == DatabaseMetaData.tableIndexStatistic) {
+                    if (known) {
+                        rowCount = (double) cardinality;
+                    }
+                    continue;
+                }
+                final String indexName = resultSet.getString(6);
+                if (indexName == null) {
+                    continue;
+                }
+                List<String> columns = indexColumns.get(indexName);
+                if (columns == null) {
+                    columns = new ArrayList<String>();
+                    indexColumns.put(indexName, columns);
+                }
+                columns.add(resultSet.getString(9));
+                if (!resultSet.getBoolean(4)) {
+                    uniqueIndexes.add(indexName);
+                }
+                if (known) {
+                    indexCardinalities.put(indexName, (double) cardinality);
+                }
+            }
+        } finally {
+            resultSet.close();
+        }
+        for (Map.Entry<String, List<String>> entry : indexColumns.entrySet()) {
+            if (entry.getValue().size() != 1) {
+                continue;
+            }
+            final int ordinal = columnNames.indexOf(entry.getValue().get(0));
+            if (ordinal < 0) {
+                continue;
+            }
+            final String indexName = entry.getKey();
+            if (uniqueIndexes.contains(indexName) && rowCount != null) {
+                distinctCounts[ordinal] = rowCount;
+            } else if (indexCardinalities.containsKey(indexName)) {
+                distinctCounts[ordinal] = indexCardinalities.get(indexName);
+            }
+        }
+        return rowCount;
+    }
+
+    /** Returns whether values of a given JDBC type can be counted and
+     * ordered, and therefore have a meaningful minimum and maximum. */
+    private static boolean isOrdered(int jdbcType) {
+        switch (jdbcType) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+        case Types.REAL:
+        case Types.FLOAT:
+        case Types.DOUBLE:
+        case Types.DECIMAL:
+        case Types.NUMERIC:
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.DATE:
+        case Types.TIME:
+        case Types.TIMESTAMP:
+            return true;
+        default:
+            return false;
         }
     }
 
@@ -210,9 +806,8 @@ public class JdbcSchema implements Schema {
         }
     }
 
-    public Map<String, List<TableFunction>> getTableFunctions() {
-        // TODO: populate map from JDBC metadata
-        return Collections.emptyMap();
+    JavaTypeFactory getTypeFactory() {
+        return typeFactory;
     }
 
     public Schema getSubSchema(String name) {
@@ -220,6 +815,28 @@ public class JdbcSchema implements Schema {
         return null;
     }
 
+    public Object get(String name) {
+        return null;
+    }
+
+    /** Tables and table functions read from the data source's metadata at
+     * a point in time. Immutable. */
+    private static class Snapshot {
+        final long loadTime;
+        final Map<String, Table> tables;
+        final Map<String, List<TableFunction>> tableFunctions;
+
+        Snapshot(
+            long loadTime,
+            Map<String, Table> tables,
+            Map<String, List<TableFunction>> tableFunctions)
+        {
+            this.loadTime = loadTime;
+            this.tables = tables;
+            this.tableFunctions = tableFunctions;
+        }
+    }
+
     private static void close(
         Connection connection, Statement statement, ResultSet resultSet)
     {
@@ -22,13 +22,21 @@ import net.hydromatic.linq4j.expressions.Expression;
 import net.hydromatic.linq4j.expressions.Expressions;
 
 import net.hydromatic.optiq.DataContext;
-import net.hydromatic.optiq.Table;
+import net.hydromatic.optiq.Statistic;
+import net.hydromatic.optiq.Statistics;
+import net.hydromatic.optiq.TranslatableTable;
 
-import org.eigenbase.sql.SqlWriter;
+import org.eigenbase.rel.RelNode;
+import org.eigenbase.relopt.RelOptCluster;
+import org.eigenbase.relopt.RelOptTable;
+import org.eigenbase.sql.*;
+import org.eigenbase.sql.fun.SqlStdOperatorTable;
+import org.eigenbase.sql.parser.SqlParserPos;
 import org.eigenbase.sql.pretty.SqlPrettyWriter;
 
 import java.lang.reflect.Type;
-import java.util.Iterator;
+import java.math.BigDecimal;
+import java.util.*;
 
 /**
  * Queryable that gets its data from a table within a JDBC connection.
@@ -39,27 +47,76 @@ import java.util.Iterator;
  * The resulting queryable can then be converted to a SQL query, which can be
  * executed efficiently on the JDBC server.</p>
  *
+ * <p>When used in a SQL query, the table becomes a {@link JdbcTableScan}, and
+ * registers rules that push relational operators on top of it down to the
+ * database.</p>
+ *
  * @author jhyde
  */
-class JdbcTable<T> extends AbstractQueryable<T> implements Table<T> {
+class JdbcTable<T>
+    extends AbstractQueryable<T>
+    implements TranslatableTable<T>
+{
     private final Type elementType;
     private final JdbcSchema schema;
+    private final String jdbcCatalogName;
+    private final String jdbcSchemaName;
     private final String tableName;
+    private final String specificName;
+    private final List<Object> arguments;
+    private volatile Statistic statistic;
 
     public JdbcTable(
         Type elementType,
         JdbcSchema schema,
+        String jdbcCatalogName,
+        String jdbcSchemaName,
         String tableName)
+    {
+        this(
+            elementType, schema, jdbcCatalogName, jdbcSchemaName, tableName,
+            null, null);
+    }
+
+    /**
+     * Creates a JdbcTable that is either a table or the result of applying a
+     * table function to arguments.
+     *
+     * @param elementType Element type
+     * @param schema Schema
+     * @param jdbcCatalogName Catalog name in the JDBC data source, or null
+     * @param jdbcSchemaName Schema name in the JDBC data source, or null
+     * @param tableName Name of table or table function
+     * @param specificName Specific name of table function, or null if this
+     *   is a table
+     * @param arguments Arguments to table function, or null if this is a
+     *   table
+     */
+    JdbcTable(
+        Type elementType,
+        JdbcSchema schema,
+        String jdbcCatalogName,
+        String jdbcSchemaName,
+        String tableName,
+        String specificName,
+        List<Object> arguments)
     {
         this.elementType = elementType;
         this.schema = schema;
+        this.jdbcCatalogName = jdbcCatalogName;
+        this.jdbcSchemaName = jdbcSchemaName;
         this.tableName = tableName;
+        this.specificName = specificName;
+        this.arguments = arguments;
         assert elementType != null;
         assert schema != null;
         assert tableName != null;
     }
 
     public String toString() {
+        if (arguments != null) {
+            return "JdbcTable {" + tableName + arguments + "}";
+        }
         return "JdbcTable {" + tableName + "}";
     }
 
@@ -75,7 +132,36 @@ class JdbcTable<T> extends AbstractQueryable<T> implements Table<T> {
         return elementType;
     }
 
+    public Statistic getStatistic() {
+        if (arguments != null) {
+            // We know nothing about the result of a table function.
+            return Statistics.UNKNOWN;
+        }
+        Statistic statistic = this.statistic;
+        if (statistic == null) {
+            // Two threads may compute at the same time; both results are
+            // valid. Statistics are discarded with this table when the
+            // schema's metadata is refreshed.
+            statistic =
+                schema.computeStatistic(
+                    jdbcCatalogName, jdbcSchemaName, tableName);
+            this.statistic = statistic;
+        }
+        return statistic;
+    }
+
     public Expression getExpression() {
+        if (arguments != null) {
+            final List<Expression> list = new ArrayList<Expression>();
+            for (Object argument : arguments) {
+                list.add(Expressions.constant(argument));
+            }
+            return Expressions.call(
+                Expressions.convert_(schema.getExpression(), JdbcSchema.class),
+                "applyTableFunction",
+                Expressions.constant(specificName),
+                Expressions.newArrayInit(Object.class, list));
+        }
         return Expressions.call(
             schema.getExpression(),
             "getTable",
@@ -95,13 +181,78 @@ class JdbcTable<T> extends AbstractQueryable<T> implements Table<T> {
         writer.keyword("select");
         writer.literal("*");
         writer.keyword("from");
-        writer.identifier("foodmart");
-        writer.literal(".");
-        writer.identifier(tableName);
+        fromItem().unparse(writer, 0, 0);
         final String sql = writer.toString();
 
         return JdbcUtils.sqlEnumerator(sql, schema);
     }
+
+    /** Returns the name of this table in the JDBC data source, qualified by
+     * catalog and schema if the data source has them. */
+    SqlIdentifier tableName() {
+        final List<String> names = new ArrayList<String>(3);
+        if (jdbcCatalogName != null) {
+            names.add(jdbcCatalogName);
+        }
+        if (jdbcSchemaName != null) {
+            names.add(jdbcSchemaName);
+        }
+        names.add(tableName);
+        return JdbcImplementor.identifier(
+            names.toArray(new String[names.size()]));
+    }
+
+    /** Returns the item to use in the FROM clause of a query that reads this
+     * table: the table name, or if this is the result of a table function,
+     * <code>TABLE(function(arg, ...))</code>. */
+    SqlNode fromItem() {
+        final SqlIdentifier name = tableName();
+        if (arguments == null) {
+            return name;
+        }
+        final SqlNode[] operands = new SqlNode[arguments.size()];
+        for (int i = 0; i < operands.length; i++) {
+            operands[i] = literal(arguments.get(i));
+        }
+        final SqlFunction function =
+            new SqlFunction(
+                name, null, null, null, null,
+                SqlFunctionCategory.UserDefinedFunction);
+        return SqlStdOperatorTable.collectionTableOperator.createCall(
+            JdbcImplementor.POS,
+            function.createCall(JdbcImplementor.POS, operands));
+    }
+
+    private SqlLiteral literal(Object o) {
+        final SqlParserPos pos = JdbcImplementor.POS;
+        if (o == null) {
+            return SqlLiteral.createNull(pos);
+        } else if (o instanceof Boolean) {
+            return SqlLiteral.createBoolean((Boolean) o, pos);
+        } else if (o instanceof Double || o instanceof Float) {
+            return SqlLiteral.createApproxNumeric(o.toString(), pos);
+        } else if (o instanceof BigDecimal) {
+            return SqlLiteral.createExactNumeric(
+                ((BigDecimal) o).toPlainString(), pos);
+        } else if (o instanceof Number) {
+            return SqlLiteral.createExactNumeric(o.toString(), pos);
+        } else if (o instanceof String) {
+            return SqlLiteral.createCharString((String) o, pos);
+        } else {
+            throw new IllegalArgumentException(
+                "cannot pass value of " + o.getClass()
+                + " to table function " + tableName());
+        }
+    }
+
+    public RelNode toRel(
+        RelOptTable.ToRelContext context,
+        RelOptTable relOptTable)
+    {
+        final RelOptCluster cluster = context.getCluster();
+        schema.convention.register(cluster.getPlanner());
+        return new JdbcTableScan(cluster, relOptTable, this, schema.convention);
+    }
 }
 
 // End JdbcTable.java
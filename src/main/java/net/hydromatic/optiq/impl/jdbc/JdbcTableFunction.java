@@ -0,0 +1,96 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import net.hydromatic.optiq.Parameter;
+import net.hydromatic.optiq.Table;
+import net.hydromatic.optiq.TableFunction;
+
+import org.eigenbase.reltype.RelDataType;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Table function in a JDBC data source; that is, a function whose
+ * {@link java.sql.DatabaseMetaData#getFunctions function type} is
+ * {@link java.sql.DatabaseMetaData#functionReturnsTable}.
+ *
+ * <p>Applying the function to arguments yields a {@link JdbcTable} that
+ * reads <code>SELECT * FROM TABLE(function(arg, ...))</code>.</p>
+ *
+ * @author jhyde
+ */
+class JdbcTableFunction implements TableFunction<Object> {
+    private final JdbcSchema schema;
+    private final String jdbcCatalogName;
+    private final String jdbcSchemaName;
+    private final String functionName;
+    private final String specificName;
+    private final List<Parameter> parameters;
+    private final Type elementType;
+
+    JdbcTableFunction(
+        JdbcSchema schema,
+        String jdbcCatalogName,
+        String jdbcSchemaName,
+        String functionName,
+        String specificName,
+        List<Parameter> parameters,
+        RelDataType rowType)
+    {
+        this.schema = schema;
+        this.jdbcCatalogName = jdbcCatalogName;
+        this.jdbcSchemaName = jdbcSchemaName;
+        this.functionName = functionName;
+        this.specificName = specificName;
+        this.parameters = parameters;
+        this.elementType = schema.getTypeFactory().getJavaClass(rowType);
+    }
+
+    public String toString() {
+        return "JdbcTableFunction {" + specificName + "}";
+    }
+
+    /** Returns the name that identifies this function among overloaded
+     * functions of the same name. */
+    String getSpecificName() {
+        return specificName;
+    }
+
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    public Type getElementType() {
+        return elementType;
+    }
+
+    public Table<Object> apply(List<Object> arguments) {
+        if (arguments.size() != parameters.size()) {
+            throw new IllegalArgumentException(
+                "table function " + functionName + " expects "
+                + parameters.size() + " arguments, got " + arguments.size());
+        }
+        return new JdbcTable<Object>(
+            elementType, schema, jdbcCatalogName, jdbcSchemaName,
+            functionName, specificName, arguments);
+    }
+}
+
+// End JdbcTableFunction.java
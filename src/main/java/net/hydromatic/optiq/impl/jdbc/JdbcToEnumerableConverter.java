@@ -0,0 +1,114 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import net.hydromatic.linq4j.expressions.*;
+
+import net.hydromatic.optiq.BuiltinMethod;
+import net.hydromatic.optiq.impl.java.JavaTypeFactory;
+import net.hydromatic.optiq.rules.java.EnumerableRel;
+import net.hydromatic.optiq.rules.java.EnumerableRelImplementor;
+
+import org.eigenbase.rel.RelNode;
+import org.eigenbase.rel.convert.ConverterRelImpl;
+import org.eigenbase.relopt.*;
+import org.eigenbase.reltype.RelDataTypeField;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Relational expression representing a query in a JDBC data source, whose
+ * results are returned as an {@link net.hydromatic.linq4j.Enumerable}.
+ *
+ * <p>Generates the SQL for the tree of {@link JdbcRel}s beneath it, and
+ * generates code to execute that SQL via
+ * {@link JdbcSchema#query(String, Class[], boolean)}.</p>
+ *
+ * @author jhyde
+ */
+public class JdbcToEnumerableConverter
+    extends ConverterRelImpl
+    implements EnumerableRel
+{
+    /** Factor by which the cost of a row is increased because it has to be
+     * fetched from a remote database. */
+    private static final double TRANSFER_COST_MULTIPLIER = 1.1d;
+
+    protected JdbcToEnumerableConverter(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelNode input)
+    {
+        super(cluster, CallingConventionTraitDef.instance, traits, input);
+    }
+
+    @Override
+    public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new JdbcToEnumerableConverter(
+            getCluster(), traitSet, sole(inputs));
+    }
+
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner) {
+        return super.computeSelfCost(planner)
+            .multiplyBy(TRANSFER_COST_MULTIPLIER);
+    }
+
+    /** Generates the SQL query that computes the input to this
+     * converter. */
+    public String generateSql() {
+        final JdbcConvention convention =
+            (JdbcConvention) getChild().getConvention();
+        final JdbcImplementor jdbcImplementor =
+            new JdbcImplementor(convention.schema.dialect);
+        return jdbcImplementor.toSql(jdbcImplementor.visitChild(0, getChild()));
+    }
+
+    public BlockExpression implement(EnumerableRelImplementor implementor) {
+        // Generate:
+        //   ((JdbcSchema) <<schema>>).query(
+        //       "SELECT ...",
+        //       new Class[] {Integer.class, String.class},
+        //       <<reuseRow>>)
+        //
+        // Rows may be reused only if this is the root of the plan; rows
+        // given to another operator may be retained (say by a join).
+        final JdbcConvention convention =
+            (JdbcConvention) getChild().getConvention();
+        final JavaTypeFactory typeFactory =
+            (JavaTypeFactory) getCluster().getTypeFactory();
+        final List<Expression> columnClasses = Expressions.list();
+        for (RelDataTypeField field : getRowType().getFieldList()) {
+            final Type type = typeFactory.getJavaClass(field.getType());
+            columnClasses.add(
+                Expressions.constant(
+                    type instanceof Class ? type : Object.class));
+        }
+        return Blocks.toBlock(
+            Expressions.call(
+                Expressions.convert_(
+                    convention.schema.getExpression(), JdbcSchema.class),
+                BuiltinMethod.JDBC_QUERY.method,
+                Expressions.constant(generateSql()),
+                Expressions.newArrayInit(Class.class, columnClasses),
+                Expressions.constant(implementor.isRoot(this))));
+    }
+}
+
+// End JdbcToEnumerableConverter.java
@@ -0,0 +1,54 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import org.eigenbase.rel.RelNode;
+import org.eigenbase.rel.convert.ConverterRule;
+import org.eigenbase.relopt.CallingConvention;
+
+/**
+ * Rule to convert a relational expression from
+ * {@link JdbcConvention} to
+ * {@link CallingConvention#ENUMERABLE enumerable calling convention}.
+ *
+ * @author jhyde
+ */
+public class JdbcToEnumerableConverterRule extends ConverterRule {
+    public JdbcToEnumerableConverterRule(JdbcConvention out) {
+        super(
+            RelNode.class,
+            out,
+            CallingConvention.ENUMERABLE,
+            JdbcRules.description("JdbcToEnumerableConverterRule", out));
+    }
+
+    @Override
+    public boolean isGuaranteed() {
+        return true;
+    }
+
+    @Override
+    public RelNode convert(RelNode rel) {
+        return new JdbcToEnumerableConverter(
+            rel.getCluster(),
+            rel.getTraitSet().replace(CallingConvention.ENUMERABLE),
+            rel);
+    }
+}
+
+// End JdbcToEnumerableConverterRule.java
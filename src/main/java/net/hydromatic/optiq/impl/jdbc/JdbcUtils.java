@@ -21,6 +21,7 @@ import net.hydromatic.linq4j.Enumerator;
 
 import org.eigenbase.sql.SqlDialect;
 
+import java.math.BigDecimal;
 import java.sql.*;
 import java.util.*;
 import javax.sql.DataSource;
@@ -42,49 +43,60 @@ final class JdbcUtils {
         String sql,
         JdbcSchema dataContext)
     {
-        Connection connection;
-        Statement statement;
-        try {
-            connection = dataContext.dataSource.getConnection();
-            statement = connection.createStatement();
-            final ResultSet resultSet;
-            resultSet = statement.executeQuery(sql);
-            final int columnCount = resultSet.getMetaData().getColumnCount();
-            return new Enumerator<T>() {
-                public T current() {
-                    Object[] os = new Object[columnCount];
-                    try {
-                        for (int i = 0; i < os.length; i++) {
-                            os[i] = resultSet.getObject(i + 1);
-                        }
-                    } catch (SQLException e) {
-                        throw new RuntimeException(e);
-                    }
-                    return (T) os;
-                }
+        return sqlEnumerator(sql, dataContext, null, false);
+    }
 
-                public boolean moveNext() {
-                    try {
-                        return resultSet.next();
-                    } catch (SQLException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+    /** Executes a SQL query and returns the results as an enumerator.
+     *
+     * <p>The query runs on a pooled connection, using a cached prepared
+     * statement, and is executed lazily when the enumerator is first
+     * advanced.</p>
+     *
+     * <p>If <code>columnClasses</code> is null, each row is an array of
+     * objects. Otherwise each value is converted to the corresponding class,
+     * and if there is only one column, each row is the value of that
+     * column.</p>
+     *
+     * <p>If <code>reuseRow</code> is true, and the consumer of the current
+     * {@link net.hydromatic.optiq.runtime.ExecutionContext} allows it, the
+     * same array is returned for each row.</p> */
+    static <T> Enumerator<T> sqlEnumerator(
+        String sql,
+        JdbcSchema dataContext,
+        Class[] columnClasses,
+        boolean reuseRow)
+    {
+        return new ResultSetEnumerator<T>(
+            dataContext.pool, sql, columnClasses, reuseRow);
+    }
 
-                public void reset() {
-                    try {
-                        resultSet.first();
-                    } catch (SQLException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            };
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+    /** Converts a value returned by JDBC to the Java class that Optiq expects
+     * for the column. The database may return a wider numeric type; for
+     * example, MySQL returns SUM of an INTEGER column as a DECIMAL. */
+    static Object convert(Object o, Class clazz) {
+        if (o == null || clazz.isInstance(o) || !(o instanceof Number)) {
+            return o;
+        }
+        final Number number = (Number) o;
+        if (clazz == Integer.class || clazz == int.class) {
+            return number.intValue();
+        } else if (clazz == Long.class || clazz == long.class) {
+            return number.longValue();
+        } else if (clazz == Short.class || clazz == short.class) {
+            return number.shortValue();
+        } else if (clazz == Byte.class || clazz == byte.class) {
+            return number.byteValue();
+        } else if (clazz == Double.class || clazz == double.class) {
+            return number.doubleValue();
+        } else if (clazz == Float.class || clazz == float.class) {
+            return number.floatValue();
+        } else if (clazz == BigDecimal.class) {
+            return new BigDecimal(number.toString());
+        } else {
+            return o;
         }
     }
 
-
     public static class DialectPool {
         final Map<List, SqlDialect> map = new HashMap<List, SqlDialect>();
 
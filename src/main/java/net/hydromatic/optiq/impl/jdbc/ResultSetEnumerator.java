@@ -0,0 +1,229 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.impl.jdbc;
+
+import net.hydromatic.linq4j.Enumerator;
+
+import net.hydromatic.optiq.runtime.ExecutionContext;
+
+import java.io.Closeable;
+import java.sql.*;
+
+/**
+ * Enumerator that executes a SQL query and reads its result set.
+ *
+ * <p>The query is executed when {@link #moveNext()} is first called, on a
+ * connection borrowed from the schema's {@link JdbcConnectionPool}. The
+ * result set is closed and the connection returned to the pool when all rows
+ * have been read, or when the enumerator is closed; if the query is running
+ * within an {@link ExecutionContext}, the context closes the enumerator when
+ * the consumer closes the query. If the consumer cancels the query, the
+ * executing statement is cancelled, and the thread reading the rows closes
+ * the enumerator.</p>
+ *
+ * <p>Each row is read once, when the enumerator advances, using a
+ * {@link ColumnReader} for each column. If both the generated code and the
+ * consumer of the query allow it, the same array is filled for every row,
+ * rather than allocating an array per row.</p>
+ *
+ * @param <T> Row type
+ *
+ * @author jhyde
+ */
+class ResultSetEnumerator<T>
+    implements Enumerator<T>, Closeable, ExecutionContext.Cancellable
+{
+    private final JdbcConnectionPool pool;
+    private final String sql;
+    private final Class[] columnClasses;
+    private final boolean reuseRow;
+
+    private JdbcConnectionPool.PooledConnection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private ExecutionContext context;
+    private ColumnReader[] readers;
+    private boolean scalar;
+    private Object[] buffer;
+    private T current;
+    private boolean done;
+
+    /**
+     * Creates a ResultSetEnumerator.
+     *
+     * @param pool Connection pool
+     * @param sql SQL query
+     * @param columnClasses Java class of each column; or null, meaning that
+     *   each row is an array of the objects returned by JDBC
+     * @param reuseRow Whether the enumerator may return the same array for
+     *   each row, if the consumer of the query allows it
+     */
+    ResultSetEnumerator(
+        JdbcConnectionPool pool,
+        String sql,
+        Class[] columnClasses,
+        boolean reuseRow)
+    {
+        this.pool = pool;
+        this.sql = sql;
+        this.columnClasses = columnClasses;
+        this.reuseRow = reuseRow;
+    }
+
+    public T current() {
+        return current;
+    }
+
+    public boolean moveNext() {
+        if (done) {
+            return false;
+        }
+        try {
+            if (resultSet == null) {
+                open();
+            }
+            final ResultSet resultSet = this.resultSet;
+            if (resultSet.next()) {
+                current = read(resultSet);
+                return true;
+            }
+        } catch (SQLException e) {
+            // If the statement failed because the query was cancelled, say
+            // so, rather than reporting a database error.
+            final ExecutionContext context = this.context;
+            abort();
+            if (context != null) {
+                ExecutionContext.checkCancel(context.getCancelFlag());
+            }
+            throw new RuntimeException(
+                "Error while executing SQL \"" + sql + "\"", e);
+        }
+        done = true;
+        current = null;
+        close();
+        return false;
+    }
+
+    private T read(ResultSet resultSet) throws SQLException {
+        final ColumnReader[] readers = this.readers;
+        if (scalar) {
+            return (T) readers[0].read(resultSet, 1);
+        }
+        final Object[] row =
+            buffer != null ? buffer : new Object[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            row[i] = readers[i].read(resultSet, i + 1);
+        }
+        return (T) row;
+    }
+
+    public void reset() {
+        close();
+        done = false;
+        current = null;
+    }
+
+    private void open() throws SQLException {
+        connection = pool.acquire();
+        final PreparedStatement statement = connection.prepare(sql);
+        context = ExecutionContext.current();
+        synchronized (this) {
+            this.statement = statement;
+        }
+        // The statement is cached, and a previous query may have set its
+        // fetch size, so always set it; 0 means the driver's default.
+        statement.setFetchSize(context != null ? context.getFetchSize() : 0);
+        if (context != null) {
+            context.add(this);
+        }
+        resultSet = statement.executeQuery();
+        final int columnCount = resultSet.getMetaData().getColumnCount();
+        readers = ColumnReader.of(columnClasses, columnCount);
+        scalar = columnClasses != null && columnCount == 1;
+        buffer =
+            !scalar
+            && reuseRow
+            && context != null
+            && context.isRowReuseAllowed()
+                ? new Object[columnCount]
+                : null;
+    }
+
+    /** Cancels the statement, if it is executing. Called from another
+     * thread; the thread reading the rows closes the enumerator. */
+    public synchronized void cancel() {
+        if (statement != null) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                // Ignore; the query will stop when it sees the cancel flag.
+            }
+        }
+    }
+
+    /** Closes the result set and returns the connection to the pool. The
+     * prepared statement remains open, in the connection's cache. */
+    public void close() {
+        if (context != null) {
+            context.remove(this);
+            context = null;
+        }
+        // Once the connection is back in the pool, another query may be
+        // using the statement, so it must no longer be cancelled.
+        synchronized (this) {
+            statement = null;
+        }
+        final JdbcConnectionPool.PooledConnection connection =
+            this.connection;
+        if (connection == null) {
+            return;
+        }
+        this.connection = null;
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+                resultSet = null;
+            }
+        } catch (SQLException e) {
+            // The connection may be in a bad state; don't reuse it.
+            resultSet = null;
+            connection.close();
+            return;
+        }
+        pool.release(connection);
+    }
+
+    /** Closes after an error, discarding the connection. */
+    private void abort() {
+        done = true;
+        if (context != null) {
+            context.remove(this);
+            context = null;
+        }
+        synchronized (this) {
+            statement = null;
+        }
+        resultSet = null;
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+}
+
+// End ResultSetEnumerator.java
@@ -17,10 +17,106 @@
 */
 package net.hydromatic.optiq.jdbc;
 
+import java.util.Properties;
+
 /**
  * Properties that may be specified on the JDBC connect string.
  */
-enum ConnectionProperty {
+public enum ConnectionProperty {
+    /** Maximum number of compiled statements to cache in each connection.
+     * Zero disables the cache. */
+    PLAN_CACHE_SIZE("planCacheSize", "256"),
+
+    /** Maximum number of rows that a sort holds in memory. Beyond this, the
+     * sort writes sorted runs to temporary files and merges them. Zero means
+     * never spill. */
+    SORT_BUFFER_SIZE("sortBufferSize", "1000000"),
+
+    /** Maximum time, in milliseconds, that the planner spends optimizing a
+     * query once it has found a plan that can be implemented. When the time
+     * is up, the planner returns the cheapest plan found so far. Zero means
+     * no limit. */
+    PLANNER_TIME_LIMIT("plannerTimeLimit", "0"),
+
+    /** Maximum number of rules that the planner fires while optimizing a
+     * query, once it has found a plan that can be implemented. Zero means no
+     * limit. */
+    PLANNER_RULE_LIMIT("plannerRuleLimit", "0"),
+
+    /** Rules that the planner applies, before cost-based optimization, to
+     * push filters and projections towards the scans. A comma-separated
+     * list; "default" means the built-in rules, and an empty list disables
+     * the phase. See {@link net.hydromatic.optiq.prepare.RuleSets}. */
+    HEURISTIC_RULES("heuristicRules", "default"),
+
+    /** Rules that the cost-based planner applies in addition to the rules
+     * needed to implement every statement; for example, join reordering
+     * rules. See {@link net.hydromatic.optiq.prepare.RuleSets}. */
+    VOLCANO_RULES("volcanoRules", ""),
+
+    /** Whether to generate adjacent operators that support it, such as
+     * calcs and the build phase of an aggregate, as a single loop that
+     * pushes rows from one operator to the next, rather than as separate
+     * enumerators. */
+    FUSE_PIPELINES("fusePipelines", "true"),
+
+    /** Number of partitions into which hash aggregations and joins divide
+     * their work, and into which scans of in-memory arrays and lists are
+     * split, each partition running in its own thread. One means execute
+     * serially. */
+    PARALLELISM("parallelism", "1"),
+
+    /** Maximum number of bytes that the sorts, hash joins and aggregations
+     * of a query may hold in memory. A sort that reaches the limit spills to
+     * disk; other operators fail the query. Zero means no limit. Sizes are
+     * estimates. */
+    QUERY_MEMORY_LIMIT("queryMemoryLimit", "0"),
+
+    /** Maximum number of bytes that all of the queries of a connection may
+     * hold in memory; see {@link #QUERY_MEMORY_LIMIT}. Zero means no
+     * limit. */
+    CONNECTION_MEMORY_LIMIT("connectionMemoryLimit", "0");
+
+    final String camelName;
+    final String defaultValue;
+
+    ConnectionProperty(String camelName, String defaultValue) {
+        this.camelName = camelName;
+        this.defaultValue = defaultValue;
+    }
+
+    /** Returns the value of this property in a given set of connection
+     * properties, or its default value if it is not set. */
+    public String getString(Properties properties) {
+        return properties.getProperty(camelName, defaultValue);
+    }
+
+    /** Returns the value of this property as a boolean. */
+    public boolean getBoolean(Properties properties) {
+        return Boolean.parseBoolean(getString(properties).trim());
+    }
+
+    /** Returns the value of this property as an integer. */
+    public int getInt(Properties properties) {
+        final String s = getString(properties);
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException(
+                "invalid value for property '" + camelName + "': " + s, e);
+        }
+    }
+
+    /** Returns the value of this property as a long. */
+    public long getLong(Properties properties) {
+        final String s = getString(properties);
+        try {
+            return Long.parseLong(s.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException(
+                "invalid value for property '" + camelName + "': " + s, e);
+        }
+    }
 }
 
 // End ConnectionProperty.java
@@ -17,8 +17,13 @@
 */
 package net.hydromatic.optiq.jdbc;
 
+import net.hydromatic.linq4j.expressions.Types;
+
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
 import net.hydromatic.optiq.runtime.ByteString;
+import net.hydromatic.optiq.runtime.SyntheticRow;
+
+import org.codehaus.janino.SimpleCompiler;
 
 import org.eigenbase.reltype.*;
 import org.eigenbase.sql.type.BasicSqlType;
@@ -29,8 +34,7 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * Implementation of {@link JavaTypeFactory}.
@@ -42,6 +46,27 @@ public class JavaTypeFactoryImpl
     extends SqlTypeFactoryImpl
     implements JavaTypeFactory
 {
+    private static final Map<Class, Class> BOX_TO_PRIMITIVE_MAP =
+        new HashMap<Class, Class>();
+
+    static {
+        for (Class primitive : new Class[] {
+            Boolean.TYPE, Byte.TYPE, Character.TYPE, Short.TYPE,
+            Integer.TYPE, Long.TYPE, Float.TYPE, Double.TYPE})
+        {
+            BOX_TO_PRIMITIVE_MAP.put(Types.box(primitive), primitive);
+        }
+    }
+
+    /** Synthetic row classes, keyed by the Java classes of their fields. */
+    private final Map<List<Class>, Class> rowClasses =
+        new HashMap<List<Class>, Class>();
+
+    /** Class loader that can load all synthetic row classes created so far.
+     * Each new class is compiled in a child of the previous loader. */
+    private ClassLoader classLoader =
+        JavaTypeFactoryImpl.class.getClassLoader();
+
     public RelDataType createStructType(Class type) {
         List<RelDataTypeField> list = new ArrayList<RelDataTypeField>();
         for (Field field : type.getFields()) {
@@ -113,6 +138,11 @@ public class JavaTypeFactoryImpl
                 return Byte.class;
             case DECIMAL:
                 return BigDecimal.class;
+            case DOUBLE:
+            case FLOAT:
+                return Double.class;
+            case REAL:
+                return Float.class;
             case BOOLEAN:
                 return Boolean.class;
             case BINARY:
@@ -128,6 +158,175 @@ public class JavaTypeFactoryImpl
         }
         return null;
     }
+
+    public synchronized Class getRowClass(RelDataType type) {
+        final List<Class> fieldClasses = new ArrayList<Class>();
+        for (RelDataTypeField field : type.getFieldList()) {
+            fieldClasses.add(fieldClass(field.getType()));
+        }
+        Class rowClass = rowClasses.get(fieldClasses);
+        if (rowClass == null) {
+            rowClass = compileRowClass(fieldClasses);
+            rowClasses.put(fieldClasses, rowClass);
+        }
+        return rowClass;
+    }
+
+    public synchronized ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /** Returns the class of the field that holds a column of a given type in
+     * a synthetic row: a primitive if the column is NOT NULL and has a
+     * primitive representation. */
+    private Class fieldClass(RelDataType type) {
+        final Type javaType = getJavaClass(type);
+        if (!(javaType instanceof Class)) {
+            return Object.class;
+        }
+        final Class clazz = (Class) javaType;
+        if (!type.isNullable()) {
+            final Class primitive = BOX_TO_PRIMITIVE_MAP.get(clazz);
+            if (primitive != null) {
+                return primitive;
+            }
+        } else if (clazz.isPrimitive()) {
+            return Types.box(clazz);
+        }
+        return clazz;
+    }
+
+    /** Generates and compiles a subclass of {@link SyntheticRow} with fields
+     * of the given classes. */
+    private Class compileRowClass(List<Class> fieldClasses) {
+        final String simpleName =
+            SyntheticRow.class.getSimpleName() + rowClasses.size();
+        final String packageName = SyntheticRow.class.getPackage().getName();
+        final StringBuilder buf = new StringBuilder();
+        buf.append("package ").append(packageName).append(";\n")
+            .append("public final class ").append(simpleName)
+            .append(" extends ").append(SyntheticRow.class.getName())
+            .append(" {\n");
+        final int n = fieldClasses.size();
+        final List<String> names = new ArrayList<String>();
+        final List<String> types = new ArrayList<String>();
+        for (int i = 0; i < n; i++) {
+            names.add(SyntheticRow.fieldName(i));
+            types.add(fieldClasses.get(i).getCanonicalName());
+            buf.append("  public final ").append(types.get(i)).append(" ")
+                .append(names.get(i)).append(";\n");
+        }
+
+        // Constructor
+        buf.append("  public ").append(simpleName).append("(");
+        for (int i = 0; i < n; i++) {
+            buf.append(i > 0 ? ", " : "")
+                .append(types.get(i)).append(" ").append(names.get(i));
+        }
+        buf.append(") {\n");
+        for (String name : names) {
+            buf.append("    this.").append(name).append(" = ").append(name)
+                .append(";\n");
+        }
+        buf.append("  }\n");
+
+        // size() and get(int)
+        buf.append("  public int size() {\n")
+            .append("    return ").append(n).append(";\n")
+            .append("  }\n")
+            .append("  public Object get(int i) {\n")
+            .append("    switch (i) {\n");
+        for (int i = 0; i < n; i++) {
+            final Class clazz = fieldClasses.get(i);
+            buf.append("    case ").append(i).append(": return ");
+            if (clazz.isPrimitive()) {
+                buf.append(Types.box(clazz).getName()).append(".valueOf(")
+                    .append(names.get(i)).append(")");
+            } else {
+                buf.append(names.get(i));
+            }
+            buf.append(";\n");
+        }
+        buf.append("    default: throw new IndexOutOfBoundsException();\n")
+            .append("    }\n")
+            .append("  }\n");
+
+        // equals(Object)
+        buf.append("  public boolean equals(Object o) {\n")
+            .append("    if (o == this) return true;\n")
+            .append("    if (!(o instanceof ").append(simpleName)
+            .append(")) return false;\n")
+            .append("    final ").append(simpleName).append(" that = (")
+            .append(simpleName).append(") o;\n")
+            .append("    return true");
+        for (int i = 0; i < n; i++) {
+            final String name = names.get(i);
+            final String that = "that." + name;
+            buf.append("\n      && ");
+            final Class clazz = fieldClasses.get(i);
+            if (clazz == Double.TYPE) {
+                buf.append("Double.doubleToLongBits(").append(name)
+                    .append(") == Double.doubleToLongBits(").append(that)
+                    .append(")");
+            } else if (clazz == Float.TYPE) {
+                buf.append("Float.floatToIntBits(").append(name)
+                    .append(") == Float.floatToIntBits(").append(that)
+                    .append(")");
+            } else if (clazz.isPrimitive()) {
+                buf.append(name).append(" == ").append(that);
+            } else {
+                buf.append("(").append(name).append(" == null ? ")
+                    .append(that).append(" == null : ").append(name)
+                    .append(".equals(").append(that).append("))");
+            }
+        }
+        buf.append(";\n")
+            .append("  }\n");
+
+        // hashCode()
+        buf.append("  public int hashCode() {\n")
+            .append("    int h = 0;\n");
+        for (int i = 0; i < n; i++) {
+            buf.append("    h = h * 31 + ")
+                .append(hashExpression(fieldClasses.get(i), names.get(i)))
+                .append(";\n");
+        }
+        buf.append("    return h;\n")
+            .append("  }\n")
+            .append("}\n");
+
+        final SimpleCompiler compiler = new SimpleCompiler();
+        compiler.setParentClassLoader(classLoader);
+        try {
+            compiler.cook(buf.toString());
+            final ClassLoader newClassLoader = compiler.getClassLoader();
+            final Class rowClass =
+                newClassLoader.loadClass(packageName + "." + simpleName);
+            classLoader = newClassLoader;
+            return rowClass;
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "Error while compiling row class:\n" + buf, e);
+        }
+    }
+
+    /** Returns Java source for the hash code of a field, consistent with
+     * the hash code of the field's boxed value. */
+    private static String hashExpression(Class clazz, String name) {
+        if (clazz == Boolean.TYPE) {
+            return "(" + name + " ? 1231 : 1237)";
+        } else if (clazz == Long.TYPE) {
+            return "(int) (" + name + " ^ (" + name + " >>> 32))";
+        } else if (clazz == Double.TYPE) {
+            return "new Double(" + name + ").hashCode()";
+        } else if (clazz == Float.TYPE) {
+            return "Float.floatToIntBits(" + name + ")";
+        } else if (clazz.isPrimitive()) {
+            return "(int) " + name;
+        } else {
+            return "(" + name + " == null ? 0 : " + name + ".hashCode())";
+        }
+    }
 }
 
 // End JavaTypeFactoryImpl.java
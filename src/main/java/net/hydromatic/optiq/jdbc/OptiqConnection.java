@@ -20,6 +20,7 @@ package net.hydromatic.optiq.jdbc;
 import net.hydromatic.linq4j.QueryProvider;
 import net.hydromatic.optiq.MutableSchema;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
+import net.hydromatic.optiq.prepare.PlanCache;
 
 import java.sql.Connection;
 import java.util.Properties;
@@ -60,6 +61,14 @@ public interface OptiqConnection extends Connection, QueryProvider {
      * @return properties
      */
     Properties getProperties();
+
+    /**
+     * Returns the cache of compiled statements, or null if caching is
+     * disabled (see the {@code planCacheSize} connection property).
+     *
+     * @return Plan cache, or null
+     */
+    PlanCache getPlanCache();
 }
 
 // End OptiqConnection.java
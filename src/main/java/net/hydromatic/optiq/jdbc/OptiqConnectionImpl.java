@@ -22,12 +22,13 @@ import net.hydromatic.linq4j.Enumerator;
 import net.hydromatic.linq4j.QueryProvider;
 import net.hydromatic.linq4j.Queryable;
 import net.hydromatic.linq4j.expressions.Expression;
-import net.hydromatic.linq4j.expressions.Expressions;
 import net.hydromatic.linq4j.expressions.ParameterExpression;
 import net.hydromatic.optiq.DataContext;
 import net.hydromatic.optiq.MutableSchema;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
 import net.hydromatic.optiq.impl.java.MapSchema;
+import net.hydromatic.optiq.prepare.PlanCache;
+import net.hydromatic.optiq.runtime.MemoryPool;
 import net.hydromatic.optiq.server.OptiqServer;
 import net.hydromatic.optiq.server.OptiqServerStatement;
 
@@ -56,8 +57,7 @@ abstract class OptiqConnectionImpl implements OptiqConnection, QueryProvider {
     private int networkTimeout;
     private String catalog;
 
-    final ParameterExpression rootExpression =
-        Expressions.parameter(DataContext.class, "root");
+    final ParameterExpression rootExpression = DataContext.ROOT;
     final MutableSchema rootSchema =
         new MapSchema(this, typeFactory, rootExpression);
     final UnregisteredDriver driver;
@@ -66,8 +66,15 @@ abstract class OptiqConnectionImpl implements OptiqConnection, QueryProvider {
     private final Properties info;
     private String schema;
     private final OptiqDatabaseMetaData metaData;
+    private final PlanCache planCache;
     final Helper helper = Helper.INSTANCE;
 
+    /** Memory used by the queries of this connection. */
+    final MemoryPool memoryPool;
+
+    /** Maximum memory of each query, or 0 for no limit. */
+    final long queryMemoryLimit;
+
     final OptiqServer server = new OptiqServer() {
         final List<OptiqServerStatement> statementList =
             new ArrayList<OptiqServerStatement>();
@@ -103,6 +110,17 @@ abstract class OptiqConnectionImpl implements OptiqConnection, QueryProvider {
         this.info = info;
         this.metaData = factory.newDatabaseMetaData(this);
         this.holdability = metaData.getResultSetHoldability();
+        final int planCacheSize =
+            ConnectionProperty.PLAN_CACHE_SIZE.getInt(info);
+        this.planCache =
+            planCacheSize > 0 ? new PlanCache(planCacheSize) : null;
+        this.memoryPool =
+            new MemoryPool(
+                null,
+                "connection",
+                ConnectionProperty.CONNECTION_MEMORY_LIMIT.getLong(info));
+        this.queryMemoryLimit =
+            ConnectionProperty.QUERY_MEMORY_LIMIT.getLong(info);
     }
 
     // OptiqConnection methods
@@ -119,6 +137,10 @@ abstract class OptiqConnectionImpl implements OptiqConnection, QueryProvider {
         return info;
     }
 
+    public PlanCache getPlanCache() {
+        return planCache;
+    }
+
 // QueryProvider methods
 
     public <T> Queryable<T> createQuery(
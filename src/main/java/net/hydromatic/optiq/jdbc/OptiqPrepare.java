@@ -23,6 +23,10 @@ import net.hydromatic.linq4j.RawEnumerable;
 
 import net.hydromatic.optiq.*;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
+import net.hydromatic.optiq.prepare.PlanCache;
+import net.hydromatic.optiq.runtime.BoundDataContext;
+import net.hydromatic.optiq.runtime.Executable;
+import net.hydromatic.optiq.runtime.ExecutionContext;
 
 import org.eigenbase.reltype.RelDataType;
 import org.eigenbase.sql.SqlNode;
@@ -33,8 +37,10 @@ import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * API for a service that prepares statements for execution.
@@ -60,6 +66,14 @@ public interface OptiqPrepare {
         JavaTypeFactory getTypeFactory();
 
         Schema getRootSchema();
+
+        /** Returns the cache of compiled statements, or null if statements
+         * are not to be cached. */
+        PlanCache getPlanCache();
+
+        /** Returns the connection properties. See
+         * {@link ConnectionProperty}. */
+        Properties getProperties();
     }
 
     public static class ParseResult {
@@ -75,26 +89,55 @@ public interface OptiqPrepare {
         }
     }
 
+    /** Prepared statement. It can be executed many times, binding new
+     * values to its parameters before each execution. */
     public static class PrepareResult<T> {
         public final String sql; // for debug
         public final List<Parameter> parameterList;
         public final List<ColumnMetaData> columnList;
-        public final RawEnumerable<T> enumerable;
-
+        private final Executable executable;
+        private final DataContext dataContext;
+
+        /**
+         * Creates a PrepareResult.
+         *
+         * @param sql SQL text, or null
+         * @param parameterList Parameters; each holds the value to be used in
+         *   the next execution
+         * @param columnList Metadata of the result columns
+         * @param executable Compiled statement
+         * @param dataContext Data context, usually the root schema, that
+         *   provides the tables the statement reads
+         */
         public PrepareResult(
             String sql,
             List<Parameter> parameterList,
             List<ColumnMetaData> columnList,
-            RawEnumerable<T> enumerable)
+            Executable executable,
+            DataContext dataContext)
         {
             super();
             this.sql = sql;
             this.parameterList = parameterList;
             this.columnList = columnList;
-            this.enumerable = enumerable;
+            this.executable = executable;
+            this.dataContext = dataContext;
         }
 
+        /** Executes the statement, using the current values of its
+         * parameters. */
         public Enumerator<T> execute() {
+            final List<Object> values = new ArrayList<Object>();
+            for (Parameter parameter : parameterList) {
+                values.add(parameter.getValue());
+            }
+            //noinspection unchecked
+            final RawEnumerable<T> enumerable =
+                executable.execute(
+                    BoundDataContext.of(
+                        dataContext,
+                        values,
+                        ExecutionContext.currentCancelFlag()));
             return enumerable.enumerator();
         }
     }
@@ -204,24 +247,31 @@ public interface OptiqPrepare {
         }
 
         public void setByte(byte o) {
+            setValue((Object) o);
         }
 
         public void setValue(char o) {
+            setValue((Object) o);
         }
 
         public void setShort(short o) {
+            setValue((Object) o);
         }
 
         public void setInt(int o) {
+            setValue((Object) o);
         }
 
         public void setValue(long o) {
+            setValue((Object) o);
         }
 
         public void setValue(byte[] o) {
+            setValue((Object) o);
         }
 
         public void setBoolean(boolean o) {
+            setValue((Object) o);
         }
 
         public void setValue(Object o) {
@@ -235,10 +285,47 @@ public interface OptiqPrepare {
             return value != null;
         }
 
+        /** Unsets the value. */
+        public void clear() {
+            value = null;
+        }
+
+        /** Returns the value, converted to the Java class that the generated
+         * code expects ({@link #className}); or null if the value is null or
+         * has not been set. */
+        public Object getValue() {
+            final Object o = value == DUMMY_VALUE ? null : value;
+            if (!(o instanceof Number)
+                || o.getClass().getName().equals(className))
+            {
+                return o;
+            }
+            final Number number = (Number) o;
+            if (className.equals(Integer.class.getName())) {
+                return number.intValue();
+            } else if (className.equals(Long.class.getName())) {
+                return number.longValue();
+            } else if (className.equals(Short.class.getName())) {
+                return number.shortValue();
+            } else if (className.equals(Byte.class.getName())) {
+                return number.byteValue();
+            } else if (className.equals(Double.class.getName())) {
+                return number.doubleValue();
+            } else if (className.equals(Float.class.getName())) {
+                return number.floatValue();
+            } else if (className.equals(BigDecimal.class.getName())) {
+                return o instanceof BigDecimal
+                    ? o
+                    : new BigDecimal(number.toString());
+            }
+            return o;
+        }
+
         public void setRowId(RowId x) {
         }
 
         public void setNString(String value) {
+            setValue(value);
         }
 
         public void setNCharacterStream(Reader value, long length) {
@@ -293,42 +380,55 @@ public interface OptiqPrepare {
         }
 
         public void setTimestamp(Timestamp x) {
+            setValue(x);
         }
 
         public void setTime(Time x) {
+            setValue(x);
         }
 
         public void setFloat(float x) {
+            setValue((Object) x);
         }
 
         public void setDouble(double x) {
+            setValue((Object) x);
         }
 
         public void setBigDecimal(BigDecimal x) {
+            setValue(x);
         }
 
         public void setString(String x) {
+            setValue(x);
         }
 
         public void setBytes(byte[] x) {
+            setValue(x);
         }
 
         public void setDate(Date x, Calendar cal) {
+            setValue(x);
         }
 
         public void setDate(Date x) {
+            setValue(x);
         }
 
         public void setObject(Object x, int targetSqlType) {
+            setValue(x);
         }
 
         public void setObject(Object x) {
+            setValue(x);
         }
 
         public void setNull(int sqlType) {
+            setValue(null);
         }
 
         public void setTime(Time x, Calendar cal) {
+            setValue(x);
         }
 
         public void setRef(Ref x) {
@@ -344,15 +444,18 @@ public interface OptiqPrepare {
         }
 
         public void setTimestamp(Timestamp x, Calendar cal) {
+            setValue(x);
         }
 
         public void setNull(int sqlType, String typeName) {
+            setValue(null);
         }
 
         public void setURL(URL x) {
         }
 
         public void setObject(Object x, int targetSqlType, int scaleOrLength) {
+            setValue(x);
         }
     }
 }
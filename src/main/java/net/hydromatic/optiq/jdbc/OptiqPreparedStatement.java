@@ -69,6 +69,12 @@ abstract class OptiqPreparedStatement
     // implement PreparedStatement
 
     public ResultSet executeQuery() throws SQLException {
+        for (OptiqPrepare.Parameter parameter : prepareResult.parameterList) {
+            if (!parameter.isSet()) {
+                throw connection.helper.createException(
+                    "parameter " + parameter.name + " is not set");
+            }
+        }
         return executeQueryInternal(prepareResult);
     }
 
@@ -159,7 +165,9 @@ abstract class OptiqPreparedStatement
     }
 
     public void clearParameters() throws SQLException {
-        throw new UnsupportedOperationException();
+        for (OptiqPrepare.Parameter parameter : prepareResult.parameterList) {
+            parameter.clear();
+        }
     }
 
     public void setObject(
@@ -272,7 +280,8 @@ abstract class OptiqPreparedStatement
     }
 
     public int isNullable(int param) throws SQLException {
-        return ParameterMetaData.parameterNullableUnknown;
+        getParameter(param); // forces param range check
+        return ParameterMetaData.parameterNullable;
     }
 
     public boolean isSigned(int index) throws SQLException {
@@ -20,8 +20,13 @@ package net.hydromatic.optiq.jdbc;
 import net.hydromatic.linq4j.Enumerator;
 import net.hydromatic.optiq.runtime.ArrayEnumeratorCursor;
 import net.hydromatic.optiq.runtime.Cursor;
+import net.hydromatic.optiq.runtime.ExecutionContext;
+import net.hydromatic.optiq.runtime.MemoryLimitExceededException;
+import net.hydromatic.optiq.runtime.MemoryPool;
 import net.hydromatic.optiq.runtime.ObjectEnumeratorCursor;
+import net.hydromatic.optiq.runtime.QueryCancelledException;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -55,6 +60,10 @@ public class OptiqResultSet implements ResultSet {
     private int holdability;
     private boolean closed;
 
+    /** Settings and open resources of the query. Bound to the thread while
+     * rows are being fetched. */
+    private final ExecutionContext executionContext = new ExecutionContext();
+
     OptiqResultSet(
         OptiqStatement statement,
         OptiqPrepare.PrepareResult<?> prepareResult)
@@ -66,6 +75,14 @@ public class OptiqResultSet implements ResultSet {
         this.holdability = statement.resultSetHoldability;
         this.fetchSize = statement.getFetchSize();
         this.fetchDirection = statement.getFetchDirection();
+        // The cursor reads the values of the current row before moving to
+        // the next row, and never holds on to a row.
+        this.executionContext.setRowReuseAllowed(true);
+        this.executionContext.setMemoryPool(
+            new MemoryPool(
+                statement.connection.memoryPool,
+                "query",
+                statement.connection.queryMemoryLimit));
         this.resultSetMetaData =
             statement.connection.factory.newResultSetMetaData(
                 statement, prepareResult);
@@ -85,11 +102,46 @@ public class OptiqResultSet implements ResultSet {
 
     public void close() {
         closed = true;
+        releaseResources();
     }
 
-    // not JDBC
+    /** Requests that the query stop. (Not a JDBC method.)
+     *
+     * <p>Called from a thread other than the one fetching rows, so it only
+     * sets the cancel flag; the resources are released by the fetching
+     * thread when it notices the flag, or when the result set is
+     * closed.</p> */
     void cancel() {
-        // TODO:
+        executionContext.cancel();
+    }
+
+    /** Converts the exception thrown by a query that noticed that it had been
+     * cancelled, releasing the query's resources. */
+    private SQLException cancelled(QueryCancelledException e) {
+        releaseResources();
+        return statement.connection.helper.createException(
+            executionContext.isTimedOut()
+                ? "Query timed out"
+                : "Query cancelled",
+            e);
+    }
+
+    /** Converts the exception thrown by a query that ran out of memory,
+     * releasing the query's resources. */
+    private SQLException outOfMemory(MemoryLimitExceededException e) {
+        releaseResources();
+        return statement.connection.helper.createException(e.getMessage(), e);
+    }
+
+    /** Closes any resources, such as JDBC statements, that the query still
+     * has open. */
+    private void releaseResources() {
+        try {
+            executionContext.close();
+        } catch (IOException e) {
+            throw statement.connection.helper.wrap(
+                "Error while closing result set", e);
+        }
     }
 
     /**
@@ -99,8 +151,20 @@ public class OptiqResultSet implements ResultSet {
      * constructor occurs while the statement is locked, to make sure that
      * execute/cancel don't happen at the same time.</p>
      */
-    void execute() {
-        Enumerator enumerator = prepareResult.execute();
+    void execute() throws SQLException {
+        executionContext.setFetchSize(fetchSize);
+        executionContext.setTimeout(statement.getQueryTimeoutMillis());
+        final Enumerator enumerator;
+        final ExecutionContext previous = executionContext.enter();
+        try {
+            enumerator = prepareResult.execute();
+        } catch (QueryCancelledException e) {
+            throw cancelled(e);
+        } catch (MemoryLimitExceededException e) {
+            throw outOfMemory(e);
+        } finally {
+            executionContext.exit(previous);
+        }
         this.cursor =
             prepareResult.columnList.size() == 1
                 ? new ObjectEnumeratorCursor(enumerator)
@@ -125,7 +189,19 @@ public class OptiqResultSet implements ResultSet {
     }
 
     public boolean next() throws SQLException {
-        if (cursor.next()) {
+        final boolean next;
+        final ExecutionContext previous = executionContext.enter();
+        try {
+            ExecutionContext.checkCancel(executionContext.getCancelFlag());
+            next = cursor.next();
+        } catch (QueryCancelledException e) {
+            throw cancelled(e);
+        } catch (MemoryLimitExceededException e) {
+            throw outOfMemory(e);
+        } finally {
+            executionContext.exit(previous);
+        }
+        if (next) {
             ++row;
             return true;
         } else {
@@ -373,6 +449,7 @@ public class OptiqResultSet implements ResultSet {
 
     public void setFetchSize(int fetchSize) throws SQLException {
         this.fetchSize = fetchSize;
+        executionContext.setFetchSize(fetchSize);
     }
 
     public int getFetchSize() throws SQLException {
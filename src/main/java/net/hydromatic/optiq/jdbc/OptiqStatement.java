@@ -20,9 +20,11 @@ package net.hydromatic.optiq.jdbc;
 import net.hydromatic.linq4j.Queryable;
 import net.hydromatic.optiq.Schema;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
+import net.hydromatic.optiq.prepare.PlanCache;
 import net.hydromatic.optiq.server.OptiqServerStatement;
 
 import java.sql.*;
+import java.util.Properties;
 
 /**
  * Implementation of {@link java.sql.Statement}
@@ -336,6 +338,8 @@ abstract class OptiqStatement
         // opportunity to call cancel.
         try {
             openResultSet.execute();
+        } catch (SQLException e) {
+            throw e;
         } catch (Exception e) {
             throw connection.helper.createException(
                 "exception while executing query", e);
@@ -379,6 +383,14 @@ abstract class OptiqStatement
         public Schema getRootSchema() {
             return connection.getRootSchema();
         }
+
+        public PlanCache getPlanCache() {
+            return connection.getPlanCache();
+        }
+
+        public Properties getProperties() {
+            return connection.getProperties();
+        }
     }
 }
 
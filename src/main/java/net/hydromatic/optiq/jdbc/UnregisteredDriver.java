@@ -109,13 +109,13 @@ public abstract class UnregisteredDriver implements java.sql.Driver {
         }
         // Next, add property definitions not mentioned in info
         for (ConnectionProperty p : ConnectionProperty.values()) {
-            if (info.containsKey(p.name())) {
+            if (info.containsKey(p.camelName)) {
                 continue;
             }
             list.add(
                 new DriverPropertyInfo(
-                    p.name(),
-                    null));
+                    p.camelName,
+                    p.defaultValue));
         }
         return list.toArray(new DriverPropertyInfo[list.size()]);
     }
@@ -18,26 +18,34 @@
 package net.hydromatic.optiq.prepare;
 
 import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Linq4j;
 import net.hydromatic.linq4j.Queryable;
 import net.hydromatic.linq4j.expressions.*;
 import net.hydromatic.optiq.*;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
+import net.hydromatic.optiq.jdbc.ConnectionProperty;
 import net.hydromatic.optiq.jdbc.Helper;
 import net.hydromatic.optiq.jdbc.OptiqPrepare;
 import net.hydromatic.optiq.rules.java.EnumerableRel;
 import net.hydromatic.optiq.rules.java.EnumerableRelImplementor;
 import net.hydromatic.optiq.rules.java.JavaRules;
 import net.hydromatic.optiq.rules.java.RexToLixTranslator;
+import net.hydromatic.optiq.runtime.BoundDataContext;
 import net.hydromatic.optiq.runtime.Executable;
 import openjava.ptree.ClassDeclaration;
-import org.codehaus.janino.ExpressionEvaluator;
+import org.codehaus.janino.Scanner;
+import org.codehaus.janino.ScriptEvaluator;
 import org.eigenbase.oj.stmt.OJPreparingStmt;
 import org.eigenbase.oj.stmt.PreparedExecution;
+import org.eigenbase.oj.stmt.PreparedExplanation;
 import org.eigenbase.oj.stmt.PreparedResult;
 import org.eigenbase.rel.RelCollation;
+import org.eigenbase.rel.RelFieldCollation;
 import org.eigenbase.rel.RelNode;
 import org.eigenbase.rel.rules.TableAccessRule;
 import org.eigenbase.relopt.*;
+import org.eigenbase.relopt.hep.HepPlanner;
+import org.eigenbase.relopt.hep.HepProgram;
 import org.eigenbase.relopt.volcano.VolcanoPlanner;
 import org.eigenbase.reltype.RelDataType;
 import org.eigenbase.reltype.RelDataTypeFactory;
@@ -52,8 +60,11 @@ import org.eigenbase.sql.type.*;
 import org.eigenbase.sql.util.ChainedSqlOperatorTable;
 import org.eigenbase.sql.validate.*;
 import org.eigenbase.sql2rel.SqlToRelConverter;
+import org.eigenbase.stat.RelStatSource;
+import org.eigenbase.stat.RelStatSourceProvider;
 import org.eigenbase.util.Pair;
 
+import java.io.StringReader;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -64,7 +75,7 @@ import java.util.*;
  *
  * @author jhyde
  */
-class OptiqPrepareImpl implements OptiqPrepare {
+public class OptiqPrepareImpl implements OptiqPrepare {
 
     public ParseResult parse(
         Context context, String sql)
@@ -78,7 +89,8 @@ class OptiqPrepareImpl implements OptiqPrepare {
             new OptiqPreparingStmt(
                 catalogReader,
                 typeFactory,
-                context.getRootSchema());
+                context.getRootSchema(),
+                context.getProperties());
         preparingStmt.setResultCallingConvention(CallingConvention.ENUMERABLE);
 
         SqlParser parser = new SqlParser(sql);
@@ -119,6 +131,24 @@ class OptiqPrepareImpl implements OptiqPrepare {
         Queryable<T> queryable,
         Type elementType)
     {
+        // Only SQL statements are cached; a queryable's expression tree
+        // contains values that are not part of the key.
+        final PlanCache planCache = sql != null ? context.getPlanCache() : null;
+        final long version =
+            planCache != null ? getVersion(context.getRootSchema()) : 0L;
+        if (planCache != null) {
+            final PlanCache.Entry entry = planCache.get(sql, version);
+            if (entry != null) {
+                return new PrepareResult<T>(
+                    sql,
+                    parameters(context.getTypeFactory(), entry.parameterTypes),
+                    entry.columnList,
+                    entry.executable,
+                    context.getRootSchema());
+            }
+        }
+        final long start = System.nanoTime();
+
         final JavaTypeFactory typeFactory = context.getTypeFactory();
         OptiqCatalogReader catalogReader =
             new OptiqCatalogReader(
@@ -128,11 +158,13 @@ class OptiqPrepareImpl implements OptiqPrepare {
             new OptiqPreparingStmt(
                 catalogReader,
                 typeFactory,
-                context.getRootSchema());
+                context.getRootSchema(),
+                context.getProperties());
         preparingStmt.setResultCallingConvention(CallingConvention.ENUMERABLE);
 
         final RelDataType x;
         final PreparedResult preparedResult;
+        final List<RelDataType> parameterTypes;
         if (sql != null) {
             assert queryable == null;
             SqlParser parser = new SqlParser(sql);
@@ -154,16 +186,24 @@ class OptiqPrepareImpl implements OptiqPrepare {
                     SqlConformance.Default) { };
             preparedResult = preparingStmt.prepareSql(
                 sqlNode, Object.class, validator, true);
-            x = validator.getValidatedNodeType(sqlNode);
+            if (sqlNode.getKind() == SqlKind.EXPLAIN) {
+                // One row, whose only column holds the text of the plan.
+                x = typeFactory.createStructType(
+                    Collections.singletonList(
+                        typeFactory.createSqlType(SqlTypeName.VARCHAR)),
+                    Collections.singletonList("PLAN"));
+            } else {
+                x = validator.getValidatedNodeType(sqlNode);
+            }
+            parameterTypes = preparingStmt.getParameterTypes();
         } else {
             assert queryable != null;
             x = context.getTypeFactory().createType(elementType);
             preparedResult =
                 preparingStmt.prepareQueryable(queryable, x);
+            parameterTypes = Collections.emptyList();
         }
 
-        // TODO: parameters
-        final List<Parameter> parameters = Collections.emptyList();
         // TODO: column meta data
         final List<ColumnMetaData> columns =
             new ArrayList<ColumnMetaData>();
@@ -197,11 +237,75 @@ class OptiqPrepareImpl implements OptiqPrepare {
                     false,
                     null));
         }
+        final Executable executable;
+        if (preparingStmt.executable != null) {
+            executable = preparingStmt.executable;
+        } else if (preparedResult instanceof PreparedExplanation) {
+            // EXPLAIN. The plan depends only on the statement and the
+            // schema, so the executable can be cached like any other.
+            final List<String> plan =
+                Collections.singletonList(
+                    ((PreparedExplanation) preparedResult).getCode());
+            executable =
+                new Executable() {
+                    public Enumerable execute(DataContext dataContext) {
+                        return Linq4j.asEnumerable(plan);
+                    }
+                };
+        } else {
+            // Not compiled.
+            executable =
+                new Executable() {
+                    public Enumerable execute(DataContext dataContext) {
+                        return (Enumerable) preparedResult.execute();
+                    }
+                };
+        }
+        if (planCache != null) {
+            planCache.put(
+                sql,
+                new PlanCache.Entry(
+                    executable, columns, parameterTypes, version),
+                System.nanoTime() - start);
+        }
         return new PrepareResult<T>(
             sql,
-            parameters,
+            parameters(typeFactory, parameterTypes),
             columns,
-            (Enumerable<T>) preparedResult.execute());
+            executable,
+            context.getRootSchema());
+    }
+
+    /** Creates the metadata of the dynamic parameters of a statement, with
+     * slots to hold their values. */
+    private static List<Parameter> parameters(
+        JavaTypeFactory typeFactory,
+        List<RelDataType> types)
+    {
+        final List<Parameter> parameters = new ArrayList<Parameter>();
+        for (RelDataType type : types) {
+            final SqlTypeName sqlTypeName = type.getSqlTypeName();
+            final Type javaType = Types.box(typeFactory.getJavaClass(type));
+            parameters.add(
+                new Parameter(
+                    SqlTypeUtil.isNumeric(type),
+                    sqlTypeName.allowsPrec() ? type.getPrecision() : -1,
+                    sqlTypeName.allowsScale() ? type.getScale() : -1,
+                    sqlTypeName.getJdbcOrdinal(),
+                    sqlTypeName.getName(),
+                    javaType instanceof Class
+                        ? ((Class) javaType).getName()
+                        : Object.class.getName(),
+                    BoundDataContext.parameterName(parameters.size())));
+        }
+        return parameters;
+    }
+
+    /** Returns the version of a schema, or 0 if it cannot be modified. */
+    private static long getVersion(Schema schema) {
+        return schema instanceof MutableSchema
+            ? ((MutableSchema) schema).getVersion()
+            : 0L;
     }
 
     private static RelDataType makeStruct(
@@ -219,17 +323,31 @@ class OptiqPrepareImpl implements OptiqPrepare {
         private final RelOptPlanner planner;
         private final RexBuilder rexBuilder;
         private final Schema schema;
+        private final Properties properties;
         private int expansionDepth;
         private SqlValidator sqlValidator;
 
+        /** Converter that translated the statement (as opposed to views and
+         * sub-queries); knows the types of its dynamic parameters. */
+        private SqlToRelConverter queryConverter;
+
+        /** Compiled statement; set when the statement is implemented. */
+        Executable executable;
+
         public OptiqPreparingStmt(
             CatalogReader catalogReader,
             RelDataTypeFactory typeFactory,
-            Schema schema)
+            Schema schema,
+            Properties properties)
         {
             super(catalogReader);
             this.schema = schema;
-            planner = new VolcanoPlanner();
+            this.properties = properties;
+            final VolcanoPlanner volcanoPlanner = new VolcanoPlanner();
+            volcanoPlanner.setPlanningLimits(
+                ConnectionProperty.PLANNER_TIME_LIMIT.getInt(properties),
+                ConnectionProperty.PLANNER_RULE_LIMIT.getInt(properties));
+            planner = volcanoPlanner;
             planner.addRelTraitDef(CallingConventionTraitDef.instance);
             RelOptUtil.registerAbstractRels(planner);
             planner.addRule(JavaRules.ENUMERABLE_JOIN_RULE);
@@ -239,7 +357,12 @@ class OptiqPrepareImpl implements OptiqPrepare {
             planner.addRule(JavaRules.ENUMERABLE_UNION_RULE);
             planner.addRule(JavaRules.ENUMERABLE_INTERSECT_RULE);
             planner.addRule(JavaRules.ENUMERABLE_MINUS_RULE);
+            planner.addRule(JavaRules.ENUMERABLE_INDEX_SCAN_RULE);
+            planner.addRule(JavaRules.ENUMERABLE_INDEX_SCAN_PROJECT_RULE);
             planner.addRule(TableAccessRule.instance);
+            for (RelOptRule rule : RuleSets.volcanoRules(properties)) {
+                planner.addRule(rule);
+            }
 
             rexBuilder = new RexBuilder(typeFactory);
         }
@@ -297,6 +420,35 @@ class OptiqPrepareImpl implements OptiqPrepare {
                 arguments);
         }
 
+        /** Optimizes in three phases: first applies the connection's
+         * heuristic rules, then hands the result to the cost-based
+         * planner, then rewrites the physical plan to exploit the sort order
+         * of operators' inputs. See {@link RuleSets}. */
+        @Override
+        protected RelNode optimize(
+            RelDataType logicalRowType,
+            RelNode rootRel)
+        {
+            final HepProgram program = RuleSets.heuristicProgram(properties);
+            if (program != null) {
+                final HepPlanner hepPlanner = new HepPlanner(program, true);
+                hepPlanner.setRoot(rootRel);
+                rootRel = hepPlanner.findBestExp();
+                if (timingTracer != null) {
+                    timingTracer.traceTime("end heuristic optimization");
+                }
+            }
+            rootRel = super.optimize(logicalRowType, rootRel);
+            final HepPlanner hepPlanner =
+                new HepPlanner(RuleSets.physicalProgram(), true);
+            hepPlanner.setRoot(rootRel);
+            rootRel = hepPlanner.findBestExp();
+            if (timingTracer != null) {
+                timingTracer.traceTime("end physical optimization");
+            }
+            return rootRel;
+        }
+
         @Override
         protected SqlToRelConverter getSqlToRelConverter(
             SqlValidator validator,
@@ -306,14 +458,30 @@ class OptiqPrepareImpl implements OptiqPrepare {
                 new SqlToRelConverter(
                     this, validator, catalogReader, env, planner, rexBuilder);
             sqlToRelConverter.setTrimUnusedFields(false);
+            if (queryConverter == null) {
+                queryConverter = sqlToRelConverter;
+            }
             return sqlToRelConverter;
         }
 
+        /** Returns the types of the dynamic parameters of the statement,
+         * as inferred by the validator. */
+        List<RelDataType> getParameterTypes() {
+            if (queryConverter == null) {
+                return Collections.emptyList();
+            }
+            final List<RelDataType> types = new ArrayList<RelDataType>();
+            for (int i = 0; i < queryConverter.getDynamicParamCount(); i++) {
+                types.add(queryConverter.getDynamicParamType(i));
+            }
+            return types;
+        }
+
         @Override
         protected EnumerableRelImplementor getRelImplementor(
             RexBuilder rexBuilder)
         {
-            return new EnumerableRelImplementor(rexBuilder);
+            return new EnumerableRelImplementor(rexBuilder, properties);
         }
 
         @Override
@@ -439,9 +607,16 @@ class OptiqPrepareImpl implements OptiqPrepare {
 
             final Executable executable;
             try {
-                executable = (Executable)
-                    ExpressionEvaluator.createFastScriptEvaluator(
-                        s, Executable.class, new String[]{root0.name});
+                // Generated code may refer to synthetic row classes, which
+                // only the type factory's class loader can see.
+                final JavaTypeFactory typeFactory =
+                    (JavaTypeFactory) rootRel.getCluster().getTypeFactory();
+                executable = this.executable = (Executable)
+                    ScriptEvaluator.createFastScriptEvaluator(
+                        new Scanner(null, new StringReader(s)),
+                        Executable.class,
+                        new String[]{root0.name},
+                        typeFactory.getClassLoader());
             } catch (Exception e) {
                 throw Helper.INSTANCE.wrap(
                     "Error while compiling generated Java code:\n" + s, e);
@@ -470,8 +645,10 @@ class OptiqPrepareImpl implements OptiqPrepare {
         }
     }
 
-    static class RelOptTableImpl
-        implements OJPreparingStmt.PreparingTable
+    /** Implementation of {@link RelOptTable} for a table or an expression
+     * in an Optiq schema. */
+    public static class RelOptTableImpl
+        implements OJPreparingStmt.PreparingTable, RelStatSourceProvider
     {
         private final RelOptSchema schema;
         private final RelDataType rowType;
@@ -513,9 +690,28 @@ class OptiqPrepareImpl implements OptiqPrepare {
         }
 
         public double getRowCount() {
+            if (table != null) {
+                final Double rowCount = table.getStatistic().getRowCount();
+                if (rowCount != null) {
+                    return rowCount;
+                }
+            }
             return 100;
         }
 
+        /** Returns the table in the Optiq schema, or null if this is an
+         * expression. */
+        public Table getTable() {
+            return table;
+        }
+
+        public RelStatSource getStatistics() {
+            if (table == null) {
+                return null;
+            }
+            return new RelStatSourceImpl(table.getStatistic());
+        }
+
         public RelOptSchema getRelOptSchema() {
             return schema;
         }
@@ -529,8 +725,13 @@ class OptiqPrepareImpl implements OptiqPrepare {
                 context.getCluster(), this, expression);
         }
 
+        /** Returns the orders in which the table's rows are sorted, as
+         * declared by its {@link Statistic}. */
         public List<RelCollation> getCollationList() {
-            return Collections.emptyList();
+            if (table == null) {
+                return Collections.emptyList();
+            }
+            return table.getStatistic().getCollations();
         }
 
         public RelDataType getRowType() {
@@ -541,7 +742,34 @@ class OptiqPrepareImpl implements OptiqPrepare {
             return names;
         }
 
+        /** Returns whether a column's values increase or decrease; they do
+         * if the column is the leading field of one of the table's
+         * collations. */
         public SqlMonotonicity getMonotonicity(String columnName) {
+            final RelDataTypeField field = rowType.getField(columnName);
+            if (field == null) {
+                return SqlMonotonicity.NotMonotonic;
+            }
+            for (RelCollation collation : getCollationList()) {
+                final List<RelFieldCollation> fieldCollations =
+                    collation.getFieldCollations();
+                if (fieldCollations.isEmpty()
+                    || fieldCollations.get(0).getFieldIndex()
+                    != field.getIndex())
+                {
+                    continue;
+                }
+                switch (fieldCollations.get(0).getDirection()) {
+                case StrictlyAscending:
+                    return SqlMonotonicity.StrictlyIncreasing;
+                case Ascending:
+                    return SqlMonotonicity.Increasing;
+                case StrictlyDescending:
+                    return SqlMonotonicity.StrictlyDecreasing;
+                case Descending:
+                    return SqlMonotonicity.Decreasing;
+                }
+            }
             return SqlMonotonicity.NotMonotonic;
         }
 
@@ -0,0 +1,237 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.prepare;
+
+import net.hydromatic.optiq.jdbc.OptiqPrepare;
+import net.hydromatic.optiq.runtime.Executable;
+
+import org.eigenbase.reltype.RelDataType;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of compiled statements, so that a statement that has been prepared
+ * before does not need to be parsed, validated, optimized and compiled again.
+ *
+ * <p>Entries are keyed on the normalized SQL text, and stamped with the
+ * {@link net.hydromatic.optiq.MutableSchema#getVersion() version} of the root
+ * schema at the time they were prepared. An entry whose stamp does not match
+ * the current version is discarded. When the cache is full, the least
+ * recently used entry is evicted.</p>
+ *
+ * <p>The cache is thread-safe.</p>
+ *
+ * @author jhyde
+ */
+public class PlanCache {
+    private final int capacity;
+    private final Map<String, Entry> map;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong compileNanos = new AtomicLong();
+
+    /**
+     * Creates a PlanCache.
+     *
+     * @param capacity Maximum number of entries; must be positive
+     */
+    public PlanCache(final int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                Map.Entry<String, Entry> eldest)
+            {
+                if (size() > capacity) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up a compiled statement.
+     *
+     * @param sql SQL text (need not be normalized)
+     * @param version Current version of the root schema
+     * @return Cached entry, or null if there is no valid entry
+     */
+    public Entry get(String sql, long version) {
+        final String key = normalize(sql);
+        synchronized (map) {
+            Entry entry = map.get(key);
+            if (entry != null && entry.version != version) {
+                map.remove(key);
+                invalidationCount.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.incrementAndGet();
+            } else {
+                hitCount.incrementAndGet();
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Adds a compiled statement to the cache.
+     *
+     * @param sql SQL text (need not be normalized)
+     * @param entry Compiled statement
+     * @param nanos Time taken to prepare the statement, in nanoseconds
+     */
+    public void put(String sql, Entry entry, long nanos) {
+        compileNanos.addAndGet(nanos);
+        final String key = normalize(sql);
+        synchronized (map) {
+            map.put(key, entry);
+        }
+    }
+
+    /** Removes all entries. Does not reset the counters. */
+    public void clear() {
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    /** Returns the number of entries currently in the cache. */
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    /** Returns the maximum number of entries. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Returns the number of lookups that found a valid entry. */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /** Returns the number of lookups that did not find a valid entry. */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /** Returns the number of entries evicted because the cache was full. */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /** Returns the number of entries discarded because the schema had
+     * changed since they were prepared. */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /** Returns the total time, in nanoseconds, spent preparing the
+     * statements that were added to this cache. */
+    public long getCompileNanos() {
+        return compileNanos.get();
+    }
+
+    /**
+     * Normalizes a SQL string for use as a cache key. Leading and trailing
+     * white space is removed, and each run of white space and comments
+     * outside quoted identifiers and character literals is replaced with a
+     * single space. (Comments are removed, not kept, because a
+     * "{@code --}" comment ends at a line break, which would otherwise be
+     * replaced with a space.)
+     *
+     * @param sql SQL text
+     * @return Normalized SQL text
+     */
+    public static String normalize(String sql) {
+        final StringBuilder buf = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            if (quote == 0 && Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (quote == 0 && sql.startsWith("--", i)) {
+                // Comment runs to the end of the line.
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end;
+                pendingSpace = true;
+                continue;
+            }
+            if (quote == 0 && sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 1;
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                if (buf.length() > 0) {
+                    buf.append(' ');
+                }
+                pendingSpace = false;
+            }
+            if (quote == 0) {
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+            } else if (c == quote) {
+                // A doubled quote is an escaped quote; it ends the quoted
+                // section and immediately starts another, which is harmless.
+                quote = 0;
+            }
+            buf.append(c);
+        }
+        return buf.toString();
+    }
+
+    /** Compiled statement, and the metadata required to execute it. */
+    public static class Entry {
+        public final Executable executable;
+        public final List<OptiqPrepare.ColumnMetaData> columnList;
+        public final List<RelDataType> parameterTypes;
+        public final long version;
+
+        public Entry(
+            Executable executable,
+            List<OptiqPrepare.ColumnMetaData> columnList,
+            List<RelDataType> parameterTypes,
+            long version)
+        {
+            this.executable = executable;
+            this.columnList = columnList;
+            this.parameterTypes = parameterTypes;
+            this.version = version;
+        }
+    }
+}
+
+// End PlanCache.java
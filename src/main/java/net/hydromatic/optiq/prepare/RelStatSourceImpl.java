@@ -0,0 +1,243 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.prepare;
+
+import net.hydromatic.optiq.ColumnStatistic;
+import net.hydromatic.optiq.Histogram;
+import net.hydromatic.optiq.Statistic;
+import net.hydromatic.optiq.Statistics;
+
+import org.eigenbase.rex.RexLiteral;
+import org.eigenbase.rex.RexNode;
+import org.eigenbase.sarg.SargEndpoint;
+import org.eigenbase.sarg.SargInterval;
+import org.eigenbase.sarg.SargIntervalSequence;
+import org.eigenbase.stat.RelStatColumnStatistics;
+import org.eigenbase.stat.RelStatSource;
+import org.eigenbase.util.NlsString;
+
+/**
+ * Implementation of {@link RelStatSource} that gets its information from the
+ * {@link Statistic} of an Optiq {@link net.hydromatic.optiq.Table}.
+ *
+ * <p>The selectivity of a range is estimated from the column's histogram if
+ * it has one, otherwise by assuming that numeric values are uniformly
+ * distributed between the column's minimum and maximum. The selectivity of a
+ * point is estimated from the number of distinct values.</p>
+ *
+ * @author jhyde
+ */
+class RelStatSourceImpl implements RelStatSource {
+    private final Statistic statistic;
+
+    RelStatSourceImpl(Statistic statistic) {
+        this.statistic = statistic;
+    }
+
+    public Double getRowCount() {
+        return statistic.getRowCount();
+    }
+
+    public RelStatColumnStatistics getColumnStatistics(
+        int ordinal,
+        final SargIntervalSequence predicate)
+    {
+        final ColumnStatistic column = statistic.getColumnStatistic(ordinal);
+        if (column == null) {
+            return null;
+        }
+        return new RelStatColumnStatistics() {
+            public Double getSelectivity() {
+                if (predicate == null) {
+                    return 1d;
+                }
+                return selectivity(column, predicate);
+            }
+
+            public Double getCardinality() {
+                final Double distinctCount = column.getDistinctCount();
+                if (distinctCount == null || predicate == null) {
+                    return distinctCount;
+                }
+                return cardinality(column, distinctCount, predicate);
+            }
+        };
+    }
+
+    /** Estimates the fraction of rows whose value is in any of the intervals
+     * of a sequence. Returns null if it cannot be estimated. */
+    private static Double selectivity(
+        ColumnStatistic column,
+        SargIntervalSequence predicate)
+    {
+        final Double nullFraction = column.getNullFraction();
+        final double nonNullFraction =
+            nullFraction == null ? 1d : 1d - nullFraction;
+        double selectivity = 0d;
+        for (SargInterval interval : predicate.getList()) {
+            if (includesNull(interval)) {
+                if (nullFraction == null) {
+                    return null;
+                }
+                selectivity += nullFraction;
+            }
+            if (interval.getUpperBound().isNull()) {
+                // Interval contains only null.
+                continue;
+            }
+            final Double fraction;
+            if (interval.isPoint()) {
+                final Double distinctCount = column.getDistinctCount();
+                fraction =
+                    distinctCount == null
+                        ? null
+                        : 1d / Math.max(1d, distinctCount);
+            } else {
+                fraction = rangeFraction(column, interval);
+            }
+            if (fraction == null) {
+                return null;
+            }
+            selectivity += nonNullFraction * fraction;
+        }
+        return Math.min(1d, selectivity);
+    }
+
+    /** Estimates the number of distinct values in any of the intervals of a
+     * sequence. Returns null if it cannot be estimated. */
+    private static Double cardinality(
+        ColumnStatistic column,
+        double distinctCount,
+        SargIntervalSequence predicate)
+    {
+        double cardinality = 0d;
+        for (SargInterval interval : predicate.getList()) {
+            if (interval.getUpperBound().isNull()) {
+                // Interval contains only null.
+                continue;
+            }
+            if (interval.isPoint()) {
+                cardinality += 1d;
+                continue;
+            }
+            final Double fraction = rangeFraction(column, interval);
+            if (fraction == null) {
+                return null;
+            }
+            cardinality += distinctCount * fraction;
+        }
+        return Math.min(distinctCount, cardinality);
+    }
+
+    /** Returns whether an interval includes the null value. Null collates
+     * before all other values, so a range with no lower bound includes
+     * null. */
+    private static boolean includesNull(SargInterval interval) {
+        final SargEndpoint lowerBound = interval.getLowerBound();
+        return !lowerBound.isFinite()
+            || lowerBound.isNull() && lowerBound.isClosed();
+    }
+
+    /** Estimates the fraction of non-null values that lie within a range.
+     * Returns null if it cannot be estimated. */
+    private static Double rangeFraction(
+        ColumnStatistic column,
+        SargInterval interval)
+    {
+        final SargEndpoint lowerBound = interval.getLowerBound();
+        final SargEndpoint upperBound = interval.getUpperBound();
+        final Double below;
+        if (!lowerBound.isFinite() || lowerBound.isNull()) {
+            below = 0d;
+        } else {
+            // Values below the range: those less than the lower bound, or
+            // equal to it if the bound is open.
+            below =
+                fractionBelow(
+                    column, lowerBound.getCoordinate(), lowerBound.isOpen());
+        }
+        final Double upTo;
+        if (!upperBound.isFinite()) {
+            upTo = 1d;
+        } else {
+            upTo =
+                fractionBelow(
+                    column, upperBound.getCoordinate(),
+                    upperBound.isClosed());
+        }
+        if (below == null || upTo == null) {
+            return null;
+        }
+        return Math.max(0d, upTo - below);
+    }
+
+    /** Estimates the fraction of non-null values that are less than (or, if
+     * {@code inclusive}, less than or equal to) a literal. Returns null if it
+     * cannot be estimated. */
+    private static Double fractionBelow(
+        ColumnStatistic column,
+        RexNode coordinate,
+        boolean inclusive)
+    {
+        if (!(coordinate instanceof RexLiteral)) {
+            // For example, a dynamic parameter.
+            return null;
+        }
+        Object o = ((RexLiteral) coordinate).getValue();
+        if (o instanceof NlsString) {
+            o = ((NlsString) o).getValue();
+        }
+        final Comparable value = Statistics.normalize(o);
+        if (value == null) {
+            return null;
+        }
+        final Histogram histogram = column.getHistogram();
+        if (histogram != null && histogram.isComparable(value)) {
+            return histogram.getFractionBelow(value, inclusive);
+        }
+        final Comparable min = column.getMin();
+        final Comparable max = column.getMax();
+        if (min == null
+            || max == null
+            || min.getClass() != value.getClass()
+            || max.getClass() != value.getClass())
+        {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        final int cMin = value.compareTo(min);
+        @SuppressWarnings("unchecked")
+        final int cMax = value.compareTo(max);
+        if (cMin < 0 || cMin == 0 && !inclusive) {
+            return 0d;
+        }
+        if (cMax > 0 || cMax == 0 && inclusive) {
+            return 1d;
+        }
+        if (value instanceof Number) {
+            final double lo = ((Number) min).doubleValue();
+            final double hi = ((Number) max).doubleValue();
+            final double v = ((Number) value).doubleValue();
+            return hi > lo ? (v - lo) / (hi - lo) : 0.5d;
+        }
+        // Value is between min and max, but we don't know where.
+        return null;
+    }
+}
+
+// End RelStatSourceImpl.java
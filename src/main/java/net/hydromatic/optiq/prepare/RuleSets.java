@@ -0,0 +1,232 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.prepare;
+
+import net.hydromatic.optiq.jdbc.ConnectionProperty;
+import net.hydromatic.optiq.rules.java.JavaRules;
+
+import org.eigenbase.rel.rules.*;
+import org.eigenbase.relopt.RelOptRule;
+import org.eigenbase.relopt.hep.HepMatchOrder;
+import org.eigenbase.relopt.hep.HepProgram;
+import org.eigenbase.relopt.hep.HepProgramBuilder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Sets of planner rules, and the programs that apply them, used when
+ * preparing a statement.
+ *
+ * <p>Optimization has three phases. First, a heuristic phase applies
+ * rewrites that are almost always beneficial, such as pushing filters and
+ * projections towards the scans; see {@link #heuristicProgram}. Then the
+ * cost-based planner chooses join orders and physical operators. Last, a
+ * physical phase uses the order of the rows produced by each operator to
+ * remove sorts and to choose merge joins and sorted aggregates; see
+ * {@link #physicalProgram}.</p>
+ *
+ * <p>The rules of each phase can be set per connection, by
+ * {@link ConnectionProperty#HEURISTIC_RULES} and
+ * {@link ConnectionProperty#VOLCANO_RULES}. The value of each property is a
+ * comma-separated list of rules. Each rule is either "default", meaning the
+ * phase's default rules, or the name of a class that extends
+ * {@link RelOptRule}, optionally followed by '#' and the name of a public
+ * static field that holds an instance; for example,
+ * "org.eigenbase.rel.rules.PushFilterPastJoinRule" (which uses the field
+ * {@code instance}) or
+ * "org.eigenbase.rel.rules.RemoveEmptyRule#unionInstance". A class without
+ * such a field must have a public constructor with no arguments.</p>
+ *
+ * @author jhyde
+ */
+public class RuleSets {
+    /** Maximum number of times the heuristic phase fires the rules of each
+     * group; guards against rules that undo each other. */
+    private static final int MATCH_LIMIT = 1000;
+
+    /** Rules that push filters towards the scans and merge them. */
+    public static final List<RelOptRule> FILTER_RULES =
+        Collections.unmodifiableList(
+            Arrays.<RelOptRule>asList(
+                PushFilterPastProjectRule.instance,
+                PushFilterPastJoinRule.instance,
+                PushFilterPastSetOpRule.instance,
+                MergeFilterRule.instance));
+
+    /** Rules that push projections towards the scans, and merge and remove
+     * them. */
+    public static final List<RelOptRule> PROJECT_RULES =
+        Collections.unmodifiableList(
+            Arrays.<RelOptRule>asList(
+                PushProjectPastFilterRule.instance,
+                PushProjectPastJoinRule.instance,
+                PushProjectPastSetOpRule.instance,
+                MergeProjectRule.instance,
+                RemoveTrivialProjectRule.instance));
+
+    /** Rules that flatten nested UNION ALLs and remove trivial ones. */
+    public static final List<RelOptRule> UNION_RULES =
+        Collections.unmodifiableList(
+            Arrays.<RelOptRule>asList(
+                CombineUnionsRule.instance,
+                UnionEliminatorRule.instance));
+
+    /** Rules that exploit the sort order of physical operators' inputs, as
+     * given by {@link org.eigenbase.rel.RelNode#getCollationList()}. */
+    public static final List<RelOptRule> COLLATION_RULES =
+        Collections.unmodifiableList(
+            Arrays.<RelOptRule>asList(
+                JavaRules.ENUMERABLE_SORT_REMOVE_RULE,
+                JavaRules.ENUMERABLE_MERGE_JOIN_RULE,
+                JavaRules.ENUMERABLE_SORTED_AGGREGATE_RULE));
+
+    private RuleSets() {
+    }
+
+    /**
+     * Creates the program for the heuristic phase, or returns null if the
+     * phase has no rules.
+     *
+     * <p>By default, the program runs three groups of rules in order: those
+     * that simplify unions, those that push filters, then those that push
+     * projections. Each group runs until none of its
+     * rules fire. If the connection specifies its own rules, they run as one
+     * group.</p>
+     *
+     * @param properties Connection properties
+     * @return Program, or null
+     */
+    public static HepProgram heuristicProgram(Properties properties) {
+        final String spec =
+            ConnectionProperty.HEURISTIC_RULES.getString(properties).trim();
+        final HepProgramBuilder builder = new HepProgramBuilder();
+        builder.addMatchLimit(MATCH_LIMIT);
+        if (spec.equals("default")) {
+            builder.addRuleCollection(UNION_RULES);
+            builder.addRuleCollection(FILTER_RULES);
+            builder.addRuleCollection(PROJECT_RULES);
+            return builder.createProgram();
+        }
+        final List<RelOptRule> rules = parse(spec, defaultHeuristicRules());
+        if (rules.isEmpty()) {
+            return null;
+        }
+        builder.addRuleCollection(rules);
+        return builder.createProgram();
+    }
+
+    /**
+     * Creates the program for the physical phase, which runs after the
+     * cost-based planner has produced a tree of physical operators.
+     *
+     * <p>The program applies {@link #COLLATION_RULES} from the leaves up,
+     * so that each operator sees the sort order of its inputs after they
+     * have been rewritten; for example, a join of two sorted tables becomes
+     * a merge join, whose output is sorted, and so an aggregate on top of
+     * it can become a sorted aggregate.</p>
+     *
+     * @return Program
+     */
+    public static HepProgram physicalProgram() {
+        final HepProgramBuilder builder = new HepProgramBuilder();
+        builder.addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addMatchLimit(MATCH_LIMIT);
+        builder.addRuleCollection(COLLATION_RULES);
+        return builder.createProgram();
+    }
+
+    /** Returns the rules that the connection adds to the cost-based phase,
+     * in addition to the rules that every statement needs. By default,
+     * none. */
+    public static List<RelOptRule> volcanoRules(Properties properties) {
+        return parse(
+            ConnectionProperty.VOLCANO_RULES.getString(properties),
+            Collections.<RelOptRule>emptyList());
+    }
+
+    /** Returns the default rules of the heuristic phase, as one list. */
+    public static List<RelOptRule> defaultHeuristicRules() {
+        final List<RelOptRule> list = new ArrayList<RelOptRule>();
+        list.addAll(UNION_RULES);
+        list.addAll(FILTER_RULES);
+        list.addAll(PROJECT_RULES);
+        return list;
+    }
+
+    /** Parses a comma-separated list of rules. */
+    static List<RelOptRule> parse(String spec, List<RelOptRule> defaults) {
+        final List<RelOptRule> rules = new ArrayList<RelOptRule>();
+        for (String name : spec.split(",")) {
+            name = name.trim();
+            if (name.length() == 0) {
+                continue;
+            }
+            if (name.equals("default")) {
+                rules.addAll(defaults);
+            } else {
+                rules.add(lookup(name));
+            }
+        }
+        return rules;
+    }
+
+    /** Finds a rule by class name and, optionally, field name. */
+    private static RelOptRule lookup(String name) {
+        final int hash = name.indexOf('#');
+        final String className = hash < 0 ? name : name.substring(0, hash);
+        final String fieldName =
+            hash < 0 ? "instance" : name.substring(hash + 1);
+        try {
+            final Class<?> clazz = Class.forName(className);
+            if (!RelOptRule.class.isAssignableFrom(clazz)) {
+                throw new RuntimeException(
+                    "Class " + className + " is not a planner rule");
+            }
+            Field field;
+            try {
+                field = clazz.getField(fieldName);
+            } catch (NoSuchFieldException e) {
+                if (hash >= 0) {
+                    throw new RuntimeException(
+                        "Rule class " + className + " has no field "
+                        + fieldName, e);
+                }
+                field = null;
+            }
+            if (field != null
+                && Modifier.isStatic(field.getModifiers())
+                && field.get(null) instanceof RelOptRule)
+            {
+                return (RelOptRule) field.get(null);
+            }
+            return (RelOptRule) clazz.newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Unknown planner rule " + name, e);
+        } catch (InstantiationException e) {
+            throw new RuntimeException(
+                "Cannot create planner rule " + name, e);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(
+                "Cannot create planner rule " + name, e);
+        }
+    }
+}
+
+// End RuleSets.java
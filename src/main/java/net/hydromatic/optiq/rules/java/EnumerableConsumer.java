@@ -0,0 +1,46 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.rules.java;
+
+import net.hydromatic.linq4j.expressions.Expression;
+import net.hydromatic.linq4j.expressions.Statement;
+
+import java.util.List;
+
+/**
+ * Generates code that processes the rows pushed to it by an
+ * {@link EnumerableProducer}.
+ *
+ * @author jhyde
+ */
+public interface EnumerableConsumer
+{
+    //~ Methods ----------------------------------------------------------------
+
+    /**
+     * Generates code that processes one row.
+     *
+     * @param list List to which to add statements
+     * @param fields Expression for each field of the row; each is a
+     *   variable, a constant, or a cheap expression without side effects,
+     *   so may be evaluated more than once
+     */
+    void consume(List<Statement> list, List<Expression> fields);
+}
+
+// End EnumerableConsumer.java
@@ -0,0 +1,64 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.rules.java;
+
+import net.hydromatic.linq4j.expressions.BlockBuilder;
+
+/**
+ * A relational expression of the
+ * {@link org.eigenbase.relopt.CallingConvention#ENUMERABLE} calling
+ * convention that can also generate code in push ("produce/consume") style.
+ *
+ * <p>In pull style, each relational expression returns an
+ * {@link net.hydromatic.linq4j.Enumerable}, and its parent reads the rows
+ * through {@link net.hydromatic.linq4j.Enumerator}; there are virtual calls
+ * and often a row object at every operator boundary. In push style, a chain
+ * of adjacent producers is generated as the body of a single loop over the
+ * rows of the chain's source. Each producer computes its fields into local
+ * variables and hands them to its consumer, which is either the next
+ * producer up the chain or a sink, such as an enumerator or a hash
+ * aggregate, that ends the pipeline.</p>
+ *
+ * <p>An input that is not a producer is the source of the pipeline, and is
+ * read in pull style; see
+ * {@link EnumerableRelImplementor#pipeline}.</p>
+ *
+ * @author jhyde
+ */
+public interface EnumerableProducer
+    extends EnumerableRel
+{
+    //~ Methods ----------------------------------------------------------------
+
+    /**
+     * Generates code that pushes each row of this relational expression to
+     * a consumer.
+     *
+     * @param implementor Implementor
+     * @param outer Builder for statements that are evaluated once, before
+     *   the pipeline's loop starts
+     * @param consumer Consumer of rows
+     * @return Pipeline whose loop contains the generated code
+     */
+    EnumerableRelImplementor.Pipeline produce(
+        EnumerableRelImplementor implementor,
+        BlockBuilder outer,
+        EnumerableConsumer consumer);
+}
+
+// End EnumerableProducer.java
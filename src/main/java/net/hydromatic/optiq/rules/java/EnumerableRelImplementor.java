@@ -17,16 +17,25 @@
 */
 package net.hydromatic.optiq.rules.java;
 
+import net.hydromatic.linq4j.Enumerable;
 import net.hydromatic.linq4j.Queryable;
 import net.hydromatic.linq4j.expressions.*;
+import net.hydromatic.linq4j.function.Function1;
+
+import net.hydromatic.optiq.BuiltinMethod;
+import net.hydromatic.optiq.DataContext;
+import net.hydromatic.optiq.jdbc.ConnectionProperty;
+import net.hydromatic.optiq.runtime.BoundDataContext;
 
 import org.eigenbase.rel.RelImplementorImpl;
 import org.eigenbase.rel.RelNode;
 import org.eigenbase.relopt.RelImplementor;
+import org.eigenbase.reltype.RelDataType;
 import org.eigenbase.rex.RexBuilder;
+import org.eigenbase.util.CancelFlag;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.lang.reflect.Modifier;
+import java.util.*;
 
 /**
  * Subclass of {@link RelImplementor} for relational operators
@@ -38,8 +47,42 @@ import java.util.Map;
 public class EnumerableRelImplementor extends RelImplementorImpl {
     public Map<String, Queryable> map = new LinkedHashMap<String, Queryable>();
 
-    public EnumerableRelImplementor(RexBuilder rexBuilder) {
+    /** Connection properties that affect the generated code. See
+     * {@link net.hydromatic.optiq.jdbc.ConnectionProperty}. */
+    public final Properties properties;
+
+    private EnumerableRel rootRel;
+
+    /** Whether to generate chains of {@link EnumerableProducer}s as
+     * push-mode pipelines. */
+    private final boolean fusePipelines;
+
+    /** Number of partitions into which parallel operators divide their
+     * work; 1 if execution is serial. */
+    private final int parallelism;
+
+    /** Expressions that replace the code for particular relational
+     * expressions; see {@link #partitions}. */
+    private final Map<EnumerableRel, Expression> substitutes =
+        new HashMap<EnumerableRel, Expression>();
+
+    /** Variable that holds the cancel flag of the execution; declared at the
+     * start of the generated code. See {@link #checkCancel()}. */
+    private final ParameterExpression cancelFlag =
+        Expressions.parameter(CancelFlag.class, "cancelFlag");
+
+    private int nameCount;
+
+    public EnumerableRelImplementor(
+        RexBuilder rexBuilder,
+        Properties properties)
+    {
         super(rexBuilder);
+        this.properties = properties;
+        this.fusePipelines =
+            ConnectionProperty.FUSE_PIPELINES.getBoolean(properties);
+        this.parallelism =
+            Math.max(1, ConnectionProperty.PARALLELISM.getInt(properties));
     }
 
     public BlockExpression visitChild(
@@ -51,11 +94,194 @@ public class EnumerableRelImplementor extends RelImplementorImpl {
     }
 
     public BlockExpression visitChildInternal(RelNode child, int ordinal) {
+        final Expression substitute = substitutes.get(child);
+        if (substitute != null) {
+            return Blocks.toBlock(substitute);
+        }
         return ((EnumerableRel) child).implement(this);
     }
 
+    /** Implements the root of a tree. The rows of the resulting enumerable
+     * are arrays (or scalars, if there is one column), even if the root
+     * relational expression produces synthetic rows.
+     *
+     * <p>The generated code starts by reading the execution's cancel flag
+     * from the data context, so that loops can poll it cheaply.</p> */
     public BlockExpression implementRoot(EnumerableRel rootRel) {
-        return rootRel.implement(this);
+        this.rootRel = rootRel;
+        final BlockBuilder list = new BlockBuilder();
+        list.add(
+            Expressions.declare(
+                Modifier.FINAL,
+                cancelFlag,
+                Expressions.convert_(
+                    Expressions.call(
+                        DataContext.ROOT,
+                        BuiltinMethod.DATA_CONTEXT_GET.method,
+                        Expressions.constant(BoundDataContext.CANCEL_FLAG)),
+                    CancelFlag.class)));
+        Expression rows = list.append("rows", rootRel.implement(this));
+        if (JavaRules.EnumUtil.isSynthetic(
+                JavaRules.EnumUtil.rowClass(this, rootRel)))
+        {
+            rows =
+                Expressions.call(
+                    BuiltinMethod.SYNTHETIC_ROWS_TO_ARRAYS.method, rows);
+        }
+        list.add(Expressions.return_(null, rows));
+        return list.toBlock();
+    }
+
+    /** Generates a statement that throws if the execution has been cancelled
+     * or has timed out. Loops over rows call it once per row. */
+    public Statement checkCancel() {
+        return Expressions.statement(
+            Expressions.call(
+                BuiltinMethod.CHECK_CANCEL.method, cancelFlag));
+    }
+
+    /** Returns whether a relational expression is the root of the tree being
+     * implemented; that is, whether its rows go straight to the consumer of
+     * the statement. */
+    public boolean isRoot(EnumerableRel rel) {
+        return rel == rootRel;
+    }
+
+    /** Returns whether a relational expression will generate code in push
+     * style when it is the input to a pipeline. */
+    public boolean canProduce(EnumerableRel rel) {
+        return fusePipelines && rel instanceof EnumerableProducer;
+    }
+
+    /** Returns a variable name, starting with a given prefix, that is
+     * unique within the generated program. */
+    public String newName(String prefix) {
+        return prefix + nameCount++;
+    }
+
+    /** Returns the number of partitions into which parallel operators
+     * should divide their work, or 1 if execution is serial. */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Generates code that computes the rows of a child relational expression
+     * as a list of partitions, for an operator that executes in parallel.
+     * See {@link net.hydromatic.optiq.runtime.Exchange}.
+     *
+     * <p>If the child is a scan of an in-memory array or list, possibly
+     * beneath a chain of calcs, the scan is split into ranges, and the code
+     * for the calcs is generated as a function that is applied to each
+     * range. Otherwise the child is implemented as usual, and forms a single
+     * partition.</p>
+     *
+     * @param parent Parent relational expression
+     * @param ordinal Ordinal of the child within its parent
+     * @param child Child relational expression
+     * @param list Builder to which to add declarations
+     * @return Expression for a list of enumerables, one per partition
+     */
+    public Expression partitions(
+        EnumerableRel parent,
+        int ordinal,
+        EnumerableRel child,
+        BlockBuilder list)
+    {
+        EnumerableRel scan = child;
+        while (scan instanceof JavaRules.EnumerableCalcRel) {
+            scan =
+                (EnumerableRel) ((JavaRules.EnumerableCalcRel) scan)
+                    .getChild();
+        }
+        final Expression collection =
+            scan instanceof JavaRules.EnumerableTableAccessRel
+                ? ((JavaRules.EnumerableTableAccessRel) scan)
+                    .getCollectionExpression()
+                : null;
+        if (collection == null) {
+            return list.append(
+                newName("partitions"),
+                Expressions.call(
+                    BuiltinMethod.EXCHANGE_SINGLE.method,
+                    list.append(
+                        newName("input"),
+                        visitChild(parent, ordinal, child))));
+        }
+        final Expression ranges =
+            Expressions.call(
+                BuiltinMethod.EXCHANGE_SPLIT.method,
+                collection,
+                Expressions.constant(parallelism));
+        if (scan == child) {
+            return list.append(newName("partitions"), ranges);
+        }
+        // final List partitions3 = Exchange.map(
+        //     Exchange.split(root.getTarget().emps, 4),
+        //     new Function1<Enumerable, Enumerable>() {
+        //         public Enumerable apply(Enumerable partition2) {
+        //             <<child impl, reading partition2 instead of the scan>>
+        //         }
+        //     });
+        final ParameterExpression partition =
+            Expressions.parameter(Enumerable.class, newName("partition"));
+        final BlockExpression block;
+        substitutes.put(scan, partition);
+        try {
+            block = visitChild(parent, ordinal, child);
+        } finally {
+            substitutes.remove(scan);
+        }
+        return list.append(
+            newName("partitions"),
+            Expressions.call(
+                BuiltinMethod.EXCHANGE_MAP.method,
+                ranges,
+                Expressions.lambda(Function1.class, block, partition)));
+    }
+
+    /**
+     * Generates code that pushes the rows of a child relational expression
+     * to a consumer.
+     *
+     * <p>If the child can produce (see {@link #canProduce}), it generates
+     * code for itself, and recursively for its inputs, into the body of the
+     * pipeline's loop. Otherwise the child is the source of the pipeline: it
+     * is implemented in pull style, and the loop reads its rows through an
+     * enumerator.</p>
+     *
+     * @param parent Parent relational expression
+     * @param ordinal Ordinal of the child within its parent
+     * @param child Child relational expression
+     * @param outer Builder for statements that are evaluated once, before
+     *   the loop starts
+     * @param consumer Consumer of the child's rows
+     * @return Pipeline
+     */
+    public Pipeline pipeline(
+        EnumerableRel parent,
+        int ordinal,
+        EnumerableRel child,
+        BlockBuilder outer,
+        EnumerableConsumer consumer)
+    {
+        if (canProduce(child)) {
+            return ((EnumerableProducer) child).produce(this, outer, consumer);
+        }
+        final Expression source =
+            outer.append(newName("source"), visitChild(parent, ordinal, child));
+        final ParameterExpression row =
+            Expressions.parameter(
+                JavaRules.EnumUtil.rowClass(this, child), newName("row"));
+        final RelDataType rowType = child.getRowType();
+        final List<Expression> fields = new ArrayList<Expression>();
+        for (int i = 0; i < rowType.getFieldCount(); i++) {
+            fields.add(
+                JavaRules.EnumUtil.inputFieldReference(rowType, row, i));
+        }
+        final List<Statement> body = Expressions.list();
+        consumer.consume(body, fields);
+        return new Pipeline(source, row, body, checkCancel());
     }
 
     public Expression register(Queryable queryable) {
@@ -63,6 +289,64 @@ public class EnumerableRelImplementor extends RelImplementorImpl {
         map.put(name, queryable);
         return Expressions.variable(queryable.getClass(), name);
     }
+
+    /** Code for a pipeline: the body of a loop over the rows of the
+     * pipeline's source. See {@link EnumerableProducer}. */
+    public static class Pipeline {
+        /** Expression for the source's enumerable. It is declared before
+         * the loop, so may be referenced from nested classes. */
+        public final Expression source;
+
+        /** Variable that holds the current row of the source. */
+        public final ParameterExpression row;
+
+        /** Statements that process the current row. */
+        public final List<Statement> body;
+
+        /** Statement that polls the execution's cancel flag; see
+         * {@link EnumerableRelImplementor#checkCancel()}. */
+        public final Statement checkCancel;
+
+        public Pipeline(
+            Expression source,
+            ParameterExpression row,
+            List<Statement> body,
+            Statement checkCancel)
+        {
+            this.source = source;
+            this.row = row;
+            this.body = body;
+            this.checkCancel = checkCancel;
+        }
+
+        /** Generates an expression that creates an enumerator over the
+         * source. */
+        public Expression enumerator() {
+            return Expressions.call(
+                source, BuiltinMethod.ENUMERABLE_ENUMERATOR.method);
+        }
+
+        /** Generates a loop that reads each row of the source from an
+         * enumerator and executes the body. */
+        public Statement loop(Expression enumerator) {
+            final List<Statement> statements = Expressions.list();
+            statements.add(checkCancel);
+            statements.add(
+                Expressions.declare(
+                    Modifier.FINAL,
+                    row,
+                    Expressions.convert_(
+                        Expressions.call(
+                            enumerator,
+                            BuiltinMethod.ENUMERATOR_CURRENT.method),
+                        row.getType())));
+            statements.addAll(body);
+            return Expressions.while_(
+                Expressions.call(
+                    enumerator, BuiltinMethod.ENUMERATOR_MOVE_NEXT.method),
+                Expressions.block(statements));
+        }
+    }
 }
 
 // End EnumerableRelImplementor.java
@@ -18,8 +18,16 @@
 package net.hydromatic.optiq.rules.java;
 
 import net.hydromatic.optiq.BuiltinMethod;
+import net.hydromatic.optiq.Table;
+import net.hydromatic.optiq.impl.java.ColumnarTable;
+import net.hydromatic.optiq.impl.java.IndexedTable;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
+import net.hydromatic.optiq.jdbc.ConnectionProperty;
+import net.hydromatic.optiq.prepare.OptiqPrepareImpl;
+import net.hydromatic.optiq.runtime.Aggregator;
 import net.hydromatic.optiq.runtime.ArrayComparator;
+import net.hydromatic.optiq.runtime.HashAggregate;
+import net.hydromatic.optiq.runtime.SyntheticRow;
 
 import net.hydromatic.linq4j.*;
 import net.hydromatic.linq4j.expressions.*;
@@ -28,14 +36,21 @@ import net.hydromatic.linq4j.function.*;
 
 import org.eigenbase.rel.*;
 import org.eigenbase.rel.convert.ConverterRule;
+import org.eigenbase.rel.metadata.RelMdUtil;
 import org.eigenbase.rel.metadata.RelMetadataQuery;
 import org.eigenbase.relopt.*;
 import org.eigenbase.reltype.RelDataType;
 import org.eigenbase.reltype.RelDataTypeField;
+import org.eigenbase.rex.RexBuilder;
+import org.eigenbase.rex.RexInputRef;
+import org.eigenbase.rex.RexLiteral;
 import org.eigenbase.rex.RexMultisetUtil;
 import org.eigenbase.rex.RexNode;
 import org.eigenbase.rex.RexProgram;
+import org.eigenbase.rex.RexProgramBuilder;
+import org.eigenbase.sarg.*;
 import org.eigenbase.sql.fun.SqlStdOperatorTable;
+import org.eigenbase.sql.type.SqlTypeName;
 import org.eigenbase.util.Util;
 
 import java.lang.reflect.*;
@@ -148,42 +163,97 @@ public class JavaRules {
                     condition,
                     leftKeys,
                     rightKeys);
-            assert remaining.isAlwaysTrue()
-                : "EnumerableJoin is equi only"; // TODO: stricter pre-check
             final JavaTypeFactory typeFactory =
                 (JavaTypeFactory) left.getCluster().getTypeFactory();
             BlockBuilder list = new BlockBuilder();
-            Expression leftExpression =
-                list.append(
-                    "left",
-                    implementor.visitChild(this, 0, (EnumerableRel) left));
-            Expression rightExpression =
-                list.append(
-                    "right",
-                    implementor.visitChild(this, 1, (EnumerableRel) right));
-            return list.append(
-                Expressions.call(
-                    leftExpression,
-                    BuiltinMethod.JOIN.method,
-                    rightExpression,
-                    EnumUtil.generateAccessor(
-                        typeFactory, left.getRowType(), leftKeys, false),
-                    EnumUtil.generateAccessor(
-                        typeFactory, right.getRowType(), rightKeys, false),
-                    generateSelector(typeFactory)))
+            final int parallelism = implementor.getParallelism();
+            final Expression leftExpression;
+            final Expression rightExpression;
+            if (parallelism > 1) {
+                // Partitions of each input are read in parallel, and
+                // redistributed by join key; see Exchange.join.
+                leftExpression =
+                    implementor.partitions(
+                        this, 0, (EnumerableRel) left, list);
+                rightExpression =
+                    implementor.partitions(
+                        this, 1, (EnumerableRel) right, list);
+            } else {
+                leftExpression =
+                    list.append(
+                        "left",
+                        implementor.visitChild(
+                            this, 0, (EnumerableRel) left));
+                rightExpression =
+                    list.append(
+                        "right",
+                        implementor.visitChild(
+                            this, 1, (EnumerableRel) right));
+            }
+            final List<Class> inputClasses =
+                Arrays.asList(
+                    EnumUtil.rowClass(implementor, left),
+                    EnumUtil.rowClass(implementor, right));
+            final Class outputClass = EnumUtil.rowClass(implementor, this);
+            final List<Expression> arguments =
+                new ArrayList<Expression>(
+                    Arrays.<Expression>asList(
+                        leftExpression,
+                        rightExpression,
+                        EnumUtil.generateKeyAccessor(
+                            inputClasses.get(0), left.getRowType(), leftKeys),
+                        EnumUtil.generateKeyAccessor(
+                            inputClasses.get(1), right.getRowType(),
+                            rightKeys),
+                        generateSelector(
+                            inputClasses, outputClass, true, true),
+                        generatePredicate(
+                            typeFactory, inputClasses, remaining),
+                        joinType.generatesNullsOnRight()
+                            ? generateSelector(
+                                inputClasses, outputClass, true, false)
+                            : Expressions.constant(null),
+                        joinType.generatesNullsOnLeft()
+                            ? generateSelector(
+                                inputClasses, outputClass, false, true)
+                            : Expressions.constant(null),
+                        Expressions.constant(buildLeft())));
+            final Method joinMethod;
+            if (parallelism > 1) {
+                arguments.add(Expressions.constant(parallelism));
+                joinMethod = BuiltinMethod.EXCHANGE_JOIN.method;
+            } else {
+                joinMethod = BuiltinMethod.HASH_JOIN.method;
+            }
+            return list.append(Expressions.call(joinMethod, arguments))
                 .toBlock();
         }
 
-        Expression generateSelector(JavaTypeFactory typeFactory) {
-            // A parameter for each input.
+        /** Returns whether the hash table should be built from the left
+         * input. We build from the input that is expected to be smaller. */
+        private boolean buildLeft() {
+            final Double leftRowCount = RelMetadataQuery.getRowCount(left);
+            final Double rightRowCount = RelMetadataQuery.getRowCount(right);
+            return leftRowCount != null
+                && rightRowCount != null
+                && leftRowCount < rightRowCount;
+        }
+
+        /**
+         * Generates a function that creates an output row from a left row
+         * and a right row. If one of the inputs is not present, generates a
+         * function of one argument that fills that input's fields with
+         * nulls; this is used for outer joins.
+         */
+        Expression generateSelector(
+            List<Class> inputClasses,
+            Class outputClass,
+            boolean includeLeft,
+            boolean includeRight)
+        {
+            // A parameter for each input that is present.
             final List<ParameterExpression> parameters =
-                Arrays.asList(
-                    Expressions.parameter(
-                        EnumUtil.javaRowClass(typeFactory, left.getRowType()),
-                        "left"),
-                    Expressions.parameter(
-                        EnumUtil.javaRowClass(typeFactory, right.getRowType()),
-                        "right"));
+                new ArrayList<ParameterExpression>();
 
             // Generate all fields.
             final List<Expression> expressions =
@@ -191,18 +261,373 @@ public class JavaRules {
             int i = 0;
             for (RelNode rel : getInputs()) {
                 RelDataType inputRowType = rel.getRowType();
-                final ParameterExpression parameter = parameters.get(i++);
-                for (RelDataTypeField field : inputRowType.getFields()) {
-                    expressions.add(EnumUtil.fieldReference(parameter, field));
+                final boolean include = i++ == 0 ? includeLeft : includeRight;
+                if (!include) {
+                    for (int j = 0; j < inputRowType.getFieldCount(); j++) {
+                        expressions.add(Expressions.constant(null));
+                    }
+                    continue;
+                }
+                final ParameterExpression parameter =
+                    Expressions.parameter(
+                        inputClasses.get(i - 1),
+                        i == 1 ? "left" : "right");
+                parameters.add(parameter);
+                for (int j = 0; j < inputRowType.getFieldCount(); j++) {
+                    expressions.add(
+                        EnumUtil.inputFieldReference(
+                            inputRowType, parameter, j));
                 }
             }
             return Expressions.lambda(
-                Function2.class,
-                Expressions.newArrayInit(
-                    Object.class,
-                    expressions),
+                parameters.size() == 2 ? Function2.class : Function1.class,
+                EnumUtil.newRow(outputClass, expressions),
                 parameters);
         }
+
+        /** Generates a predicate that evaluates the non-equi part of the join
+         * condition on a pair of rows, or a null constant if the condition
+         * has no non-equi part. */
+        Expression generatePredicate(
+            JavaTypeFactory typeFactory,
+            List<Class> inputClasses,
+            RexNode remaining)
+        {
+            if (remaining.isAlwaysTrue()) {
+                return Expressions.constant(null);
+            }
+            final List<RelDataType> inputRowTypes =
+                Arrays.asList(left.getRowType(), right.getRowType());
+            final RexProgramBuilder programBuilder =
+                new RexProgramBuilder(
+                    JoinRelBase.createJoinType(
+                        typeFactory,
+                        left.getRowType(),
+                        right.getRowType(),
+                        null,
+                        Collections.<RelDataTypeField>emptyList()),
+                    getCluster().getRexBuilder());
+            programBuilder.addCondition(remaining);
+            final RexProgram program = programBuilder.getProgram(false);
+            final List<ParameterExpression> parameters =
+                Arrays.asList(
+                    Expressions.parameter(inputClasses.get(0), "left"),
+                    Expressions.parameter(inputClasses.get(1), "right"));
+            final List<Statement> list = Expressions.list();
+            Expression condition =
+                RexToLixTranslator.translateCondition(
+                    new ArrayList<Expression>(parameters),
+                    inputRowTypes,
+                    program,
+                    typeFactory,
+                    list);
+            list.add(Expressions.return_(null, condition));
+            return Expressions.lambda(
+                Predicate2.class,
+                Expressions.block(list),
+                parameters);
+        }
+    }
+
+    public static final RelOptRule ENUMERABLE_MERGE_JOIN_RULE =
+        new EnumerableMergeJoinRule();
+
+    /**
+     * Rule that converts an
+     * {@link net.hydromatic.optiq.rules.java.JavaRules.EnumerableJoinRel} to
+     * an {@link EnumerableMergeJoinRel} if both of its inputs are sorted on
+     * the join keys.
+     *
+     * <p>Applies to inner and left outer joins with at least one equi-join
+     * key. The leading fields of one of the left input's collations must be
+     * the left keys, in any order, and the right input must be sorted the
+     * same way on the corresponding right keys. Each pair of keys must have
+     * the same type, so that they can be compared.</p>
+     */
+    private static class EnumerableMergeJoinRule extends RelOptRule {
+        private EnumerableMergeJoinRule() {
+            super(
+                new RelOptRuleOperand(EnumerableJoinRel.class, ANY),
+                "EnumerableMergeJoinRule");
+        }
+
+        public void onMatch(RelOptRuleCall call) {
+            final EnumerableJoinRel join = (EnumerableJoinRel) call.rels[0];
+            if (join instanceof EnumerableMergeJoinRel) {
+                return;
+            }
+            switch (join.getJoinType()) {
+            case INNER:
+            case LEFT:
+                break;
+            default:
+                return;
+            }
+            final List<Integer> leftKeys = new ArrayList<Integer>();
+            final List<Integer> rightKeys = new ArrayList<Integer>();
+            RelOptUtil.splitJoinCondition(
+                join.getLeft(),
+                join.getRight(),
+                join.getCondition(),
+                leftKeys,
+                rightKeys);
+            if (leftKeys.isEmpty()
+                || new HashSet<Integer>(leftKeys).size() != leftKeys.size())
+            {
+                return;
+            }
+            final List<RelDataTypeField> leftFields =
+                join.getLeft().getRowType().getFieldList();
+            final List<RelDataTypeField> rightFields =
+                join.getRight().getRowType().getFieldList();
+            for (int i = 0; i < leftKeys.size(); i++) {
+                final SqlTypeName typeName =
+                    leftFields.get(leftKeys.get(i)).getType().getSqlTypeName();
+                if (typeName == null
+                    || typeName != rightFields.get(rightKeys.get(i)).getType()
+                        .getSqlTypeName())
+                {
+                    return;
+                }
+            }
+            for (RelCollation collation
+                : join.getLeft().getCollationList())
+            {
+                final List<RelFieldCollation> fieldCollations =
+                    collation.getFieldCollations();
+                if (fieldCollations.size() < leftKeys.size()) {
+                    continue;
+                }
+                // Put the keys in the order of the collation, and compute
+                // the order that the right input must have.
+                final List<RelFieldCollation> leftCollations =
+                    fieldCollations.subList(0, leftKeys.size());
+                final List<Integer> sortedLeftKeys = new ArrayList<Integer>();
+                final List<Integer> sortedRightKeys =
+                    new ArrayList<Integer>();
+                final List<RelFieldCollation> rightCollations =
+                    new ArrayList<RelFieldCollation>();
+                for (RelFieldCollation fieldCollation : leftCollations) {
+                    final int i =
+                        leftKeys.indexOf(fieldCollation.getFieldIndex());
+                    if (i < 0
+                        || fieldCollation.getDirection()
+                        == RelFieldCollation.Direction.Clustered)
+                    {
+                        break;
+                    }
+                    sortedLeftKeys.add(leftKeys.get(i));
+                    sortedRightKeys.add(rightKeys.get(i));
+                    rightCollations.add(
+                        fieldCollation.copy(rightKeys.get(i)));
+                }
+                if (sortedLeftKeys.size() == leftKeys.size()
+                    && isSorted(join.getRight(), rightCollations))
+                {
+                    call.transformTo(
+                        new EnumerableMergeJoinRel(
+                            join.getCluster(),
+                            join.getTraitSet(),
+                            join.getLeft(),
+                            join.getRight(),
+                            join.getCondition(),
+                            join.getJoinType(),
+                            join.getVariablesStopped(),
+                            leftCollations,
+                            sortedLeftKeys,
+                            sortedRightKeys));
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Implementation of {@link JoinRelBase} in
+     * {@link CallingConvention#ENUMERABLE enumerable calling convention} that
+     * merges two inputs sorted on the join keys.
+     *
+     * <p>Created by {@link #ENUMERABLE_MERGE_JOIN_RULE}, after the
+     * cost-based planner has chosen the inputs. Unlike a hash join, it does
+     * not read either input into memory, and its output is sorted in the
+     * same order as its left input.</p> */
+    public static class EnumerableMergeJoinRel extends EnumerableJoinRel {
+        /** Sort order of the left input on {@link #leftKeys}. */
+        private final List<RelFieldCollation> collations;
+        private final List<Integer> leftKeys;
+        private final List<Integer> rightKeys;
+
+        protected EnumerableMergeJoinRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode left,
+            RelNode right,
+            RexNode condition,
+            JoinRelType joinType,
+            Set<String> variablesStopped,
+            List<RelFieldCollation> collations,
+            List<Integer> leftKeys,
+            List<Integer> rightKeys)
+        {
+            super(
+                cluster,
+                traits,
+                left,
+                right,
+                condition,
+                joinType,
+                variablesStopped);
+            assert collations.size() == leftKeys.size();
+            assert leftKeys.size() == rightKeys.size();
+            this.collations = collations;
+            this.leftKeys = leftKeys;
+            this.rightKeys = rightKeys;
+        }
+
+        @Override
+        public EnumerableMergeJoinRel copy(
+            RelTraitSet traitSet,
+            RexNode conditionExpr,
+            RelNode left,
+            RelNode right)
+        {
+            return new EnumerableMergeJoinRel(
+                getCluster(),
+                traitSet,
+                left,
+                right,
+                conditionExpr,
+                joinType,
+                variablesStopped,
+                collations,
+                leftKeys,
+                rightKeys);
+        }
+
+        @Override
+        public List<RelCollation> getCollationList() {
+            return left.getCollationList();
+        }
+
+        @Override
+        public BlockExpression implement(EnumerableRelImplementor implementor) {
+            final RexNode remaining =
+                RelOptUtil.splitJoinCondition(
+                    left,
+                    right,
+                    condition,
+                    new ArrayList<Integer>(),
+                    new ArrayList<Integer>());
+            final JavaTypeFactory typeFactory =
+                (JavaTypeFactory) left.getCluster().getTypeFactory();
+            final BlockBuilder list = new BlockBuilder();
+            final Expression leftExpression =
+                list.append(
+                    "left",
+                    implementor.visitChild(this, 0, (EnumerableRel) left));
+            final Expression rightExpression =
+                list.append(
+                    "right",
+                    implementor.visitChild(this, 1, (EnumerableRel) right));
+            final List<Class> inputClasses =
+                Arrays.asList(
+                    EnumUtil.rowClass(implementor, left),
+                    EnumUtil.rowClass(implementor, right));
+            final Class outputClass = EnumUtil.rowClass(implementor, this);
+            return list.append(
+                Expressions.call(
+                    BuiltinMethod.MERGE_JOIN.method,
+                    Arrays.asList(
+                        leftExpression,
+                        rightExpression,
+                        keySelector(
+                            inputClasses.get(0), left.getRowType(), leftKeys),
+                        keySelector(
+                            inputClasses.get(1), right.getRowType(),
+                            rightKeys),
+                        EnumUtil.generateComparator(collations),
+                        generateSelector(
+                            inputClasses, outputClass, true, true),
+                        generatePredicate(
+                            typeFactory, inputClasses, remaining),
+                        joinType.generatesNullsOnRight()
+                            ? generateSelector(
+                                inputClasses, outputClass, true, false)
+                            : Expressions.constant(null))))
+                .toBlock();
+        }
+
+        /** Generates a function that returns the key of a row: the value
+         * if there is one key field, otherwise an {@code Object[]}, which
+         * can be compared using an {@link ArrayComparator}. */
+        private static Expression keySelector(
+            Class rowClass,
+            RelDataType rowType,
+            List<Integer> fields)
+        {
+            final ParameterExpression v1 =
+                Expressions.parameter(rowClass, "v1");
+            final List<Expression> expressions = Expressions.list();
+            for (int field : fields) {
+                expressions.add(
+                    EnumUtil.convert(
+                        EnumUtil.inputFieldReference(rowType, v1, field),
+                        Object.class));
+            }
+            return Expressions.lambda(
+                Function1.class,
+                expressions.size() == 1
+                    ? expressions.get(0)
+                    : Expressions.newArrayInit(Object.class, expressions),
+                v1);
+        }
+    }
+
+    /** Returns whether a relational expression's rows are sorted on the given
+     * fields (and possibly more). A field sorted strictly ascending satisfies
+     * a requirement to be sorted ascending, and similarly for descending. */
+    static boolean isSorted(
+        RelNode rel,
+        List<RelFieldCollation> requiredCollations)
+    {
+        for (RelCollation collation : rel.getCollationList()) {
+            final List<RelFieldCollation> fieldCollations =
+                collation.getFieldCollations();
+            if (fieldCollations.size() < requiredCollations.size()) {
+                continue;
+            }
+            int i = 0;
+            while (i < requiredCollations.size()
+                && satisfies(requiredCollations.get(i), fieldCollations.get(i)))
+            {
+                ++i;
+            }
+            if (i == requiredCollations.size()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean satisfies(
+        RelFieldCollation required,
+        RelFieldCollation actual)
+    {
+        if (required.getFieldIndex() != actual.getFieldIndex()
+            || required.nullsFirst() != actual.nullsFirst())
+        {
+            return false;
+        }
+        final RelFieldCollation.Direction direction = actual.getDirection();
+        switch (required.getDirection()) {
+        case Ascending:
+            return direction == RelFieldCollation.Direction.Ascending
+                || direction == RelFieldCollation.Direction.StrictlyAscending;
+        case Descending:
+            return direction == RelFieldCollation.Direction.Descending
+                || direction == RelFieldCollation.Direction.StrictlyDescending;
+        default:
+            return direction == required.getDirection();
+        }
     }
 
     /**
@@ -211,6 +636,11 @@ public class JavaRules {
      */
     public static class EnumUtil
     {
+        private static final List<Class> PRIMITIVES =
+            Arrays.<Class>asList(
+                Boolean.TYPE, Byte.TYPE, Character.TYPE, Short.TYPE,
+                Integer.TYPE, Long.TYPE, Float.TYPE, Double.TYPE);
+
         /** Declares a method that overrides another method. */
         static MethodDeclaration overridingMethodDecl(
             Method method,
@@ -225,33 +655,94 @@ public class JavaRules {
                 body);
         }
 
-        static Expression generateAccessor(
-            JavaTypeFactory typeFactory,
+        /** Generates an expression for a comparator that compares keys
+         * in the order of a list of collations: values if there is one
+         * collation, otherwise arrays. */
+        static Expression generateComparator(
+            List<RelFieldCollation> collations)
+        {
+            if (collations.size() == 1) {
+                RelFieldCollation collation = collations.get(0);
+                return Expressions.call(
+                    BuiltinMethod.COMPARATOR.method,
+                    Expressions.constant(descending(collation)),
+                    Expressions.constant(collation.nullsFirst()));
+            }
+            List<Expression> directions = Expressions.list();
+            List<Expression> nullDirections = Expressions.list();
+            for (RelFieldCollation collation : collations) {
+                directions.add(
+                    Expressions.constant(descending(collation)));
+                nullDirections.add(
+                    Expressions.constant(collation.nullsFirst()));
+            }
+            return Expressions.new_(
+                ArrayComparator.class,
+                Arrays.<Expression>asList(
+                    Expressions.newArrayInit(
+                        Boolean.TYPE,
+                        directions),
+                    Expressions.newArrayInit(
+                        Boolean.TYPE,
+                        nullDirections)));
+        }
+
+        private static boolean descending(RelFieldCollation collation) {
+            switch (collation.getDirection()) {
+            case Descending:
+            case StrictlyDescending:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        /**
+         * Generates a function that computes the key of a row for a hash
+         * join or hash aggregation. A key of one field is the field value;
+         * a key of several fields is a
+         * {@link net.hydromatic.optiq.runtime.CompositeKey}. If
+         * there are no key fields, returns a null constant, which the
+         * runtime treats as a key that is the same for every row.
+         */
+        static Expression generateKeyAccessor(
+            Class rowClass,
             RelDataType rowType,
-            List<Integer> fields,
-            boolean primitive)
+            List<Integer> fields)
         {
-            assert fields.size() == 1
-                : "composite keys not implemented yet";
-            int field = fields.get(0);
-
-            // new Function1<Employee, Res> {
-            //    public Res apply(Employee v1) {
-            //        return v1.<fieldN>;
-            //    }
-            // }
-            ParameterExpression v1 =
-                Expressions.parameter(javaRowClass(typeFactory, rowType), "v1");
-            Class returnType =
-                javaRowClass(
-                    typeFactory, rowType.getFieldList().get(field).getType());
-            Expression fieldReference =
-                Types.castIfNecessary(returnType, fieldReference(v1, field));
+            if (fields.isEmpty()) {
+                return Expressions.constant(null);
+            }
+            ParameterExpression v1 = Expressions.parameter(rowClass, "v1");
+            final List<Expression> expressions = Expressions.list();
+            for (int field : fields) {
+                expressions.add(
+                    convert(
+                        inputFieldReference(rowType, v1, field),
+                        Object.class));
+            }
+            final Method method;
+            switch (fields.size()) {
+            case 1:
+                return Expressions.lambda(
+                    Function1.class, expressions.get(0), v1);
+            case 2:
+                method = BuiltinMethod.COMPOSITE_KEY2.method;
+                break;
+            case 3:
+                method = BuiltinMethod.COMPOSITE_KEY3.method;
+                break;
+            default:
+                return Expressions.lambda(
+                    Function1.class,
+                    Expressions.call(
+                        BuiltinMethod.COMPOSITE_KEY.method,
+                        Expressions.newArrayInit(Object.class, expressions)),
+                    v1);
+            }
             return Expressions.lambda(
-                primitive
-                    ? Functions.functionClass(returnType)
-                    : Function1.class,
-                fieldReference,
+                Function1.class,
+                Expressions.call(method, expressions),
                 v1);
         }
 
@@ -272,6 +763,148 @@ public class JavaRules {
             return clazz instanceof Class ? (Class) clazz : Object[].class;
         }
 
+        /**
+         * Returns the Java class of the rows produced by the implementation
+         * of a relational expression.
+         *
+         * <p>A calc or join with more than one field produces instances of a
+         * synthetic row class (see {@link JavaTypeFactory#getRowClass}),
+         * unless it is the root, whose rows go to the consumer as arrays.
+         * A set operation always produces synthetic rows, because it relies
+         * on their value semantics. A sort produces rows of the same class as
+         * its input. Other relational expressions produce arrays, or objects
+         * of the row type's Java class.</p>
+         */
+        static Class rowClass(
+            EnumerableRelImplementor implementor,
+            RelNode rel)
+        {
+            if (rel instanceof EnumerableSortRel) {
+                return rowClass(
+                    implementor, ((EnumerableSortRel) rel).getChild());
+            }
+            final JavaTypeFactory typeFactory =
+                (JavaTypeFactory) rel.getCluster().getTypeFactory();
+            final RelDataType rowType = rel.getRowType();
+            if (rowType.getFieldCount() > 1
+                && !(typeFactory.getJavaClass(rowType) instanceof Class)
+                && (rel instanceof SetOpRel
+                    || (rel instanceof EnumerableCalcRel
+                        || rel instanceof EnumerableJoinRel)
+                    && !implementor.isRoot((EnumerableRel) rel)))
+            {
+                return typeFactory.getRowClass(rowType);
+            }
+            return javaRowClass(typeFactory, rowType);
+        }
+
+        /** Returns the Java class in which generated code holds a value of
+         * a given type: a primitive if the type is NOT NULL and has a
+         * primitive representation, otherwise a reference. */
+        static Class fieldClass(JavaTypeFactory typeFactory, RelDataType type) {
+            final Type javaType = typeFactory.getJavaClass(type);
+            if (!(javaType instanceof Class)) {
+                return javaType == null ? Object.class : Object[].class;
+            }
+            final Class clazz = (Class) javaType;
+            if (type.isNullable()) {
+                return (Class) Types.box(clazz);
+            }
+            for (Class primitive : PRIMITIVES) {
+                if (Types.box(primitive) == clazz) {
+                    return primitive;
+                }
+            }
+            return clazz;
+        }
+
+        /** Returns whether a type is a synthetic row class. */
+        static boolean isSynthetic(Type type) {
+            return type instanceof Class
+                && SyntheticRow.class.isAssignableFrom((Class) type);
+        }
+
+        /** Generates an expression that creates a row of a given class
+         * from the values of its fields. */
+        static Expression newRow(Class rowClass, List<Expression> values) {
+            if (isSynthetic(rowClass)) {
+                final List<Expression> arguments = Expressions.list();
+                for (int i = 0; i < values.size(); i++) {
+                    arguments.add(
+                        convert(
+                            values.get(i),
+                            SyntheticRow.fieldClass(rowClass, i)));
+                }
+                return Expressions.new_(rowClass, arguments);
+            }
+            if (values.size() == 1 && rowClass != Object[].class) {
+                return convert(values.get(0), rowClass);
+            }
+            final List<Expression> elements = Expressions.list();
+            for (Expression value : values) {
+                elements.add(convert(value, Object.class));
+            }
+            return Expressions.newArrayInit(Object.class, elements);
+        }
+
+        /** Generates an expression that converts the rows of an enumerable
+         * from one class to another; or returns the enumerable unchanged if
+         * the classes are the same. */
+        static Expression convertRows(
+            Expression enumerable,
+            RelDataType rowType,
+            Class fromClass,
+            Class toClass)
+        {
+            if (fromClass == toClass) {
+                return enumerable;
+            }
+            final ParameterExpression row =
+                Expressions.parameter(fromClass, "row");
+            final List<Expression> values = Expressions.list();
+            for (int i = 0; i < rowType.getFieldCount(); i++) {
+                values.add(inputFieldReference(rowType, row, i));
+            }
+            return Expressions.call(
+                enumerable,
+                BuiltinMethod.SELECT.method,
+                Expressions.lambda(
+                    Function1.class, newRow(toClass, values), row));
+        }
+
+        /** Converts an expression to a given class, boxing or unboxing if
+         * necessary. A null reference must not be converted to a
+         * primitive. */
+        static Expression convert(Expression expression, Class toClass) {
+            final Type type = expression.getType();
+            final Class fromClass =
+                type instanceof Class ? (Class) type : Object.class;
+            if (fromClass == toClass) {
+                return expression;
+            }
+            if (fromClass.isPrimitive()) {
+                if (toClass.isPrimitive()) {
+                    return Expressions.convert_(expression, toClass);
+                }
+                // Box, then cast if the target is not the box class or one
+                // of its supertypes.
+                return Types.castIfNecessary(
+                    toClass,
+                    Expressions.convert_(
+                        expression, Types.box(fromClass)));
+            }
+            if (toClass.isPrimitive()) {
+                final Class boxClass = Types.box(toClass);
+                return Expressions.call(
+                    boxClass.isAssignableFrom(fromClass)
+                        ? expression
+                        : Expressions.convert_(expression, boxClass),
+                    Types.lookupMethod(
+                        boxClass, toClass.getName() + "Value"));
+            }
+            return Types.castIfNecessary(toClass, expression);
+        }
+
         static Type computeOutputJavaType(
             JavaTypeFactory typeFactory, RelDataType outputRowType)
         {
@@ -296,6 +929,9 @@ public class JavaRules {
             if (Types.isArray(expression.getType())) {
                 return Expressions.arrayIndex(
                     expression, Expressions.constant(field.getIndex()));
+            } else if (isSynthetic(expression.getType())) {
+                return Expressions.field(
+                    expression, SyntheticRow.fieldName(field.getIndex()));
             } else {
                 return Expressions.field(
                     expression, field.getName());
@@ -309,6 +945,9 @@ public class JavaRules {
             if (Types.isArray(type)) {
                 return Expressions.arrayIndex(
                     expression, Expressions.constant(field));
+            } else if (isSynthetic(type)) {
+                return Expressions.field(
+                    expression, SyntheticRow.fieldName(field));
             } else {
                 return Expressions.field(
                     expression,
@@ -337,6 +976,10 @@ public class JavaRules {
     {
         private final Expression expression;
 
+        /** Expression for the array or list that holds the table's rows, or
+         * null if the table is not held in one. */
+        private final Expression collectionExpression;
+
         public EnumerableTableAccessRel(
             RelOptCluster cluster,
             RelOptTable table,
@@ -346,18 +989,657 @@ public class JavaRules {
                 cluster,
                 cluster.traitSetOf(CallingConvention.ENUMERABLE),
                 table);
-            if (Types.isArray(expression.getType())) {
+            final Type type = expression.getType();
+            if (Types.isArray(type)) {
+                this.collectionExpression = expression;
                 expression =
                     Expressions.call(
                         BuiltinMethod.AS_ENUMERABLE.method,
                         expression);
+            } else if (type instanceof Class
+                && List.class.isAssignableFrom((Class) type))
+            {
+                this.collectionExpression = expression;
+            } else {
+                this.collectionExpression = null;
             }
             this.expression = expression;
         }
 
+        /** Returns an expression for the array or list that holds the rows
+         * of the table, or null; a parallel scan splits it into ranges. */
+        public Expression getCollectionExpression() {
+            return collectionExpression;
+        }
+
+        public BlockExpression implement(EnumerableRelImplementor implementor) {
+            return Blocks.toBlock(expression);
+        }
+    }
+
+    /**
+     * Relational expression that scans a {@link ColumnarTable}.
+     *
+     * <p>In pull style, it returns the table's rows as arrays. In push style,
+     * it generates a loop over the row ordinals of a snapshot of the table,
+     * and each field is an element of a column array, such as
+     * {@code ints3[row5.index]}; the arrays are fetched once, before the
+     * loop. So a filter, project or aggregate that consumes the scan reads
+     * the column values directly, without creating a row object.</p>
+     */
+    public static class EnumerableColumnarScanRel
+        extends TableAccessRelBase
+        implements EnumerableProducer
+    {
+        private final Expression expression;
+        private final List<ColumnarTable.Representation> representations;
+
+        public EnumerableColumnarScanRel(
+            RelOptCluster cluster,
+            RelOptTable table,
+            Expression expression,
+            List<ColumnarTable.Representation> representations)
+        {
+            super(
+                cluster,
+                cluster.traitSetOf(CallingConvention.ENUMERABLE),
+                table);
+            this.expression = expression;
+            this.representations = representations;
+        }
+
         public BlockExpression implement(EnumerableRelImplementor implementor) {
             return Blocks.toBlock(expression);
         }
+
+        public EnumerableRelImplementor.Pipeline produce(
+            EnumerableRelImplementor implementor,
+            BlockBuilder outer,
+            EnumerableConsumer consumer)
+        {
+            // final ColumnarTable.Snapshot snapshot0 = table.snapshot();
+            // final int[] ints1 = snapshot0.ints(0);
+            // final long[] nulls2 = snapshot0.nulls(0);
+            // ...
+            // while (enumerator.moveNext()) {
+            //     final ColumnarTable.Cursor row3 = enumerator.current();
+            //     <consumer code, reading ints1[row3.index] etc.>
+            // }
+            final JavaTypeFactory typeFactory =
+                (JavaTypeFactory) implementor.getTypeFactory();
+            final Expression snapshot =
+                outer.append(
+                    implementor.newName("snapshot"),
+                    Expressions.call(
+                        expression, BuiltinMethod.COLUMNAR_SNAPSHOT.method));
+            final ParameterExpression row =
+                Expressions.parameter(
+                    ColumnarTable.Cursor.class, implementor.newName("row"));
+            final Expression index = Expressions.field(row, "index");
+            final List<Expression> fields = new ArrayList<Expression>();
+            for (RelDataTypeField field : getRowType().getFieldList()) {
+                final int i = field.getIndex();
+                final Expression ordinal = Expressions.constant(i);
+                final Class boxClass =
+                    (Class) Types.box(
+                        EnumUtil.fieldClass(typeFactory, field.getType()));
+                final BuiltinMethod method;
+                switch (representations.get(i)) {
+                case INT:
+                    method = BuiltinMethod.COLUMNAR_INTS;
+                    break;
+                case LONG:
+                    method = BuiltinMethod.COLUMNAR_LONGS;
+                    break;
+                case DOUBLE:
+                    method = BuiltinMethod.COLUMNAR_DOUBLES;
+                    break;
+                case STRING:
+                    final Expression codes =
+                        outer.append(
+                            implementor.newName("codes"),
+                            Expressions.call(
+                                snapshot,
+                                BuiltinMethod.COLUMNAR_INTS.method,
+                                ordinal));
+                    final Expression dictionary =
+                        outer.append(
+                            implementor.newName("dictionary"),
+                            Expressions.call(
+                                snapshot,
+                                BuiltinMethod.COLUMNAR_DICTIONARY.method,
+                                ordinal));
+                    fields.add(
+                        Expressions.arrayIndex(
+                            dictionary, Expressions.arrayIndex(codes, index)));
+                    continue;
+                default:
+                    final Expression objects =
+                        outer.append(
+                            implementor.newName("objects"),
+                            Expressions.call(
+                                snapshot,
+                                BuiltinMethod.COLUMNAR_OBJECTS.method,
+                                ordinal));
+                    fields.add(
+                        Expressions.convert_(
+                            Expressions.arrayIndex(objects, index),
+                            boxClass));
+                    continue;
+                }
+                final Expression values =
+                    outer.append(
+                        implementor.newName("values"),
+                        Expressions.call(snapshot, method.method, ordinal));
+                Expression value = Expressions.arrayIndex(values, index);
+                if (field.getType().isNullable()) {
+                    final Expression nulls =
+                        outer.append(
+                            implementor.newName("nulls"),
+                            Expressions.call(
+                                snapshot,
+                                BuiltinMethod.COLUMNAR_NULLS.method,
+                                ordinal));
+                    value =
+                        Expressions.condition(
+                            Expressions.call(
+                                BuiltinMethod.COLUMNAR_IS_NULL.method,
+                                nulls,
+                                index),
+                            Expressions.constant(null, boxClass),
+                            Expressions.convert_(value, boxClass));
+                }
+                fields.add(value);
+            }
+            final List<Statement> body = Expressions.list();
+            consumer.consume(body, fields);
+            return new EnumerableRelImplementor.Pipeline(
+                snapshot, row, body, implementor.checkCancel());
+        }
+    }
+
+    public static final RelOptRule ENUMERABLE_INDEX_SCAN_RULE =
+        new EnumerableIndexScanRule(
+            new RelOptRuleOperand(
+                FilterRel.class,
+                new RelOptRuleOperand(
+                    EnumerableTableAccessRel.class, RelOptRule.ANY)),
+            "EnumerableIndexScanRule");
+
+    public static final RelOptRule ENUMERABLE_INDEX_SCAN_PROJECT_RULE =
+        new EnumerableIndexScanRule(
+            new RelOptRuleOperand(
+                FilterRel.class,
+                new RelOptRuleOperand(
+                    ProjectRel.class,
+                    new RelOptRuleOperand(
+                        EnumerableTableAccessRel.class, RelOptRule.ANY))),
+            "EnumerableIndexScanRule:project");
+
+    /**
+     * Rule that evaluates a {@link FilterRel} on a scan of an
+     * {@link IndexedTable} using one of the table's indexes.
+     *
+     * <p>The rule analyzes the condition into search arguments (sargs) on
+     * columns, using a {@link SargRexAnalyzer}. A hash index can be used if
+     * each of its key columns is equal to one of a list of literals; a tree
+     * index if one or more of its leading key columns are, or if the next
+     * key column is in a set of ranges. For each usable index, the rule
+     * creates an
+     * {@link net.hydromatic.optiq.rules.java.JavaRules.EnumerableIndexScanRel}
+     * with a filter for the rest of the condition; the planner chooses
+     * between them and a scan of the whole table by cost.</p>
+     *
+     * <p>A variant of the rule matches a filter on a project that only
+     * permutes the columns of the scan, as created when projects are pushed
+     * past filters.</p>
+     */
+    private static class EnumerableIndexScanRule extends RelOptRule {
+        /** Maximum number of lookups in one index scan. A sarg with more
+         * intervals than this is evaluated by the filter. */
+        private static final int MAX_LOOKUPS = 100;
+
+        private EnumerableIndexScanRule(
+            RelOptRuleOperand operand,
+            String description)
+        {
+            super(operand, description);
+        }
+
+        public void onMatch(RelOptRuleCall call) {
+            final FilterRel filter = (FilterRel) call.rels[0];
+            final ProjectRel project;
+            final EnumerableTableAccessRel scan;
+            final RexNode condition;
+            if (call.rels.length == 3) {
+                project = (ProjectRel) call.rels[1];
+                scan = (EnumerableTableAccessRel) call.rels[2];
+                for (RexNode exp : project.getProjectExps()) {
+                    if (!(exp instanceof RexInputRef)) {
+                        return;
+                    }
+                }
+                condition =
+                    RelOptUtil.pushFilterPastProject(
+                        filter.getCondition(), project);
+            } else {
+                project = null;
+                scan = (EnumerableTableAccessRel) call.rels[1];
+                condition = filter.getCondition();
+            }
+            final IndexedTable<?> table = indexedTable(scan.getTable());
+            if (table == null) {
+                return;
+            }
+            final RexBuilder rexBuilder = scan.getCluster().getRexBuilder();
+            final SargRexAnalyzer analyzer =
+                new SargFactory(rexBuilder).newRexAnalyzer();
+            final List<SargBinding> bindings = analyzer.analyzeAll(condition);
+
+            // For each column, the first sarg on it whose bounds are
+            // literals. (The values of dynamic parameters are not known
+            // until the statement is executed, and a null parameter would
+            // look up nulls.)
+            final Map<Integer, SargBinding> columnBindings =
+                new HashMap<Integer, SargBinding>();
+            for (SargBinding binding : bindings) {
+                final int column = binding.getInputRef().getIndex();
+                final SargIntervalSequence sequence =
+                    binding.getExpr().evaluate();
+                if (!columnBindings.containsKey(column)
+                    && !sequence.getList().isEmpty()
+                    && !sequence.isEmpty()
+                    && isLiteral(sequence))
+                {
+                    columnBindings.put(column, binding);
+                }
+            }
+            if (columnBindings.isEmpty()) {
+                return;
+            }
+            final double tableRowCount = RelMetadataQuery.getRowCount(scan);
+            for (IndexedTable.Index<?> index : table.getIndexes()) {
+                final List<SargBinding> used = new ArrayList<SargBinding>();
+                final List<IndexRange> ranges =
+                    ranges(index, columnBindings, used);
+                if (ranges == null) {
+                    continue;
+                }
+                final List<SargBinding> unused =
+                    new ArrayList<SargBinding>(bindings);
+                unused.removeAll(used);
+                final RexNode residual =
+                    RelOptUtil.andJoinFilters(
+                        rexBuilder,
+                        analyzer.getSargBindingListToRexNode(unused),
+                        analyzer.getNonSargFilterRexNode());
+                RelNode rel =
+                    new EnumerableIndexScanRel(
+                        scan.getCluster(),
+                        scan.getTable(),
+                        table.getExpression(),
+                        index,
+                        ranges,
+                        rowCount(
+                            scan,
+                            tableRowCount,
+                            index,
+                            ranges,
+                            analyzer.getSargBindingListToRexNode(used)));
+                if (!residual.isAlwaysTrue()) {
+                    rel = CalcRel.createFilter(rel, residual);
+                }
+                if (project != null) {
+                    rel =
+                        CalcRel.createProject(
+                            rel,
+                            Arrays.asList(project.getProjectExps()),
+                            RelOptUtil.getFieldNameList(project.getRowType()));
+                }
+                call.transformTo(rel);
+            }
+        }
+
+        /** Returns the table that a scan reads, if it is an
+         * {@link IndexedTable}, otherwise null. */
+        private static IndexedTable<?> indexedTable(RelOptTable relOptTable) {
+            if (relOptTable instanceof OptiqPrepareImpl.RelOptTableImpl) {
+                final Table table =
+                    ((OptiqPrepareImpl.RelOptTableImpl) relOptTable)
+                        .getTable();
+                if (table instanceof IndexedTable) {
+                    return (IndexedTable<?>) table;
+                }
+            }
+            return null;
+        }
+
+        /** Returns whether every finite bound in a sequence of intervals is
+         * a literal. */
+        private static boolean isLiteral(SargIntervalSequence sequence) {
+            for (SargInterval interval : sequence.getList()) {
+                for (SargEndpoint endpoint
+                    : Arrays.asList(
+                        interval.getLowerBound(), interval.getUpperBound()))
+                {
+                    if (endpoint.isFinite()
+                        && !(endpoint.getCoordinate() instanceof RexLiteral))
+                    {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Computes the ranges to look up in an index, or returns null if the
+         * index cannot be used.
+         *
+         * <p>Starting with the first key column, each column that has a sarg
+         * of points multiplies the ranges by the number of points. A tree
+         * index then stops at the first column that has a sarg of ranges,
+         * after adding it to the bounds, or that has no sarg. A hash index
+         * needs a sarg of points on every key column.</p>
+         *
+         * @param index Index
+         * @param columnBindings Sarg on each column
+         * @param used Populated with the sargs evaluated by the index
+         * @return List of ranges, or null
+         */
+        private static List<IndexRange> ranges(
+            IndexedTable.Index<?> index,
+            Map<Integer, SargBinding> columnBindings,
+            List<SargBinding> used)
+        {
+            final boolean tree =
+                index.getType() == IndexedTable.IndexType.TREE;
+            List<IndexRange> ranges =
+                Collections.singletonList(IndexRange.ALL);
+            for (int column : index.getColumns()) {
+                final SargBinding binding = columnBindings.get(column);
+                if (binding == null) {
+                    break;
+                }
+                final List<SargInterval> intervals =
+                    binding.getExpr().evaluate().getList();
+                if (ranges.size() * intervals.size() > MAX_LOOKUPS) {
+                    break;
+                }
+                boolean points = true;
+                for (SargInterval interval : intervals) {
+                    points &= interval.isPoint();
+                }
+                if (!points && !tree) {
+                    break;
+                }
+                final List<IndexRange> newRanges = new ArrayList<IndexRange>();
+                for (IndexRange range : ranges) {
+                    for (SargInterval interval : intervals) {
+                        newRanges.add(range.plus(interval));
+                    }
+                }
+                ranges = newRanges;
+                used.add(binding);
+                if (!points) {
+                    break;
+                }
+            }
+            if (used.isEmpty()
+                || !tree && used.size() < index.getColumns().size())
+            {
+                return null;
+            }
+            return ranges;
+        }
+
+        /** Estimates the number of rows returned by an index scan. If the
+         * scan looks up whole keys, the number of distinct keys in the index
+         * gives an estimate; otherwise uses the selectivity of the sargs
+         * that the index evaluates. */
+        private static double rowCount(
+            RelNode scan,
+            double tableRowCount,
+            IndexedTable.Index<?> index,
+            List<IndexRange> ranges,
+            RexNode indexCondition)
+        {
+            final Double selectivity =
+                RelMetadataQuery.getSelectivity(scan, indexCondition);
+            double rowCount =
+                tableRowCount
+                * (selectivity == null
+                    ? RelMdUtil.guessSelectivity(indexCondition)
+                    : selectivity);
+            boolean wholeKeys = index.getKeyCount() > 0;
+            for (IndexRange range : ranges) {
+                wholeKeys &= range.isPoint(index.getColumns().size());
+            }
+            if (wholeKeys) {
+                rowCount =
+                    Math.min(
+                        rowCount,
+                        tableRowCount * ranges.size() / index.getKeyCount());
+            }
+            return Math.max(rowCount, 1d);
+        }
+    }
+
+    /** Range of keys in an index. Each bound is a list of literals, one for
+     * each of the leading key columns; see {@link IndexedTable#range}. */
+    public static class IndexRange {
+        /** Range that contains every key. */
+        static final IndexRange ALL =
+            new IndexRange(
+                Collections.<RexNode>emptyList(), true,
+                Collections.<RexNode>emptyList(), true);
+
+        public final List<RexNode> lower;
+        public final boolean lowerInclusive;
+        public final List<RexNode> upper;
+        public final boolean upperInclusive;
+
+        IndexRange(
+            List<RexNode> lower,
+            boolean lowerInclusive,
+            List<RexNode> upper,
+            boolean upperInclusive)
+        {
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        /** Returns a range that also restricts the next key column to an
+         * interval. An infinite bound adds nothing, and leaves the bound
+         * inclusive, so that it contains every value of the column. */
+        IndexRange plus(SargInterval interval) {
+            final List<RexNode> newLower = new ArrayList<RexNode>(lower);
+            final List<RexNode> newUpper = new ArrayList<RexNode>(upper);
+            final SargEndpoint lowerBound = interval.getLowerBound();
+            final SargEndpoint upperBound = interval.getUpperBound();
+            if (lowerBound.isFinite()) {
+                newLower.add(lowerBound.getCoordinate());
+            }
+            if (upperBound.isFinite()) {
+                newUpper.add(upperBound.getCoordinate());
+            }
+            return new IndexRange(
+                newLower,
+                !lowerBound.isFinite() || lowerBound.isClosed(),
+                newUpper,
+                !upperBound.isFinite() || upperBound.isClosed());
+        }
+
+        /** Returns whether this range contains a single key of a given
+         * number of columns. */
+        boolean isPoint(int columnCount) {
+            return lower.size() == columnCount
+                && lowerInclusive
+                && upperInclusive
+                && lower.equals(upper);
+        }
+
+        public String toString() {
+            return (lowerInclusive ? "[" : "(")
+                + lower + ", " + upper
+                + (upperInclusive ? "]" : ")");
+        }
+    }
+
+    /**
+     * Implementation of a scan of an {@link IndexedTable} in
+     * {@link CallingConvention#ENUMERABLE enumerable calling convention}
+     * that reads the rows whose keys in one of the table's indexes are in a
+     * list of ranges.
+     */
+    public static class EnumerableIndexScanRel
+        extends AbstractRelNode
+        implements EnumerableRel
+    {
+        private final RelOptTable table;
+        private final Expression expression;
+        private final IndexedTable.Index<?> index;
+        private final List<IndexRange> ranges;
+        private final double rowCount;
+
+        public EnumerableIndexScanRel(
+            RelOptCluster cluster,
+            RelOptTable table,
+            Expression expression,
+            IndexedTable.Index<?> index,
+            List<IndexRange> ranges,
+            double rowCount)
+        {
+            super(cluster, cluster.traitSetOf(CallingConvention.ENUMERABLE));
+            this.table = table;
+            this.expression = expression;
+            this.index = index;
+            this.ranges = ranges;
+            this.rowCount = rowCount;
+        }
+
+        public RelOptTable getTable() {
+            return table;
+        }
+
+        protected RelDataType deriveRowType() {
+            return table.getRowType();
+        }
+
+        public double getRows() {
+            return rowCount;
+        }
+
+        public RelOptCost computeSelfCost(RelOptPlanner planner) {
+            // One lookup per range, then read each matching row.
+            final double dCpu = rowCount + ranges.size();
+            return planner.makeCost(rowCount, dCpu, 0);
+        }
+
+        public void explain(RelOptPlanWriter pw) {
+            pw.explain(
+                this,
+                new String[] { "table", "index", "ranges" },
+                new Object[] {
+                    Arrays.asList(table.getQualifiedName()),
+                    index.getName(),
+                    ranges
+                });
+        }
+
+        public BlockExpression implement(EnumerableRelImplementor implementor) {
+            final JavaTypeFactory typeFactory =
+                (JavaTypeFactory) getCluster().getTypeFactory();
+            final RexBuilder rexBuilder = getCluster().getRexBuilder();
+            final List<RelDataTypeField> fields = getRowType().getFieldList();
+
+            // Translate each bound value to the Java class of its column.
+            // Nullable, because a sarg on a NOT NULL column may still have a
+            // null bound.
+            final RexProgramBuilder programBuilder =
+                new RexProgramBuilder(
+                    typeFactory.createStructType(
+                        new RelDataType[0], new String[0]),
+                    rexBuilder);
+            for (IndexRange range : ranges) {
+                for (List<RexNode> bound
+                    : Arrays.asList(range.lower, range.upper))
+                {
+                    for (int i = 0; i < bound.size(); i++) {
+                        final RelDataType type =
+                            fields.get(index.getColumns().get(i)).getType();
+                        programBuilder.addProject(
+                            rexBuilder.makeCast(
+                                typeFactory.createTypeWithNullability(
+                                    type, true),
+                                bound.get(i)),
+                            "v" + programBuilder.getProjectList().size());
+                    }
+                }
+            }
+            final BlockBuilder list = new BlockBuilder();
+            final List<Statement> statements = Expressions.list();
+            final Iterator<Expression> values =
+                RexToLixTranslator.translateProjects(
+                    Collections.<Expression>emptyList(),
+                    programBuilder.getProgram(),
+                    typeFactory,
+                    statements)
+                    .iterator();
+            for (Statement statement : statements) {
+                list.add(statement);
+            }
+            final Expression tableExp = list.append("table", expression);
+            final int keyCount = index.getColumns().size();
+            Expression result = null;
+            for (IndexRange range : ranges) {
+                final List<Expression> lower = take(values, range.lower);
+                final List<Expression> upper = take(values, range.upper);
+                final Expression lookup;
+                if (index.getType() == IndexedTable.IndexType.HASH
+                    || range.isPoint(keyCount))
+                {
+                    lookup =
+                        Expressions.call(
+                            tableExp,
+                            BuiltinMethod.INDEX_LOOKUP.method,
+                            Expressions.constant(index.getName()),
+                            Expressions.newArrayInit(Object.class, lower));
+                } else {
+                    lookup =
+                        Expressions.call(
+                            tableExp,
+                            BuiltinMethod.INDEX_RANGE.method,
+                            Expressions.constant(index.getName()),
+                            Expressions.newArrayInit(Object.class, lower),
+                            Expressions.constant(range.lowerInclusive),
+                            Expressions.newArrayInit(Object.class, upper),
+                            Expressions.constant(range.upperInclusive));
+                }
+                result =
+                    result == null
+                        ? lookup
+                        : Expressions.call(
+                            result, BuiltinMethod.CONCAT.method, lookup);
+            }
+            list.add(result);
+            return list.toBlock();
+        }
+
+        /** Takes as many expressions from an iterator as there are values
+         * in a bound. */
+        private static List<Expression> take(
+            Iterator<Expression> values,
+            List<RexNode> bound)
+        {
+            final List<Expression> list = new ArrayList<Expression>();
+            for (int i = 0; i < bound.size(); i++) {
+                list.add(values.next());
+            }
+            return list;
+        }
     }
 
     public static final EnumerableCalcRule ENUMERABLE_CALC_RULE =
@@ -409,7 +1691,7 @@ public class JavaRules {
 
     public static class EnumerableCalcRel
         extends SingleRel
-        implements EnumerableRel
+        implements EnumerableProducer
     {
         private final RexProgram program;
 
@@ -444,6 +1726,10 @@ public class JavaRules {
                 getChild(), program);
         }
 
+        public List<RelCollation> getCollationList() {
+            return program.getCollations(getChild().getCollationList());
+        }
+
         public RelOptCost computeSelfCost(RelOptPlanner planner) {
             double dRows = RelMetadataQuery.getRowCount(this);
             double dCpu =
@@ -468,7 +1754,84 @@ public class JavaRules {
             return flags;
         }
 
+        public EnumerableRelImplementor.Pipeline produce(
+            final EnumerableRelImplementor implementor,
+            BlockBuilder outer,
+            final EnumerableConsumer consumer)
+        {
+            final JavaTypeFactory typeFactory =
+                (JavaTypeFactory) implementor.getTypeFactory();
+            final List<Class> fieldClasses = new ArrayList<Class>();
+            for (RelDataTypeField field : getRowType().getFieldList()) {
+                fieldClasses.add(
+                    EnumUtil.fieldClass(typeFactory, field.getType()));
+            }
+            return implementor.pipeline(
+                this,
+                0,
+                (EnumerableRel) getChild(),
+                outer,
+                new EnumerableConsumer() {
+                    public void consume(
+                        List<Statement> list, List<Expression> inputs)
+                    {
+                        // if (<condition>) {
+                        //     final int f0 = <project 0>;
+                        //     ...
+                        //     <consumer code>
+                        // }
+                        List<Statement> body = list;
+                        Expression condition = null;
+                        if (program.getCondition() != null) {
+                            condition =
+                                RexToLixTranslator.translateFieldCondition(
+                                    inputs,
+                                    implementor.newName("v") + "_",
+                                    program,
+                                    typeFactory,
+                                    list);
+                            body = Expressions.list();
+                        }
+                        final List<Expression> projects =
+                            RexToLixTranslator.translateFieldProjects(
+                                inputs,
+                                implementor.newName("v") + "_",
+                                program,
+                                typeFactory,
+                                body,
+                                fieldClasses);
+                        final List<Expression> fields = Expressions.list();
+                        for (int i = 0; i < projects.size(); i++) {
+                            final Expression project = projects.get(i);
+                            if (project instanceof ParameterExpression
+                                || project instanceof ConstantExpression)
+                            {
+                                fields.add(project);
+                                continue;
+                            }
+                            final ParameterExpression field =
+                                Expressions.parameter(
+                                    fieldClasses.get(i),
+                                    implementor.newName("f"));
+                            body.add(
+                                Expressions.declare(
+                                    Modifier.FINAL, field, project));
+                            fields.add(field);
+                        }
+                        consumer.consume(body, fields);
+                        if (condition != null) {
+                            list.add(
+                                Expressions.ifThen(
+                                    condition, Expressions.block(body)));
+                        }
+                    }
+                });
+        }
+
         public BlockExpression implement(EnumerableRelImplementor implementor) {
+            if (implementor.canProduce(this)) {
+                return implementPipeline(implementor);
+            }
             final JavaTypeFactory typeFactory =
                 (JavaTypeFactory) implementor.getTypeFactory();
             final BlockBuilder statements = new BlockBuilder();
@@ -481,13 +1844,18 @@ public class JavaRules {
             //         return new Enumerator<IntString>() {
             //             public void reset() {
             // ...
+            final Class outputClass = EnumUtil.rowClass(implementor, this);
+            final boolean synthetic = EnumUtil.isSynthetic(outputClass);
             Type outputJavaType =
-                EnumUtil.computeOutputJavaType(typeFactory, outputRowType);
+                synthetic
+                    ? outputClass
+                    : EnumUtil.computeOutputJavaType(
+                        typeFactory, outputRowType);
             final Type enumeratorType =
                 Types.of(
                     Enumerator.class, outputJavaType);
-            Class inputJavaType = EnumUtil.javaRowClass(
-                typeFactory, inputRowType);
+            Class inputJavaType =
+                EnumUtil.rowClass(implementor, getChild());
             ParameterExpression inputEnumerator =
                 Expressions.parameter(
                     Types.of(
@@ -509,6 +1877,7 @@ public class JavaRules {
                             BuiltinMethod.ENUMERATOR_MOVE_NEXT.method));
             } else {
                 final List<Statement> list = Expressions.list();
+                list.add(implementor.checkCancel());
                 Expression condition =
                     RexToLixTranslator.translateCondition(
                         Collections.<Expression>singletonList(input),
@@ -533,16 +1902,29 @@ public class JavaRules {
             }
 
             final List<Statement> list = Expressions.list();
+            List<Class> storageClasses = null;
+            if (synthetic) {
+                // Non-nullable fields of a synthetic row are primitive;
+                // the translator writes them without boxing.
+                storageClasses = new ArrayList<Class>();
+                for (int i = 0; i < outputRowType.getFieldCount(); i++) {
+                    storageClasses.add(
+                        SyntheticRow.fieldClass(outputClass, i));
+                }
+            }
             List<Expression> expressions =
                 RexToLixTranslator.translateProjects(
                     Collections.<Expression>singletonList(input),
                     program,
                     typeFactory,
-                    list);
+                    list,
+                    storageClasses);
             list.add(
                 Expressions.return_(
                     null,
-                    expressions.size() == 1
+                    synthetic
+                        ? Expressions.new_(outputClass, expressions)
+                        : expressions.size() == 1
                         ? expressions.get(0)
                         : Expressions.newArrayInit(
                             Object.class,
@@ -550,11 +1932,119 @@ public class JavaRules {
             BlockExpression currentBody =
                 Expressions.block(list);
 
-            final Expression inputEnumerable =
-                statements.append(
-                    "inputEnumerable",
-                    implementor.visitChild(
-                        this, 0, (EnumerableRel) getChild()));
+            final Expression inputEnumerable =
+                statements.append(
+                    "inputEnumerable",
+                    implementor.visitChild(
+                        this, 0, (EnumerableRel) getChild()));
+            final Expression body =
+                Expressions.new_(
+                    enumeratorType,
+                    NO_EXPRS,
+                    Expressions.<MemberDeclaration>list(
+                        Expressions.fieldDecl(
+                            Modifier.PUBLIC
+                            | Modifier.FINAL,
+                            inputEnumerator,
+                            Expressions.call(
+                                inputEnumerable,
+                                BuiltinMethod.ENUMERABLE_ENUMERATOR.method)),
+                        EnumUtil.overridingMethodDecl(
+                            BuiltinMethod.ENUMERATOR_RESET.method,
+                            NO_PARAMS,
+                            Blocks.toFunctionBlock(
+                                Expressions.call(
+                                    inputEnumerator,
+                                    BuiltinMethod.ENUMERATOR_RESET.method))),
+                        EnumUtil.overridingMethodDecl(
+                            BuiltinMethod.ENUMERATOR_MOVE_NEXT.method,
+                            NO_PARAMS,
+                            moveNextBody),
+                        Expressions.methodDecl(
+                            Modifier.PUBLIC,
+                            BRIDGE_METHODS
+                                ? Object.class
+                                : outputJavaType,
+                            "current",
+                            NO_PARAMS,
+                            currentBody)));
+            statements.add(
+                Expressions.return_(
+                    null,
+                    Expressions.new_(
+                        ABSTRACT_ENUMERABLE_CTOR,
+                        // TODO: generics
+                        //   Collections.singletonList(inputRowType),
+                        NO_EXPRS,
+                        Arrays.<MemberDeclaration>asList(
+                            Expressions.methodDecl(
+                                Modifier.PUBLIC,
+                                enumeratorType,
+                                BuiltinMethod.ENUMERABLE_ENUMERATOR
+                                    .method.getName(),
+                                NO_PARAMS,
+                                Blocks.toFunctionBlock(body))))));
+            return statements.toBlock();
+        }
+
+        /** Implements this calc, and the producers beneath it, as an
+         * enumerable whose enumerator runs the fused pipeline until it
+         * produces a row. */
+        private BlockExpression implementPipeline(
+            EnumerableRelImplementor implementor)
+        {
+            final BlockBuilder statements = new BlockBuilder();
+            final Class outputClass = EnumUtil.rowClass(implementor, this);
+            final Class currentClass = (Class) Types.box(outputClass);
+            final Type enumeratorType =
+                Types.of(Enumerator.class, currentClass);
+            final ParameterExpression current =
+                Expressions.parameter(currentClass, "current");
+
+            // final Enumerable<Employee> source0 = <<source impl>>;
+            // return new AbstractEnumerable<Object[]>() {
+            //     Enumerator<Object[]> enumerator() {
+            //         return new Enumerator<Object[]>() {
+            //             public final Enumerator<Employee> inputEnumerator =
+            //                 source0.enumerator();
+            //             public Object[] current = null;
+            //             public boolean moveNext() {
+            //                 while (inputEnumerator.moveNext()) {
+            //                     final Employee row1 =
+            //                         (Employee) inputEnumerator.current();
+            //                     if (<condition>) {
+            //                         current = new Object[] {...};
+            //                         return true;
+            //                     }
+            //                 }
+            //                 return false;
+            //             }
+            // ...
+            final EnumerableRelImplementor.Pipeline pipeline =
+                produce(
+                    implementor,
+                    statements,
+                    new EnumerableConsumer() {
+                        public void consume(
+                            List<Statement> list, List<Expression> fields)
+                        {
+                            list.add(
+                                Expressions.statement(
+                                    Expressions.assign(
+                                        current,
+                                        EnumUtil.convert(
+                                            EnumUtil.newRow(
+                                                outputClass, fields),
+                                            currentClass))));
+                            list.add(
+                                Expressions.return_(
+                                    null, Expressions.constant(true)));
+                        }
+                    });
+            final ParameterExpression inputEnumerator =
+                Expressions.parameter(
+                    Types.of(Enumerator.class, pipeline.row.getType()),
+                    "inputEnumerator");
             final Expression body =
                 Expressions.new_(
                     enumeratorType,
@@ -564,9 +2054,11 @@ public class JavaRules {
                             Modifier.PUBLIC
                             | Modifier.FINAL,
                             inputEnumerator,
-                            Expressions.call(
-                                inputEnumerable,
-                                BuiltinMethod.ENUMERABLE_ENUMERATOR.method)),
+                            pipeline.enumerator()),
+                        Expressions.fieldDecl(
+                            Modifier.PUBLIC,
+                            current,
+                            Expressions.constant(null, currentClass)),
                         EnumUtil.overridingMethodDecl(
                             BuiltinMethod.ENUMERATOR_RESET.method,
                             NO_PARAMS,
@@ -577,22 +2069,23 @@ public class JavaRules {
                         EnumUtil.overridingMethodDecl(
                             BuiltinMethod.ENUMERATOR_MOVE_NEXT.method,
                             NO_PARAMS,
-                            moveNextBody),
+                            Expressions.block(
+                                pipeline.loop(inputEnumerator),
+                                Expressions.return_(
+                                    null, Expressions.constant(false)))),
                         Expressions.methodDecl(
                             Modifier.PUBLIC,
                             BRIDGE_METHODS
                                 ? Object.class
-                                : outputJavaType,
+                                : currentClass,
                             "current",
                             NO_PARAMS,
-                            currentBody)));
+                            Blocks.toFunctionBlock(current))));
             statements.add(
                 Expressions.return_(
                     null,
                     Expressions.new_(
                         ABSTRACT_ENUMERABLE_CTOR,
-                        // TODO: generics
-                        //   Collections.singletonList(inputRowType),
                         NO_EXPRS,
                         Arrays.<MemberDeclaration>asList(
                             Expressions.methodDecl(
@@ -652,6 +2145,11 @@ public class JavaRules {
                 // We can't convert the child, so we can't convert rel.
                 return null;
             }
+            for (AggregateCall aggCall : agg.getAggCallList()) {
+                if (!EnumerableAggregateRel.canImplement(aggCall)) {
+                    return null;
+                }
+            }
 
             return new EnumerableAggregateRel(
                 rel.getCluster(),
@@ -697,190 +2195,416 @@ public class JavaRules {
             final JavaTypeFactory typeFactory =
                 (JavaTypeFactory) implementor.getTypeFactory();
             final BlockBuilder statements = new BlockBuilder();
-            Expression childExp =
-                statements.append(
-                    "child",
-                    implementor.visitChild(
-                        this, 0, (EnumerableRel) getChild()));
+            final EnumerableRel child = (EnumerableRel) getChild();
+            final Class inputClass = EnumUtil.rowClass(implementor, child);
+            final Expression childExp;
+            final Method aggregateMethod;
+            final int parallelism = implementor.getParallelism();
+            if (parallelism > 1) {
+                // Partitions of the input are read in parallel, and
+                // redistributed by group key; see Exchange.aggregate.
+                childExp = implementor.partitions(this, 0, child, statements);
+                aggregateMethod = BuiltinMethod.EXCHANGE_AGGREGATE.method;
+            } else if (implementor.canProduce(child)) {
+                // The child's pipeline pushes rows into the hash table.
+                //
+                // new HashAggregate.Source() {
+                //     public void produce(HashAggregate.Sink sink) {
+                //         final Enumerator<Employee> enumerator2 =
+                //             source0.enumerator();
+                //         while (enumerator2.moveNext()) {
+                //             ...
+                //             sink.add(new SyntheticRow3(f1, f2));
+                //         }
+                //     }
+                // }
+                final ParameterExpression sink =
+                    Expressions.parameter(HashAggregate.Sink.class, "sink");
+                final EnumerableRelImplementor.Pipeline pipeline =
+                    implementor.pipeline(
+                        this,
+                        0,
+                        child,
+                        statements,
+                        new EnumerableConsumer() {
+                            public void consume(
+                                List<Statement> list,
+                                List<Expression> fields)
+                            {
+                                list.add(
+                                    Expressions.statement(
+                                        Expressions.call(
+                                            sink,
+                                            BuiltinMethod.AGG_SINK_ADD.method,
+                                            EnumUtil.newRow(
+                                                inputClass, fields))));
+                            }
+                        });
+                final ParameterExpression enumerator =
+                    Expressions.parameter(
+                        Types.of(Enumerator.class, pipeline.row.getType()),
+                        implementor.newName("enumerator"));
+                childExp =
+                    Expressions.new_(
+                        HashAggregate.Source.class,
+                        NO_EXPRS,
+                        Arrays.<MemberDeclaration>asList(
+                            Expressions.methodDecl(
+                                Modifier.PUBLIC,
+                                Void.TYPE,
+                                "produce",
+                                Collections.singletonList(sink),
+                                Expressions.block(
+                                    Expressions.declare(
+                                        Modifier.FINAL,
+                                        enumerator,
+                                        pipeline.enumerator()),
+                                    pipeline.loop(enumerator)))));
+                aggregateMethod = BuiltinMethod.HASH_AGGREGATE_SOURCE.method;
+            } else {
+                childExp =
+                    statements.append(
+                        "child",
+                        implementor.visitChild(this, 0, child));
+                aggregateMethod = BuiltinMethod.HASH_AGGREGATE.method;
+            }
             RelDataType inputRowType = getChild().getRowType();
 
             // final Enumerable<Employee> child = <<child impl>>;
-            // Function1<Employee, Integer> keySelector =
-            //     new Function1<Employee, Integer>() {
-            //         public Integer apply(Employee a0) {
-            //             return a0.deptno;
-            //         }
-            //     };
-            // Function1<Grouping<Integer, Employee>, Object[]> selector =
-            //     new Function1<Grouping<Integer, Employee>, Object[]>() {
-            //         public Object[] apply(Grouping<Integer, Employee> a0) {
-            //             return new Object[] {
-            //                 a0.getKey(),
-            //                 a0.sum(
-            //                     new IntegerFunction1<Employee>() {
-            //                         public int apply(Employee a0) {
-            //                             return a0.empid;
-            //                         }
-            //                     }
-            //                 ),
-            //                 a0.count()
-            //             };
+            // return HashAggregate.aggregate(
+            //     child,
+            //     new Function1<Employee, Object>() {
+            //         public Object apply(Employee v1) {
+            //             return v1.deptno;
             //         }
-            //     };
-            // return childEnumerable.groupBy(keySelector)
-            //     .select(selector);
-            Class inputJavaType = EnumUtil.javaRowClass(
-                typeFactory, inputRowType);
-
-            ParameterExpression parameter =
-                Expressions.parameter(inputJavaType, "a0");
-
-            final List<Expression> keyExpressions = Expressions.list();
-            for (int groupKey : Util.toIter(groupSet)) {
-                keyExpressions.add(
-                    EnumUtil.inputFieldReference(
-                        inputRowType, parameter, groupKey));
-            }
+            //     },
+            //     1,
+            //     new Aggregator[] {
+            //         HashAggregate.sum(
+            //             new IntegerFunction1<Employee>() {
+            //                 public int apply(Employee a0) {
+            //                     return a0.salary;
+            //                 }
+            //             },
+            //             Integer.class),
+            //         HashAggregate.count()});
             final Expression keySelector =
                 statements.append(
                     "keySelector",
-                    inputRowType.getFieldCount() == 1
-                        ? Expressions.call(
-                            Functions.class,
-                            "identitySelector")
-                        : Expressions.lambda(
-                            Function1.class,
-                            keyExpressions.size() == 1
-                                ? keyExpressions.get(0)
-                                : Expressions.newArrayInit(
-                                    Object.class, keyExpressions),
-                            parameter));
-
-            ParameterExpression grouping =
-                Expressions.parameter(Grouping.class, "grouping");
-            final Expressions.FluentList<Statement> statements2 =
-                Expressions.list();
-            final List<Expression> expressions = Expressions.list();
-            switch (getGroupCount()) {
-            case 0:
-                for (AggregateCall aggCall : aggCalls) {
-                    expressions.add(
-                        translate(
-                            typeFactory, inputRowType, childExp, aggCall));
-                }
-                statements.add(
-                    Expressions.return_(
-                        null,
-                        Expressions.call(
-                            null,
-                            BuiltinMethod.SINGLETON_ENUMERABLE.method,
-                            expressions.size() == 1
-                                ? expressions.get(0)
-                                : Expressions.newArrayInit(
-                                    Object.class, expressions))));
-                return statements.toBlock();
-            case 1:
-                expressions.add(
-                    Expressions.call(
-                        grouping, "getKey"));
-                break;
-            default:
-                DeclarationExpression keyDeclaration =
-                    Expressions.declare(
-                        Modifier.FINAL,
-                        "key",
-                        Expressions.convert_(
-                            Expressions.call(
-                                grouping, "getKey"),
-                            Object[].class));
-                statements2.append(keyDeclaration);
-                for (int groupKey : Util.toIter(groupSet)) {
-                    expressions.add(
-                        Expressions.arrayIndex(
-                            keyDeclaration.parameter,
-                            Expressions.constant(groupKey)));
-                }
-                break;
-            }
+                    EnumUtil.generateKeyAccessor(
+                        inputClass, inputRowType, Util.toList(groupSet)));
+            final List<Expression> aggregators = Expressions.list();
             for (AggregateCall aggCall : aggCalls) {
-                expressions.add(
-                    translate(typeFactory, inputRowType, grouping, aggCall));
+                aggregators.add(
+                    translate(typeFactory, inputClass, inputRowType, aggCall));
+            }
+            final List<Expression> arguments =
+                new ArrayList<Expression>(
+                    Arrays.asList(
+                        childExp,
+                        keySelector,
+                        Expressions.constant(getGroupCount()),
+                        Expressions.newArrayInit(
+                            Aggregator.class,
+                            aggregators)));
+            if (parallelism > 1) {
+                arguments.add(Expressions.constant(parallelism));
             }
-            statements2.add(
-                Expressions.return_(
-                    null,
-                    expressions.size() == 1
-                        ? expressions.get(0)
-                        : Expressions.newArrayInit(
-                            Object.class, expressions)));
-
-            final Expression selector =
-                statements.append(
-                    "selector",
-                    Expressions.lambda(
-                        Function1.class,
-                        Expressions.block(statements2),
-                        grouping));
             statements.add(
                 Expressions.return_(
                     null,
-                    Expressions.call(
-                        Expressions.call(
-                            childExp,
-                            BuiltinMethod.GROUP_BY.method,
-                            Expressions.<Expression>list()
-                                .append(keySelector)
-                                .appendIf(
-                                    keyExpressions.size() > 1,
-                                    Expressions.call(
-                                        null,
-                                        BuiltinMethod.ARRAY_COMPARER.method))),
-                        BuiltinMethod.SELECT.method,
-                        selector)));
+                    Expressions.call(aggregateMethod, arguments)));
             return statements.toBlock();
         }
 
-        private Expression translate(
+        /** Returns whether an aggregate call can be implemented by
+         * {@link #translate}. */
+        static boolean canImplement(AggregateCall aggCall) {
+            final Aggregation aggregation = aggCall.getAggregation();
+            if (aggregation == SqlStdOperatorTable.countOperator) {
+                return true;
+            }
+            if (aggCall.getArgList().size() != 1) {
+                return false;
+            }
+            return aggregation == SqlStdOperatorTable.sumOperator
+                || aggregation == SqlStdOperatorTable.avgOperator
+                || aggregation == SqlStdOperatorTable.minOperator
+                || aggregation == SqlStdOperatorTable.maxOperator;
+        }
+
+        /** Generates an expression that creates a
+         * {@link Aggregator} for an aggregate call. */
+        Expression translate(
             JavaTypeFactory typeFactory,
+            Class rowClass,
             RelDataType rowType,
-            Expression grouping,
             AggregateCall aggCall)
         {
             final Aggregation aggregation = aggCall.getAggregation();
+            final List<Integer> args = aggCall.getArgList();
+            Expression aggregator;
             if (aggregation == SqlStdOperatorTable.countOperator) {
-                return Expressions.call(
-                    grouping,
-                    "longCount");
-            } else if (aggregation == SqlStdOperatorTable.sumOperator) {
-                return Expressions.call(
-                    grouping,
-                    "sum",
-                    EnumUtil.generateAccessor(
-                        typeFactory,
-                        rowType,
-                        aggCall.getArgList(),
-                        true));
-            } else if (aggregation == SqlStdOperatorTable.maxOperator) {
-                return Expressions.call(
-                    grouping,
-                    "max",
-                    EnumUtil.generateAccessor(
-                        typeFactory,
-                        rowType,
-                        aggCall.getArgList(),
-                        true));
-            } else if (aggregation == SqlStdOperatorTable.minOperator) {
-                return Expressions.call(
-                    grouping,
-                    "min",
-                    EnumUtil.generateAccessor(
-                        typeFactory,
-                        rowType,
-                        aggCall.getArgList(),
-                        true));
+                aggregator =
+                    args.isEmpty()
+                        ? Expressions.call(
+                            BuiltinMethod.AGG_COUNT_STAR.method)
+                        : Expressions.call(
+                            BuiltinMethod.AGG_COUNT.method,
+                            EnumUtil.generateKeyAccessor(
+                                rowClass, rowType, args));
             } else {
-                throw new AssertionError("unknown agg " + aggregation);
+                final String methodName;
+                if (aggregation == SqlStdOperatorTable.sumOperator) {
+                    methodName = "sum";
+                } else if (aggregation == SqlStdOperatorTable.avgOperator) {
+                    methodName = "avg";
+                } else if (aggregation == SqlStdOperatorTable.minOperator) {
+                    methodName = "min";
+                } else if (aggregation == SqlStdOperatorTable.maxOperator) {
+                    methodName = "max";
+                } else {
+                    throw new AssertionError("unknown agg " + aggregation);
+                }
+                final Type resultType =
+                    typeFactory.getJavaClass(aggCall.getType());
+                final RelDataType argType =
+                    rowType.getFieldList().get(args.get(0)).getType();
+                final Class functionClass =
+                    argFunctionClass(typeFactory, argType);
+                aggregator =
+                    Expressions.call(
+                        Types.lookupMethod(
+                            HashAggregate.class,
+                            methodName,
+                            functionClass,
+                            Class.class),
+                        generateArgAccessor(
+                            typeFactory, rowClass, rowType, args.get(0),
+                            functionClass),
+                        Expressions.constant(
+                            resultType instanceof Class
+                                ? Types.box(resultType)
+                                : Object.class));
+            }
+            if (aggCall.isDistinct()
+                && aggregation != SqlStdOperatorTable.minOperator
+                && aggregation != SqlStdOperatorTable.maxOperator)
+            {
+                aggregator =
+                    Expressions.call(
+                        BuiltinMethod.AGG_DISTINCT.method,
+                        EnumUtil.generateKeyAccessor(
+                            rowClass, rowType, args),
+                        aggregator);
+            }
+            return aggregator;
+        }
+
+        /**
+         * Returns the kind of function that reads the argument of an
+         * aggregate function. If the argument is NOT NULL and numeric, the
+         * function returns a primitive value (it is an
+         * {@link IntegerFunction1}, {@link LongFunction1} or
+         * {@link DoubleFunction1}), so that the value is not boxed;
+         * otherwise it is a {@link Function1}.
+         */
+        private static Class argFunctionClass(
+            JavaTypeFactory typeFactory,
+            RelDataType type)
+        {
+            if (type.isNullable()) {
+                return Function1.class;
+            }
+            final Type clazz = typeFactory.getJavaClass(type);
+            if (clazz == Integer.TYPE || clazz == Integer.class
+                || clazz == Short.TYPE || clazz == Short.class
+                || clazz == Byte.TYPE || clazz == Byte.class)
+            {
+                return IntegerFunction1.class;
+            } else if (clazz == Long.TYPE || clazz == Long.class) {
+                return LongFunction1.class;
+            } else if (clazz == Double.TYPE || clazz == Double.class
+                || clazz == Float.TYPE || clazz == Float.class)
+            {
+                return DoubleFunction1.class;
+            } else {
+                return Function1.class;
+            }
+        }
+
+        /** Generates a function of a given kind that reads a field from a
+         * row. */
+        private static Expression generateArgAccessor(
+            JavaTypeFactory typeFactory,
+            Class rowClass,
+            RelDataType rowType,
+            int field,
+            Class functionClass)
+        {
+            ParameterExpression a0 = Expressions.parameter(rowClass, "a0");
+            Expression expression =
+                EnumUtil.inputFieldReference(rowType, a0, field);
+            if (functionClass == Function1.class) {
+                expression = EnumUtil.convert(expression, Object.class);
+            } else if (expression.getType() == Object.class) {
+                expression =
+                    Expressions.convert_(
+                        expression,
+                        Types.box(
+                            typeFactory.getJavaClass(
+                                rowType.getFieldList().get(field)
+                                    .getType())));
+            }
+            return Expressions.lambda(functionClass, expression, a0);
+        }
+    }
+
+    public static final RelOptRule ENUMERABLE_SORTED_AGGREGATE_RULE =
+        new EnumerableSortedAggregateRule();
+
+    /**
+     * Rule that converts an
+     * {@link net.hydromatic.optiq.rules.java.JavaRules.EnumerableAggregateRel}
+     * to an {@link EnumerableSortedAggregateRel} if its input is sorted on
+     * the GROUP BY columns; that is, if the leading fields of one of the
+     * input's collations are the group columns, in any order.
+     */
+    private static class EnumerableSortedAggregateRule extends RelOptRule {
+        private EnumerableSortedAggregateRule() {
+            super(
+                new RelOptRuleOperand(EnumerableAggregateRel.class, ANY),
+                "EnumerableSortedAggregateRule");
+        }
+
+        public void onMatch(RelOptRuleCall call) {
+            final EnumerableAggregateRel agg =
+                (EnumerableAggregateRel) call.rels[0];
+            final BitSet groupSet = agg.getGroupSet();
+            if (agg instanceof EnumerableSortedAggregateRel
+                || groupSet.isEmpty())
+            {
+                return;
+            }
+            final int groupCount = agg.getGroupCount();
+            for (RelCollation collation
+                : agg.getChild().getCollationList())
+            {
+                final List<RelFieldCollation> fieldCollations =
+                    collation.getFieldCollations();
+                if (fieldCollations.size() < groupCount) {
+                    continue;
+                }
+                final BitSet fields = new BitSet();
+                for (RelFieldCollation fieldCollation
+                    : fieldCollations.subList(0, groupCount))
+                {
+                    fields.set(fieldCollation.getFieldIndex());
+                }
+                if (fields.equals(groupSet)) {
+                    call.transformTo(
+                        new EnumerableSortedAggregateRel(
+                            agg.getCluster(),
+                            agg.getTraitSet(),
+                            agg.getChild(),
+                            groupSet,
+                            agg.getAggCallList(),
+                            fieldCollations.subList(0, groupCount)));
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Implementation of {@link AggregateRelBase} in
+     * {@link CallingConvention#ENUMERABLE enumerable calling convention}
+     * whose input is sorted on the group columns.
+     *
+     * <p>Created by {@link #ENUMERABLE_SORTED_AGGREGATE_RULE}. It computes
+     * one group at a time, so needs constant memory, and its output is
+     * sorted on the group columns.</p> */
+    public static class EnumerableSortedAggregateRel
+        extends EnumerableAggregateRel
+    {
+        /** Sort order of the input on the group columns. */
+        private final List<RelFieldCollation> collations;
+
+        public EnumerableSortedAggregateRel(
+            RelOptCluster cluster,
+            RelTraitSet traitSet,
+            RelNode child,
+            BitSet groupSet,
+            List<AggregateCall> aggCalls,
+            List<RelFieldCollation> collations)
+        {
+            super(cluster, traitSet, child, groupSet, aggCalls);
+            assert collations.size() == groupSet.cardinality();
+            this.collations = collations;
+        }
+
+        @Override
+        public EnumerableSortedAggregateRel copy(
+            RelTraitSet traitSet, List<RelNode> inputs)
+        {
+            return new EnumerableSortedAggregateRel(
+                getCluster(),
+                traitSet,
+                sole(inputs),
+                groupSet,
+                aggCalls,
+                collations);
+        }
+
+        /** Returns the order of the output rows: the input's order on the
+         * group columns, which are the leading fields of the output. */
+        @Override
+        public List<RelCollation> getCollationList() {
+            final List<Integer> groupList = Util.toList(groupSet);
+            final List<RelFieldCollation> fieldCollations =
+                new ArrayList<RelFieldCollation>();
+            for (RelFieldCollation collation : collations) {
+                fieldCollations.add(
+                    collation.copy(
+                        groupList.indexOf(collation.getFieldIndex())));
+            }
+            return Collections.<RelCollation>singletonList(
+                new RelCollationImpl(fieldCollations));
+        }
+
+        @Override
+        public BlockExpression implement(EnumerableRelImplementor implementor) {
+            final JavaTypeFactory typeFactory =
+                (JavaTypeFactory) implementor.getTypeFactory();
+            final BlockBuilder statements = new BlockBuilder();
+            final EnumerableRel child = (EnumerableRel) getChild();
+            final Class inputClass = EnumUtil.rowClass(implementor, child);
+            final RelDataType inputRowType = child.getRowType();
+            final Expression childExp =
+                statements.append(
+                    "child",
+                    implementor.visitChild(this, 0, child));
+            final Expression keySelector =
+                statements.append(
+                    "keySelector",
+                    EnumUtil.generateKeyAccessor(
+                        inputClass, inputRowType, Util.toList(groupSet)));
+            final List<Expression> aggregators = Expressions.list();
+            for (AggregateCall aggCall : aggCalls) {
+                aggregators.add(
+                    translate(typeFactory, inputClass, inputRowType, aggCall));
             }
+            statements.add(
+                Expressions.return_(
+                    null,
+                    Expressions.call(
+                        BuiltinMethod.SORTED_AGGREGATE.method,
+                        childExp,
+                        keySelector,
+                        Expressions.constant(getGroupCount()),
+                        Expressions.newArrayInit(
+                            Aggregator.class,
+                            aggregators))));
+            return statements.toBlock();
         }
     }
 
@@ -920,10 +2644,19 @@ public class JavaRules {
                 rel.getCluster(),
                 rel.getTraitSet(),
                 convertedChild,
-                sort.getCollations());
+                sort.getCollations(),
+                sort.getOffset(),
+                sort.getFetch());
         }
     }
 
+    /** Implementation of {@link SortRel} in
+     * {@link CallingConvention#ENUMERABLE enumerable calling convention}.
+     *
+     * <p>If there is a FETCH, the sort keeps only the first
+     * {@code offset + fetch} rows in a bounded heap. If there are no
+     * collations, the input is not sorted at all, and stops being read as
+     * soon as enough rows have been returned.</p> */
     public static class EnumerableSortRel
         extends SortRel
         implements EnumerableRel
@@ -932,49 +2665,73 @@ public class JavaRules {
             RelOptCluster cluster,
             RelTraitSet traitSet,
             RelNode child,
-            List<RelFieldCollation> collations)
+            List<RelFieldCollation> collations,
+            RexNode offset,
+            RexNode fetch)
         {
             super(
                 cluster,
                 traitSet.plus(CallingConvention.ENUMERABLE),
                 child,
-                collations);
+                collations,
+                offset,
+                fetch);
         }
 
         @Override
         public EnumerableSortRel copy(
             RelTraitSet traitSet,
             RelNode newInput,
-            List<RelFieldCollation> newCollations)
+            List<RelFieldCollation> newCollations,
+            RexNode offset,
+            RexNode fetch)
         {
             return new EnumerableSortRel(
                 getCluster(),
                 traitSet,
                 newInput,
-                newCollations);
+                newCollations,
+                offset,
+                fetch);
         }
 
         public BlockExpression implement(EnumerableRelImplementor implementor) {
-            final JavaTypeFactory typeFactory =
-                (JavaTypeFactory) implementor.getTypeFactory();
             final BlockBuilder statements = new BlockBuilder();
             Expression childExp =
                 statements.append(
                     "child",
                     implementor.visitChild(
                         this, 0, (EnumerableRel) getChild()));
+            final int offset =
+                this.offset == null ? 0 : RexLiteral.intValue(this.offset);
+            final int fetch =
+                this.fetch == null ? -1 : RexLiteral.intValue(this.fetch);
+            if (collations.isEmpty()) {
+                statements.add(
+                    Expressions.return_(
+                        null,
+                        Expressions.call(
+                            BuiltinMethod.LIMIT.method,
+                            childExp,
+                            Expressions.constant(offset),
+                            Expressions.constant(fetch))));
+                return statements.toBlock();
+            }
 
             RelDataType inputRowType = getChild().getRowType();
-            Class inputJavaType = EnumUtil.javaRowClass(
-                typeFactory, inputRowType);
+            Class inputJavaType = EnumUtil.rowClass(implementor, getChild());
 
             ParameterExpression parameter =
                 Expressions.parameter(inputJavaType, "a0");
             final List<Expression> keyExpressions = Expressions.list();
             for (RelFieldCollation collation : collations) {
                 keyExpressions.add(
-                    EnumUtil.inputFieldReference(
-                        inputRowType, parameter, collation.getFieldIndex()));
+                    EnumUtil.convert(
+                        EnumUtil.inputFieldReference(
+                            inputRowType,
+                            parameter,
+                            collation.getFieldIndex()),
+                        Object.class));
             }
             final Expression keySelector =
                 statements.append(
@@ -991,56 +2748,79 @@ public class JavaRules {
                                     Object.class, keyExpressions),
                             parameter));
 
-            Expression comparatorExp;
-            if (collations.size() == 1) {
-                RelFieldCollation collation = collations.get(0);
-                switch (collation.getDirection()) {
-                case Ascending:
-                    comparatorExp = Expressions.constant(null);
-                    break;
-                default:
-                    comparatorExp =
-                        Expressions.call(
-                            Collections.class,
-                            "reverseOrder");
-                }
-            } else {
-                List<Expression> directions =
-                    new AbstractList<Expression>() {
-                        public Expression get(int index) {
-                            return Expressions.constant(
-                                collations.get(index).getDirection()
-                                == RelFieldCollation.Direction.Descending);
-                        }
-                        public int size() {
-                            return collations.size();
-                        }
-                    };
-                comparatorExp =
-                    Expressions.new_(
-                        ArrayComparator.class,
-                        Collections.<Expression>singletonList(
-                            Expressions.newArrayInit(
-                                Boolean.TYPE,
-                                directions)));
-            }
             final Expression comparator =
                 statements.append(
                     "comparator",
-                    comparatorExp);
-
-            statements.add(
-                Expressions.return_(
-                    null,
-                    Expressions.call(
+                    EnumUtil.generateComparator(collations));
+
+            // Sort spills to disk if there are more rows than will fit in
+            // the buffer. If there is a FETCH, it keeps only the rows that
+            // will be returned, and never spills.
+            final int bufferSize =
+                ConnectionProperty.SORT_BUFFER_SIZE.getInt(
+                    implementor.properties);
+            Expression sorted =
+                Expressions.call(
+                    BuiltinMethod.EXTERNAL_SORT.method,
+                    Arrays.<Expression>asList(
                         childExp,
-                        BuiltinMethod.ORDER_BY.method,
                         keySelector,
-                        comparator)));
+                        comparator,
+                        Expressions.constant(
+                            fetch < 0 ? -1 : offset + fetch),
+                        Expressions.constant(bufferSize)));
+            if (offset > 0) {
+                sorted =
+                    Expressions.call(
+                        BuiltinMethod.LIMIT.method,
+                        statements.append("sorted", sorted),
+                        Expressions.constant(offset),
+                        Expressions.constant(-1));
+            }
+            statements.add(Expressions.return_(null, sorted));
             return statements.toBlock();
         }
     }
 
+    public static final RelOptRule ENUMERABLE_SORT_REMOVE_RULE =
+        new EnumerableSortRemoveRule();
+
+    /**
+     * Rule that removes an
+     * {@link net.hydromatic.optiq.rules.java.JavaRules.EnumerableSortRel} if
+     * its input is already sorted in the required order; for example, if
+     * the input is a scan of a table whose rows are declared to be sorted.
+     * If the sort has an OFFSET or FETCH, it is replaced with a sort that
+     * has no collations, which only limits its input.
+     */
+    private static class EnumerableSortRemoveRule extends RelOptRule {
+        private EnumerableSortRemoveRule() {
+            super(
+                new RelOptRuleOperand(EnumerableSortRel.class, ANY),
+                "EnumerableSortRemoveRule");
+        }
+
+        public void onMatch(RelOptRuleCall call) {
+            final EnumerableSortRel sort = (EnumerableSortRel) call.rels[0];
+            if (sort.getCollations().isEmpty()
+                || !isSorted(sort.getChild(), sort.getCollations()))
+            {
+                return;
+            }
+            if (sort.getOffset() == null && sort.getFetch() == null) {
+                call.transformTo(sort.getChild());
+            } else {
+                call.transformTo(
+                    sort.copy(
+                        sort.getTraitSet(),
+                        sort.getChild(),
+                        Collections.<RelFieldCollation>emptyList(),
+                        sort.getOffset(),
+                        sort.getFetch()));
+            }
+        }
+    }
+
     public static final EnumerableUnionRule ENUMERABLE_UNION_RULE =
         new EnumerableUnionRule();
 
@@ -1113,6 +2893,7 @@ public class JavaRules {
 
         public BlockExpression implement(EnumerableRelImplementor implementor) {
             final BlockBuilder statements = new BlockBuilder();
+            final Class rowClass = EnumUtil.rowClass(implementor, this);
             Expression unionExp = null;
             for (int i = 0; i < inputs.size(); i++) {
                 RelNode input = inputs.get(i);
@@ -1121,6 +2902,12 @@ public class JavaRules {
                         "child" + i,
                         implementor.visitChild(
                             this, i, (EnumerableRel) input));
+                childExp =
+                    EnumUtil.convertRows(
+                        childExp,
+                        input.getRowType(),
+                        EnumUtil.rowClass(implementor, input),
+                        rowClass);
 
                 if (unionExp == null) {
                     unionExp = childExp;
@@ -1216,6 +3003,7 @@ public class JavaRules {
 
         public BlockExpression implement(EnumerableRelImplementor implementor) {
             final BlockBuilder statements = new BlockBuilder();
+            final Class rowClass = EnumUtil.rowClass(implementor, this);
             Expression intersectExp = null;
             for (int i = 0; i < inputs.size(); i++) {
                 RelNode input = inputs.get(i);
@@ -1224,6 +3012,12 @@ public class JavaRules {
                         "child" + i,
                         implementor.visitChild(
                             this, i, (EnumerableRel) input));
+                childExp =
+                    EnumUtil.convertRows(
+                        childExp,
+                        input.getRowType(),
+                        EnumUtil.rowClass(implementor, input),
+                        rowClass);
 
                 if (intersectExp == null) {
                     intersectExp = childExp;
@@ -1319,6 +3113,7 @@ public class JavaRules {
 
         public BlockExpression implement(EnumerableRelImplementor implementor) {
             final BlockBuilder statements = new BlockBuilder();
+            final Class rowClass = EnumUtil.rowClass(implementor, this);
             Expression minusExp = null;
             for (int i = 0; i < inputs.size(); i++) {
                 RelNode input = inputs.get(i);
@@ -1327,6 +3122,12 @@ public class JavaRules {
                         "child" + i,
                         implementor.visitChild(
                             this, i, (EnumerableRel) input));
+                childExp =
+                    EnumUtil.convertRows(
+                        childExp,
+                        input.getRowType(),
+                        EnumUtil.rowClass(implementor, input),
+                        rowClass);
 
                 if (minusExp == null) {
                     minusExp = childExp;
@@ -19,16 +19,24 @@ package net.hydromatic.optiq.rules.java;
 
 import net.hydromatic.linq4j.expressions.*;
 
+import net.hydromatic.optiq.BuiltinMethod;
+import net.hydromatic.optiq.DataContext;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
+import net.hydromatic.optiq.runtime.BoundDataContext;
 import net.hydromatic.optiq.runtime.SqlFunctions;
+import net.hydromatic.optiq.runtime.SyntheticRow;
 
+import org.eigenbase.reltype.RelDataType;
 import org.eigenbase.reltype.RelDataTypeField;
 import org.eigenbase.rex.*;
 import org.eigenbase.sql.SqlOperator;
+import org.eigenbase.util.NlsString;
 import org.eigenbase.util.Util;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
 import java.util.*;
 
 import static net.hydromatic.linq4j.expressions.ExpressionType.*;
@@ -38,38 +46,125 @@ import static org.eigenbase.sql.fun.SqlStdOperatorTable.*;
  * Translates {@link org.eigenbase.rex.RexNode REX expressions} to
  * {@link net.hydromatic.linq4j.expressions.Expression linq4j expressions}.
  *
+ * <p>If the SQL type of an expression has a primitive Java representation
+ * (such as INTEGER, DOUBLE or BOOLEAN), its value is computed as a Java
+ * primitive. If the expression is nullable, the translator also generates a
+ * boolean null flag, and the primitive value is only evaluated if the flag is
+ * false. Values are boxed only when they are written to an output row.</p>
+ *
+ * <p>Operators follow SQL semantics: comparisons, arithmetic and functions
+ * return null if any argument is null; AND, OR and NOT use three-valued
+ * logic; and a condition (such as the condition of a filter) holds only if
+ * it evaluates to TRUE.</p>
+ *
  * @author jhyde
  */
 public class RexToLixTranslator {
     public static final Map<Method, SqlOperator> JAVA_TO_SQL_METHOD_MAP =
         Util.<Method, SqlOperator>mapOf(
             findMethod(String.class, "toUpperCase"), upperFunc,
+            findMethod(String.class, "toLowerCase"), lowerFunc,
             findMethod(
                 SqlFunctions.class, "substring", String.class, Integer.TYPE,
                 Integer.TYPE),
-            substringFunc);
+            substringFunc,
+            findMethod(SqlFunctions.class, "charLength", String.class),
+            charLengthFunc);
 
     private static final Map<SqlOperator, ExpressionType>
-        SQL_TO_LINQ_OPERATOR_MAP = Util.<SqlOperator, ExpressionType>mapOf(
-            andOperator, AndAlso,
-            orOperator, OrElse,
+        COMPARISON_OPERATOR_MAP = Util.<SqlOperator, ExpressionType>mapOf(
             lessThanOperator, LessThan,
             lessThanOrEqualOperator, LessThanOrEqual,
             greaterThanOperator, GreaterThan,
             greaterThanOrEqualOperator, GreaterThanOrEqual,
             equalsOperator, Equal,
-            notEqualsOperator, NotEqual,
-            notOperator, Not);
+            notEqualsOperator, NotEqual);
+
+    /** Methods in {@link SqlFunctions} that compare values that have no
+     * primitive representation. */
+    private static final Map<SqlOperator, String> COMPARISON_METHOD_MAP =
+        Util.<SqlOperator, String>mapOf(
+            lessThanOperator, "lt",
+            lessThanOrEqualOperator, "le",
+            greaterThanOperator, "gt",
+            greaterThanOrEqualOperator, "ge",
+            equalsOperator, "eq",
+            notEqualsOperator, "ne");
+
+    private static final Map<SqlOperator, ExpressionType>
+        ARITHMETIC_OPERATOR_MAP = Util.<SqlOperator, ExpressionType>mapOf(
+            plusOperator, Add,
+            minusOperator, Subtract,
+            multiplyOperator, Multiply,
+            divideOperator, Divide,
+            divideIntegerOperator, Divide,
+            modFunc, Modulo);
+
+    /** Methods in {@link SqlFunctions} that implement arithmetic on
+     * DECIMAL values. */
+    private static final Map<SqlOperator, String> ARITHMETIC_METHOD_MAP =
+        Util.<SqlOperator, String>mapOf(
+            plusOperator, "plus",
+            minusOperator, "minus",
+            multiplyOperator, "multiply",
+            divideOperator, "divide",
+            divideIntegerOperator, "divide",
+            modFunc, "mod");
 
     public static final Map<SqlOperator, Method> SQL_OP_TO_JAVA_METHOD_MAP =
         new HashMap<SqlOperator, Method>();
 
+    private static final Map<Class, Class> BOX_TO_PRIMITIVE_MAP =
+        Util.<Class, Class>mapOf(
+            Boolean.class, Boolean.TYPE,
+            Byte.class, Byte.TYPE,
+            Character.class, Character.TYPE,
+            Short.class, Short.TYPE,
+            Integer.class, Integer.TYPE,
+            Long.class, Long.TYPE,
+            Float.class, Float.TYPE,
+            Double.class, Double.TYPE);
+
+    private static final Map<Class, Class> PRIMITIVE_TO_BOX_MAP =
+        new HashMap<Class, Class>();
+
+    /** Primitive numeric classes, in order of binary numeric promotion. */
+    private static final List<Class> NUMERIC_CLASSES =
+        Arrays.<Class>asList(
+            Byte.TYPE, Short.TYPE, Integer.TYPE, Long.TYPE, Float.TYPE,
+            Double.TYPE);
+
+    /** Methods in {@link SqlFunctions} that convert a string to a value of
+     * a given class. */
+    private static final Map<Class, String> PARSE_METHOD_MAP =
+        Util.<Class, String>mapOf(
+            Boolean.TYPE, "toBoolean",
+            Byte.TYPE, "toByte",
+            Short.TYPE, "toShort",
+            Integer.TYPE, "toInt",
+            Long.TYPE, "toLong",
+            Float.TYPE, "toFloat",
+            Double.TYPE, "toDouble",
+            BigDecimal.class, "toBigDecimal");
+
+    /** Constant true. The translator recognizes it, and this
+     * {@link #FALSE_EXPR}, by identity, and simplifies expressions that
+     * contain them. */
+    private static final Expression TRUE_EXPR = Expressions.constant(true);
+
+    /** Constant false. Also the null flag of an expression that cannot be
+     * null. */
+    private static final Expression FALSE_EXPR = Expressions.constant(false);
+
     static {
         for (Map.Entry<Method, SqlOperator> entry
             : JAVA_TO_SQL_METHOD_MAP.entrySet())
         {
             SQL_OP_TO_JAVA_METHOD_MAP.put(entry.getValue(), entry.getKey());
         }
+        for (Map.Entry<Class, Class> entry : BOX_TO_PRIMITIVE_MAP.entrySet()) {
+            PRIMITIVE_TO_BOX_MAP.put(entry.getValue(), entry.getKey());
+        }
     }
 
     private final Map<RexNode, Slot> map = new HashMap<RexNode, Slot>();
@@ -77,6 +172,19 @@ public class RexToLixTranslator {
     private final RexProgram program;
     private final List<Slot> inputSlots = new ArrayList<Slot>();
 
+    /** Row type of each input, or null if there is one input whose row type
+     * is the input row type of the program. */
+    private final List<RelDataType> inputRowTypes;
+
+    /** Expression for each field of the input, if the input is a list of
+     * fields rather than a row; otherwise null. */
+    private final List<Expression> inputFields;
+
+    /** Prefix of the names of the variables that the translator declares.
+     * Translators whose declarations are in the same scope must have
+     * different prefixes. */
+    private final String prefix;
+
     /** Set of expressions which are to be translated inline. That is, they
      * should not be assigned to variables on first use. At present, the
      * algorithm is to use a first pass to determine how many times each
@@ -99,13 +207,35 @@ public class RexToLixTranslator {
     private RexToLixTranslator(
         RexProgram program,
         JavaTypeFactory typeFactory,
-        List<Expression> inputs)
+        List<Expression> inputs,
+        List<RelDataType> inputRowTypes)
     {
         this.program = program;
         this.typeFactory = typeFactory;
+        this.inputRowTypes = inputRowTypes;
+        this.inputFields = null;
+        this.prefix = "v";
         for (Expression input : inputs) {
             inputSlots.add(new Slot(null, input));
         }
+        assert inputRowTypes == null
+            ? inputs.size() == 1
+            : inputs.size() == inputRowTypes.size();
+    }
+
+    private RexToLixTranslator(
+        RexProgram program,
+        JavaTypeFactory typeFactory,
+        List<Expression> inputFields,
+        String prefix)
+    {
+        this.program = program;
+        this.typeFactory = typeFactory;
+        this.inputRowTypes = null;
+        this.inputFields = inputFields;
+        this.prefix = prefix;
+        assert inputFields.size()
+            == program.getInputRowType().getFieldCount();
     }
 
     /**
@@ -123,63 +253,204 @@ public class RexToLixTranslator {
         JavaTypeFactory typeFactory,
         List<Statement> list)
     {
-        return new RexToLixTranslator(program, typeFactory, inputs)
-            .translate(list, program.getProjectList());
+        return translateProjects(inputs, program, typeFactory, list, null);
     }
 
-    private Expression translate(RexNode expr) {
+    /**
+     * Translates the projections of a {@link RexProgram}, each to be stored
+     * in a field of a given Java class.
+     *
+     * <p>If a field is primitive, the expression is its primitive value,
+     * which must not be null; otherwise the expression is a reference, null
+     * if the value is null.</p>
+     *
+     * @param inputs Variables holding the current record of each input
+     * relational expression
+     * @param program Program to be translated
+     * @param typeFactory Type factory
+     * @param list List to which declarations are added
+     * @param storageClasses Java class of the field that will hold each
+     *   projection; or null, meaning that each projection is a reference
+     * @return Expression for each projection
+     */
+    public static List<Expression> translateProjects(
+        List<Expression> inputs,
+        RexProgram program,
+        JavaTypeFactory typeFactory,
+        List<Statement> list,
+        List<Class> storageClasses)
+    {
+        return new RexToLixTranslator(program, typeFactory, inputs, null)
+            .translate(list, program.getProjectList(), false, storageClasses);
+    }
+
+    /**
+     * Translates the projections of a {@link RexProgram} whose input is a
+     * list of fields, as in a pipeline of operators that push rows to each
+     * other.
+     *
+     * @param inputFields Expression for each field of the input; each must
+     *   be cheap to evaluate and free of side effects
+     * @param prefix Prefix for the names of declared variables
+     * @param program Program to be translated
+     * @param typeFactory Type factory
+     * @param list List to which declarations are added
+     * @param storageClasses Java class of each projection; primitive
+     *   projections must not be null
+     * @return Expression for each projection
+     */
+    public static List<Expression> translateFieldProjects(
+        List<Expression> inputFields,
+        String prefix,
+        RexProgram program,
+        JavaTypeFactory typeFactory,
+        List<Statement> list,
+        List<Class> storageClasses)
+    {
+        return new RexToLixTranslator(program, typeFactory, inputFields, prefix)
+            .translate(list, program.getProjectList(), false, storageClasses);
+    }
+
+    /**
+     * Translates the condition of a {@link RexProgram} whose input is a list
+     * of fields. The resulting expression is of type {@code boolean}, and is
+     * true only if the condition evaluates to TRUE.
+     *
+     * @see #translateFieldProjects
+     */
+    public static Expression translateFieldCondition(
+        List<Expression> inputFields,
+        String prefix,
+        RexProgram program,
+        JavaTypeFactory typeFactory,
+        List<Statement> list)
+    {
+        List<Expression> x =
+            new RexToLixTranslator(program, typeFactory, inputFields, prefix)
+                .translate(
+                    list,
+                    Collections.singletonList(program.getCondition()),
+                    true,
+                    null);
+        assert x.size() == 1;
+        return x.get(0);
+    }
+
+    private Lix translate(RexNode expr) {
         Slot slot = map.get(expr);
         if (slot == null) {
-            Expression expression = translate0(expr);
-            assert expression != null;
-            final ParameterExpression parameter;
-            if (!inlineRexSet.contains(expr)
+            Lix lix = translate0(expr);
+            assert lix != null;
+            if (list != null
+                && !inlineRexSet.contains(expr)
                 && !(expr instanceof RexLocalRef))
             {
-                parameter =
-                    Expressions.parameter(
-                        expression.getType(),
-                        "v" + map.size());
-            } else {
-                parameter = null;
-            }
-            slot = new Slot(
-                parameter,
-                expression);
-            if (parameter != null && list != null) {
-                list.add(
-                    Expressions.declare(
-                        Modifier.FINAL,
-                        slot.parameterExpression,
-                        slot.expression));
+                lix = declare(lix, prefix + map.size());
             }
+            slot = new Slot(lix);
             map.put(expr, slot);
         }
         slot.count++;
-        return slot.parameterExpression != null
-            ? slot.parameterExpression
-            : slot.expression;
+        return slot.lix;
     }
 
-    private Expression translate0(RexNode expr) {
-        if (expr instanceof RexInputRef) {
-            // TODO: multiple inputs, e.g. joins
-            final Expression input = getInput(0);
+    /** Assigns the value of an expression, and its null flag if it is
+     * nullable, to variables, and returns a translation that refers to those
+     * variables. */
+    private Lix declare(Lix lix, String name) {
+        final ParameterExpression value =
+            Expressions.parameter(lix.clazz, name);
+        if (lix.isNull == FALSE_EXPR) {
+            list.add(Expressions.declare(Modifier.FINAL, value, lix.value));
+            return new Lix(lix.clazz, value, FALSE_EXPR, null);
+        }
+        if (!lix.clazz.isPrimitive()) {
+            // A reference is its own null flag.
+            list.add(Expressions.declare(Modifier.FINAL, value, toOutput(lix)));
+            return new Lix(lix.clazz, value, isNullExpr(value), value);
+        }
+        final ParameterExpression isNull =
+            Expressions.parameter(Boolean.TYPE, name + "IsNull");
+        list.add(Expressions.declare(Modifier.FINAL, isNull, lix.isNull));
+        list.add(
+            Expressions.declare(
+                Modifier.FINAL,
+                value,
+                condition(isNull, zero(lix.clazz), lix.value)));
+        return new Lix(lix.clazz, value, isNull, null);
+    }
+
+    private Lix translate0(RexNode expr) {
+        if (expr instanceof RexInputRef && inputFields != null) {
             final int index = ((RexInputRef) expr).getIndex();
-            final List<RelDataTypeField> fields =
+            final RelDataType type =
+                program.getInputRowType().getFieldList().get(index).getType();
+            final Expression input = inputFields.get(index);
+            final Type storageType = input.getType();
+            return fromStorage(
+                input,
+                storageType instanceof Class
+                    ? (Class) storageType
+                    : Object.class,
+                javaClass(type),
+                type.isNullable());
+        }
+        if (expr instanceof RexInputRef) {
+            int index = ((RexInputRef) expr).getIndex();
+            int inputOrdinal = 0;
+            List<RelDataTypeField> fields =
                 program.getInputRowType().getFieldList();
+            if (inputRowTypes != null) {
+                // Input refs are numbered across the concatenated fields of
+                // all inputs, e.g. the left and right inputs of a join.
+                for (;;) {
+                    fields = inputRowTypes.get(inputOrdinal).getFieldList();
+                    if (index < fields.size()) {
+                        break;
+                    }
+                    index -= fields.size();
+                    ++inputOrdinal;
+                }
+            }
             final RelDataTypeField field = fields.get(index);
+            final boolean nullable = field.getType().isNullable();
+            final Expression input = getInput(inputOrdinal);
+            if (nullable) {
+                // The null test and the value each read the input.
+                getInput(inputOrdinal);
+            }
+            final Class clazz = javaClass(field.getType());
             if (fields.size() == 1) {
-                return input;
+                final Type type = input.getType();
+                return fromStorage(
+                    input,
+                    type instanceof Class ? (Class) type : Object.class,
+                    clazz,
+                    nullable);
             } else if (input.getType() == Object[].class) {
-                return Expressions.convert_(
-                    Expressions.arrayIndex(
-                        input, Expressions.constant(field.getIndex())),
-                    Types.box(
-                        JavaRules.EnumUtil.javaClass(
-                            typeFactory, field.getType())));
+                final Class boxClass = box(clazz);
+                return fromStorage(
+                    Expressions.convert_(
+                        Expressions.arrayIndex(
+                            input, Expressions.constant(field.getIndex())),
+                        boxClass),
+                    boxClass,
+                    clazz,
+                    nullable);
+            } else if (JavaRules.EnumUtil.isSynthetic(input.getType())) {
+                return fromStorage(
+                    JavaRules.EnumUtil.fieldReference(input, field),
+                    SyntheticRow.fieldClass(
+                        (Class) input.getType(), field.getIndex()),
+                    clazz,
+                    nullable);
             } else {
-                return Expressions.field(input, field.getName());
+                final Type type = typeFactory.getJavaClass(field.getType());
+                return fromStorage(
+                    Expressions.field(input, field.getName()),
+                    type instanceof Class ? (Class) type : Object.class,
+                    clazz,
+                    nullable);
             }
         }
         if (expr instanceof RexLocalRef) {
@@ -187,49 +458,604 @@ public class RexToLixTranslator {
                 program.getExprList().get(((RexLocalRef) expr).getIndex()));
         }
         if (expr instanceof RexLiteral) {
-            return Expressions.constant(
-                ((RexLiteral) expr).getValue(),
-                typeFactory.getJavaClass(expr.getType()));
+            final RexLiteral literal = (RexLiteral) expr;
+            final Class clazz = javaClass(expr.getType());
+            if (literal.getValue() == null) {
+                return new Lix(clazz, zero(clazz), TRUE_EXPR, null);
+            }
+            return new Lix(
+                clazz, translateLiteral(literal, clazz), FALSE_EXPR, null);
+        }
+        if (expr instanceof RexDynamicParam) {
+            // The value is bound when the statement is executed:
+            //   (Integer) root.get("?0")
+            final int index = ((RexDynamicParam) expr).getIndex();
+            return fromStorage(
+                Expressions.call(
+                    DataContext.ROOT,
+                    BuiltinMethod.DATA_CONTEXT_GET.method,
+                    Expressions.constant(
+                        BoundDataContext.parameterName(index))),
+                Object.class,
+                javaClass(expr.getType()),
+                expr.getType().isNullable());
         }
         if (expr instanceof RexCall) {
-            final RexCall call = (RexCall) expr;
-            final SqlOperator operator = call.getOperator();
-            final ExpressionType expressionType =
-                SQL_TO_LINQ_OPERATOR_MAP.get(operator);
-            if (expressionType != null) {
-                switch (operator.getSyntax()) {
-                case Binary:
-                    return Expressions.makeBinary(
-                        expressionType,
-                        translate(call.getOperands()[0]),
-                        translate(call.getOperands()[1]));
-                case Postfix:
-                case Prefix:
-                    return Expressions.makeUnary(
-                        expressionType, translate(call.getOperands()[0]));
-                default:
-                    throw new RuntimeException(
-                        "unknown syntax " + operator.getSyntax());
-                }
+            return translateCall((RexCall) expr);
+        }
+        throw new RuntimeException("cannot translate expression " + expr);
+    }
+
+    /** Translates a value read from an input row, whose Java class in the
+     * row is {@code storageClass}. */
+    private Lix fromStorage(
+        Expression expression,
+        Class storageClass,
+        Class clazz,
+        boolean nullable)
+    {
+        if (storageClass.isPrimitive()) {
+            return new Lix(
+                clazz,
+                convert(expression, storageClass, clazz),
+                FALSE_EXPR,
+                null);
+        }
+        final Class boxClass = box(clazz);
+        if (!boxClass.isAssignableFrom(storageClass)) {
+            expression = Expressions.convert_(expression, boxClass);
+        }
+        return new Lix(
+            clazz,
+            clazz.isPrimitive() ? unbox(expression, clazz) : expression,
+            nullable ? isNullExpr(expression) : FALSE_EXPR,
+            expression);
+    }
+
+    private Expression translateLiteral(RexLiteral literal, Class clazz) {
+        final Comparable value = literal.getValue();
+        if (value instanceof NlsString) {
+            return Expressions.constant(
+                ((NlsString) value).getValue(), String.class);
+        }
+        if (value instanceof BigDecimal) {
+            final BigDecimal bigDecimal = (BigDecimal) value;
+            if (clazz == Integer.TYPE) {
+                return Expressions.constant(bigDecimal.intValue(), clazz);
+            } else if (clazz == Long.TYPE) {
+                return Expressions.constant(bigDecimal.longValue(), clazz);
+            } else if (clazz == Short.TYPE) {
+                return Expressions.constant(bigDecimal.shortValue(), clazz);
+            } else if (clazz == Byte.TYPE) {
+                return Expressions.constant(bigDecimal.byteValue(), clazz);
+            } else if (clazz == Double.TYPE) {
+                return Expressions.constant(bigDecimal.doubleValue(), clazz);
+            } else if (clazz == Float.TYPE) {
+                return Expressions.constant(bigDecimal.floatValue(), clazz);
             }
+            return Expressions.constant(bigDecimal, BigDecimal.class);
+        }
+        if (value instanceof Calendar) {
+            // java.sql.Date, Time and Timestamp each have a constructor that
+            // takes milliseconds since the epoch.
+            return Expressions.new_(
+                clazz,
+                Collections.<Expression>singletonList(
+                    Expressions.constant(
+                        ((Calendar) value).getTimeInMillis(), Long.TYPE)));
+        }
+        return Expressions.constant(value, clazz);
+    }
 
-            Method method = SQL_OP_TO_JAVA_METHOD_MAP.get(operator);
-            if (method != null) {
-                List<Expression> exprs =
-                    translateList(Arrays.asList(call.operands));
-                return !Modifier.isStatic(method.getModifiers())
-                    ? Expressions.call(
-                        exprs.get(0), method, exprs.subList(1, exprs.size()))
-                    : Expressions.call(method, exprs);
+    private Lix translateCall(RexCall call) {
+        final SqlOperator operator = call.getOperator();
+        final List<RexNode> operands = Arrays.asList(call.getOperands());
+        final Class clazz = javaClass(call.getType());
+        if (operator == andOperator) {
+            return translateAnd(translateList(operands));
+        }
+        if (operator == orOperator) {
+            return translateOr(translateList(operands));
+        }
+        if (operator == notOperator) {
+            final Lix x = translate(operands.get(0));
+            return new Lix(Boolean.TYPE, not(x.value), x.isNull, null);
+        }
+        if (operator == isNullOperator || operator == isUnknownOperator) {
+            return notNull(translate(operands.get(0)).isNull);
+        }
+        if (operator == isNotNullOperator
+            || operator == isNotUnknownOperator)
+        {
+            return notNull(not(translate(operands.get(0)).isNull));
+        }
+        if (operator == isTrueOperator) {
+            return notNull(isTrue(translate(operands.get(0))));
+        }
+        if (operator == isNotTrueOperator) {
+            return notNull(not(isTrue(translate(operands.get(0)))));
+        }
+        if (operator == isFalseOperator) {
+            return notNull(isFalse(translate(operands.get(0))));
+        }
+        if (operator == isNotFalseOperator) {
+            return notNull(not(isFalse(translate(operands.get(0)))));
+        }
+        if (operator == caseOperator) {
+            return translateCase(operands, clazz);
+        }
+        if (operator == castFunc || operator == prefixPlusOperator) {
+            return convert(translate(operands.get(0)), clazz);
+        }
+        if (operator == prefixMinusOperator) {
+            final Lix x = translate(operands.get(0));
+            if (isNumeric(x.clazz)) {
+                return convert(
+                    new Lix(
+                        promote(x.clazz, Integer.TYPE),
+                        Expressions.makeUnary(Negate, x.value),
+                        x.isNull,
+                        null),
+                    clazz);
             }
+            return convert(
+                new Lix(
+                    BigDecimal.class,
+                    Expressions.call(
+                        findMethod(
+                            SqlFunctions.class, "negate", BigDecimal.class),
+                        toBigDecimal(x.value, x.clazz)),
+                    x.isNull,
+                    null),
+                clazz);
+        }
+        final ExpressionType comparison =
+            COMPARISON_OPERATOR_MAP.get(operator);
+        if (comparison != null) {
+            return translateComparison(
+                operator,
+                comparison,
+                translate(operands.get(0)),
+                translate(operands.get(1)));
+        }
+        final ExpressionType arithmetic =
+            ARITHMETIC_OPERATOR_MAP.get(operator);
+        if (arithmetic != null) {
+            return convert(
+                translateArithmetic(
+                    operator,
+                    arithmetic,
+                    translate(operands.get(0)),
+                    translate(operands.get(1))),
+                clazz);
+        }
+        final Method method = SQL_OP_TO_JAVA_METHOD_MAP.get(operator);
+        if (method != null) {
+            return convert(
+                translateMethodCall(method, translateList(operands)), clazz);
+        }
+        throw new RuntimeException("cannot translate expression " + call);
+    }
 
-            switch (expr.getKind()) {
-            default:
-                throw new RuntimeException(
-                    "cannot translate expression " + expr);
+    /** Translates AND. The result is false if any operand is false;
+     * otherwise null if any operand is null; otherwise true. */
+    private static Lix translateAnd(List<Lix> operands) {
+        final Expression anyNull = anyNull(operands);
+        if (anyNull == FALSE_EXPR) {
+            Expression value = TRUE_EXPR;
+            for (Lix operand : operands) {
+                value = and(value, operand.value);
             }
+            return new Lix(Boolean.TYPE, value, FALSE_EXPR, null);
         }
-        throw new RuntimeException("cannot translate expression " + expr);
+        Expression anyFalse = FALSE_EXPR;
+        for (Lix operand : operands) {
+            anyFalse = or(anyFalse, isFalse(operand));
+        }
+        return new Lix(
+            Boolean.TYPE, not(anyFalse), and(not(anyFalse), anyNull), null);
+    }
+
+    /** Translates OR. The result is true if any operand is true; otherwise
+     * null if any operand is null; otherwise false. */
+    private static Lix translateOr(List<Lix> operands) {
+        final Expression anyNull = anyNull(operands);
+        if (anyNull == FALSE_EXPR) {
+            Expression value = FALSE_EXPR;
+            for (Lix operand : operands) {
+                value = or(value, operand.value);
+            }
+            return new Lix(Boolean.TYPE, value, FALSE_EXPR, null);
+        }
+        Expression anyTrue = FALSE_EXPR;
+        for (Lix operand : operands) {
+            anyTrue = or(anyTrue, isTrue(operand));
+        }
+        return new Lix(
+            Boolean.TYPE, anyTrue, and(not(anyTrue), anyNull), null);
+    }
+
+    private Lix translateCase(List<RexNode> operands, Class clazz) {
+        // Operands are WHEN, THEN pairs, then an optional ELSE.
+        int i = operands.size();
+        Lix result;
+        if (i % 2 == 1) {
+            result = convert(translate(operands.get(--i)), clazz);
+        } else {
+            result = new Lix(clazz, zero(clazz), TRUE_EXPR, null);
+        }
+        while (i > 0) {
+            i -= 2;
+            final Expression test = isTrue(translate(operands.get(i)));
+            final Lix then = convert(translate(operands.get(i + 1)), clazz);
+            result =
+                new Lix(
+                    clazz,
+                    condition(test, then.value, result.value),
+                    condition(test, then.isNull, result.isNull),
+                    null);
+        }
+        return result;
+    }
+
+    private static Lix translateComparison(
+        SqlOperator operator,
+        ExpressionType expressionType,
+        Lix x0,
+        Lix x1)
+    {
+        final Expression isNull = or(x0.isNull, x1.isNull);
+        if ((isNumeric(x0.clazz) && isNumeric(x1.clazz))
+            || (x0.clazz == Boolean.TYPE
+                && x1.clazz == Boolean.TYPE
+                && (expressionType == Equal || expressionType == NotEqual)))
+        {
+            return new Lix(
+                Boolean.TYPE,
+                Expressions.makeBinary(expressionType, x0.value, x1.value),
+                isNull,
+                null);
+        }
+        final Expression e0;
+        final Expression e1;
+        if (x0.clazz == BigDecimal.class || x1.clazz == BigDecimal.class) {
+            e0 = toBigDecimal(x0.value, x0.clazz);
+            e1 = toBigDecimal(x1.value, x1.clazz);
+        } else {
+            e0 = box(x0.value, x0.clazz);
+            e1 = box(x1.value, x1.clazz);
+        }
+        final Class parameterType =
+            expressionType == Equal || expressionType == NotEqual
+                ? Object.class
+                : Comparable.class;
+        return new Lix(
+            Boolean.TYPE,
+            Expressions.call(
+                findMethod(
+                    SqlFunctions.class,
+                    COMPARISON_METHOD_MAP.get(operator),
+                    parameterType,
+                    parameterType),
+                Arrays.asList(e0, e1)),
+            isNull,
+            null);
+    }
+
+    private static Lix translateArithmetic(
+        SqlOperator operator,
+        ExpressionType expressionType,
+        Lix x0,
+        Lix x1)
+    {
+        final Expression isNull = or(x0.isNull, x1.isNull);
+        if (isNumeric(x0.clazz) && isNumeric(x1.clazz)) {
+            return new Lix(
+                promote(x0.clazz, x1.clazz),
+                Expressions.makeBinary(expressionType, x0.value, x1.value),
+                isNull,
+                null);
+        }
+        return new Lix(
+            BigDecimal.class,
+            Expressions.call(
+                findMethod(
+                    SqlFunctions.class,
+                    ARITHMETIC_METHOD_MAP.get(operator),
+                    BigDecimal.class,
+                    BigDecimal.class),
+                Arrays.asList(
+                    toBigDecimal(x0.value, x0.clazz),
+                    toBigDecimal(x1.value, x1.clazz))),
+            isNull,
+            null);
+    }
+
+    /** Translates a call to a Java method. The method is not called if any
+     * argument is null; the result is null. */
+    private static Lix translateMethodCall(Method method, List<Lix> operands) {
+        final Class[] parameterTypes = method.getParameterTypes();
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        final List<Expression> args = new ArrayList<Expression>();
+        for (int i = 0; i < operands.size(); i++) {
+            final Lix operand = operands.get(i);
+            final Class parameterType =
+                isStatic
+                    ? parameterTypes[i]
+                    : i == 0
+                    ? method.getDeclaringClass()
+                    : parameterTypes[i - 1];
+            args.add(convert(operand.value, operand.clazz, parameterType));
+        }
+        return new Lix(
+            method.getReturnType(),
+            isStatic
+                ? Expressions.call(method, args)
+                : Expressions.call(
+                    args.get(0), method, args.subList(1, args.size())),
+            anyNull(operands),
+            null);
+    }
+
+    /** Converts a translated expression to a given Java class. */
+    private static Lix convert(Lix lix, Class clazz) {
+        if (lix.clazz == clazz) {
+            return lix;
+        }
+        return new Lix(
+            clazz,
+            convert(lix.value, lix.clazz, clazz),
+            lix.isNull,
+            null);
+    }
+
+    /** Converts a non-null value from one Java class to another, following
+     * the rules of SQL CAST where they differ from Java's. */
+    private static Expression convert(
+        Expression expression, Class fromClass, Class toClass)
+    {
+        if (fromClass == toClass) {
+            return expression;
+        }
+        if (isNumeric(fromClass) && isNumeric(toClass)) {
+            return Expressions.convert_(expression, toClass);
+        }
+        if (fromClass.isPrimitive() && !toClass.isPrimitive()) {
+            if (toClass == String.class) {
+                final Class parameterType =
+                    fromClass == Byte.TYPE || fromClass == Short.TYPE
+                        ? Integer.TYPE
+                        : fromClass;
+                return Expressions.call(
+                    findMethod(String.class, "valueOf", parameterType),
+                    expression);
+            }
+            if (toClass == BigDecimal.class) {
+                return toBigDecimal(expression, fromClass);
+            }
+            if (toClass.isAssignableFrom(box(fromClass))) {
+                return box(expression, fromClass);
+            }
+        }
+        if (!fromClass.isPrimitive() && toClass.isPrimitive()) {
+            if (fromClass == String.class) {
+                return Expressions.call(
+                    findMethod(
+                        SqlFunctions.class,
+                        PARSE_METHOD_MAP.get(toClass),
+                        String.class),
+                    expression);
+            }
+            if (isNumeric(toClass)
+                && Number.class.isAssignableFrom(fromClass))
+            {
+                // For example, BigDecimal.intValue()
+                return Expressions.call(
+                    expression,
+                    findMethod(Number.class, toClass.getName() + "Value"));
+            }
+            return unbox(
+                box(fromClass) == box(toClass)
+                    ? expression
+                    : Expressions.convert_(expression, box(toClass)),
+                toClass);
+        }
+        if (toClass == String.class) {
+            return Expressions.call(
+                findMethod(String.class, "valueOf", Object.class),
+                expression);
+        }
+        if (fromClass == String.class && toClass == BigDecimal.class) {
+            return Expressions.call(
+                findMethod(SqlFunctions.class, "toBigDecimal", String.class),
+                expression);
+        }
+        if (toClass.isAssignableFrom(fromClass)) {
+            return expression;
+        }
+        return Expressions.convert_(expression, toClass);
+    }
+
+    private static Expression toBigDecimal(Expression expression, Class clazz)
+    {
+        if (clazz == BigDecimal.class) {
+            return expression;
+        }
+        if (!isNumeric(clazz)) {
+            throw new RuntimeException(
+                "cannot convert " + clazz + " to DECIMAL");
+        }
+        return Expressions.call(
+            findMethod(
+                SqlFunctions.class,
+                "toBigDecimal",
+                clazz == Double.TYPE || clazz == Float.TYPE
+                    ? Double.TYPE
+                    : Long.TYPE),
+            expression);
+    }
+
+    /** Converts a translated expression to an expression that can be
+     * written to an output row: a reference that is null if the value is
+     * null, or a non-nullable primitive. */
+    private static Expression toOutput(Lix lix) {
+        if (lix.boxed != null) {
+            return lix.boxed;
+        }
+        if (lix.isNull == FALSE_EXPR) {
+            return lix.value;
+        }
+        return condition(
+            lix.isNull,
+            Expressions.constant(null, box(lix.clazz)),
+            box(lix.value, lix.clazz));
+    }
+
+    /** Returns an expression that is true if a translated boolean expression
+     * evaluates to TRUE (as opposed to FALSE or UNKNOWN). */
+    private static Expression isTrue(Lix lix) {
+        return and(not(lix.isNull), lix.value);
+    }
+
+    /** Returns an expression that is true if a translated boolean expression
+     * evaluates to FALSE (as opposed to TRUE or UNKNOWN). */
+    private static Expression isFalse(Lix lix) {
+        return and(not(lix.isNull), not(lix.value));
+    }
+
+    /** Returns a non-nullable boolean translation. */
+    private static Lix notNull(Expression value) {
+        return new Lix(Boolean.TYPE, value, FALSE_EXPR, null);
+    }
+
+    private static Expression anyNull(List<Lix> operands) {
+        Expression anyNull = FALSE_EXPR;
+        for (Lix operand : operands) {
+            anyNull = or(anyNull, operand.isNull);
+        }
+        return anyNull;
+    }
+
+    private static Expression and(Expression e0, Expression e1) {
+        if (e0 == FALSE_EXPR || e1 == FALSE_EXPR) {
+            return FALSE_EXPR;
+        }
+        if (e0 == TRUE_EXPR) {
+            return e1;
+        }
+        if (e1 == TRUE_EXPR) {
+            return e0;
+        }
+        return Expressions.makeBinary(AndAlso, e0, e1);
+    }
+
+    private static Expression or(Expression e0, Expression e1) {
+        if (e0 == TRUE_EXPR || e1 == TRUE_EXPR) {
+            return TRUE_EXPR;
+        }
+        if (e0 == FALSE_EXPR) {
+            return e1;
+        }
+        if (e1 == FALSE_EXPR) {
+            return e0;
+        }
+        return Expressions.makeBinary(OrElse, e0, e1);
+    }
+
+    private static Expression not(Expression e) {
+        if (e == TRUE_EXPR) {
+            return FALSE_EXPR;
+        }
+        if (e == FALSE_EXPR) {
+            return TRUE_EXPR;
+        }
+        return Expressions.makeUnary(Not, e);
+    }
+
+    private static Expression condition(
+        Expression test, Expression ifTrue, Expression ifFalse)
+    {
+        if (test == TRUE_EXPR || ifTrue == ifFalse) {
+            return ifTrue;
+        }
+        if (test == FALSE_EXPR) {
+            return ifFalse;
+        }
+        return Expressions.condition(test, ifTrue, ifFalse);
+    }
+
+    private static Expression isNullExpr(Expression expression) {
+        return Expressions.makeBinary(
+            Equal, expression, Expressions.constant(null));
+    }
+
+    /** Returns a constant of a given class; used as the value of a variable
+     * whose null flag is set. */
+    private static Expression zero(Class clazz) {
+        if (clazz == Boolean.TYPE) {
+            return Expressions.constant(false, clazz);
+        } else if (clazz == Character.TYPE) {
+            return Expressions.constant((char) 0, clazz);
+        } else if (clazz == Byte.TYPE) {
+            return Expressions.constant((byte) 0, clazz);
+        } else if (clazz == Short.TYPE) {
+            return Expressions.constant((short) 0, clazz);
+        } else if (clazz == Integer.TYPE) {
+            return Expressions.constant(0, clazz);
+        } else if (clazz == Long.TYPE) {
+            return Expressions.constant(0L, clazz);
+        } else if (clazz == Float.TYPE) {
+            return Expressions.constant(0F, clazz);
+        } else if (clazz == Double.TYPE) {
+            return Expressions.constant(0D, clazz);
+        }
+        return Expressions.constant(null, clazz);
+    }
+
+    private static Expression box(Expression expression, Class clazz) {
+        return clazz.isPrimitive()
+            ? Expressions.convert_(expression, box(clazz))
+            : expression;
+    }
+
+    private static Expression unbox(Expression expression, Class clazz) {
+        return Expressions.call(
+            expression,
+            findMethod(box(clazz), clazz.getName() + "Value"));
+    }
+
+    private static Class box(Class clazz) {
+        final Class boxClass = PRIMITIVE_TO_BOX_MAP.get(clazz);
+        return boxClass != null ? boxClass : clazz;
+    }
+
+    private static boolean isNumeric(Class clazz) {
+        return NUMERIC_CLASSES.contains(clazz);
+    }
+
+    /** Returns the class of the result of a Java arithmetic operator
+     * applied to values of two primitive numeric classes. */
+    private static Class promote(Class clazz0, Class clazz1) {
+        final int i = Math.max(
+            NUMERIC_CLASSES.indexOf(clazz0),
+            NUMERIC_CLASSES.indexOf(clazz1));
+        return NUMERIC_CLASSES.get(
+            Math.max(i, NUMERIC_CLASSES.indexOf(Integer.TYPE)));
+    }
+
+    /** Returns the Java class of values of a given SQL type: a primitive
+     * class if the type has a primitive representation, regardless of
+     * whether the type is nullable. */
+    private Class javaClass(RelDataType type) {
+        final Type javaType = typeFactory.getJavaClass(type);
+        if (javaType == null) {
+            return Object.class;
+        }
+        if (!(javaType instanceof Class)) {
+            return Object[].class;
+        }
+        final Class primitive = BOX_TO_PRIMITIVE_MAP.get(javaType);
+        return primitive != null ? primitive : (Class) javaType;
     }
 
     /**
@@ -259,22 +1085,60 @@ public class RexToLixTranslator {
             : slot.expression;
     }
 
-    private List<Expression> translateList(List<RexNode> operandList) {
-        final List<Expression> list = new ArrayList<Expression>();
+    private List<Lix> translateList(List<RexNode> operandList) {
+        final List<Lix> list = new ArrayList<Lix>();
         for (RexNode rex : operandList) {
             list.add(translate(rex));
         }
         return list;
     }
 
+    /**
+     * Translates an expression that is used as a condition. The result is
+     * true if the expression evaluates to the given truth value (not if it
+     * evaluates to UNKNOWN).
+     *
+     * <p>AND, OR and NOT are translated directly into Java's {@code &&},
+     * {@code ||} and {@code !}, which is simpler than translating them to
+     * three-valued values and then testing the result.</p>
+     */
+    private Expression translateCondition(RexNode expr, boolean truth) {
+        RexNode e = expr;
+        while (e instanceof RexLocalRef) {
+            e = program.getExprList().get(((RexLocalRef) e).getIndex());
+        }
+        if (e instanceof RexCall) {
+            final RexCall call = (RexCall) e;
+            final SqlOperator operator = call.getOperator();
+            if (operator == notOperator) {
+                return translateCondition(call.getOperands()[0], !truth);
+            }
+            if (operator == andOperator || operator == orOperator) {
+                // "a AND b" is TRUE if both are TRUE, and FALSE if either
+                // is FALSE; "a OR b" is the converse.
+                final boolean all = (operator == andOperator) == truth;
+                Expression result = all ? TRUE_EXPR : FALSE_EXPR;
+                for (RexNode operand : call.getOperands()) {
+                    final Expression x = translateCondition(operand, truth);
+                    result = all ? and(result, x) : or(result, x);
+                }
+                return result;
+            }
+        }
+        final Lix lix = translate(expr);
+        return truth ? isTrue(lix) : isFalse(lix);
+    }
+
     private List<Expression> translate(
         List<Statement> list,
-        List<RexLocalRef> rexList)
+        List<RexLocalRef> rexList,
+        boolean condition,
+        List<Class> storageClasses)
     {
         // First pass. Count how many times each sub-expression is used.
         this.list = null;
-        for (RexNode rexExpr : rexList) {
-            translate(rexExpr);
+        for (int i = 0; i < rexList.size(); i++) {
+            translateOutput(rexList.get(i), condition, storageClasses, i);
         }
 
         // Mark expressions as inline if they are not used more than once.
@@ -292,29 +1156,115 @@ public class RexToLixTranslator {
         this.list = list;
         this.map.clear();
         List<Expression> translateds = new ArrayList<Expression>();
-        for (RexNode rexExpr : rexList) {
-            translateds.add(translate(rexExpr));
+        for (int i = 0; i < rexList.size(); i++) {
+            translateds.add(
+                translateOutput(rexList.get(i), condition, storageClasses, i));
         }
         return translateds;
     }
 
+    /** Translates the {@code i}th output expression, either as a condition
+     * or as a value to be stored in a field of the {@code i}th storage
+     * class. */
+    private Expression translateOutput(
+        RexNode expr,
+        boolean condition,
+        List<Class> storageClasses,
+        int i)
+    {
+        if (condition) {
+            return translateCondition(expr, true);
+        }
+        final Lix lix = translate(expr);
+        if (storageClasses == null) {
+            return toOutput(lix);
+        }
+        final Class storageClass = storageClasses.get(i);
+        if (storageClass.isPrimitive()) {
+            return convert(lix.value, lix.clazz, storageClass);
+        }
+        final Expression output = toOutput(lix);
+        final Type type = output.getType();
+        return type instanceof Class
+            && storageClass.isAssignableFrom((Class) type)
+            ? output
+            : Expressions.convert_(output, storageClass);
+    }
+
     public static Expression translateCondition(
         List<Expression> inputs,
         RexProgram program,
         JavaTypeFactory typeFactory,
         List<Statement> list)
+    {
+        return translateCondition(inputs, null, program, typeFactory, list);
+    }
+
+    /**
+     * Translates the condition of a {@link RexProgram} whose input is the
+     * concatenation of several inputs, for example the condition of a join.
+     *
+     * <p>The resulting expression is of type {@code boolean}, and is true
+     * only if the condition evaluates to TRUE.</p>
+     *
+     * @param inputs Variables holding the current record of each input
+     * @param inputRowTypes Row type of each input, or null if there is one
+     *   input of the program's input row type
+     * @param program Program whose condition is to be translated
+     * @param typeFactory Type factory
+     * @param list List to which declarations are added
+     * @return Expression that evaluates the condition
+     */
+    public static Expression translateCondition(
+        List<Expression> inputs,
+        List<RelDataType> inputRowTypes,
+        RexProgram program,
+        JavaTypeFactory typeFactory,
+        List<Statement> list)
     {
         List<Expression> x =
-            new RexToLixTranslator(program, typeFactory, inputs)
+            new RexToLixTranslator(program, typeFactory, inputs, inputRowTypes)
                 .translate(
-                    list, Collections.singletonList(program.getCondition()));
+                    list,
+                    Collections.singletonList(program.getCondition()),
+                    true,
+                    null);
         assert x.size() == 1;
         return x.get(0);
     }
 
+    /**
+     * Translation of a REX expression.
+     *
+     * <p>{@link #value} computes the value, as an instance of
+     * {@link #clazz}, which is primitive if the SQL type has a primitive
+     * representation. {@link #isNull} is a boolean expression that is true
+     * if the value is null; it is {@link #FALSE_EXPR} if the expression
+     * cannot be null. Generated code must not evaluate {@code value} if
+     * {@code isNull} is true.</p>
+     */
+    private static class Lix {
+        final Class clazz;
+        final Expression value;
+        final Expression isNull;
+
+        /** Expression that evaluates to the value as a reference (null if
+         * the value is null) without unboxing and re-boxing it; or null. */
+        final Expression boxed;
+
+        Lix(Class clazz, Expression value, Expression isNull, Expression boxed)
+        {
+            this.clazz = clazz;
+            this.value = value;
+            this.isNull = isNull;
+            this.boxed = boxed;
+        }
+    }
+
     private static class Slot {
         ParameterExpression parameterExpression;
         Expression expression;
+        Lix lix;
         int count;
 
         public Slot(
@@ -324,6 +1274,10 @@ public class RexToLixTranslator {
             this.parameterExpression = parameterExpression;
             this.expression = expression;
         }
+
+        public Slot(Lix lix) {
+            this.lix = lix;
+        }
     }
 }
 
@@ -0,0 +1,122 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+/**
+ * Aggregate function, as evaluated by {@link HashAggregate}.
+ *
+ * <p>An aggregator holds no per-group data itself; it accumulates into
+ * the slots of a {@link State} that it reserved in
+ * {@link #allocate(Layout)}. All of the aggregators in a query share one
+ * state object per group.</p>
+ *
+ * <p>The states of a group accumulated from different sets of rows can be
+ * combined by {@link #merge}, so that {@link Exchange#aggregate} can
+ * aggregate each partition separately and then merge the partial
+ * groups.</p>
+ *
+ * @param <T> Input row type
+ *
+ * @author jhyde
+ */
+public abstract class Aggregator<T> {
+    /** Reserves slots in the group state. Called once, before any rows
+     * are added. */
+    public abstract void allocate(Layout layout);
+
+    /** Adds a row to a group. */
+    public abstract void add(State state, T row);
+
+    /** Returns the value of the aggregate for a group. */
+    public abstract Object result(State state);
+
+    /** Adds to a group's state the state of the same group accumulated from
+     * other rows; for example, by another partition of a parallel
+     * aggregate. Called only if {@link #canMerge()}. */
+    public abstract void merge(State state, State other);
+
+    /** Returns whether {@link #merge} is supported. A DISTINCT aggregator
+     * cannot merge, because a value seen by two partitions would be counted
+     * twice. */
+    public boolean canMerge() {
+        return true;
+    }
+
+    /** Assigns slots in a group's state to aggregators. */
+    public static class Layout {
+        private int longCount;
+        private int doubleCount;
+        private int objectCount;
+
+        public int longSlot() {
+            return longCount++;
+        }
+
+        public int doubleSlot() {
+            return doubleCount++;
+        }
+
+        public int objectSlot() {
+            return objectCount++;
+        }
+
+        /** Returns the estimated size, in bytes, of the state of a group;
+         * see {@link MemoryPool}. */
+        public long stateBytes() {
+            return 64 + 8L * (longCount + doubleCount + objectCount);
+        }
+
+        /** Creates the state for a new group. */
+        public State newState() {
+            return newState(null);
+        }
+
+        /** Creates the state for a new group whose aggregators record the
+         * memory they use, beyond the slots, in a given allocation. */
+        public State newState(MemoryPool.Allocation allocation) {
+            return new State(longCount, doubleCount, objectCount, allocation);
+        }
+    }
+
+    /** Accumulated state of one group. Each aggregator owns the slots it
+     * was assigned by {@link Layout}. */
+    public static class State {
+        public final long[] longs;
+        public final double[] doubles;
+        public final Object[] objects;
+
+        /** Allocation in which an aggregator records memory that it uses
+         * beyond its slots, such as the values seen by a DISTINCT
+         * aggregator; or null if memory is not tracked. */
+        public final MemoryPool.Allocation allocation;
+
+        State(
+            int longCount,
+            int doubleCount,
+            int objectCount,
+            MemoryPool.Allocation allocation)
+        {
+            longs = new long[longCount];
+            doubles = new double[doubleCount];
+            objects = new Object[objectCount];
+            this.allocation = allocation;
+        }
+    }
+}
+
+// End Aggregator.java
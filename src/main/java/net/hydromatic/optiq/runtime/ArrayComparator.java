@@ -36,6 +36,22 @@ public class ArrayComparator implements Comparator<Object[]> {
         this.comparators = comparators(descendings);
     }
 
+    /**
+     * Creates a comparator that compares each element of the arrays in a
+     * given direction, placing nulls first or last.
+     *
+     * @param descendings Whether each element is sorted descending
+     * @param nullsFirsts Whether null values of each element come first
+     */
+    public ArrayComparator(boolean[] descendings, boolean[] nullsFirsts) {
+        assert descendings.length == nullsFirsts.length;
+        this.comparators = new Comparator[descendings.length];
+        for (int i = 0; i < descendings.length; i++) {
+            comparators[i] =
+                ComparableComparator.of(descendings[i], nullsFirsts[i]);
+        }
+    }
+
     private static Comparator[] comparators(boolean[] descendings) {
         Comparator[] comparators = new Comparator[descendings.length];
         for (int i = 0; i < descendings.length; i++) {
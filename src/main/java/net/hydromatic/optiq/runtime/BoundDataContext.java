@@ -0,0 +1,114 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.Queryable;
+
+import net.hydromatic.optiq.DataContext;
+import net.hydromatic.optiq.Schema;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.util.*;
+
+/**
+ * Data context for one execution of a statement.
+ *
+ * <p>Binds the variables of the execution, such as the values of dynamic
+ * parameters, and delegates requests for tables and schemas to the root
+ * schema. A compiled statement can therefore be executed many times, with
+ * different values, without being prepared again.</p>
+ *
+ * <p>It also binds the execution's {@link CancelFlag}, under the name
+ * {@link #CANCEL_FLAG}, which generated code polls while reading rows.</p>
+ *
+ * @author jhyde
+ */
+public class BoundDataContext implements DataContext {
+    /** Name of the variable that holds the execution's {@link CancelFlag}. */
+    public static final String CANCEL_FLAG = "cancelFlag";
+
+    private final DataContext root;
+    private final Map<String, Object> variables;
+
+    /**
+     * Creates a BoundDataContext.
+     *
+     * @param root Data context that provides tables and schemas; usually the
+     *   root schema of a connection
+     * @param variables Values of variables
+     */
+    public BoundDataContext(DataContext root, Map<String, Object> variables) {
+        this.root = root;
+        this.variables = variables;
+    }
+
+    /** Returns the name of the variable that holds the value of a dynamic
+     * parameter.
+     *
+     * @param ordinal Ordinal of the parameter, 0-based
+     * @return Variable name, for example "?0"
+     */
+    public static String parameterName(int ordinal) {
+        return "?" + ordinal;
+    }
+
+    /** Creates a data context that binds the values of dynamic parameters
+     * and a cancel flag, or returns the root data context if there is
+     * nothing to bind.
+     *
+     * @param root Root data context
+     * @param values Values of dynamic parameters
+     * @param cancelFlag Cancel flag, or null if execution cannot be cancelled
+     * @return Data context
+     */
+    public static DataContext of(
+        DataContext root,
+        List<Object> values,
+        CancelFlag cancelFlag)
+    {
+        if (values.isEmpty() && cancelFlag == null) {
+            return root;
+        }
+        final Map<String, Object> variables = new HashMap<String, Object>();
+        for (int i = 0; i < values.size(); i++) {
+            variables.put(parameterName(i), values.get(i));
+        }
+        if (cancelFlag != null) {
+            variables.put(CANCEL_FLAG, cancelFlag);
+        }
+        return new BoundDataContext(root, variables);
+    }
+
+    public <T> Queryable<T> getTable(String name, Class<T> elementType) {
+        return root.getTable(name, elementType);
+    }
+
+    public Schema getSubSchema(String name) {
+        return root.getSubSchema(name);
+    }
+
+    public Object get(String name) {
+        if (variables.containsKey(name)) {
+            return variables.get(name);
+        }
+        return root.get(name);
+    }
+}
+
+// End BoundDataContext.java
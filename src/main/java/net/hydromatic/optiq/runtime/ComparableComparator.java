@@ -20,7 +20,7 @@ package net.hydromatic.optiq.runtime;
 import java.util.Comparator;
 
 /**
- * Comparator that uses the natural ordering of [@link Comparable} values.
+ * Comparator that uses the natural ordering of {@link Comparable} values.
  *
  * @author jhyde
  */
@@ -35,6 +35,35 @@ public final class ComparableComparator<T extends Comparable>
         return INSTANCE;
     }
 
+    /**
+     * Returns a comparator that sorts values in a given direction, and
+     * places null values first or last.
+     *
+     * @param descending Whether to sort in descending order
+     * @param nullsFirst Whether null values come before all other values
+     */
+    public static Comparator<Comparable> of(
+        final boolean descending,
+        final boolean nullsFirst)
+    {
+        return new Comparator<Comparable>() {
+            @SuppressWarnings("unchecked")
+            public int compare(Comparable o1, Comparable o2) {
+                if (o1 == o2) {
+                    return 0;
+                }
+                if (o1 == null) {
+                    return nullsFirst ? -1 : 1;
+                }
+                if (o2 == null) {
+                    return nullsFirst ? 1 : -1;
+                }
+                final int c = o1.compareTo(o2);
+                return descending ? -c : c;
+            }
+        };
+    }
+
     @SuppressWarnings("unchecked")
     public int compare(T o1, T o2) {
         return o1.compareTo(o2);
@@ -0,0 +1,222 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import java.util.Arrays;
+
+/**
+ * Key composed of several values, for use in hash tables.
+ *
+ * <p>Unlike an {@code Object[]}, a composite key has value semantics for
+ * {@link #equals(Object)} and {@link #hashCode()}. Keys of two and three
+ * values, the common cases, are held in fields rather than an array, and
+ * their hash code is computed once, when the key is created.</p>
+ *
+ * @author jhyde
+ */
+public abstract class CompositeKey {
+    protected final int hash;
+
+    protected CompositeKey(int hash) {
+        this.hash = hash;
+    }
+
+    /** Creates a key of two values. */
+    public static CompositeKey of(Object v0, Object v1) {
+        return new Key2(v0, v1);
+    }
+
+    /** Creates a key of three values. */
+    public static CompositeKey of(Object v0, Object v1, Object v2) {
+        return new Key3(v0, v1, v2);
+    }
+
+    /** Creates a key of any number of values. */
+    public static CompositeKey of(Object... values) {
+        switch (values.length) {
+        case 2:
+            return new Key2(values[0], values[1]);
+        case 3:
+            return new Key3(values[0], values[1], values[2]);
+        default:
+            return new KeyN(values);
+        }
+    }
+
+    /** Returns whether any of the values in this key is null. In SQL, such a
+     * key is not equal to any key, not even itself. */
+    public abstract boolean hasNull();
+
+    /** Returns the {@code i}th value in this key. */
+    public abstract Object get(int i);
+
+    /** Returns whether a join or grouping key contains a null value, and
+     * therefore never matches another key. */
+    public static boolean isNull(Object key) {
+        return key == null
+            || key instanceof CompositeKey && ((CompositeKey) key).hasNull();
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int hash(Object o) {
+        return o == null ? 0 : o.hashCode();
+    }
+
+    private static boolean eq(Object o0, Object o1) {
+        return o0 == o1 || o0 != null && o0.equals(o1);
+    }
+
+    /** Key of two values. */
+    private static final class Key2 extends CompositeKey {
+        private final Object v0;
+        private final Object v1;
+
+        Key2(Object v0, Object v1) {
+            super(hash(v0) * 31 + hash(v1));
+            this.v0 = v0;
+            this.v1 = v1;
+        }
+
+        public boolean hasNull() {
+            return v0 == null || v1 == null;
+        }
+
+        public Object get(int i) {
+            switch (i) {
+            case 0:
+                return v0;
+            case 1:
+                return v1;
+            default:
+                throw new IndexOutOfBoundsException(String.valueOf(i));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof Key2)) {
+                return false;
+            }
+            final Key2 that = (Key2) o;
+            return hash == that.hash
+                && eq(v0, that.v0)
+                && eq(v1, that.v1);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + v0 + ", " + v1 + "]";
+        }
+    }
+
+    /** Key of three values. */
+    private static final class Key3 extends CompositeKey {
+        private final Object v0;
+        private final Object v1;
+        private final Object v2;
+
+        Key3(Object v0, Object v1, Object v2) {
+            super((hash(v0) * 31 + hash(v1)) * 31 + hash(v2));
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        public boolean hasNull() {
+            return v0 == null || v1 == null || v2 == null;
+        }
+
+        public Object get(int i) {
+            switch (i) {
+            case 0:
+                return v0;
+            case 1:
+                return v1;
+            case 2:
+                return v2;
+            default:
+                throw new IndexOutOfBoundsException(String.valueOf(i));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof Key3)) {
+                return false;
+            }
+            final Key3 that = (Key3) o;
+            return hash == that.hash
+                && eq(v0, that.v0)
+                && eq(v1, that.v1)
+                && eq(v2, that.v2);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + v0 + ", " + v1 + ", " + v2 + "]";
+        }
+    }
+
+    /** Key of any number of values. */
+    private static final class KeyN extends CompositeKey {
+        private final Object[] values;
+
+        KeyN(Object[] values) {
+            super(Arrays.hashCode(values));
+            this.values = values;
+        }
+
+        public boolean hasNull() {
+            for (Object value : values) {
+                if (value == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public Object get(int i) {
+            return values[i];
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this
+                || o instanceof KeyN
+                && hash == ((KeyN) o).hash
+                && Arrays.equals(values, ((KeyN) o).values);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(values);
+        }
+    }
+}
+
+// End CompositeKey.java
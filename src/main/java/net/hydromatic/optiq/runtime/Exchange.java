@@ -0,0 +1,673 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
+import net.hydromatic.linq4j.Linq4j;
+import net.hydromatic.linq4j.function.Function1;
+import net.hydromatic.linq4j.function.Function2;
+import net.hydromatic.linq4j.function.Predicate2;
+
+import net.hydromatic.optiq.runtime.Aggregator.State;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Exchange operators for partition-parallel execution, called from generated
+ * code.
+ *
+ * <p>A relational expression that executes in parallel is represented as a
+ * list of {@link Enumerable}s, one per <dfn>partition</dfn>. A table scan is
+ * partitioned by {@link #split}, which divides an array or list into
+ * contiguous ranges; operators such as calcs are applied to each partition
+ * by {@link #map}. Other inputs form a single partition (see
+ * {@link #single}).</p>
+ *
+ * <p>Hash join ({@link #join}) reads its partitioned inputs in parallel and
+ * redistributes the rows by the hash of their key, so that all rows with a
+ * given key are in the same bucket. Hash aggregation ({@link #aggregate})
+ * first aggregates each partition, then redistributes the partial groups in
+ * the same way. Each bucket is then joined or merged in parallel, and the
+ * output of the buckets is gathered, in bucket order, into one
+ * enumerable, whose memory is returned to the pool once it has been
+ * read.</p>
+ *
+ * <p>Tasks run on a shared pool of daemon threads. The
+ * {@link ExecutionContext} of the thread that starts the operator is bound
+ * to each task's thread while the task runs.</p>
+ *
+ * @author jhyde
+ */
+public class Exchange {
+    private static final ThreadFactory THREAD_FACTORY =
+        new ThreadFactory() {
+            private int count;
+
+            public synchronized Thread newThread(Runnable runnable) {
+                final Thread thread =
+                    new Thread(runnable, "optiq-exchange-" + count++);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+
+    /** Pool on which tasks run. Threads are created as needed, so that a
+     * task that waits for other tasks (for example, a join whose inputs are
+     * aggregates) can never deadlock the pool. */
+    private static final ExecutorService EXECUTOR =
+        Executors.newCachedThreadPool(THREAD_FACTORY);
+
+    /** Returns the key of a partial group. */
+    private static final Function1<Map.Entry<Object, State>, Object>
+    GROUP_KEY =
+        new Function1<Map.Entry<Object, State>, Object>() {
+            public Object apply(Map.Entry<Object, State> group) {
+                return group.getKey();
+            }
+        };
+
+    private Exchange() {
+    }
+
+    /**
+     * Splits the rows of a table into at most {@code n} partitions.
+     *
+     * <p>An array or {@link List} is divided into contiguous ranges of
+     * roughly equal size; any other collection is a single partition.</p>
+     *
+     * @param collection Array or collection that holds the table's rows
+     * @param n Desired number of partitions
+     * @return Partitions
+     */
+    public static <T> List<Enumerable<T>> split(Object collection, int n) {
+        final List<T> list;
+        if (collection instanceof Object[]) {
+            //noinspection unchecked
+            list = Arrays.asList((T[]) collection);
+        } else if (collection instanceof List) {
+            //noinspection unchecked
+            list = (List<T>) collection;
+        } else {
+            //noinspection unchecked
+            return single(Linq4j.asEnumerable((Iterable<T>) collection));
+        }
+        final int size = list.size();
+        final int count = Math.max(1, Math.min(n, size));
+        final List<Enumerable<T>> partitions =
+            new ArrayList<Enumerable<T>>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(
+                Linq4j.asEnumerable(
+                    list.subList(
+                        (int) ((long) size * i / count),
+                        (int) ((long) size * (i + 1) / count))));
+        }
+        return partitions;
+    }
+
+    /** Returns a list containing a single partition. */
+    public static <T> List<Enumerable<T>> single(Enumerable<T> enumerable) {
+        return Collections.singletonList(enumerable);
+    }
+
+    /**
+     * Applies a function to each partition.
+     *
+     * <p>The function is applied immediately, but generally creates an
+     * enumerable that does no work until it is enumerated, in the thread
+     * of the task that reads the partition.</p>
+     *
+     * @param partitions Partitions
+     * @param function Function that transforms a partition
+     * @return Transformed partitions
+     */
+    public static <S, T> List<Enumerable<T>> map(
+        List<Enumerable<S>> partitions,
+        Function1<Enumerable<S>, Enumerable<T>> function)
+    {
+        final List<Enumerable<T>> list =
+            new ArrayList<Enumerable<T>>(partitions.size());
+        for (Enumerable<S> partition : partitions) {
+            list.add(function.apply(partition));
+        }
+        return list;
+    }
+
+    /**
+     * Aggregates partitioned input in parallel.
+     *
+     * <p>Each input partition is aggregated in parallel by a
+     * {@link HashAggregate.Accumulator}, so a partition needs memory only for
+     * its groups, not for its rows. The partial groups are then distributed
+     * among {@code n} buckets by the hash of the group key, and each bucket
+     * merges the partial groups that have the same key, in parallel, using
+     * {@link Aggregator#merge}. If there is no GROUP BY, there is one
+     * bucket.</p>
+     *
+     * <p>If an aggregator cannot merge (for example, {@code COUNT(DISTINCT
+     * x)}), the rows themselves are distributed among the buckets, and each
+     * bucket is aggregated in parallel, as in {@link HashAggregate}.</p>
+     *
+     * @param inputs Input partitions
+     * @param keySelector Computes the group key of a row; null if there is
+     *   no GROUP BY
+     * @param groupCount Number of group columns
+     * @param aggregators Aggregate functions
+     * @param n Number of buckets
+     * @return Output rows
+     */
+    public static <TSource> Enumerable<Object> aggregate(
+        final List<Enumerable<TSource>> inputs,
+        final Function1<TSource, Object> keySelector,
+        final int groupCount,
+        final Aggregator<TSource>[] aggregators,
+        int n)
+    {
+        final int bucketCount = keySelector == null ? 1 : n;
+        final Aggregator.Layout layout = new Aggregator.Layout();
+        boolean canMerge = true;
+        for (Aggregator<TSource> aggregator : aggregators) {
+            aggregator.allocate(layout);
+            canMerge &= aggregator.canMerge();
+        }
+        if (!canMerge) {
+            return aggregateRows(
+                inputs, keySelector, groupCount, aggregators, layout,
+                bucketCount);
+        }
+        return new AbstractEnumerable<Object>() {
+            public Enumerator<Object> enumerator() {
+                final List<HashAggregate.Accumulator<TSource>> accumulators =
+                    new ArrayList<HashAggregate.Accumulator<TSource>>();
+                final List<MemoryPool.Allocation> allocations =
+                    new ArrayList<MemoryPool.Allocation>();
+                final List<MemoryPool.Allocation> outputAllocations =
+                    new ArrayList<MemoryPool.Allocation>();
+                boolean success = false;
+                try {
+                    // Aggregate each partition.
+                    final List<Callable<Void>> partialTasks =
+                        new ArrayList<Callable<Void>>();
+                    for (final Enumerable<TSource> input : inputs) {
+                        final HashAggregate.Accumulator<TSource> accumulator =
+                            new HashAggregate.Accumulator<TSource>(
+                                keySelector, aggregators, layout);
+                        accumulators.add(accumulator);
+                        partialTasks.add(
+                            new Callable<Void>() {
+                                public Void call() {
+                                    final CancelFlag cancelFlag =
+                                        ExecutionContext.currentCancelFlag();
+                                    final Enumerator<TSource> enumerator =
+                                        input.enumerator();
+                                    while (enumerator.moveNext()) {
+                                        ExecutionContext.checkCancel(
+                                            cancelFlag);
+                                        accumulator.add(enumerator.current());
+                                    }
+                                    return null;
+                                }
+                            });
+                    }
+                    invokeAll(partialTasks);
+
+                    // Distribute the partial groups among the buckets, and
+                    // merge the groups in each bucket.
+                    final List<Enumerable<Map.Entry<Object, State>>> groups =
+                        new ArrayList<Enumerable<Map.Entry<Object, State>>>();
+                    for (HashAggregate.Accumulator<TSource> accumulator
+                        : accumulators)
+                    {
+                        groups.add(
+                            Linq4j.asEnumerable(
+                                accumulator.groups().entrySet()));
+                    }
+                    final List<List<Map.Entry<Object, State>>> buckets =
+                        repartition(
+                            groups, GROUP_KEY, bucketCount, allocations);
+                    final List<Callable<List<Object>>> tasks =
+                        new ArrayList<Callable<List<Object>>>();
+                    for (final List<Map.Entry<Object, State>> bucket
+                        : buckets)
+                    {
+                        if (bucket.isEmpty() && keySelector != null) {
+                            continue;
+                        }
+                        final MemoryPool.Allocation allocation =
+                            MemoryPool.Allocation.current("exchange");
+                        outputAllocations.add(allocation);
+                        tasks.add(
+                            new Callable<List<Object>>() {
+                                public List<Object> call() {
+                                    return charge(
+                                        HashAggregate.merge(
+                                            bucket,
+                                            keySelector != null,
+                                            groupCount,
+                                            aggregators,
+                                            layout),
+                                        allocation);
+                                }
+                            });
+                    }
+                    final Enumerator<Object> enumerator =
+                        new GatherEnumerator<Object>(
+                            gather(tasks), outputAllocations);
+                    success = true;
+                    return enumerator;
+                } finally {
+                    for (HashAggregate.Accumulator<TSource> accumulator
+                        : accumulators)
+                    {
+                        accumulator.clear();
+                    }
+                    clear(allocations);
+                    if (!success) {
+                        clear(outputAllocations);
+                    }
+                }
+            }
+        };
+    }
+
+    /** Aggregates partitioned input in parallel by distributing the rows,
+     * rather than partial groups, among the buckets. Used if an aggregator
+     * cannot merge. */
+    private static <TSource> Enumerable<Object> aggregateRows(
+        final List<Enumerable<TSource>> inputs,
+        final Function1<TSource, Object> keySelector,
+        final int groupCount,
+        final Aggregator<TSource>[] aggregators,
+        final Aggregator.Layout layout,
+        final int bucketCount)
+    {
+        return new AbstractEnumerable<Object>() {
+            public Enumerator<Object> enumerator() {
+                final List<MemoryPool.Allocation> allocations =
+                    new ArrayList<MemoryPool.Allocation>();
+                final List<MemoryPool.Allocation> outputAllocations =
+                    new ArrayList<MemoryPool.Allocation>();
+                boolean success = false;
+                try {
+                    final List<List<TSource>> buckets =
+                        repartition(
+                            inputs, keySelector, bucketCount, allocations);
+                    final List<Callable<List<Object>>> tasks =
+                        new ArrayList<Callable<List<Object>>>();
+                    for (final List<TSource> bucket : buckets) {
+                        if (bucket.isEmpty() && keySelector != null) {
+                            continue;
+                        }
+                        final MemoryPool.Allocation allocation =
+                            MemoryPool.Allocation.current("exchange");
+                        outputAllocations.add(allocation);
+                        tasks.add(
+                            new Callable<List<Object>>() {
+                                public List<Object> call() {
+                                    return charge(
+                                        HashAggregate.aggregate(
+                                            bucket,
+                                            keySelector,
+                                            groupCount,
+                                            aggregators,
+                                            layout),
+                                        allocation);
+                                }
+                            });
+                    }
+                    final Enumerator<Object> enumerator =
+                        new GatherEnumerator<Object>(
+                            gather(tasks), outputAllocations);
+                    success = true;
+                    return enumerator;
+                } finally {
+                    clear(allocations);
+                    if (!success) {
+                        clear(outputAllocations);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Joins partitioned inputs in parallel.
+     *
+     * <p>Both inputs are read in parallel and distributed among {@code n}
+     * buckets by the hash of the join key, so that rows that may match are
+     * in buckets with the same ordinal. Each pair of buckets is then joined
+     * in parallel by {@link HashJoin#join}. Rows whose key contains a null
+     * cannot match, and go into the first bucket, so that an outer join
+     * still emits them. If there are no join keys, all rows go into one
+     * bucket.</p>
+     *
+     * <p>The output of each bucket is charged to the query's
+     * {@link MemoryPool} until it has been read.</p>
+     *
+     * <p>The parameters are as for {@link HashJoin#join}, plus the
+     * partitions of each input and the number of buckets.</p>
+     */
+    public static <TLeft, TRight, TResult> Enumerable<TResult> join(
+        final List<Enumerable<TLeft>> lefts,
+        final List<Enumerable<TRight>> rights,
+        final Function1<TLeft, Object> leftKeySelector,
+        final Function1<TRight, Object> rightKeySelector,
+        final Function2<TLeft, TRight, TResult> resultSelector,
+        final Predicate2<TLeft, TRight> predicate,
+        final Function1<TLeft, TResult> leftOnlySelector,
+        final Function1<TRight, TResult> rightOnlySelector,
+        final boolean buildLeft,
+        int n)
+    {
+        final int bucketCount =
+            leftKeySelector == null || rightKeySelector == null ? 1 : n;
+        return new AbstractEnumerable<TResult>() {
+            public Enumerator<TResult> enumerator() {
+                final List<MemoryPool.Allocation> allocations =
+                    new ArrayList<MemoryPool.Allocation>();
+                final List<MemoryPool.Allocation> outputAllocations =
+                    new ArrayList<MemoryPool.Allocation>();
+                boolean success = false;
+                try {
+                    final List<List<TLeft>> leftBuckets =
+                        repartition(
+                            lefts, leftKeySelector, bucketCount, allocations);
+                    final List<List<TRight>> rightBuckets =
+                        repartition(
+                            rights, rightKeySelector, bucketCount, allocations);
+                    final List<Callable<List<TResult>>> tasks =
+                        new ArrayList<Callable<List<TResult>>>();
+                    for (int i = 0; i < bucketCount; i++) {
+                        final List<TLeft> left = leftBuckets.get(i);
+                        final List<TRight> right = rightBuckets.get(i);
+                        if (left.isEmpty() && right.isEmpty()) {
+                            continue;
+                        }
+                        final MemoryPool.Allocation allocation =
+                            MemoryPool.Allocation.current("exchange");
+                        outputAllocations.add(allocation);
+                        tasks.add(
+                            new Callable<List<TResult>>() {
+                                public List<TResult> call() {
+                                    final Enumerator<TResult> enumerator =
+                                        HashJoin.join(
+                                            Linq4j.asEnumerable(left),
+                                            Linq4j.asEnumerable(right),
+                                            leftKeySelector,
+                                            rightKeySelector,
+                                            resultSelector,
+                                            predicate,
+                                            leftOnlySelector,
+                                            rightOnlySelector,
+                                            buildLeft)
+                                            .enumerator();
+                                    final List<TResult> list =
+                                        new ArrayList<TResult>();
+                                    while (enumerator.moveNext()) {
+                                        final TResult row =
+                                            enumerator.current();
+                                        allocation.add(
+                                            MemoryPool.sizeOf(row)
+                                            + MemoryPool.ENTRY_BYTES);
+                                        list.add(row);
+                                    }
+                                    return list;
+                                }
+                            });
+                    }
+                    final Enumerator<TResult> enumerator =
+                        new GatherEnumerator<TResult>(
+                            gather(tasks), outputAllocations);
+                    success = true;
+                    return enumerator;
+                } finally {
+                    clear(allocations);
+                    if (!success) {
+                        clear(outputAllocations);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Reads partitions in parallel and distributes their rows among buckets
+     * by the hash of their key.
+     *
+     * @param inputs Input partitions
+     * @param keySelector Computes the key of a row; if null, or if there is
+     *   one bucket, every row goes into the first bucket
+     * @param n Number of buckets
+     * @param allocations List to which to add the memory allocations that
+     *   account for the buckets; the caller must clear them when it has
+     *   consumed the buckets
+     * @return Buckets
+     */
+    static <T> List<List<T>> repartition(
+        List<Enumerable<T>> inputs,
+        final Function1<T, Object> keySelector,
+        final int n,
+        List<MemoryPool.Allocation> allocations)
+    {
+        final List<Callable<List<List<T>>>> tasks =
+            new ArrayList<Callable<List<List<T>>>>();
+        for (final Enumerable<T> input : inputs) {
+            final MemoryPool.Allocation allocation =
+                MemoryPool.Allocation.current("exchange");
+            allocations.add(allocation);
+            tasks.add(
+                new Callable<List<List<T>>>() {
+                    public List<List<T>> call() {
+                        final List<List<T>> buckets = newBuckets(n);
+                        final CancelFlag cancelFlag =
+                            ExecutionContext.currentCancelFlag();
+                        final Enumerator<T> enumerator = input.enumerator();
+                        while (enumerator.moveNext()) {
+                            ExecutionContext.checkCancel(cancelFlag);
+                            final T row = enumerator.current();
+                            allocation.add(
+                                MemoryPool.sizeOf(row)
+                                + MemoryPool.ENTRY_BYTES);
+                            buckets.get(bucket(keySelector, row, n)).add(row);
+                        }
+                        return buckets;
+                    }
+                });
+        }
+        final List<List<T>> buckets = newBuckets(n);
+        for (List<List<T>> partial : invokeAll(tasks)) {
+            for (int i = 0; i < n; i++) {
+                buckets.get(i).addAll(partial.get(i));
+            }
+        }
+        return buckets;
+    }
+
+    /** Records each row of a list in an allocation, and returns the
+     * list. */
+    private static <T> List<T> charge(
+        List<T> rows,
+        MemoryPool.Allocation allocation)
+    {
+        for (T row : rows) {
+            allocation.add(MemoryPool.sizeOf(row) + MemoryPool.ENTRY_BYTES);
+        }
+        return rows;
+    }
+
+    /** Returns the memory of each allocation to the pool. */
+    private static void clear(List<MemoryPool.Allocation> allocations) {
+        for (MemoryPool.Allocation allocation : allocations) {
+            allocation.clear();
+        }
+    }
+
+    private static <T> List<List<T>> newBuckets(int n) {
+        final List<List<T>> buckets = new ArrayList<List<T>>(n);
+        for (int i = 0; i < n; i++) {
+            buckets.add(new ArrayList<T>());
+        }
+        return buckets;
+    }
+
+    /** Returns the ordinal of the bucket to which a row belongs. */
+    private static <T> int bucket(
+        Function1<T, Object> keySelector,
+        T row,
+        int n)
+    {
+        if (n == 1 || keySelector == null) {
+            return 0;
+        }
+        final Object key = keySelector.apply(row);
+        if (CompositeKey.isNull(key)) {
+            return 0;
+        }
+        int h = key.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return (h & Integer.MAX_VALUE) % n;
+    }
+
+    /** Runs tasks in parallel, and concatenates their results in the order
+     * of the tasks. */
+    static <T> List<T> gather(List<Callable<List<T>>> tasks) {
+        final List<T> list = new ArrayList<T>();
+        for (List<T> result : invokeAll(tasks)) {
+            list.addAll(result);
+        }
+        return list;
+    }
+
+    /**
+     * Runs tasks in parallel and returns their results.
+     *
+     * <p>The caller's thread runs the last task itself. If a task fails, the
+     * remaining tasks are cancelled and the failure is rethrown.</p>
+     */
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        final int size = tasks.size();
+        final List<T> results = new ArrayList<T>(size);
+        if (size == 0) {
+            return results;
+        }
+        final ExecutionContext context = ExecutionContext.current();
+        final List<Future<T>> futures = new ArrayList<Future<T>>(size - 1);
+        try {
+            for (final Callable<T> task : tasks.subList(0, size - 1)) {
+                futures.add(
+                    EXECUTOR.submit(
+                        new Callable<T>() {
+                            public T call() throws Exception {
+                                if (context == null) {
+                                    return task.call();
+                                }
+                                final ExecutionContext previous =
+                                    context.enter();
+                                try {
+                                    return task.call();
+                                } finally {
+                                    context.exit(previous);
+                                }
+                            }
+                        }));
+            }
+            final T last = tasks.get(size - 1).call();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            results.add(last);
+            return results;
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (Exception e) {
+            throw propagate(e);
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /** Enumerator over the gathered output of the tasks of an exchange.
+     * Returns the memory of the output to the pool when all of the rows have
+     * been read, or when it is closed; for example, by {@link Limit}.
+     *
+     * @param <T> Row type */
+    private static class GatherEnumerator<T>
+        implements Enumerator<T>, Closeable
+    {
+        private List<T> rows;
+        private final List<MemoryPool.Allocation> allocations;
+        private int index = -1;
+        private T current;
+
+        GatherEnumerator(
+            List<T> rows,
+            List<MemoryPool.Allocation> allocations)
+        {
+            this.rows = rows;
+            this.allocations = allocations;
+        }
+
+        public T current() {
+            return current;
+        }
+
+        public boolean moveNext() {
+            if (index + 1 < rows.size()) {
+                current = rows.get(++index);
+                return true;
+            }
+            current = null;
+            close();
+            return false;
+        }
+
+        public void reset() {
+            index = -1;
+            current = null;
+        }
+
+        public void close() {
+            rows = Collections.emptyList();
+            clear(allocations);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return new RuntimeException("Error in parallel task", e);
+    }
+}
+
+// End Exchange.java
@@ -0,0 +1,239 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * State of the execution of a query, visible to the runtime code that reads
+ * data on the query's behalf.
+ *
+ * <p>The context is bound to the current thread while the query is executing
+ * (that is, while the consumer is fetching rows). It supplies settings, such
+ * as the fetch size, and keeps track of resources, such as JDBC statements,
+ * that the query has opened, so that they can be closed when the consumer
+ * closes or cancels the query without reading all of the rows.</p>
+ *
+ * <p>It also holds the query's {@link CancelFlag}, which is set when the
+ * consumer cancels the query or when the query's time limit expires.
+ * Generated code reads the flag from the
+ * {@link net.hydromatic.optiq.DataContext} (see
+ * {@link BoundDataContext#CANCEL_FLAG}), and runtime operators read it from
+ * the current context; both poll it, by calling {@link #checkCancel}, as
+ * they process rows.</p>
+ *
+ * <p>If memory is being tracked, the context holds the query's
+ * {@link MemoryPool}, from which blocking operators reserve memory for the
+ * rows they buffer.</p>
+ *
+ * @author jhyde
+ */
+public class ExecutionContext {
+    private static final ThreadLocal<ExecutionContext> THREAD_CONTEXT =
+        new ThreadLocal<ExecutionContext>();
+
+    /** Thread that fires the time limits of queries. */
+    private static final Timer TIMER =
+        new Timer("optiq-query-timeout", true);
+
+    private final Set<Closeable> resources =
+        new LinkedHashSet<Closeable>();
+
+    private final CancelFlag cancelFlag = new CancelFlag();
+    private volatile boolean timedOut;
+    private TimerTask timeoutTask;
+
+    private int fetchSize;
+    private boolean rowReuseAllowed;
+    private MemoryPool memoryPool;
+
+    /** Returns the context bound to the current thread, or null. */
+    public static ExecutionContext current() {
+        return THREAD_CONTEXT.get();
+    }
+
+    /** Binds this context to the current thread, and returns the context
+     * that was previously bound, to be passed to {@link #exit}. */
+    public ExecutionContext enter() {
+        final ExecutionContext previous = THREAD_CONTEXT.get();
+        THREAD_CONTEXT.set(this);
+        return previous;
+    }
+
+    /** Restores the context that was bound before {@link #enter}. */
+    public void exit(ExecutionContext previous) {
+        THREAD_CONTEXT.set(previous);
+    }
+
+    /** Returns the number of rows that should be fetched from a remote
+     * source at a time, or 0 if the source should decide. */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /** Returns whether the consumer reads each row before fetching the next,
+     * and does not retain it, so that the producer of the rows may return
+     * the same array each time. */
+    public boolean isRowReuseAllowed() {
+        return rowReuseAllowed;
+    }
+
+    public void setRowReuseAllowed(boolean rowReuseAllowed) {
+        this.rowReuseAllowed = rowReuseAllowed;
+    }
+
+    /** Returns the pool from which the query's operators reserve memory, or
+     * null if memory is not tracked. */
+    public MemoryPool getMemoryPool() {
+        return memoryPool;
+    }
+
+    public void setMemoryPool(MemoryPool memoryPool) {
+        this.memoryPool = memoryPool;
+    }
+
+    /** Returns the flag that is set when the query is cancelled or times
+     * out. */
+    public CancelFlag getCancelFlag() {
+        return cancelFlag;
+    }
+
+    /** Returns the cancel flag of the context bound to the current thread,
+     * or null if there is no context. */
+    public static CancelFlag currentCancelFlag() {
+        final ExecutionContext context = THREAD_CONTEXT.get();
+        return context == null ? null : context.cancelFlag;
+    }
+
+    /** Requests that the query stop at the next opportunity, and asks each
+     * resource that is a {@link Cancellable} to interrupt any work it has
+     * in progress.
+     *
+     * <p>May be called from any thread. Does not close the resources, because
+     * the thread executing the query may still be using them; that thread
+     * releases them when it notices the cancel flag.</p> */
+    public void cancel() {
+        cancelFlag.requestCancel();
+        final List<Closeable> list;
+        synchronized (this) {
+            list = new ArrayList<Closeable>(resources);
+        }
+        for (Closeable resource : list) {
+            if (resource instanceof Cancellable) {
+                ((Cancellable) resource).cancel();
+            }
+        }
+    }
+
+    /** Returns whether the query was cancelled because its time limit
+     * expired. */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /** Sets a time limit, starting now, after which the query is cancelled.
+     * Zero means no limit. */
+    public synchronized void setTimeout(long millis) {
+        if (timeoutTask != null) {
+            timeoutTask.cancel();
+            timeoutTask = null;
+        }
+        if (millis > 0) {
+            timeoutTask =
+                new TimerTask() {
+                    public void run() {
+                        timedOut = true;
+                        cancel();
+                    }
+                };
+            TIMER.schedule(timeoutTask, millis);
+        }
+    }
+
+    /**
+     * Throws {@link QueryCancelledException} if a cancel flag has been set.
+     * Cheap enough to call for every row: it reads a volatile field.
+     *
+     * @param cancelFlag Flag, or null if the query cannot be cancelled
+     */
+    public static void checkCancel(CancelFlag cancelFlag) {
+        if (cancelFlag != null && cancelFlag.isCancelRequested()) {
+            throw new QueryCancelledException();
+        }
+    }
+
+    /** Registers a resource to be closed when the query is closed. A
+     * resource that is closed earlier should call {@link #remove}. */
+    public synchronized void add(Closeable resource) {
+        resources.add(resource);
+    }
+
+    /** Unregisters a resource. */
+    public synchronized void remove(Closeable resource) {
+        resources.remove(resource);
+    }
+
+    /** Closes all resources that are still open, cancels the time limit,
+     * and returns the query's memory to its connection. Throws the first
+     * exception encountered, after attempting to close every resource. */
+    public void close() throws IOException {
+        final List<Closeable> list;
+        synchronized (this) {
+            if (timeoutTask != null) {
+                timeoutTask.cancel();
+                timeoutTask = null;
+            }
+            list = new ArrayList<Closeable>(resources);
+            resources.clear();
+            if (memoryPool != null) {
+                memoryPool.close();
+            }
+        }
+        IOException exception = null;
+        for (Closeable resource : list) {
+            try {
+                resource.close();
+            } catch (IOException e) {
+                if (exception == null) {
+                    exception = e;
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /** Resource that can interrupt work in progress on another thread; for
+     * example, a statement executing on a remote database. */
+    public interface Cancellable {
+        /** Requests that work in progress stop. Called from a thread other
+         * than the one executing the query; must not release resources. */
+        void cancel();
+    }
+}
+
+// End ExecutionContext.java
@@ -0,0 +1,530 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
+import net.hydromatic.linq4j.function.Function1;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Sort that spills to disk, called from generated code.
+ *
+ * <p>Rows are read into a buffer. When the buffer holds more than a given
+ * number of rows, it is sorted and written to a temporary file as a
+ * <dfn>run</dfn>. When the input is exhausted, the runs and the remaining
+ * rows in the buffer are merged. If there are too many runs to merge at
+ * once, groups of runs are first merged into longer runs.</p>
+ *
+ * <p>The buffer's rows are also recorded in the query's {@link MemoryPool};
+ * if the pool is exhausted, the sort spills early.</p>
+ *
+ * <p>Spilling requires that rows are {@link Serializable}. If a row cannot
+ * be serialized, the sort gives up spilling and keeps all rows in
+ * memory, and fails if the memory pool is exhausted.</p>
+ *
+ * <p>If only the first {@code fetch} rows are required (for example,
+ * because there is a LIMIT), the sort keeps only that many rows, in a
+ * bounded heap, and never spills.</p>
+ *
+ * <p>The sort is stable: rows with equal keys are returned in the order
+ * they were read.</p>
+ *
+ * <p>Run files are deleted when the last row has been read, or when the
+ * enumerator is closed. The enumerator registers itself with the query's
+ * {@link ExecutionContext}, so the runs are also deleted if the consumer
+ * stops early, the query is cancelled, or it fails.</p>
+ *
+ * @author jhyde
+ */
+public class ExternalSort {
+    /** Maximum number of runs that are merged at once. */
+    private static final int MERGE_FACTOR = 64;
+
+    /** Number of rows written to a run between resets of the object
+     * stream, so that the stream does not hold on to rows it has
+     * written. */
+    private static final int RESET_INTERVAL = 1024;
+
+    private ExternalSort() {
+    }
+
+    /**
+     * Sorts an enumerable.
+     *
+     * @param input Input rows
+     * @param keySelector Computes the sort key of a row
+     * @param comparator Compares sort keys
+     * @param fetch Maximum number of rows to return, or -1 for all
+     * @param bufferSize Number of rows to hold in memory before spilling a
+     *   run to disk, or 0 to never spill
+     * @param <T> Row type
+     * @param <K> Key type
+     * @return Sorted rows
+     */
+    public static <T, K> Enumerable<T> sort(
+        final Enumerable<T> input,
+        final Function1<T, K> keySelector,
+        final Comparator<K> comparator,
+        final int fetch,
+        final int bufferSize)
+    {
+        return new AbstractEnumerable<T>() {
+            public Enumerator<T> enumerator() {
+                return new SortEnumerator<T, K>(
+                    input, keySelector, comparator, fetch, bufferSize);
+            }
+        };
+    }
+
+    /** Row and its sort key. The ordinal of the row in the input, or of the
+     * source in a merge, makes the sort stable. */
+    private static class Entry<T, K> {
+        final K key;
+        final T row;
+        final long ordinal;
+
+        Entry(K key, T row, long ordinal) {
+            this.key = key;
+            this.row = row;
+            this.ordinal = ordinal;
+        }
+    }
+
+    /** Compares entries by key, then by ordinal. */
+    private static class EntryComparator<T, K>
+        implements Comparator<Entry<T, K>>
+    {
+        private final Comparator<K> comparator;
+
+        EntryComparator(Comparator<K> comparator) {
+            this.comparator = comparator;
+        }
+
+        public int compare(Entry<T, K> o1, Entry<T, K> o2) {
+            final int c = comparator.compare(o1.key, o2.key);
+            if (c != 0) {
+                return c;
+            }
+            return o1.ordinal < o2.ordinal ? -1
+                : o1.ordinal > o2.ordinal ? 1
+                : 0;
+        }
+    }
+
+    /** Enumerator that sorts its input the first time it is asked for a
+     * row. */
+    private static class SortEnumerator<T, K>
+        implements Enumerator<T>, Closeable
+    {
+        private final Enumerable<T> input;
+        private final Function1<T, K> keySelector;
+        private final EntryComparator<T, K> entryComparator;
+        private final int fetch;
+        private final int bufferSize;
+        private final List<Run> runs = new ArrayList<Run>();
+        private final MemoryPool.Allocation allocation =
+            MemoryPool.Allocation.current("sort");
+        private Iterator<T> iterator;
+        private T current;
+
+        /** Context with which this enumerator is registered while it has
+         * runs on disk, or null. */
+        private ExecutionContext context;
+
+        SortEnumerator(
+            Enumerable<T> input,
+            Function1<T, K> keySelector,
+            Comparator<K> comparator,
+            int fetch,
+            int bufferSize)
+        {
+            this.input = input;
+            this.keySelector = keySelector;
+            this.entryComparator = new EntryComparator<T, K>(comparator);
+            this.fetch = fetch;
+            this.bufferSize = bufferSize;
+        }
+
+        public T current() {
+            return current;
+        }
+
+        public boolean moveNext() {
+            if (iterator == null) {
+                try {
+                    iterator = fetch >= 0 ? topN() : sort();
+                } catch (RuntimeException e) {
+                    // Cancelled, or failed; don't leave runs on disk.
+                    deleteRuns();
+                    throw e;
+                }
+            }
+            if (iterator.hasNext()) {
+                current = iterator.next();
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        public void reset() {
+            iterator = null;
+            current = null;
+            deleteRuns();
+        }
+
+        /** Deletes the runs, returns the memory, and discards any rows not
+         * yet read. */
+        public void close() {
+            iterator = Collections.<T>emptyList().iterator();
+            current = null;
+            deleteRuns();
+            allocation.clear();
+        }
+
+        /** Adds a run, registering with the context when the first run is
+         * written. */
+        private void addRun(int index, Run run) {
+            if (context == null) {
+                context = ExecutionContext.current();
+                if (context != null) {
+                    context.add(this);
+                }
+            }
+            runs.add(index, run);
+        }
+
+        private void deleteRuns() {
+            for (Run run : runs) {
+                run.delete();
+            }
+            runs.clear();
+            if (context != null) {
+                context.remove(this);
+                context = null;
+            }
+        }
+
+        /** Returns the first {@code fetch} rows, using a heap that never
+         * holds more than {@code fetch} rows. */
+        private Iterator<T> topN() {
+            if (fetch == 0) {
+                return Collections.<T>emptyList().iterator();
+            }
+            final PriorityQueue<Entry<T, K>> heap =
+                new PriorityQueue<Entry<T, K>>(
+                    Math.min(fetch, 1024),
+                    Collections.reverseOrder(entryComparator));
+            final CancelFlag cancelFlag = ExecutionContext.currentCancelFlag();
+            final Enumerator<T> enumerator = input.enumerator();
+            long ordinal = 0;
+            while (enumerator.moveNext()) {
+                ExecutionContext.checkCancel(cancelFlag);
+                final T row = enumerator.current();
+                final Entry<T, K> entry =
+                    new Entry<T, K>(keySelector.apply(row), row, ordinal++);
+                if (heap.size() < fetch) {
+                    allocation.add(
+                        MemoryPool.sizeOf(row) + MemoryPool.ENTRY_BYTES);
+                    heap.add(entry);
+                } else if (entryComparator.compare(entry, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(entry);
+                }
+            }
+            final List<Entry<T, K>> entries =
+                new ArrayList<Entry<T, K>>(heap);
+            Collections.sort(entries, entryComparator);
+            return rows(entries);
+        }
+
+        private Iterator<T> sort() {
+            final CancelFlag cancelFlag = ExecutionContext.currentCancelFlag();
+            final Enumerator<T> enumerator = input.enumerator();
+            List<Entry<T, K>> buffer = new ArrayList<Entry<T, K>>();
+            boolean spill = bufferSize > 0;
+            long ordinal = 0;
+            while (enumerator.moveNext()) {
+                ExecutionContext.checkCancel(cancelFlag);
+                final T row = enumerator.current();
+                final long rowBytes =
+                    MemoryPool.sizeOf(row) + MemoryPool.ENTRY_BYTES;
+                // Spill if the buffer is full, or if there is not enough
+                // memory for another row.
+                final boolean reserved =
+                    (!spill || buffer.size() < bufferSize)
+                    && allocation.tryAdd(rowBytes);
+                if (!reserved && spill && !buffer.isEmpty()) {
+                    Collections.sort(buffer, entryComparator);
+                    final Run run = Run.write(rows(buffer));
+                    if (run == null) {
+                        // Rows are not serializable. Keep them in memory.
+                        spill = false;
+                    } else {
+                        addRun(runs.size(), run);
+                        buffer = new ArrayList<Entry<T, K>>();
+                        allocation.clear();
+                    }
+                }
+                if (!reserved) {
+                    allocation.add(rowBytes);
+                }
+                buffer.add(
+                    new Entry<T, K>(keySelector.apply(row), row, ordinal++));
+            }
+            Collections.sort(buffer, entryComparator);
+            if (runs.isEmpty()) {
+                return rows(buffer);
+            }
+            while (runs.size() > MERGE_FACTOR) {
+                // Merge the oldest runs into a new run, and put it first, so
+                // that rows with equal keys stay in input order.
+                final List<Run> oldRuns = runs.subList(0, MERGE_FACTOR);
+                final List<Iterator<T>> iterators =
+                    new ArrayList<Iterator<T>>();
+                for (Run run : oldRuns) {
+                    iterators.add(run.<T>read());
+                }
+                final Run run = Run.write(merge(iterators));
+                for (Run oldRun : oldRuns) {
+                    oldRun.delete();
+                }
+                oldRuns.clear();
+                addRun(0, run);
+            }
+            final List<Iterator<T>> iterators = new ArrayList<Iterator<T>>();
+            for (Run run : runs) {
+                iterators.add(run.<T>read());
+            }
+            iterators.add(rows(buffer));
+            return merge(iterators);
+        }
+
+        private Iterator<T> rows(final List<Entry<T, K>> entries) {
+            final Iterator<Entry<T, K>> iterator = entries.iterator();
+            return new Iterator<T>() {
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                public T next() {
+                    return iterator.next().row;
+                }
+
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        /** Merges sorted sources. Each source is given an ordinal so that,
+         * among rows with equal keys, rows from earlier sources come
+         * first. */
+        private Iterator<T> merge(final List<Iterator<T>> sources) {
+            final PriorityQueue<Entry<T, K>> heap =
+                new PriorityQueue<Entry<T, K>>(
+                    sources.size(), entryComparator);
+            for (int i = 0; i < sources.size(); i++) {
+                advance(heap, sources, i);
+            }
+            return new Iterator<T>() {
+                public boolean hasNext() {
+                    return !heap.isEmpty();
+                }
+
+                public T next() {
+                    final Entry<T, K> entry = heap.poll();
+                    if (entry == null) {
+                        throw new NoSuchElementException();
+                    }
+                    advance(heap, sources, (int) entry.ordinal);
+                    return entry.row;
+                }
+
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        private void advance(
+            PriorityQueue<Entry<T, K>> heap,
+            List<Iterator<T>> sources,
+            int i)
+        {
+            final Iterator<T> source = sources.get(i);
+            if (source.hasNext()) {
+                final T row = source.next();
+                heap.add(new Entry<T, K>(keySelector.apply(row), row, i));
+            }
+        }
+    }
+
+    /** Sorted run of rows in a temporary file. */
+    private static class Run {
+        private final File file;
+        private final int count;
+
+        /** Streams opened by {@link #read} and not yet closed. */
+        private final List<Closeable> streams = new ArrayList<Closeable>();
+
+        /** Class loader of the rows, or null. Rows may be instances of
+         * classes generated at run time, which the default class loader
+         * cannot resolve. */
+        private final ClassLoader classLoader;
+
+        private Run(File file, int count, ClassLoader classLoader) {
+            this.file = file;
+            this.count = count;
+            this.classLoader = classLoader;
+        }
+
+        /** Writes rows to a new run; returns null if the rows are not
+         * serializable. */
+        static Run write(Iterator<?> rows) {
+            File file = null;
+            ObjectOutputStream out = null;
+            Run run = null;
+            try {
+                file = File.createTempFile("optiq-sort", ".run");
+                out =
+                    new ObjectOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(file)));
+                int count = 0;
+                ClassLoader classLoader = null;
+                while (rows.hasNext()) {
+                    final Object row = rows.next();
+                    if (classLoader == null && row != null) {
+                        classLoader = row.getClass().getClassLoader();
+                    }
+                    out.writeObject(row);
+                    if (++count % RESET_INTERVAL == 0) {
+                        out.reset();
+                    }
+                }
+                out.close();
+                out = null;
+                run = new Run(file, count, classLoader);
+                return run;
+            } catch (NotSerializableException e) {
+                return null;
+            } catch (IOException e) {
+                throw new RuntimeException(
+                    "Error while spilling sort run to " + file, e);
+            } finally {
+                close(out);
+                if (run == null && file != null) {
+                    // Not serializable, or failed; don't leave the file.
+                    file.delete();
+                }
+            }
+        }
+
+        /** Returns an iterator over the rows in this run. The file stays open
+         * until the last row has been read. */
+        <T> Iterator<T> read() {
+            final ObjectInputStream in;
+            try {
+                in = new ObjectInputStream(
+                    new BufferedInputStream(new FileInputStream(file)))
+                {
+                    @Override
+                    protected Class<?> resolveClass(ObjectStreamClass desc)
+                        throws IOException, ClassNotFoundException
+                    {
+                        if (classLoader != null) {
+                            try {
+                                return Class.forName(
+                                    desc.getName(), false, classLoader);
+                            } catch (ClassNotFoundException e) {
+                                // fall through
+                            }
+                        }
+                        return super.resolveClass(desc);
+                    }
+                };
+            } catch (IOException e) {
+                throw new RuntimeException(
+                    "Error while reading sort run " + file, e);
+            }
+            streams.add(in);
+            return new Iterator<T>() {
+                int remaining = count;
+
+                public boolean hasNext() {
+                    if (remaining > 0) {
+                        return true;
+                    }
+                    if (streams.remove(in)) {
+                        close(in);
+                    }
+                    return false;
+                }
+
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (remaining <= 0) {
+                        throw new NoSuchElementException();
+                    }
+                    --remaining;
+                    try {
+                        return (T) in.readObject();
+                    } catch (IOException e) {
+                        throw new RuntimeException(
+                            "Error while reading sort run " + file, e);
+                    } catch (ClassNotFoundException e) {
+                        throw new RuntimeException(
+                            "Error while reading sort run " + file, e);
+                    }
+                }
+
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        /** Closes any streams that are reading this run, and deletes its
+         * file. */
+        void delete() {
+            for (Closeable stream : streams) {
+                close(stream);
+            }
+            streams.clear();
+            file.delete();
+        }
+
+        private static void close(Closeable closeable) {
+            if (closeable != null) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+}
+
+// End ExternalSort.java
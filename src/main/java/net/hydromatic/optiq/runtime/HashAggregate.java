@@ -0,0 +1,940 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
+import net.hydromatic.linq4j.Linq4j;
+import net.hydromatic.linq4j.function.*;
+
+import net.hydromatic.optiq.runtime.Aggregator.Layout;
+import net.hydromatic.optiq.runtime.Aggregator.State;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.util.*;
+
+/**
+ * Hash aggregation, called from generated code.
+ *
+ * <p>Reads its input once. For each row, computes the group key, looks up
+ * the group's {@link Aggregator.State} in a hash table, and feeds the row
+ * to each {@link Aggregator}. A group's state is a few primitive arrays,
+ * shared by all of the aggregate functions, so adding a row to a group
+ * allocates nothing, and values read by {@link IntegerFunction1},
+ * {@link LongFunction1} and {@link DoubleFunction1} accessors are never
+ * boxed.</p>
+ *
+ * <p>Each output row consists of the group key columns followed by the
+ * aggregate values. If there is one column in total, the row is that value;
+ * otherwise it is an {@code Object[]}. If there is no GROUP BY, there is
+ * exactly one output row, even if the input is empty.</p>
+ *
+ * @author jhyde
+ */
+public class HashAggregate {
+    private HashAggregate() {
+    }
+
+    /**
+     * Aggregates an enumerable.
+     *
+     * @param input Input rows
+     * @param keySelector Computes the group key of a row: the value if there
+     *   is one group column, a {@link CompositeKey} if there are several;
+     *   null if there is no GROUP BY
+     * @param groupCount Number of group columns
+     * @param aggregators Aggregate functions
+     * @param <TSource> Input row type
+     * @return Output rows
+     */
+    public static <TSource> Enumerable<Object> aggregate(
+        final Enumerable<TSource> input,
+        final Function1<TSource, Object> keySelector,
+        final int groupCount,
+        final Aggregator<TSource>[] aggregators)
+    {
+        return aggregate(
+            new Source<TSource>() {
+                public void produce(Sink<TSource> sink) {
+                    final CancelFlag cancelFlag =
+                        ExecutionContext.currentCancelFlag();
+                    final Enumerator<TSource> enumerator = input.enumerator();
+                    while (enumerator.moveNext()) {
+                        ExecutionContext.checkCancel(cancelFlag);
+                        sink.add(enumerator.current());
+                    }
+                }
+            },
+            keySelector,
+            groupCount,
+            aggregators);
+    }
+
+    /**
+     * Aggregates the rows pushed by a source.
+     *
+     * <p>Generated code uses this method when the operators that compute
+     * the input are fused into a single loop; the loop is the body of
+     * {@link Source#produce(Sink)}.</p>
+     *
+     * @param source Source of input rows
+     * @param keySelector Computes the group key of a row; see
+     *   {@link #aggregate(Enumerable, Function1, int, Aggregator[])}
+     * @param groupCount Number of group columns
+     * @param aggregators Aggregate functions
+     * @param <TSource> Input row type
+     * @return Output rows
+     */
+    public static <TSource> Enumerable<Object> aggregate(
+        final Source<TSource> source,
+        final Function1<TSource, Object> keySelector,
+        final int groupCount,
+        final Aggregator<TSource>[] aggregators)
+    {
+        final Layout layout = new Layout();
+        for (Aggregator<TSource> aggregator : aggregators) {
+            aggregator.allocate(layout);
+        }
+        return new AbstractEnumerable<Object>() {
+            public Enumerator<Object> enumerator() {
+                final Accumulator<TSource> accumulator =
+                    new Accumulator<TSource>(keySelector, aggregators, layout);
+                source.produce(accumulator);
+                return Linq4j.asEnumerable(accumulator.rows(groupCount))
+                    .enumerator();
+            }
+        };
+    }
+
+    /**
+     * Aggregates a list of rows, using a layout to which the aggregators
+     * have already been allocated. Called by {@link Exchange} for each
+     * bucket, so that the aggregators, which are shared by the buckets, are
+     * allocated only once.
+     */
+    static <TSource> List<Object> aggregate(
+        List<TSource> rows,
+        Function1<TSource, Object> keySelector,
+        int groupCount,
+        Aggregator<TSource>[] aggregators,
+        Layout layout)
+    {
+        final Accumulator<TSource> accumulator =
+            new Accumulator<TSource>(keySelector, aggregators, layout);
+        final CancelFlag cancelFlag = ExecutionContext.currentCancelFlag();
+        for (TSource row : rows) {
+            ExecutionContext.checkCancel(cancelFlag);
+            accumulator.add(row);
+        }
+        return accumulator.rows(groupCount);
+    }
+
+    /**
+     * Combines partial groups, several of which may have the same key, and
+     * returns the output rows. Called by {@link Exchange}, which aggregates
+     * each partition of its input with an {@link Accumulator}, then
+     * distributes the partial groups among buckets by key.
+     *
+     * @param groups Partial groups
+     * @param grouped Whether there is a GROUP BY; if not, there is one
+     *   output row even if there are no groups
+     * @param groupCount Number of group columns
+     * @param aggregators Aggregate functions; each must be able to merge
+     * @param layout Layout to which the aggregators have been allocated
+     * @return Output rows
+     */
+    static List<Object> merge(
+        List<Map.Entry<Object, State>> groups,
+        boolean grouped,
+        int groupCount,
+        Aggregator[] aggregators,
+        Layout layout)
+    {
+        final Map<Object, State> map = new HashMap<Object, State>();
+        final CancelFlag cancelFlag = ExecutionContext.currentCancelFlag();
+        for (Map.Entry<Object, State> group : groups) {
+            ExecutionContext.checkCancel(cancelFlag);
+            final State state = map.get(group.getKey());
+            if (state == null) {
+                map.put(group.getKey(), group.getValue());
+            } else {
+                for (Aggregator aggregator : aggregators) {
+                    aggregator.merge(state, group.getValue());
+                }
+            }
+        }
+        if (!grouped && map.isEmpty()) {
+            map.put(null, layout.newState());
+        }
+        final List<Object> rows = new ArrayList<Object>(map.size());
+        for (Map.Entry<Object, State> entry : map.entrySet()) {
+            rows.add(
+                row(
+                    entry.getKey(), groupCount, aggregators,
+                    entry.getValue()));
+        }
+        return rows;
+    }
+
+    static Object row(
+        Object key,
+        int groupCount,
+        Aggregator[] aggregators,
+        State state)
+    {
+        if (groupCount + aggregators.length == 1) {
+            return groupCount == 1 ? key : aggregators[0].result(state);
+        }
+        final Object[] row = new Object[groupCount + aggregators.length];
+        if (groupCount == 1) {
+            row[0] = key;
+        } else if (groupCount > 1) {
+            final CompositeKey compositeKey = (CompositeKey) key;
+            for (int i = 0; i < groupCount; i++) {
+                row[i] = compositeKey.get(i);
+            }
+        }
+        for (int i = 0; i < aggregators.length; i++) {
+            row[groupCount + i] = aggregators[i].result(state);
+        }
+        return row;
+    }
+
+    /** Source of rows that pushes them to a {@link Sink}.
+     *
+     * @param <T> Row type */
+    public interface Source<T> {
+        /** Pushes every row to a sink. */
+        void produce(Sink<T> sink);
+    }
+
+    /** Receives rows pushed by a {@link Source}.
+     *
+     * @param <T> Row type */
+    public interface Sink<T> {
+        /** Adds a row. */
+        void add(T row);
+    }
+
+    /** Sink that accumulates rows into groups.
+     *
+     * @param <TSource> Input row type */
+    static class Accumulator<TSource> implements Sink<TSource> {
+        private final Function1<TSource, Object> keySelector;
+        private final Aggregator<TSource>[] aggregators;
+        private final Layout layout;
+
+        /** Memory used by the groups. Each group's key and state, and the
+         * values seen by DISTINCT aggregators, are recorded in the query's
+         * {@link MemoryPool}; if the pool is exhausted, the aggregation
+         * fails. Cleared when the output rows have been built. */
+        private final MemoryPool.Allocation allocation =
+            MemoryPool.Allocation.current("hash aggregate");
+
+        /** State of the only group, if there is no GROUP BY. */
+        private final State state;
+
+        /** State of each group, if there is a GROUP BY. */
+        private final Map<Object, State> map;
+
+        Accumulator(
+            Function1<TSource, Object> keySelector,
+            Aggregator<TSource>[] aggregators,
+            Layout layout)
+        {
+            this.keySelector = keySelector;
+            this.aggregators = aggregators;
+            this.layout = layout;
+            if (keySelector == null) {
+                state = layout.newState(allocation);
+                map = null;
+            } else {
+                state = null;
+                map = new HashMap<Object, State>();
+            }
+        }
+
+        public void add(TSource row) {
+            State state = this.state;
+            if (state == null) {
+                final Object key = keySelector.apply(row);
+                state = map.get(key);
+                if (state == null) {
+                    allocation.add(
+                        MemoryPool.sizeOf(key)
+                        + layout.stateBytes()
+                        + MemoryPool.ENTRY_BYTES);
+                    state = layout.newState(allocation);
+                    map.put(key, state);
+                }
+            }
+            for (Aggregator<TSource> aggregator : aggregators) {
+                aggregator.add(state, row);
+            }
+        }
+
+        /** Returns the output rows, and returns the memory used by the
+         * groups to the pool. */
+        List<Object> rows(int groupCount) {
+            final List<Object> rows = new ArrayList<Object>();
+            if (map == null) {
+                rows.add(row(null, 0, aggregators, state));
+            } else {
+                for (Map.Entry<Object, State> entry : map.entrySet()) {
+                    rows.add(
+                        row(
+                            entry.getKey(), groupCount, aggregators,
+                            entry.getValue()));
+                }
+            }
+            allocation.clear();
+            return rows;
+        }
+
+        /** Returns the groups, without computing the aggregate values. If
+         * there is no GROUP BY, there is one group, whose key is null. The
+         * caller must call {@link #clear} when it no longer needs them. */
+        Map<Object, State> groups() {
+            return map == null
+                ? Collections.<Object, State>singletonMap(null, state)
+                : map;
+        }
+
+        /** Returns the memory used by the groups to the pool. */
+        void clear() {
+            allocation.clear();
+        }
+    }
+
+    /** Creates an aggregator for {@code COUNT(*)}. */
+    public static <T> Aggregator<T> count() {
+        return new CountStar<T>();
+    }
+
+    /** Creates an aggregator for {@code COUNT(x)}, which counts rows for
+     * which {@code x} is not null. */
+    public static <T> Aggregator<T> count(Function1<T, Object> accessor) {
+        return new Count<T>(accessor);
+    }
+
+    /** Creates an aggregator that feeds a row to another aggregator only if
+     * its value has not been seen before in the same group; for example,
+     * {@code COUNT(DISTINCT x)}. Rows whose value is null are ignored. */
+    public static <T> Aggregator<T> distinct(
+        Function1<T, Object> accessor,
+        Aggregator<T> aggregator)
+    {
+        return new Distinct<T>(accessor, aggregator);
+    }
+
+    /** Creates an aggregator for {@code SUM} of a NOT NULL int column. */
+    public static <T> Aggregator<T> sum(
+        final IntegerFunction1<T> accessor, Class resultClass)
+    {
+        return new LongSum<T>(resultClass, false) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code SUM} of a NOT NULL long column. */
+    public static <T> Aggregator<T> sum(
+        final LongFunction1<T> accessor, Class resultClass)
+    {
+        return new LongSum<T>(resultClass, false) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code SUM} of a NOT NULL double column. */
+    public static <T> Aggregator<T> sum(
+        final DoubleFunction1<T> accessor, Class resultClass)
+    {
+        return new DoubleSum<T>(resultClass, false) {
+            double value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code SUM} of a nullable column. */
+    public static <T> Aggregator<T> sum(
+        Function1<T, Object> accessor, Class resultClass)
+    {
+        return isIntegral(resultClass)
+            ? new NullableLongSum<T>(accessor, resultClass, false)
+            : new NullableDoubleSum<T>(accessor, resultClass, false);
+    }
+
+    /** Creates an aggregator for {@code AVG} of a NOT NULL int column. */
+    public static <T> Aggregator<T> avg(
+        final IntegerFunction1<T> accessor, Class resultClass)
+    {
+        return new LongSum<T>(resultClass, true) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code AVG} of a NOT NULL long column. */
+    public static <T> Aggregator<T> avg(
+        final LongFunction1<T> accessor, Class resultClass)
+    {
+        return new LongSum<T>(resultClass, true) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code AVG} of a NOT NULL double column. */
+    public static <T> Aggregator<T> avg(
+        final DoubleFunction1<T> accessor, Class resultClass)
+    {
+        return new DoubleSum<T>(resultClass, true) {
+            double value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code AVG} of a nullable column. */
+    public static <T> Aggregator<T> avg(
+        Function1<T, Object> accessor, Class resultClass)
+    {
+        return isIntegral(resultClass)
+            ? new NullableLongSum<T>(accessor, resultClass, true)
+            : new NullableDoubleSum<T>(accessor, resultClass, true);
+    }
+
+    /** Creates an aggregator for {@code MIN} of a NOT NULL int column. */
+    public static <T> Aggregator<T> min(
+        final IntegerFunction1<T> accessor, Class resultClass)
+    {
+        return new LongMinMax<T>(resultClass, true) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code MIN} of a NOT NULL long column. */
+    public static <T> Aggregator<T> min(
+        final LongFunction1<T> accessor, Class resultClass)
+    {
+        return new LongMinMax<T>(resultClass, true) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code MIN} of a NOT NULL double column. */
+    public static <T> Aggregator<T> min(
+        final DoubleFunction1<T> accessor, Class resultClass)
+    {
+        return new DoubleMinMax<T>(resultClass, true) {
+            double value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code MIN} of a nullable or non-numeric
+     * column. */
+    public static <T> Aggregator<T> min(
+        Function1<T, Object> accessor, Class resultClass)
+    {
+        return new ComparableMinMax<T>(accessor, true);
+    }
+
+    /** Creates an aggregator for {@code MAX} of a NOT NULL int column. */
+    public static <T> Aggregator<T> max(
+        final IntegerFunction1<T> accessor, Class resultClass)
+    {
+        return new LongMinMax<T>(resultClass, false) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code MAX} of a NOT NULL long column. */
+    public static <T> Aggregator<T> max(
+        final LongFunction1<T> accessor, Class resultClass)
+    {
+        return new LongMinMax<T>(resultClass, false) {
+            long value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code MAX} of a NOT NULL double column. */
+    public static <T> Aggregator<T> max(
+        final DoubleFunction1<T> accessor, Class resultClass)
+    {
+        return new DoubleMinMax<T>(resultClass, false) {
+            double value(T row) {
+                return accessor.apply(row);
+            }
+        };
+    }
+
+    /** Creates an aggregator for {@code MAX} of a nullable or non-numeric
+     * column. */
+    public static <T> Aggregator<T> max(
+        Function1<T, Object> accessor, Class resultClass)
+    {
+        return new ComparableMinMax<T>(accessor, false);
+    }
+
+    private static boolean isIntegral(Class clazz) {
+        return clazz == Integer.class
+            || clazz == Long.class
+            || clazz == Short.class
+            || clazz == Byte.class;
+    }
+
+    private static Object box(long v, Class resultClass) {
+        if (resultClass == Integer.class) {
+            return (int) v;
+        } else if (resultClass == Short.class) {
+            return (short) v;
+        } else if (resultClass == Byte.class) {
+            return (byte) v;
+        } else if (resultClass == Double.class) {
+            return (double) v;
+        } else if (resultClass == Float.class) {
+            return (float) v;
+        } else {
+            return v;
+        }
+    }
+
+    private static Object box(double v, Class resultClass) {
+        if (resultClass == Integer.class) {
+            return (int) v;
+        } else if (resultClass == Long.class) {
+            return (long) v;
+        } else if (resultClass == Short.class) {
+            return (short) v;
+        } else if (resultClass == Byte.class) {
+            return (byte) v;
+        } else if (resultClass == Float.class) {
+            return (float) v;
+        } else {
+            return v;
+        }
+    }
+
+    /** Implements {@code COUNT(*)}. */
+    private static class CountStar<T> extends Aggregator<T> {
+        private int count;
+
+        public void allocate(Layout layout) {
+            count = layout.longSlot();
+        }
+
+        public void add(State state, T row) {
+            ++state.longs[count];
+        }
+
+        public Object result(State state) {
+            return state.longs[count];
+        }
+
+        public void merge(State state, State other) {
+            state.longs[count] += other.longs[count];
+        }
+    }
+
+    /** Implements {@code COUNT(x)}. */
+    private static class Count<T> extends Aggregator<T> {
+        private final Function1<T, Object> accessor;
+        private int count;
+
+        Count(Function1<T, Object> accessor) {
+            this.accessor = accessor;
+        }
+
+        public void allocate(Layout layout) {
+            count = layout.longSlot();
+        }
+
+        public void add(State state, T row) {
+            if (!CompositeKey.isNull(accessor.apply(row))) {
+                ++state.longs[count];
+            }
+        }
+
+        public Object result(State state) {
+            return state.longs[count];
+        }
+
+        public void merge(State state, State other) {
+            state.longs[count] += other.longs[count];
+        }
+    }
+
+    /** Passes to another aggregator only the first row with each distinct
+     * value in a group. The values seen are recorded in the allocation of
+     * the group's state. */
+    private static class Distinct<T> extends Aggregator<T> {
+        private final Function1<T, Object> accessor;
+        private final Aggregator<T> aggregator;
+        private int set;
+
+        Distinct(Function1<T, Object> accessor, Aggregator<T> aggregator) {
+            this.accessor = accessor;
+            this.aggregator = aggregator;
+        }
+
+        public void allocate(Layout layout) {
+            set = layout.objectSlot();
+            aggregator.allocate(layout);
+        }
+
+        public void add(State state, T row) {
+            final Object value = accessor.apply(row);
+            if (CompositeKey.isNull(value)) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            Set<Object> values = (Set<Object>) state.objects[set];
+            if (values == null) {
+                values = new HashSet<Object>();
+                state.objects[set] = values;
+            }
+            if (values.add(value)) {
+                if (state.allocation != null) {
+                    state.allocation.add(
+                        MemoryPool.sizeOf(value) + MemoryPool.ENTRY_BYTES);
+                }
+                aggregator.add(state, row);
+            }
+        }
+
+        public Object result(State state) {
+            return aggregator.result(state);
+        }
+
+        public void merge(State state, State other) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean canMerge() {
+            return false;
+        }
+    }
+
+    /** Implements {@code SUM} and {@code AVG} of a NOT NULL integral
+     * column. */
+    private static abstract class LongSum<T> extends Aggregator<T> {
+        private final Class resultClass;
+        private final boolean avg;
+        private int sum;
+        private int count;
+
+        LongSum(Class resultClass, boolean avg) {
+            this.resultClass = resultClass;
+            this.avg = avg;
+        }
+
+        abstract long value(T row);
+
+        public void allocate(Layout layout) {
+            sum = layout.longSlot();
+            count = layout.longSlot();
+        }
+
+        public void add(State state, T row) {
+            state.longs[sum] += value(row);
+            ++state.longs[count];
+        }
+
+        public Object result(State state) {
+            final long n = state.longs[count];
+            if (n == 0) {
+                return null;
+            }
+            final long s = state.longs[sum];
+            if (!avg) {
+                return box(s, resultClass);
+            }
+            return isIntegral(resultClass)
+                ? box(s / n, resultClass)
+                : box((double) s / n, resultClass);
+        }
+
+        public void merge(State state, State other) {
+            state.longs[sum] += other.longs[sum];
+            state.longs[count] += other.longs[count];
+        }
+    }
+
+    /** Implements {@code SUM} and {@code AVG} of a NOT NULL floating-point
+     * column. */
+    private static abstract class DoubleSum<T> extends Aggregator<T> {
+        private final Class resultClass;
+        private final boolean avg;
+        private int sum;
+        private int count;
+
+        DoubleSum(Class resultClass, boolean avg) {
+            this.resultClass = resultClass;
+            this.avg = avg;
+        }
+
+        abstract double value(T row);
+
+        public void allocate(Layout layout) {
+            sum = layout.doubleSlot();
+            count = layout.longSlot();
+        }
+
+        public void add(State state, T row) {
+            state.doubles[sum] += value(row);
+            ++state.longs[count];
+        }
+
+        public Object result(State state) {
+            final long n = state.longs[count];
+            if (n == 0) {
+                return null;
+            }
+            final double s = state.doubles[sum];
+            return box(avg ? s / n : s, resultClass);
+        }
+
+        public void merge(State state, State other) {
+            state.doubles[sum] += other.doubles[sum];
+            state.longs[count] += other.longs[count];
+        }
+    }
+
+    /** Implements {@code SUM} and {@code AVG} of a nullable integral
+     * column. */
+    private static class NullableLongSum<T> extends LongSum<T> {
+        private final Function1<T, Object> accessor;
+
+        NullableLongSum(
+            Function1<T, Object> accessor, Class resultClass, boolean avg)
+        {
+            super(resultClass, avg);
+            this.accessor = accessor;
+        }
+
+        long value(T row) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void add(State state, T row) {
+            final Object o = accessor.apply(row);
+            if (o != null) {
+                state.longs[super.sum] += ((Number) o).longValue();
+                ++state.longs[super.count];
+            }
+        }
+    }
+
+    /** Implements {@code SUM} and {@code AVG} of a nullable floating-point
+     * column. */
+    private static class NullableDoubleSum<T> extends DoubleSum<T> {
+        private final Function1<T, Object> accessor;
+
+        NullableDoubleSum(
+            Function1<T, Object> accessor, Class resultClass, boolean avg)
+        {
+            super(resultClass, avg);
+            this.accessor = accessor;
+        }
+
+        double value(T row) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void add(State state, T row) {
+            final Object o = accessor.apply(row);
+            if (o != null) {
+                state.doubles[super.sum] += ((Number) o).doubleValue();
+                ++state.longs[super.count];
+            }
+        }
+    }
+
+    /** Implements {@code MIN} and {@code MAX} of a NOT NULL integral
+     * column. */
+    private static abstract class LongMinMax<T> extends Aggregator<T> {
+        private final Class resultClass;
+        private final boolean min;
+        private int value;
+        private int count;
+
+        LongMinMax(Class resultClass, boolean min) {
+            this.resultClass = resultClass;
+            this.min = min;
+        }
+
+        abstract long value(T row);
+
+        public void allocate(Layout layout) {
+            value = layout.longSlot();
+            count = layout.longSlot();
+        }
+
+        public void add(State state, T row) {
+            final long v = value(row);
+            final long[] longs = state.longs;
+            if (longs[count]++ == 0
+                || (min ? v < longs[value] : v > longs[value]))
+            {
+                longs[value] = v;
+            }
+        }
+
+        public Object result(State state) {
+            return state.longs[count] == 0
+                ? null
+                : box(state.longs[value], resultClass);
+        }
+
+        public void merge(State state, State other) {
+            final long n = other.longs[count];
+            if (n == 0) {
+                return;
+            }
+            final long v = other.longs[value];
+            final long[] longs = state.longs;
+            if (longs[count] == 0
+                || (min ? v < longs[value] : v > longs[value]))
+            {
+                longs[value] = v;
+            }
+            longs[count] += n;
+        }
+    }
+
+    /** Implements {@code MIN} and {@code MAX} of a NOT NULL floating-point
+     * column. */
+    private static abstract class DoubleMinMax<T> extends Aggregator<T> {
+        private final Class resultClass;
+        private final boolean min;
+        private int value;
+        private int count;
+
+        DoubleMinMax(Class resultClass, boolean min) {
+            this.resultClass = resultClass;
+            this.min = min;
+        }
+
+        abstract double value(T row);
+
+        public void allocate(Layout layout) {
+            value = layout.doubleSlot();
+            count = layout.longSlot();
+        }
+
+        public void add(State state, T row) {
+            final double v = value(row);
+            final double[] doubles = state.doubles;
+            if (state.longs[count]++ == 0
+                || (min ? v < doubles[value] : v > doubles[value]))
+            {
+                doubles[value] = v;
+            }
+        }
+
+        public Object result(State state) {
+            return state.longs[count] == 0
+                ? null
+                : box(state.doubles[value], resultClass);
+        }
+
+        public void merge(State state, State other) {
+            final long n = other.longs[count];
+            if (n == 0) {
+                return;
+            }
+            final double v = other.doubles[value];
+            final double[] doubles = state.doubles;
+            if (state.longs[count] == 0
+                || (min ? v < doubles[value] : v > doubles[value]))
+            {
+                doubles[value] = v;
+            }
+            state.longs[count] += n;
+        }
+    }
+
+    /** Implements {@code MIN} and {@code MAX} of a nullable or non-numeric
+     * column. Null values are ignored. */
+    private static class ComparableMinMax<T> extends Aggregator<T> {
+        private final Function1<T, Object> accessor;
+        private final boolean min;
+        private int value;
+
+        ComparableMinMax(Function1<T, Object> accessor, boolean min) {
+            this.accessor = accessor;
+            this.min = min;
+        }
+
+        public void allocate(Layout layout) {
+            value = layout.objectSlot();
+        }
+
+        public void add(State state, T row) {
+            accept(state, (Comparable) accessor.apply(row));
+        }
+
+        public void merge(State state, State other) {
+            accept(state, (Comparable) other.objects[value]);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void accept(State state, Comparable v) {
+            if (v == null) {
+                return;
+            }
+            final Comparable current = (Comparable) state.objects[value];
+            if (current == null) {
+                state.objects[value] = v;
+            } else {
+                final int c = v.compareTo(current);
+                if (min ? c < 0 : c > 0) {
+                    state.objects[value] = v;
+                }
+            }
+        }
+
+        public Object result(State state) {
+            return state.objects[value];
+        }
+    }
+}
+
+// End HashAggregate.java
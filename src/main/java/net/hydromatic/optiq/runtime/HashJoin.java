@@ -0,0 +1,412 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
+import net.hydromatic.linq4j.function.Function1;
+import net.hydromatic.linq4j.function.Function2;
+import net.hydromatic.linq4j.function.Predicate2;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Hash join, called from generated code.
+ *
+ * <p>One input, the <dfn>build</dfn> input, is read into a hash table keyed
+ * on its join key; then each row of the other input, the <dfn>probe</dfn>
+ * input, is looked up in the table. Either input may be the build input;
+ * usually it is the smaller one.</p>
+ *
+ * <p>Rows whose key contains a null never match. A residual predicate, if
+ * present, is evaluated for each pair of rows whose keys match. Unmatched
+ * rows from either side are emitted if the join generates nulls on the other
+ * side (that is, for outer joins).</p>
+ *
+ * <p>The hash table maps each key to the ordinal of the last build row with
+ * that key, and an array chains each row to the previous row with the same
+ * key; ordinals are held in {@code int} arrays, so building the table does
+ * not box an integer per row.</p>
+ *
+ * <p>The rows of the build input are recorded in the query's
+ * {@link MemoryPool}; if the pool is exhausted, the join fails. The memory
+ * is returned when the join has emitted its last row, or when its
+ * enumerator is closed; for example, by {@link Limit}.</p>
+ *
+ * @author jhyde
+ */
+public class HashJoin {
+    /** Key used when a join has no equi-join keys. Every row has the same
+     * key, so the join degenerates to a nested loop. */
+    private static final Object CONSTANT_KEY = Boolean.TRUE;
+
+    private HashJoin() {
+    }
+
+    /**
+     * Joins two enumerables.
+     *
+     * @param left Left input
+     * @param right Right input
+     * @param leftKeySelector Computes the key of a left row; null if there
+     *   are no keys
+     * @param rightKeySelector Computes the key of a right row; null if there
+     *   are no keys
+     * @param resultSelector Creates an output row from a matching pair
+     * @param predicate Residual condition on a pair of rows whose keys
+     *   match, or null
+     * @param leftOnlySelector Creates an output row from an unmatched left
+     *   row, or null if the join does not generate nulls on the right
+     * @param rightOnlySelector Creates an output row from an unmatched right
+     *   row, or null if the join does not generate nulls on the left
+     * @param buildLeft Whether to build the hash table from the left input
+     * @return Enumerable over the joined rows
+     */
+    public static <TLeft, TRight, TResult> Enumerable<TResult> join(
+        final Enumerable<TLeft> left,
+        final Enumerable<TRight> right,
+        final Function1<TLeft, Object> leftKeySelector,
+        final Function1<TRight, Object> rightKeySelector,
+        final Function2<TLeft, TRight, TResult> resultSelector,
+        final Predicate2<TLeft, TRight> predicate,
+        final Function1<TLeft, TResult> leftOnlySelector,
+        final Function1<TRight, TResult> rightOnlySelector,
+        final boolean buildLeft)
+    {
+        if (!buildLeft) {
+            return new AbstractEnumerable<TResult>() {
+                public Enumerator<TResult> enumerator() {
+                    return new JoinEnumerator<TLeft, TRight, TResult>(
+                        left.enumerator(),
+                        right,
+                        leftKeySelector,
+                        rightKeySelector,
+                        resultSelector,
+                        predicate,
+                        leftOnlySelector,
+                        rightOnlySelector);
+                }
+            };
+        }
+        // Build on the left, probe with the right. Swap the arguments to the
+        // selector and predicate, so that they still see (left, right).
+        final Function2<TRight, TLeft, TResult> swappedSelector =
+            new Function2<TRight, TLeft, TResult>() {
+                public TResult apply(TRight v0, TLeft v1) {
+                    return resultSelector.apply(v1, v0);
+                }
+            };
+        final Predicate2<TRight, TLeft> swappedPredicate =
+            predicate == null
+                ? null
+                : new Predicate2<TRight, TLeft>() {
+                    public boolean apply(TRight v0, TLeft v1) {
+                        return predicate.apply(v1, v0);
+                    }
+                };
+        return new AbstractEnumerable<TResult>() {
+            public Enumerator<TResult> enumerator() {
+                return new JoinEnumerator<TRight, TLeft, TResult>(
+                    right.enumerator(),
+                    left,
+                    rightKeySelector,
+                    leftKeySelector,
+                    swappedSelector,
+                    swappedPredicate,
+                    rightOnlySelector,
+                    leftOnlySelector);
+            }
+        };
+    }
+
+    /** Returns the key of a row, or null if the row cannot match. */
+    private static <T> Object key(Function1<T, Object> keySelector, T row) {
+        if (keySelector == null) {
+            return CONSTANT_KEY;
+        }
+        final Object key = keySelector.apply(row);
+        return CompositeKey.isNull(key) ? null : key;
+    }
+
+    /** Closes an enumerator, if it is {@link Closeable}; for example, a JDBC
+     * result set or another join. */
+    static void close(Enumerator<?> enumerator) {
+        if (enumerator instanceof Closeable) {
+            try {
+                ((Closeable) enumerator).close();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /** Enumerator that probes a hash table built from one input with the
+     * rows of the other input.
+     *
+     * @param <P> Probe row type
+     * @param <B> Build row type
+     * @param <R> Result row type */
+    private static class JoinEnumerator<P, B, R>
+        implements Enumerator<R>, Closeable
+    {
+        private final Enumerator<P> probe;
+        private final Enumerable<B> buildEnumerable;
+        private final Function1<P, Object> probeKeySelector;
+        private final Function1<B, Object> buildKeySelector;
+        private final Function2<P, B, R> resultSelector;
+        private final Predicate2<P, B> predicate;
+        private final Function1<P, R> probeOnlySelector;
+        private final Function1<B, R> buildOnlySelector;
+
+        /** Rows of the build input. */
+        private List<B> rows;
+
+        /** For each key, the ordinal of the last row with that key. */
+        private KeyTable heads;
+
+        /** For each row, the ordinal of the previous row with the same key,
+         * or -1. Together with {@link #heads}, forms a chain for each key. */
+        private int[] nexts;
+
+        /** Which build rows have been matched; null if unmatched build rows
+         * are not needed. */
+        private BitSet matched;
+
+        /** Memory used by the hash table. */
+        private final MemoryPool.Allocation allocation =
+            MemoryPool.Allocation.current("hash join");
+
+        /** Cancel flag of the execution, polled for each input row. */
+        private final CancelFlag cancelFlag =
+            ExecutionContext.currentCancelFlag();
+
+        private boolean closed;
+        private boolean probing = true;
+        private P probeRow;
+        private boolean probeRowPending;
+        private boolean probeRowMatched;
+        private int pos = -1;
+        private int buildOrdinal;
+        private R current;
+
+        JoinEnumerator(
+            Enumerator<P> probe,
+            Enumerable<B> buildEnumerable,
+            Function1<P, Object> probeKeySelector,
+            Function1<B, Object> buildKeySelector,
+            Function2<P, B, R> resultSelector,
+            Predicate2<P, B> predicate,
+            Function1<P, R> probeOnlySelector,
+            Function1<B, R> buildOnlySelector)
+        {
+            this.probe = probe;
+            this.buildEnumerable = buildEnumerable;
+            this.probeKeySelector = probeKeySelector;
+            this.buildKeySelector = buildKeySelector;
+            this.resultSelector = resultSelector;
+            this.predicate = predicate;
+            this.probeOnlySelector = probeOnlySelector;
+            this.buildOnlySelector = buildOnlySelector;
+        }
+
+        private void build() {
+            rows = new ArrayList<B>();
+            heads = new KeyTable();
+            nexts = new int[16];
+            final Enumerator<B> enumerator = buildEnumerable.enumerator();
+            while (enumerator.moveNext()) {
+                ExecutionContext.checkCancel(cancelFlag);
+                final B row = enumerator.current();
+                final Object key = key(buildKeySelector, row);
+                if (key == null && buildOnlySelector == null) {
+                    // Row can never be matched or emitted.
+                    continue;
+                }
+                allocation.add(
+                    MemoryPool.sizeOf(row) + MemoryPool.ENTRY_BYTES);
+                final int ordinal = rows.size();
+                rows.add(row);
+                if (ordinal == nexts.length) {
+                    nexts = Arrays.copyOf(nexts, ordinal * 2);
+                }
+                nexts[ordinal] = key == null ? -1 : heads.put(key, ordinal);
+            }
+            if (buildOnlySelector != null) {
+                matched = new BitSet(rows.size());
+            }
+        }
+
+        public R current() {
+            return current;
+        }
+
+        public boolean moveNext() {
+            if (closed) {
+                return false;
+            }
+            if (rows == null) {
+                build();
+            }
+            if (probing) {
+                for (;;) {
+                    // Continue down the chain of build rows for the current
+                    // probe row.
+                    while (pos >= 0) {
+                        final int ordinal = pos;
+                        pos = nexts[ordinal];
+                        final B buildRow = rows.get(ordinal);
+                        if (predicate == null
+                            || predicate.apply(probeRow, buildRow))
+                        {
+                            probeRowMatched = true;
+                            if (matched != null) {
+                                matched.set(ordinal);
+                            }
+                            current = resultSelector.apply(probeRow, buildRow);
+                            return true;
+                        }
+                    }
+                    if (probeRowPending) {
+                        probeRowPending = false;
+                        if (!probeRowMatched && probeOnlySelector != null) {
+                            current = probeOnlySelector.apply(probeRow);
+                            return true;
+                        }
+                    }
+                    if (!probe.moveNext()) {
+                        break;
+                    }
+                    ExecutionContext.checkCancel(cancelFlag);
+                    probeRow = probe.current();
+                    probeRowPending = true;
+                    probeRowMatched = false;
+                    final Object key = key(probeKeySelector, probeRow);
+                    pos = key == null ? -1 : heads.get(key);
+                }
+                probing = false;
+                probeRow = null;
+            }
+            if (matched != null) {
+                // Emit build rows that did not match any probe row.
+                while (buildOrdinal < rows.size()) {
+                    final int ordinal = buildOrdinal++;
+                    if (!matched.get(ordinal)) {
+                        current = buildOnlySelector.apply(rows.get(ordinal));
+                        return true;
+                    }
+                }
+            }
+            close();
+            return false;
+        }
+
+        public void reset() {
+            probe.reset();
+            closed = false;
+            probing = true;
+            probeRow = null;
+            probeRowPending = false;
+            pos = -1;
+            buildOrdinal = 0;
+            current = null;
+            if (matched != null) {
+                matched.clear();
+            }
+        }
+
+        /** Releases the hash table and its memory, and closes the probe
+         * input. The build table is rebuilt if the enumerator is reset. */
+        public void close() {
+            closed = true;
+            rows = null;
+            heads = null;
+            nexts = null;
+            matched = null;
+            probeRow = null;
+            current = null;
+            allocation.clear();
+            HashJoin.close(probe);
+        }
+    }
+
+    /** Hash table, with open addressing, from a key to the ordinal of the
+     * last build row with that key. */
+    private static class KeyTable {
+        private Object[] keys = new Object[16];
+        private int[] heads = new int[16];
+        private int size;
+
+        /** Records that a row has a given key, and returns the ordinal of the
+         * previous row with that key, or -1. */
+        int put(Object key, int ordinal) {
+            final int i = slot(keys, key);
+            if (keys[i] == null) {
+                keys[i] = key;
+                heads[i] = ordinal;
+                if (++size * 2 > keys.length) {
+                    grow();
+                }
+                return -1;
+            }
+            final int previous = heads[i];
+            heads[i] = ordinal;
+            return previous;
+        }
+
+        /** Returns the ordinal of the last row with a given key, or -1. */
+        int get(Object key) {
+            final int i = slot(keys, key);
+            return keys[i] == null ? -1 : heads[i];
+        }
+
+        /** Returns the slot that holds a key, or the empty slot where it
+         * would go. */
+        private static int slot(Object[] keys, Object key) {
+            final int mask = keys.length - 1;
+            int h = key.hashCode();
+            h ^= (h >>> 20) ^ (h >>> 12);
+            h ^= (h >>> 7) ^ (h >>> 4);
+            int i = h & mask;
+            while (keys[i] != null && !keys[i].equals(key)) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private void grow() {
+            final Object[] oldKeys = keys;
+            final int[] oldHeads = heads;
+            keys = new Object[oldKeys.length * 2];
+            heads = new int[oldKeys.length * 2];
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] != null) {
+                    final int i = slot(keys, oldKeys[j]);
+                    keys[i] = oldKeys[j];
+                    heads[i] = oldHeads[j];
+                }
+            }
+        }
+    }
+}
+
+// End HashJoin.java
@@ -0,0 +1,143 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Implementation of the OFFSET and FETCH clauses, called from generated
+ * code.
+ *
+ * <p>Skips the first {@code offset} rows of its input, then returns at most
+ * {@code fetch} rows. Once it has returned {@code fetch} rows it does not
+ * read its input again, so operators below it that produce rows lazily
+ * (scans, filters, projections, the probe side of a hash join) do no more
+ * work; if the input's enumerator is {@link Closeable} (say, a JDBC result
+ * set), it is closed at that point.</p>
+ *
+ * <p>Combined with a sort, the sort itself keeps only the first
+ * {@code offset + fetch} rows; see {@link ExternalSort}.</p>
+ *
+ * @author jhyde
+ */
+public class Limit {
+    private Limit() {
+    }
+
+    /**
+     * Skips and limits the rows of an enumerable.
+     *
+     * @param input Input rows
+     * @param offset Number of rows to skip
+     * @param fetch Maximum number of rows to return, or -1 for all
+     * @param <T> Row type
+     * @return Rows from offset to offset + fetch
+     */
+    public static <T> Enumerable<T> limit(
+        final Enumerable<T> input,
+        final int offset,
+        final int fetch)
+    {
+        return new AbstractEnumerable<T>() {
+            public Enumerator<T> enumerator() {
+                return new LimitEnumerator<T>(
+                    input.enumerator(), offset, fetch);
+            }
+        };
+    }
+
+    /** Enumerator that skips and limits the rows of another enumerator. */
+    private static class LimitEnumerator<T> implements Enumerator<T> {
+        private final Enumerator<T> input;
+        private final int offset;
+        private final int fetch;
+
+        /** Cancel flag of the execution, polled for each skipped row. */
+        private final CancelFlag cancelFlag =
+            ExecutionContext.currentCancelFlag();
+
+        private boolean skipped;
+        private int count;
+        private boolean done;
+
+        LimitEnumerator(Enumerator<T> input, int offset, int fetch) {
+            this.input = input;
+            this.offset = offset;
+            this.fetch = fetch;
+        }
+
+        public T current() {
+            return input.current();
+        }
+
+        public boolean moveNext() {
+            if (done) {
+                return false;
+            }
+            if (fetch >= 0 && count >= fetch) {
+                // Do not read any more rows, and release the input's
+                // resources now rather than when the statement closes.
+                done = true;
+                close();
+                return false;
+            }
+            if (!skipped) {
+                skipped = true;
+                for (int i = 0; i < offset; i++) {
+                    if (!input.moveNext()) {
+                        done = true;
+                        return false;
+                    }
+                    ExecutionContext.checkCancel(cancelFlag);
+                }
+            }
+            if (!input.moveNext()) {
+                done = true;
+                return false;
+            }
+            ++count;
+            return true;
+        }
+
+        public void reset() {
+            input.reset();
+            skipped = false;
+            count = 0;
+            done = false;
+        }
+
+        private void close() {
+            if (input instanceof Closeable) {
+                try {
+                    ((Closeable) input).close();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+}
+
+// End Limit.java
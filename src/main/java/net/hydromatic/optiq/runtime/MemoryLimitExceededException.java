@@ -0,0 +1,35 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+/**
+ * Exception thrown when a query needs more memory than its limit, or its
+ * connection's limit, allows. See {@link MemoryPool}.
+ *
+ * @author jhyde
+ */
+public class MemoryLimitExceededException extends RuntimeException {
+    MemoryLimitExceededException(MemoryPool pool, String owner) {
+        super(
+            "Memory limit of " + pool.getLimit() + " bytes for " + pool
+            + " exceeded by " + owner + " (" + pool.getUsed()
+            + " bytes in use)");
+    }
+}
+
+// End MemoryLimitExceededException.java
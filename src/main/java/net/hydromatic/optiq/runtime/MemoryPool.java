@@ -0,0 +1,259 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the memory used by the blocking operators of queries, and enforces
+ * a limit.
+ *
+ * <p>Each connection has a pool, and each query a pool whose parent is the
+ * connection's pool. Memory reserved from a query's pool is also reserved
+ * from its parent, so a query fails if either its own limit or its
+ * connection's limit would be exceeded.</p>
+ *
+ * <p>Operators such as sorts, hash joins and aggregations do not reserve
+ * memory directly; they record the rows they buffer in an
+ * {@link Allocation}, which reserves from the pool in chunks, so that the
+ * cost per row is small. Sizes are estimates (see {@link #sizeOf}), not
+ * measurements.</p>
+ *
+ * @author jhyde
+ */
+public class MemoryPool {
+    /** Number of bytes that an {@link Allocation} reserves at a time. */
+    private static final long CHUNK = 64 * 1024;
+
+    /** Estimated overhead, in bytes, of an object header; also used as the
+     * size of an object whose size cannot be estimated. */
+    private static final long OBJECT_BYTES = 16;
+
+    /** Estimated overhead, in bytes, of an entry in a hash table or list
+     * that an operator uses to hold a row. */
+    public static final long ENTRY_BYTES = 32;
+
+    private final MemoryPool parent;
+    private final String name;
+    private final long limit;
+    private final AtomicLong used = new AtomicLong();
+
+    /**
+     * Creates a MemoryPool.
+     *
+     * @param parent Parent pool, or null
+     * @param name Name of the pool, for error messages; for example "query"
+     * @param limit Maximum number of bytes, or 0 for no limit
+     */
+    public MemoryPool(MemoryPool parent, String name, long limit) {
+        this.parent = parent;
+        this.name = name;
+        this.limit = limit;
+    }
+
+    /** Returns the number of bytes reserved. */
+    public long getUsed() {
+        return used.get();
+    }
+
+    /** Returns the maximum number of bytes, or 0 if there is no limit. */
+    public long getLimit() {
+        return limit;
+    }
+
+    /** Reserves memory, if this pool and its ancestors have enough; returns
+     * whether it succeeded. */
+    public boolean tryReserve(long bytes) {
+        for (;;) {
+            final long current = used.get();
+            if (limit > 0 && current + bytes > limit) {
+                return false;
+            }
+            if (used.compareAndSet(current, current + bytes)) {
+                break;
+            }
+        }
+        if (parent != null && !parent.tryReserve(bytes)) {
+            used.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+
+    /** Reserves memory, or throws {@link MemoryLimitExceededException} if
+     * this pool or one of its ancestors does not have enough. */
+    public void reserve(long bytes, String owner) {
+        if (!tryReserve(bytes)) {
+            throw new MemoryLimitExceededException(exhaustedPool(bytes), owner);
+        }
+    }
+
+    /** Returns the pool whose limit prevents a reservation; for error
+     * messages. */
+    private MemoryPool exhaustedPool(long bytes) {
+        if (parent != null
+            && parent.limit > 0
+            && parent.used.get() + bytes > parent.limit)
+        {
+            return parent.exhaustedPool(bytes);
+        }
+        return this;
+    }
+
+    /** Returns memory to this pool and its ancestors. */
+    public void release(long bytes) {
+        used.addAndGet(-bytes);
+        if (parent != null) {
+            parent.release(bytes);
+        }
+    }
+
+    /** Returns all memory that is still reserved to the parent pool. Called
+     * when a query finishes, in case operators were abandoned before they
+     * could release their memory. */
+    public void close() {
+        final long bytes = used.getAndSet(0);
+        if (parent != null && bytes != 0) {
+            parent.release(bytes);
+        }
+    }
+
+    public String toString() {
+        return name;
+    }
+
+    /** Estimates the number of bytes used by a row. Counts arrays, strings
+     * and boxed values; any other object is assumed to be small. */
+    public static long sizeOf(Object o) {
+        if (o == null) {
+            return 0;
+        }
+        if (o instanceof Object[]) {
+            final Object[] values = (Object[]) o;
+            long size = OBJECT_BYTES + 8L * values.length;
+            for (Object value : values) {
+                if (value != null) {
+                    size += value instanceof Object[]
+                        ? sizeOf(value)
+                        : valueSizeOf(value);
+                }
+            }
+            return size;
+        }
+        return valueSizeOf(o);
+    }
+
+    private static long valueSizeOf(Object value) {
+        if (value instanceof String) {
+            return 40 + 2L * ((String) value).length();
+        }
+        return OBJECT_BYTES;
+    }
+
+    /** Returns the pool of the query executing in the current thread, or
+     * null if memory is not being tracked. */
+    public static MemoryPool current() {
+        final ExecutionContext context = ExecutionContext.current();
+        return context == null ? null : context.getMemoryPool();
+    }
+
+    /**
+     * Memory used by one operator.
+     *
+     * <p>Records the rows and estimated bytes that the operator is
+     * buffering, and reserves memory from the pool a chunk at a time. If
+     * there is no pool, just counts.</p>
+     */
+    public static class Allocation {
+        private final MemoryPool pool;
+        private final String owner;
+        private long rowCount;
+        private long bytes;
+        private long reserved;
+
+        /**
+         * Creates an Allocation.
+         *
+         * @param pool Pool, or null if memory is not tracked
+         * @param owner Description of the operator, for error messages
+         */
+        public Allocation(MemoryPool pool, String owner) {
+            this.pool = pool;
+            this.owner = owner;
+        }
+
+        /** Creates an allocation in the pool of the current query. */
+        public static Allocation current(String owner) {
+            return new Allocation(MemoryPool.current(), owner);
+        }
+
+        /** Returns the number of rows buffered. */
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        /** Returns the estimated number of bytes buffered. */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /** Records a buffered row, if there is enough memory; returns
+         * whether there was. An operator that can spill calls this, and
+         * spills if it returns false. */
+        public boolean tryAdd(long rowBytes) {
+            final long newBytes = bytes + rowBytes;
+            if (newBytes > reserved && pool != null) {
+                final long chunk = Math.max(CHUNK, newBytes - reserved);
+                if (!pool.tryReserve(chunk)) {
+                    return false;
+                }
+                reserved += chunk;
+            }
+            bytes = newBytes;
+            ++rowCount;
+            return true;
+        }
+
+        /** Records a buffered row, or throws
+         * {@link MemoryLimitExceededException} if there is not enough
+         * memory. */
+        public void add(long rowBytes) {
+            if (!tryAdd(rowBytes)) {
+                // Try for exactly what is needed, and fail if we can't.
+                final long needed = bytes + rowBytes - reserved;
+                pool.reserve(needed, owner);
+                reserved += needed;
+                bytes += rowBytes;
+                ++rowCount;
+            }
+        }
+
+        /** Forgets all buffered rows, and returns their memory to the pool;
+         * for example, after the rows have been spilled to disk. */
+        public void clear() {
+            if (pool != null && reserved > 0) {
+                pool.release(reserved);
+            }
+            reserved = 0;
+            bytes = 0;
+            rowCount = 0;
+        }
+    }
+}
+
+// End MemoryPool.java
@@ -0,0 +1,298 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
+import net.hydromatic.linq4j.function.Function1;
+import net.hydromatic.linq4j.function.Function2;
+import net.hydromatic.linq4j.function.Predicate2;
+
+import org.eigenbase.util.CancelFlag;
+
+import java.io.Closeable;
+import java.util.*;
+
+/**
+ * Merge join, called from generated code.
+ *
+ * <p>Both inputs must be sorted on their join keys, in the order defined by
+ * the comparator. The join reads each input once, in step. It buffers only
+ * the rows of the right input that have the same key as the current left
+ * row, so it uses much less memory than a {@link HashJoin} unless a key has
+ * very many rows.</p>
+ *
+ * <p>Rows whose key contains a null never match. A residual predicate, if
+ * present, is evaluated for each pair of rows whose keys match. The join
+ * implements inner and left outer joins; for a left outer join, unmatched
+ * left rows are emitted using the left-only selector.</p>
+ *
+ * <p>The buffered right rows are recorded in the query's
+ * {@link MemoryPool}. The memory is returned when the join has emitted its
+ * last row, or when its enumerator is closed; for example, by
+ * {@link Limit}.</p>
+ *
+ * @author jhyde
+ */
+public class MergeJoin {
+    private MergeJoin() {
+    }
+
+    /**
+     * Joins two sorted enumerables.
+     *
+     * @param left Left input, sorted on its key
+     * @param right Right input, sorted on its key
+     * @param leftKeySelector Computes the key of a left row: the value if
+     *   there is one key column, an {@code Object[]} if there are several
+     * @param rightKeySelector Computes the key of a right row
+     * @param comparator Compares keys; consistent with the sort order of
+     *   both inputs
+     * @param resultSelector Creates an output row from a matching pair
+     * @param predicate Residual condition on a pair of rows whose keys
+     *   match, or null
+     * @param leftOnlySelector Creates an output row from an unmatched left
+     *   row, or null if the join does not generate nulls on the right
+     * @return Enumerable over the joined rows, in the order of the left
+     *   input
+     */
+    public static <TLeft, TRight, TResult> Enumerable<TResult> join(
+        final Enumerable<TLeft> left,
+        final Enumerable<TRight> right,
+        final Function1<TLeft, Object> leftKeySelector,
+        final Function1<TRight, Object> rightKeySelector,
+        final Comparator comparator,
+        final Function2<TLeft, TRight, TResult> resultSelector,
+        final Predicate2<TLeft, TRight> predicate,
+        final Function1<TLeft, TResult> leftOnlySelector)
+    {
+        return new AbstractEnumerable<TResult>() {
+            public Enumerator<TResult> enumerator() {
+                return new MergeJoinEnumerator<TLeft, TRight, TResult>(
+                    left.enumerator(),
+                    right.enumerator(),
+                    leftKeySelector,
+                    rightKeySelector,
+                    comparator,
+                    resultSelector,
+                    predicate,
+                    leftOnlySelector);
+            }
+        };
+    }
+
+    /** Returns whether a key contains a null value, and therefore never
+     * matches another key. */
+    static boolean isNull(Object key) {
+        if (key instanceof Object[]) {
+            for (Object o : (Object[]) key) {
+                if (o == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return CompositeKey.isNull(key);
+    }
+
+    /** Enumerator that merges two sorted inputs.
+     *
+     * @param <L> Left row type
+     * @param <R> Right row type
+     * @param <O> Result row type */
+    private static class MergeJoinEnumerator<L, R, O>
+        implements Enumerator<O>, Closeable
+    {
+        private final Enumerator<L> left;
+        private final Enumerator<R> right;
+        private final Function1<L, Object> leftKeySelector;
+        private final Function1<R, Object> rightKeySelector;
+        private final Comparator comparator;
+        private final Function2<L, R, O> resultSelector;
+        private final Predicate2<L, R> predicate;
+        private final Function1<L, O> leftOnlySelector;
+
+        /** Right rows whose key is {@link #groupKey}. */
+        private final List<R> group = new ArrayList<R>();
+        private Object groupKey;
+
+        /** Memory used by {@link #group}. */
+        private final MemoryPool.Allocation allocation =
+            MemoryPool.Allocation.current("merge join");
+
+        /** Cancel flag of the execution, polled for each input row. */
+        private final CancelFlag cancelFlag =
+            ExecutionContext.currentCancelFlag();
+
+        /** Next right row not yet added to a group, and its key; valid if
+         * {@link #rightPending}. */
+        private R rightRow;
+        private Object rightKey;
+        private boolean rightPending;
+        private boolean rightDone;
+
+        private L leftRow;
+        private boolean leftRowMatched;
+
+        /** Position in {@link #group} of the next row to pair with
+         * {@link #leftRow}, or -1 if there is no current left row. */
+        private int pos = -1;
+        private O current;
+        private boolean closed;
+
+        MergeJoinEnumerator(
+            Enumerator<L> left,
+            Enumerator<R> right,
+            Function1<L, Object> leftKeySelector,
+            Function1<R, Object> rightKeySelector,
+            Comparator comparator,
+            Function2<L, R, O> resultSelector,
+            Predicate2<L, R> predicate,
+            Function1<L, O> leftOnlySelector)
+        {
+            this.left = left;
+            this.right = right;
+            this.leftKeySelector = leftKeySelector;
+            this.rightKeySelector = rightKeySelector;
+            this.comparator = comparator;
+            this.resultSelector = resultSelector;
+            this.predicate = predicate;
+            this.leftOnlySelector = leftOnlySelector;
+        }
+
+        public O current() {
+            return current;
+        }
+
+        public boolean moveNext() {
+            if (closed) {
+                return false;
+            }
+            for (;;) {
+                // Continue pairing the current left row with the group.
+                while (pos >= 0 && pos < group.size()) {
+                    final R row = group.get(pos++);
+                    if (predicate == null || predicate.apply(leftRow, row)) {
+                        leftRowMatched = true;
+                        current = resultSelector.apply(leftRow, row);
+                        return true;
+                    }
+                }
+                if (pos >= 0) {
+                    pos = -1;
+                    if (!leftRowMatched && leftOnlySelector != null) {
+                        current = leftOnlySelector.apply(leftRow);
+                        return true;
+                    }
+                }
+                if (!left.moveNext()) {
+                    break;
+                }
+                ExecutionContext.checkCancel(cancelFlag);
+                leftRow = left.current();
+                leftRowMatched = false;
+                final Object key = leftKeySelector.apply(leftRow);
+                if (isNull(key)) {
+                    // Row can never be matched; skip the group, but keep
+                    // it for the next row.
+                    pos = group.size();
+                    continue;
+                }
+                if (groupKey == null
+                    || comparator.compare(key, groupKey) != 0)
+                {
+                    advance(key);
+                }
+                pos = 0;
+            }
+            close();
+            return false;
+        }
+
+        /** Reads right rows until the first whose key is greater than a
+         * given key, and makes the rows whose key is equal the current
+         * group. */
+        @SuppressWarnings("unchecked")
+        private void advance(Object key) {
+            group.clear();
+            allocation.clear();
+            groupKey = key;
+            for (;;) {
+                if (!rightPending) {
+                    if (rightDone || !right.moveNext()) {
+                        rightDone = true;
+                        return;
+                    }
+                    ExecutionContext.checkCancel(cancelFlag);
+                    rightRow = right.current();
+                    rightKey = rightKeySelector.apply(rightRow);
+                    rightPending = true;
+                }
+                if (isNull(rightKey)) {
+                    // Row can never be matched.
+                    rightPending = false;
+                    continue;
+                }
+                final int c = comparator.compare(rightKey, key);
+                if (c > 0) {
+                    return;
+                }
+                if (c == 0) {
+                    allocation.add(
+                        MemoryPool.sizeOf(rightRow)
+                        + MemoryPool.ENTRY_BYTES);
+                    group.add(rightRow);
+                }
+                rightPending = false;
+            }
+        }
+
+        public void reset() {
+            left.reset();
+            right.reset();
+            rightPending = false;
+            rightDone = false;
+            rightRow = null;
+            rightKey = null;
+            leftRow = null;
+            group.clear();
+            groupKey = null;
+            allocation.clear();
+            pos = -1;
+            current = null;
+            closed = false;
+        }
+
+        /** Releases the buffered rows and their memory, and closes both
+         * inputs. */
+        public void close() {
+            closed = true;
+            group.clear();
+            groupKey = null;
+            allocation.clear();
+            leftRow = null;
+            rightRow = null;
+            current = null;
+            HashJoin.close(left);
+            HashJoin.close(right);
+        }
+    }
+}
+
+// End MergeJoin.java
@@ -0,0 +1,178 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.AbstractEnumerable;
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.Enumerator;
+import net.hydromatic.linq4j.function.Function1;
+
+import net.hydromatic.optiq.runtime.Aggregator.Layout;
+import net.hydromatic.optiq.runtime.Aggregator.State;
+
+import org.eigenbase.util.CancelFlag;
+
+/**
+ * Streaming aggregation of an input that is sorted on the group key, called
+ * from generated code.
+ *
+ * <p>Because rows with the same key are adjacent, the aggregation needs the
+ * state of only one group at a time. It emits each group as soon as it
+ * reads the first row of the next group, so it uses constant memory and
+ * returns its first row before it has read all of its input. Output rows
+ * are in the order of the input, and have the same format as those of
+ * {@link HashAggregate}.</p>
+ *
+ * @author jhyde
+ */
+public class SortedAggregate {
+    private SortedAggregate() {
+    }
+
+    /**
+     * Aggregates an enumerable whose rows are sorted on the group key.
+     *
+     * @param input Input rows, in which rows with the same key are adjacent
+     * @param keySelector Computes the group key of a row: the value if there
+     *   is one group column, a {@link CompositeKey} if there are several
+     * @param groupCount Number of group columns; at least 1
+     * @param aggregators Aggregate functions
+     * @param <TSource> Input row type
+     * @return Output rows
+     */
+    public static <TSource> Enumerable<Object> aggregate(
+        final Enumerable<TSource> input,
+        final Function1<TSource, Object> keySelector,
+        final int groupCount,
+        final Aggregator<TSource>[] aggregators)
+    {
+        assert groupCount > 0;
+        final Layout layout = new Layout();
+        for (Aggregator<TSource> aggregator : aggregators) {
+            aggregator.allocate(layout);
+        }
+        return new AbstractEnumerable<Object>() {
+            public Enumerator<Object> enumerator() {
+                return new SortedAggregateEnumerator<TSource>(
+                    input.enumerator(), keySelector, groupCount, aggregators,
+                    layout);
+            }
+        };
+    }
+
+    /** Enumerator that aggregates runs of rows with equal keys.
+     *
+     * @param <TSource> Input row type */
+    private static class SortedAggregateEnumerator<TSource>
+        implements Enumerator<Object>
+    {
+        private final Enumerator<TSource> input;
+        private final Function1<TSource, Object> keySelector;
+        private final int groupCount;
+        private final Aggregator<TSource>[] aggregators;
+        private final Layout layout;
+
+        /** Memory used by the values seen by DISTINCT aggregators in the
+         * current group. Cleared when the group is emitted. */
+        private final MemoryPool.Allocation allocation =
+            MemoryPool.Allocation.current("sorted aggregate");
+
+        /** Cancel flag of the execution, polled for each input row. */
+        private final CancelFlag cancelFlag =
+            ExecutionContext.currentCancelFlag();
+
+        /** First row of the next group, and its key; valid if
+         * {@link #pending}. */
+        private TSource row;
+        private Object key;
+        private boolean pending;
+        private boolean done;
+        private Object current;
+
+        SortedAggregateEnumerator(
+            Enumerator<TSource> input,
+            Function1<TSource, Object> keySelector,
+            int groupCount,
+            Aggregator<TSource>[] aggregators,
+            Layout layout)
+        {
+            this.input = input;
+            this.keySelector = keySelector;
+            this.groupCount = groupCount;
+            this.aggregators = aggregators;
+            this.layout = layout;
+        }
+
+        public Object current() {
+            return current;
+        }
+
+        public boolean moveNext() {
+            if (!pending && (done || !read())) {
+                done = true;
+                current = null;
+                return false;
+            }
+            final Object groupKey = key;
+            final State state = layout.newState(allocation);
+            do {
+                for (Aggregator<TSource> aggregator : aggregators) {
+                    aggregator.add(state, row);
+                }
+                pending = false;
+                if (!read()) {
+                    done = true;
+                    break;
+                }
+            } while (equal(key, groupKey));
+            current =
+                HashAggregate.row(groupKey, groupCount, aggregators, state);
+            allocation.clear();
+            return true;
+        }
+
+        /** Reads the next input row and computes its key; returns false at
+         * the end of the input. */
+        private boolean read() {
+            if (!input.moveNext()) {
+                return false;
+            }
+            ExecutionContext.checkCancel(cancelFlag);
+            row = input.current();
+            key = keySelector.apply(row);
+            pending = true;
+            return true;
+        }
+
+        public void reset() {
+            input.reset();
+            allocation.clear();
+            row = null;
+            key = null;
+            pending = false;
+            done = false;
+            current = null;
+        }
+
+        private static boolean equal(Object o0, Object o1) {
+            return o0 == o1 || o0 != null && o0.equals(o1);
+        }
+    }
+}
+
+// End SortedAggregate.java
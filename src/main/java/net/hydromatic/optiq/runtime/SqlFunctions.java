@@ -17,16 +17,165 @@
 */
 package net.hydromatic.optiq.runtime;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+
 /**
  * Helper methods to implement SQL functions in generated code.
  *
+ * <p>Generated code only calls these methods with non-null arguments; it
+ * evaluates null values before it calls them. Values of numeric types that
+ * have a primitive representation are handled in generated code, using Java
+ * operators; these methods are for the other types.</p>
+ *
  * @author jhyde
  */
 public class SqlFunctions {
+    private SqlFunctions() {
+    }
+
     /** SQL SUBSTRING(string FROM ... FOR ...) function. */
     public static String substring(String s, int from, int for_) {
         return s.substring(from - 1, Math.min(from - 1 + for_, s.length()));
     }
+
+    /** SQL CHARACTER_LENGTH(string) function. */
+    public static int charLength(String s) {
+        return s.length();
+    }
+
+    // Comparisons of values that have no primitive representation.
+
+    /** SQL = operator applied to Object values. Decimals are equal if they
+     * have the same value, regardless of scale. */
+    public static boolean eq(Object b0, Object b1) {
+        if (b0 instanceof BigDecimal && b1 instanceof BigDecimal) {
+            return ((BigDecimal) b0).compareTo((BigDecimal) b1) == 0;
+        }
+        return b0.equals(b1);
+    }
+
+    /** SQL &lt;&gt; operator applied to Object values. */
+    public static boolean ne(Object b0, Object b1) {
+        return !eq(b0, b1);
+    }
+
+    /** SQL &lt; operator applied to Comparable values. */
+    public static boolean lt(Comparable b0, Comparable b1) {
+        return compare(b0, b1) < 0;
+    }
+
+    /** SQL &lt;= operator applied to Comparable values. */
+    public static boolean le(Comparable b0, Comparable b1) {
+        return compare(b0, b1) <= 0;
+    }
+
+    /** SQL &gt; operator applied to Comparable values. */
+    public static boolean gt(Comparable b0, Comparable b1) {
+        return compare(b0, b1) > 0;
+    }
+
+    /** SQL &gt;= operator applied to Comparable values. */
+    public static boolean ge(Comparable b0, Comparable b1) {
+        return compare(b0, b1) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Comparable b0, Comparable b1) {
+        return b0.compareTo(b1);
+    }
+
+    // Arithmetic on DECIMAL values.
+
+    /** SQL + operator applied to BigDecimal values. */
+    public static BigDecimal plus(BigDecimal b0, BigDecimal b1) {
+        return b0.add(b1);
+    }
+
+    /** SQL - operator applied to BigDecimal values. */
+    public static BigDecimal minus(BigDecimal b0, BigDecimal b1) {
+        return b0.subtract(b1);
+    }
+
+    /** SQL * operator applied to BigDecimal values. */
+    public static BigDecimal multiply(BigDecimal b0, BigDecimal b1) {
+        return b0.multiply(b1);
+    }
+
+    /** SQL / operator applied to BigDecimal values. */
+    public static BigDecimal divide(BigDecimal b0, BigDecimal b1) {
+        return b0.divide(b1, MathContext.DECIMAL64);
+    }
+
+    /** SQL MOD function applied to BigDecimal values. */
+    public static BigDecimal mod(BigDecimal b0, BigDecimal b1) {
+        return b0.remainder(b1);
+    }
+
+    /** SQL - (unary minus) operator applied to a BigDecimal value. */
+    public static BigDecimal negate(BigDecimal b0) {
+        return b0.negate();
+    }
+
+    // Conversions, for CAST.
+
+    /** Converts a long value to a BigDecimal. */
+    public static BigDecimal toBigDecimal(long v) {
+        return BigDecimal.valueOf(v);
+    }
+
+    /** Converts a double value to a BigDecimal. */
+    public static BigDecimal toBigDecimal(double v) {
+        return BigDecimal.valueOf(v);
+    }
+
+    /** CAST(string AS DECIMAL). */
+    public static BigDecimal toBigDecimal(String s) {
+        return new BigDecimal(s.trim());
+    }
+
+    /** CAST(string AS INTEGER). */
+    public static int toInt(String s) {
+        return Integer.parseInt(s.trim());
+    }
+
+    /** CAST(string AS BIGINT). */
+    public static long toLong(String s) {
+        return Long.parseLong(s.trim());
+    }
+
+    /** CAST(string AS SMALLINT). */
+    public static short toShort(String s) {
+        return Short.parseShort(s.trim());
+    }
+
+    /** CAST(string AS TINYINT). */
+    public static byte toByte(String s) {
+        return Byte.parseByte(s.trim());
+    }
+
+    /** CAST(string AS DOUBLE). */
+    public static double toDouble(String s) {
+        return Double.parseDouble(s.trim());
+    }
+
+    /** CAST(string AS REAL). */
+    public static float toFloat(String s) {
+        return Float.parseFloat(s.trim());
+    }
+
+    /** CAST(string AS BOOLEAN). */
+    public static boolean toBoolean(String s) {
+        final String t = s.trim();
+        if (t.equalsIgnoreCase("TRUE")) {
+            return true;
+        }
+        if (t.equalsIgnoreCase("FALSE")) {
+            return false;
+        }
+        throw new IllegalArgumentException(
+            "Invalid character for cast: " + s);
+    }
 }
 
 // End SqlFunctions.java
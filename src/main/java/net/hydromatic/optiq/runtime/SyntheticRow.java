@@ -0,0 +1,102 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package net.hydromatic.optiq.runtime;
+
+import net.hydromatic.linq4j.Enumerable;
+import net.hydromatic.linq4j.function.Function1;
+
+import java.io.Serializable;
+
+/**
+ * Base class for rows of intermediate results in generated code.
+ *
+ * <p>Subclasses are generated and compiled at run time, one for each
+ * combination of column types; see
+ * {@link net.hydromatic.optiq.jdbc.JavaTypeFactoryImpl#getRowClass}. A
+ * subclass has a public final field for each column, named {@code f0},
+ * {@code f1} and so on, and a constructor that takes the columns in order.
+ * A column that is NOT NULL and has a primitive representation (such as
+ * INTEGER) is held in a primitive field; other columns are held in reference
+ * fields.</p>
+ *
+ * <p>Unlike an {@code Object[]}, a row has value semantics for
+ * {@link #equals(Object)} and {@link #hashCode()}, so it can be used
+ * directly as a key in hash-based set operations.</p>
+ *
+ * @author jhyde
+ */
+public abstract class SyntheticRow implements Serializable {
+    /** Returns the number of columns in this row. */
+    public abstract int size();
+
+    /** Returns the value of the {@code i}th column, boxed if it is held in a
+     * primitive field. */
+    public abstract Object get(int i);
+
+    /** Returns the values of the columns as an array. */
+    public Object[] toArray() {
+        final Object[] values = new Object[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i);
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("{");
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(get(i));
+        }
+        return buf.append("}").toString();
+    }
+
+    /** Returns the name of the field that holds the {@code i}th column. */
+    public static String fieldName(int i) {
+        return "f" + i;
+    }
+
+    /** Returns the class of the field that holds the {@code i}th column of
+     * rows of a given class. */
+    public static Class fieldClass(Class rowClass, int i) {
+        try {
+            return rowClass.getField(fieldName(i)).getType();
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(
+                "row class " + rowClass + " has no column " + i);
+        }
+    }
+
+    /** Converts an enumerable of rows to an enumerable of arrays, the form
+     * in which rows are returned from a statement. */
+    public static <T extends SyntheticRow> Enumerable<Object[]> toArrays(
+        Enumerable<T> rows)
+    {
+        return rows.select(
+            new Function1<T, Object[]>() {
+                public Object[] apply(T row) {
+                    return row.toArray();
+                }
+            });
+    }
+}
+
+// End SyntheticRow.java
@@ -32,6 +32,7 @@ import org.eigenbase.javac.*;
 import org.eigenbase.oj.rel.*;
 import org.eigenbase.oj.util.*;
 import org.eigenbase.rel.*;
+import org.eigenbase.rel.metadata.*;
 import org.eigenbase.relopt.*;
 import org.eigenbase.reltype.*;
 import org.eigenbase.rex.*;
@@ -346,18 +347,34 @@ public abstract class OJPreparingStmt
         };
         visitor.go(rootRel);
 
-        planner.setRoot(rootRel);
-
-        RelTraitSet desiredTraits = getDesiredRootTraitSet(rootRel);
-
-        final RelNode rootRel2 = planner.changeTraits(rootRel, desiredTraits);
-        assert rootRel2 != null;
-
-        planner.setRoot(rootRel2);
-        final RelOptPlanner planner2 = planner.chooseDelegate();
-        final RelNode rootRel3 = planner2.findBestExp();
-        assert rootRel3 != null : "could not implement exp";
-        return rootRel3;
+        // Cache metadata while planning. The planner asks for the same
+        // metadata (row counts, selectivities and so forth) many times.
+        final RelOptCluster cluster = rootRel.getCluster();
+        final RelMetadataProvider metadataProvider =
+            cluster.getMetadataProvider();
+        final CachingRelMetadataProvider cachingProvider =
+            new CachingRelMetadataProvider(metadataProvider, planner);
+        cluster.setMetadataProvider(cachingProvider);
+        try {
+            planner.setRoot(rootRel);
+
+            RelTraitSet desiredTraits = getDesiredRootTraitSet(rootRel);
+
+            final RelNode rootRel2 =
+                planner.changeTraits(rootRel, desiredTraits);
+            assert rootRel2 != null;
+
+            planner.setRoot(rootRel2);
+            final RelOptPlanner planner2 = planner.chooseDelegate();
+            final RelNode rootRel3 = planner2.findBestExp();
+            assert rootRel3 != null : "could not implement exp";
+            return rootRel3;
+        } finally {
+            cluster.setMetadataProvider(metadataProvider);
+            if (tracer.isLoggable(Level.FINE)) {
+                tracer.fine("Metadata cache: " + cachingProvider);
+            }
+        }
     }
 
     protected RelTraitSet getDesiredRootTraitSet(RelNode rootRel)
@@ -17,6 +17,8 @@
 */
 package org.eigenbase.rel;
 
+import java.util.List;
+
 import org.eigenbase.rel.metadata.*;
 import org.eigenbase.relopt.*;
 import org.eigenbase.rex.*;
@@ -86,6 +88,12 @@ public abstract class FilterRelBase
             condition);
     }
 
+    // override RelNode; a filter preserves the order of its input
+    public List<RelCollation> getCollationList()
+    {
+        return getChild().getCollationList();
+    }
+
     public static double estimateFilteredRows(RelNode child, RexProgram program)
     {
         // convert the program's RexLocalRef condition to an expanded RexNode
@@ -21,7 +21,7 @@ package org.eigenbase.rel;
  * RelFieldCollation defines the ordering for one field of a RelNode whose
  * output is to be sorted.
  *
- * <p>TODO: collation sequence (including ASC/DESC)
+ * <p>TODO: collation sequence
  */
 public class RelFieldCollation
 {
@@ -70,6 +70,29 @@ public class RelFieldCollation
         Clustered,
     }
 
+    /**
+     * Ordering of null values.
+     */
+    public static enum NullDirection
+    {
+        /**
+         * Nulls come before all other values.
+         */
+        FIRST,
+
+        /**
+         * Nulls come after all other values.
+         */
+        LAST,
+
+        /**
+         * No ordering was specified. Nulls are treated as greater than all
+         * other values: they come last in an ascending sort, and first in a
+         * descending sort.
+         */
+        UNSPECIFIED,
+    }
+
     //~ Instance fields --------------------------------------------------------
 
     /**
@@ -82,6 +105,11 @@ public class RelFieldCollation
      */
     private final Direction direction;
 
+    /**
+     * Ordering of null values.
+     */
+    private final NullDirection nullDirection;
+
     //~ Constructors -----------------------------------------------------------
 
     /**
@@ -96,9 +124,21 @@ public class RelFieldCollation
      * Creates a field collation.
      */
     public RelFieldCollation(int fieldIndex, Direction direction)
+    {
+        this(fieldIndex, direction, NullDirection.UNSPECIFIED);
+    }
+
+    /**
+     * Creates a field collation with a given ordering of null values.
+     */
+    public RelFieldCollation(
+        int fieldIndex,
+        Direction direction,
+        NullDirection nullDirection)
     {
         this.fieldIndex = fieldIndex;
         this.direction = direction;
+        this.nullDirection = nullDirection;
     }
 
     //~ Methods ----------------------------------------------------------------
@@ -111,13 +151,26 @@ public class RelFieldCollation
         }
         RelFieldCollation other = (RelFieldCollation) obj;
         return (fieldIndex == other.fieldIndex)
-            && (direction == other.direction);
+            && (direction == other.direction)
+            && (nullDirection == other.nullDirection);
     }
 
     // implement Object
     public int hashCode()
     {
-        return (this.direction.ordinal() << 4) | this.fieldIndex;
+        return (((this.nullDirection.ordinal() << 4)
+            | this.direction.ordinal()) << 4) | this.fieldIndex;
+    }
+
+    /**
+     * Creates a copy of this collation that refers to a different field.
+     */
+    public RelFieldCollation copy(int target)
+    {
+        if (target == fieldIndex) {
+            return this;
+        }
+        return new RelFieldCollation(target, direction, nullDirection);
     }
 
     public int getFieldIndex()
@@ -130,9 +183,32 @@ public class RelFieldCollation
         return direction;
     }
 
+    public RelFieldCollation.NullDirection getNullDirection()
+    {
+        return nullDirection;
+    }
+
+    /**
+     * Returns whether null values come before all other values.
+     */
+    public boolean nullsFirst()
+    {
+        switch (nullDirection) {
+        case FIRST:
+            return true;
+        case LAST:
+            return false;
+        default:
+            return direction == Direction.Descending
+                || direction == Direction.StrictlyDescending;
+        }
+    }
+
     public String toString()
     {
-        return fieldIndex + " " + direction;
+        return nullDirection == NullDirection.UNSPECIFIED
+            ? fieldIndex + " " + direction
+            : fieldIndex + " " + direction + " NULLS " + nullDirection;
     }
 }
 
@@ -17,6 +17,8 @@
 */
 package org.eigenbase.rel;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eigenbase.relopt.*;
@@ -27,6 +29,12 @@ import org.eigenbase.rex.*;
 /**
  * Relational expression which imposes a particular sort order on its input
  * without otherwise changing its content.
+ *
+ * <p>It may also skip the first <code>offset</code> rows of the sorted
+ * input, and return at most <code>fetch</code> rows; this is how the
+ * <code>OFFSET</code> and <code>FETCH</code> (or <code>LIMIT</code>) clauses
+ * of a query are represented. A sort with no collations and an offset or
+ * fetch does not change the order of its input.</p>
  */
 public class SortRel
     extends SingleRel
@@ -35,6 +43,8 @@ public class SortRel
 
     protected final List<RelFieldCollation> collations;
     protected final RexNode [] fieldExps;
+    protected final RexNode offset;
+    protected final RexNode fetch;
 
     //~ Constructors -----------------------------------------------------------
 
@@ -51,9 +61,33 @@ public class SortRel
         RelTraitSet traits,
         RelNode child,
         List<RelFieldCollation> collations)
+    {
+        this(cluster, traits, child, collations, null, null);
+    }
+
+    /**
+     * Creates a sorter with an offset and fetch.
+     *
+     * @param cluster Cluster this relational expression belongs to
+     * @param traits Traits
+     * @param child input relational expression
+     * @param collations array of sort specifications
+     * @param offset Expression for number of rows to discard before
+     *   returning first row, or null
+     * @param fetch Expression for number of rows to fetch, or null
+     */
+    public SortRel(
+        RelOptCluster cluster,
+        RelTraitSet traits,
+        RelNode child,
+        List<RelFieldCollation> collations,
+        RexNode offset,
+        RexNode fetch)
     {
         super(cluster, traits, child);
         this.collations = collations;
+        this.offset = offset;
+        this.fetch = fetch;
 
         fieldExps = new RexNode[collations.size()];
         final RelDataTypeField [] fields = getRowType().getFields();
@@ -72,17 +106,29 @@ public class SortRel
         return copy(traitSet, sole(inputs), collations);
     }
 
-    public SortRel copy(
+    public final SortRel copy(
         RelTraitSet traitSet,
         RelNode newInput,
         List<RelFieldCollation> newCollations)
+    {
+        return copy(traitSet, newInput, newCollations, offset, fetch);
+    }
+
+    public SortRel copy(
+        RelTraitSet traitSet,
+        RelNode newInput,
+        List<RelFieldCollation> newCollations,
+        RexNode offset,
+        RexNode fetch)
     {
         assert traitSet.comprises(CallingConvention.NONE);
         return new SortRel(
             getCluster(),
             getCluster().traitSetOf(CallingConvention.NONE),
             newInput,
-            newCollations);
+            newCollations,
+            offset,
+            fetch);
     }
 
     public RexNode [] getChildExps()
@@ -99,18 +145,52 @@ public class SortRel
         return collations;
     }
 
+    // override RelNode
+    public List<RelCollation> getCollationList()
+    {
+        if (collations.isEmpty()) {
+            // OFFSET and FETCH without ORDER BY preserve the input's order.
+            return getChild().getCollationList();
+        }
+        return Collections.<RelCollation>singletonList(
+            new RelCollationImpl(collations));
+    }
+
+    /**
+     * @return expression for the number of rows to skip, or null
+     */
+    public RexNode getOffset()
+    {
+        return offset;
+    }
+
+    /**
+     * @return expression for the maximum number of rows to return, or null
+     */
+    public RexNode getFetch()
+    {
+        return fetch;
+    }
+
     public void explain(RelOptPlanWriter pw)
     {
-        String [] terms = new String[1 + (collations.size() * 2)];
-        Object [] values = new Object[collations.size()];
-        int i = 0;
-        terms[i++] = "child";
+        final List<String> terms = new ArrayList<String>();
+        final List<Object> values = new ArrayList<Object>();
+        terms.add("child");
         for (int j = 0; j < collations.size(); ++j) {
-            terms[i++] = "sort" + j;
+            terms.add("sort" + j);
         }
         for (int j = 0; j < collations.size(); ++j) {
-            terms[i++] = "dir" + j;
-            values[j] = collations.get(j).getDirection();
+            terms.add("dir" + j);
+            values.add(collations.get(j).getDirection());
+        }
+        if (offset != null) {
+            terms.add("offset");
+            values.add(offset);
+        }
+        if (fetch != null) {
+            terms.add("fetch");
+            values.add(fetch);
         }
         pw.explain(this, terms, values);
     }
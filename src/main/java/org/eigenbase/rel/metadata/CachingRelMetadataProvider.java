@@ -18,40 +18,99 @@
 package org.eigenbase.rel.metadata;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.eigenbase.rel.*;
 import org.eigenbase.relopt.*;
-import org.eigenbase.util.*;
 
 
 /**
  * CachingRelMetadataProvider implements the {@link RelMetadataProvider}
  * interface by caching results from an underlying provider.
  *
+ * <p>The cache has an entry for each relational expression, and each entry
+ * has a fixed slot for each kind of metadata query. Looking up a result does
+ * not allocate a key. A result is valid as long as the relational
+ * expression's {@link RelOptPlanner#getRelMetadataTimestamp timestamp} has
+ * not changed; the planner changes the timestamp of each expression whose
+ * metadata may be affected by a change, such as merging two sets of
+ * equivalent expressions.
+ *
+ * <p>The cache holds at most a given number of relational expressions; if it
+ * is full, the least recently used entry is discarded.
+ *
  * @author John V. Sichi
  * @version $Id$
  */
 public class CachingRelMetadataProvider
     implements RelMetadataProvider
 {
+    //~ Static fields/initializers ---------------------------------------------
+
+    /**
+     * Default maximum number of relational expressions in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * Maximum number of results cached for one relational expression and one
+     * kind of query, with different arguments.
+     */
+    private static final int MAX_RESULTS_PER_SLOT = 8;
+
+    /**
+     * Slot of each kind of metadata query. Shared by all caches, so that the
+     * slot of a given query never changes.
+     */
+    private static final ConcurrentMap<String, Integer> SLOTS =
+        new ConcurrentHashMap<String, Integer>();
+
     //~ Instance fields --------------------------------------------------------
 
-    private final Map<List, CacheEntry> cache;
+    private final Map<RelNode, Entry> cache;
 
     private final RelMetadataProvider underlyingProvider;
 
     private final RelOptPlanner planner;
 
+    private long hitCount;
+
+    private long missCount;
+
+    private long recomputeCount;
+
     //~ Constructors -----------------------------------------------------------
 
     public CachingRelMetadataProvider(
         RelMetadataProvider underlyingProvider,
         RelOptPlanner planner)
+    {
+        this(underlyingProvider, planner, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a CachingRelMetadataProvider.
+     *
+     * @param underlyingProvider provider that computes results
+     * @param planner planner, which decides whether results are stale
+     * @param maxSize maximum number of relational expressions to cache
+     */
+    public CachingRelMetadataProvider(
+        RelMetadataProvider underlyingProvider,
+        RelOptPlanner planner,
+        final int maxSize)
     {
         this.underlyingProvider = underlyingProvider;
         this.planner = planner;
 
-        cache = new HashMap<List, CacheEntry>();
+        cache =
+            new LinkedHashMap<RelNode, Entry>(16, 0.75f, true) {
+                protected boolean removeEldestEntry(
+                    Map.Entry<RelNode, Entry> eldest)
+                {
+                    return size() > maxSize;
+                }
+            };
     }
 
     //~ Methods ----------------------------------------------------------------
@@ -65,51 +124,174 @@ public class CachingRelMetadataProvider
         // TODO jvs 30-Mar-2006: Use meta-metadata to decide which metadata
         // query results can stay fresh until the next Ice Age.
 
-        // Compute hash key.
-        List<Object> hashKey;
-        if (args != null) {
-            hashKey = new ArrayList<Object>(args.length + 2);
-            hashKey.add(rel);
-            hashKey.add(metadataQueryName);
-            hashKey.addAll(Arrays.asList(args));
-        } else {
-            hashKey = Arrays.asList(rel, metadataQueryName);
+        if ((args != null) && (args.length == 0)) {
+            args = null;
         }
-
-        long timestamp = planner.getRelMetadataTimestamp(rel);
+        final int slot = slot(metadataQueryName);
+        final long timestamp = planner.getRelMetadataTimestamp(rel);
 
         // Perform cache lookup.
-        CacheEntry entry = cache.get(hashKey);
-        if (entry != null) {
-            if (timestamp == entry.timestamp) {
-                return entry.result;
-            } else {
-                // Cache results are stale.
-            }
+        Entry entry = cache.get(rel);
+        if (entry == null) {
+            entry = new Entry();
+            cache.put(rel, entry);
+        }
+        Result result = entry.find(slot, args);
+        if (result == null) {
+            ++missCount;
+            result = entry.add(slot, args);
+        } else if (result.timestamp == timestamp) {
+            ++hitCount;
+            return result.value;
+        } else {
+            // Cache results are stale.
+            ++recomputeCount;
         }
 
-        // Cache miss or stale.
-        Object result =
+        // Cache miss or stale. A null value is cached too; it means that
+        // the underlying provider cannot answer the query.
+        final Object value =
             underlyingProvider.getRelMetadata(
                 rel,
                 metadataQueryName,
                 args);
-        if (result != null) {
-            entry = new CacheEntry();
-            entry.timestamp = timestamp;
-            entry.result = result;
-            cache.put(hashKey, entry);
+        result.timestamp = timestamp;
+        result.value = value;
+        return value;
+    }
+
+    private static int slot(String metadataQueryName)
+    {
+        Integer slot = SLOTS.get(metadataQueryName);
+        if (slot == null) {
+            synchronized (SLOTS) {
+                slot = SLOTS.get(metadataQueryName);
+                if (slot == null) {
+                    slot = SLOTS.size();
+                    SLOTS.put(metadataQueryName, slot);
+                }
+            }
         }
-        return result;
+        return slot;
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    public void clear()
+    {
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of relational expressions in the cache.
+     */
+    public int size()
+    {
+        return cache.size();
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     */
+    public long getHitCount()
+    {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of queries that were not in the cache.
+     */
+    public long getMissCount()
+    {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of queries that were in the cache but whose
+     * results were stale, and were therefore computed again.
+     */
+    public long getRecomputeCount()
+    {
+        return recomputeCount;
+    }
+
+    public String toString()
+    {
+        return "CachingRelMetadataProvider {size=" + cache.size()
+            + ", hits=" + hitCount
+            + ", misses=" + missCount
+            + ", recomputes=" + recomputeCount + "}";
     }
 
     //~ Inner Classes ----------------------------------------------------------
 
-    private static class CacheEntry
+    /**
+     * Cached results for one relational expression.
+     */
+    private static class Entry
+    {
+        /**
+         * For each kind of query, the most recent result, which is linked to
+         * results of the same query with other arguments.
+         */
+        Result [] slots = new Result[SLOTS.size()];
+
+        Result find(int slot, Object [] args)
+        {
+            if (slot >= slots.length) {
+                return null;
+            }
+            for (Result result = slots[slot];
+                result != null;
+                result = result.next)
+            {
+                if (Arrays.equals(result.args, args)) {
+                    return result;
+                }
+            }
+            return null;
+        }
+
+        Result add(int slot, Object [] args)
+        {
+            if (slot >= slots.length) {
+                slots = Arrays.copyOf(slots, SLOTS.size());
+            }
+            final Result result =
+                new Result(args == null ? null : args.clone());
+            result.next = slots[slot];
+            slots[slot] = result;
+
+            // Bound the number of results with different arguments.
+            int n = 1;
+            for (Result r = result; r.next != null; r = r.next) {
+                if (++n == MAX_RESULTS_PER_SLOT) {
+                    r.next.next = null;
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Result of a query with particular arguments.
+     */
+    private static class Result
     {
+        final Object [] args;
+
         long timestamp;
 
-        Object result;
+        Object value;
+
+        Result next;
+
+        Result(Object [] args)
+        {
+            this.args = args;
+        }
     }
 }
 
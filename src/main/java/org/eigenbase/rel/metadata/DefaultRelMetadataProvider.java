@@ -53,6 +53,8 @@ public class DefaultRelMetadataProvider
         addProvider(new RelMdDistinctRowCount());
 
         addProvider(new RelMdSelectivity());
+
+        addProvider(new RelMdStatistics());
     }
 }
 
@@ -17,21 +17,35 @@
 */
 package org.eigenbase.rel.metadata;
 
+import java.io.*;
+
 import java.lang.reflect.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.eigenbase.rel.*;
 import org.eigenbase.util.*;
 
+import org.codehaus.janino.ClassBodyEvaluator;
+import org.codehaus.janino.Scanner;
+
 
 /**
  * ReflectiveRelMetadataProvider provides an abstract base for reflective
  * implementations of the {@link RelMetadataProvider} interface. For an example,
  * see {@link DefaultRelMetadataProvider}.
  *
- * <p>TODO jvs 28-Mar-2006: most of this should probably be refactored into
- * ReflectUtil.
+ * <p>The method that answers a given metadata query for a given class of
+ * relational expression is found by reflection, but only once: the result is
+ * stored in a dispatch table owned by the provider. The table holds a {@link
+ * Handler} that calls the method directly. Handlers are generated using
+ * Janino; if the method or any of its parameter types is not public, the
+ * handler calls the method by reflection.
+ *
+ * <p>The tables are not shared between instances, so generated handlers (and
+ * the class loaders that define them) can be garbage-collected along with
+ * the provider that created them.
  *
  * @author John V. Sichi
  * @version $Id$
@@ -40,12 +54,38 @@ public abstract class ReflectiveRelMetadataProvider
     implements RelMetadataProvider,
         ReflectiveVisitor
 {
+    //~ Static fields/initializers ---------------------------------------------
+
+    /**
+     * Placeholder in a dispatch table for a class of relational expression
+     * that has no handler. (ConcurrentHashMap does not allow null values.)
+     */
+    private static final Handler NO_HANDLER =
+        new Handler() {
+            public Object apply(
+                RelMetadataProvider provider,
+                RelNode rel,
+                Object [] args)
+            {
+                throw new AssertionError();
+            }
+        };
+
     //~ Instance fields --------------------------------------------------------
 
     private final Map<String, List<Class>> parameterTypeMap;
 
-    private final ReflectiveVisitDispatcher<ReflectiveRelMetadataProvider,
-        RelNode> visitDispatcher;
+    /**
+     * Dispatch table for each metadata query that this provider has been
+     * asked. Looked up by name, so that a call does not need to build a key.
+     */
+    private final ConcurrentMap<String, DispatchTable> dispatchTables;
+
+    /**
+     * Handlers, keyed by the method they call. A method may handle several
+     * classes of relational expression.
+     */
+    private final ConcurrentMap<Method, Handler> handlers;
 
     //~ Constructors -----------------------------------------------------------
 
@@ -55,10 +95,8 @@ public abstract class ReflectiveRelMetadataProvider
     protected ReflectiveRelMetadataProvider()
     {
         parameterTypeMap = new HashMap<String, List<Class>>();
-        visitDispatcher =
-            ReflectUtil.createDispatcher(
-                ReflectiveRelMetadataProvider.class,
-                RelNode.class);
+        dispatchTables = new ConcurrentHashMap<String, DispatchTable>();
+        handlers = new ConcurrentHashMap<Method, Handler>();
     }
 
     //~ Methods ----------------------------------------------------------------
@@ -75,6 +113,7 @@ public abstract class ReflectiveRelMetadataProvider
         List<Class> parameterTypes)
     {
         parameterTypeMap.put(metadataQueryName, parameterTypes);
+        dispatchTables.remove(metadataQueryName);
     }
 
     // implement RelMetadataProvider
@@ -82,40 +121,289 @@ public abstract class ReflectiveRelMetadataProvider
         RelNode rel,
         String metadataQueryName,
         Object [] args)
+    {
+        DispatchTable dispatchTable = dispatchTables.get(metadataQueryName);
+        if (dispatchTable == null) {
+            dispatchTable = dispatchTable(metadataQueryName);
+            final DispatchTable previous =
+                dispatchTables.putIfAbsent(metadataQueryName, dispatchTable);
+            if (previous != null) {
+                dispatchTable = previous;
+            }
+        }
+        final Handler handler = dispatchTable.get(rel.getClass());
+        if (handler == null) {
+            return null;
+        }
+        return handler.apply(this, rel, args);
+    }
+
+    private DispatchTable dispatchTable(String metadataQueryName)
     {
         List<Class> parameterTypes = parameterTypeMap.get(metadataQueryName);
         if (parameterTypes == null) {
             parameterTypes = Collections.emptyList();
         }
-        Method method =
-            visitDispatcher.lookupVisitMethod(
-                getClass(),
-                rel.getClass(),
-                metadataQueryName,
-                parameterTypes);
+        return new DispatchTable(metadataQueryName, parameterTypes);
+    }
 
-        if (method == null) {
+    /**
+     * Returns a handler that calls a given method.
+     */
+    private Handler handler(Method method)
+    {
+        Handler handler = handlers.get(method);
+        if (handler == null) {
+            handler = generateHandler(method);
+            if (handler == null) {
+                handler = new ReflectiveHandler(method);
+            }
+            handlers.put(method, handler);
+        }
+        return handler;
+    }
+
+    /**
+     * Generates a handler that calls a given method directly, or returns
+     * null if that is not possible.
+     */
+    private static Handler generateHandler(Method method)
+    {
+        final Class<?> [] parameterTypes = method.getParameterTypes();
+        if (!isPublic(method.getDeclaringClass())
+            || !Modifier.isPublic(method.getModifiers())
+            || method.getReturnType() == void.class)
+        {
+            return null;
+        }
+        for (Class<?> parameterType : parameterTypes) {
+            if (!isPublic(parameterType)) {
+                return null;
+            }
+        }
+
+        // Generate
+        //   public Object apply(
+        //       RelMetadataProvider provider, RelNode rel, Object[] args) {
+        //     return ((RelMdFoo) provider).getFoo(
+        //         (FilterRelBase) rel,
+        //         (BitSet) args[0],
+        //         ((Boolean) args[1]).booleanValue());
+        //   }
+        final StringBuilder call = new StringBuilder();
+        call.append("((")
+            .append(method.getDeclaringClass().getCanonicalName())
+            .append(") provider).")
+            .append(method.getName())
+            .append("((")
+            .append(parameterTypes[0].getCanonicalName())
+            .append(") rel");
+        for (int i = 1; i < parameterTypes.length; i++) {
+            call.append(", ")
+                .append(unbox("args[" + (i - 1) + "]", parameterTypes[i]));
+        }
+        call.append(")");
+        final String body =
+            "public Object apply(\n"
+            + "    " + RelMetadataProvider.class.getName() + " provider,\n"
+            + "    " + RelNode.class.getName() + " rel,\n"
+            + "    Object[] args) {\n"
+            + "  return " + box(call.toString(), method.getReturnType())
+            + ";\n"
+            + "}\n";
+        try {
+            return (Handler) ClassBodyEvaluator.createFastClassBodyEvaluator(
+                new Scanner(null, new StringReader(body)),
+                Handler.class,
+                method.getDeclaringClass().getClassLoader());
+        } catch (Exception e) {
             return null;
         }
+    }
 
-        Object [] allArgs;
-        if (args != null) {
-            allArgs = new Object[args.length + 1];
-            allArgs[0] = rel;
-            System.arraycopy(args, 0, allArgs, 1, args.length);
+    /**
+     * Returns whether a class, and every class that encloses it, is public.
+     */
+    private static boolean isPublic(Class<?> clazz)
+    {
+        if (clazz.isPrimitive()) {
+            return true;
+        }
+        if (clazz.isArray()) {
+            return isPublic(clazz.getComponentType());
+        }
+        for (Class<?> c = clazz; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())
+                || c.isAnonymousClass()
+                || c.isLocalClass())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates an expression that converts an argument, which is an object,
+     * to a parameter type.
+     */
+    private static String unbox(String expr, Class<?> type)
+    {
+        if (!type.isPrimitive()) {
+            return "((" + type.getCanonicalName() + ") " + expr + ")";
+        }
+        final String boxName = box(type).getName();
+        return "((" + boxName + ") " + expr + ")." + type.getName()
+            + "Value()";
+    }
+
+    /**
+     * Generates an expression that converts a value of a given type to an
+     * object.
+     */
+    private static String box(String expr, Class<?> type)
+    {
+        if (!type.isPrimitive()) {
+            return expr;
+        }
+        return box(type).getName() + ".valueOf(" + expr + ")";
+    }
+
+    private static Class<?> box(Class<?> type)
+    {
+        if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == float.class) {
+            return Float.class;
         } else {
-            allArgs = new Object[] { rel };
+            assert type == double.class : type;
+            return Double.class;
         }
+    }
 
-        try {
-            return method.invoke(this, allArgs);
-        } catch (Throwable ex) {
-            // TODO jvs 28-Mar-2006:  share code with ReflectUtil
-            if (ex instanceof RuntimeException) {
-                throw (RuntimeException) ex;
-            } else if (ex instanceof Error) {
-                throw (Error) ex;
+    //~ Inner Interfaces -------------------------------------------------------
+
+    /**
+     * Calls the method that answers a metadata query for a particular class
+     * of relational expression.
+     *
+     * <p>This interface is public only so that generated code can implement
+     * it.
+     */
+    public interface Handler
+    {
+        /**
+         * Calls the method.
+         *
+         * @param provider provider that declares the method
+         * @param rel relational expression
+         * @param args additional arguments to the metadata query, or null
+         *
+         * @return metadata result, or null
+         */
+        Object apply(
+            RelMetadataProvider provider,
+            RelNode rel,
+            Object [] args);
+    }
+
+    //~ Inner Classes ----------------------------------------------------------
+
+    /**
+     * For one metadata query, the handler for each class of relational
+     * expression.
+     */
+    private class DispatchTable
+    {
+        private final String metadataQueryName;
+        private final List<Class> parameterTypes;
+        private final ConcurrentMap<Class<?>, Handler> relHandlers =
+            new ConcurrentHashMap<Class<?>, Handler>();
+
+        DispatchTable(
+            String metadataQueryName,
+            List<Class> parameterTypes)
+        {
+            this.metadataQueryName = metadataQueryName;
+            this.parameterTypes = parameterTypes;
+        }
+
+        /**
+         * Returns the handler for a class of relational expression, or null
+         * if this provider cannot answer the query for that class.
+         */
+        Handler get(Class<?> relClass)
+        {
+            Handler handler = relHandlers.get(relClass);
+            if (handler == null) {
+                final Method method =
+                    ReflectUtil.lookupVisitMethod(
+                        ReflectiveRelMetadataProvider.this.getClass(),
+                        relClass,
+                        metadataQueryName,
+                        parameterTypes);
+                handler = method == null ? NO_HANDLER : handler(method);
+                relHandlers.put(relClass, handler);
+            }
+            return handler == NO_HANDLER ? null : handler;
+        }
+    }
+
+    /**
+     * Handler that calls a method by reflection. Used if the method cannot
+     * be called from generated code.
+     */
+    private static class ReflectiveHandler
+        implements Handler
+    {
+        private final Method method;
+
+        ReflectiveHandler(Method method)
+        {
+            this.method = method;
+            try {
+                // The method is public, but its class may not be.
+                method.setAccessible(true);
+            } catch (SecurityException e) {
+                // ignore; invoke will fail if the class is not accessible
+            }
+        }
+
+        public Object apply(
+            RelMetadataProvider provider,
+            RelNode rel,
+            Object [] args)
+        {
+            Object [] allArgs;
+            if (args != null) {
+                allArgs = new Object[args.length + 1];
+                allArgs[0] = rel;
+                System.arraycopy(args, 0, allArgs, 1, args.length);
             } else {
+                allArgs = new Object[] { rel };
+            }
+            try {
+                return method.invoke(provider, allArgs);
+            } catch (InvocationTargetException ex) {
+                final Throwable t = ex.getTargetException();
+                if (t instanceof RuntimeException) {
+                    throw (RuntimeException) t;
+                } else if (t instanceof Error) {
+                    throw (Error) t;
+                } else {
+                    throw Util.newInternal(t);
+                }
+            } catch (IllegalAccessException ex) {
                 throw Util.newInternal(ex);
             }
         }
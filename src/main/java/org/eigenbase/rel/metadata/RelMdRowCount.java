@@ -22,6 +22,7 @@ import java.util.*;
 import org.eigenbase.rel.*;
 import org.eigenbase.rel.rules.*;
 import org.eigenbase.rex.*;
+import org.eigenbase.stat.*;
 import org.eigenbase.util14.*;
 
 
@@ -67,7 +68,19 @@ public class RelMdRowCount
 
     public Double getRowCount(SortRel rel)
     {
-        return RelMetadataQuery.getRowCount(rel.getChild());
+        Double rowCount = RelMetadataQuery.getRowCount(rel.getChild());
+        if (rowCount == null) {
+            return null;
+        }
+        if (rel.getOffset() instanceof RexLiteral) {
+            final int offset = RexLiteral.intValue(rel.getOffset());
+            rowCount = Math.max(rowCount - offset, 0D);
+        }
+        if (rel.getFetch() instanceof RexLiteral) {
+            final int fetch = RexLiteral.intValue(rel.getFetch());
+            rowCount = Math.min(rowCount, fetch);
+        }
+        return rowCount;
     }
 
     public Double getRowCount(SemiJoinRel rel)
@@ -104,6 +117,18 @@ public class RelMdRowCount
         }
     }
 
+    public Double getRowCount(TableAccessRelBase rel)
+    {
+        RelStatSource statistics = RelMetadataQuery.getStatistics(rel);
+        if (statistics != null) {
+            Double rowCount = statistics.getRowCount();
+            if (rowCount != null) {
+                return rowCount;
+            }
+        }
+        return rel.getRows();
+    }
+
     // Catch-all rule when none of the others apply.
     public Double getRowCount(RelNode rel)
     {
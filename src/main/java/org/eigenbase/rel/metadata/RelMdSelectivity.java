@@ -23,7 +23,9 @@ import org.eigenbase.rel.*;
 import org.eigenbase.rel.rules.*;
 import org.eigenbase.relopt.*;
 import org.eigenbase.rex.*;
+import org.eigenbase.sarg.*;
 import org.eigenbase.sql.fun.*;
+import org.eigenbase.stat.*;
 
 
 /**
@@ -189,6 +191,46 @@ public class RelMdSelectivity
         }
     }
 
+    public Double getSelectivity(TableAccessRelBase rel, RexNode predicate)
+    {
+        if (predicate == null) {
+            return 1.0;
+        }
+        RelStatSource statistics = RelMetadataQuery.getStatistics(rel);
+        if (statistics == null) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+
+        // Convert the conjuncts that compare a column with literals into
+        // sargs, and ask the statistics for the selectivity of each. Guess
+        // the selectivity of the rest.
+        SargFactory sargFactory =
+            new SargFactory(rel.getCluster().getRexBuilder());
+        SargRexAnalyzer rexAnalyzer = sargFactory.newRexAnalyzer();
+        List<SargBinding> sargBindingList = rexAnalyzer.analyzeAll(predicate);
+        double selectivity = 1.0;
+        for (SargBinding sargBinding : sargBindingList) {
+            RelStatColumnStatistics columnStats =
+                statistics.getColumnStatistics(
+                    sargBinding.getInputRef().getIndex(),
+                    sargBinding.getExpr().evaluate());
+            Double columnSelectivity = null;
+            if (columnStats != null) {
+                columnSelectivity = columnStats.getSelectivity();
+            }
+            if (columnSelectivity == null) {
+                columnSelectivity =
+                    RelMdUtil.guessSelectivity(
+                        rexAnalyzer.getSargBindingListToRexNode(
+                            Collections.singletonList(sargBinding)));
+            }
+            selectivity *= columnSelectivity;
+        }
+        return selectivity
+            * RelMdUtil.guessSelectivity(
+                rexAnalyzer.getNonSargFilterRexNode());
+    }
+
     // Catch-all rule when none of the others apply.
     public Double getSelectivity(RelNode rel, RexNode predicate)
     {
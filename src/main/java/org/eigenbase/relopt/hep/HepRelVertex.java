@@ -88,6 +88,12 @@ public class HepRelVertex
         return currentRel.isDistinct();
     }
 
+    // implement RelNode
+    public List<RelCollation> getCollationList()
+    {
+        return currentRel.getCollationList();
+    }
+
     // implement RelNode
     protected String computeDigest()
     {
@@ -293,7 +293,7 @@ public class RelSubset
         RelNode rel,
         Set<RelSubset> activeSet)
     {
-        ++timestamp;
+        timestamp = planner.nextMetadataTimestamp();
 
         if (!activeSet.add(this)) {
             // This subset is already in the chain being propagated to. This
@@ -75,8 +75,8 @@ class RuleQueue
     /**
      * Sorts rule-matches into decreasing order of importance.
      */
-    private final Comparator<VolcanoRuleMatch> ruleMatchImportanceComparator =
-        new RuleMatchImportanceComparator();
+    private static final Comparator<VolcanoRuleMatch>
+        ruleMatchImportanceComparator = new RuleMatchImportanceComparator();
 
     private final VolcanoPlanner planner;
 
@@ -161,7 +161,7 @@ class RuleQueue
      */
     public boolean hasNextMatch(VolcanoPlannerPhase phase)
     {
-        return !matchListMap.get(phase).list.isEmpty();
+        return !matchListMap.get(phase).heap.isEmpty();
     }
 
     /**
@@ -286,6 +286,11 @@ class RuleQueue
             if (relMatchMap.containsKey(subset)) {
                 for (VolcanoRuleMatch match : relMatchMap.getMulti(subset)) {
                     match.clearCachedImportance();
+
+                    // Don't recompute the match's importance yet; the
+                    // subset's importance may change several times before
+                    // the next match is popped.
+                    matchList.dirty.add(match);
                 }
             }
         }
@@ -354,7 +359,7 @@ class RuleQueue
                     + matchName);
             }
 
-            matchList.list.add(match);
+            matchList.heap.add(match, match.getImportance());
 
             matchList.matchMap.putMulti(
                 planner.getSubset(match.rels[0]),
@@ -450,11 +455,21 @@ class RuleQueue
         assert (phaseMatchList != null) : "Used match list for phase " + phase
             + " after phase complete";
 
-        List<VolcanoRuleMatch> matchList = phaseMatchList.list;
+        final MatchHeap heap = phaseMatchList.heap;
 
-        Collections.sort(matchList, ruleMatchImportanceComparator);
+        // Re-position the matches whose importance has changed since the
+        // last pop. Each costs O(log n), rather than re-sorting the whole
+        // list.
+        if (!phaseMatchList.dirty.isEmpty()) {
+            for (VolcanoRuleMatch match : phaseMatchList.dirty) {
+                heap.update(match, match.getImportance());
+            }
+            phaseMatchList.dirty.clear();
+        }
 
         if (tracer.isLoggable(Level.FINEST)) {
+            final List<VolcanoRuleMatch> matchList = heap.toList();
+            Collections.sort(matchList, ruleMatchImportanceComparator);
             StringBuilder b = new StringBuilder();
             b.append("Sorted rule queue:");
             for (VolcanoRuleMatch match : matchList) {
@@ -468,7 +483,7 @@ class RuleQueue
             tracer.finest(b.toString());
         }
 
-        VolcanoRuleMatch match = matchList.remove(0);
+        VolcanoRuleMatch match = heap.poll();
 
         // A rule match's digest is composed of the operand RelNodes' digests,
         // which may have changed if sets have merged since the rule match was
@@ -582,7 +597,7 @@ class RuleQueue
      * comparing the {@link RelNode#getId id}s of the relational expressions
      * matched.
      */
-    private class RuleMatchImportanceComparator
+    private static class RuleMatchImportanceComparator
         implements Comparator<VolcanoRuleMatch>
     {
         public int compare(
@@ -614,15 +629,22 @@ class RuleQueue
         final VolcanoPlannerPhase phase;
 
         /**
-         * Current list of VolcanoRuleMatches for this phase. New rule-matches
-         * are appended to the end of this list. When removing a rule-match, the
-         * list is sorted and the highest importance rule-match removed. It is
-         * important for performance that this list remain mostly sorted.
+         * Current VolcanoRuleMatches for this phase, in a heap ordered by
+         * decreasing importance. Adding a rule-match, removing the most
+         * important rule-match, and changing the importance of a rule-match
+         * each cost O(log n).
          */
-        final List<VolcanoRuleMatch> list;
+        final MatchHeap heap;
 
         /**
-         * A set of rule-match names contained in {@link #list}. Allows fast
+         * Rule-matches in {@link #heap} whose cached importance has been
+         * cleared, and whose position in the heap must be recomputed before
+         * the next rule-match is popped.
+         */
+        final Set<VolcanoRuleMatch> dirty;
+
+        /**
+         * A set of rule-match names contained in {@link #heap}. Allows fast
          * detection of duplicate rule-matches.
          */
         final Set<String> names;
@@ -640,13 +662,179 @@ class RuleQueue
         {
             this.phase = phase;
 
-            // Use a double-linked list because an array-list does not
-            // implement remove(0) efficiently.
-            this.list = new LinkedList<VolcanoRuleMatch>();
+            this.heap = new MatchHeap();
+            this.dirty = new LinkedHashSet<VolcanoRuleMatch>();
             this.names = new HashSet<String>();
             this.matchMap = new MultiMap<RelSubset, VolcanoRuleMatch>();
         }
     }
+
+    /**
+     * Binary heap of {@link VolcanoRuleMatch rule-matches}, with the most
+     * important rule-match at the top.
+     *
+     * <p>Each rule-match is stored with the importance it had when it was
+     * added or last {@link #update updated}; the heap never calls back into
+     * the planner, so its order is stable while subset importances change.
+     * The heap also records the position of each rule-match, so that a
+     * rule-match whose importance has changed can be moved up or down
+     * without searching for it.</p>
+     */
+    static class MatchHeap
+    {
+        private VolcanoRuleMatch [] matches = new VolcanoRuleMatch[16];
+        private double [] importances = new double[16];
+        private int size;
+        private final Map<VolcanoRuleMatch, Integer> positions =
+            new HashMap<VolcanoRuleMatch, Integer>();
+
+        boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        /**
+         * Adds a rule-match with a given importance.
+         */
+        void add(VolcanoRuleMatch match, double importance)
+        {
+            assert !positions.containsKey(match) : match;
+            if (size == matches.length) {
+                matches = Arrays.copyOf(matches, size * 2);
+                importances = Arrays.copyOf(importances, size * 2);
+            }
+            set(size, match, importance);
+            siftUp(size++);
+        }
+
+        /**
+         * Removes the most important rule-match and returns it.
+         */
+        VolcanoRuleMatch poll()
+        {
+            assert size > 0;
+            final VolcanoRuleMatch match = matches[0];
+            positions.remove(match);
+            --size;
+            if (size > 0) {
+                set(0, matches[size], importances[size]);
+                siftDown(0);
+            }
+            matches[size] = null;
+            return match;
+        }
+
+        /**
+         * Changes the importance of a rule-match, and moves it up or down
+         * the heap accordingly. Does nothing if the rule-match is not in the
+         * heap.
+         */
+        void update(VolcanoRuleMatch match, double importance)
+        {
+            final Integer position = positions.get(match);
+            if (position == null) {
+                return;
+            }
+            final int i = position;
+            final double previous = importances[i];
+            importances[i] = importance;
+            if (importance > previous) {
+                siftUp(i);
+            } else if (importance < previous) {
+                siftDown(i);
+            }
+        }
+
+        /**
+         * Returns the rule-matches in the heap, in no particular order.
+         */
+        List<VolcanoRuleMatch> toList()
+        {
+            return new ArrayList<VolcanoRuleMatch>(
+                Arrays.asList(matches).subList(0, size));
+        }
+
+        private void set(int i, VolcanoRuleMatch match, double importance)
+        {
+            matches[i] = match;
+            importances[i] = importance;
+            positions.put(match, i);
+        }
+
+        private void siftUp(int i)
+        {
+            final VolcanoRuleMatch match = matches[i];
+            final double importance = importances[i];
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (compare(
+                        importance,
+                        match,
+                        importances[parent],
+                        matches[parent]) >= 0)
+                {
+                    break;
+                }
+                set(i, matches[parent], importances[parent]);
+                i = parent;
+            }
+            set(i, match, importance);
+        }
+
+        private void siftDown(int i)
+        {
+            final VolcanoRuleMatch match = matches[i];
+            final double importance = importances[i];
+            for (;;) {
+                int child = (i << 1) + 1;
+                if (child >= size) {
+                    break;
+                }
+                final int right = child + 1;
+                if ((right < size)
+                    && (compare(
+                            importances[right],
+                            matches[right],
+                            importances[child],
+                            matches[child]) < 0))
+                {
+                    child = right;
+                }
+                if (compare(
+                        importance,
+                        match,
+                        importances[child],
+                        matches[child]) <= 0)
+                {
+                    break;
+                }
+                set(i, matches[child], importances[child]);
+                i = child;
+            }
+            set(i, match, importance);
+        }
+
+        /**
+         * Compares two rule-matches in the same way as
+         * {@link RuleMatchImportanceComparator}, but using the importances
+         * stored in the heap. Returns a negative value if the first
+         * rule-match should be fired first.
+         */
+        private static int compare(
+            double importance1,
+            VolcanoRuleMatch match1,
+            double importance2,
+            VolcanoRuleMatch match2)
+        {
+            int c = Double.compare(importance1, importance2);
+            if (c == 0) {
+                c = compareRels(
+                    match1.getRels(),
+                    match2.getRels());
+            }
+            return -c;
+        }
+    }
 }
 
 // End RuleQueue.java
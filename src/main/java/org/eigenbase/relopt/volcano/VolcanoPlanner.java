@@ -146,6 +146,33 @@ public class VolcanoPlanner
      */
     private int registerCount;
 
+    /**
+     * Source of metadata timestamps for subsets; see {@link
+     * #nextMetadataTimestamp()}.
+     */
+    private long metadataTimestamp;
+
+    /**
+     * Maximum time, in milliseconds, that {@link #findBestExp()} may spend
+     * firing rules once it has found an implementable plan; 0 means no
+     * limit.
+     */
+    private long timeLimitMillis;
+
+    /**
+     * Maximum number of rules that {@link #findBestExp()} may fire once it
+     * has found an implementable plan; 0 means no limit.
+     */
+    private int ruleFiringLimit;
+
+    /**
+     * Statistics about the most recent call to {@link #findBestExp()}.
+     */
+    private int lastTickCount;
+    private int lastRuleFiringCount;
+    private long lastElapsedMillis;
+    private StopReason lastStopReason;
+
     /**
      * Listener for this planner, or null if none set.
      */
@@ -202,6 +229,61 @@ public class VolcanoPlanner
         };
     }
 
+    /**
+     * Limits the effort that {@link #findBestExp()} spends improving a plan.
+     *
+     * <p>The planner always continues until it has found an implementable
+     * plan; if either limit has been exceeded by then, it stops, and returns
+     * the cheapest plan found so far.
+     *
+     * @param timeLimitMillis Maximum elapsed time in milliseconds, or 0 for no
+     * limit
+     * @param ruleFiringLimit Maximum number of rule firings, or 0 for no limit
+     */
+    public void setPlanningLimits(long timeLimitMillis, int ruleFiringLimit)
+    {
+        assert timeLimitMillis >= 0 : timeLimitMillis;
+        assert ruleFiringLimit >= 0 : ruleFiringLimit;
+        this.timeLimitMillis = timeLimitMillis;
+        this.ruleFiringLimit = ruleFiringLimit;
+    }
+
+    /**
+     * Returns the number of iterations of the most recent call to {@link
+     * #findBestExp()}.
+     */
+    public int getTickCount()
+    {
+        return lastTickCount;
+    }
+
+    /**
+     * Returns the number of rules fired by the most recent call to {@link
+     * #findBestExp()}.
+     */
+    public int getRuleFiringCount()
+    {
+        return lastRuleFiringCount;
+    }
+
+    /**
+     * Returns the time, in milliseconds, taken by the most recent call to
+     * {@link #findBestExp()}.
+     */
+    public long getElapsedMillis()
+    {
+        return lastElapsedMillis;
+    }
+
+    /**
+     * Returns why the most recent call to {@link #findBestExp()} stopped, or
+     * null if it has not been called.
+     */
+    public StopReason getStopReason()
+    {
+        return lastStopReason;
+    }
+
     // REVIEW: SWZ: 3/1/2005: No one calls this.  Remove?
     // todo: pre-compute
     public RelOptRuleOperand [] getConversionOperands(
@@ -422,6 +504,8 @@ public class VolcanoPlanner
      * number of iterations necessary to first reach an implementable plan or 25
      * iterations whichever is larger).</li>
      * <li>For non-ambitious planners: When an implementable plan is found.</li>
+     * <li>When an implementable plan has been found, and the time or number
+     * of rule firings exceeds a limit set by {@link #setPlanningLimits}.</li>
      * </ol>
      *
      * <p>Furthermore, after every 10 iterations without an implementable plan,
@@ -435,7 +519,15 @@ public class VolcanoPlanner
      */
     public RelNode findBestExp()
     {
+        final long startNanos = System.nanoTime();
+        final long deadlineNanos =
+            (timeLimitMillis > 0)
+            ? (startNanos + timeLimitMillis * 1000000L)
+            : Long.MAX_VALUE;
         int cumulativeTicks = 0;
+        int ruleFiringCount = 0;
+        StopReason stopReason = StopReason.QUEUE_EMPTY;
+phases:
         for (VolcanoPlannerPhase phase : VolcanoPlannerPhase.values()) {
             setInitialImportance();
 
@@ -474,19 +566,40 @@ public class VolcanoPlanner
                             }
                         }
                     } else {
+                        stopReason = StopReason.IMPLEMENTABLE;
                         break;
                     }
                 } else if (cumulativeTicks > giveUpTick) {
                     // We haven't made progress recently. Take the current best.
+                    stopReason = StopReason.NO_PROGRESS;
                     break;
                 } else if (root.bestCost.isInfinite() && ((tick % 10) == 0)) {
                     injectImportanceBoost();
                 }
 
                 if (!ruleQueue.hasNextMatch(phase)) {
+                    stopReason = StopReason.QUEUE_EMPTY;
                     break;
                 }
 
+                // If we have a plan, and have used up our budget, stop. The
+                // plan may not be optimal, but we will not find a better one
+                // in time.
+                if (!root.bestCost.isInfinite()) {
+                    if ((ruleFiringLimit > 0)
+                        && (ruleFiringCount >= ruleFiringLimit))
+                    {
+                        stopReason = StopReason.RULE_FIRING_LIMIT;
+                        ruleQueue.phaseCompleted(phase);
+                        break phases;
+                    }
+                    if (System.nanoTime() > deadlineNanos) {
+                        stopReason = StopReason.TIME_LIMIT;
+                        ruleQueue.phaseCompleted(phase);
+                        break phases;
+                    }
+                }
+
                 if (tracer.isLoggable(Level.FINE)) {
                     tracer.fine(
                         "PLANNER = " + this
@@ -498,6 +611,7 @@ public class VolcanoPlanner
                 VolcanoRuleMatch match = ruleQueue.popMatch(phase);
                 assert match.getRule().matches(match);
                 match.onMatch();
+                ++ruleFiringCount;
 
                 // The root may have been merged with another
                 // subset. Find the new root subset.
@@ -506,6 +620,18 @@ public class VolcanoPlanner
 
             ruleQueue.phaseCompleted(phase);
         }
+        lastTickCount = cumulativeTicks;
+        lastRuleFiringCount = ruleFiringCount;
+        lastElapsedMillis = (System.nanoTime() - startNanos) / 1000000L;
+        lastStopReason = stopReason;
+        if (tracer.isLoggable(Level.FINE)) {
+            tracer.fine(
+                "Planner stopped: reason=" + stopReason
+                + ", ticks=" + cumulativeTicks
+                + ", rule firings=" + ruleFiringCount
+                + ", elapsed=" + lastElapsedMillis + "ms"
+                + ", cost=" + root.bestCost);
+        }
         if (tracer.isLoggable(Level.FINER)) {
             StringWriter sw = new StringWriter();
             final PrintWriter pw = new PrintWriter(sw);
@@ -1179,6 +1305,14 @@ SUBSET_LOOP:
         // Merge.
         set.mergeWith(this, set2);
 
+        // Rels that were in different sets are now equivalent, which may
+        // change the metadata of the merged set and of any rel that uses it.
+        RelSet mergedSet = set;
+        while (mergedSet.equivalentSet != null) {
+            mergedSet = mergedSet.equivalentSet;
+        }
+        invalidateMetadata(mergedSet);
+
         // Was the set we merged with the root? If so, the result is the new
         // root.
         if (set2 == getSet(root)) {
@@ -1189,6 +1323,44 @@ SUBSET_LOOP:
         }
     }
 
+    /**
+     * Gives each subset of a set, and of every set that contains a rel that
+     * uses it, directly or indirectly, a new metadata timestamp. Metadata
+     * cached for other rels remains valid.
+     *
+     * @param set Set whose metadata may have changed
+     */
+    private void invalidateMetadata(RelSet set)
+    {
+        final long timestamp = nextMetadataTimestamp();
+        final List<RelSet> sets = new ArrayList<RelSet>();
+        final Set<RelSet> seen = new HashSet<RelSet>();
+        sets.add(set);
+        seen.add(set);
+        for (int i = 0; i < sets.size(); i++) {
+            final RelSet s = sets.get(i);
+            for (RelSubset subset : s.subsets) {
+                subset.timestamp = timestamp;
+            }
+            for (RelNode parentRel : s.getParentRels()) {
+                final RelSubset parentSubset = getSubset(parentRel);
+                if (parentSubset != null && seen.add(parentSubset.set)) {
+                    sets.add(parentSubset.set);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a new metadata timestamp. Timestamps are unique within the
+     * planner, so a rel that moves to another subset never finds a timestamp
+     * that its cached metadata was computed with.
+     */
+    long nextMetadataTimestamp()
+    {
+        return ++metadataTimestamp;
+    }
+
     /**
      * Registers a new expression <code>exp</code> and queues up rule matches.
      * If <code>set</code> is not null, makes the expression part of that
@@ -1501,6 +1673,38 @@ SUBSET_LOOP:
 
     //~ Inner Classes ----------------------------------------------------------
 
+    /**
+     * Reason why {@link VolcanoPlanner#findBestExp()} stopped firing rules.
+     */
+    public enum StopReason
+    {
+        /**
+         * There were no more rule matches to fire.
+         */
+        QUEUE_EMPTY,
+
+        /**
+         * The planner is not ambitious, and found an implementable plan.
+         */
+        IMPLEMENTABLE,
+
+        /**
+         * The planner is impatient, and the cost of the plan had not improved
+         * recently.
+         */
+        NO_PROGRESS,
+
+        /**
+         * The planner exceeded its limit on elapsed time.
+         */
+        TIME_LIMIT,
+
+        /**
+         * The planner exceeded its limit on the number of rule firings.
+         */
+        RULE_FIRING_LIMIT
+    }
+
     /**
      * A rule call which defers its actions. Whereas {@link RelOptRuleCall}
      * invokes the rule when it finds a match, a <code>DeferringRuleCall</code>
@@ -646,10 +646,7 @@ loop:
                 if (target < 0) {
                     continue loop;
                 }
-                fieldCollations.add(
-                    new RelFieldCollation(
-                        target,
-                        fieldCollation.getDirection()));
+                fieldCollations.add(fieldCollation.copy(target));
             }
 
             // Success -- all of the source fields of this key are mapped
@@ -909,9 +909,7 @@ public class RexUtil
         if (target < 0) {
             return null;
         }
-        return new RelFieldCollation(
-            target,
-            fieldCollation.getDirection());
+        return fieldCollation.copy(target);
     }
 
     /**
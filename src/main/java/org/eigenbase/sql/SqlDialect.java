@@ -410,6 +410,70 @@ public class SqlDialect
         return databaseProduct;
     }
 
+    /**
+     * Returns whether this dialect can limit the rows returned by a query,
+     * with either the <code>OFFSET ... FETCH</code> clauses of SQL:2008 or
+     * a <code>LIMIT</code> clause.
+     *
+     * @return Whether the dialect supports OFFSET and FETCH
+     */
+    public boolean supportsOffsetFetch()
+    {
+        switch (databaseProduct) {
+        case MYSQL:
+        case INFOBRIGHT:
+        case POSTGRESQL:
+        case HSQLDB:
+        case DERBY:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether this dialect supports <code>NULLS FIRST</code> and
+     * <code>NULLS LAST</code> in an <code>ORDER BY</code> clause.
+     *
+     * <p>Where nulls sort by default differs between databases, so without
+     * these keywords a query cannot control it.</p>
+     *
+     * @return Whether the dialect supports NULLS FIRST and NULLS LAST
+     */
+    public boolean supportsNullsOrdering()
+    {
+        switch (databaseProduct) {
+        case ORACLE:
+        case POSTGRESQL:
+        case HSQLDB:
+        case DERBY:
+        case DB2:
+        case LUCIDDB:
+        case VERTICA:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether this dialect expresses OFFSET and FETCH using a
+     * <code>LIMIT</code> clause, as MySQL does, rather than the SQL:2008
+     * syntax.
+     *
+     * @return Whether the dialect uses LIMIT
+     */
+    public boolean usesLimit()
+    {
+        switch (databaseProduct) {
+        case MYSQL:
+        case INFOBRIGHT:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     /**
      * A few utility functions copied from org.eigenbase.util.Util. We have
      * copied them because we wish to keep SqlDialect's dependencies to a
@@ -303,6 +303,16 @@ public enum SqlKind
      */
     DESCENDING,
 
+    /**
+     * NULLS FIRST clause in ORDER BY
+     */
+    NULLS_FIRST,
+
+    /**
+     * NULLS LAST clause in ORDER BY
+     */
+    NULLS_LAST,
+
     /**
      * IS TRUE operator.
      */
@@ -433,6 +443,8 @@ public enum SqlKind
      * <p>A node is an expression if it is NOT one of the following:
      * {@link #AS},
      * {@link #DESCENDING},
+     * {@link #NULLS_FIRST},
+     * {@link #NULLS_LAST},
      * {@link #SELECT},
      * {@link #JOIN},
      * {@link #OTHER_FUNCTION},
@@ -449,9 +461,9 @@ public enum SqlKind
     public static final Set<SqlKind> EXPRESSION =
         EnumSet.complementOf(
             EnumSet.of(
-                AS, DESCENDING, SELECT, JOIN, OTHER_FUNCTION, CAST, TRIM,
-                LITERAL_CHAIN, JDBC_FN, PRECEDING, FOLLOWING, ORDER_BY,
-                COLLECTION_TABLE, TABLESAMPLE));
+                AS, DESCENDING, NULLS_FIRST, NULLS_LAST, SELECT, JOIN,
+                OTHER_FUNCTION, CAST, TRIM, LITERAL_CHAIN, JDBC_FN, PRECEDING,
+                FOLLOWING, ORDER_BY, COLLECTION_TABLE, TABLESAMPLE));
 
     /**
      * Category consisting of all DML operators.
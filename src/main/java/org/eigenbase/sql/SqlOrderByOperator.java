@@ -23,6 +23,10 @@ package org.eigenbase.sql;
  * eliminated by SqlValidator.performUnconditionalRewrites and replaced with the
  * ORDER_OPERAND of SqlSelect.
  *
+ * <p>It also holds the OFFSET and FETCH clauses of a query, which become the
+ * OFFSET_OPERAND and FETCH_OPERAND of SqlSelect. If a query has OFFSET or
+ * FETCH but no ORDER BY, the ORDER_OPERAND is null.
+ *
  * @author John V. Sichi
  * @version $Id$
  */
@@ -34,6 +38,8 @@ public class SqlOrderByOperator
     // constants representing operand positions
     public static final int QUERY_OPERAND = 0;
     public static final int ORDER_OPERAND = 1;
+    public static final int OFFSET_OPERAND = 2;
+    public static final int FETCH_OPERAND = 3;
 
     //~ Constructors -----------------------------------------------------------
 
@@ -56,18 +62,24 @@ public class SqlOrderByOperator
         int leftPrec,
         int rightPrec)
     {
-        assert (operands.length == 2);
+        assert (operands.length == 4);
         final SqlWriter.Frame frame =
             writer.startList(SqlWriter.FrameTypeEnum.OrderBy);
         operands[QUERY_OPERAND].unparse(
             writer,
             getLeftPrec(),
             getRightPrec());
-        writer.sep(getName());
-        final SqlWriter.Frame listFrame =
-            writer.startList(SqlWriter.FrameTypeEnum.OrderByList);
-        unparseListClause(writer, operands[ORDER_OPERAND]);
-        writer.endList(listFrame);
+        if (operands[ORDER_OPERAND] != null) {
+            writer.sep(getName());
+            final SqlWriter.Frame listFrame =
+                writer.startList(SqlWriter.FrameTypeEnum.OrderByList);
+            unparseListClause(writer, operands[ORDER_OPERAND]);
+            writer.endList(listFrame);
+        }
+        SqlSelectOperator.unparseOffsetFetch(
+            writer,
+            operands[OFFSET_OPERAND],
+            operands[FETCH_OPERAND]);
         writer.endList(frame);
     }
 }
@@ -417,6 +417,24 @@ public class SqlStdOperatorTable
             SqlTypeStrategies.otiReturnType,
             SqlTypeStrategies.otcAny);
 
+    public static final SqlPostfixOperator nullsFirstOperator =
+        new SqlPostfixOperator(
+            "NULLS FIRST",
+            SqlKind.NULLS_FIRST,
+            18,
+            null,
+            SqlTypeStrategies.otiReturnType,
+            SqlTypeStrategies.otcAny);
+
+    public static final SqlPostfixOperator nullsLastOperator =
+        new SqlPostfixOperator(
+            "NULLS LAST",
+            SqlKind.NULLS_LAST,
+            18,
+            null,
+            SqlTypeStrategies.otiReturnType,
+            SqlTypeStrategies.otcAny);
+
     public static final SqlPostfixOperator isNotNullOperator =
         new SqlPostfixOperator(
             "IS NOT NULL",
@@ -371,8 +371,10 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
  */
   final public SqlNode OrderedQueryOrExpr(ExprContext exprContext) throws ParseException {
     SqlNode e;
-    SqlNodeList orderBy;
-    SqlParserPos pos;
+    SqlNodeList orderBy = null;
+    SqlNode offset = null;
+    SqlNode fetch = null;
+    SqlParserPos pos = null;
     e = QueryOrExpr(exprContext);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case ORDER:
@@ -380,12 +382,124 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
               // to decide whether ORDER BY makes sense
               orderBy = OrderBy(e.isA(SqlKind.QUERY));
             pos = getPos();
-            e = SqlStdOperatorTable.orderByOperator.createCall(pos, e, orderBy);
       break;
     default:
       jj_la1[0] = jj_gen;
       ;
     }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case LIMIT:
+      jj_consume_token(LIMIT);
+      fetch = UnsignedNumericLiteral();
+            if (pos == null) {
+                pos = getPos();
+            }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case OFFSET:
+        jj_consume_token(OFFSET);
+        offset = UnsignedNumericLiteral();
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case ROW:
+        case ROWS:
+          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+          case ROW:
+            jj_consume_token(ROW);
+            break;
+          case ROWS:
+            jj_consume_token(ROWS);
+            break;
+          default:
+            jj_la1[1] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+          break;
+        default:
+          jj_la1[2] = jj_gen;
+          ;
+        }
+        break;
+      default:
+        jj_la1[3] = jj_gen;
+        ;
+      }
+      break;
+    default:
+      jj_la1[10] = jj_gen;
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case OFFSET:
+        jj_consume_token(OFFSET);
+        offset = UnsignedNumericLiteral();
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case ROW:
+        case ROWS:
+          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+          case ROW:
+            jj_consume_token(ROW);
+            break;
+          case ROWS:
+            jj_consume_token(ROWS);
+            break;
+          default:
+            jj_la1[4] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+          break;
+        default:
+          jj_la1[5] = jj_gen;
+          ;
+        }
+                if (pos == null) {
+                    pos = getPos();
+                }
+        break;
+      default:
+        jj_la1[6] = jj_gen;
+        ;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case FETCH:
+        jj_consume_token(FETCH);
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case FIRST:
+          jj_consume_token(FIRST);
+          break;
+        case NEXT:
+          jj_consume_token(NEXT);
+          break;
+        default:
+          jj_la1[7] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+        fetch = UnsignedNumericLiteral();
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case ROW:
+          jj_consume_token(ROW);
+          break;
+        case ROWS:
+          jj_consume_token(ROWS);
+          break;
+        default:
+          jj_la1[8] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+        jj_consume_token(ONLY);
+                if (pos == null) {
+                    pos = getPos();
+                }
+        break;
+      default:
+        jj_la1[9] = jj_gen;
+        ;
+      }
+    }
+        if (pos != null) {
+            e = SqlStdOperatorTable.orderByOperator.createCall(
+                pos, e, orderBy, offset, fetch);
+        }
         {if (true) return e;}
     throw new Error("Missing return statement in function");
   }
@@ -411,7 +525,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return e;}
       break;
     default:
-      jj_la1[1] = jj_gen;
+      jj_la1[11] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -488,7 +602,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[2] = jj_gen;
+        jj_la1[12] = jj_gen;
         break label_1;
       }
       jj_consume_token(COMMA);
@@ -538,13 +652,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             e = SqlLiteral.createSymbol(SqlSelectKeyword.All, getPos());
         break;
       default:
-        jj_la1[3] = jj_gen;
+        jj_la1[13] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[4] = jj_gen;
+      jj_la1[14] = jj_gen;
       ;
     }
        list.add(e);
@@ -559,7 +673,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[5] = jj_gen;
+        jj_la1[15] = jj_gen;
         break label_2;
       }
       jj_consume_token(COMMA);
@@ -613,7 +727,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         stmt = SqlProcedureCall();
         break;
       default:
-        jj_la1[6] = jj_gen;
+        jj_la1[16] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -662,7 +776,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 SqlLiteral.createSymbol(SqlSelectKeyword.All, getPos()));
       break;
     default:
-      jj_la1[7] = jj_gen;
+      jj_la1[17] = jj_gen;
       E();
     }
     selectList = SelectList();
@@ -707,7 +821,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       detailLevel = ExplainDetailLevel();
       break;
     default:
-      jj_la1[8] = jj_gen;
+      jj_la1[18] = jj_gen;
       ;
     }
     depth = ExplainDepth();
@@ -718,7 +832,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                      asXml = true;
       break;
     default:
-      jj_la1[9] = jj_gen;
+      jj_la1[19] = jj_gen;
             asXml = false;
     }
     jj_consume_token(FOR);
@@ -739,7 +853,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         stmt = SqlMerge();
         break;
       default:
-        jj_la1[10] = jj_gen;
+        jj_la1[20] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -778,7 +892,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             {if (true) return SqlExplain.Depth.Logical;}
         break;
       default:
-        jj_la1[11] = jj_gen;
+        jj_la1[21] = jj_gen;
             {if (true) return SqlExplain.Depth.Physical;}
       }
     }
@@ -804,14 +918,14 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                   level = SqlExplainLevel.ALL_ATTRIBUTES;
         break;
       default:
-        jj_la1[12] = jj_gen;
+        jj_la1[22] = jj_gen;
         ;
       }
       jj_consume_token(ATTRIBUTES);
 
       break;
     default:
-      jj_la1[13] = jj_gen;
+      jj_la1[23] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -853,7 +967,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
           pos = pos.plus(getPos());
         break;
       default:
-        jj_la1[14] = jj_gen;
+        jj_la1[24] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1150,13 +1264,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(AS);
         break;
       default:
-        jj_la1[15] = jj_gen;
+        jj_la1[25] = jj_gen;
         ;
       }
       alias = SimpleIdentifier();
       break;
     default:
-      jj_la1[16] = jj_gen;
+      jj_la1[26] = jj_gen;
       ;
     }
     condition = WhereOpt();
@@ -1416,13 +1530,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(AS);
         break;
       default:
-        jj_la1[17] = jj_gen;
+        jj_la1[27] = jj_gen;
         ;
       }
       alias = SimpleIdentifier();
       break;
     default:
-      jj_la1[18] = jj_gen;
+      jj_la1[28] = jj_gen;
       ;
     }
     jj_consume_token(SET);
@@ -1439,7 +1553,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[19] = jj_gen;
+        jj_la1[29] = jj_gen;
         break label_3;
       }
       jj_consume_token(COMMA);
@@ -1706,13 +1820,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(AS);
         break;
       default:
-        jj_la1[20] = jj_gen;
+        jj_la1[30] = jj_gen;
         ;
       }
       alias = SimpleIdentifier();
       break;
     default:
-      jj_la1[21] = jj_gen;
+      jj_la1[31] = jj_gen;
       ;
     }
     jj_consume_token(USING);
@@ -1726,7 +1840,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         insertCall = WhenNotMatchedClause(table);
         break;
       default:
-        jj_la1[22] = jj_gen;
+        jj_la1[32] = jj_gen;
         ;
       }
     } else {
@@ -1735,7 +1849,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         insertCall = WhenNotMatchedClause(table);
         break;
       default:
-        jj_la1[23] = jj_gen;
+        jj_la1[33] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1778,7 +1892,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[24] = jj_gen;
+        jj_la1[34] = jj_gen;
         break label_4;
       }
       jj_consume_token(COMMA);
@@ -1825,7 +1939,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       jj_consume_token(LPAREN);
       break;
     default:
-      jj_la1[25] = jj_gen;
+      jj_la1[35] = jj_gen;
       ;
     }
     jj_consume_token(VALUES);
@@ -1836,7 +1950,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       jj_consume_token(RPAREN);
       break;
     default:
-      jj_la1[26] = jj_gen;
+      jj_la1[36] = jj_gen;
       ;
     }
         // TODO zfong 5/26/06: note that extra parentheses are accepted above
@@ -1871,7 +1985,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[27] = jj_gen;
+        jj_la1[37] = jj_gen;
         break label_5;
       }
       jj_consume_token(COMMA);
@@ -2120,7 +2234,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(AS);
         break;
       default:
-        jj_la1[28] = jj_gen;
+        jj_la1[38] = jj_gen;
         ;
       }
       id = SimpleIdentifier();
@@ -2128,7 +2242,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             e = SqlStdOperatorTable.asOperator.createCall(pos, e, id);
       break;
     default:
-      jj_la1[29] = jj_gen;
+      jj_la1[39] = jj_gen;
       ;
     }
         {if (true) return e;}
@@ -2161,7 +2275,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return new SqlIdentifier("*", pos);}
         break;
       default:
-        jj_la1[30] = jj_gen;
+        jj_la1[40] = jj_gen;
         if (jj_2_9(1)) {
           e = Expression(ExprContext.ACCEPT_SUBQUERY);
         {if (true) return e;}
@@ -2208,7 +2322,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                        isNatural = true;
           break;
         default:
-          jj_la1[31] = jj_gen;
+          jj_la1[41] = jj_gen;
              isNatural = false;
         }
             naturalPos = getPos();
@@ -2229,7 +2343,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             jj_consume_token(OUTER);
             break;
           default:
-            jj_la1[32] = jj_gen;
+            jj_la1[42] = jj_gen;
             ;
           }
           jj_consume_token(JOIN);
@@ -2242,7 +2356,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             jj_consume_token(OUTER);
             break;
           default:
-            jj_la1[33] = jj_gen;
+            jj_la1[43] = jj_gen;
             ;
           }
           jj_consume_token(JOIN);
@@ -2255,7 +2369,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             jj_consume_token(OUTER);
             break;
           default:
-            jj_la1[34] = jj_gen;
+            jj_la1[44] = jj_gen;
             ;
           }
           jj_consume_token(JOIN);
@@ -2267,7 +2381,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
              joinType = SqlJoinOperator.JoinType.Cross;
           break;
         default:
-          jj_la1[35] = jj_gen;
+          jj_la1[45] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2307,7 +2421,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     joinTypePos);
           break;
         default:
-          jj_la1[36] = jj_gen;
+          jj_la1[46] = jj_gen;
                 e = SqlStdOperatorTable.joinOperator.createCall(
                     e,
                     SqlLiteral.createBoolean(isNatural, naturalPos),
@@ -2381,7 +2495,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                      isLateral = true;
           break;
         default:
-          jj_la1[37] = jj_gen;
+          jj_la1[47] = jj_gen;
           ;
         }
         tableRef = ParenthesizedExpression(ExprContext.ACCEPT_QUERY);
@@ -2413,7 +2527,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
 
         break;
       default:
-        jj_la1[38] = jj_gen;
+        jj_la1[48] = jj_gen;
         if (jj_2_13(1)) {
           tableRef = ExtendedTableRef();
         } else {
@@ -2652,7 +2766,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(AS);
         break;
       default:
-        jj_la1[39] = jj_gen;
+        jj_la1[49] = jj_gen;
         ;
       }
       alias = Identifier();
@@ -2663,7 +2777,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[40] = jj_gen;
+        jj_la1[50] = jj_gen;
         ;
       }
             pos = getPos();
@@ -2680,7 +2794,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             }
       break;
     default:
-      jj_la1[41] = jj_gen;
+      jj_la1[51] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2711,7 +2825,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     isBernoulli = false;
           break;
         default:
-          jj_la1[42] = jj_gen;
+          jj_la1[52] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2727,7 +2841,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     isRepeatable = true;
           break;
         default:
-          jj_la1[43] = jj_gen;
+          jj_la1[53] = jj_gen;
           ;
         }
                 final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100L);
@@ -2760,13 +2874,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 }
         break;
       default:
-        jj_la1[44] = jj_gen;
+        jj_la1[54] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[45] = jj_gen;
+      jj_la1[55] = jj_gen;
       ;
     }
         {if (true) return tableRef;}
@@ -2783,7 +2897,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             funcType = SqlFunctionCategory.UserDefinedSpecificFunction;
       break;
     default:
-      jj_la1[46] = jj_gen;
+      jj_la1[56] = jj_gen;
       ;
     }
 
@@ -2882,7 +2996,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(ROW);
         break;
       default:
-        jj_la1[47] = jj_gen;
+        jj_la1[57] = jj_gen;
         ;
       }
       valueList = ParenthesizedQueryOrCommaList(ExprContext.ACCEPT_NONCURSOR);
@@ -2921,7 +3035,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return condition;}
       break;
     default:
-      jj_la1[48] = jj_gen;
+      jj_la1[58] = jj_gen;
         {if (true) return null;}
     }
     throw new Error("Missing return statement in function");
@@ -2950,7 +3064,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return new SqlNodeList(getPos());}
         break;
       default:
-        jj_la1[49] = jj_gen;
+        jj_la1[59] = jj_gen;
         {if (true) return null;}
       }
     }
@@ -2998,7 +3112,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return e;}
       break;
     default:
-      jj_la1[50] = jj_gen;
+      jj_la1[60] = jj_gen;
         {if (true) return null;}
     }
     throw new Error("Missing return statement in function");
@@ -3038,7 +3152,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return new SqlNodeList(list, pos);}
       break;
     default:
-      jj_la1[51] = jj_gen;
+      jj_la1[61] = jj_gen;
         {if (true) return null;}
     }
     throw new Error("Missing return statement in function");
@@ -3287,7 +3401,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       id = SimpleIdentifier();
       break;
     default:
-      jj_la1[52] = jj_gen;
+      jj_la1[62] = jj_gen;
           id = null;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3298,7 +3412,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       partitionList = ExpressionCommaList(pos, ExprContext.ACCEPT_NONQUERY);
       break;
     default:
-      jj_la1[53] = jj_gen;
+      jj_la1[63] = jj_gen;
           partitionList = SqlNodeList.Empty;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3306,7 +3420,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       orderList = OrderBy(true);
       break;
     default:
-      jj_la1[54] = jj_gen;
+      jj_la1[64] = jj_gen;
           orderList = SqlNodeList.Empty;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3322,7 +3436,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                       isRows = SqlLiteral.createBoolean(false, getPos());
         break;
       default:
-        jj_la1[55] = jj_gen;
+        jj_la1[65] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3358,13 +3472,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         lowerBound = WindowRange();
         break;
       default:
-        jj_la1[56] = jj_gen;
+        jj_la1[66] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[57] = jj_gen;
+      jj_la1[67] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3384,13 +3498,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             allowPartial = SqlLiteral.createBoolean(false, pos.plus(getPos()));
         break;
       default:
-        jj_la1[58] = jj_gen;
+        jj_la1[68] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[59] = jj_gen;
+      jj_la1[69] = jj_gen;
       ;
     }
     jj_consume_token(RPAREN);
@@ -3432,7 +3546,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 pos.plus(endPos));}
         break;
       default:
-        jj_la1[60] = jj_gen;
+        jj_la1[70] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3470,13 +3584,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 SqlLiteral.unchain(literal), getPos());}
         break;
       default:
-        jj_la1[61] = jj_gen;
+        jj_la1[71] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[62] = jj_gen;
+      jj_la1[72] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -3527,18 +3641,48 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     e = Expression(ExprContext.ACCEPT_SUBQUERY);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case ASC:
-      jj_consume_token(ASC);
-            {if (true) return e;}
-      break;
     case DESC:
-      jj_consume_token(DESC);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case ASC:
+        jj_consume_token(ASC);
+        break;
+      case DESC:
+        jj_consume_token(DESC);
+            pos = getPos();
+            e = SqlStdOperatorTable.descendingOperator.createCall(pos, e);
+        break;
+      default:
+        jj_la1[73] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+      break;
+    default:
+      jj_la1[74] = jj_gen;
+      ;
+    }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case NULLS:
+      if (jj_2_22(2)) {
+        jj_consume_token(NULLS);
+        jj_consume_token(FIRST);
             pos = getPos();
-            {if (true) return SqlStdOperatorTable.descendingOperator.createCall(pos, e);}
+            e = SqlStdOperatorTable.nullsFirstOperator.createCall(pos, e);
+      } else if (jj_2_23(2)) {
+        jj_consume_token(NULLS);
+        jj_consume_token(LAST);
+            pos = getPos();
+            e = SqlStdOperatorTable.nullsLastOperator.createCall(pos, e);
+      } else {
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
       break;
     default:
-      jj_la1[63] = jj_gen;
-            {if (true) return e;}
+      jj_la1[75] = jj_gen;
+      ;
     }
+        {if (true) return e;}
     throw new Error("Missing return statement in function");
   }
 
@@ -3576,7 +3720,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[64] = jj_gen;
+        jj_la1[76] = jj_gen;
         break label_11;
       }
             if (!e.isA(SqlKind.QUERY)) {
@@ -3604,7 +3748,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
  */
   final public SqlNode LeafQueryOrExpr(ExprContext exprContext) throws ParseException {
     SqlNode e;
-    if (jj_2_22(1)) {
+    if (jj_2_24(1)) {
       e = Expression(exprContext);
         {if (true) return e;}
     } else {
@@ -3616,7 +3760,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return e;}
         break;
       default:
-        jj_la1[65] = jj_gen;
+        jj_la1[77] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3685,7 +3829,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     case CONCAT:
       label_12:
       while (true) {
-        if (jj_2_24(2)) {
+        if (jj_2_26(2)) {
                     checkNonQueryExpression(exprContext);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
           case NOT:
@@ -3700,7 +3844,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                         pos = getPos();
             break;
           default:
-            jj_la1[66] = jj_gen;
+            jj_la1[78] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -3718,7 +3862,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     } else {
                         list.add(nodeList);
                     }
-        } else if (jj_2_25(2)) {
+        } else if (jj_2_27(2)) {
                     checkNonQueryExpression(exprContext);
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
           case NOT:
@@ -3738,13 +3882,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 jj_consume_token(ASYMMETRIC);
                 break;
               default:
-                jj_la1[67] = jj_gen;
+                jj_la1[79] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
               break;
             default:
-              jj_la1[68] = jj_gen;
+              jj_la1[80] = jj_gen;
               ;
             }
             break;
@@ -3764,18 +3908,18 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 jj_consume_token(ASYMMETRIC);
                 break;
               default:
-                jj_la1[69] = jj_gen;
+                jj_la1[81] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
               break;
             default:
-              jj_la1[70] = jj_gen;
+              jj_la1[82] = jj_gen;
               ;
             }
             break;
           default:
-            jj_la1[71] = jj_gen;
+            jj_la1[83] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -3803,7 +3947,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                          op = SqlStdOperatorTable.notSimilarOperator;
                 break;
               default:
-                jj_la1[72] = jj_gen;
+                jj_la1[84] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
@@ -3818,14 +3962,14 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                      op = SqlStdOperatorTable.similarOperator;
               break;
             default:
-              jj_la1[73] = jj_gen;
+              jj_la1[85] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             list2 = Expression2(ExprContext.ACCEPT_SUBQUERY);
                     list.add(new SqlParserUtil.ToTreeListItem(op, pos));
                     list.addAll(list2);
-            if (jj_2_23(2)) {
+            if (jj_2_25(2)) {
               jj_consume_token(ESCAPE);
               e = Expression3(ExprContext.ACCEPT_SUBQUERY);
                         pos = getPos();
@@ -3838,8 +3982,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             }
             break;
           default:
-            jj_la1[74] = jj_gen;
-            if (jj_2_26(3)) {
+            jj_la1[86] = jj_gen;
+            if (jj_2_28(3)) {
               op = BinaryRowOperator();
                     checkNonQueryExpression(exprContext);
               e = Expression3(ExprContext.ACCEPT_SUBQUERY);
@@ -3853,14 +3997,14 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     list.add(new SqlParserUtil.ToTreeListItem(op, getPos()));
                 break;
               default:
-                jj_la1[75] = jj_gen;
+                jj_la1[87] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
             }
           }
         }
-        if (jj_2_27(2)) {
+        if (jj_2_29(2)) {
           ;
         } else {
           break label_12;
@@ -3869,7 +4013,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             {if (true) return list;}
       break;
     default:
-      jj_la1[76] = jj_gen;
+      jj_la1[88] = jj_gen;
             {if (true) return list;}
     }
     throw new Error("Missing return statement in function");
@@ -3888,7 +4032,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     boolean rowSeen = false;
     SqlParserPos pos;
     SqlParserPos prefixRowOpPos;
-    if (jj_2_28(2)) {
+    if (jj_2_30(2)) {
       e = AtomicRowExpression();
         checkNonQueryExpression(exprContext);
         {if (true) return e;}
@@ -3899,8 +4043,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                         {if (true) return e;}
         break;
       default:
-        jj_la1[80] = jj_gen;
-        if (jj_2_29(3)) {
+        jj_la1[92] = jj_gen;
+        if (jj_2_31(3)) {
           jj_consume_token(ROW);
           jj_consume_token(LPAREN);
           list = SimpleIdentifierCommaList();
@@ -3937,7 +4081,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             pos = getPos(); rowSeen = true;
               break;
             default:
-              jj_la1[77] = jj_gen;
+              jj_la1[89] = jj_gen;
               ;
             }
             list1 = ParenthesizedQueryOrCommaList(exprContext);
@@ -3999,13 +4143,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     EigenbaseResource.instance().IllegalMinusDate.ex());}
                 break;
               default:
-                jj_la1[78] = jj_gen;
+                jj_la1[90] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
               }
               break;
             default:
-              jj_la1[79] = jj_gen;
+              jj_la1[91] = jj_gen;
               ;
             }
         if (list1.size() == 1) {
@@ -4018,7 +4162,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         }
             break;
           default:
-            jj_la1[81] = jj_gen;
+            jj_la1[93] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -4076,8 +4220,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                          {if (true) return e;}
       break;
     default:
-      jj_la1[84] = jj_gen;
-      if (jj_2_31(1)) {
+      jj_la1[96] = jj_gen;
+      if (jj_2_33(1)) {
         e = BuiltinFunctionCall();
                                 {if (true) return e;}
       } else {
@@ -4091,8 +4235,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                 {if (true) return e;}
           break;
         default:
-          jj_la1[85] = jj_gen;
-          if (jj_2_32(2147483647)) {
+          jj_la1[97] = jj_gen;
+          if (jj_2_34(2147483647)) {
             e = NamedFunctionCall();
                               {if (true) return e;}
           } else {
@@ -4353,7 +4497,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
 
               jj_consume_token(CASE);
         pos = getPos();
-              if (jj_2_30(1)) {
+              if (jj_2_32(1)) {
                 caseIdentifier = Expression(ExprContext.ACCEPT_SUBQUERY);
               } else {
                 ;
@@ -4371,7 +4515,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                   ;
                   break;
                 default:
-                  jj_la1[82] = jj_gen;
+                  jj_la1[94] = jj_gen;
                   break label_13;
                 }
               }
@@ -4381,7 +4525,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 elseClause = Expression(ExprContext.ACCEPT_SUBQUERY);
                 break;
               default:
-                jj_la1[83] = jj_gen;
+                jj_la1[95] = jj_gen;
                 ;
               }
               jj_consume_token(END);
@@ -4394,7 +4538,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             elseClause);}
               break;
             default:
-              jj_la1[86] = jj_gen;
+              jj_la1[98] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -4450,7 +4594,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return e;}
       break;
     default:
-      jj_la1[87] = jj_gen;
+      jj_la1[99] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4473,7 +4617,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return SqlLiteral.createApproxNumeric(token.image, getPos());}
       break;
     default:
-      jj_la1[88] = jj_gen;
+      jj_la1[100] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4503,7 +4647,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return num;}
       break;
     default:
-      jj_la1[89] = jj_gen;
+      jj_la1[101] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4530,7 +4674,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
              {if (true) return SqlLiteral.createNull(getPos());}
       break;
     default:
-      jj_la1[90] = jj_gen;
+      jj_la1[102] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4573,7 +4717,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
           ;
           break;
         default:
-          jj_la1[91] = jj_gen;
+          jj_la1[103] = jj_gen;
           break label_14;
         }
         jj_consume_token(QUOTED_STRING);
@@ -4617,7 +4761,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             charSet = "UTF16";
         break;
       default:
-        jj_la1[92] = jj_gen;
+        jj_la1[104] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4639,7 +4783,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
           ;
           break;
         default:
-          jj_la1[93] = jj_gen;
+          jj_la1[105] = jj_gen;
           break label_15;
         }
         jj_consume_token(QUOTED_STRING);
@@ -4668,7 +4812,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             unicodeEscapeChar = SqlParserUtil.checkUnicodeEscapeChar(s);
         break;
       default:
-        jj_la1[94] = jj_gen;
+        jj_la1[106] = jj_gen;
         ;
       }
 
@@ -4689,7 +4833,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         }
       break;
     default:
-      jj_la1[95] = jj_gen;
+      jj_la1[107] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4743,7 +4887,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return parseTimestampLiteral(token.image, pos.plus(getPos()));}
       break;
     default:
-      jj_la1[96] = jj_gen;
+      jj_la1[108] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4755,7 +4899,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     List args;
     SqlNode e;
     SqlParserPos pos;
-    if (jj_2_33(2)) {
+    if (jj_2_35(2)) {
       jj_consume_token(MULTISET);
                  pos = getPos();
       jj_consume_token(LPAREN);
@@ -4780,7 +4924,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             ;
             break;
           default:
-            jj_la1[97] = jj_gen;
+            jj_la1[109] = jj_gen;
             break label_16;
           }
           jj_consume_token(COMMA);
@@ -4792,7 +4936,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             pos.plus(getPos()), SqlParserUtil.toNodeArray(args));}
         break;
       default:
-        jj_la1[98] = jj_gen;
+        jj_la1[110] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4823,13 +4967,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                  sign = 1;
         break;
       default:
-        jj_la1[99] = jj_gen;
+        jj_la1[111] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[100] = jj_gen;
+      jj_la1[112] = jj_gen;
       ;
     }
     jj_consume_token(QUOTED_STRING);
@@ -4854,10 +4998,10 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[101] = jj_gen;
+        jj_la1[113] = jj_gen;
         ;
       }
-      if (jj_2_34(2)) {
+      if (jj_2_36(2)) {
         jj_consume_token(TO);
         jj_consume_token(MONTH);
                 end = SqlIntervalQualifier.TimeUnit.MONTH;
@@ -4875,7 +5019,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[102] = jj_gen;
+        jj_la1[114] = jj_gen;
         ;
       }
           start = SqlIntervalQualifier.TimeUnit.MONTH;
@@ -4889,10 +5033,10 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[103] = jj_gen;
+        jj_la1[115] = jj_gen;
         ;
       }
-      if (jj_2_35(2)) {
+      if (jj_2_37(2)) {
         jj_consume_token(TO);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case HOUR:
@@ -4913,12 +5057,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             jj_consume_token(RPAREN);
             break;
           default:
-            jj_la1[104] = jj_gen;
+            jj_la1[116] = jj_gen;
             ;
           }
           break;
         default:
-          jj_la1[105] = jj_gen;
+          jj_la1[117] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4936,10 +5080,10 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[106] = jj_gen;
+        jj_la1[118] = jj_gen;
         ;
       }
-      if (jj_2_36(2)) {
+      if (jj_2_38(2)) {
         jj_consume_token(TO);
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case MINUTE:
@@ -4956,12 +5100,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             jj_consume_token(RPAREN);
             break;
           default:
-            jj_la1[107] = jj_gen;
+            jj_la1[119] = jj_gen;
             ;
           }
           break;
         default:
-          jj_la1[108] = jj_gen;
+          jj_la1[120] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4979,10 +5123,10 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[109] = jj_gen;
+        jj_la1[121] = jj_gen;
         ;
       }
-      if (jj_2_37(2)) {
+      if (jj_2_39(2)) {
         jj_consume_token(TO);
         jj_consume_token(SECOND);
                            end = SqlIntervalQualifier.TimeUnit.SECOND;
@@ -4993,7 +5137,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[110] = jj_gen;
+          jj_la1[122] = jj_gen;
           ;
         }
       } else {
@@ -5013,19 +5157,19 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
           secondFracPrec = UnsignedIntLiteral();
           break;
         default:
-          jj_la1[111] = jj_gen;
+          jj_la1[123] = jj_gen;
           ;
         }
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[112] = jj_gen;
+        jj_la1[124] = jj_gen;
         ;
       }
           start = SqlIntervalQualifier.TimeUnit.SECOND;
       break;
     default:
-      jj_la1[113] = jj_gen;
+      jj_la1[125] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5064,7 +5208,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         {if (true) return SqlIntervalQualifier.TimeUnit.SECOND;}
       break;
     default:
-      jj_la1[114] = jj_gen;
+      jj_la1[126] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5110,7 +5254,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 unicodeEscapeChar = SqlParserUtil.checkUnicodeEscapeChar(s);
         break;
       default:
-        jj_la1[115] = jj_gen;
+        jj_la1[127] = jj_gen;
         ;
       }
 
@@ -5341,7 +5485,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       id = NonReservedKeyWord();
       break;
     default:
-      jj_la1[116] = jj_gen;
+      jj_la1[128] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5381,7 +5525,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[117] = jj_gen;
+        jj_la1[129] = jj_gen;
         break label_17;
       }
       jj_consume_token(COMMA);
@@ -5409,7 +5553,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         ;
         break;
       default:
-        jj_la1[118] = jj_gen;
+        jj_la1[130] = jj_gen;
         break label_18;
       }
       jj_consume_token(DOT);
@@ -5467,7 +5611,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         t = jj_consume_token(UNSIGNED_INTEGER_LITERAL);
         break;
       default:
-        jj_la1[119] = jj_gen;
+        jj_la1[131] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5487,7 +5631,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         }
       break;
     default:
-      jj_la1[120] = jj_gen;
+      jj_la1[132] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5514,13 +5658,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         scale = UnsignedIntLiteral();
         break;
       default:
-        jj_la1[121] = jj_gen;
+        jj_la1[133] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
       break;
     default:
-      jj_la1[122] = jj_gen;
+      jj_la1[134] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5530,7 +5674,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       charSetName = Identifier();
       break;
     default:
-      jj_la1[123] = jj_gen;
+      jj_la1[135] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5538,7 +5682,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       collectionTypeName = CollectionsTypeName();
       break;
     default:
-      jj_la1[124] = jj_gen;
+      jj_la1[136] = jj_gen;
       ;
     }
         if (null != collectionTypeName) {
@@ -5576,7 +5720,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(CHAR);
         break;
       default:
-        jj_la1[125] = jj_gen;
+        jj_la1[137] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5589,7 +5733,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     SqlTypeName.VARCHAR.name(), pos);
         break;
       default:
-        jj_la1[126] = jj_gen;
+        jj_la1[138] = jj_gen;
         ;
       }
       break;
@@ -5627,7 +5771,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(NUMERIC);
         break;
       default:
-        jj_la1[127] = jj_gen;
+        jj_la1[139] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5660,7 +5804,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                     SqlTypeName.VARBINARY.name(), pos);
         break;
       default:
-        jj_la1[128] = jj_gen;
+        jj_la1[140] = jj_gen;
         ;
       }
       break;
@@ -5696,7 +5840,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(PRECISION);
         break;
       default:
-        jj_la1[129] = jj_gen;
+        jj_la1[141] = jj_gen;
         ;
       }
             typeName = new SqlIdentifier(
@@ -5936,7 +6080,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       typeName = CompoundIdentifier();
       break;
     default:
-      jj_la1[130] = jj_gen;
+      jj_la1[142] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -6251,7 +6395,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                                     args.add(e);
         break;
       default:
-        jj_la1[131] = jj_gen;
+        jj_la1[143] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6336,7 +6480,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 args.add(e);
         break;
       default:
-        jj_la1[132] = jj_gen;
+        jj_la1[144] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -6358,7 +6502,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(CEILING);
         break;
       default:
-        jj_la1[133] = jj_gen;
+        jj_la1[145] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6379,7 +6523,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         jj_consume_token(COMMA);
         break;
       default:
-        jj_la1[134] = jj_gen;
+        jj_la1[146] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6396,7 +6540,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
           jj_consume_token(COMMA);
           break;
         default:
-          jj_la1[135] = jj_gen;
+          jj_la1[147] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6404,7 +6548,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
               args.add(e);
         break;
       default:
-        jj_la1[136] = jj_gen;
+        jj_la1[148] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -6417,7 +6561,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             SqlNode trimChars = null;
             pos = getPos();
       jj_consume_token(LPAREN);
-      if (jj_2_39(2)) {
+      if (jj_2_41(2)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case BOTH:
         case LEADING:
@@ -6442,16 +6586,16 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                         SqlTrimFunction.Flag.LEADING, pos);
             break;
           default:
-            jj_la1[137] = jj_gen;
+            jj_la1[149] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[138] = jj_gen;
+          jj_la1[150] = jj_gen;
           ;
         }
-        if (jj_2_38(1)) {
+        if (jj_2_40(1)) {
           trimChars = Expression(ExprContext.ACCEPT_SUBQUERY);
         } else {
           ;
@@ -6476,7 +6620,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                         pos, SqlParserUtil.toNodeArray(args));}
           break;
         default:
-          jj_la1[139] = jj_gen;
+          jj_la1[151] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6492,8 +6636,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 pos.plus(getPos()), SqlParserUtil.toNodeArray(args));}
       break;
     default:
-      jj_la1[140] = jj_gen;
-      if (jj_2_40(1)) {
+      jj_la1[152] = jj_gen;
+      if (jj_2_42(1)) {
         SqlNode node;
         node = ExtendedBuiltinFunctionCall();
         {if (true) return node;}
@@ -6543,19 +6687,19 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             funcType = SqlFunctionCategory.UserDefinedSpecificFunction;
       break;
     default:
-      jj_la1[141] = jj_gen;
+      jj_la1[153] = jj_gen;
       ;
     }
     qualifiedName = FunctionName();
             pos = getPos();
-    if (jj_2_41(2)) {
+    if (jj_2_43(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(STAR);
                                            starPos = getPos();
       jj_consume_token(RPAREN);
                 args = startList(new SqlIdentifier("*", starPos));
                 pos = pos.plus(getPos());
-    } else if (jj_2_42(2)) {
+    } else if (jj_2_44(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(RPAREN);
                 args = SqlParserUtil.emptyList;
@@ -6569,7 +6713,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                 args.remove(0);
         break;
       default:
-        jj_la1[142] = jj_gen;
+        jj_la1[154] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6810,13 +6954,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         e = WindowSpecification();
         break;
       default:
-        jj_la1[143] = jj_gen;
+        jj_la1[155] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[144] = jj_gen;
+      jj_la1[156] = jj_gen;
       ;
     }
             function = createCall(
@@ -7084,13 +7228,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         e = WindowSpecification();
         break;
       default:
-        jj_la1[145] = jj_gen;
+        jj_la1[157] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[146] = jj_gen;
+      jj_la1[158] = jj_gen;
       ;
     }
         SqlOperator op = floorFlag ?
@@ -7394,7 +7538,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       qualifiedName = ReservedFunctionName();
       break;
     default:
-      jj_la1[147] = jj_gen;
+      jj_la1[159] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -7523,7 +7667,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       jj_consume_token(VAR_SAMP);
       break;
     default:
-      jj_la1[148] = jj_gen;
+      jj_la1[160] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -7579,7 +7723,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       jj_consume_token(USER);
       break;
     default:
-      jj_la1[149] = jj_gen;
+      jj_la1[161] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -7877,18 +8021,18 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       name = Identifier();
       break;
     default:
-      jj_la1[150] = jj_gen;
+      jj_la1[162] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
-    if (jj_2_43(2)) {
+    if (jj_2_45(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(STAR);
                                           starPos = getPos();
       jj_consume_token(RPAREN);
                 args = new SqlNodeList(starPos);
                 args.add(new SqlIdentifier("*", starPos));
-    } else if (jj_2_44(2)) {
+    } else if (jj_2_46(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(RPAREN);
               args = new SqlNodeList(pos);
@@ -7898,7 +8042,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         args = ParenthesizedQueryOrCommaList(ExprContext.ACCEPT_SUBQUERY);
         break;
       default:
-        jj_la1[151] = jj_gen;
+        jj_la1[163] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7931,13 +8075,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                            op = SqlStdOperatorTable.unionOperator;
           break;
         default:
-          jj_la1[152] = jj_gen;
+          jj_la1[164] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[153] = jj_gen;
+        jj_la1[165] = jj_gen;
         ;
       }
       break;
@@ -7957,13 +8101,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                            op = SqlStdOperatorTable.intersectOperator;
           break;
         default:
-          jj_la1[154] = jj_gen;
+          jj_la1[166] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[155] = jj_gen;
+        jj_la1[167] = jj_gen;
         ;
       }
       break;
@@ -7983,18 +8127,18 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                            op = SqlStdOperatorTable.exceptOperator;
           break;
         default:
-          jj_la1[156] = jj_gen;
+          jj_la1[168] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[157] = jj_gen;
+        jj_la1[169] = jj_gen;
         ;
       }
       break;
     default:
-      jj_la1[158] = jj_gen;
+      jj_la1[170] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8025,13 +8169,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                op = SqlStdOperatorTable.multisetUnionOperator;
           break;
         default:
-          jj_la1[159] = jj_gen;
+          jj_la1[171] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[160] = jj_gen;
+        jj_la1[172] = jj_gen;
         ;
       }
       break;
@@ -8051,13 +8195,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                op = SqlStdOperatorTable.multisetIntersectOperator;
           break;
         default:
-          jj_la1[161] = jj_gen;
+          jj_la1[173] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[162] = jj_gen;
+        jj_la1[174] = jj_gen;
         ;
       }
       break;
@@ -8077,18 +8221,18 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                                op = SqlStdOperatorTable.multisetExceptOperator;
           break;
         default:
-          jj_la1[163] = jj_gen;
+          jj_la1[175] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[164] = jj_gen;
+        jj_la1[176] = jj_gen;
         ;
       }
       break;
     default:
-      jj_la1[165] = jj_gen;
+      jj_la1[177] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8154,8 +8298,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       {if (true) return SqlStdOperatorTable.orOperator;}
       break;
     default:
-      jj_la1[166] = jj_gen;
-      if (jj_2_45(2)) {
+      jj_la1[178] = jj_gen;
+      if (jj_2_47(2)) {
         jj_consume_token(IS);
         jj_consume_token(DISTINCT);
         jj_consume_token(FROM);
@@ -8185,7 +8329,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       {if (true) return op;}
           break;
         default:
-          jj_la1[167] = jj_gen;
+          jj_la1[179] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -8216,7 +8360,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                  {if (true) return SqlStdOperatorTable.existsOperator;}
       break;
     default:
-      jj_la1[168] = jj_gen;
+      jj_la1[180] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8254,7 +8398,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                           {if (true) return SqlStdOperatorTable.isNotUnknownOperator;}
         break;
       default:
-        jj_la1[169] = jj_gen;
+        jj_la1[181] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8281,13 +8425,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
                           {if (true) return SqlStdOperatorTable.isUnknownOperator;}
         break;
       default:
-        jj_la1[170] = jj_gen;
+        jj_la1[182] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[171] = jj_gen;
+      jj_la1[183] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -8980,7 +9124,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       jj_consume_token(ZONE);
       break;
     default:
-      jj_la1[172] = jj_gen;
+      jj_la1[184] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -9320,170 +9464,89 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     finally { jj_save(44, xla); }
   }
 
-  private boolean jj_3R_115() {
-    if (jj_3R_142()) return true;
-    return false;
+  private boolean jj_2_46(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_46(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(45, xla); }
   }
 
-  private boolean jj_3R_47() {
+  private boolean jj_2_47(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_47(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(46, xla); }
+  }
+
+  private boolean jj_3R_22() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_91()) {
+    if (jj_3R_62()) {
     jj_scanpos = xsp;
-    if (jj_3R_92()) {
+    if (jj_3R_63()) {
     jj_scanpos = xsp;
-    if (jj_3R_93()) return true;
+    if (jj_3R_64()) {
+    jj_scanpos = xsp;
+    if (jj_3R_65()) return true;
+    }
     }
     }
-    if (jj_3R_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
-    if (jj_3R_33()) return true;
+  private boolean jj_3R_43() {
+    if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_73() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_127()) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(23)) return true;
-    }
+  private boolean jj_3R_42() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
-    if (jj_scan_token(SYMMETRIC)) return true;
+  private boolean jj_3R_137() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_51() {
+  private boolean jj_3R_218() {
+    if (jj_3R_37()) return true;
+    return false;
+  }
+
+  private boolean jj_3_26() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_114()) {
+    if (jj_3R_42()) {
     jj_scanpos = xsp;
-    if (jj_3R_115()) return true;
+    if (jj_3R_43()) return true;
     }
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_65() {
-    if (jj_3R_121()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_45() {
-    if (jj_scan_token(BETWEEN)) return true;
+  private boolean jj_3_29() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_73()) jj_scanpos = xsp;
+    if (jj_3_26()) {
+    jj_scanpos = xsp;
+    if (jj_3_27()) {
+    jj_scanpos = xsp;
+    if (jj_3R_47()) {
+    jj_scanpos = xsp;
+    if (jj_3_28()) {
+    jj_scanpos = xsp;
+    if (jj_3R_48()) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_33()) return true;
-    if (jj_3R_34()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_44() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(BETWEEN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_184() {
-    if (jj_scan_token(SUBSTRING)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_120() {
-    if (jj_scan_token(UESCAPE)) return true;
-    if (jj_scan_token(QUOTED_STRING)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_64() {
-    if (jj_scan_token(UNICODE_QUOTED_IDENTIFIER)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_120()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_25() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_44()) {
-    jj_scanpos = xsp;
-    if (jj_3R_45()) return true;
-    }
-    if (jj_3R_41()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_63() {
-    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_62() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_22() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_62()) {
-    jj_scanpos = xsp;
-    if (jj_3R_63()) {
-    jj_scanpos = xsp;
-    if (jj_3R_64()) {
-    jj_scanpos = xsp;
-    if (jj_3R_65()) return true;
-    }
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_43() {
-    if (jj_scan_token(IN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_42() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(IN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_135() {
-    if (jj_scan_token(HOOK)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_214() {
-    if (jj_3R_37()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_185() {
-    if (jj_scan_token(LPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3_24() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_42()) {
-    jj_scanpos = xsp;
-    if (jj_3R_43()) return true;
-    }
-    if (jj_3R_37()) return true;
+  private boolean jj_3R_189() {
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
@@ -9492,31 +9555,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_27() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_24()) {
-    jj_scanpos = xsp;
-    if (jj_3_25()) {
-    jj_scanpos = xsp;
-    if (jj_3R_47()) {
-    jj_scanpos = xsp;
-    if (jj_3_26()) {
-    jj_scanpos = xsp;
-    if (jj_3R_48()) return true;
-    }
-    }
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_147() {
+  private boolean jj_3R_151() {
     Token xsp;
-    if (jj_3_27()) return true;
+    if (jj_3_29()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_27()) { jj_scanpos = xsp; break; }
+      if (jj_3_29()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -9525,9 +9569,9 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     if (jj_3R_41()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_147()) {
+    if (jj_3R_151()) {
     jj_scanpos = xsp;
-    if (jj_3R_148()) return true;
+    if (jj_3R_152()) return true;
     }
     return false;
   }
@@ -9537,12 +9581,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_171() {
-    if (jj_3R_185()) return true;
+  private boolean jj_3R_175() {
+    if (jj_3R_189()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
+  private boolean jj_3_44() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
@@ -9553,30 +9597,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_37() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_19()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_69()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_32() {
-    if (jj_scan_token(CROSS)) return true;
-    return false;
-  }
-
-  private boolean jj_3_37() {
+  private boolean jj_3_39() {
     if (jj_scan_token(TO)) return true;
     if (jj_scan_token(SECOND)) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
+  private boolean jj_3_43() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(STAR)) return true;
     return false;
@@ -9587,26 +9614,11 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_31() {
-    if (jj_scan_token(FULL)) return true;
-    return false;
-  }
-
   private boolean jj_3R_23() {
     if (jj_3R_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_30() {
-    if (jj_scan_token(RIGHT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_29() {
-    if (jj_scan_token(LEFT)) return true;
-    return false;
-  }
-
   private boolean jj_3R_54() {
     if (jj_scan_token(SECOND)) return true;
     return false;
@@ -9617,7 +9629,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_36() {
+  private boolean jj_3_38() {
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -9628,8 +9640,20 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_28() {
-    if (jj_scan_token(INNER)) return true;
+  private boolean jj_3R_37() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_19()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_69()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_32() {
+    if (jj_scan_token(CROSS)) return true;
     return false;
   }
 
@@ -9638,42 +9662,48 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_27() {
-    if (jj_scan_token(JOIN)) return true;
+  private boolean jj_3R_31() {
+    if (jj_scan_token(FULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_170() {
+  private boolean jj_3R_174() {
     if (jj_scan_token(SPECIFIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_143() {
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
+  private boolean jj_3R_30() {
+    if (jj_scan_token(RIGHT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_29() {
+    if (jj_scan_token(LEFT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_140() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_170()) jj_scanpos = xsp;
+    if (jj_3R_174()) jj_scanpos = xsp;
     if (jj_3R_51()) return true;
     xsp = jj_scanpos;
-    if (jj_3_41()) {
+    if (jj_3_43()) {
     jj_scanpos = xsp;
-    if (jj_3_42()) {
+    if (jj_3_44()) {
     jj_scanpos = xsp;
-    if (jj_3R_171()) return true;
+    if (jj_3R_175()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_26() {
-    return false;
-  }
-
-  private boolean jj_3_35() {
+  private boolean jj_3_37() {
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -9687,7 +9717,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_22() {
+  private boolean jj_3_24() {
     if (jj_3R_23()) return true;
     return false;
   }
@@ -9695,13 +9725,33 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
   private boolean jj_3R_119() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_22()) {
+    if (jj_3_24()) {
     jj_scanpos = xsp;
-    if (jj_3R_143()) return true;
+    if (jj_3R_145()) return true;
     }
     return false;
   }
 
+  private boolean jj_3R_28() {
+    if (jj_scan_token(INNER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_27() {
+    if (jj_scan_token(JOIN)) return true;
+    return false;
+  }
+
+  private boolean jj_3_36() {
+    if (jj_scan_token(TO)) return true;
+    if (jj_scan_token(MONTH)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_26() {
+    return false;
+  }
+
   private boolean jj_3R_25() {
     if (jj_scan_token(NATURAL)) return true;
     return false;
@@ -9747,73 +9797,57 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_scan_token(TO)) return true;
-    if (jj_scan_token(MONTH)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_145() {
-    if (jj_3R_174()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
+  private boolean jj_3R_229() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
+  private boolean jj_3R_217() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_224()) {
+    if (jj_3R_228()) {
     jj_scanpos = xsp;
-    if (jj_3R_225()) return true;
+    if (jj_3R_229()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_224() {
+  private boolean jj_3R_228() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
+  private boolean jj_3R_186() {
     if (jj_scan_token(INTERVAL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_213()) jj_scanpos = xsp;
+    if (jj_3R_217()) jj_scanpos = xsp;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_3R_217()) return true;
-    return false;
-  }
-
   private boolean jj_3R_61() {
     if (jj_3R_119()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_145()) { jj_scanpos = xsp; break; }
+      if (jj_3R_147()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_40() {
+  private boolean jj_3_42() {
     if (jj_3R_60()) return true;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_23()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_187() {
-    if (jj_3R_216()) return true;
+  private boolean jj_3R_192() {
+    if (jj_3R_221()) return true;
     return false;
   }
 
@@ -9822,28 +9856,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_173() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_186()) {
-    jj_scanpos = xsp;
-    if (jj_3R_187()) {
-    jj_scanpos = xsp;
-    if (jj_3R_188()) return true;
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_186() {
-    if (jj_3R_215()) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_23()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_22()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_191() {
+    if (jj_3R_220()) return true;
     return false;
   }
 
@@ -9852,19 +9871,39 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_173() {
     if (jj_scan_token(MULTISET)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
+  private boolean jj_3R_177() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_190()) {
+    jj_scanpos = xsp;
+    if (jj_3R_191()) {
+    jj_scanpos = xsp;
+    if (jj_3R_192()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_190() {
+    if (jj_3R_219()) return true;
+    return false;
+  }
+
+  private boolean jj_3_40() {
     if (jj_3R_23()) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_146()) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_22()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
@@ -9873,32 +9912,35 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_33() {
+  private boolean jj_3_35() {
     if (jj_scan_token(MULTISET)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
+  private boolean jj_3R_139() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_33()) {
+    if (jj_3_35()) {
     jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
+    if (jj_3R_173()) return true;
     }
     return false;
   }
 
+  private boolean jj_3_23() {
+    if (jj_scan_token(NULLS)) return true;
+    if (jj_scan_token(LAST)) return true;
+    return false;
+  }
+
   private boolean jj_3R_117() {
     if (jj_scan_token(TRAILING)) return true;
     return false;
   }
 
-  private boolean jj_3R_19() {
-    if (jj_3R_61()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_123()) jj_scanpos = xsp;
+  private boolean jj_3R_150() {
+    if (jj_scan_token(FETCH)) return true;
     return false;
   }
 
@@ -9906,8 +9948,9 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_116() {
-    if (jj_scan_token(BOTH)) return true;
+  private boolean jj_3_22() {
+    if (jj_scan_token(NULLS)) return true;
+    if (jj_scan_token(FIRST)) return true;
     return false;
   }
 
@@ -9924,23 +9967,23 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_40() {
-    if (jj_3R_23()) return true;
+  private boolean jj_3R_116() {
+    if (jj_scan_token(BOTH)) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
+  private boolean jj_3R_216() {
     if (jj_scan_token(TIMESTAMP)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
+  private boolean jj_3_41() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_57()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_38()) jj_scanpos = xsp;
+    if (jj_3_40()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_58()) {
     jj_scanpos = xsp;
@@ -9949,21 +9992,28 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_211() {
+  private boolean jj_3R_149() {
+    if (jj_scan_token(OFFSET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_215() {
     if (jj_scan_token(TIME)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_40()) return true;
+  private boolean jj_3R_125() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_149()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_150()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_210() {
-    if (jj_scan_token(DATE)) return true;
-    if (jj_scan_token(QUOTED_STRING)) return true;
+  private boolean jj_3R_40() {
+    if (jj_3R_23()) return true;
     return false;
   }
 
@@ -9976,7 +10026,18 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_209() {
+  private boolean jj_3R_214() {
+    if (jj_scan_token(DATE)) return true;
+    if (jj_scan_token(QUOTED_STRING)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_124() {
+    if (jj_scan_token(LIMIT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_213() {
     if (jj_scan_token(LBRACE_TS)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
@@ -9988,31 +10049,50 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_208() {
+  private boolean jj_3_21() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_40()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_123() {
+    if (jj_3R_148()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_212() {
     if (jj_scan_token(LBRACE_T)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
-    if (jj_scan_token(ORDER)) return true;
+  private boolean jj_3R_19() {
+    if (jj_3R_61()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_123()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_124()) {
+    jj_scanpos = xsp;
+    if (jj_3R_125()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_181() {
+  private boolean jj_3R_185() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_207()) {
+    if (jj_3R_211()) {
     jj_scanpos = xsp;
-    if (jj_3R_208()) {
+    if (jj_3R_212()) {
     jj_scanpos = xsp;
-    if (jj_3R_209()) {
+    if (jj_3R_213()) {
     jj_scanpos = xsp;
-    if (jj_3R_210()) {
+    if (jj_3R_214()) {
     jj_scanpos = xsp;
-    if (jj_3R_211()) {
+    if (jj_3R_215()) {
     jj_scanpos = xsp;
-    if (jj_3R_212()) return true;
+    if (jj_3R_216()) return true;
     }
     }
     }
@@ -10021,7 +10101,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_207() {
+  private boolean jj_3R_211() {
     if (jj_scan_token(LBRACE_D)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
@@ -10033,9 +10113,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_20()) return true;
+  private boolean jj_3R_148() {
+    if (jj_scan_token(ORDER)) return true;
     return false;
   }
 
@@ -10046,17 +10125,23 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(53)) return true;
     }
-    if (jj_3R_183()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
   private boolean jj_3R_110() {
     if (jj_scan_token(FLOOR)) return true;
-    if (jj_3R_183()) return true;
+    if (jj_3R_187()) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
+  private boolean jj_3_7() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_20()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_227() {
     if (jj_scan_token(UESCAPE)) return true;
     return false;
   }
@@ -10067,54 +10152,49 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_222() {
+  private boolean jj_3R_226() {
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  private boolean jj_3R_21() {
-    if (jj_scan_token(WHEN)) return true;
-    if (jj_scan_token(MATCHED)) return true;
-    return false;
-  }
-
   private boolean jj_3R_108() {
     if (jj_scan_token(TRANSLATE)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
+  private boolean jj_3R_225() {
     if (jj_scan_token(UNICODE_STRING_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_220() {
+  private boolean jj_3R_21() {
+    if (jj_scan_token(WHEN)) return true;
+    if (jj_scan_token(MATCHED)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_224() {
     if (jj_scan_token(PREFIXED_STRING_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_202() {
+  private boolean jj_3R_206() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_220()) {
+    if (jj_3R_224()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(527)) {
+    if (jj_scan_token(528)) {
     jj_scanpos = xsp;
-    if (jj_3R_221()) return true;
+    if (jj_3R_225()) return true;
     }
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_222()) { jj_scanpos = xsp; break; }
+      if (jj_3R_226()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_223()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_6() {
-    if (jj_3R_21()) return true;
+    if (jj_3R_227()) jj_scanpos = xsp;
     return false;
   }
 
@@ -10124,7 +10204,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_219() {
+  private boolean jj_3_6() {
+    if (jj_3R_21()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_223() {
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
@@ -10135,22 +10220,22 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_179() {
+  private boolean jj_3R_183() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_201()) {
+    if (jj_3R_205()) {
     jj_scanpos = xsp;
-    if (jj_3R_202()) return true;
+    if (jj_3R_206()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_201() {
+  private boolean jj_3R_205() {
     if (jj_scan_token(BINARY_STRING_LITERAL)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_219()) { jj_scanpos = xsp; break; }
+      if (jj_3R_223()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -10196,7 +10281,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_3R_113()) {
     jj_scanpos = xsp;
-    if (jj_3_40()) return true;
+    if (jj_3_42()) return true;
     }
     }
     }
@@ -10210,213 +10295,200 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_206() {
+  private boolean jj_3R_210() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
+  private boolean jj_3R_209() {
     if (jj_scan_token(UNKNOWN)) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
+  private boolean jj_3R_208() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_180() {
+  private boolean jj_3R_184() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_203()) {
+    if (jj_3R_207()) {
     jj_scanpos = xsp;
-    if (jj_3R_204()) {
+    if (jj_3R_208()) {
     jj_scanpos = xsp;
-    if (jj_3R_205()) {
+    if (jj_3R_209()) {
     jj_scanpos = xsp;
-    if (jj_3R_206()) return true;
+    if (jj_3R_210()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_203() {
+  private boolean jj_3R_207() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
-    if (jj_3R_218()) return true;
+  private boolean jj_3R_204() {
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
+  private boolean jj_3R_203() {
     if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_218()) return true;
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
+  private boolean jj_3R_182() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_198()) {
+    if (jj_3R_202()) {
     jj_scanpos = xsp;
-    if (jj_3R_199()) {
+    if (jj_3R_203()) {
     jj_scanpos = xsp;
-    if (jj_3R_200()) return true;
+    if (jj_3R_204()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_198() {
+  private boolean jj_3R_202() {
     if (jj_scan_token(PLUS)) return true;
-    if (jj_3R_218()) return true;
+    if (jj_3R_222()) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_126() {
+    if (jj_scan_token(CURSOR)) return true;
     if (jj_3R_23()) return true;
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_scan_token(CURSOR)) return true;
+  private boolean jj_3_19() {
+    if (jj_scan_token(COMMA)) return true;
     if (jj_3R_23()) return true;
     return false;
   }
 
-  private boolean jj_3R_228() {
+  private boolean jj_3R_232() {
     if (jj_scan_token(APPROX_NUMERIC_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_38() {
-    if (jj_3R_23()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_19()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_227() {
+  private boolean jj_3R_231() {
     if (jj_scan_token(DECIMAL_NUMERIC_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
+  private boolean jj_3R_222() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_226()) {
+    if (jj_3R_230()) {
     jj_scanpos = xsp;
-    if (jj_3R_227()) {
+    if (jj_3R_231()) {
     jj_scanpos = xsp;
-    if (jj_3R_228()) return true;
+    if (jj_3R_232()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_226() {
+  private boolean jj_3R_230() {
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_159() {
+  private boolean jj_3R_38() {
+    if (jj_3R_23()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_19()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_163() {
     if (jj_scan_token(UNKNOWN)) return true;
     return false;
   }
 
-  private boolean jj_3R_158() {
+  private boolean jj_3R_162() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
+  private boolean jj_3R_161() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_164() {
-    if (jj_3R_182()) return true;
+  private boolean jj_3R_168() {
+    if (jj_3R_186()) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
+  private boolean jj_3R_160() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
-    if (jj_3R_181()) return true;
+  private boolean jj_3R_167() {
+    if (jj_3R_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
+  private boolean jj_3R_135() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_156()) {
+    if (jj_3R_160()) {
     jj_scanpos = xsp;
-    if (jj_3R_157()) {
+    if (jj_3R_161()) {
     jj_scanpos = xsp;
-    if (jj_3R_158()) {
+    if (jj_3R_162()) {
     jj_scanpos = xsp;
-    if (jj_3R_159()) return true;
+    if (jj_3R_163()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_162() {
-    if (jj_3R_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3_18() {
-    if (jj_scan_token(GROUP)) return true;
-    if (jj_scan_token(BY)) return true;
-    if (jj_3R_38()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_161() {
-    if (jj_3R_179()) return true;
+  private boolean jj_3R_166() {
+    if (jj_3R_184()) return true;
     return false;
   }
-
-  private boolean jj_3_5() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_20()) return true;
+
+  private boolean jj_3R_165() {
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
+  private boolean jj_3R_134() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
+  private boolean jj_3R_133() {
     if (jj_scan_token(A)) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
+  private boolean jj_3R_136() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_160()) {
+    if (jj_3R_164()) {
     jj_scanpos = xsp;
-    if (jj_3R_161()) {
+    if (jj_3R_165()) {
     jj_scanpos = xsp;
-    if (jj_3R_162()) {
+    if (jj_3R_166()) {
     jj_scanpos = xsp;
-    if (jj_3R_163()) {
+    if (jj_3R_167()) {
     jj_scanpos = xsp;
-    if (jj_3R_164()) return true;
+    if (jj_3R_168()) return true;
     }
     }
     }
@@ -10424,8 +10496,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_160() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_164() {
+    if (jj_3R_182()) return true;
     return false;
   }
 
@@ -10433,59 +10505,72 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     if (jj_scan_token(IS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_131()) {
+    if (jj_3R_133()) {
     jj_scanpos = xsp;
-    if (jj_3R_132()) {
+    if (jj_3R_134()) {
     jj_scanpos = xsp;
-    if (jj_3R_133()) return true;
+    if (jj_3R_135()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_152() {
+  private boolean jj_3_18() {
+    if (jj_scan_token(GROUP)) return true;
+    if (jj_scan_token(BY)) return true;
+    if (jj_3R_38()) return true;
+    return false;
+  }
+
+  private boolean jj_3_5() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_20()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_156() {
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_151() {
+  private boolean jj_3R_155() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
+  private boolean jj_3R_154() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_125() {
+  private boolean jj_3R_127() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_149()) {
+    if (jj_3R_153()) {
     jj_scanpos = xsp;
-    if (jj_3R_150()) {
+    if (jj_3R_154()) {
     jj_scanpos = xsp;
-    if (jj_3R_151()) {
+    if (jj_3R_155()) {
     jj_scanpos = xsp;
-    if (jj_3R_152()) return true;
+    if (jj_3R_156()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_149() {
+  private boolean jj_3R_153() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
+  private boolean jj_3R_143() {
     if (jj_scan_token(WHEN)) return true;
     return false;
   }
 
   private boolean jj_3R_90() {
-    if (jj_3R_128()) return true;
+    if (jj_3R_130()) return true;
     return false;
   }
 
@@ -10495,7 +10580,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_30() {
+  private boolean jj_3_32() {
     if (jj_3R_23()) return true;
     return false;
   }
@@ -10506,12 +10591,6 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
   private boolean jj_3R_87() {
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
@@ -10519,7 +10598,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_45() {
+  private boolean jj_3_47() {
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DISTINCT)) return true;
     if (jj_scan_token(FROM)) return true;
@@ -10531,23 +10610,19 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_23()) return true;
-    return false;
-  }
-
   private boolean jj_3R_85() {
     if (jj_scan_token(AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
-    if (jj_3R_33()) return true;
+  private boolean jj_3R_84() {
+    if (jj_scan_token(CONCAT)) return true;
     return false;
   }
 
-  private boolean jj_3R_84() {
-    if (jj_scan_token(CONCAT)) return true;
+  private boolean jj_3_4() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
@@ -10556,10 +10631,10 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_32() {
+  private boolean jj_3_34() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(425)) jj_scanpos = xsp;
+    if (jj_scan_token(426)) jj_scanpos = xsp;
     if (jj_3R_51()) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
@@ -10574,30 +10649,22 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     if (jj_scan_token(CASE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_30()) jj_scanpos = xsp;
-    if (jj_3R_141()) return true;
+    if (jj_3_32()) jj_scanpos = xsp;
+    if (jj_3R_143()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_141()) { jj_scanpos = xsp; break; }
+      if (jj_3R_143()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_16() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(390)) jj_scanpos = xsp;
-    if (jj_3R_37()) return true;
-    return false;
-  }
-
   private boolean jj_3R_81() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
   private boolean jj_3R_102() {
-    if (jj_3R_140()) return true;
+    if (jj_3R_142()) return true;
     return false;
   }
 
@@ -10606,25 +10673,28 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
+  private boolean jj_3_17() {
+    if (jj_3R_23()) return true;
+    return false;
+  }
+
   private boolean jj_3R_101() {
     if (jj_3R_33()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
-    if (jj_scan_token(NE)) return true;
+  private boolean jj_3R_176() {
+    if (jj_3R_33()) return true;
     return false;
   }
 
-  private boolean jj_3R_100() {
-    if (jj_3R_139()) return true;
+  private boolean jj_3R_79() {
+    if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_scan_token(ROW)) return true;
-    if (jj_3R_37()) return true;
+  private boolean jj_3R_100() {
+    if (jj_3R_141()) return true;
     return false;
   }
 
@@ -10634,7 +10704,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
   }
 
   private boolean jj_3R_99() {
-    if (jj_3R_138()) return true;
+    if (jj_3R_140()) return true;
     return false;
   }
 
@@ -10648,31 +10718,26 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(GT)) return true;
+  private boolean jj_3_16() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(391)) jj_scanpos = xsp;
+    if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_98() {
-    if (jj_3R_137()) return true;
+  private boolean jj_3R_75() {
+    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_36() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_15()) {
-    jj_scanpos = xsp;
-    if (jj_3_16()) {
-    jj_scanpos = xsp;
-    if (jj_3_17()) return true;
-    }
-    }
+  private boolean jj_3R_98() {
+    if (jj_3R_139()) return true;
     return false;
   }
 
   private boolean jj_3R_97() {
-    if (jj_3R_136()) return true;
+    if (jj_3R_138()) return true;
     return false;
   }
 
@@ -10710,7 +10775,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_3R_86()) {
     jj_scanpos = xsp;
-    if (jj_3_45()) {
+    if (jj_3_47()) {
     jj_scanpos = xsp;
     if (jj_3R_87()) {
     jj_scanpos = xsp;
@@ -10739,38 +10804,45 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_3R_201() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
+  private boolean jj_3_15() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(ROW)) return true;
+    if (jj_3R_37()) return true;
+    return false;
+  }
+
+  private boolean jj_3_33() {
     if (jj_3R_50()) return true;
     return false;
   }
 
   private boolean jj_3R_96() {
-    if (jj_3R_135()) return true;
+    if (jj_3R_137()) return true;
     return false;
   }
 
-  private boolean jj_3R_177() {
+  private boolean jj_3R_181() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_196()) {
+    if (jj_3R_200()) {
     jj_scanpos = xsp;
-    if (jj_3R_197()) return true;
+    if (jj_3R_201()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_196() {
+  private boolean jj_3R_200() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
   private boolean jj_3R_95() {
-    if (jj_3R_134()) return true;
+    if (jj_3R_136()) return true;
     return false;
   }
 
@@ -10781,7 +10853,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_3R_96()) {
     jj_scanpos = xsp;
-    if (jj_3_31()) {
+    if (jj_3_33()) {
     jj_scanpos = xsp;
     if (jj_3R_97()) {
     jj_scanpos = xsp;
@@ -10808,231 +10880,234 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_195() {
+  private boolean jj_3R_199() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
+  private boolean jj_3R_36() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_15()) {
+    jj_scanpos = xsp;
+    if (jj_3_16()) {
+    jj_scanpos = xsp;
+    if (jj_3_17()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_159() {
     if (jj_scan_token(EXCEPT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_177()) jj_scanpos = xsp;
+    if (jj_3R_181()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_176() {
+  private boolean jj_3R_180() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_194()) {
+    if (jj_3R_198()) {
     jj_scanpos = xsp;
-    if (jj_3R_195()) return true;
+    if (jj_3R_199()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_194() {
+  private boolean jj_3R_198() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
-    if (jj_3R_214()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_193() {
+  private boolean jj_3R_197() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_36()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_154() {
+  private boolean jj_3R_158() {
     if (jj_scan_token(INTERSECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_176()) jj_scanpos = xsp;
+    if (jj_3R_180()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_175() {
+  private boolean jj_3R_179() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_192()) {
+    if (jj_3R_196()) {
     jj_scanpos = xsp;
-    if (jj_3R_193()) return true;
+    if (jj_3R_197()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3R_196() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
-    if (jj_3R_36()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_153() {
+  private boolean jj_3R_157() {
     if (jj_scan_token(UNION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_175()) jj_scanpos = xsp;
+    if (jj_3R_179()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_60() {
-    if (jj_3R_68()) return true;
+  private boolean jj_3_14() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_36()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
+  private boolean jj_3R_234() {
+    if (jj_3R_36()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_130() {
     if (jj_scan_token(MULTISET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_153()) {
+    if (jj_3R_157()) {
     jj_scanpos = xsp;
-    if (jj_3R_154()) {
+    if (jj_3R_158()) {
     jj_scanpos = xsp;
-    if (jj_3R_155()) return true;
+    if (jj_3R_159()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_scan_token(VALUES)) return true;
-    if (jj_3R_230()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_229() {
-    if (true) { jj_la = 0; jj_scanpos = jj_lastpos; return false;}
-    return false;
-  }
-
-  private boolean jj_3R_191() {
+  private boolean jj_3R_195() {
     if (jj_scan_token(EXCEPT)) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_scan_token(WITH)) return true;
-    if (jj_scan_token(TYPE)) return true;
+  private boolean jj_3R_220() {
+    if (jj_scan_token(VALUES)) return true;
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
+  private boolean jj_3R_194() {
     if (jj_scan_token(INTERSECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_34() {
+  private boolean jj_3R_193() {
+    if (jj_scan_token(UNION)) return true;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_scan_token(TABLE)) return true;
-    if (jj_3R_33()) return true;
+  private boolean jj_3R_187() {
+    if (jj_3R_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
-    if (jj_scan_token(UNION)) return true;
+  private boolean jj_3_3() {
+    if (jj_scan_token(WITH)) return true;
+    if (jj_scan_token(TYPE)) return true;
     return false;
   }
 
-  private boolean jj_3R_174() {
+  private boolean jj_3R_178() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_189()) {
+    if (jj_3R_193()) {
     jj_scanpos = xsp;
-    if (jj_3R_190()) {
+    if (jj_3R_194()) {
     jj_scanpos = xsp;
-    if (jj_3R_191()) return true;
+    if (jj_3R_195()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_35() {
+  private boolean jj_3R_221() {
+    if (jj_scan_token(TABLE)) return true;
+    if (jj_3R_33()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_60() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  private boolean jj_3_44() {
+  private boolean jj_3_46() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_2() {
-    if (jj_3R_19()) return true;
+  private boolean jj_3_45() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_121() {
-    if (jj_3R_144()) return true;
+  private boolean jj_3R_172() {
+    if (jj_3R_22()) return true;
     return false;
   }
 
-  private boolean jj_3_43() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_171() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
-    if (jj_3R_22()) return true;
+  private boolean jj_3R_170() {
+    if (jj_3R_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
-    if (jj_3R_184()) return true;
+  private boolean jj_3R_233() {
+    if (true) { jj_la = 0; jj_scanpos = jj_lastpos; return false;}
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_3R_142()) return true;
+  private boolean jj_3_2() {
+    if (jj_3R_19()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
+  private boolean jj_3R_169() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
+  private boolean jj_3R_128() {
     if (jj_scan_token(ROW)) return true;
     return false;
   }
 
+  private boolean jj_3R_34() {
+    return false;
+  }
+
   private boolean jj_3R_72() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_126()) jj_scanpos = xsp;
+    if (jj_3R_128()) jj_scanpos = xsp;
     if (jj_3R_37()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
+  private boolean jj_3R_138() {
     if (jj_scan_token(LBRACE_FN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_165()) {
+    if (jj_3R_169()) {
     jj_scanpos = xsp;
-    if (jj_3R_166()) {
+    if (jj_3R_170()) {
     jj_scanpos = xsp;
-    if (jj_3R_167()) {
+    if (jj_3R_171()) {
     jj_scanpos = xsp;
-    if (jj_3R_168()) return true;
+    if (jj_3R_172()) return true;
     }
     }
     }
@@ -11040,12 +11115,22 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
   }
 
   private boolean jj_3R_71() {
-    if (jj_3R_125()) return true;
+    if (jj_3R_127()) return true;
     if (jj_3R_41()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
+  private boolean jj_3R_35() {
+    if (jj_3R_68()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_121() {
+    if (jj_3R_146()) return true;
+    return false;
+  }
+
+  private boolean jj_3_31() {
     if (jj_scan_token(ROW)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_20()) return true;
@@ -11053,11 +11138,11 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
   }
 
   private boolean jj_3R_70() {
-    if (jj_3R_124()) return true;
+    if (jj_3R_126()) return true;
     return false;
   }
 
-  private boolean jj_3R_144() {
+  private boolean jj_3R_146() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(1)) {
@@ -11306,23 +11391,21 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(302)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(308)) {
-    jj_scanpos = xsp;
     if (jj_scan_token(309)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(312)) {
+    if (jj_scan_token(310)) {
     jj_scanpos = xsp;
     if (jj_scan_token(313)) {
     jj_scanpos = xsp;
     if (jj_scan_token(314)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(317)) {
+    if (jj_scan_token(315)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(321)) {
+    if (jj_scan_token(318)) {
     jj_scanpos = xsp;
     if (jj_scan_token(322)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(324)) {
+    if (jj_scan_token(323)) {
     jj_scanpos = xsp;
     if (jj_scan_token(325)) {
     jj_scanpos = xsp;
@@ -11336,39 +11419,39 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(330)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(332)) {
+    if (jj_scan_token(331)) {
     jj_scanpos = xsp;
     if (jj_scan_token(333)) {
     jj_scanpos = xsp;
     if (jj_scan_token(334)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(338)) {
+    if (jj_scan_token(335)) {
     jj_scanpos = xsp;
     if (jj_scan_token(339)) {
     jj_scanpos = xsp;
     if (jj_scan_token(340)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(343)) {
+    if (jj_scan_token(341)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(346)) {
+    if (jj_scan_token(344)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(348)) {
+    if (jj_scan_token(347)) {
     jj_scanpos = xsp;
     if (jj_scan_token(349)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(351)) {
+    if (jj_scan_token(350)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(354)) {
+    if (jj_scan_token(352)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(369)) {
+    if (jj_scan_token(355)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(371)) {
+    if (jj_scan_token(370)) {
     jj_scanpos = xsp;
     if (jj_scan_token(372)) {
     jj_scanpos = xsp;
     if (jj_scan_token(373)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(376)) {
+    if (jj_scan_token(374)) {
     jj_scanpos = xsp;
     if (jj_scan_token(377)) {
     jj_scanpos = xsp;
@@ -11376,9 +11459,9 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(379)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(383)) {
+    if (jj_scan_token(380)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(386)) {
+    if (jj_scan_token(384)) {
     jj_scanpos = xsp;
     if (jj_scan_token(387)) {
     jj_scanpos = xsp;
@@ -11386,27 +11469,27 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(389)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(391)) {
+    if (jj_scan_token(390)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(395)) {
+    if (jj_scan_token(392)) {
     jj_scanpos = xsp;
     if (jj_scan_token(396)) {
     jj_scanpos = xsp;
     if (jj_scan_token(397)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(399)) {
+    if (jj_scan_token(398)) {
     jj_scanpos = xsp;
     if (jj_scan_token(400)) {
     jj_scanpos = xsp;
     if (jj_scan_token(401)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(405)) {
+    if (jj_scan_token(402)) {
     jj_scanpos = xsp;
     if (jj_scan_token(406)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(408)) {
+    if (jj_scan_token(407)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(410)) {
+    if (jj_scan_token(409)) {
     jj_scanpos = xsp;
     if (jj_scan_token(411)) {
     jj_scanpos = xsp;
@@ -11416,39 +11499,39 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(414)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(417)) {
+    if (jj_scan_token(415)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(419)) {
+    if (jj_scan_token(418)) {
     jj_scanpos = xsp;
     if (jj_scan_token(420)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(423)) {
+    if (jj_scan_token(421)) {
     jj_scanpos = xsp;
     if (jj_scan_token(424)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(426)) {
+    if (jj_scan_token(425)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(434)) {
+    if (jj_scan_token(427)) {
     jj_scanpos = xsp;
     if (jj_scan_token(435)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(439)) {
+    if (jj_scan_token(436)) {
     jj_scanpos = xsp;
     if (jj_scan_token(440)) {
     jj_scanpos = xsp;
     if (jj_scan_token(441)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(444)) {
+    if (jj_scan_token(442)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(450)) {
+    if (jj_scan_token(445)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(452)) {
+    if (jj_scan_token(451)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(454)) {
+    if (jj_scan_token(453)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(461)) {
+    if (jj_scan_token(455)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(463)) {
+    if (jj_scan_token(462)) {
     jj_scanpos = xsp;
     if (jj_scan_token(464)) {
     jj_scanpos = xsp;
@@ -11460,25 +11543,25 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(468)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(473)) {
+    if (jj_scan_token(469)) {
     jj_scanpos = xsp;
     if (jj_scan_token(474)) {
     jj_scanpos = xsp;
     if (jj_scan_token(475)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(478)) {
+    if (jj_scan_token(476)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(480)) {
+    if (jj_scan_token(479)) {
     jj_scanpos = xsp;
     if (jj_scan_token(481)) {
     jj_scanpos = xsp;
     if (jj_scan_token(482)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(486)) {
+    if (jj_scan_token(483)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(490)) {
+    if (jj_scan_token(487)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(492)) {
+    if (jj_scan_token(491)) {
     jj_scanpos = xsp;
     if (jj_scan_token(493)) {
     jj_scanpos = xsp;
@@ -11486,19 +11569,21 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(495)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(504)) {
+    if (jj_scan_token(496)) {
     jj_scanpos = xsp;
     if (jj_scan_token(505)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(515)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(514)) {
+    if (jj_scan_token(506)) {
     jj_scanpos = xsp;
     if (jj_scan_token(516)) {
     jj_scanpos = xsp;
+    if (jj_scan_token(515)) {
+    jj_scanpos = xsp;
     if (jj_scan_token(517)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(519)) return true;
+    if (jj_scan_token(518)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(520)) return true;
     }
     }
     }
@@ -11721,7 +11806,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_28() {
+  private boolean jj_3_30() {
     if (jj_3R_49()) return true;
     return false;
   }
@@ -11729,11 +11814,11 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
   private boolean jj_3R_41() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_28()) {
+    if (jj_3_30()) {
     jj_scanpos = xsp;
     if (jj_3R_70()) {
     jj_scanpos = xsp;
-    if (jj_3_29()) {
+    if (jj_3_31()) {
     jj_scanpos = xsp;
     if (jj_3R_71()) {
     jj_scanpos = xsp;
@@ -11745,13 +11830,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_140() {
+  private boolean jj_3R_142() {
     if (jj_scan_token(NEW)) return true;
-    if (jj_3R_172()) return true;
+    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
+  private boolean jj_3R_141() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(106)) {
@@ -11776,11 +11861,11 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(255)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(415)) {
+    if (jj_scan_token(416)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(448)) {
+    if (jj_scan_token(449)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(491)) return true;
+    if (jj_scan_token(492)) return true;
     }
     }
     }
@@ -11797,13 +11882,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_229()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_148() {
+  private boolean jj_3R_152() {
     return false;
   }
 
@@ -11813,6 +11892,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
+  private boolean jj_3R_219() {
+    if (jj_scan_token(SELECT)) return true;
+    if (jj_3R_233()) return true;
+    return false;
+  }
+
   private boolean jj_3R_48() {
     if (jj_3R_94()) return true;
     return false;
@@ -11828,13 +11913,13 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_26() {
+  private boolean jj_3_28() {
     if (jj_3R_46()) return true;
     if (jj_3R_41()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
+  private boolean jj_3_25() {
     if (jj_scan_token(ESCAPE)) return true;
     if (jj_3R_41()) return true;
     return false;
@@ -11851,12 +11936,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_35()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_130() {
+  private boolean jj_3R_132() {
     if (jj_scan_token(SIMILAR)) return true;
     return false;
   }
@@ -11866,12 +11946,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
-  private boolean jj_3R_129() {
+  private boolean jj_3R_131() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_142() {
+  private boolean jj_3R_144() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(2)) {
@@ -11928,27 +12008,27 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     jj_scanpos = xsp;
     if (jj_scan_token(301)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(335)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(342)) {
+    if (jj_scan_token(336)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(353)) {
+    if (jj_scan_token(343)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(392)) {
+    if (jj_scan_token(354)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(432)) {
+    if (jj_scan_token(393)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(437)) {
+    if (jj_scan_token(433)) {
     jj_scanpos = xsp;
     if (jj_scan_token(438)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(445)) {
+    if (jj_scan_token(439)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(489)) {
+    if (jj_scan_token(446)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(490)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(499)) {
+    if (jj_scan_token(500)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(500)) return true;
+    if (jj_scan_token(501)) return true;
     }
     }
     }
@@ -11989,24 +12069,143 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     return false;
   }
 
+  private boolean jj_3R_91() {
+    if (jj_scan_token(NOT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_131()) {
+    jj_scanpos = xsp;
+    if (jj_3R_132()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_13() {
+    if (jj_3R_35()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_39() {
+    if (jj_3R_22()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_115() {
+    if (jj_3R_144()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_47() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_91()) {
+    jj_scanpos = xsp;
+    if (jj_3R_92()) {
+    jj_scanpos = xsp;
+    if (jj_3R_93()) return true;
+    }
+    }
+    if (jj_3R_66()) return true;
+    return false;
+  }
+
   private boolean jj_3_1() {
     if (jj_3R_19()) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
-    if (jj_scan_token(NOT)) return true;
+  private boolean jj_3R_114() {
+    if (jj_3R_33()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_73() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_129()) {
     jj_scanpos = xsp;
-    if (jj_3R_130()) return true;
+    if (jj_scan_token(23)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_39() {
-    if (jj_3R_22()) return true;
+  private boolean jj_3R_129() {
+    if (jj_scan_token(SYMMETRIC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_51() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_114()) {
+    jj_scanpos = xsp;
+    if (jj_3R_115()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_65() {
+    if (jj_3R_121()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_45() {
+    if (jj_scan_token(BETWEEN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_73()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_44() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(BETWEEN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_188() {
+    if (jj_scan_token(SUBSTRING)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_120() {
+    if (jj_scan_token(UESCAPE)) return true;
+    if (jj_scan_token(QUOTED_STRING)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_64() {
+    if (jj_scan_token(UNICODE_QUOTED_IDENTIFIER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_120()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_27() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_44()) {
+    jj_scanpos = xsp;
+    if (jj_3R_45()) return true;
+    }
+    if (jj_3R_41()) return true;
+    return false;
+  }
+
+  private boolean jj_3_12() {
+    if (jj_3R_33()) return true;
+    if (jj_3R_34()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_63() {
+    if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_62() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
@@ -12024,7 +12223,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
   private boolean jj_lookingAhead = false;
   private boolean jj_semLA;
   private int jj_gen;
-  final private int[] jj_la1 = new int[173];
+  final private int[] jj_la1 = new int[185];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -12066,63 +12265,63 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
       jj_la1_init_18();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0x0,0x200,0x200,0x0,0x0,0x200,0x0,0x40000,0x0,0x0,0x200,0x0,0x0,0x40000,0x4c6c11fa,0x40000,0x4c6c11fa,0x0,0x40000,0x4c6c11fa,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x4c6c11fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x4c6c11fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x800,0x800,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x800000,0x800000,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x4c6811fa,0x0,0x6c6811fe,0x20000004,0x0,0x6c6811fe,0x0,0x200,0x200,0x200,0x200,0x200,0x200,0x0,0x200,0x200,0x200,0x200,0x200,0x200,0x0,0x4000,0x0,0x0,0x0,0x0,0x2,0x4c6811fa,};
+      jj_la1_0 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x0,0x0,0x200,0x0,0x40000,0x0,0x0,0x200,0x0,0x0,0x40000,0x4c6c11fa,0x40000,0x4c6c11fa,0x0,0x40000,0x4c6c11fa,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x4c6c11fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x0,0x4c6c11fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x800,0x800,0x0,0x0,0x0,0x80000,0x80000,0x0,0x0,0x0,0x0,0x800000,0x800000,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x4c6811fa,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4c6811fa,0x0,0x4c6811fa,0x0,0x6c6811fe,0x20000004,0x0,0x6c6811fe,0x0,0x200,0x200,0x200,0x200,0x200,0x200,0x0,0x200,0x200,0x200,0x200,0x200,0x200,0x0,0x4000,0x0,0x0,0x0,0x0,0x2,0x4c6811fa,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0xf84c4501,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84d4501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x2800000,0x0,0x0,0x0,0x0,0xfacc454d,0xfacc454d,0x0,0x300000,0x0,0x0,0x0,0x80,0x80,0x0,0x320000,0x0,0x0,0xf84c4501,0x0,0xf84c4501,0x0,0xfd4c6501,0x5002000,0x0,0xfd4c6501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,};
+      jj_la1_1 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0xf84c4501,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84d4501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x2800000,0x0,0x0,0x0,0x0,0xfacc454d,0xfacc454d,0x0,0x300000,0x0,0x0,0x0,0x80,0x80,0x0,0x320000,0x0,0x0,0xf84c4501,0x0,0xf84c4501,0x0,0xfd4c6501,0x5002000,0x0,0xfd4c6501,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf84c4501,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0xbf6ae7a2,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0xbf6ae7a2,0x0,0xbf6ae7a2,0x0,0xbf6aefb2,0x810,0x0,0xbf6aefb2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,};
+      jj_la1_2 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0xbf6ae7a2,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,0xbf6ae7a2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0xbf6ae7a2,0x0,0xbf6ae7a2,0x0,0xbf6aefb2,0x810,0x0,0xbf6aefb2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbf6ae7a2,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x6a00000,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x1000200,0x0,0x0,0x0,0x0,0x0,0x1000200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0x100000,0x0,0x0,0x0,0x1000000,0x0,0x6abfc00,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60000000,0x0,0x0,0x67a00000,0x67a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x6a00000,0x0,0x6a30904,0x30904,0xbfc00,0x6a30904,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,};
+      jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x6a00000,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x0,0x0,0x1000200,0x0,0x0,0x0,0x0,0x0,0x1000200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0x100000,0x0,0x0,0x0,0x1000000,0x0,0x6abfc00,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x8000000,0x0,0x6a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60000000,0x0,0x0,0x67a00000,0x67a00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,0x0,0x6a00000,0x0,0x6a30904,0x30904,0xbfc00,0x6a30904,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6a00000,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x0,0x0,0x200000,0x200000,0x0,0x80,0x200000,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0xc52ea7e,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcd2ea7e,0xcd2ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0xc52ea7e,0x0,0x2c52eb7e,0x20000100,0x0,0x2c52eb7e,0x0,0x200000,0x200000,0x200000,0x200000,0x200000,0x200000,0x0,0x200000,0x200000,0x200000,0x200000,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,};
+      jj_la1_4 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0x80,0x200000,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0xc52ea7e,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x2000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcd2ea7e,0xcd2ea7e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,0x0,0xc52ea7e,0x0,0x2c52eb7e,0x20000100,0x0,0x2c52eb7e,0x0,0x200000,0x200000,0x200000,0x200000,0x200000,0x200000,0x0,0x200000,0x200000,0x200000,0x200000,0x200000,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc52ea7e,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x80,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0xc8c00e2,0x0,0xc8c00e2,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x800000,0x800000,0x8000,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x8000,0x0,0xc8c00e2,0x8000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcac00e2,0xcac00e2,0x1000000,0x0,0x20000000,0x1000000,0x1000000,0x0,0x0,0x20000000,0x404000,0x0,0x0,0xc8c00e2,0x0,0xc8c00e2,0x0,0xc9c08e2,0x100800,0x0,0xc9c08e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x400,0x8000,0x8000,0x8000,0xc8c00e2,};
+      jj_la1_5 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x80,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0xc8c00e2,0x0,0xc8c00e2,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x800000,0x800000,0x8000,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x8000,0x0,0xc8c00e2,0x8000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc8c00e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xcac00e2,0xcac00e2,0x1000000,0x0,0x20000000,0x1000000,0x1000000,0x0,0x0,0x20000000,0x404000,0x0,0x0,0xc8c00e2,0x0,0xc8c00e2,0x0,0xc9c08e2,0x100800,0x0,0xc9c08e2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x400,0x8000,0x8000,0x8000,0xc8c00e2,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x400000,0x0,0x20000000,0x0,0x0,0x400000,0x0,0x0,0xc9c622ce,0x0,0xc9c622ce,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x1000,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x8000,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0xc9c622ce,0x0,0xc9c622cf,0x1,0x0,0xe9c622cf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,};
+      jj_la1_6 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x400000,0x0,0x20000000,0x0,0x0,0x400000,0x0,0x0,0xc9c622ce,0x0,0xc9c622ce,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x1000,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x8000,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0xc9c622ce,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,0x0,0xc9c622ce,0x0,0xc9c622cf,0x1,0x0,0xe9c622cf,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc9c622ce,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x384fb40,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x400400,0x0,0x100000,0x100000,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x4000000,0x4000000,0x80,0x4000080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0xc384fb40,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb43,0x384fb53,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x384fb40,0x0,0xd38cfb40,0xd0080000,0xc0000000,0xd38cfb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x80,0x0,0x0,0x0,0x0,0x384fb40,};
+      jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x384fb40,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x400400,0x0,0x100000,0x100000,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x4000000,0x4000000,0x80,0x4000080,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0xc384fb40,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x384fb43,0x384fb53,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0x0,0x0,0x0,0x384fb40,0x0,0x384fb40,0x0,0xd38cfb40,0xd0080000,0xc0000000,0xd38cfb40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x80,0x0,0x0,0x0,0x0,0x384fb40,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x43a11cad,0x0,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400100,0x0,0x108000,0x108000,0x0,0x0,0x0,0x0,0x0,0x400000,0xc3a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x108000,0x108000,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x43e11cad,0x43e11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x43a11cad,0x0,0x43a35cef,0x24042,0x0,0x43a35cef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400100,0x0,0x0,0x0,0x0,0x43a11cad,};
+      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x43a11cad,0x0,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x8000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400100,0x0,0x108000,0x108000,0x0,0x0,0x0,0x0,0x0,0x400000,0xc3a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x0,0x8000,0x0,0x0,0x8000,0x0,0x0,0x0,0x0,0x108000,0x108000,0x0,0x43a11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x0,0x0,0x0,0x43e11cad,0x43e11cad,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x43a11cad,0x0,0x43a11cad,0x0,0x43a35cef,0x24042,0x0,0x43a35cef,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400100,0x0,0x0,0x0,0x0,0x43a11cad,};
    }
    private static void jj_la1_init_9() {
-      jj_la1_9 = new int[] {0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27305691,0x0,0x27305691,0x0,0x0,0x27305691,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27305691,0x0,0x0,0x10000000,0x10000000,0x10000000,0x0,0x20000,0x0,0x0,0x0,0x0,0x27305691,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27305691,0x0,0x800000,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x20,0x0,0x20,0x20,0x0,0x400020,0x0,0x80000000,0x80000000,0x0,0x20,0x0,0x0,0x40,0x0,0x27305691,0x40,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27305691,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x27305e91,0x27305e91,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27305691,0x40000000,0x27305691,0x40000000,0x27307791,0x2100,0x0,0x27307791,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x20,0x40,0x40,0x60,0x27305691,};
+      jj_la1_9 = new int[] {0x1000000,0x0,0x0,0x10000,0x0,0x0,0x10000,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e605691,0x0,0x4e605691,0x0,0x0,0x4e605691,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e605691,0x0,0x0,0x20000000,0x20000000,0x20000000,0x0,0x40000,0x0,0x0,0x0,0x0,0x4e605691,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e605691,0x0,0x1000000,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x200,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x20,0x0,0x20,0x20,0x0,0x800020,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x40,0x0,0x4e605691,0x40,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e605691,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x0,0x4e605e91,0x4e605e91,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e605691,0x80000000,0x4e605691,0x80000000,0x4e607791,0x2100,0x0,0x4e607791,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x20,0x40,0x40,0x60,0x4e605691,};
    }
    private static void jj_la1_init_10() {
-      jj_la1_10 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb49c77f6,0x0,0xb49c77f6,0x0,0x0,0xb49c77f6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb49c77f6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb49c77f6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb49c77f6,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb49c77f6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb49c77f6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0xb49c77f6,0xb49c77f6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200001,0x0,0x0,0xb49c77f6,0x0,0xb49c77f6,0x0,0xb4dcf7f6,0x408000,0x0,0xb4dcf7f6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xb49c77f6,};
+      jj_la1_10 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6938efec,0x0,0x6938efec,0x0,0x0,0x6938efec,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6938efec,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6938efec,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6938efec,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x6938efec,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6938efec,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x6938efec,0x6938efec,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400002,0x0,0x0,0x6938efec,0x0,0x6938efec,0x0,0x69b9efec,0x810000,0x0,0x69b9efec,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6938efec,};
    }
    private static void jj_la1_init_11() {
-      jj_la1_11 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,0x0,0x8f3a0004,0x0,0x0,0x8f3a0004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,0x0,0x0,0x0,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,0x0,0x0,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0014,0x8f3a0014,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,0x0,0x8f3a0004,0x0,0x8f3a0006,0x2,0x0,0x8f3a0006,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8f3a0004,};
+      jj_la1_11 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740009,0x0,0x1e740009,0x0,0x0,0x1e740009,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740009,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x1e740009,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740009,0x0,0x0,0x2,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740009,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740009,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740029,0x1e740029,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740009,0x0,0x1e740009,0x0,0x1e74000d,0x4,0x0,0x1e74000d,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1e740009,};
    }
    private static void jj_la1_init_12() {
-      jj_la1_12 = new int[] {0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7d63b8bc,0x0,0x7d63b8bc,0x0,0x0,0x7d63b8bc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7d63b8bc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7d63b8bc,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x7d63b8bc,0x0,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x100000,0x100000,0x0,0x40,0x0,0x0,0x0,0x0,0xfd63b8bc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x0,0x100000,0x0,0x0,0x0,0x0,0x100000,0x100000,0x0,0x7d63b8bc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7d63b8bc,0x7d63b8bc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7d63b8bc,0x0,0x7d63b8bc,0x0,0x7d63b9bc,0x100,0x80000000,0x7d63b9bc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7d63b8bc,};
+      jj_la1_12 = new int[] {0x0,0x480,0x480,0x0,0x480,0x480,0x0,0x0,0x480,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfac77179,0x0,0xfac77179,0x0,0x0,0xfac77179,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfac77179,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfac77179,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0xfac77179,0x0,0x0,0x400,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x200000,0x200000,0x0,0x80,0x0,0x0,0x0,0x0,0xfac77179,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x200000,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0xfac77179,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfac77179,0xfac77179,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfac77179,0x0,0xfac77179,0x0,0xfac77379,0x200,0x0,0xfac77379,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfac77179,};
    }
    private static void jj_la1_init_13() {
-      jj_la1_13 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x138c059a,0x0,0x138c059a,0x0,0x0,0x138c059a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x138c059a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x138c059a,0x80000000,0x0,0x90000000,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x138c059a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x40000000,0x40000000,0x40000000,0x0,0x4,0x4,0x4,0x0,0x4000004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x138c059a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x138c059a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x138c05ba,0x138c05ba,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x200,0x0,0x138c059a,0x0,0x138c059a,0x0,0x33ed059a,0x20610000,0x0,0x3bed059a,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x0,0x0,0x0,0x138c059a,};
+      jj_la1_13 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27180b34,0x0,0x27180b34,0x0,0x0,0x27180b34,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27180b34,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27180b34,0x0,0x0,0x20000000,0x0,0x400,0x0,0x0,0x0,0x0,0x0,0x27180b34,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x80000000,0x80000000,0x0,0x8,0x8,0x8,0x0,0x8000008,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27180b35,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27180b34,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x27180b74,0x27180b74,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x400,0x0,0x27180b34,0x0,0x27180b34,0x0,0x67da0b34,0x40c20000,0x1,0x77da0b34,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x0,0x0,0x0,0x27180b34,};
    }
    private static void jj_la1_init_14() {
-      jj_la1_14 = new int[] {0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e1fa054,0x0,0x4e1fa054,0x0,0x0,0x4e1fa054,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e1fa054,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x4e1fa054,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x4e1fa054,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x4e1fa055,0x20000180,0x0,0x0,0x20000000,0x0,0x0,0x0,0x80000000,0x0,0x180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x4e1fa054,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4e1fa9d4,0x4e1fa9d4,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x10200000,0x0,0x0,0x4e1fa054,0x0,0x4e1fa054,0x0,0x4e1fa054,0x0,0x1,0x4e1fa054,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x20000000,0x4e1fa054,};
+      jj_la1_14 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9c3f40a8,0x0,0x9c3f40a8,0x0,0x0,0x9c3f40a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9c3f40a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x9c3f40a8,0x1,0x0,0x1,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x9c3f40a8,0x0,0x0,0x0,0x40000300,0x0,0x0,0x0,0x0,0x0,0x40000300,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000300,0x0,0x9c3f40aa,0x40000300,0x0,0x0,0x40000000,0x0,0x0,0x0,0x0,0x0,0x300,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9c3f40a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9c3f53a8,0x9c3f53a8,0x0,0x0,0x0,0x0,0x0,0x8000,0x8000,0x0,0x20400000,0x0,0x0,0x9c3f40a8,0x0,0x9c3f40a8,0x0,0x9c3f40a8,0x0,0x2,0x9c3f40a8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000000,0x40000000,0x40000000,0x9c3f40a8,};
    }
    private static void jj_la1_init_15() {
-      jj_la1_15 = new int[] {0x0,0x40000,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x100,0x80000000,0x0,0x0,0x0,0x0,0x300f447,0x0,0x300f447,0x0,0x0,0x300f447,0x4000000,0x4000000,0x0,0x0,0x0,0x0,0x0,0x300f447,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x80,0x0,0x0,0x300f447,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x40000000,0x300f447,0x0,0x0,0x0,0x21,0x0,0x0,0x0,0x0,0x0,0x21,0x0,0x8,0x40000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x0,0x20,0x0,0x300fc47,0x20,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x300f447,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x800000,0x0,0x360f447,0x360f447,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x300f447,0x0,0x300f447,0x0,0x318f647,0x180200,0x800,0x318f647,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x20,0x20,0x20,0x300f447,};
+      jj_la1_15 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x601e88e,0x0,0x601e88e,0x0,0x0,0x601e88e,0x8000000,0x8000000,0x0,0x0,0x0,0x0,0x0,0x601e88e,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x100,0x0,0x0,0x601e88e,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x80000000,0x601e88e,0x0,0x0,0x0,0x42,0x0,0x0,0x0,0x0,0x0,0x42,0x0,0x0,0x0,0x10,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x40,0x0,0x601f88e,0x40,0x0,0x0,0x40,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x601e88e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x1000000,0x0,0x6c1e88e,0x6c1e88e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x601e88e,0x0,0x601e88e,0x0,0x631ec8e,0x300400,0x1000,0x631ec8e,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x40,0x40,0x40,0x601e88e,};
    }
    private static void jj_la1_init_16() {
-      jj_la1_16 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x100000,0x0,0xbc,0x0,0xbc,0x0,0x0,0xbc,0x0,0x0,0x0,0x100000,0x200000,0x0,0x0,0xbc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100000,0x0,0x100000,0xbc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbc,0x0,0x0,0x0,0x1c3c700,0x0,0x0,0x0,0x0,0x0,0x1c3c700,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x40,0x0,0x100000,0x0,0x0,0x1c3c700,0x2000000,0xbc,0x1c3c700,0x700,0x700,0x0,0x8000,0x38000,0x8000,0x0,0x3c000,0x1c00000,0x0,0x0,0x0,0x0,0x100000,0x100000,0x100000,0x100000,0x0,0x100000,0x100000,0x0,0x100000,0x100000,0x0,0x100000,0x40,0x40,0x0,0xbc,0x0,0x80000000,0x100,0x100,0x0,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbc,0xbc,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x0,0x100000,0x1000bc,0x0,0x1000bc,0x0,0xbc,0x0,0x0,0xbc,0x100000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xbc,};
+      jj_la1_16 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5,0x0,0x0,0x200000,0x0,0x178,0x0,0x178,0x0,0x0,0x178,0x0,0x0,0x0,0x200000,0x400000,0x0,0x0,0x178,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x0,0x200000,0x178,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x178,0x0,0x0,0x0,0x3878e00,0x0,0x0,0x0,0x0,0x0,0x3878e00,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x0,0x200000,0x0,0x0,0x3878e00,0x4000000,0x178,0x3878e00,0xe00,0xe00,0x0,0x10000,0x70000,0x10000,0x0,0x78000,0x3800000,0x0,0x0,0x0,0x0,0x200000,0x200000,0x200000,0x200000,0x0,0x200000,0x200000,0x0,0x200000,0x200000,0x0,0x200000,0x80,0x80,0x0,0x178,0x0,0x0,0x200,0x200,0x0,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x178,0x178,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400000,0x0,0x0,0x200000,0x200178,0x0,0x200178,0x0,0x178,0x0,0x0,0x178,0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x178,};
    }
    private static void jj_la1_init_17() {
-      jj_la1_17 = new int[] {0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x80000000,0x1,0x0,0x80000000,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x80000000,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x600,0x0,0x0,0x0,0x0,0x0,0x600,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fce,0x0,0x0,0x0,0x0,0x600,0x0,0x0,0x610,0x0,0x80000000,0x600,0x0,0x600,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x600,0x600,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x80000000,0x1,0x0,0x200,0x600,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x0,0x0,0x1,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x80000000,0x0,0x80000000,0x0,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3fce,0x0,0x600,0x0,0x0,0x0,0x0,};
+      jj_la1_17 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x2,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc00,0x0,0x0,0x0,0x0,0x0,0xc00,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f9c,0x0,0x0,0x0,0x0,0xc00,0x0,0x0,0xc20,0x0,0x0,0xc00,0x0,0xc00,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0xc00,0xc00,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x2,0x1,0x400,0xc00,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f9c,0x0,0xc00,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_18() {
-      jj_la1_18 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x3,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3,0x0,0x3,0x0,0x3,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_18 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x7,0x0,0x7,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[45];
+  final private JJCalls[] jj_2_rtns = new JJCalls[47];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -12137,7 +12336,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 173; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -12152,7 +12351,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 173; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -12163,7 +12362,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 173; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -12174,7 +12373,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 173; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -12184,7 +12383,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 173; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -12194,7 +12393,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 173; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -12306,12 +12505,12 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[581];
+    boolean[] la1tokens = new boolean[582];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 173; i++) {
+    for (int i = 0; i < 185; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -12374,7 +12573,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
         }
       }
     }
-    for (int i = 0; i < 581; i++) {
+    for (int i = 0; i < 582; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -12401,7 +12600,7 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 45; i++) {
+    for (int i = 0; i < 47; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -12453,6 +12652,8 @@ public class SqlParserImpl extends SqlAbstractParserImpl implements SqlParserImp
             case 42: jj_3_43(); break;
             case 43: jj_3_44(); break;
             case 44: jj_3_45(); break;
+            case 45: jj_3_46(); break;
+            case 46: jj_3_47(); break;
           }
         }
         p = p.next;
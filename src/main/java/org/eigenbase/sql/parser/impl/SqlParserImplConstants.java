@@ -617,539 +617,541 @@ public interface SqlParserImplConstants {
   /** RegularExpression Id. */
   int OF = 303;
   /** RegularExpression Id. */
-  int OLD = 304;
+  int OFFSET = 304;
   /** RegularExpression Id. */
-  int ON = 305;
+  int OLD = 305;
   /** RegularExpression Id. */
-  int ONLY = 306;
+  int ON = 306;
   /** RegularExpression Id. */
-  int OPEN = 307;
+  int ONLY = 307;
   /** RegularExpression Id. */
-  int OPTION = 308;
+  int OPEN = 308;
   /** RegularExpression Id. */
-  int OPTIONS = 309;
+  int OPTION = 309;
   /** RegularExpression Id. */
-  int OR = 310;
+  int OPTIONS = 310;
   /** RegularExpression Id. */
-  int ORDER = 311;
+  int OR = 311;
   /** RegularExpression Id. */
-  int ORDERING = 312;
+  int ORDER = 312;
   /** RegularExpression Id. */
-  int ORDINALITY = 313;
+  int ORDERING = 313;
   /** RegularExpression Id. */
-  int OTHERS = 314;
+  int ORDINALITY = 314;
   /** RegularExpression Id. */
-  int OUT = 315;
+  int OTHERS = 315;
   /** RegularExpression Id. */
-  int OUTER = 316;
+  int OUT = 316;
   /** RegularExpression Id. */
-  int OUTPUT = 317;
+  int OUTER = 317;
   /** RegularExpression Id. */
-  int OVER = 318;
+  int OUTPUT = 318;
   /** RegularExpression Id. */
-  int OVERLAPS = 319;
+  int OVER = 319;
   /** RegularExpression Id. */
-  int OVERLAY = 320;
+  int OVERLAPS = 320;
   /** RegularExpression Id. */
-  int OVERRIDING = 321;
+  int OVERLAY = 321;
   /** RegularExpression Id. */
-  int PAD = 322;
+  int OVERRIDING = 322;
   /** RegularExpression Id. */
-  int PARAMETER = 323;
+  int PAD = 323;
   /** RegularExpression Id. */
-  int PARAMETER_MODE = 324;
+  int PARAMETER = 324;
   /** RegularExpression Id. */
-  int PARAMETER_NAME = 325;
+  int PARAMETER_MODE = 325;
   /** RegularExpression Id. */
-  int PARAMETER_ORDINAL_POSITION = 326;
+  int PARAMETER_NAME = 326;
   /** RegularExpression Id. */
-  int PARAMETER_SPECIFIC_CATALOG = 327;
+  int PARAMETER_ORDINAL_POSITION = 327;
   /** RegularExpression Id. */
-  int PARAMETER_SPECIFIC_NAME = 328;
+  int PARAMETER_SPECIFIC_CATALOG = 328;
   /** RegularExpression Id. */
-  int PARAMETER_SPECIFIC_SCHEMA = 329;
+  int PARAMETER_SPECIFIC_NAME = 329;
   /** RegularExpression Id. */
-  int PARTIAL = 330;
+  int PARAMETER_SPECIFIC_SCHEMA = 330;
   /** RegularExpression Id. */
-  int PARTITION = 331;
+  int PARTIAL = 331;
   /** RegularExpression Id. */
-  int PASCAL = 332;
+  int PARTITION = 332;
   /** RegularExpression Id. */
-  int PASSTHROUGH = 333;
+  int PASCAL = 333;
   /** RegularExpression Id. */
-  int PATH = 334;
+  int PASSTHROUGH = 334;
   /** RegularExpression Id. */
-  int PERCENT_RANK = 335;
+  int PATH = 335;
   /** RegularExpression Id. */
-  int PERCENTILE_CONT = 336;
+  int PERCENT_RANK = 336;
   /** RegularExpression Id. */
-  int PERCENTILE_DISC = 337;
+  int PERCENTILE_CONT = 337;
   /** RegularExpression Id. */
-  int PLACING = 338;
+  int PERCENTILE_DISC = 338;
   /** RegularExpression Id. */
-  int PLAN = 339;
+  int PLACING = 339;
   /** RegularExpression Id. */
-  int PLI = 340;
+  int PLAN = 340;
   /** RegularExpression Id. */
-  int POSITION = 341;
+  int PLI = 341;
   /** RegularExpression Id. */
-  int POWER = 342;
+  int POSITION = 342;
   /** RegularExpression Id. */
-  int PRECEDING = 343;
+  int POWER = 343;
   /** RegularExpression Id. */
-  int PRECISION = 344;
+  int PRECEDING = 344;
   /** RegularExpression Id. */
-  int PREPARE = 345;
+  int PRECISION = 345;
   /** RegularExpression Id. */
-  int PRESERVE = 346;
+  int PREPARE = 346;
   /** RegularExpression Id. */
-  int PRIMARY = 347;
+  int PRESERVE = 347;
   /** RegularExpression Id. */
-  int PRIOR = 348;
+  int PRIMARY = 348;
   /** RegularExpression Id. */
-  int PRIVILEGES = 349;
+  int PRIOR = 349;
   /** RegularExpression Id. */
-  int PROCEDURE = 350;
+  int PRIVILEGES = 350;
   /** RegularExpression Id. */
-  int PUBLIC = 351;
+  int PROCEDURE = 351;
   /** RegularExpression Id. */
-  int RANGE = 352;
+  int PUBLIC = 352;
   /** RegularExpression Id. */
-  int RANK = 353;
+  int RANGE = 353;
   /** RegularExpression Id. */
-  int READ = 354;
+  int RANK = 354;
   /** RegularExpression Id. */
-  int READS = 355;
+  int READ = 355;
   /** RegularExpression Id. */
-  int REAL = 356;
+  int READS = 356;
   /** RegularExpression Id. */
-  int RECURSIVE = 357;
+  int REAL = 357;
   /** RegularExpression Id. */
-  int REF = 358;
+  int RECURSIVE = 358;
   /** RegularExpression Id. */
-  int REFERENCES = 359;
+  int REF = 359;
   /** RegularExpression Id. */
-  int REFERENCING = 360;
+  int REFERENCES = 360;
   /** RegularExpression Id. */
-  int REGR_AVGX = 361;
+  int REFERENCING = 361;
   /** RegularExpression Id. */
-  int REGR_AVGY = 362;
+  int REGR_AVGX = 362;
   /** RegularExpression Id. */
-  int REGR_COUNT = 363;
+  int REGR_AVGY = 363;
   /** RegularExpression Id. */
-  int REGR_INTERCEPT = 364;
+  int REGR_COUNT = 364;
   /** RegularExpression Id. */
-  int REGR_R2 = 365;
+  int REGR_INTERCEPT = 365;
   /** RegularExpression Id. */
-  int REGR_SLOPE = 366;
+  int REGR_R2 = 366;
   /** RegularExpression Id. */
-  int REGR_SXX = 367;
+  int REGR_SLOPE = 367;
   /** RegularExpression Id. */
-  int REGR_SXY = 368;
+  int REGR_SXX = 368;
   /** RegularExpression Id. */
-  int RELATIVE = 369;
+  int REGR_SXY = 369;
   /** RegularExpression Id. */
-  int RELEASE = 370;
+  int RELATIVE = 370;
   /** RegularExpression Id. */
-  int REPEATABLE = 371;
+  int RELEASE = 371;
   /** RegularExpression Id. */
-  int RESTART = 372;
+  int REPEATABLE = 372;
   /** RegularExpression Id. */
-  int RESTRICT = 373;
+  int RESTART = 373;
   /** RegularExpression Id. */
-  int RESULT = 374;
+  int RESTRICT = 374;
   /** RegularExpression Id. */
-  int RETURN = 375;
+  int RESULT = 375;
   /** RegularExpression Id. */
-  int RETURNED_CARDINALITY = 376;
+  int RETURN = 376;
   /** RegularExpression Id. */
-  int RETURNED_LENGTH = 377;
+  int RETURNED_CARDINALITY = 377;
   /** RegularExpression Id. */
-  int RETURNED_OCTET_LENGTH = 378;
+  int RETURNED_LENGTH = 378;
   /** RegularExpression Id. */
-  int RETURNED_SQLSTATE = 379;
+  int RETURNED_OCTET_LENGTH = 379;
   /** RegularExpression Id. */
-  int RETURNS = 380;
+  int RETURNED_SQLSTATE = 380;
   /** RegularExpression Id. */
-  int REVOKE = 381;
+  int RETURNS = 381;
   /** RegularExpression Id. */
-  int RIGHT = 382;
+  int REVOKE = 382;
   /** RegularExpression Id. */
-  int ROLE = 383;
+  int RIGHT = 383;
   /** RegularExpression Id. */
-  int ROLLBACK = 384;
+  int ROLE = 384;
   /** RegularExpression Id. */
-  int ROLLUP = 385;
+  int ROLLBACK = 385;
   /** RegularExpression Id. */
-  int ROUTINE = 386;
+  int ROLLUP = 386;
   /** RegularExpression Id. */
-  int ROUTINE_CATALOG = 387;
+  int ROUTINE = 387;
   /** RegularExpression Id. */
-  int ROUTINE_NAME = 388;
+  int ROUTINE_CATALOG = 388;
   /** RegularExpression Id. */
-  int ROUTINE_SCHEMA = 389;
+  int ROUTINE_NAME = 389;
   /** RegularExpression Id. */
-  int ROW = 390;
+  int ROUTINE_SCHEMA = 390;
   /** RegularExpression Id. */
-  int ROW_COUNT = 391;
+  int ROW = 391;
   /** RegularExpression Id. */
-  int ROW_NUMBER = 392;
+  int ROW_COUNT = 392;
   /** RegularExpression Id. */
-  int ROWS = 393;
+  int ROW_NUMBER = 393;
   /** RegularExpression Id. */
-  int SAVEPOINT = 394;
+  int ROWS = 394;
   /** RegularExpression Id. */
-  int SCALE = 395;
+  int SAVEPOINT = 395;
   /** RegularExpression Id. */
-  int SCHEMA = 396;
+  int SCALE = 396;
   /** RegularExpression Id. */
-  int SCHEMA_NAME = 397;
+  int SCHEMA = 397;
   /** RegularExpression Id. */
-  int SCOPE = 398;
+  int SCHEMA_NAME = 398;
   /** RegularExpression Id. */
-  int SCOPE_CATALOGS = 399;
+  int SCOPE = 399;
   /** RegularExpression Id. */
-  int SCOPE_NAME = 400;
+  int SCOPE_CATALOGS = 400;
   /** RegularExpression Id. */
-  int SCOPE_SCHEMA = 401;
+  int SCOPE_NAME = 401;
   /** RegularExpression Id. */
-  int SCROLL = 402;
+  int SCOPE_SCHEMA = 402;
   /** RegularExpression Id. */
-  int SEARCH = 403;
+  int SCROLL = 403;
   /** RegularExpression Id. */
-  int SECOND = 404;
+  int SEARCH = 404;
   /** RegularExpression Id. */
-  int SECTION = 405;
+  int SECOND = 405;
   /** RegularExpression Id. */
-  int SECURITY = 406;
+  int SECTION = 406;
   /** RegularExpression Id. */
-  int SELECT = 407;
+  int SECURITY = 407;
   /** RegularExpression Id. */
-  int SELF = 408;
+  int SELECT = 408;
   /** RegularExpression Id. */
-  int SENSITIVE = 409;
+  int SELF = 409;
   /** RegularExpression Id. */
-  int SEQUENCE = 410;
+  int SENSITIVE = 410;
   /** RegularExpression Id. */
-  int SERIALIZABLE = 411;
+  int SEQUENCE = 411;
   /** RegularExpression Id. */
-  int SERVER = 412;
+  int SERIALIZABLE = 412;
   /** RegularExpression Id. */
-  int SERVER_NAME = 413;
+  int SERVER = 413;
   /** RegularExpression Id. */
-  int SESSION = 414;
+  int SERVER_NAME = 414;
   /** RegularExpression Id. */
-  int SESSION_USER = 415;
+  int SESSION = 415;
   /** RegularExpression Id. */
-  int SET = 416;
+  int SESSION_USER = 416;
   /** RegularExpression Id. */
-  int SETS = 417;
+  int SET = 417;
   /** RegularExpression Id. */
-  int SIMILAR = 418;
+  int SETS = 418;
   /** RegularExpression Id. */
-  int SIMPLE = 419;
+  int SIMILAR = 419;
   /** RegularExpression Id. */
-  int SIZE = 420;
+  int SIMPLE = 420;
   /** RegularExpression Id. */
-  int SMALLINT = 421;
+  int SIZE = 421;
   /** RegularExpression Id. */
-  int SOME = 422;
+  int SMALLINT = 422;
   /** RegularExpression Id. */
-  int SOURCE = 423;
+  int SOME = 423;
   /** RegularExpression Id. */
-  int SPACE = 424;
+  int SOURCE = 424;
   /** RegularExpression Id. */
-  int SPECIFIC = 425;
+  int SPACE = 425;
   /** RegularExpression Id. */
-  int SPECIFIC_NAME = 426;
+  int SPECIFIC = 426;
   /** RegularExpression Id. */
-  int SPECIFICTYPE = 427;
+  int SPECIFIC_NAME = 427;
   /** RegularExpression Id. */
-  int SQL = 428;
+  int SPECIFICTYPE = 428;
   /** RegularExpression Id. */
-  int SQLEXCEPTION = 429;
+  int SQL = 429;
   /** RegularExpression Id. */
-  int SQLSTATE = 430;
+  int SQLEXCEPTION = 430;
   /** RegularExpression Id. */
-  int SQLWARNING = 431;
+  int SQLSTATE = 431;
   /** RegularExpression Id. */
-  int SQRT = 432;
+  int SQLWARNING = 432;
   /** RegularExpression Id. */
-  int START = 433;
+  int SQRT = 433;
   /** RegularExpression Id. */
-  int STATE = 434;
+  int START = 434;
   /** RegularExpression Id. */
-  int STATEMENT = 435;
+  int STATE = 435;
   /** RegularExpression Id. */
-  int STATIC = 436;
+  int STATEMENT = 436;
   /** RegularExpression Id. */
-  int STDDEV_POP = 437;
+  int STATIC = 437;
   /** RegularExpression Id. */
-  int STDDEV_SAMP = 438;
+  int STDDEV_POP = 438;
   /** RegularExpression Id. */
-  int STRUCTURE = 439;
+  int STDDEV_SAMP = 439;
   /** RegularExpression Id. */
-  int STYLE = 440;
+  int STRUCTURE = 440;
   /** RegularExpression Id. */
-  int SUBCLASS_ORIGIN = 441;
+  int STYLE = 441;
   /** RegularExpression Id. */
-  int SUBMULTISET = 442;
+  int SUBCLASS_ORIGIN = 442;
   /** RegularExpression Id. */
-  int SUBSTRING = 443;
+  int SUBMULTISET = 443;
   /** RegularExpression Id. */
-  int SUBSTITUTE = 444;
+  int SUBSTRING = 444;
   /** RegularExpression Id. */
-  int SUM = 445;
+  int SUBSTITUTE = 445;
   /** RegularExpression Id. */
-  int SYMMETRIC = 446;
+  int SUM = 446;
   /** RegularExpression Id. */
-  int SYSTEM = 447;
+  int SYMMETRIC = 447;
   /** RegularExpression Id. */
-  int SYSTEM_USER = 448;
+  int SYSTEM = 448;
   /** RegularExpression Id. */
-  int TABLE = 449;
+  int SYSTEM_USER = 449;
   /** RegularExpression Id. */
-  int TABLE_NAME = 450;
+  int TABLE = 450;
   /** RegularExpression Id. */
-  int TABLESAMPLE = 451;
+  int TABLE_NAME = 451;
   /** RegularExpression Id. */
-  int TEMPORARY = 452;
+  int TABLESAMPLE = 452;
   /** RegularExpression Id. */
-  int THEN = 453;
+  int TEMPORARY = 453;
   /** RegularExpression Id. */
-  int TIES = 454;
+  int THEN = 454;
   /** RegularExpression Id. */
-  int TIME = 455;
+  int TIES = 455;
   /** RegularExpression Id. */
-  int TIMESTAMP = 456;
+  int TIME = 456;
   /** RegularExpression Id. */
-  int TIMEZONE_HOUR = 457;
+  int TIMESTAMP = 457;
   /** RegularExpression Id. */
-  int TIMEZONE_MINUTE = 458;
+  int TIMEZONE_HOUR = 458;
   /** RegularExpression Id. */
-  int TINYINT = 459;
+  int TIMEZONE_MINUTE = 459;
   /** RegularExpression Id. */
-  int TO = 460;
+  int TINYINT = 460;
   /** RegularExpression Id. */
-  int TOP_LEVEL_COUNT = 461;
+  int TO = 461;
   /** RegularExpression Id. */
-  int TRAILING = 462;
+  int TOP_LEVEL_COUNT = 462;
   /** RegularExpression Id. */
-  int TRANSACTION = 463;
+  int TRAILING = 463;
   /** RegularExpression Id. */
-  int TRANSACTIONS_ACTIVE = 464;
+  int TRANSACTION = 464;
   /** RegularExpression Id. */
-  int TRANSACTIONS_COMMITTED = 465;
+  int TRANSACTIONS_ACTIVE = 465;
   /** RegularExpression Id. */
-  int TRANSACTIONS_ROLLED_BACK = 466;
+  int TRANSACTIONS_COMMITTED = 466;
   /** RegularExpression Id. */
-  int TRANSFORM = 467;
+  int TRANSACTIONS_ROLLED_BACK = 467;
   /** RegularExpression Id. */
-  int TRANSFORMS = 468;
+  int TRANSFORM = 468;
   /** RegularExpression Id. */
-  int TRANSLATE = 469;
+  int TRANSFORMS = 469;
   /** RegularExpression Id. */
-  int TRANSLATION = 470;
+  int TRANSLATE = 470;
   /** RegularExpression Id. */
-  int TREAT = 471;
+  int TRANSLATION = 471;
   /** RegularExpression Id. */
-  int TRIGGER = 472;
+  int TREAT = 472;
   /** RegularExpression Id. */
-  int TRIGGER_CATALOG = 473;
+  int TRIGGER = 473;
   /** RegularExpression Id. */
-  int TRIGGER_NAME = 474;
+  int TRIGGER_CATALOG = 474;
   /** RegularExpression Id. */
-  int TRIGGER_SCHEMA = 475;
+  int TRIGGER_NAME = 475;
   /** RegularExpression Id. */
-  int TRIM = 476;
+  int TRIGGER_SCHEMA = 476;
   /** RegularExpression Id. */
-  int TRUE = 477;
+  int TRIM = 477;
   /** RegularExpression Id. */
-  int TYPE = 478;
+  int TRUE = 478;
   /** RegularExpression Id. */
-  int UESCAPE = 479;
+  int TYPE = 479;
   /** RegularExpression Id. */
-  int UNBOUNDED = 480;
+  int UESCAPE = 480;
   /** RegularExpression Id. */
-  int UNCOMMITTED = 481;
+  int UNBOUNDED = 481;
   /** RegularExpression Id. */
-  int UNDER = 482;
+  int UNCOMMITTED = 482;
   /** RegularExpression Id. */
-  int UNION = 483;
+  int UNDER = 483;
   /** RegularExpression Id. */
-  int UNIQUE = 484;
+  int UNION = 484;
   /** RegularExpression Id. */
-  int UNKNOWN = 485;
+  int UNIQUE = 485;
   /** RegularExpression Id. */
-  int UNNAMED = 486;
+  int UNKNOWN = 486;
   /** RegularExpression Id. */
-  int UNNEST = 487;
+  int UNNAMED = 487;
   /** RegularExpression Id. */
-  int UPDATE = 488;
+  int UNNEST = 488;
   /** RegularExpression Id. */
-  int UPPER = 489;
+  int UPDATE = 489;
   /** RegularExpression Id. */
-  int USAGE = 490;
+  int UPPER = 490;
   /** RegularExpression Id. */
-  int USER = 491;
+  int USAGE = 491;
   /** RegularExpression Id. */
-  int USER_DEFINED_TYPE_CATALOG = 492;
+  int USER = 492;
   /** RegularExpression Id. */
-  int USER_DEFINED_TYPE_CODE = 493;
+  int USER_DEFINED_TYPE_CATALOG = 493;
   /** RegularExpression Id. */
-  int USER_DEFINED_TYPE_NAME = 494;
+  int USER_DEFINED_TYPE_CODE = 494;
   /** RegularExpression Id. */
-  int USER_DEFINED_TYPE_SCHEMA = 495;
+  int USER_DEFINED_TYPE_NAME = 495;
   /** RegularExpression Id. */
-  int USING = 496;
+  int USER_DEFINED_TYPE_SCHEMA = 496;
   /** RegularExpression Id. */
-  int VALUE = 497;
+  int USING = 497;
   /** RegularExpression Id. */
-  int VALUES = 498;
+  int VALUE = 498;
   /** RegularExpression Id. */
-  int VAR_POP = 499;
+  int VALUES = 499;
   /** RegularExpression Id. */
-  int VAR_SAMP = 500;
+  int VAR_POP = 500;
   /** RegularExpression Id. */
-  int VARCHAR = 501;
+  int VAR_SAMP = 501;
   /** RegularExpression Id. */
-  int VARBINARY = 502;
+  int VARCHAR = 502;
   /** RegularExpression Id. */
-  int VARYING = 503;
+  int VARBINARY = 503;
   /** RegularExpression Id. */
-  int VERSION = 504;
+  int VARYING = 504;
   /** RegularExpression Id. */
-  int VIEW = 505;
+  int VERSION = 505;
   /** RegularExpression Id. */
-  int WHEN = 506;
+  int VIEW = 506;
   /** RegularExpression Id. */
-  int WHENEVER = 507;
+  int WHEN = 507;
   /** RegularExpression Id. */
-  int WHERE = 508;
+  int WHENEVER = 508;
   /** RegularExpression Id. */
-  int WIDTH_BUCKET = 509;
+  int WHERE = 509;
   /** RegularExpression Id. */
-  int WINDOW = 510;
+  int WIDTH_BUCKET = 510;
   /** RegularExpression Id. */
-  int WITH = 511;
+  int WINDOW = 511;
   /** RegularExpression Id. */
-  int WITHIN = 512;
+  int WITH = 512;
   /** RegularExpression Id. */
-  int WITHOUT = 513;
+  int WITHIN = 513;
   /** RegularExpression Id. */
-  int WORK = 514;
+  int WITHOUT = 514;
   /** RegularExpression Id. */
-  int WRAPPER = 515;
+  int WORK = 515;
   /** RegularExpression Id. */
-  int WRITE = 516;
+  int WRAPPER = 516;
   /** RegularExpression Id. */
-  int XML = 517;
+  int WRITE = 517;
   /** RegularExpression Id. */
-  int YEAR = 518;
+  int XML = 518;
   /** RegularExpression Id. */
-  int ZONE = 519;
+  int YEAR = 519;
   /** RegularExpression Id. */
-  int UNSIGNED_INTEGER_LITERAL = 520;
+  int ZONE = 520;
   /** RegularExpression Id. */
-  int APPROX_NUMERIC_LITERAL = 521;
+  int UNSIGNED_INTEGER_LITERAL = 521;
   /** RegularExpression Id. */
-  int DECIMAL_NUMERIC_LITERAL = 522;
+  int APPROX_NUMERIC_LITERAL = 522;
   /** RegularExpression Id. */
-  int EXPONENT = 523;
+  int DECIMAL_NUMERIC_LITERAL = 523;
   /** RegularExpression Id. */
-  int HEXDIGIT = 524;
+  int EXPONENT = 524;
   /** RegularExpression Id. */
-  int WHITESPACE = 525;
+  int HEXDIGIT = 525;
   /** RegularExpression Id. */
-  int BINARY_STRING_LITERAL = 526;
+  int WHITESPACE = 526;
   /** RegularExpression Id. */
-  int QUOTED_STRING = 527;
+  int BINARY_STRING_LITERAL = 527;
   /** RegularExpression Id. */
-  int PREFIXED_STRING_LITERAL = 528;
+  int QUOTED_STRING = 528;
   /** RegularExpression Id. */
-  int UNICODE_STRING_LITERAL = 529;
+  int PREFIXED_STRING_LITERAL = 529;
   /** RegularExpression Id. */
-  int CHARSETNAME = 530;
+  int UNICODE_STRING_LITERAL = 530;
   /** RegularExpression Id. */
-  int UNICODE_QUOTED_ESCAPE_CHAR = 531;
+  int CHARSETNAME = 531;
   /** RegularExpression Id. */
-  int LPAREN = 532;
+  int UNICODE_QUOTED_ESCAPE_CHAR = 532;
   /** RegularExpression Id. */
-  int RPAREN = 533;
+  int LPAREN = 533;
   /** RegularExpression Id. */
-  int LBRACE_D = 534;
+  int RPAREN = 534;
   /** RegularExpression Id. */
-  int LBRACE_T = 535;
+  int LBRACE_D = 535;
   /** RegularExpression Id. */
-  int LBRACE_TS = 536;
+  int LBRACE_T = 536;
   /** RegularExpression Id. */
-  int LBRACE_FN = 537;
+  int LBRACE_TS = 537;
   /** RegularExpression Id. */
-  int LBRACE = 538;
+  int LBRACE_FN = 538;
   /** RegularExpression Id. */
-  int RBRACE = 539;
+  int LBRACE = 539;
   /** RegularExpression Id. */
-  int LBRACKET = 540;
+  int RBRACE = 540;
   /** RegularExpression Id. */
-  int RBRACKET = 541;
+  int LBRACKET = 541;
   /** RegularExpression Id. */
-  int SEMICOLON = 542;
+  int RBRACKET = 542;
   /** RegularExpression Id. */
-  int DOT = 543;
+  int SEMICOLON = 543;
   /** RegularExpression Id. */
-  int COMMA = 544;
+  int DOT = 544;
   /** RegularExpression Id. */
-  int EQ = 545;
+  int COMMA = 545;
   /** RegularExpression Id. */
-  int GT = 546;
+  int EQ = 546;
   /** RegularExpression Id. */
-  int LT = 547;
+  int GT = 547;
   /** RegularExpression Id. */
-  int HOOK = 548;
+  int LT = 548;
   /** RegularExpression Id. */
-  int COLON = 549;
+  int HOOK = 549;
   /** RegularExpression Id. */
-  int LE = 550;
+  int COLON = 550;
   /** RegularExpression Id. */
-  int GE = 551;
+  int LE = 551;
   /** RegularExpression Id. */
-  int NE = 552;
+  int GE = 552;
   /** RegularExpression Id. */
-  int PLUS = 553;
+  int NE = 553;
   /** RegularExpression Id. */
-  int MINUS = 554;
+  int PLUS = 554;
   /** RegularExpression Id. */
-  int STAR = 555;
+  int MINUS = 555;
   /** RegularExpression Id. */
-  int SLASH = 556;
+  int STAR = 556;
   /** RegularExpression Id. */
-  int CONCAT = 557;
+  int SLASH = 557;
   /** RegularExpression Id. */
-  int DOUBLE_PERIOD = 558;
+  int CONCAT = 558;
   /** RegularExpression Id. */
-  int QUOTE = 559;
+  int DOUBLE_PERIOD = 559;
   /** RegularExpression Id. */
-  int DOUBLE_QUOTE = 560;
+  int QUOTE = 560;
   /** RegularExpression Id. */
-  int SINGLE_LINE_COMMENT = 570;
+  int DOUBLE_QUOTE = 561;
   /** RegularExpression Id. */
-  int FORMAL_COMMENT = 571;
+  int SINGLE_LINE_COMMENT = 571;
   /** RegularExpression Id. */
-  int MULTI_LINE_COMMENT = 572;
+  int FORMAL_COMMENT = 572;
   /** RegularExpression Id. */
-  int COLLATION_ID = 574;
+  int MULTI_LINE_COMMENT = 573;
   /** RegularExpression Id. */
-  int IDENTIFIER = 575;
+  int COLLATION_ID = 575;
   /** RegularExpression Id. */
-  int QUOTED_IDENTIFIER = 576;
+  int IDENTIFIER = 576;
   /** RegularExpression Id. */
-  int UNICODE_QUOTED_IDENTIFIER = 577;
+  int QUOTED_IDENTIFIER = 577;
   /** RegularExpression Id. */
-  int LETTER = 578;
+  int UNICODE_QUOTED_IDENTIFIER = 578;
   /** RegularExpression Id. */
-  int DIGIT = 579;
+  int LETTER = 579;
   /** RegularExpression Id. */
-  int BEL = 580;
+  int DIGIT = 580;
+  /** RegularExpression Id. */
+  int BEL = 581;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -1466,6 +1468,7 @@ public interface SqlParserImplConstants {
     "\"OCTET_LENGTH\"",
     "\"OCTETS\"",
     "\"OF\"",
+    "\"OFFSET\"",
     "\"OLD\"",
     "\"ON\"",
     "\"ONLY\"",
@@ -1728,14 +1731,14 @@ public interface SqlParserImplConstants {
     "\"\\n\"",
     "\"\\r\"",
     "\"\\f\"",
-    "<token of kind 566>",
+    "<token of kind 567>",
     "\"//\"",
     "\"--\"",
     "\"/*\"",
     "<SINGLE_LINE_COMMENT>",
     "\"*/\"",
     "\"*/\"",
-    "<token of kind 573>",
+    "<token of kind 574>",
     "<COLLATION_ID>",
     "<IDENTIFIER>",
     "<QUOTED_IDENTIFIER>",
@@ -30,230 +30,230 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active8 & 0x400080000000L) != 0L)
+         if ((active7 & 0x3ffff00000000L) != 0L)
+         {
+            jjmatchedKind = 576;
+            return 56;
+         }
+         if ((active8 & 0x800100000000L) != 0L)
             return 79;
-         if ((active8 & 0x800000000000L) != 0L)
+         if ((active8 & 0x1000000000000L) != 0L)
             return 53;
-         if ((active8 & 0x20L) != 0L)
+         if ((active0 & 0x3ffc0000000L) != 0L || (active1 & 0xff80000000000000L) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xffff87fffffff001L) != 0L || (active4 & 0xfffff00000000003L) != 0L || (active5 & 0xffffffffffffffffL) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xfffc0000ffffffffL) != 0L || (active8 & 0x1bfL) != 0L)
          {
-            jjmatchedKind = 575;
-            return 1;
+            jjmatchedKind = 576;
+            return 80;
          }
          if ((active0 & 0xfffffc003ffffffeL) != 0L || (active1 & 0x7fffffffffffffL) != 0L || (active3 & 0x780000000ffeL) != 0L || (active4 & 0xfffffcL) != 0L)
             return 80;
-         if ((active8 & 0x280100000000000L) != 0L)
+         if ((active8 & 0x500200000000000L) != 0L)
             return 17;
-         if ((active0 & 0x3ffc0000000L) != 0L || (active1 & 0xff80000000000000L) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xffff87fffffff001L) != 0L || (active4 & 0xfffff00000000003L) != 0L || (active5 & 0xffffffffffffffffL) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xfffe00007fffffffL) != 0L || (active8 & 0xdfL) != 0L)
+         if ((active8 & 0x8000000L) != 0L)
+            return 81;
+         if ((active8 & 0x2000000000000L) != 0L)
+            return 82;
+         if ((active8 & 0x40L) != 0L)
          {
-            jjmatchedKind = 575;
-            return 80;
+            jjmatchedKind = 576;
+            return 1;
          }
          if ((active4 & 0xfffff000000L) != 0L)
          {
-            jjmatchedKind = 575;
-            return 81;
-         }
-         if ((active8 & 0x4000000L) != 0L)
-            return 82;
-         if ((active8 & 0x1000000000000L) != 0L)
+            jjmatchedKind = 576;
             return 83;
-         if ((active7 & 0x1ffff80000000L) != 0L)
-         {
-            jjmatchedKind = 575;
-            return 56;
          }
          return -1;
       case 1:
-         if ((active0 & 0xfffff9fff003fffcL) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xeffff600000fff3dL) != 0L || (active4 & 0xfc397fc1fffffffbL) != 0L || (active5 & 0xffffffffffffffffL) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffcfffL) != 0L || (active8 & 0xffL) != 0L)
+         if ((active0 & 0x2000ffc0000L) != 0L || (active3 & 0x100001fffff000c0L) != 0L || (active4 & 0x78d803e00000000L) != 0L || (active7 & 0x6000L) != 0L)
+            return 80;
+         if ((active0 & 0xfffff9fff003fffcL) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xeffff600000fff3dL) != 0L || (active4 & 0xf8727fc1fffffffbL) != 0L || (active5 & 0xffffffffffffffffL) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffff9fffL) != 0L || (active8 & 0x1ffL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 1;
             }
             return 80;
          }
-         if ((active0 & 0x2000ffc0000L) != 0L || (active3 & 0x100001fffff000c0L) != 0L || (active4 & 0x3c6803e00000000L) != 0L || (active7 & 0x3000L) != 0L)
-            return 80;
-         if ((active8 & 0x200000000000000L) != 0L)
+         if ((active8 & 0x400000000000000L) != 0L)
             return 15;
          return -1;
       case 2:
-         if ((active0 & 0x102009ce6cL) != 0L || (active1 & 0xe800000000000000L) != 0L || (active2 & 0x700180180000000L) != 0L || (active3 & 0x703f00000010L) != 0L || (active4 & 0x38010020800fc0c8L) != 0L || (active5 & 0x1c000100004L) != 0L || (active6 & 0x2000f003000003c0L) != 0L || (active8 & 0x20L) != 0L)
-            return 80;
-         if ((active0 & 0xfffff9efdef23190L) != 0L || (active1 & 0x17ffffffffffffffL) != 0L || (active2 & 0xf8ffe7fe7fffffffL) != 0L || (active3 & 0xefff8740ffefffadL) != 0L || (active4 & 0xc7bc7fdd7ff03f33L) != 0L || (active5 & 0xfffffe3fffeffffbL) != 0L || (active6 & 0xdfff0ffcfffffc3fL) != 0L || (active7 & 0xffffffffffffefffL) != 0L || (active8 & 0xdfL) != 0L)
+         if ((active0 & 0xfffff9efdef23190L) != 0L || (active1 & 0x17ffffffffffffffL) != 0L || (active2 & 0xf8ffe7fe7fffffffL) != 0L || (active3 & 0xefff8740ffefffadL) != 0L || (active4 & 0x8f797fdd7ff03f33L) != 0L || (active5 & 0xfffffc7fffdffff7L) != 0L || (active6 & 0xbffe1ff9fffff87fL) != 0L || (active7 & 0xffffffffffffdfffL) != 0L || (active8 & 0x1bfL) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 2;
             }
             return 80;
          }
+         if ((active0 & 0x102009ce6cL) != 0L || (active1 & 0xe800000000000000L) != 0L || (active2 & 0x700180180000000L) != 0L || (active3 & 0x703f00000010L) != 0L || (active4 & 0x70020020800fc0c8L) != 0L || (active5 & 0x38000200008L) != 0L || (active6 & 0x4001e00600000780L) != 0L || (active8 & 0x40L) != 0L)
+            return 80;
          return -1;
       case 3:
-         if ((active2 & 0x100000000L) != 0L)
-            return 84;
-         if ((active0 & 0xffb318a000000000L) != 0L || (active1 & 0x780008300000004L) != 0L || (active2 & 0x700003005100f000L) != 0L || (active3 & 0x44c06200000c080L) != 0L || (active4 & 0xc00c03c503200000L) != 0L || (active5 & 0x8000001e00084003L) != 0L || (active6 & 0x1005201000200L) != 0L || (active7 & 0x8e00f800700007e0L) != 0L || (active8 & 0xc7L) != 0L)
-            return 80;
-         if ((active0 & 0x4ce14fdef23d98L) != 0L || (active1 & 0xd07fff7cfffffffbL) != 0L || (active2 & 0x8efff4fe2eff0fffL) != 0L || (active3 & 0xebb3e15effef3f2dL) != 0L || (active4 & 0x37b07c187cddbfb3L) != 0L || (active5 & 0x7fffffa1ffe7bff8L) != 0L || (active6 & 0xdffeefacfefffdbfL) != 0L || (active7 & 0x71ff07ff8fffe81fL) != 0L || (active8 & 0x18L) != 0L)
+         if ((active0 & 0x4ce14fdef23d98L) != 0L || (active1 & 0xd07fff7cfffffffbL) != 0L || (active2 & 0x8efff4fe2eff0fffL) != 0L || (active3 & 0xebb3e15effef3f2dL) != 0L || (active4 & 0x6f617c187cddbfb3L) != 0L || (active5 & 0xffffff43ffcf7ff0L) != 0L || (active6 & 0xbffddf59fdfffb7eL) != 0L || (active7 & 0xe3fe0fff1fffd03fL) != 0L || (active8 & 0x30L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 3;
             }
             return 80;
          }
+         if ((active2 & 0x100000000L) != 0L)
+            return 84;
+         if ((active0 & 0xffb318a000000000L) != 0L || (active1 & 0x780008300000004L) != 0L || (active2 & 0x700003005100f000L) != 0L || (active3 & 0x44c06200000c080L) != 0L || (active4 & 0x801803c503200000L) != 0L || (active5 & 0x3c00108007L) != 0L || (active6 & 0x200a402000401L) != 0L || (active7 & 0x1c01f000e0000fc0L) != 0L || (active8 & 0x18fL) != 0L)
+            return 80;
          return -1;
       case 4:
-         if ((active0 & 0xff2cf14f5ef01418L) != 0L || (active1 & 0xd63fff3affffffd2L) != 0L || (active2 & 0x868276f62effd9ffL) != 0L || (active3 & 0x2b9615ef1ef302dL) != 0L || (active4 & 0xa6307d984c4dbd81L) != 0L || (active5 & 0x3fffffa0efa7bffbL) != 0L || (active6 & 0xdef0eeacfefc35bfL) != 0L || (active7 & 0x69f8f1f38f7fef11L) != 0L || (active8 & 0xbL) != 0L)
+         if ((active2 & 0x100000000L) != 0L)
+            return 84;
+         if ((active0 & 0x40000080022980L) != 0L || (active1 & 0x40004400000029L) != 0L || (active2 & 0x87d800800000600L) != 0L || (active3 & 0xe90280000e000f00L) != 0L || (active4 & 0x2300020032900232L) != 0L || (active5 & 0x8000001220800000L) != 0L || (active6 & 0x21c020000079000L) != 0L || (active7 & 0x200e0c180100001cL) != 0L || (active8 & 0x20L) != 0L)
+            return 80;
+         if ((active0 & 0xff2cf14f5ef01418L) != 0L || (active1 & 0xd63fff3affffffd2L) != 0L || (active2 & 0x868276f62effd9ffL) != 0L || (active3 & 0x2b9615ef1ef302dL) != 0L || (active4 & 0x4c617d984c4dbd81L) != 0L || (active5 & 0x7fffff41df4f7ff7L) != 0L || (active6 & 0xbde1dd59fdf86b7eL) != 0L || (active7 & 0xd3f1e3e71effde23L) != 0L || (active8 & 0x16L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 4;
             }
             return 80;
          }
+         return -1;
+      case 5:
          if ((active2 & 0x100000000L) != 0L)
             return 84;
-         if ((active0 & 0x40000080022980L) != 0L || (active1 & 0x40004400000029L) != 0L || (active2 & 0x87d800800000600L) != 0L || (active3 & 0xe90280000e000f00L) != 0L || (active4 & 0x1180020032900232L) != 0L || (active5 & 0x4000000910400000L) != 0L || (active6 & 0x10e01000003c800L) != 0L || (active7 & 0x1007060c0080000eL) != 0L || (active8 & 0x10L) != 0L)
+         if ((active0 & 0x100c42001010L) != 0L || (active1 & 0x30002000033000L) != 0L || (active2 & 0x2043600c000c0L) != 0L || (active3 & 0x80000020081021L) != 0L || (active4 & 0x486155000008a100L) != 0L || (active5 & 0x7f80000100002000L) != 0L || (active6 & 0x20011061386004L) != 0L || (active7 & 0x8008032000000003L) != 0L || (active8 & 0x2L) != 0L)
             return 80;
-         return -1;
-      case 5:
-         if ((active0 & 0xff2ce1431cf00408L) != 0L || (active1 & 0xd60fff1afffccfd2L) != 0L || (active2 & 0x869072c02e3fd93fL) != 0L || (active3 & 0xc239615ed1e72a0cL) != 0L || (active4 & 0x830028984c451ca1L) != 0L || (active5 & 0x3fffa06fa7affbL) != 0L || (active6 & 0x5ee8ee24ce6385bdL) != 0L || (active7 & 0x29f8f0638f7fef1cL) != 0L || (active8 & 0xaL) != 0L)
+         if ((active0 & 0xff2ce1431cf00408L) != 0L || (active1 & 0xd60fff1afffccfd2L) != 0L || (active2 & 0x869072c02e3fd93fL) != 0L || (active3 & 0xc239615ed1e72a0cL) != 0L || (active4 & 0x60028984c451ca1L) != 0L || (active5 & 0x7fff40df4f5ff7L) != 0L || (active6 & 0xbdd1dc499cc70b7aL) != 0L || (active7 & 0x53f1e0c71effde38L) != 0L || (active8 & 0x14L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 5;
             }
             return 80;
          }
-         if ((active2 & 0x100000000L) != 0L)
-            return 84;
-         if ((active0 & 0x100c42001010L) != 0L || (active1 & 0x30002000033000L) != 0L || (active2 & 0x2043600c000c0L) != 0L || (active3 & 0x80000020081021L) != 0L || (active4 & 0x243055000008a100L) != 0L || (active5 & 0x3fc0000080001000L) != 0L || (active6 & 0x80100088309c3002L) != 0L || (active7 & 0x4004019000000001L) != 0L || (active8 & 0x1L) != 0L)
-            return 80;
          return -1;
       case 6:
-         if ((active2 & 0x100000000L) != 0L)
-            return 84;
-         if ((active0 & 0x2cc14200000000L) != 0L || (active1 & 0xc00ffe0040700840L) != 0L || (active2 & 0x60052402e000833L) != 0L || (active3 & 0x230004200000204L) != 0L || (active4 & 0x20080048000021L) != 0L || (active5 & 0x101420000a040401L) != 0L || (active6 & 0x4c020003cL) != 0L || (active7 & 0x1a800608f000800L) != 0L || (active8 & 0xaL) != 0L)
-            return 80;
-         if ((active0 & 0xff0020011cf00408L) != 0L || (active1 & 0x1620011abf8ee792L) != 0L || (active2 & 0x809020a0003fd10cL) != 0L || (active3 & 0xc009611cd1e72808L) != 0L || (active4 & 0x8300209804451c80L) != 0L || (active5 & 0xf2bdfa065a3abfaL) != 0L || (active6 & 0x5ee8ee202e43a581L) != 0L || (active7 & 0x2850f003007fe71dL) != 0L)
+         if ((active0 & 0xff0020011cf00408L) != 0L || (active1 & 0x1620011abf8ee792L) != 0L || (active2 & 0x809020a0003fd10cL) != 0L || (active3 & 0xc009611cd1e72808L) != 0L || (active4 & 0x600209804451c80L) != 0L || (active5 & 0x1e57bf40cb4757f5L) != 0L || (active6 & 0xbdd1dc405c874b02L) != 0L || (active7 & 0x50a1e00600ffce3aL) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 6;
             }
             return 80;
          }
-         return -1;
-      case 7:
          if ((active2 & 0x100000000L) != 0L)
             return 84;
-         if ((active0 & 0x800000000408L) != 0L || (active1 & 0xa0000010L) != 0L || (active2 & 0x800020000034100aL) != 0L || (active3 & 0x1401040010800L) != 0L || (active4 & 0x8100008004450080L) != 0L || (active5 & 0x23800004200000L) != 0L || (active6 & 0x4e2004400001L) != 0L || (active7 & 0x810000000004000L) != 0L)
+         if ((active0 & 0x2cc14200000000L) != 0L || (active1 & 0xc00ffe0040700840L) != 0L || (active2 & 0x60052402e000833L) != 0L || (active3 & 0x230004200000204L) != 0L || (active4 & 0x40080048000021L) != 0L || (active5 & 0x2028400014080802L) != 0L || (active6 & 0x980400078L) != 0L || (active7 & 0x35000c11e001000L) != 0L || (active8 & 0x14L) != 0L)
             return 80;
-         if ((active0 & 0xff0820011cf00000L) != 0L || (active1 & 0x162ffd1a1feee782L) != 0L || (active2 & 0x9000a00c0bc104L) != 0L || (active3 & 0xc008210c91e62008L) != 0L || (active4 & 0x200201800001c00L) != 0L || (active5 & 0xf085fa06183abfaL) != 0L || (active6 & 0x5ee8a000aa03a5b8L) != 0L || (active7 & 0x2040f0030e7fa71dL) != 0L)
+         return -1;
+      case 7:
+         if ((active0 & 0xff0820011cf00000L) != 0L || (active1 & 0x162ffd1a1feee782L) != 0L || (active2 & 0x9000a00c0bc104L) != 0L || (active3 & 0xc008210c91e62008L) != 0L || (active4 & 0x400201800001c00L) != 0L || (active5 & 0x1e10bf40c30757f4L) != 0L || (active6 & 0xbdd1400154074b70L) != 0L || (active7 & 0x4081e0061cff4e3aL) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 7;
             }
             return 80;
          }
+         if ((active2 & 0x100000000L) != 0L)
+            return 84;
+         if ((active0 & 0x800000000408L) != 0L || (active1 & 0xa0000010L) != 0L || (active2 & 0x800020000034100aL) != 0L || (active3 & 0x1401040010800L) != 0L || (active4 & 0x200008004450080L) != 0L || (active5 & 0x47000008400001L) != 0L || (active6 & 0x9c4008800002L) != 0L || (active7 & 0x1020000000008000L) != 0L)
+            return 80;
          return -1;
       case 8:
-         if ((active0 & 0x108200010d00000L) != 0L || (active1 & 0x162ffc121fe0e002L) != 0L || (active2 & 0x1000000c0bc104L) != 0L || (active3 & 0x8200090040000L) != 0L || (active4 & 0x200200000001c00L) != 0L || (active5 & 0xf0859802003a002L) != 0L || (active6 & 0x1660ac00a803a138L) != 0L || (active7 & 0x2000f0020e47a60dL) != 0L)
+         if ((active0 & 0xfe0000010c200000L) != 0L || (active1 & 0x108000e0780L) != 0L || (active2 & 0x8000a000000000L) != 0L || (active3 & 0xc000010c01e22008L) != 0L || (active4 & 0x1800000000L) != 0L || (active5 & 0xc40830017f0L) != 0L || (active6 & 0x9110000004000900L) != 0L || (active7 & 0x80000200700220L) != 0L)
+            return 80;
+         if ((active0 & 0x108200010d00000L) != 0L || (active1 & 0x162ffc121fe0e002L) != 0L || (active2 & 0x1000000c0bc104L) != 0L || (active3 & 0x8200090040000L) != 0L || (active4 & 0x400200000001c00L) != 0L || (active5 & 0x1e10b30040074004L) != 0L || (active6 & 0x2cc1580150074270L) != 0L || (active7 & 0x4001e0041c8f4c1aL) != 0L)
          {
             if (jjmatchedPos != 8)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 8;
             }
             return 80;
          }
-         if ((active0 & 0xfe0000010c200000L) != 0L || (active1 & 0x108000e0780L) != 0L || (active2 & 0x8000a000000000L) != 0L || (active3 & 0xc000010c01e22008L) != 0L || (active4 & 0x1800000000L) != 0L || (active5 & 0x62041800bf8L) != 0L || (active6 & 0x4888000002000480L) != 0L || (active7 & 0x40000100380110L) != 0L)
-            return 80;
          return -1;
       case 9:
-         if ((active0 & 0x7d08200010000000L) != 0L || (active1 & 0x62ffc021008e702L) != 0L || (active2 & 0x1000000c034000L) != 0L || (active3 & 0x8000000890040000L) != 0L || (active4 & 0x200000001c00L) != 0L || (active5 & 0xf0011000003a3f0L) != 0L || (active6 & 0x6402c00a802a038L) != 0L || (active7 & 0x2000f0020e47a609L) != 0L)
+         if ((active0 & 0x8000000008d00000L) != 0L || (active1 & 0x100000100fe00000L) != 0L || (active2 & 0x88104L) != 0L || (active3 & 0x8200000000000L) != 0L || (active4 & 0x400001000000000L) != 0L || (active5 & 0x10910040000004L) != 0L || (active6 & 0x2041000000020200L) != 0L || (active7 & 0x200008L) != 0L)
+            return 80;
+         if ((active0 & 0x7d08200010000000L) != 0L || (active1 & 0x62ffc021008e702L) != 0L || (active2 & 0x1000000c034000L) != 0L || (active3 & 0x8000000890040000L) != 0L || (active4 & 0x200000001c00L) != 0L || (active5 & 0x1e002200000747e0L) != 0L || (active6 & 0xc80580150054070L) != 0L || (active7 & 0x4001e0041c8f4c12L) != 0L)
          {
             if (jjmatchedPos != 9)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 9;
             }
             return 80;
          }
-         if ((active0 & 0x8000000008d00000L) != 0L || (active1 & 0x100000100fe00000L) != 0L || (active2 & 0x88104L) != 0L || (active3 & 0x8200000000000L) != 0L || (active4 & 0x200001000000000L) != 0L || (active5 & 0x8488020000002L) != 0L || (active6 & 0x1020800000010100L) != 0L || (active7 & 0x100004L) != 0L)
-            return 80;
          return -1;
       case 10:
-         if ((active0 & 0x100200000000000L) != 0L || (active1 & 0x20000018002000L) != 0L || (active2 & 0x10000000024000L) != 0L || (active3 & 0x10000000L) != 0L || (active5 & 0x10000002000L) != 0L || (active6 & 0x440000020002000L) != 0L || (active7 & 0x200478009L) != 0L)
-            return 80;
-         if ((active0 & 0x7c08000010000000L) != 0L || (active1 & 0x60ffc020748c702L) != 0L || (active2 & 0xc010000L) != 0L || (active3 & 0x8000000880040000L) != 0L || (active4 & 0x200000001c00L) != 0L || (active5 & 0xf001000000383f0L) != 0L || (active6 & 0x2002c0088028038L) != 0L || (active7 & 0x2000f0000e002600L) != 0L)
+         if ((active0 & 0x7c08000010000000L) != 0L || (active1 & 0x60ffc020748c702L) != 0L || (active2 & 0xc010000L) != 0L || (active3 & 0x8000000880040000L) != 0L || (active4 & 0x200000001c00L) != 0L || (active5 & 0x1e002000000707e0L) != 0L || (active6 & 0x400580110050070L) != 0L || (active7 & 0x4001e0001c004c00L) != 0L)
          {
             if (jjmatchedPos != 10)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 10;
             }
             return 80;
          }
+         if ((active0 & 0x100200000000000L) != 0L || (active1 & 0x20000018002000L) != 0L || (active2 & 0x10000000024000L) != 0L || (active3 & 0x10000000L) != 0L || (active5 & 0x20000004000L) != 0L || (active6 & 0x880000040004000L) != 0L || (active7 & 0x4008f0012L) != 0L)
+            return 80;
          return -1;
       case 11:
-         if ((active0 & 0x7c00000010000000L) != 0L || (active1 & 0x60494020748c700L) != 0L || (active2 & 0xc010000L) != 0L || (active3 & 0x8000000000040000L) != 0L || (active4 & 0xc00L) != 0L || (active5 & 0xf001000000303f0L) != 0L || (active6 & 0x200040000008028L) != 0L || (active7 & 0xf0000a072600L) != 0L)
+         if ((active0 & 0x7c00000010000000L) != 0L || (active1 & 0x60494020748c700L) != 0L || (active2 & 0xc010000L) != 0L || (active3 & 0x8000000000040000L) != 0L || (active4 & 0xc00L) != 0L || (active5 & 0x1e002000000607e0L) != 0L || (active6 & 0x400080000010050L) != 0L || (active7 & 0x1e000140e4c00L) != 0L)
          {
             if (jjmatchedPos != 11)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 11;
             }
             return 80;
          }
-         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0xb680000000002L) != 0L || (active3 & 0x880000000L) != 0L || (active4 & 0x200000001000L) != 0L || (active5 & 0x8000L) != 0L || (active6 & 0x280088020010L) != 0L || (active7 & 0x2000000004000000L) != 0L)
+         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0xb680000000002L) != 0L || (active3 & 0x880000000L) != 0L || (active4 & 0x200000001000L) != 0L || (active5 & 0x10000L) != 0L || (active6 & 0x500110040020L) != 0L || (active7 & 0x4000000008000000L) != 0L)
             return 80;
          return -1;
       case 12:
-         if ((active0 & 0x10000000L) != 0L || (active1 & 0x200000000L) != 0L || (active2 & 0x10000L) != 0L || (active6 & 0x40000000000L) != 0L || (active7 & 0x200L) != 0L)
+         if ((active0 & 0x10000000L) != 0L || (active1 & 0x200000000L) != 0L || (active2 & 0x10000L) != 0L || (active6 & 0x80000000000L) != 0L || (active7 & 0x400L) != 0L)
             return 80;
-         if ((active0 & 0x7c00000000000000L) != 0L || (active1 & 0x60694000748c700L) != 0L || (active2 & 0xc000000L) != 0L || (active3 & 0x8000000000040000L) != 0L || (active4 & 0xc00L) != 0L || (active5 & 0xf001000000303f0L) != 0L || (active6 & 0x200000000008028L) != 0L || (active7 & 0xf0000a072400L) != 0L)
+         if ((active0 & 0x7c00000000000000L) != 0L || (active1 & 0x60694000748c700L) != 0L || (active2 & 0xc000000L) != 0L || (active3 & 0x8000000000040000L) != 0L || (active4 & 0xc00L) != 0L || (active5 & 0x1e002000000607e0L) != 0L || (active6 & 0x400000000010050L) != 0L || (active7 & 0x1e000140e4800L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 12;
             return 80;
          }
          return -1;
       case 13:
-         if ((active1 & 0x800000000200L) != 0L || (active3 & 0x8000000000040000L) != 0L || (active4 & 0x400L) != 0L || (active5 & 0x100000000030L) != 0L || (active6 & 0x8020L) != 0L || (active7 & 0x8000000L) != 0L)
+         if ((active1 & 0x800000000200L) != 0L || (active3 & 0x8000000000040000L) != 0L || (active4 & 0x400L) != 0L || (active5 & 0x200000000060L) != 0L || (active6 & 0x10040L) != 0L || (active7 & 0x10000000L) != 0L)
             return 80;
-         if ((active0 & 0x7c00000000000000L) != 0L || (active1 & 0x60614000748c500L) != 0L || (active2 & 0xc000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0xf000000000303c0L) != 0L || (active6 & 0x200000000000008L) != 0L || (active7 & 0xf00002072400L) != 0L)
+         if ((active0 & 0x7c00000000000000L) != 0L || (active1 & 0x60614000748c500L) != 0L || (active2 & 0xc000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x1e00000000060780L) != 0L || (active6 & 0x400000000000010L) != 0L || (active7 & 0x1e000040e4800L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 13;
             return 80;
          }
          return -1;
       case 14:
-         if ((active0 & 0x7c00000000000000L) != 0L || (active1 & 0x60610000508c500L) != 0L || (active2 & 0xc000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0xd000000000003c0L) != 0L || (active7 & 0xf00000070000L) != 0L)
+         if ((active0 & 0x7c00000000000000L) != 0L || (active1 & 0x60610000508c500L) != 0L || (active2 & 0xc000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x1a00000000000780L) != 0L || (active7 & 0x1e000000e0000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 14;
             return 80;
          }
-         if ((active1 & 0x40002400000L) != 0L || (active5 & 0x200000000030000L) != 0L || (active6 & 0x200000000000008L) != 0L || (active7 & 0x2002400L) != 0L)
+         if ((active1 & 0x40002400000L) != 0L || (active5 & 0x400000000060000L) != 0L || (active6 & 0x400000000000010L) != 0L || (active7 & 0x4004800L) != 0L)
             return 80;
          return -1;
       case 15:
-         if ((active0 & 0x3800000000000000L) != 0L || (active1 & 0x606100005000100L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0xd000000000003c0L) != 0L || (active7 & 0xf00000070000L) != 0L)
+         if ((active0 & 0x3800000000000000L) != 0L || (active1 & 0x606100005000100L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x1a00000000000780L) != 0L || (active7 & 0x1e000000e0000L) != 0L)
          {
             if (jjmatchedPos != 15)
             {
-               jjmatchedKind = 575;
+               jjmatchedKind = 576;
                jjmatchedPos = 15;
             }
             return 80;
@@ -262,11 +262,11 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 80;
          return -1;
       case 16:
-         if ((active1 & 0x2000004000100L) != 0L || (active5 & 0x800000000000000L) != 0L)
+         if ((active1 & 0x2000004000100L) != 0L || (active5 & 0x1000000000000000L) != 0L)
             return 80;
-         if ((active0 & 0x3800000000000000L) != 0L || (active1 & 0x604100001008000L) != 0L || (active2 & 0x8000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x5000000000003c0L) != 0L || (active7 & 0xf00000070000L) != 0L)
+         if ((active0 & 0x3800000000000000L) != 0L || (active1 & 0x604100001008000L) != 0L || (active2 & 0x8000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0xa00000000000780L) != 0L || (active7 & 0x1e000000e0000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 16;
             return 80;
          }
@@ -274,91 +274,91 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 17:
          if ((active0 & 0x1000000000000000L) != 0L || (active1 & 0x1000000L) != 0L)
             return 80;
-         if ((active0 & 0x2800000000000000L) != 0L || (active1 & 0x604100000008000L) != 0L || (active2 & 0x8000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x5000000000003c0L) != 0L || (active7 & 0xf00000070000L) != 0L)
+         if ((active0 & 0x2800000000000000L) != 0L || (active1 & 0x604100000008000L) != 0L || (active2 & 0x8000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0xa00000000000780L) != 0L || (active7 & 0x1e000000e0000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 17;
             return 80;
          }
          return -1;
       case 18:
-         if ((active0 & 0x2800000000000000L) != 0L || (active1 & 0x604100000008000L) != 0L || (active2 & 0x8000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x5000000000003c0L) != 0L || (active7 & 0xf00000060000L) != 0L)
+         if ((active0 & 0x2800000000000000L) != 0L || (active1 & 0x604100000008000L) != 0L || (active2 & 0x8000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0xa00000000000780L) != 0L || (active7 & 0x1e000000c0000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 18;
             return 80;
          }
-         if ((active7 & 0x10000L) != 0L)
+         if ((active7 & 0x20000L) != 0L)
             return 80;
          return -1;
       case 19:
-         if ((active0 & 0x800000000000000L) != 0L || (active1 & 0x604100000008000L) != 0L || (active2 & 0x8000000L) != 0L || (active5 & 0x4000000000003c0L) != 0L || (active7 & 0xf00000060000L) != 0L)
+         if ((active0 & 0x2000000000000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x200000000000000L) != 0L)
+            return 80;
+         if ((active0 & 0x800000000000000L) != 0L || (active1 & 0x604100000008000L) != 0L || (active2 & 0x8000000L) != 0L || (active5 & 0x800000000000780L) != 0L || (active7 & 0x1e000000c0000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 19;
             return 80;
          }
-         if ((active0 & 0x2000000000000000L) != 0L || (active4 & 0x800L) != 0L || (active5 & 0x100000000000000L) != 0L)
-            return 80;
          return -1;
       case 20:
-         if ((active1 & 0x604100000000000L) != 0L || (active5 & 0x3c0L) != 0L || (active7 & 0xf00000060000L) != 0L)
+         if ((active1 & 0x604100000000000L) != 0L || (active5 & 0x780L) != 0L || (active7 & 0x1e000000c0000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 20;
             return 80;
          }
-         if ((active0 & 0x800000000000000L) != 0L || (active1 & 0x8000L) != 0L || (active2 & 0x8000000L) != 0L || (active5 & 0x400000000000000L) != 0L)
+         if ((active0 & 0x800000000000000L) != 0L || (active1 & 0x8000L) != 0L || (active2 & 0x8000000L) != 0L || (active5 & 0x800000000000000L) != 0L)
             return 80;
          return -1;
       case 21:
-         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0x3c0L) != 0L || (active7 & 0x900000040000L) != 0L)
+         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0x780L) != 0L || (active7 & 0x1200000080000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 21;
             return 80;
          }
-         if ((active1 & 0x200000000000000L) != 0L || (active7 & 0x600000020000L) != 0L)
+         if ((active1 & 0x200000000000000L) != 0L || (active7 & 0xc00000040000L) != 0L)
             return 80;
          return -1;
       case 22:
-         if ((active5 & 0x100L) != 0L)
+         if ((active5 & 0x200L) != 0L)
             return 80;
-         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0x2c0L) != 0L || (active7 & 0x900000040000L) != 0L)
+         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0x580L) != 0L || (active7 & 0x1200000080000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 22;
             return 80;
          }
          return -1;
       case 23:
-         if ((active7 & 0x800000040000L) != 0L)
+         if ((active7 & 0x1000000080000L) != 0L)
             return 80;
-         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0x2c0L) != 0L || (active7 & 0x100000000000L) != 0L)
+         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0x580L) != 0L || (active7 & 0x200000000000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 23;
             return 80;
          }
          return -1;
       case 24:
-         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0xc0L) != 0L)
+         if ((active1 & 0x404100000000000L) != 0L || (active5 & 0x180L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 24;
             return 80;
          }
-         if ((active5 & 0x200L) != 0L || (active7 & 0x100000000000L) != 0L)
+         if ((active5 & 0x400L) != 0L || (active7 & 0x200000000000L) != 0L)
             return 80;
          return -1;
       case 25:
          if ((active1 & 0x404100000000000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 25;
             return 80;
          }
-         if ((active5 & 0xc0L) != 0L)
+         if ((active5 & 0x180L) != 0L)
             return 80;
          return -1;
       case 26:
@@ -366,7 +366,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 80;
          if ((active1 & 0x4100000000000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 26;
             return 80;
          }
@@ -374,7 +374,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 27:
          if ((active1 & 0x4100000000000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 27;
             return 80;
          }
@@ -382,7 +382,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 28:
          if ((active1 & 0x4100000000000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 28;
             return 80;
          }
@@ -390,7 +390,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 29:
          if ((active1 & 0x4100000000000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 29;
             return 80;
          }
@@ -398,7 +398,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 30:
          if ((active1 & 0x4000000000000L) != 0L)
          {
-            jjmatchedKind = 575;
+            jjmatchedKind = 576;
             jjmatchedPos = 30;
             return 80;
          }
@@ -424,46 +424,46 @@ private int jjMoveStringLiteralDfa0_0()
    switch(curChar)
    {
       case 34:
-         return jjStartNfaWithStates_0(0, 560, 83);
+         return jjStartNfaWithStates_0(0, 561, 82);
       case 39:
-         return jjStartNfaWithStates_0(0, 559, 53);
+         return jjStartNfaWithStates_0(0, 560, 53);
       case 40:
-         return jjStopAtPos(0, 532);
-      case 41:
          return jjStopAtPos(0, 533);
+      case 41:
+         return jjStopAtPos(0, 534);
       case 42:
-         return jjStopAtPos(0, 555);
+         return jjStopAtPos(0, 556);
       case 43:
-         return jjStopAtPos(0, 553);
+         return jjStopAtPos(0, 554);
       case 44:
-         return jjStopAtPos(0, 544);
+         return jjStopAtPos(0, 545);
       case 45:
-         jjmatchedKind = 554;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000000000000L);
+         jjmatchedKind = 555;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000000000L);
       case 46:
-         jjmatchedKind = 543;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000000L);
+         jjmatchedKind = 544;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000000000L);
       case 47:
-         jjmatchedKind = 556;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x280000000000000L);
+         jjmatchedKind = 557;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x500000000000000L);
       case 58:
-         return jjStopAtPos(0, 549);
+         return jjStopAtPos(0, 550);
       case 59:
-         return jjStopAtPos(0, 542);
+         return jjStopAtPos(0, 543);
       case 60:
-         jjmatchedKind = 547;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x14000000000L);
+         jjmatchedKind = 548;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x28000000000L);
       case 61:
-         return jjStopAtPos(0, 545);
+         return jjStopAtPos(0, 546);
       case 62:
-         jjmatchedKind = 546;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000000000L);
+         jjmatchedKind = 547;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000000L);
       case 63:
-         return jjStopAtPos(0, 548);
+         return jjStopAtPos(0, 549);
       case 91:
-         return jjStopAtPos(0, 540);
-      case 93:
          return jjStopAtPos(0, 541);
+      case 93:
+         return jjStopAtPos(0, 542);
       case 65:
       case 97:
          jjmatchedKind = 1;
@@ -513,43 +513,43 @@ private int jjMoveStringLiteralDfa0_0()
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff000000L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x7L, 0x0L, 0x0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfffffffcL, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1fffffff8L, 0x0L, 0x0L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff00000000L, 0x3ffL, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfffffffe00000000L, 0x7ffL, 0x0L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfffffffffffffc00L, 0x1L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfffffffffffff800L, 0x3L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7ffffffeL, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfffffffcL, 0x0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1ffff80000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x3ffff00000000L, 0x0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x3fe000000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fc000000000000L, 0x0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfc00000000000000L, 0x1fL);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xf800000000000000L, 0x3fL);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100L);
       case 123:
-         return jjStartNfaWithStates_0(0, 538, 82);
+         return jjStartNfaWithStates_0(0, 539, 81);
       case 124:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000000L);
       case 125:
-         return jjStopAtPos(0, 539);
+         return jjStopAtPos(0, 540);
       default :
          return jjMoveNfa_0(0, 0);
    }
@@ -564,63 +564,66 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2,
    switch(curChar)
    {
       case 42:
-         if ((active8 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(1, 569, 15);
+         if ((active8 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(1, 570, 15);
          break;
       case 45:
-         if ((active8 & 0x100000000000000L) != 0L)
-            return jjStopAtPos(1, 568);
+         if ((active8 & 0x200000000000000L) != 0L)
+            return jjStopAtPos(1, 569);
          break;
       case 46:
-         if ((active8 & 0x400000000000L) != 0L)
-            return jjStopAtPos(1, 558);
+         if ((active8 & 0x800000000000L) != 0L)
+            return jjStopAtPos(1, 559);
          break;
       case 47:
-         if ((active8 & 0x80000000000000L) != 0L)
-            return jjStopAtPos(1, 567);
+         if ((active8 & 0x100000000000000L) != 0L)
+            return jjStopAtPos(1, 568);
          break;
       case 61:
-         if ((active8 & 0x4000000000L) != 0L)
-            return jjStopAtPos(1, 550);
-         else if ((active8 & 0x8000000000L) != 0L)
+         if ((active8 & 0x8000000000L) != 0L)
             return jjStopAtPos(1, 551);
+         else if ((active8 & 0x10000000000L) != 0L)
+            return jjStopAtPos(1, 552);
          break;
       case 62:
-         if ((active8 & 0x10000000000L) != 0L)
-            return jjStopAtPos(1, 552);
+         if ((active8 & 0x20000000000L) != 0L)
+            return jjStopAtPos(1, 553);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0xff80000000000L, active1, 0xf80000000000000L, active2, 0x800010000000L, active3, 0x1f820000001000L, active4, 0xf0000f8L, active5, 0x300007ffcL, active6, 0x400L, active7, 0xfe00000000000eL, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xff80000000000L, active1, 0xf80000000000000L, active2, 0x800010000000L, active3, 0x1f820000001000L, active4, 0xf0000f8L, active5, 0x60000fff8L, active6, 0x800L, active7, 0x1fc00000000001cL, active8, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa2_0(active0, 0xcL, active1, 0L, active2, 0L, active3, 0L, active4, 0x100000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_0(active0, 0x10L, active1, 0L, active2, 0L, active3, 0L, active4, 0x600030000000L, active5, 0L, active6, 0x7f800L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x10L, active1, 0L, active2, 0L, active3, 0L, active4, 0x600030000000L, active5, 0L, active6, 0xff000L, active7, 0L, active8, 0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa2_0(active0, 0xe0L, active1, 0L, active2, 0L, active3, 0x10000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_0(active0, 0x300003c0000000L, active1, 0xf000000000000000L, active2, 0x100000001ffffL, active3, 0x1e070000000001cL, active4, 0x1c0003f00L, active5, 0x3ffffffc00038000L, active6, 0x3fff80000L, active7, 0x100000080000010L, active8, 0x40L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x300003c0000000L, active1, 0xf000000000000000L, active2, 0x100000001ffffL, active3, 0x1e070000000001cL, active4, 0x1c0003f00L, active5, 0x7ffffff800070000L, active6, 0x7fff00000L, active7, 0x200000100000020L, active8, 0x80L);
       case 70:
       case 102:
          if ((active4 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(1, 303, 80);
-         return jjMoveStringLiteralDfa2_0(active0, 0x100L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
+         {
+            jjmatchedKind = 303;
+            jjmatchedPos = 1;
+         }
+         return jjMoveStringLiteralDfa2_0(active0, 0x100L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1000000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa2_0(active0, 0xffc0000000000000L, active1, 0x1L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1c00000000000020L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xffc0000000000000L, active1, 0x1L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x3800000000000040L, active8, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_0(active0, 0x1c00000000L, active1, 0L, active2, 0x1e0000003e0000L, active3, 0xe00000000002000L, active4, 0x1c000L, active5, 0x4000000000000000L, active6, 0x1c00000000L, active7, 0xe200000000000fc0L, active8, 0x3L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x1c00000000L, active1, 0L, active2, 0x1e0000003e0000L, active3, 0xe00000000002000L, active4, 0x1c000L, active5, 0x8000000000000000L, active6, 0x3800000000L, active7, 0xc400000000001f80L, active8, 0x7L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa2_0(active0, 0x2000003e00L, active1, 0xeL, active2, 0x60000060000000L, active3, 0x20L, active4, 0x1000000000000L, active5, 0x1c0000L, active6, 0L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x2000003e00L, active1, 0xeL, active2, 0x60000060000000L, active3, 0x20L, active4, 0x2000000000000L, active5, 0x380000L, active6, 0L, active7, 0L, active8, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0xe0000L, active4, 0L, active5, 0L, active6, 0x2000000000L, active7, 0L, active8, 0x20L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0xe0000L, active4, 0L, active5, 0L, active6, 0x4000000000L, active7, 0L, active8, 0x40L);
       case 78:
       case 110:
          if ((active3 & 0x100000L) != 0L)
@@ -630,12 +633,12 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2,
          }
          else if ((active3 & 0x1000000000000000L) != 0L)
             return jjStartNfaWithStates_0(1, 252, 80);
-         else if ((active4 & 0x2000000000000L) != 0L)
+         else if ((active4 & 0x4000000000000L) != 0L)
          {
-            jjmatchedKind = 305;
+            jjmatchedKind = 306;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0xc000L, active1, 0L, active2, 0x180000000L, active3, 0x7fffe00000L, active4, 0x4000000000000L, active5, 0L, active6, 0L, active7, 0xff00000000L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xc000L, active1, 0L, active2, 0x180000000L, active3, 0x7fffe00000L, active4, 0x8000000000000L, active5, 0L, active6, 0L, active7, 0x1fe00000000L, active8, 0L);
       case 79:
       case 111:
          if ((active3 & 0x40L) != 0L)
@@ -648,26 +651,26 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2,
             jjmatchedKind = 289;
             jjmatchedPos = 1;
          }
-         else if ((active7 & 0x1000L) != 0L)
+         else if ((active7 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 460;
+            jjmatchedKind = 461;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0xc000000000L, active1, 0x1ffffffff0L, active2, 0xf80000000c00000L, active3, 0xe00004000000c080L, active4, 0x3c003e0003L, active5, 0x8000000000600000L, active6, 0xc0000003ffL, active7, 0x2000L, active8, 0x84L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xc000000000L, active1, 0x1ffffffff0L, active2, 0xf80000000c00000L, active3, 0xe00004000000c080L, active4, 0x3c003e0003L, active5, 0xc00000L, active6, 0x180000007ffL, active7, 0x4000L, active8, 0x108L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x38000000000000L, active5, 0L, active6, 0xf0000000000L, active7, 0x30000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x70000000000000L, active5, 0L, active6, 0x1e0000000000L, active7, 0x60000000000L, active8, 0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x200000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x1f00000000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x200000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x3e00000000000L, active7, 0L, active8, 0L);
       case 82:
       case 114:
-         if ((active4 & 0x40000000000000L) != 0L)
+         if ((active4 & 0x80000000000000L) != 0L)
          {
-            jjmatchedKind = 310;
+            jjmatchedKind = 311;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0x10000030000L, active1, 0x6000000000L, active2, 0x3000000001000000L, active3, 0xf00L, active4, 0x380000000000000L, active5, 0x7f800000L, active6, 0L, active7, 0x3fffc000L, active8, 0x18L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x10000030000L, active1, 0x6000000000L, active2, 0x3000000001000000L, active3, 0xf00L, active4, 0x700000000000000L, active5, 0xff000000L, active6, 0L, active7, 0x7fff8000L, active8, 0x30L);
       case 83:
       case 115:
          if ((active0 & 0x40000L) != 0L)
@@ -680,7 +683,7 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2,
             jjmatchedKind = 231;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0xf80000L, active1, 0L, active2, 0x400000000L, active3, 0x10000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1fc0000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xf80000L, active1, 0L, active2, 0x400000000L, active3, 0x10000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x3f80000000000L, active8, 0L);
       case 84:
       case 116:
          if ((active0 & 0x1000000L) != 0L)
@@ -688,13 +691,13 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2,
             jjmatchedKind = 24;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0xe000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000000000L, active5, 0L, active6, 0x1fe000000000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xe000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x800000000000000L, active5, 0L, active6, 0x3fc000000000000L, active7, 0L, active8, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_0(active0, 0x10000000L, active1, 0x3fff8000000000L, active2, 0xc000000000000000L, active3, 0x1L, active4, 0x38000fc000c00000L, active5, 0x80000000L, active6, 0x3e00000000000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x10000000L, active1, 0x3fff8000000000L, active2, 0xc000000000000000L, active3, 0x1L, active4, 0x70000fc000c00000L, active5, 0x100000000L, active6, 0x7c00000000000000L, active7, 0L, active8, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa2_0(active0, 0x20000000L, active1, 0L, active2, 0x800000000L, active3, 0L, active4, 0xc000000000000000L, active5, 0x3L, active6, 0L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x20000000L, active1, 0L, active2, 0x800000000L, active3, 0L, active4, 0x8000000000000000L, active5, 0x7L, active6, 0L, active7, 0L, active8, 0L);
       case 88:
       case 120:
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x7ff000000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
@@ -702,10 +705,10 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2,
       case 121:
          if ((active0 & 0x20000000000L) != 0L)
             return jjStartNfaWithStates_0(1, 41, 80);
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x40000000000000L, active2, 0xe000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0xc000000000000000L, active7, 0x40000001L, active8, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x40000000000000L, active2, 0xe000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x8000000000000000L, active7, 0x80000003L, active8, 0L);
       case 124:
-         if ((active8 & 0x200000000000L) != 0L)
-            return jjStopAtPos(1, 557);
+         if ((active8 & 0x400000000000L) != 0L)
+            return jjStopAtPos(1, 558);
          break;
       default :
          break;
@@ -727,10 +730,10 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
       case 97:
          if ((active0 & 0x20L) != 0L)
             return jjStartNfaWithStates_0(2, 5, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0xffc0000000000000L, active1, 0x1000000000000012L, active2, 0x20000L, active3, 0x20000000000300L, active4, 0L, active5, 0x1c000c0000L, active6, 0x1e012000080800L, active7, 0x400007fc000L, active8, 0x48L);
+         return jjMoveStringLiteralDfa3_0(active0, 0xffc0000000000000L, active1, 0x1000000000000012L, active2, 0x20000L, active3, 0x20000000000300L, active4, 0L, active5, 0x3800180000L, active6, 0x3c024000101000L, active7, 0x80000ff8000L, active8, 0x90L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x8000000020L, active2, 0L, active3, 0x200800000000000L, active4, 0L, active5, 0x80000000L, active6, 0x1e00000000000000L, active7, 0x10000000eL, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x8000000020L, active2, 0L, active3, 0x200800000000000L, active4, 0L, active5, 0x100000000L, active6, 0x3c00000000000000L, active7, 0x20000001cL, active8, 0L);
       case 67:
       case 99:
          if ((active0 & 0x80000L) != 0L)
@@ -740,7 +743,7 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 125;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0xc040000000000000L, active2, 0xf410000000L, active3, 0xe000000000c00000L, active4, 0x1L, active5, 0x2000000000L, active6, 0x700000L, active7, 0x200000000L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0xc040000000000000L, active2, 0xf410000000L, active3, 0xe000000000c00000L, active4, 0x1L, active5, 0x4000000000L, active6, 0xe00000L, active7, 0x400000000L, active8, 0L);
       case 68:
       case 100:
          if ((active0 & 0x40L) != 0L)
@@ -757,43 +760,43 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 273;
             jjmatchedPos = 2;
          }
-         else if ((active4 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(2, 304, 80);
-         else if ((active5 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(2, 322, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x100000000L, active3, 0x200000L, active4, 0x3800000000c0000L, active5, 0L, active6, 0x60000000000000L, active7, 0x2000010400000000L, active8, 0L);
+         else if ((active4 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 305, 80);
+         else if ((active5 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(2, 323, 80);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x100000000L, active3, 0x200000L, active4, 0x7000000000c0000L, active5, 0L, active6, 0xc0000000000000L, active7, 0x4000020800000000L, active8, 0L);
       case 69:
       case 101:
          if ((active0 & 0x10000L) != 0L)
             return jjStartNfaWithStates_0(2, 16, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0x10000100000L, active1, 0x2000000001L, active2, 0x1000030820000000L, active3, 0x12000L, active4, 0xc008000000000000L, active5, 0x7800003L, active6, 0xe0000000000L, active7, 0x1e00f80000800060L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x10000100000L, active1, 0x2000000001L, active2, 0x1000030820000000L, active3, 0x12000L, active4, 0x8010000000000000L, active5, 0xf000007L, active6, 0x1c0000000000L, active7, 0x3c01f000010000c0L, active8, 0L);
       case 70:
       case 102:
-         if ((active5 & 0x4000000000L) != 0L)
+         if ((active5 & 0x8000000000L) != 0L)
          {
-            jjmatchedKind = 358;
+            jjmatchedKind = 359;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x40000000L, active1, 0L, active2, 0x3fL, active3, 0x40000000000000L, active4, 0L, active5, 0x18000000000L, active6, 0L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x40000000L, active1, 0L, active2, 0x3fL, active3, 0x40000000000000L, active4, 0x1000000000000L, active5, 0x30000000000L, active6, 0L, active7, 0L, active8, 0L);
       case 71:
       case 103:
          if ((active0 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(2, 29, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0x480000000L, active1, 0L, active2, 0x40L, active3, 0L, active4, 0L, active5, 0x4001fe0000000000L, active6, 0L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x480000000L, active1, 0L, active2, 0x40L, active3, 0L, active4, 0L, active5, 0x8003fc0000000000L, active6, 0L, active7, 0L, active8, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000010000000L, active5, 0L, active6, 0x3000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x800000010000000L, active5, 0L, active6, 0x6000L, active7, 0L, active8, 0L);
       case 73:
       case 105:
-         if ((active5 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(2, 340, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0x30000000000000L, active1, 0L, active2, 0x40000000000L, active3, 0x40001000000L, active4, 0L, active5, 0x38000000L, active6, 0L, active7, 0x100181f000000L, active8, 0x10L);
+         if ((active5 & 0x200000L) != 0L)
+            return jjStartNfaWithStates_0(2, 341, 80);
+         return jjMoveStringLiteralDfa3_0(active0, 0x30000000000000L, active1, 0L, active2, 0x40000000000L, active3, 0x40001000000L, active4, 0L, active5, 0x70000000L, active6, 0L, active7, 0x200303e000000L, active8, 0x20L);
       case 74:
       case 106:
          return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x400000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x400000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x4000000000L, active8, 0L);
       case 76:
       case 108:
          if ((active0 & 0x200L) != 0L)
@@ -801,19 +804,19 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 9;
             jjmatchedPos = 2;
          }
-         else if ((active6 & 0x100000000000L) != 0L)
+         else if ((active6 & 0x200000000000L) != 0L)
          {
-            jjmatchedKind = 428;
+            jjmatchedKind = 429;
             jjmatchedPos = 2;
          }
-         else if ((active8 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(2, 517, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0x180000000c00L, active1, 0x3fc0L, active2, 0x4082800000000080L, active3, 0x4000L, active4, 0x403c020400000L, active5, 0x8006000000000000L, active6, 0xe00001800003L, active7, 0x6000000000000L, active8, 0L);
+         else if ((active8 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(2, 518, 80);
+         return jjMoveStringLiteralDfa3_0(active0, 0x180000000c00L, active1, 0x3fc0L, active2, 0x4082800000000080L, active3, 0x4000L, active4, 0x803c020400000L, active5, 0xc000000000000L, active6, 0x1c00003000007L, active7, 0xc000000000000L, active8, 0L);
       case 77:
       case 109:
-         if ((active6 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(2, 445, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0x80L, active1, 0x1000003c000L, active2, 0x400000L, active3, 0x800000000020000L, active4, 0xc0003800100L, active5, 0L, active6, 0x4000004c00000000L, active7, 0x790L, active8, 0L);
+         if ((active6 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(2, 446, 80);
+         return jjMoveStringLiteralDfa3_0(active0, 0x80L, active1, 0x1000003c000L, active2, 0x400000L, active3, 0x800000000020000L, active4, 0xc0003800100L, active5, 0L, active6, 0x8000009800000000L, active7, 0xf20L, active8, 0L);
       case 78:
       case 110:
          if ((active4 & 0x4000L) != 0L)
@@ -821,10 +824,10 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 270;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x800000000L, active1, 0xfffc0000L, active2, 0x800400000e000100L, active3, 0x8100000200000cL, active4, 0x400118000L, active5, 0x300000000L, active6, 0x2000000L, active7, 0x400000c000000800L, active8, 0x80L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x800000000L, active1, 0xfffc0000L, active2, 0x800400000e000100L, active3, 0x8100000200000cL, active4, 0x400118000L, active5, 0x600000000L, active6, 0x4000000L, active7, 0x8000018000001000L, active8, 0x100L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa3_0(active0, 0x6002000000L, active1, 0x400000000cL, active2, 0x2060000001000000L, active3, 0x10004000c20L, active4, 0L, active5, 0x40000000L, active6, 0x3c000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x6002000000L, active1, 0x400000000cL, active2, 0x2060000001000000L, active3, 0x10004000c20L, active4, 0L, active5, 0x80000000L, active6, 0x78000L, active7, 0L, active8, 0L);
       case 80:
       case 112:
          if ((active2 & 0x80000000000L) != 0L)
@@ -834,10 +837,10 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
          }
          else if ((active4 & 0x8L) != 0L)
             return jjStartNfaWithStates_0(2, 259, 80);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x100000000200L, active3, 0x80c0000L, active4, 0L, active5, 0x8000000000000L, active6, 0L, active7, 0x20040002000L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x100000000200L, active3, 0x80c0000L, active4, 0L, active5, 0x10000000000000L, active6, 0L, active7, 0x40080004000L, active8, 0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x8000000L, active7, 0L, active8, 0L);
       case 82:
       case 114:
          if ((active2 & 0x100000000000000L) != 0L)
@@ -845,7 +848,7 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 184;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x200100020000L, active1, 0x3ffe0300000000L, active2, 0x618000000000c00L, active3, 0x2000000000000L, active4, 0x1800200200L, active5, 0x38ff8L, active6, 0x81000038040000L, active7, 0x1f8000000000000L, active8, 0x4L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x200100020000L, active1, 0x3ffe0300000000L, active2, 0x618000000000c00L, active3, 0x2000000000000L, active4, 0x1800200200L, active5, 0x71ff0L, active6, 0x102000070080000L, active7, 0x3f0000000000000L, active8, 0x8L);
       case 83:
       case 115:
          if ((active0 & 0x4L) != 0L)
@@ -853,7 +856,7 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 2;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x3c00000600008L, active1, 0L, active2, 0x403cf000L, active3, 0xc0000f0000001L, active4, 0x40001c00L, active5, 0x70000000203000L, active6, 0x80000000c0000000L, active7, 0x80000001L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x3c00000600008L, active1, 0L, active2, 0x403cf000L, active3, 0xc0000f0000001L, active4, 0x40001c00L, active5, 0xe0000000406000L, active6, 0x180000000L, active7, 0x100000003L, active8, 0L);
       case 84:
       case 116:
          if ((active0 & 0x1000000000L) != 0L)
@@ -867,33 +870,33 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
          }
          else if ((active4 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_0(2, 293, 80);
-         else if ((active4 & 0x800000000000000L) != 0L)
+         else if ((active4 & 0x1000000000000000L) != 0L)
          {
-            jjmatchedKind = 315;
+            jjmatchedKind = 316;
             jjmatchedPos = 2;
          }
-         else if ((active6 & 0x100000000L) != 0L)
+         else if ((active6 & 0x200000000L) != 0L)
          {
-            jjmatchedKind = 416;
+            jjmatchedKind = 417;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0xc00821c002110L, active1, 0x780000000000000L, active2, 0x1600000010000L, active3, 0x10003e00000080L, active4, 0x303060000c002030L, active5, 0x1f80000000004000L, active6, 0x200000000L, active7, 0x8000000000000000L, active8, 0x3L);
+         return jjMoveStringLiteralDfa3_0(active0, 0xc00821c002110L, active1, 0x780000000000000L, active2, 0x1600000010000L, active3, 0x10003e00000080L, active4, 0x606060000c002030L, active5, 0x3f00000000008000L, active6, 0x400000000L, active7, 0L, active8, 0x7L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x400000000L, active2, 0x800000200800000L, active3, 0x8000L, active4, 0L, active5, 0L, active6, 0x800000003cL, active7, 0x20000000L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x400000000L, active2, 0x800000200800000L, active3, 0x8000L, active4, 0L, active5, 0L, active6, 0x10000000078L, active7, 0x40000000L, active8, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1800000000L, active2, 0L, active3, 0x100024000001000L, active4, 0L, active5, 0x2000000000000000L, active6, 0x400L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1800000000L, active2, 0L, active3, 0x100024000001000L, active4, 0L, active5, 0x4000000000000000L, active6, 0x800L, active7, 0L, active8, 0L);
       case 87:
       case 119:
          if ((active4 & 0x80000000L) != 0L)
             return jjStartNfaWithStates_0(2, 287, 80);
-         else if ((active6 & 0x40L) != 0L)
+         else if ((active6 & 0x80L) != 0L)
          {
-            jjmatchedKind = 390;
+            jjmatchedKind = 391;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x1000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x2L, active5, 0x400000L, active6, 0x380L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x1000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x2L, active5, 0x800000L, active6, 0x700L, active7, 0L, active8, 0L);
       case 88:
       case 120:
          if ((active4 & 0x40L) != 0L)
@@ -913,10 +916,10 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 236;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x800000L, active1, 0L, active2, 0L, active3, 0x600000000000L, active4, 0L, active5, 0L, active6, 0x100000000000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x800000L, active1, 0L, active2, 0L, active3, 0x600000000000L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0L, active8, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x1000000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x2000000000L, active7, 0L, active8, 0L);
       default :
          break;
    }
@@ -936,21 +939,21 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
       case 45:
          return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 95:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x600000000000L, active4, 0L, active5, 0L, active6, 0x180L, active7, 0x18000000002000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x600000000000L, active4, 0L, active5, 0L, active6, 0x300L, active7, 0x30000000004000L, active8, 0L);
       case 65:
       case 97:
          if ((active1 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 119, 80);
          else if ((active3 & 0x20000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 233, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0xc010800021000L, active1, 0x3800000000L, active2, 0x2400060e440003L, active3, 0xe000000000000000L, active4, 0x10000001L, active5, 0x20000000003f8L, active6, 0L, active7, 0x14000800000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0xc010800021000L, active1, 0x3800000000L, active2, 0x2400060e440003L, active3, 0xe000000000000000L, active4, 0x10000001L, active5, 0x40000000007f0L, active6, 0L, active7, 0x28001000000L, active8, 0L);
       case 66:
       case 98:
          if ((active0 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 37, 80);
          else if ((active1 & 0x4L) != 0L)
             return jjStartNfaWithStates_0(3, 66, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x800000L, active3, 0x20L, active4, 0x40000000100L, active5, 0L, active6, 0L, active7, 0x40000000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x800000L, active3, 0x20L, active4, 0x40000000100L, active5, 0L, active6, 0L, active7, 0x80000000000000L, active8, 0L);
       case 67:
       case 99:
          if ((active2 & 0x2000L) != 0L)
@@ -963,17 +966,17 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
             jjmatchedKind = 168;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0xc00000000000L, active1, 0x1L, active2, 0x800102000008d000L, active3, 0L, active4, 0x30L, active5, 0x41879000L, active6, 0x2000f0000000000L, active7, 0x20000080000000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0xc00000000000L, active1, 0x1L, active2, 0x800102000008d000L, active3, 0L, active4, 0x30L, active5, 0x830f2000L, active6, 0x4001e0000000000L, active7, 0x40000100000000L, active8, 0L);
       case 68:
       case 100:
          if ((active3 & 0x4000L) != 0L)
             return jjStartNfaWithStates_0(3, 206, 80);
-         else if ((active5 & 0x400000000L) != 0L)
+         else if ((active5 & 0x800000000L) != 0L)
          {
-            jjmatchedKind = 354;
+            jjmatchedKind = 355;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0x200000000000L, active1, 0xc0000L, active2, 0L, active3, 0x20000000000000L, active4, 0L, active5, 0x800000000L, active6, 0x60000000000000L, active7, 0x4000000000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x200000000000L, active1, 0xc0000L, active2, 0L, active3, 0x20000000000000L, active4, 0L, active5, 0x1000000000L, active6, 0xc0000000000000L, active7, 0x8000000000000000L, active8, 0L);
       case 69:
       case 101:
          if ((active0 & 0x1000000000000L) != 0L)
@@ -1000,55 +1003,55 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
          }
          else if ((active4 & 0x400000000L) != 0L)
             return jjStartNfaWithStates_0(3, 290, 80);
-         else if ((active5 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 383, 80);
-         else if ((active6 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 420, 80);
-         else if ((active6 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 422, 80);
-         else if ((active7 & 0x80L) != 0L)
+         else if ((active6 & 0x1L) != 0L)
+            return jjStartNfaWithStates_0(3, 384, 80);
+         else if ((active6 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 421, 80);
+         else if ((active6 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 423, 80);
+         else if ((active7 & 0x100L) != 0L)
          {
-            jjmatchedKind = 455;
+            jjmatchedKind = 456;
             jjmatchedPos = 3;
          }
-         else if ((active7 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 477, 80);
          else if ((active7 & 0x40000000L) != 0L)
             return jjStartNfaWithStates_0(3, 478, 80);
-         else if ((active8 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(3, 519, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0x202100L, active1, 0x600010000000000L, active2, 0x20020300001048cL, active3, 0x110801e3202000cL, active4, 0x1580780002000002L, active5, 0xc018000400000L, active6, 0x200000803400L, active7, 0x28400000700L, active8, 0L);
+         else if ((active7 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 479, 80);
+         else if ((active8 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(3, 520, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0x202100L, active1, 0x600010000000000L, active2, 0x20020300001048cL, active3, 0x110801e3202000cL, active4, 0x2b00780002000002L, active5, 0x18030000800000L, active6, 0x400001006800L, active7, 0x50800000e00L, active8, 0L);
       case 70:
       case 102:
-         if ((active6 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 408, 80);
+         if ((active6 & 0x2000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 409, 80);
          break;
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x20000L, active3, 0x83000000000000L, active4, 0x200L, active5, 0x100000000L, active6, 0L, active7, 0x4000f000000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x20000L, active3, 0x83000000000000L, active4, 0x200L, active5, 0x200000000L, active6, 0L, active7, 0x8001e000000L, active8, 0L);
       case 72:
       case 104:
          if ((active0 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 39, 80);
          else if ((active2 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(3, 156, 80);
-         else if ((active5 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(3, 334, 80);
-         else if ((active7 & 0x8000000000000000L) != 0L)
+         else if ((active5 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(3, 335, 80);
+         else if ((active8 & 0x1L) != 0L)
          {
-            jjmatchedKind = 511;
+            jjmatchedKind = 512;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x2000L, active5, 0x4000000000000000L, active6, 0L, active7, 0L, active8, 0x3L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x2000L, active5, 0x8000000000000000L, active6, 0L, active7, 0L, active8, 0x6L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa4_0(active0, 0x40000480400090L, active1, 0x4000000000000000L, active2, 0x830L, active3, 0x800000000201001L, active4, 0x230000004040000L, active5, 0x200000L, active6, 0x408000000L, active7, 0x4000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x40000480400090L, active1, 0x4000000000000000L, active2, 0x830L, active3, 0x800000000201001L, active4, 0x460000004040000L, active5, 0x400000L, active6, 0x810000000L, active7, 0x8000L, active8, 0L);
       case 75:
       case 107:
-         if ((active5 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 353, 80);
-         else if ((active8 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(3, 514, 80);
+         if ((active5 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 354, 80);
+         else if ((active8 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(3, 515, 80);
          break;
       case 76:
       case 108:
@@ -1069,47 +1072,47 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
             jjmatchedKind = 294;
             jjmatchedPos = 3;
          }
-         else if ((active5 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 356, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0x20104000000000L, active1, 0x9040000000000fd0L, active2, 0x8010c000000000L, active3, 0x10000440000L, active4, 0x38000000000L, active5, 0x80000000L, active6, 0x100002000000803L, active7, 0xeL, active8, 0L);
+         else if ((active5 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 357, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0x20104000000000L, active1, 0x9040000000000fd0L, active2, 0x8010c000000000L, active3, 0x10000440000L, active4, 0x38000000000L, active5, 0x100000000L, active6, 0x200004000001006L, active7, 0x1cL, active8, 0L);
       case 77:
       case 109:
          if ((active2 & 0x2000000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 189, 80);
-         else if ((active7 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 476, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0x2800000L, active1, 0x3c000L, active2, 0x20000000L, active3, 0L, active4, 0x1800000000L, active5, 0x8000000L, active6, 0x4400000000000000L, active7, 0L, active8, 0L);
+         else if ((active7 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 477, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0x2800000L, active1, 0x3c000L, active2, 0x20000000L, active3, 0L, active4, 0x1800000000L, active5, 0x10000000L, active6, 0x8800000000000000L, active7, 0L, active8, 0L);
       case 78:
       case 110:
          if ((active3 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 234, 80);
-         else if ((active4 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 307, 80);
-         else if ((active5 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(3, 339, 80);
-         else if ((active7 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(3, 453, 80);
-         else if ((active7 & 0x400000000000000L) != 0L)
+         else if ((active4 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 308, 80);
+         else if ((active5 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(3, 340, 80);
+         else if ((active7 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(3, 454, 80);
+         else if ((active7 & 0x800000000000000L) != 0L)
          {
-            jjmatchedKind = 506;
+            jjmatchedKind = 507;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0x100100000L, active1, 0x400700000L, active2, 0x800000000000000L, active3, 0x10300L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8010020007f8000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x100100000L, active1, 0x400700000L, active2, 0x800000000000000L, active3, 0x10300L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1002004000ff0000L, active8, 0L);
       case 79:
       case 111:
          if ((active3 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(3, 199, 80);
          else if ((active3 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 229, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0x40000c08L, active1, 0x20L, active2, 0x40000000000000L, active3, 0x4000080000L, active4, 0x20000000L, active5, 0x2000000010000000L, active6, 0x140000L, active7, 0xb00000000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x40000c08L, active1, 0x20L, active2, 0x40000000000000L, active3, 0x4000080000L, active4, 0x20000000L, active5, 0x4000000020000000L, active6, 0x280000L, active7, 0x1600000000L, active8, 0L);
       case 80:
       case 112:
          if ((active2 & 0x1000000L) != 0L)
             return jjStartNfaWithStates_0(3, 152, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x100000L, active3, 0L, active4, 0x2000000000800000L, active5, 0x2000000L, active6, 0x80003c000L, active7, 0x10L, active8, 0x8L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x100000L, active3, 0L, active4, 0x4000000000800000L, active5, 0x4000000L, active6, 0x1000078000L, active7, 0x20L, active8, 0x10L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000L, active8, 0L);
       case 82:
       case 114:
          if ((active0 & 0x80000000000000L) != 0L)
@@ -1124,28 +1127,28 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
          }
          else if ((active3 & 0x8000L) != 0L)
             return jjStartNfaWithStates_0(3, 207, 80);
-         else if ((active4 & 0x4000000000000000L) != 0L)
+         else if ((active4 & 0x8000000000000000L) != 0L)
          {
-            jjmatchedKind = 318;
+            jjmatchedKind = 319;
             jjmatchedPos = 3;
          }
-         else if ((active7 & 0x80000000000L) != 0L)
+         else if ((active7 & 0x100000000000L) != 0L)
          {
-            jjmatchedKind = 491;
+            jjmatchedKind = 492;
             jjmatchedPos = 3;
          }
-         else if ((active8 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(3, 518, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0xff0000000c000000L, active1, 0xffe0200000000L, active2, 0x400800000040L, active3, 0x200000000802000L, active4, 0x8000000000000000L, active5, 0x1fe0000000003L, active6, 0x2008000080000L, active7, 0x1000f00000000000L, active8, 0L);
+         else if ((active8 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(3, 519, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0xff0000000c000000L, active1, 0xffe0200000000L, active2, 0x400800000040L, active3, 0x200000000802000L, active4, 0L, active5, 0x3fc0000000007L, active6, 0x4010000100000L, active7, 0x2001e00000000000L, active8, 0L);
       case 83:
       case 115:
-         if ((active6 & 0x200L) != 0L)
-            return jjStartNfaWithStates_0(3, 393, 80);
-         else if ((active6 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 417, 80);
-         else if ((active7 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(3, 454, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x3000401f80000aL, active2, 0x18840000000100L, active3, 0L, active4, 0x1c00L, active5, 0x4002000L, active6, 0x18004000c2000000L, active7, 0x100000000000000L, active8, 0L);
+         if ((active6 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(3, 394, 80);
+         else if ((active6 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 418, 80);
+         else if ((active7 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(3, 455, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x3000401f80000aL, active2, 0x18840000000100L, active3, 0L, active4, 0x1000000001c00L, active5, 0x8004000L, active6, 0x3000800184000000L, active7, 0x200000000000000L, active8, 0L);
       case 84:
       case 116:
          if ((active0 & 0x2000000000000L) != 0L)
@@ -1159,25 +1162,25 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(3, 246, 80);
          else if ((active4 & 0x100000000L) != 0L)
             return jjStartNfaWithStates_0(3, 288, 80);
-         else if ((active6 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 432, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0xa0000000L, active2, 0x402000000200200L, active3, 0x80000c1000000L, active4, 0x40500000L, active5, 0x30000000000c00L, active6, 0x801c00000020003cL, active7, 0x2000000000000001L, active8, 0x10L);
+         else if ((active6 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 433, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0xa0000000L, active2, 0x402000000200200L, active3, 0x80000c1000000L, active4, 0x40500000L, active5, 0x60000000001800L, active6, 0x38000000400078L, active7, 0x4000000000000003L, active8, 0x20L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x3000L, active2, 0L, active3, 0xc000c00L, active4, 0x8088000L, active5, 0x1fc0002000000000L, active6, 0x80000004400000L, active7, 0x6000000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x3000L, active2, 0L, active3, 0xc000c00L, active4, 0x8088000L, active5, 0x3f80004000000000L, active6, 0x100000008800000L, active7, 0xc000000000000L, active8, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x40000000L, active2, 0L, active3, 0L, active4, 0x10080L, active5, 0x20000000L, active6, 0x30000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x40000000L, active2, 0L, active3, 0L, active4, 0x10080L, active5, 0x40000000L, active6, 0x60000000L, active7, 0L, active8, 0L);
       case 87:
       case 119:
-         if ((active7 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 505, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0x200000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x800000000000L, active7, 0L, active8, 0L);
+         if ((active7 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 506, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0x200000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x1000000000000L, active7, 0L, active8, 0L);
       case 89:
       case 121:
-         if ((active4 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 306, 80);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x80000000000800L, active8, 0L);
+         if ((active4 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 307, 80);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x100000000001000L, active8, 0L);
       default :
          break;
    }
@@ -1195,18 +1198,18 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa5_0(active0, 0x100000000000000L, active1, 0x10000000000L, active2, 0L, active3, 0x8000000000000L, active4, 0L, active5, 0x1fe0000000000L, active6, 0L, active7, 0xf00000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x100000000000000L, active1, 0x10000000000L, active2, 0L, active3, 0x8000000000000L, active4, 0L, active5, 0x3fc0000000000L, active6, 0L, active7, 0x1e00000000000L, active8, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa5_0(active0, 0xfe00c00000000000L, active1, 0x800000002000c7c0L, active2, 0x500000100000L, active3, 0x2000100c0002020L, active4, 0x9800011c80L, active5, 0x1c00000a001000L, active6, 0x800008000000L, active7, 0x80000000L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0xfe00c00000000000L, active1, 0x800000002000c7c0L, active2, 0x500000100000L, active3, 0x2000100c0002020L, active4, 0x9800011c80L, active5, 0x38000014002000L, active6, 0x1000010000000L, active7, 0x100000000L, active8, 0L);
       case 66:
       case 98:
          if ((active4 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(4, 285, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x1L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x2L, active7, 0L, active8, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa5_0(active0, 0x400L, active1, 0L, active2, 0L, active3, 0x200000L, active4, 0x100000000000L, active5, 0L, active6, 0x80008000880080L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x400L, active1, 0L, active2, 0L, active3, 0x200000L, active4, 0x100000000000L, active5, 0L, active6, 0x100010001100100L, active7, 0L, active8, 0L);
       case 68:
       case 100:
          if ((active2 & 0x800000000000000L) != 0L)
@@ -1224,41 +1227,41 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(4, 241, 80);
          else if ((active4 & 0x200L) != 0L)
             return jjStartNfaWithStates_0(4, 265, 80);
-         else if ((active5 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 352, 80);
-         else if ((active6 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(4, 395, 80);
-         else if ((active6 & 0x4000L) != 0L)
+         else if ((active5 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 353, 80);
+         else if ((active6 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(4, 396, 80);
+         else if ((active6 & 0x8000L) != 0L)
          {
-            jjmatchedKind = 398;
+            jjmatchedKind = 399;
             jjmatchedPos = 4;
          }
-         else if ((active6 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 424, 80);
-         else if ((active6 & 0x4000000000000L) != 0L)
+         else if ((active6 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 425, 80);
+         else if ((active6 & 0x8000000000000L) != 0L)
          {
-            jjmatchedKind = 434;
+            jjmatchedKind = 435;
             jjmatchedPos = 4;
          }
-         else if ((active6 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 440, 80);
-         else if ((active7 & 0x2L) != 0L)
+         else if ((active6 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 441, 80);
+         else if ((active7 & 0x4L) != 0L)
          {
-            jjmatchedKind = 449;
+            jjmatchedKind = 450;
             jjmatchedPos = 4;
          }
-         else if ((active7 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 490, 80);
-         else if ((active7 & 0x2000000000000L) != 0L)
+         else if ((active7 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 491, 80);
+         else if ((active7 & 0x4000000000000L) != 0L)
          {
-            jjmatchedKind = 497;
+            jjmatchedKind = 498;
             jjmatchedPos = 4;
          }
-         else if ((active7 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 508, 80);
-         else if ((active8 & 0x10L) != 0L)
-            return jjStartNfaWithStates_0(4, 516, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0x104200000000L, active1, 0xffe0240700810L, active2, 0x2000120000140L, active3, 0x840000L, active4, 0x40000000100L, active5, 0x44838000L, active6, 0xc068000034038000L, active7, 0x80400000000000dL, active8, 0L);
+         else if ((active7 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 509, 80);
+         else if ((active8 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(4, 517, 80);
+         return jjMoveStringLiteralDfa5_0(active0, 0x104200000000L, active1, 0xffe0240700810L, active2, 0x2000120000140L, active3, 0x840000L, active4, 0x1040000000100L, active5, 0x89070000L, active6, 0x80d0000068070000L, active7, 0x100800000000001bL, active8, 0L);
       case 70:
       case 102:
          if ((active2 & 0x400L) != 0L)
@@ -1266,9 +1269,9 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
          return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x40000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 71:
       case 103:
-         if ((active7 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 496, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0x400000L, active1, 0L, active2, 0L, active3, 0x200000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0xf000000L, active8, 0L);
+         if ((active7 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 497, 80);
+         return jjMoveStringLiteralDfa5_0(active0, 0x400000L, active1, 0L, active2, 0L, active3, 0x200000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1e000000L, active8, 0L);
       case 72:
       case 104:
          if ((active2 & 0x200L) != 0L)
@@ -1282,15 +1285,15 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
          }
          else if ((active4 & 0x100000L) != 0L)
             return jjStartNfaWithStates_0(4, 276, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x20L, active5, 0L, active6, 0L, active7, 0x2020000000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x20L, active5, 0L, active6, 0L, active7, 0x4040000000000000L, active8, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_0(active0, 0x2020000e000000L, active1, 0x800f0000L, active2, 0x200000000600000L, active3, 0x20000001000000L, active4, 0x10040400000L, active5, 0xa1040c00L, active6, 0x100e00c220003cL, active7, 0x1c0000000000800L, active8, 0x1L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x2020000e000000L, active1, 0x800f0000L, active2, 0x200000000600000L, active3, 0x20000001000000L, active4, 0x10040400000L, active5, 0x142081800L, active6, 0x201c0184400078L, active7, 0x380000000001000L, active8, 0x2L);
       case 75:
       case 107:
          if ((active1 & 0x1L) != 0L)
             return jjStartNfaWithStates_0(4, 64, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x4000000000L, active4, 0L, active5, 0x2000000000000000L, active6, 0L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x4000000000L, active4, 0L, active5, 0x4000000000000000L, active6, 0L, active7, 0L, active8, 0L);
       case 76:
       case 108:
          if ((active1 & 0x20L) != 0L)
@@ -1306,10 +1309,10 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
             jjmatchedKind = 253;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active0, 0xc000000000008L, active1, 0x1000000000000000L, active2, 0x200840000L, active3, 0xc000000000000000L, active4, 0x8000000000080000L, active5, 0x40000000000001L, active6, 0x200002c00040000L, active7, 0x6000L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0xc000000000008L, active1, 0x1000000000000000L, active2, 0x200840000L, active3, 0xc000000000000000L, active4, 0x80000L, active5, 0x80000000000003L, active6, 0x400005800080000L, active7, 0xc000L, active8, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa5_0(active0, 0x800000L, active1, 0x4000000000003000L, active2, 0xe000000L, active3, 0x200000000000L, active4, 0L, active5, 0x3f8L, active6, 0x3000L, active7, 0x4200000000L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x800000L, active1, 0x4000000000003000L, active2, 0xe000000L, active3, 0x200000000000L, active4, 0L, active5, 0x7f0L, active6, 0x6000L, active7, 0x8400000000L, active8, 0L);
       case 78:
       case 110:
          if ((active0 & 0x80L) != 0L)
@@ -1318,12 +1321,12 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(4, 31, 80);
          else if ((active0 & 0x40000000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 54, 80);
-         else if ((active7 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 483, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0x400000000L, active1, 0L, active2, 0x20030L, active3, 0x10001000L, active4, 0x200000000000000L, active5, 0L, active6, 0x100100L, active7, 0L, active8, 0L);
+         else if ((active7 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 484, 80);
+         return jjMoveStringLiteralDfa5_0(active0, 0x400000000L, active1, 0L, active2, 0x20030L, active3, 0x10001000L, active4, 0x400000000000000L, active5, 0L, active6, 0x200200L, active7, 0L, active8, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa5_0(active0, 0x110000010L, active1, 0x30000000000000L, active2, 0x80000000080000L, active3, 0x1L, active4, 0x30000004002000L, active5, 0L, active6, 0L, active7, 0x4000002000000010L, active8, 0x2L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x110000010L, active1, 0x30000000000000L, active2, 0x80000000080000L, active3, 0x1L, active4, 0x60000004002000L, active5, 0L, active6, 0L, active7, 0x8000004000000020L, active8, 0x4L);
       case 80:
       case 112:
          if ((active3 & 0x400L) != 0L)
@@ -1331,7 +1334,7 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
             jjmatchedKind = 202;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x3400000000L, active3, 0x800L, active4, 0L, active5, 0L, active6, 0x400L, active7, 0x8000000000000L, active8, 0x8L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x3400000000L, active3, 0x800L, active4, 0L, active5, 0L, active6, 0x800L, active7, 0x10000000000000L, active8, 0x10L);
       case 82:
       case 114:
          if ((active0 & 0x100L) != 0L)
@@ -1346,22 +1349,22 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(4, 257, 80);
          else if ((active4 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(4, 284, 80);
-         else if ((active4 & 0x80000000000000L) != 0L)
+         else if ((active4 & 0x100000000000000L) != 0L)
          {
-            jjmatchedKind = 311;
+            jjmatchedKind = 312;
             jjmatchedPos = 4;
          }
-         else if ((active4 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 316, 80);
-         else if ((active5 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(4, 342, 80);
-         else if ((active5 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 348, 80);
-         else if ((active7 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 482, 80);
-         else if ((active7 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 489, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0x840200000L, active1, 0x1800000000L, active2, 0x40020000001d00cL, active3, 0x10001c2008000cL, active4, 0x500080008000000L, active5, 0x1fa001a000000002L, active6, 0x400000L, active7, 0L, active8, 0L);
+         else if ((active4 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 317, 80);
+         else if ((active5 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(4, 343, 80);
+         else if ((active5 & 0x20000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 349, 80);
+         else if ((active7 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 483, 80);
+         else if ((active7 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 490, 80);
+         return jjMoveStringLiteralDfa5_0(active0, 0x840200000L, active1, 0x1800000000L, active2, 0x40020000001d00cL, active3, 0x10001c2008000cL, active4, 0xa00080008000000L, active5, 0x3f40034000000004L, active6, 0x800000L, active7, 0L, active8, 0L);
       case 83:
       case 115:
          if ((active1 & 0x4000000000L) != 0L)
@@ -1372,9 +1375,9 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(4, 281, 80);
          else if ((active4 & 0x20000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 297, 80);
-         else if ((active5 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 355, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0x100000L, active1, 0x2L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x100080007f8100L, active8, 0L);
+         else if ((active5 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 356, 80);
+         return jjMoveStringLiteralDfa5_0(active0, 0x100000L, active1, 0x2L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20010000ff0200L, active8, 0L);
       case 84:
       case 116:
          if ((active1 & 0x400000000L) != 0L)
@@ -1397,16 +1400,16 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(4, 219, 80);
          else if ((active3 & 0x800000000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 251, 80);
-         else if ((active5 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 382, 80);
-         else if ((active6 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 433, 80);
-         else if ((active7 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(4, 471, 80);
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x60000201f800000L, active2, 0x8010040000000080L, active3, 0x80400000010200L, active4, 0x600000008001L, active5, 0x2000000202000L, active6, 0x1800400000000000L, active7, 0x10000000000L, active8, 0L);
+         else if ((active5 & 0x8000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 383, 80);
+         else if ((active6 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 434, 80);
+         else if ((active7 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 472, 80);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x60000201f800000L, active2, 0x8010040000000080L, active3, 0x80400000010200L, active4, 0x600000008001L, active5, 0x4000000404000L, active6, 0x3000800000000000L, active7, 0x20000000000L, active8, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x2c000000003L, active3, 0x1000000400000L, active4, 0x2000000000000000L, active5, 0L, active6, 0x400000000000002L, active7, 0x1100000000L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x2c000000003L, active3, 0x1000000400000L, active4, 0x4000000000000000L, active5, 0L, active6, 0x800000000000004L, active7, 0x2200000000L, active8, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x800L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
@@ -1417,7 +1420,7 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
          break;
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x200000000000L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000000L, active7, 0L, active8, 0L);
       case 89:
       case 121:
          if ((active0 & 0x20000L) != 0L)
@@ -1427,7 +1430,7 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
          return jjMoveStringLiteralDfa5_0(active0, 0x1000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x600L, active8, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0xc00L, active8, 0L);
       default :
          break;
    }
@@ -1445,15 +1448,15 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x1800000002L, active2, 0x10000000000100L, active3, 0L, active4, 0x200000000000L, active5, 0L, active6, 0x38000L, active7, 0x2000000000000004L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x1800000002L, active2, 0x10000000000100L, active3, 0L, active4, 0x200000000000L, active5, 0L, active6, 0x70000L, active7, 0x4000000000000008L, active8, 0L);
       case 65:
       case 97:
-         if ((active6 & 0x1000L) != 0L)
+         if ((active6 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 396;
+            jjmatchedKind = 397;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active0, 0x4000000400L, active1, 0x4000000000000000L, active2, 0x400000000000000L, active3, 0x1100000120000cL, active4, 0x8200000008000000L, active5, 0x60000000401L, active6, 0x200400400002001L, active7, 0x30000000078000L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x4000000400L, active1, 0x4000000000000000L, active2, 0x400000000000000L, active3, 0x1100000120000cL, active4, 0x400000008000000L, active5, 0xc0000000803L, active6, 0x400800800004002L, active7, 0x600000000f0000L, active8, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa6_0(active0, 0xc000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x8000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
@@ -1461,20 +1464,20 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
       case 99:
          if ((active0 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_0(5, 25, 80);
-         else if ((active5 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 351, 80);
-         else if ((active6 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 436, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0xfe00000000000000L, active1, 0x700800L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x80000000000L, active6, 0x200000000000L, active7, 0L, active8, 0L);
+         else if ((active5 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 352, 80);
+         else if ((active6 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 437, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0xfe00000000000000L, active1, 0x700800L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x100000000000L, active6, 0x400000000000L, active7, 0L, active8, 0L);
       case 68:
       case 100:
          if ((active0 & 0x100000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 44, 80);
          else if ((active4 & 0x2000L) != 0L)
             return jjStartNfaWithStates_0(5, 269, 80);
-         else if ((active6 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(5, 404, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0xc00000000000L, active1, 0x10000000000L, active2, 0xc000000000L, active3, 0x400000L, active4, 0L, active5, 0x40800000L, active6, 0L, active7, 0xf00000000000L, active8, 0L);
+         else if ((active6 & 0x200000L) != 0L)
+            return jjStartNfaWithStates_0(5, 405, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0xc00000000000L, active1, 0x10000000000L, active2, 0xc000000000L, active3, 0x400000L, active4, 0L, active5, 0x81000000L, active6, 0L, active7, 0x1e00000000000L, active8, 0L);
       case 69:
       case 101:
          if ((active0 & 0x40000000L) != 0L)
@@ -1493,22 +1496,22 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(5, 271, 80);
          else if ((active4 & 0x80000L) != 0L)
             return jjStartNfaWithStates_0(5, 275, 80);
-         else if ((active5 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 381, 80);
-         else if ((active6 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 419, 80);
-         else if ((active6 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 423, 80);
-         else if ((active7 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 484, 80);
-         else if ((active7 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 488, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0x200800000L, active1, 0L, active2, 0x830L, active3, 0x204200000200L, active4, 0x20L, active5, 0x180000003f8L, active6, 0L, active7, 0x400f002000L, active8, 0x8L);
+         else if ((active5 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 382, 80);
+         else if ((active6 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 420, 80);
+         else if ((active6 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 424, 80);
+         else if ((active7 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 485, 80);
+         else if ((active7 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 489, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0x200800000L, active1, 0L, active2, 0x830L, active3, 0x204200000200L, active4, 0x20L, active5, 0x300000007f0L, active6, 0L, active7, 0x801e004000L, active8, 0x10L);
       case 70:
       case 102:
          if ((active4 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 296, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0xe0000000000L, active7, 0x180000L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x1c0000000000L, active7, 0x300000L, active8, 0L);
       case 71:
       case 103:
          if ((active3 & 0x1000L) != 0L)
@@ -1518,29 +1521,29 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
       case 104:
          if ((active3 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 247, 80);
-         else if ((active6 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(5, 403, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x2000L, active6, 0L, active7, 0L, active8, 0L);
+         else if ((active6 & 0x100000L) != 0L)
+            return jjStartNfaWithStates_0(5, 404, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000L, active6, 0L, active7, 0L, active8, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa6_0(active0, 0x100000L, active1, 0x600000020000000L, active2, 0x800010000e00d000L, active3, 0x30800L, active4, 0x100080000040000L, active5, 0x22100000200002L, active6, 0x1000002000400000L, active7, 0x4000L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x100000L, active1, 0x600000020000000L, active2, 0x800010000e00d000L, active3, 0x30800L, active4, 0x200080000040000L, active5, 0x44200000400004L, active6, 0x2000004000800000L, active7, 0x8000L, active8, 0L);
       case 76:
       case 108:
          if ((active3 & 0x20L) != 0L)
             return jjStartNfaWithStates_0(5, 197, 80);
-         else if ((active5 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_0(5, 332, 80);
-         else if ((active6 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(5, 402, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0x100000000000000L, active1, 0L, active2, 0x40003L, active3, 0L, active4, 0x1800010080L, active5, 0x20000000L, active6, 0x400000008000000L, active7, 0x600000L, active8, 0L);
+         else if ((active5 & 0x2000L) != 0L)
+            return jjStartNfaWithStates_0(5, 333, 80);
+         else if ((active6 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(5, 403, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0x100000000000000L, active1, 0L, active2, 0x40003L, active3, 0L, active4, 0x1800010080L, active5, 0x40000000L, active6, 0x800000010000000L, active7, 0xc00000L, active8, 0L);
       case 77:
       case 109:
-         if ((active6 & 0x8000000000000000L) != 0L)
+         if ((active7 & 0x1L) != 0L)
          {
-            jjmatchedKind = 447;
+            jjmatchedKind = 448;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x10000L, active3, 0x840000L, active4, 0L, active5, 0L, active6, 0x8000000000000L, active7, 0x200000001L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x10000L, active3, 0x840000L, active4, 0L, active5, 0L, active6, 0x10000000000000L, active7, 0x400000002L, active8, 0L);
       case 78:
       case 110:
          if ((active0 & 0x10L) != 0L)
@@ -1554,27 +1557,27 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(5, 150, 80);
          else if ((active3 & 0x1L) != 0L)
             return jjStartNfaWithStates_0(5, 192, 80);
-         else if ((active4 & 0x10000000000000L) != 0L)
+         else if ((active4 & 0x20000000000000L) != 0L)
          {
-            jjmatchedKind = 308;
+            jjmatchedKind = 309;
             jjmatchedPos = 5;
          }
-         else if ((active5 & 0x80000000000000L) != 0L)
+         else if ((active5 & 0x100000000000000L) != 0L)
          {
-            jjmatchedKind = 375;
+            jjmatchedKind = 376;
             jjmatchedPos = 5;
          }
-         else if ((active8 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(5, 512, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0x20200000400000L, active1, 0xffe008000e000L, active2, 0x200020280000L, active3, 0x200000c0000000L, active4, 0x20000044000000L, active5, 0x1f00000000078000L, active6, 0x400003cL, active7, 0xc0000100000800L, active8, 0L);
+         else if ((active8 & 0x2L) != 0L)
+            return jjStartNfaWithStates_0(5, 513, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0x20200000400000L, active1, 0xffe008000e000L, active2, 0x200020280000L, active3, 0x200000c0000000L, active4, 0x40000044000000L, active5, 0x3e000000000f0000L, active6, 0x8000078L, active7, 0x180000200001000L, active8, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_0(active0, 0xc000000000000L, active1, 0x1000000000000000L, active2, 0x20000L, active3, 0L, active4, 0x1L, active5, 0L, active6, 0xc0200480L, active7, 0x108000000000600L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0xc000000000000L, active1, 0x1000000000000000L, active2, 0x20000L, active3, 0L, active4, 0x1L, active5, 0L, active6, 0x180400900L, active7, 0x210000000000c00L, active8, 0L);
       case 80:
       case 112:
-         if ((active6 & 0x2L) != 0L)
-            return jjStartNfaWithStates_0(5, 385, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x80000000L, active8, 0L);
+         if ((active6 & 0x4L) != 0L)
+            return jjStartNfaWithStates_0(5, 386, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x100000000L, active8, 0L);
       case 82:
       case 114:
          if ((active1 & 0x10000000000000L) != 0L)
@@ -1588,12 +1591,12 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(5, 264, 80);
          else if ((active4 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 298, 80);
-         else if ((active6 & 0x10000000L) != 0L)
+         else if ((active6 & 0x20000000L) != 0L)
          {
-            jjmatchedKind = 412;
+            jjmatchedKind = 413;
             jjmatchedPos = 5;
          }
-         return jjMoveStringLiteralDfa6_0(active0, 0x10000000L, active1, 0x802000005f800000L, active2, 0xcL, active3, 0x200000000002000L, active4, 0L, active5, 0x1020000e000000L, active6, 0x800800020000000L, active7, 0x10L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x10000000L, active1, 0x802000005f800000L, active2, 0xcL, active3, 0x200000000002000L, active4, 0L, active5, 0x2040001c000000L, active6, 0x1001000040000000L, active7, 0x20L, active8, 0L);
       case 83:
       case 115:
          if ((active0 & 0x1000L) != 0L)
@@ -1604,11 +1607,11 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(5, 170, 80);
          else if ((active4 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 302, 80);
-         else if ((active4 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 314, 80);
-         else if ((active7 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 498, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x200000010L, active2, 0L, active3, 0xc10000000L, active4, 0x400000L, active5, 0x5c02001000000L, active6, 0L, active7, 0x8L, active8, 0L);
+         else if ((active4 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 315, 80);
+         else if ((active7 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 499, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x200000010L, active2, 0L, active3, 0xc10000000L, active4, 0x400000L, active5, 0xb804002000000L, active6, 0L, active7, 0x10L, active8, 0L);
       case 84:
       case 116:
          if ((active0 & 0x400000000L) != 0L)
@@ -1629,26 +1632,28 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(5, 221, 80);
          else if ((active4 & 0x100000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 300, 80);
-         else if ((active4 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 317, 80);
-         else if ((active5 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 374, 80);
-         else if ((active6 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(5, 407, 80);
-         else if ((active7 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 487, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0x10000200000L, active1, 0xe07c0L, active2, 0x22000100000L, active3, 0xc000010000000000L, active4, 0L, active5, 0x8000000000800L, active6, 0x4080000002000000L, active7, 0x100L, active8, 0L);
+         else if ((active4 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 304, 80);
+         else if ((active4 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 318, 80);
+         else if ((active5 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 375, 80);
+         else if ((active6 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 408, 80);
+         else if ((active7 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 488, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0x10000200000L, active1, 0xe07c0L, active2, 0x22000100000L, active3, 0xc000010000000000L, active4, 0L, active5, 0x10000000001000L, active6, 0x8100000004000000L, active7, 0x200L, active8, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa6_0(active0, 0x100000008L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x100L, active7, 0L, active8, 0x2L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x100000008L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x200L, active7, 0L, active8, 0x4L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x8001000000000L, active4, 0L, active5, 0L, active6, 0x60000000000000L, active7, 0x800000000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x8001000000000L, active4, 0L, active5, 0L, active6, 0xc0000000000000L, active7, 0x1000000000000000L, active8, 0L);
       case 87:
       case 119:
-         if ((active7 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(5, 510, 80);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x80000000000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000L, active8, 0L);
+         if ((active7 & 0x8000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(5, 511, 80);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x80000000000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x4000000000L, active8, 0L);
       case 88:
       case 120:
          return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
@@ -1674,17 +1679,17 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 50:
-         if ((active5 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 365, 80);
+         if ((active5 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 366, 80);
          break;
       case 95:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x20000000002000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x60000020002000L, active7, 0x1L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x20000000002000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0xc0000040004000L, active7, 0x2L, active8, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_0(active0, 0x200000000000L, active1, 0xf800000L, active2, 0x200000000004L, active3, 0x8001000020000L, active4, 0x4000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x40000000600118L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x200000000000L, active1, 0xf800000L, active2, 0x200000000004L, active3, 0x8001000020000L, active4, 0x4000000L, active5, 0x10000000000000L, active6, 0L, active7, 0x80000000c00230L, active8, 0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x1000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x1000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x4000000000000000L, active8, 0L);
       case 67:
       case 99:
          if ((active2 & 0x2000000L) != 0L)
@@ -1694,7 +1699,7 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
          }
          else if ((active4 & 0x80000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 299, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000000000010L, active2, 0xc300000L, active3, 0x40002000L, active4, 0L, active5, 0x20000000000000L, active6, 0x4008001L, active7, 0x78000L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000000000010L, active2, 0xc300000L, active3, 0x40002000L, active4, 0L, active5, 0x40000000000000L, active6, 0x8010002L, active7, 0xf0000L, active8, 0L);
       case 68:
       case 100:
          if ((active2 & 0x10L) != 0L)
@@ -1705,9 +1710,9 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(6, 201, 80);
          else if ((active4 & 0x20L) != 0L)
             return jjStartNfaWithStates_0(6, 261, 80);
-         else if ((active7 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 486, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0xc000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x2L, active6, 0L, active7, 0x100000000L, active8, 0L);
+         else if ((active7 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 487, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0xc000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4L, active6, 0L, active7, 0x200000000L, active8, 0L);
       case 69:
       case 101:
          if ((active0 & 0x400000000000L) != 0L)
@@ -1723,18 +1728,18 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(6, 166, 80);
          else if ((active2 & 0x20000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 169, 80);
-         else if ((active5 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 345, 80);
-         else if ((active5 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 370, 80);
-         else if ((active6 & 0x4L) != 0L)
+         else if ((active5 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 346, 80);
+         else if ((active5 & 0x8000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 371, 80);
+         else if ((active6 & 0x8L) != 0L)
          {
-            jjmatchedKind = 386;
+            jjmatchedKind = 387;
             jjmatchedPos = 6;
          }
-         else if ((active7 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 479, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0x100800000000000L, active1, 0L, active2, 0x100000008L, active3, 0xc00840000L, active4, 0x441c00L, active5, 0xf00000020000000L, active6, 0x8200000000038L, active7, 0x800f00000000000L, active8, 0L);
+         else if ((active7 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 480, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0x100800000000000L, active1, 0L, active2, 0x100000008L, active3, 0xc00840000L, active4, 0x441c00L, active5, 0x1e00000040000000L, active6, 0x10400000000070L, active7, 0x1001e00000000000L, active8, 0L);
       case 71:
       case 103:
          if ((active0 & 0x4000000000000L) != 0L)
@@ -1748,10 +1753,10 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(6, 245, 80);
          else if ((active4 & 0x40000000L) != 0L)
             return jjStartNfaWithStates_0(6, 286, 80);
-         else if ((active5 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(6, 338, 80);
-         else if ((active7 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 503, 80);
+         else if ((active5 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(6, 339, 80);
+         else if ((active7 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 504, 80);
          return jjMoveStringLiteralDfa7_0(active0, 0x8000000000000L, active1, 0L, active2, 0L, active3, 0x1000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
       case 72:
       case 104:
@@ -1760,7 +1765,7 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_0(active0, 0x10200000L, active1, 0x100000c0780L, active2, 0x8000a000010000L, active3, 0xc000010010400000L, active4, 0x1800000000L, active5, 0x2001800800L, active6, 0x8000e000a000400L, active7, 0x200000000L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x10200000L, active1, 0x100000c0780L, active2, 0x8000a000010000L, active3, 0xc000010010400000L, active4, 0x1800000000L, active5, 0x4003001000L, active6, 0x10001c0014000800L, active7, 0x400000000L, active8, 0L);
       case 76:
       case 108:
          if ((active1 & 0x4000000000000000L) != 0L)
@@ -1771,12 +1776,12 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(6, 244, 80);
          else if ((active4 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(6, 283, 80);
-         else if ((active5 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(6, 330, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0x100000000L, active1, 0L, active2, 0L, active3, 0x1000000L, active4, 0x200208000000000L, active5, 0x400000000000L, active6, 0L, active7, 0L, active8, 0L);
+         else if ((active5 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(6, 331, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0x100000000L, active1, 0L, active2, 0L, active3, 0x1000000L, active4, 0x400208000000000L, active5, 0x800000000000L, active6, 0L, active7, 0L, active8, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa7_0(active0, 0x400000L, active1, 0x600000000000000L, active2, 0L, active3, 0x200000000000L, active4, 0L, active5, 0L, active6, 0x100L, active7, 0x10000000000000L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x400000L, active1, 0x600000000000000L, active2, 0L, active3, 0x200000000000L, active4, 0L, active5, 0L, active6, 0x200L, active7, 0x20000000000000L, active8, 0L);
       case 78:
       case 110:
          if ((active0 & 0x200000000L) != 0L)
@@ -1789,26 +1794,26 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(6, 185, 80);
          else if ((active2 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 186, 80);
-         else if ((active6 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(6, 405, 80);
-         else if ((active6 & 0x40000000L) != 0L)
+         else if ((active6 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(6, 406, 80);
+         else if ((active6 & 0x80000000L) != 0L)
          {
-            jjmatchedKind = 414;
+            jjmatchedKind = 415;
             jjmatchedPos = 6;
          }
-         else if ((active7 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 485, 80);
-         else if ((active7 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 504, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x20000000L, active2, 0x80000L, active3, 0x800L, active4, 0x100000000000000L, active5, 0x118000000000L, active6, 0x802080010000L, active7, 0x4604L, active8, 0L);
+         else if ((active7 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 486, 80);
+         else if ((active7 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 505, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x20000000L, active2, 0x80000L, active3, 0x800L, active4, 0x200000000000000L, active5, 0x230000000000L, active6, 0x1004100020000L, active7, 0x8c08L, active8, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x2L, active2, 0x8000000000040000L, active3, 0L, active4, 0L, active5, 0x80000200000L, active6, 0L, active7, 0x180000L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x2L, active2, 0x8000000000040000L, active3, 0L, active4, 0L, active5, 0x100000400000L, active6, 0L, active7, 0x300000L, active8, 0L);
       case 80:
       case 112:
-         if ((active7 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 499, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0xa00000000L, active2, 0xc000L, active3, 0x400000000000L, active4, 0x8000000000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L);
+         if ((active7 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 500, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0xa00000000L, active2, 0xc000L, active3, 0x400000000000L, active4, 0L, active5, 0x1L, active6, 0L, active7, 0L, active8, 0L);
       case 82:
       case 114:
          if ((active2 & 0x20L) != 0L)
@@ -1819,25 +1824,25 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(6, 230, 80);
          else if ((active4 & 0x1L) != 0L)
             return jjStartNfaWithStates_0(6, 256, 80);
-         else if ((active6 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 418, 80);
-         else if ((active7 & 0x1000000L) != 0L)
+         else if ((active6 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 419, 80);
+         else if ((active7 & 0x2000000L) != 0L)
          {
-            jjmatchedKind = 472;
+            jjmatchedKind = 473;
             jjmatchedPos = 6;
          }
-         else if ((active7 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 501, 80);
-         else if ((active8 & 0x8L) != 0L)
-            return jjStartNfaWithStates_0(6, 515, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x100L, active3, 0L, active4, 0L, active5, 0x2000L, active6, 0x4000000000000000L, active7, 0xe000000L, active8, 0L);
+         else if ((active7 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 502, 80);
+         else if ((active8 & 0x10L) != 0L)
+            return jjStartNfaWithStates_0(6, 516, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x100L, active3, 0L, active4, 0L, active5, 0x4000L, active6, 0x8000000000000000L, active7, 0x1c000000L, active8, 0L);
       case 83:
       case 115:
-         if ((active4 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 309, 80);
-         else if ((active5 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 380, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000000L, active2, 0x20000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x200000000020000L, active7, 0L, active8, 0L);
+         if ((active4 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 310, 80);
+         else if ((active5 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 381, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000000L, active2, 0x20000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000040000L, active7, 0L, active8, 0L);
       case 84:
       case 116:
          if ((active1 & 0x800L) != 0L)
@@ -1863,30 +1868,30 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(6, 157, 80);
          else if ((active2 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 174, 80);
-         else if ((active5 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 372, 80);
-         else if ((active7 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(6, 459, 80);
-         else if ((active8 & 0x2L) != 0L)
-            return jjStartNfaWithStates_0(6, 513, 80);
-         return jjMoveStringLiteralDfa7_0(active0, 0xfe00000000900408L, active1, 0xffc0000620000L, active2, 0x2L, active3, 0x80210008L, active4, 0L, active5, 0x383f8L, active6, 0x1400400000400000L, active7, 0L, active8, 0L);
+         else if ((active5 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 373, 80);
+         else if ((active7 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(6, 460, 80);
+         else if ((active8 & 0x4L) != 0L)
+            return jjStartNfaWithStates_0(6, 514, 80);
+         return jjMoveStringLiteralDfa7_0(active0, 0xfe00000000900408L, active1, 0xffc0000620000L, active2, 0x2L, active3, 0x80210008L, active4, 0L, active5, 0x707f0L, active6, 0x2800800000800000L, active7, 0L, active8, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_0(active0, 0xc000000L, active1, 0x90000000L, active2, 0L, active3, 0L, active4, 0x10080L, active5, 0x40000000L, active6, 0x80000000000080L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0xc000000L, active1, 0x90000000L, active2, 0L, active3, 0L, active4, 0x10080L, active5, 0x80000000L, active6, 0x100000000000100L, active7, 0L, active8, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x10000000000000L, active3, 0L, active4, 0L, active5, 0x2060004000000L, active6, 0L, active7, 0x2000L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x10000000000000L, active3, 0L, active4, 0L, active5, 0x40c0008000000L, active6, 0L, active7, 0x4000L, active8, 0L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1800000000000L, active6, 0L, active7, 0L, active8, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x3000000000000L, active6, 0L, active7, 0L, active8, 0L);
       case 89:
       case 121:
          if ((active3 & 0x200000000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 249, 80);
-         else if ((active5 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(6, 320, 80);
-         else if ((active5 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 347, 80);
+         else if ((active5 & 0x2L) != 0L)
+            return jjStartNfaWithStates_0(6, 321, 80);
+         else if ((active5 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 348, 80);
          break;
       default :
          break;
@@ -1905,30 +1910,30 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa8_0(active0, 0x8000000000000L, active1, 0xffc000000c000L, active2, 0xc000000L, active3, 0L, active4, 0x1c00L, active5, 0x8000L, active6, 0x80000038L, active7, 0xe000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x8000000000000L, active1, 0xffc000000c000L, active2, 0xc000000L, active3, 0L, active4, 0x1c00L, active5, 0x10000L, active6, 0x100000070L, active7, 0x1c000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x1000001000000000L, active2, 0x10000000000100L, active3, 0L, active4, 0L, active5, 0L, active6, 0x18000L, active7, 0x4L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x1000001000000000L, active2, 0x10000000000100L, active3, 0L, active4, 0L, active5, 0L, active6, 0x30000L, active7, 0x8L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0x4L, active3, 0x200000000000L, active4, 0L, active5, 0x8000000000000L, active6, 0x100L, active7, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0x4L, active3, 0x200000000000L, active4, 0L, active5, 0x10000000000000L, active6, 0x200L, active7, 0L);
       case 67:
       case 99:
          if ((active2 & 0x100000000L) != 0L)
             return jjStartNfaWithStates_0(7, 160, 84);
-         else if ((active6 & 0x20000000000L) != 0L)
+         else if ((active6 & 0x40000000000L) != 0L)
          {
-            jjmatchedKind = 425;
+            jjmatchedKind = 426;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x10000000L, active2, 0L, active3, 0xc00000000L, active4, 0L, active5, 0x18000000000L, active6, 0xc0000020000L, active7, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x10000000L, active2, 0L, active3, 0xc00000000L, active4, 0L, active5, 0x30000000000L, active6, 0x180000040000L, active7, 0L);
       case 68:
       case 100:
          if ((active0 & 0x800000000000L) != 0L)
             return jjStartNfaWithStates_0(7, 47, 80);
          else if ((active2 & 0x8L) != 0L)
             return jjStartNfaWithStates_0(7, 131, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0xf00000000000000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1e00000000000000L, active6, 0L, active7, 0L);
       case 69:
       case 101:
          if ((active0 & 0x8L) != 0L)
@@ -1953,27 +1958,27 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(7, 272, 80);
          else if ((active4 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_0(7, 295, 80);
-         else if ((active5 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 346, 80);
-         else if ((active5 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 369, 80);
-         else if ((active6 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 410, 80);
-         else if ((active6 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 430, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0xfe00000000400000L, active1, 0x600000000020000L, active2, 0x80000L, active3, 0x8L, active4, 0x200000000000L, active5, 0x3f8L, active6, 0L, active7, 0x100002600L);
+         else if ((active5 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 347, 80);
+         else if ((active5 & 0x4000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 370, 80);
+         else if ((active6 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 411, 80);
+         else if ((active6 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 431, 80);
+         return jjMoveStringLiteralDfa8_0(active0, 0xfe00000000400000L, active1, 0x600000000020000L, active2, 0x80000L, active3, 0x8L, active4, 0x200000000000L, active5, 0x7f0L, active6, 0L, active7, 0x200004c00L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0xf00000000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1e00000000000L);
       case 71:
       case 103:
          if ((active3 & 0x800L) != 0L)
             return jjStartNfaWithStates_0(7, 203, 80);
-         else if ((active4 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 312, 80);
-         else if ((active7 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_0(7, 462, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x60020000000L, active6, 0L, active7, 0L);
+         else if ((active4 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 313, 80);
+         else if ((active7 & 0x8000L) != 0L)
+            return jjStartNfaWithStates_0(7, 463, 80);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0xc0040000000L, active6, 0L, active7, 0L);
       case 72:
       case 104:
          if ((active2 & 0x100000L) != 0L)
@@ -1981,11 +1986,11 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
          return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x2000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa8_0(active0, 0x100000L, active1, 0xfe00000L, active2, 0L, active3, 0x80000000L, active4, 0x200000000000000L, active5, 0x30002L, active6, 0x4400800000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x100000L, active1, 0xfe00000L, active2, 0L, active3, 0x80000000L, active4, 0x400000000000000L, active5, 0x60004L, active6, 0x8801000000000000L, active7, 0L);
       case 75:
       case 107:
-         if ((active6 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(7, 384, 80);
+         if ((active6 & 0x2L) != 0L)
+            return jjStartNfaWithStates_0(7, 385, 80);
          break;
       case 76:
       case 108:
@@ -1998,27 +2003,27 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
          return jjMoveStringLiteralDfa8_0(active0, 0x200100000000L, active1, 0L, active2, 0L, active3, 0x8000001000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0xc000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x108L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0xc000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x210L);
       case 78:
       case 110:
          if ((active2 & 0x8000000000000000L) != 0L)
             return jjStartNfaWithStates_0(7, 191, 80);
-         else if ((active5 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(7, 341, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0x100000000000000L, active1, 0x20000000002000L, active2, 0x80008000010000L, active3, 0xc40000L, active4, 0L, active5, 0x800000L, active6, 0x808000020002480L, active7, 0L);
+         else if ((active5 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(7, 342, 80);
+         return jjMoveStringLiteralDfa8_0(active0, 0x100000000000000L, active1, 0x20000000002000L, active2, 0x80008000010000L, active3, 0xc40000L, active4, 0L, active5, 0x1000000L, active6, 0x1010000040004900L, active7, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_0(active0, 0x200000L, active1, 0xa000c0780L, active2, 0x2000000000L, active3, 0x10000200000L, active4, 0L, active5, 0x400001002800L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x200000L, active1, 0xa000c0780L, active2, 0x2000000000L, active3, 0x10000200000L, active4, 0L, active5, 0x800002005000L, active6, 0L, active7, 0L);
       case 80:
       case 112:
-         if ((active7 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 500, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x20200000000000L, active7, 0L);
+         if ((active7 & 0x20000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 501, 80);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x40400000000000L, active7, 0L);
       case 82:
       case 114:
-         if ((active7 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 507, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0x800000L, active1, 0x2L, active2, 0L, active3, 0L, active4, 0L, active5, 0x40000000L, active6, 0x80000000000000L, active7, 0x40000000180010L);
+         if ((active7 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 508, 80);
+         return jjMoveStringLiteralDfa8_0(active0, 0x800000L, active1, 0x2L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000000L, active6, 0x100000000000000L, active7, 0x80000000300020L);
       case 83:
       case 115:
          if ((active1 & 0x20000000L) != 0L)
@@ -2027,26 +2032,26 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(7, 129, 80);
          else if ((active4 & 0x40000L) != 0L)
             return jjStartNfaWithStates_0(7, 274, 80);
-         else if ((active4 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 319, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x10000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x240000000000000L, active7, 0L);
+         else if ((active5 & 0x1L) != 0L)
+            return jjStartNfaWithStates_0(7, 320, 80);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x10000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x480000000000000L, active7, 0L);
       case 84:
       case 116:
          if ((active2 & 0x200000L) != 0L)
             return jjStartNfaWithStates_0(7, 149, 80);
          else if ((active4 & 0x400000L) != 0L)
             return jjStartNfaWithStates_0(7, 278, 80);
-         else if ((active5 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 373, 80);
-         else if ((active6 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 421, 80);
-         return jjMoveStringLiteralDfa8_0(active0, 0xc000000L, active1, 0L, active2, 0x2c000L, active3, 0x10020000L, active4, 0L, active5, 0x100000000000L, active6, 0L, active7, 0x200678000L);
+         else if ((active5 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 374, 80);
+         else if ((active6 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 422, 80);
+         return jjMoveStringLiteralDfa8_0(active0, 0xc000000L, active1, 0L, active2, 0x2c000L, active3, 0x10020000L, active4, 0L, active5, 0x200000000000L, active6, 0L, active7, 0x400cf0000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000000000L, active6, 0x1000000000000000L, active7, 0x2000000000000001L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x100000000000L, active6, 0x2000000000000000L, active7, 0x4000000000000002L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x2000000000L, active6, 0x2000000L, active7, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000000000L, active6, 0x4000000L, active7, 0L);
       case 87:
       case 119:
          if ((active2 & 0x40000L) != 0L)
@@ -2054,21 +2059,21 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
          break;
       case 88:
       case 120:
-         if ((active5 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 367, 80);
+         if ((active5 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 368, 80);
          break;
       case 89:
       case 121:
          if ((active3 & 0x10000L) != 0L)
             return jjStartNfaWithStates_0(7, 208, 80);
-         else if ((active5 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 368, 80);
-         else if ((active6 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(7, 406, 80);
+         else if ((active5 & 0x2000000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 369, 80);
+         else if ((active6 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(7, 407, 80);
          break;
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa8_0(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0x8000000L, active7, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0x10000000L, active7, 0L);
       default :
          break;
    }
@@ -2086,23 +2091,23 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0xf00000000000000L, active6, 0x200040000000000L, active7, 0x600L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1e00000000000000L, active6, 0x400080000000000L, active7, 0xc00L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa9_0(active0, 0x10000000L, active1, 0x20000000002000L, active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x40000028002000L, active7, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x10000000L, active1, 0x20000000002000L, active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x80000050004000L, active7, 0L);
       case 67:
       case 99:
-         if ((active6 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 446, 80);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x40000000000L, active2, 0x80000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x8L, active7, 0x2000000002000000L);
+         if ((active6 & 0x8000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 447, 80);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x40000000000L, active2, 0x80000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x10L, active7, 0x4000000004000000L);
       case 68:
       case 100:
          if ((active1 & 0x20000L) != 0L)
             return jjStartNfaWithStates_0(8, 81, 80);
          else if ((active3 & 0x8L) != 0L)
             return jjStartNfaWithStates_0(8, 195, 80);
-         else if ((active7 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 480, 80);
+         else if ((active7 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 481, 80);
          return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x180000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 69:
       case 101:
@@ -2123,17 +2128,17 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
             jjmatchedKind = 291;
             jjmatchedPos = 8;
          }
-         else if ((active5 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 350, 80);
-         else if ((active5 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 357, 80);
-         else if ((active6 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 409, 80);
-         else if ((active6 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 439, 80);
-         else if ((active7 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(8, 469, 80);
-         return jjMoveStringLiteralDfa9_0(active0, 0x8000000L, active1, 0L, active2, 0L, active3, 0x8000200000000000L, active4, 0x1000000000L, active5, 0x108020000000L, active6, 0x100L, active7, 0L);
+         else if ((active5 & 0x80000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 351, 80);
+         else if ((active5 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 358, 80);
+         else if ((active6 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 410, 80);
+         else if ((active6 & 0x100000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 440, 80);
+         else if ((active7 & 0x400000L) != 0L)
+            return jjStartNfaWithStates_0(8, 470, 80);
+         return jjMoveStringLiteralDfa9_0(active0, 0x8000000L, active1, 0L, active2, 0L, active3, 0x8000200000000000L, active4, 0x1000000000L, active5, 0x210040000000L, active6, 0x200L, active7, 0L);
       case 70:
       case 102:
          return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0xc000L, active2, 0xc000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
@@ -2145,30 +2150,30 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(8, 183, 80);
          else if ((active3 & 0x400000L) != 0L)
             return jjStartNfaWithStates_0(8, 214, 80);
-         else if ((active5 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_0(8, 343, 80);
-         else if ((active6 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 443, 80);
+         else if ((active5 & 0x1000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 344, 80);
+         else if ((active6 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 444, 80);
          return jjMoveStringLiteralDfa9_0(active0, 0x100000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x20000L, active7, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x40000L, active7, 0L);
       case 73:
       case 105:
          if ((active0 & 0x100000000L) != 0L)
             return jjStartNfaWithStates_0(8, 32, 80);
-         return jjMoveStringLiteralDfa9_0(active0, 0x200000800000L, active1, 0x2L, active2, 0x34000L, active3, 0x10000000L, active4, 0L, active5, 0x10000000000L, active6, 0L, active7, 0xf00000478000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x200000800000L, active1, 0x2L, active2, 0x34000L, active3, 0x10000000L, active4, 0L, active5, 0x20000000000L, active6, 0L, active7, 0x1e000008f0000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x10000000000004L, active3, 0L, active4, 0x400L, active5, 0x8000000030000L, active6, 0L, active7, 0x2000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x10000000000004L, active3, 0L, active4, 0x400L, active5, 0x10000000060000L, active6, 0L, active7, 0x4000L);
       case 77:
       case 109:
-         if ((active7 & 0x80000L) != 0L)
+         if ((active7 & 0x100000L) != 0L)
          {
-            jjmatchedKind = 467;
+            jjmatchedKind = 468;
             jjmatchedPos = 8;
          }
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x1000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x10000L, active7, 0x100004L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x1000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x20000L, active7, 0x200008L);
       case 78:
       case 110:
          if ((active0 & 0x200000L) != 0L)
@@ -2187,21 +2192,21 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(8, 165, 80);
          else if ((active3 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 232, 80);
-         else if ((active5 & 0x800L) != 0L)
-            return jjStartNfaWithStates_0(8, 331, 80);
-         else if ((active5 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 344, 80);
-         return jjMoveStringLiteralDfa9_0(active0, 0x8000000400000L, active1, 0x20f880700L, active2, 0x100L, active3, 0L, active4, 0x200000000000L, active5, 0x80000000002L, active6, 0x800000000010L, active7, 0x4000000L);
+         else if ((active5 & 0x1000L) != 0L)
+            return jjStartNfaWithStates_0(8, 332, 80);
+         else if ((active5 & 0x2000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 345, 80);
+         return jjMoveStringLiteralDfa9_0(active0, 0x8000000400000L, active1, 0x20f880700L, active2, 0x100L, active3, 0L, active4, 0x200000000000L, active5, 0x100000000004L, active6, 0x1000000000020L, active7, 0x8000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x600000L, active2, 0x8000L, active3, 0L, active4, 0x800L, active5, 0L, active6, 0x20000000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x600000L, active2, 0x8000L, active3, 0L, active4, 0x800L, active5, 0L, active6, 0x40000000000000L, active7, 0L);
       case 80:
       case 112:
          if ((active1 & 0x800000000L) != 0L)
             return jjStartNfaWithStates_0(8, 99, 80);
-         else if ((active7 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(8, 456, 80);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400000000000L, active6, 0L, active7, 0x8L);
+         else if ((active7 & 0x200L) != 0L)
+            return jjStartNfaWithStates_0(8, 457, 80);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000L, active6, 0L, active7, 0x10L);
       case 82:
       case 114:
          if ((active0 & 0x200000000000000L) != 0L)
@@ -2211,15 +2216,15 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
          }
          else if ((active3 & 0x200000L) != 0L)
             return jjStartNfaWithStates_0(8, 213, 80);
-         else if ((active5 & 0x8L) != 0L)
+         else if ((active5 & 0x10L) != 0L)
          {
-            jjmatchedKind = 323;
+            jjmatchedKind = 324;
             jjmatchedPos = 8;
          }
-         return jjMoveStringLiteralDfa9_0(active0, 0xfc00000000000000L, active1, 0x400000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x83f0L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0xfc00000000000000L, active1, 0x400000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x107e0L, active6, 0L, active7, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x800000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000000020L, active7, 0x8000001L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x800000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x800000000000040L, active7, 0x10000002L);
       case 84:
       case 116:
          if ((active1 & 0x10000000000L) != 0L)
@@ -2231,23 +2236,23 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
             jjmatchedKind = 226;
             jjmatchedPos = 8;
          }
-         else if ((active6 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(8, 391, 80);
-         else if ((active6 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(8, 394, 80);
-         else if ((active6 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 435, 80);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x1007000010000000L, active2, 0L, active3, 0x800040000L, active4, 0x200000000001000L, active5, 0L, active6, 0x1000280000008000L, active7, 0x200000000L);
+         else if ((active6 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(8, 392, 80);
+         else if ((active6 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(8, 395, 80);
+         else if ((active6 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 436, 80);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x1007000010000000L, active2, 0L, active3, 0x800040000L, active4, 0x400000000001000L, active5, 0L, active6, 0x2000500000010000L, active7, 0x400000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x8000000000000L, active2, 0L, active3, 0x8000000000000L, active4, 0L, active5, 0x2000L, active6, 0x80000000L, active7, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x8000000000000L, active2, 0L, active3, 0x8000000000000L, active4, 0L, active5, 0x4000L, active6, 0x100000000L, active7, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa9_0(active0, 0x100000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 88:
       case 120:
-         if ((active5 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 361, 80);
+         if ((active5 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 362, 80);
          break;
       case 89:
       case 121:
@@ -2255,12 +2260,12 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(8, 205, 80);
          else if ((active3 & 0x1000000L) != 0L)
             return jjStartNfaWithStates_0(8, 216, 80);
-         else if ((active5 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 362, 80);
-         else if ((active7 & 0x10L) != 0L)
-            return jjStartNfaWithStates_0(8, 452, 80);
-         else if ((active7 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 502, 80);
+         else if ((active5 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 363, 80);
+         else if ((active7 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(8, 453, 80);
+         else if ((active7 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 503, 80);
          break;
       default :
          break;
@@ -2279,18 +2284,18 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa10_0(active0, 0x3c00000000000000L, active1, 0x80700L, active2, 0L, active3, 0L, active4, 0L, active5, 0x3f0L, active6, 0L, active7, 0x2000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x3c00000000000000L, active1, 0x80700L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7e0L, active6, 0L, active7, 0x4000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa10_0(active0, 0x8000000000000L, active1, 0x2c0000000000L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0x8000L, active6, 0x8018L, active7, 0x6000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x8000000000000L, active1, 0x2c0000000000L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0x10000L, active6, 0x10030L, active7, 0xc000000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x8000000L, active7, 0L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x10000000L, active7, 0L);
       case 67:
       case 99:
          if ((active0 & 0x800000L) != 0L)
             return jjStartNfaWithStates_0(9, 23, 80);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x800000000000L, active2, 0x20000L, active3, 0L, active4, 0x800L, active5, 0x100000000000000L, active6, 0x20L, active7, 0x8000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x800000000000L, active2, 0x20000L, active3, 0L, active4, 0x800L, active5, 0x200000000000000L, active6, 0x40L, active7, 0x10000000L);
       case 68:
       case 100:
          if ((active4 & 0x1000000000L) != 0L)
@@ -2306,41 +2311,41 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(9, 130, 80);
          else if ((active3 & 0x8000000000000L) != 0L)
             return jjStartNfaWithStates_0(9, 243, 80);
-         else if ((active5 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 366, 80);
-         else if ((active5 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 371, 80);
-         else if ((active6 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(9, 400, 80);
-         else if ((active6 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 444, 80);
-         else if ((active7 & 0x4L) != 0L)
-            return jjStartNfaWithStates_0(9, 450, 80);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active3, 0L, active4, 0x1400L, active5, 0x30000L, active6, 0x400000000020000L, active7, 0x200000001L);
+         else if ((active5 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 367, 80);
+         else if ((active5 & 0x10000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 372, 80);
+         else if ((active6 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(9, 401, 80);
+         else if ((active6 & 0x2000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 445, 80);
+         else if ((active7 & 0x8L) != 0L)
+            return jjStartNfaWithStates_0(9, 451, 80);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active3, 0L, active4, 0x1400L, active5, 0x60000L, active6, 0x800000000040000L, active7, 0x400000002L);
       case 71:
       case 103:
-         if ((active5 & 0x2L) != 0L)
-            return jjStartNfaWithStates_0(9, 321, 80);
-         else if ((active6 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 431, 80);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x2L, active2, 0L, active3, 0L, active4, 0x200000000000L, active5, 0x2000L, active6, 0L, active7, 0L);
+         if ((active5 & 0x4L) != 0L)
+            return jjStartNfaWithStates_0(9, 322, 80);
+         else if ((active6 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 432, 80);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x2L, active2, 0L, active3, 0L, active4, 0x200000000000L, active5, 0x4000L, active6, 0L, active7, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x200L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x400L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa10_0(active0, 0x4000000000000000L, active1, 0x603000000000000L, active2, 0L, active3, 0x800000000L, active4, 0L, active5, 0L, active6, 0x200000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x4000000000000000L, active1, 0x603000000000000L, active2, 0L, active3, 0x800000000L, active4, 0L, active5, 0L, active6, 0x400000000000L, active7, 0L);
       case 75:
       case 107:
          if ((active2 & 0x100L) != 0L)
             return jjStartNfaWithStates_0(9, 136, 80);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x4000000000000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000000L, active6, 0L, active7, 0x8L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400000000000000L, active6, 0L, active7, 0x10L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x20000000002000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x40000020002000L, active7, 0x400L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x20000000002000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x80000040004000L, active7, 0x800L);
       case 78:
       case 110:
          if ((active1 & 0x200000L) != 0L)
@@ -2348,16 +2353,16 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
             jjmatchedKind = 85;
             jjmatchedPos = 9;
          }
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x10000000000L, active6, 0x40000000000L, active7, 0xf00000000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x20000000000L, active6, 0x80000000000L, active7, 0x1e00000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x400010000000L, active2, 0x4000L, active3, 0L, active4, 0L, active5, 0x400000000000000L, active6, 0x200000000000000L, active7, 0x478000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x400010000000L, active2, 0x4000L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0x400000000000000L, active7, 0x8f0000L);
       case 80:
       case 112:
          if ((active1 & 0x1000000000L) != 0L)
             return jjStartNfaWithStates_0(9, 100, 80);
-         else if ((active6 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 437, 80);
+         else if ((active6 & 0x40000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 438, 80);
          break;
       case 82:
       case 114:
@@ -2365,22 +2370,22 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
             return jjStartNfaWithStates_0(9, 143, 80);
          else if ((active3 & 0x200000000000L) != 0L)
             return jjStartNfaWithStates_0(9, 237, 80);
-         else if ((active6 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(9, 392, 80);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x4000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x100000000000L, active6, 0L, active7, 0L);
+         else if ((active6 & 0x200L) != 0L)
+            return jjStartNfaWithStates_0(9, 393, 80);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x4000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000L, active6, 0L, active7, 0L);
       case 83:
       case 115:
          if ((active0 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(9, 27, 80);
          else if ((active0 & 0x8000000000000000L) != 0L)
             return jjStartNfaWithStates_0(9, 63, 80);
-         else if ((active5 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 349, 80);
-         else if ((active5 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 359, 80);
-         else if ((active7 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_0(9, 468, 80);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x8000000000000L, active2, 0x10000L, active3, 0x8000000000000000L, active4, 0L, active5, 0x800000000000000L, active6, 0x80000000L, active7, 0L);
+         else if ((active5 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 350, 80);
+         else if ((active5 & 0x10000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 360, 80);
+         else if ((active7 & 0x200000L) != 0L)
+            return jjStartNfaWithStates_0(9, 469, 80);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x8000000000000L, active2, 0x10000L, active3, 0x8000000000000000L, active4, 0L, active5, 0x1000000000000000L, active6, 0x100000000L, active7, 0L);
       case 84:
       case 116:
          if ((active0 & 0x400000L) != 0L)
@@ -2392,8 +2397,8 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
          }
          else if ((active2 & 0x80000L) != 0L)
             return jjStartNfaWithStates_0(9, 147, 80);
-         else if ((active5 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 363, 80);
+         else if ((active5 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 364, 80);
          return jjMoveStringLiteralDfa10_0(active0, 0x100200010000000L, active1, 0xf000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 85:
       case 117:
@@ -2403,9 +2408,9 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
          return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x10000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 89:
       case 121:
-         if ((active4 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 313, 80);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x80000000000L, active7, 0L);
+         if ((active4 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 314, 80);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x100000000000L, active7, 0L);
       default :
          break;
    }
@@ -2423,17 +2428,17 @@ private int jjMoveStringLiteralDfa10_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x7400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x30000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x7400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x60000L, active6, 0L, active7, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x4000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x100000000000000L, active6, 0x40000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x4000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000000L, active6, 0x80000000000L, active7, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x100L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400100000000000L, active6, 0L, active7, 0x2000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x100L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800200000000000L, active6, 0L, active7, 0x4000L);
       case 68:
       case 100:
-         if ((active7 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 481, 80);
+         if ((active7 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 482, 80);
          break;
       case 69:
       case 101:
@@ -2445,79 +2450,79 @@ private int jjMoveStringLiteralDfa10_0(long old0, long active0, long old1, long
             return jjStartNfaWithStates_0(10, 180, 80);
          else if ((active3 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(10, 220, 80);
-         else if ((active6 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(10, 397, 80);
-         else if ((active6 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 413, 80);
-         else if ((active7 & 0x8L) != 0L)
-            return jjStartNfaWithStates_0(10, 451, 80);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x8000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000000L, active6, 0x80000000L, active7, 0x2000f00000000000L);
+         else if ((active6 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(10, 398, 80);
+         else if ((active6 & 0x40000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 414, 80);
+         else if ((active7 & 0x10L) != 0L)
+            return jjStartNfaWithStates_0(10, 452, 80);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x8000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400000000000000L, active6, 0x100000000L, active7, 0x4001e00000000000L);
       case 70:
       case 102:
          return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 71:
       case 103:
-         if ((active5 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 360, 80);
+         if ((active5 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 361, 80);
          break;
       case 72:
       case 104:
          if ((active0 & 0x100000000000000L) != 0L)
             return jjStartNfaWithStates_0(10, 56, 80);
-         else if ((active5 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(10, 333, 80);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x800000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x20L, active7, 0x8000000L);
+         else if ((active5 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(10, 334, 80);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x800000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x40L, active7, 0x10000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa11_0(active0, 0x10000000L, active1, 0x200000002L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x400L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x10000000L, active1, 0x200000002L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x800L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa11_0(active0, 0x400000000000000L, active1, 0x400000000000L, active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x8008000L, active7, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x400000000000000L, active1, 0x400000000000L, active2, 0L, active3, 0x80000000L, active4, 0L, active5, 0L, active6, 0x10010000L, active7, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa11_0(active0, 0x8000000000000L, active1, 0x3000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x10L, active6, 0x20010L, active7, 0x4000000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x8000000000000L, active1, 0x3000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x20L, active6, 0x40020L, active7, 0x8000000L);
       case 78:
       case 110:
          if ((active2 & 0x4000L) != 0L)
             return jjStartNfaWithStates_0(10, 142, 80);
-         else if ((active7 & 0x8000L) != 0L)
+         else if ((active7 & 0x10000L) != 0L)
          {
-            jjmatchedKind = 463;
+            jjmatchedKind = 464;
             jjmatchedPos = 10;
          }
-         else if ((active7 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_0(10, 470, 80);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x60000000008c200L, active2, 0xc000000L, active3, 0L, active4, 0x400L, active5, 0x8020L, active6, 0L, active7, 0x70000L);
+         else if ((active7 & 0x800000L) != 0L)
+            return jjStartNfaWithStates_0(10, 471, 80);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x60000000008c200L, active2, 0xc000000L, active3, 0L, active4, 0x400L, active5, 0x10040L, active6, 0L, active7, 0xe0000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x800000000L, active4, 0L, active5, 0x40L, active6, 0x200000000000L, active7, 0x200L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x800000000L, active4, 0L, active5, 0x80L, active6, 0x400000000000L, active7, 0x400L);
       case 80:
       case 112:
-         if ((active6 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 438, 80);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x80000000000L, active7, 0L);
+         if ((active6 & 0x80000000000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 439, 80);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x100000000000L, active7, 0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L);
       case 82:
       case 114:
          if ((active1 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(10, 92, 80);
-         else if ((active7 & 0x1L) != 0L)
-            return jjStartNfaWithStates_0(10, 448, 80);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0L);
+         else if ((active7 & 0x2L) != 0L)
+            return jjStartNfaWithStates_0(10, 449, 80);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000000000L, active7, 0L);
       case 83:
       case 115:
          if ((active1 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(10, 91, 80);
          else if ((active2 & 0x20000L) != 0L)
             return jjStartNfaWithStates_0(10, 145, 80);
-         return jjMoveStringLiteralDfa11_0(active0, 0x7800000000000000L, active1, 0x400L, active2, 0L, active3, 0L, active4, 0L, active5, 0x380L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x7800000000000000L, active1, 0x400L, active2, 0L, active3, 0L, active4, 0L, active5, 0x700L, active6, 0L, active7, 0L);
       case 84:
       case 116:
-         if ((active6 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(10, 442, 80);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x2c0000000000L, active2, 0x10000L, active3, 0x8000000000040000L, active4, 0x200000000800L, active5, 0L, active6, 0x8L, active7, 0x2000000L);
+         if ((active6 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(10, 443, 80);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x2c0000000000L, active2, 0x10000L, active3, 0x8000000000040000L, active4, 0x200000000800L, active5, 0L, active6, 0x10L, active7, 0x4000000L);
       case 88:
       case 120:
          return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1000L, active5, 0L, active6, 0L, active7, 0L);
@@ -2544,15 +2549,15 @@ private int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         if ((active6 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(11, 401, 80);
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x140000000300L, active2, 0L, active3, 0x8000000000000000L, active4, 0L, active5, 0x20L, active6, 0x8L, active7, 0x2000000L);
+         if ((active6 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(11, 402, 80);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x140000000300L, active2, 0L, active3, 0x8000000000000000L, active4, 0L, active5, 0x40L, active6, 0x10L, active7, 0x4000000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x100c400L, active2, 0xc000000L, active3, 0L, active4, 0L, active5, 0x10000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x100c400L, active2, 0xc000000L, active3, 0L, active4, 0L, active5, 0x20000L, active6, 0L, active7, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x20000L, active6, 0L, active7, 0xf00000000000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x40000L, active6, 0L, active7, 0x1e00000000000L);
       case 69:
       case 101:
          if ((active0 & 0x8000000000000L) != 0L)
@@ -2568,15 +2573,15 @@ private int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1, long
          }
          else if ((active3 & 0x80000000L) != 0L)
             return jjStartNfaWithStates_0(11, 223, 80);
-         else if ((active6 & 0x10L) != 0L)
-            return jjStartNfaWithStates_0(11, 388, 80);
-         else if ((active6 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 411, 80);
-         else if ((active6 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 427, 80);
-         else if ((active7 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 474, 80);
-         return jjMoveStringLiteralDfa12_0(active0, 0x3c00000000000000L, active1, 0x2800000000000L, active2, 0L, active3, 0L, active4, 0x800L, active5, 0x100000000000L, active6, 0x20L, active7, 0x8000000L);
+         else if ((active6 & 0x20L) != 0L)
+            return jjStartNfaWithStates_0(11, 389, 80);
+         else if ((active6 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 412, 80);
+         else if ((active6 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 428, 80);
+         else if ((active7 & 0x8000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 475, 80);
+         return jjMoveStringLiteralDfa12_0(active0, 0x3c00000000000000L, active1, 0x2800000000000L, active2, 0L, active3, 0L, active4, 0x800L, active5, 0x200000000000L, active6, 0x40L, active7, 0x10000000L);
       case 71:
       case 103:
          return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400L, active5, 0L, active6, 0L, active7, 0L);
@@ -2589,53 +2594,53 @@ private int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1, long
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x10000L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x10000L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0x400000000000000L, active7, 0L);
       case 75:
       case 107:
-         if ((active5 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(11, 335, 80);
+         if ((active5 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(11, 336, 80);
          break;
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x40000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x80000000000L, active7, 0L);
       case 78:
       case 110:
          if ((active1 & 0x2L) != 0L)
             return jjStartNfaWithStates_0(11, 65, 80);
          else if ((active3 & 0x800000000L) != 0L)
             return jjStartNfaWithStates_0(11, 227, 80);
-         else if ((active6 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 429, 80);
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x4000202400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000000L, active6, 0L, active7, 0x400L);
+         else if ((active6 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 430, 80);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x4000202400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400000000000000L, active6, 0L, active7, 0x800L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa12_0(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x10L, active6, 0x8000L, active7, 0x2000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x20L, active6, 0x10000L, active7, 0x4000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x380L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x700L, active6, 0L, active7, 0L);
       case 82:
       case 114:
          if ((active1 & 0x8000000000000L) != 0L)
             return jjStartNfaWithStates_0(11, 115, 80);
-         else if ((active6 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 415, 80);
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x100000000000040L, active6, 0L, active7, 0L);
+         else if ((active6 & 0x100000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 416, 80);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000080L, active6, 0L, active7, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x4000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x70000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x4000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0xe0000L);
       case 84:
       case 116:
          if ((active4 & 0x1000L) != 0L)
             return jjStartNfaWithStates_0(11, 268, 80);
-         else if ((active7 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_0(11, 509, 80);
-         return jjMoveStringLiteralDfa12_0(active0, 0x4000000000000000L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400000000000000L, active6, 0L, active7, 0L);
+         else if ((active7 & 0x4000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(11, 510, 80);
+         return jjMoveStringLiteralDfa12_0(active0, 0x4000000000000000L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x80000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x200L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x80000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x400L);
       default :
          break;
    }
@@ -2653,7 +2658,7 @@ private int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0xf00000070000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1e000000e0000L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x3400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
@@ -2664,29 +2669,29 @@ private int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x4000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x100000000000050L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x2000000000000a0L, active6, 0L, active7, 0L);
       case 69:
       case 101:
-         if ((active6 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(12, 426, 80);
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400000000000380L, active6, 0L, active7, 0L);
+         if ((active6 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(12, 427, 80);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000700L, active6, 0L, active7, 0L);
       case 71:
       case 103:
          if ((active1 & 0x200000000L) != 0L)
             return jjStartNfaWithStates_0(12, 97, 80);
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000000L, active6, 0x200000000008000L, active7, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x400000000000000L, active6, 0x400000000010000L, active7, 0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x400L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa13_0(active0, 0x4000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x20000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x4000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x40000L, active6, 0L, active7, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x40000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x8L, active7, 0x2000000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x40000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x10L, active7, 0x4000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x800000080200L, active2, 0L, active3, 0x8000000000000000L, active4, 0L, active5, 0x20L, active6, 0x20L, active7, 0x8000000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x800000080200L, active2, 0L, active3, 0x8000000000000000L, active4, 0L, active5, 0x40L, active6, 0x40L, active7, 0x10000000L);
       case 78:
       case 110:
          if ((active0 & 0x10000000L) != 0L)
@@ -2694,24 +2699,24 @@ private int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa13_0(active0, 0x400000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0x10000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0x20000L, active6, 0L, active7, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x100000000000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000000L, active6, 0L, active7, 0L);
       case 82:
       case 114:
-         if ((active7 & 0x200L) != 0L)
-            return jjStartNfaWithStates_0(12, 457, 80);
+         if ((active7 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(12, 458, 80);
          break;
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x6000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x6000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa13_0(active0, 0x3800000000000000L, active1, 0xc100L, active2, 0xc000000L, active3, 0L, active4, 0xc00L, active5, 0L, active6, 0L, active7, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2400L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x4800L);
       default :
          break;
    }
@@ -2734,25 +2739,25 @@ private int jjMoveStringLiteralDfa13_0(long old0, long active0, long old1, long
       case 97:
          if ((active1 & 0x800000000000L) != 0L)
             return jjStartNfaWithStates_0(13, 111, 80);
-         else if ((active6 & 0x20L) != 0L)
-            return jjStartNfaWithStates_0(13, 389, 80);
-         else if ((active7 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 475, 80);
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x100L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000L);
+         else if ((active6 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(13, 390, 80);
+         else if ((active7 & 0x10000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 476, 80);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x100L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x80000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa14_0(active0, 0x4000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x380L, active6, 0L, active7, 0x20000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0x4000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x700L, active6, 0L, active7, 0x40000L);
       case 69:
       case 101:
          if ((active1 & 0x200L) != 0L)
             return jjStartNfaWithStates_0(13, 73, 80);
-         else if ((active5 & 0x10L) != 0L)
-            return jjStartNfaWithStates_0(13, 324, 80);
          else if ((active5 & 0x20L) != 0L)
             return jjStartNfaWithStates_0(13, 325, 80);
+         else if ((active5 & 0x40L) != 0L)
+            return jjStartNfaWithStates_0(13, 326, 80);
          return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x400L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 70:
       case 102:
@@ -2767,7 +2772,7 @@ private int jjMoveStringLiteralDfa13_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x4000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0xc000L, active2, 0xc000000L, active3, 0L, active4, 0L, active5, 0x100000000000040L, active6, 0x200000000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0xc000L, active2, 0xc000000L, active3, 0L, active4, 0L, active5, 0x200000000000080L, active6, 0x400000000000000L, active7, 0L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
@@ -2778,10 +2783,10 @@ private int jjMoveStringLiteralDfa13_0(long old0, long active0, long old1, long
       case 110:
          if ((active3 & 0x40000L) != 0L)
             return jjStartNfaWithStates_0(13, 210, 80);
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x10000L, active6, 0L, active7, 0x2000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x20000L, active6, 0L, active7, 0x4000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x40000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x8L, active7, 0x2000000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x40000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x10L, active7, 0x4000000L);
       case 80:
       case 112:
          if ((active3 & 0x8000000000000000L) != 0L)
@@ -2789,17 +2794,17 @@ private int jjMoveStringLiteralDfa13_0(long old0, long active0, long old1, long
          break;
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x80000L);
       case 83:
       case 115:
-         if ((active6 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_0(13, 399, 80);
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x20000L, active6, 0L, active7, 0L);
+         if ((active6 & 0x10000L) != 0L)
+            return jjStartNfaWithStates_0(13, 400, 80);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x40000L, active6, 0L, active7, 0L);
       case 84:
       case 116:
-         if ((active5 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(13, 364, 80);
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x2000001000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0xe00000000000000L, active6, 0L, active7, 0xf00000000400L);
+         if ((active5 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(13, 365, 80);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x2000001000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1c00000000000000L, active6, 0L, active7, 0x1e00000000800L);
       default :
          break;
    }
@@ -2817,41 +2822,41 @@ private int jjMoveStringLiteralDfa14_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x400000000000000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x2000001000000L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x2000001000000L, active2, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L);
       case 67:
       case 99:
-         if ((active5 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(14, 337, 80);
-         return jjMoveStringLiteralDfa15_0(active0, 0x800000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000L);
+         if ((active5 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(14, 338, 80);
+         return jjMoveStringLiteralDfa15_0(active0, 0x800000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000L);
       case 69:
       case 101:
          if ((active1 & 0x400000L) != 0L)
             return jjStartNfaWithStates_0(14, 86, 80);
          else if ((active1 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_0(14, 89, 80);
-         else if ((active7 & 0x400L) != 0L)
-            return jjStartNfaWithStates_0(14, 458, 80);
+         else if ((active7 & 0x800L) != 0L)
+            return jjStartNfaWithStates_0(14, 459, 80);
          return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x4080000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 71:
       case 103:
          if ((active1 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_0(14, 106, 80);
-         else if ((active6 & 0x8L) != 0L)
-            return jjStartNfaWithStates_0(14, 387, 80);
-         else if ((active7 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 473, 80);
+         else if ((active6 & 0x10L) != 0L)
+            return jjStartNfaWithStates_0(14, 388, 80);
+         else if ((active7 & 0x4000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 474, 80);
          break;
       case 72:
       case 104:
-         if ((active5 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 377, 80);
+         if ((active5 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 378, 80);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x380L, active6, 0L, active7, 0L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x700L, active6, 0L, active7, 0L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x100L, active2, 0L, active4, 0x800L, active5, 0L, active6, 0L, active7, 0L);
@@ -2860,28 +2865,28 @@ private int jjMoveStringLiteralDfa14_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x400L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 78:
       case 110:
-         if ((active6 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_0(14, 441, 80);
-         return jjMoveStringLiteralDfa15_0(active0, 0x1000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0x100000000000040L, active6, 0L, active7, 0L);
+         if ((active6 & 0x400000000000000L) != 0L)
+            return jjStartNfaWithStates_0(14, 442, 80);
+         return jjMoveStringLiteralDfa15_0(active0, 0x1000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0x200000000000080L, active6, 0L, active7, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x400000000c000L, active2, 0xc000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x60000L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x400000000c000L, active2, 0xc000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0xc0000L);
       case 83:
       case 115:
          return jjMoveStringLiteralDfa15_0(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 84:
       case 116:
-         if ((active5 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(14, 336, 80);
-         else if ((active7 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_0(14, 461, 80);
+         if ((active5 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(14, 337, 80);
+         else if ((active7 & 0x4000L) != 0L)
+            return jjStartNfaWithStates_0(14, 462, 80);
          return jjMoveStringLiteralDfa15_0(active0, 0x4400000000000000L, active1, 0x100000000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0xf00000000000L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1e00000000000L);
       default :
          break;
    }
@@ -2904,7 +2909,7 @@ private int jjMoveStringLiteralDfa15_0(long old0, long active0, long old1, long
       case 97:
          if ((active1 & 0x400L) != 0L)
             return jjStartNfaWithStates_0(15, 74, 80);
-         return jjMoveStringLiteralDfa16_0(active0, 0x1800000000000000L, active1, 0x600000000000000L, active2, 0L, active4, 0L, active5, 0x100000000000040L, active7, 0L);
+         return jjMoveStringLiteralDfa16_0(active0, 0x1800000000000000L, active1, 0x600000000000000L, active2, 0L, active4, 0L, active5, 0x200000000000080L, active7, 0L);
       case 67:
       case 99:
          return jjMoveStringLiteralDfa16_0(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
@@ -2913,7 +2918,7 @@ private int jjMoveStringLiteralDfa15_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active4, 0x800L, active5, 0L, active7, 0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x380L, active7, 0L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x700L, active7, 0L);
       case 72:
       case 104:
          if ((active0 & 0x400000000000000L) != 0L)
@@ -2921,10 +2926,10 @@ private int jjMoveStringLiteralDfa15_0(long old0, long active0, long old1, long
          break;
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x1000000L, active2, 0L, active4, 0L, active5, 0x400000000000000L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x1000000L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active7, 0x80000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x2000004000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0x20000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x2000004000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0x40000L);
       case 78:
       case 110:
          if ((active1 & 0x4000L) != 0L)
@@ -2943,7 +2948,7 @@ private int jjMoveStringLiteralDfa15_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x100L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0xf00000000000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x1e00000000000L);
       case 82:
       case 114:
          if ((active1 & 0x80000L) != 0L)
@@ -2956,7 +2961,7 @@ private int jjMoveStringLiteralDfa15_0(long old0, long active0, long old1, long
          break;
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active7, 0x10000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x1000000000000000L, active7, 0x20000L);
       default :
          break;
    }
@@ -2982,9 +2987,9 @@ private int jjMoveStringLiteralDfa16_0(long old0, long active0, long old1, long
          break;
       case 69:
       case 101:
-         if ((active5 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_0(16, 379, 80);
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x400000000000000L, active7, 0xf00000000000L);
+         if ((active5 & 0x1000000000000000L) != 0L)
+            return jjStartNfaWithStates_0(16, 380, 80);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active7, 0x1e00000000000L);
       case 71:
       case 103:
          if ((active1 & 0x100L) != 0L)
@@ -2995,13 +3000,13 @@ private int jjMoveStringLiteralDfa16_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa17_0(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x380L, active7, 0x10000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x700L, active7, 0x20000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active4, 0L, active5, 0x100000000000040L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x600000000000000L, active2, 0L, active4, 0L, active5, 0x200000000000080L, active7, 0x80000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa17_0(active0, 0x1000000000000000L, active1, 0x4000000000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0x20000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0x1000000000000000L, active1, 0x4000000000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0x40000L);
       case 78:
       case 110:
          return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0L, active4, 0x800L, active5, 0L, active7, 0L);
@@ -3033,18 +3038,18 @@ private int jjMoveStringLiteralDfa17_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x604000000000000L, active2, 0L, active4, 0L, active5, 0x40L, active7, 0xf00000000000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x604000000000000L, active2, 0L, active4, 0L, active5, 0x80L, active7, 0x1e00000000000L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa18_0(active0, 0x800000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x8000L, active2, 0x8000000L, active4, 0L, active5, 0x380L, active7, 0L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x8000L, active2, 0x8000000L, active4, 0L, active5, 0x700L, active7, 0L);
       case 69:
       case 101:
          if ((active0 & 0x1000000000000000L) != 0L)
             return jjStartNfaWithStates_0(17, 60, 80);
-         return jjMoveStringLiteralDfa18_0(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x80000L);
       case 71:
       case 103:
          if ((active1 & 0x1000000L) != 0L)
@@ -3052,16 +3057,16 @@ private int jjMoveStringLiteralDfa17_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active4, 0x800L, active5, 0L, active7, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x100000000000000L, active7, 0x20000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x200000000000000L, active7, 0x40000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x400000000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active7, 0L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x10000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x20000L);
       default :
          break;
    }
@@ -3079,24 +3084,24 @@ private int jjMoveStringLiteralDfa18_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x380L, active7, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x700L, active7, 0L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x200000000000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0x300000000000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x200000000000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0x600000000000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x80000L);
       case 69:
       case 101:
-         if ((active7 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_0(18, 464, 80);
+         if ((active7 & 0x20000L) != 0L)
+            return jjStartNfaWithStates_0(18, 465, 80);
          break;
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x4000000000000L, active2, 0L, active4, 0L, active5, 0x400000000000000L, active7, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x4000000000000L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active7, 0L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa19_0(active0, 0x800000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
@@ -3105,19 +3110,19 @@ private int jjMoveStringLiteralDfa18_0(long old0, long active0, long old1, long
          return jjMoveStringLiteralDfa19_0(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x400000000000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x800000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x8000L, active2, 0x8000000L, active4, 0L, active5, 0L, active7, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active4, 0L, active5, 0x40L, active7, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active4, 0L, active5, 0x80L, active7, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x800000000000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x1000000000000L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0x800L, active5, 0x100000000000000L, active7, 0x20000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0L, active4, 0x800L, active5, 0x200000000000000L, active7, 0x40000L);
       default :
          break;
    }
@@ -3135,15 +3140,15 @@ private int jjMoveStringLiteralDfa19_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x80000L);
       case 65:
       case 97:
          if ((active0 & 0x2000000000000000L) != 0L)
             return jjStartNfaWithStates_0(19, 61, 80);
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0x500000000000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active7, 0xa00000000000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x80L, active7, 0x800000000000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x100L, active7, 0x1000000000000L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x8000L, active2, 0x8000000L, active4, 0L, active5, 0L, active7, 0L);
@@ -3154,23 +3159,23 @@ private int jjMoveStringLiteralDfa19_0(long old0, long active0, long old1, long
          break;
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active4, 0L, active5, 0x100L, active7, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active4, 0L, active5, 0x200L, active7, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa20_0(active0, 0x800000000000000L, active1, 0x200000000000000L, active2, 0L, active4, 0L, active5, 0x40L, active7, 0x200000000000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0x800000000000000L, active1, 0x200000000000000L, active2, 0L, active4, 0L, active5, 0x80L, active7, 0x400000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x404000000000000L, active2, 0L, active4, 0L, active5, 0L, active7, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x200L, active7, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x400L, active7, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x400000000000000L, active7, 0x20000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0x800000000000000L, active7, 0x40000L);
       case 89:
       case 121:
-         if ((active5 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_0(19, 376, 80);
+         if ((active5 & 0x200000000000000L) != 0L)
+            return jjStartNfaWithStates_0(19, 377, 80);
          break;
       default :
          break;
@@ -3190,23 +3195,23 @@ private int jjMoveStringLiteralDfa20_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0x180L, active7, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0x300L, active7, 0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x80000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0x200L, active7, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0x400L, active7, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x200000000000000L, active2, 0L, active5, 0L, active7, 0x200000000000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x200000000000000L, active2, 0L, active5, 0L, active7, 0x400000000000L);
       case 69:
       case 101:
          if ((active1 & 0x8000L) != 0L)
             return jjStartNfaWithStates_0(20, 79, 80);
          else if ((active2 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(20, 155, 80);
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active7, 0x20000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active7, 0x40000L);
       case 71:
       case 103:
          if ((active0 & 0x800000000000000L) != 0L)
@@ -3214,21 +3219,21 @@ private int jjMoveStringLiteralDfa20_0(long old0, long active0, long old1, long
          break;
       case 72:
       case 104:
-         if ((active5 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_0(20, 378, 80);
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x800000000000L);
+         if ((active5 & 0x800000000000000L) != 0L)
+            return jjStartNfaWithStates_0(20, 379, 80);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x1000000000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x400000000000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x800000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x4000000000000L, active2, 0L, active5, 0L, active7, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active5, 0x40L, active7, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x100000000000L, active2, 0L, active5, 0x80L, active7, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x100000000000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active7, 0x200000000000L);
       default :
          break;
    }
@@ -3247,39 +3252,39 @@ private int jjMoveStringLiteralDfa21_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0L, active7, 0x100000040000L);
+         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0L, active7, 0x200000080000L);
       case 67:
       case 99:
          return jjMoveStringLiteralDfa22_0(active1, 0x400000000000000L, active5, 0L, active7, 0L);
       case 68:
       case 100:
-         if ((active7 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(21, 465, 80);
+         if ((active7 & 0x40000L) != 0L)
+            return jjStartNfaWithStates_0(21, 466, 80);
          break;
       case 69:
       case 101:
          if ((active1 & 0x200000000000000L) != 0L)
             return jjStartNfaWithStates_0(21, 121, 80);
-         else if ((active7 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(21, 493, 80);
          else if ((active7 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_0(21, 494, 80);
-         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0L, active7, 0x800000000000L);
+         else if ((active7 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(21, 495, 80);
+         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0L, active7, 0x1000000000000L);
       case 70:
       case 102:
          return jjMoveStringLiteralDfa22_0(active1, 0x100000000000L, active5, 0L, active7, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x200L, active7, 0L);
+         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x400L, active7, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x40L, active7, 0L);
+         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x80L, active7, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x100L, active7, 0L);
+         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x200L, active7, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x80L, active7, 0L);
+         return jjMoveStringLiteralDfa22_0(active1, 0L, active5, 0x100L, active7, 0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa22_0(active1, 0x4000000000000L, active5, 0L, active7, 0L);
@@ -3301,24 +3306,24 @@ private int jjMoveStringLiteralDfa22_0(long old1, long active1, long old5, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0x80L, active7, 0L);
+         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0x100L, active7, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0L, active7, 0x40000L);
+         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0L, active7, 0x80000L);
       case 69:
       case 101:
-         if ((active5 & 0x100L) != 0L)
-            return jjStartNfaWithStates_0(22, 328, 80);
-         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0x200L, active7, 0L);
+         if ((active5 & 0x200L) != 0L)
+            return jjStartNfaWithStates_0(22, 329, 80);
+         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0x400L, active7, 0L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa23_0(active1, 0x400000000000000L, active5, 0L, active7, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0L, active7, 0x100000000000L);
+         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0L, active7, 0x200000000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0L, active7, 0x800000000000L);
+         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0L, active7, 0x1000000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa23_0(active1, 0x100000000000L, active5, 0L, active7, 0L);
@@ -3327,7 +3332,7 @@ private int jjMoveStringLiteralDfa22_0(long old1, long active1, long old5, long
          return jjMoveStringLiteralDfa23_0(active1, 0x4000000000000L, active5, 0L, active7, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0x40L, active7, 0L);
+         return jjMoveStringLiteralDfa23_0(active1, 0L, active5, 0x80L, active7, 0L);
       default :
          break;
    }
@@ -3348,26 +3353,26 @@ private int jjMoveStringLiteralDfa23_0(long old1, long active1, long old5, long
          return jjMoveStringLiteralDfa24_0(active1, 0x4000000000000L, active5, 0L, active7, 0L);
       case 65:
       case 97:
-         if ((active7 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(23, 495, 80);
+         if ((active7 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(23, 496, 80);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0x40L, active7, 0L);
+         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0x80L, active7, 0L);
       case 75:
       case 107:
-         if ((active7 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(23, 466, 80);
+         if ((active7 & 0x80000L) != 0L)
+            return jjStartNfaWithStates_0(23, 467, 80);
          break;
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0x80L, active7, 0L);
+         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0x100L, active7, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0x200L, active7, 0L);
+         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0x400L, active7, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0L, active7, 0x100000000000L);
+         return jjMoveStringLiteralDfa24_0(active1, 0L, active5, 0L, active7, 0x200000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa24_0(active1, 0x100000000000L, active5, 0L, active7, 0L);
@@ -3392,16 +3397,16 @@ private int jjMoveStringLiteralDfa24_0(long old1, long active1, long old5, long
    {
       case 65:
       case 97:
-         if ((active5 & 0x200L) != 0L)
-            return jjStartNfaWithStates_0(24, 329, 80);
+         if ((active5 & 0x400L) != 0L)
+            return jjStartNfaWithStates_0(24, 330, 80);
          break;
       case 70:
       case 102:
          return jjMoveStringLiteralDfa25_0(active1, 0x4000000000000L, active5, 0L, active7, 0L);
       case 71:
       case 103:
-         if ((active7 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(24, 492, 80);
+         if ((active7 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(24, 493, 80);
          break;
       case 73:
       case 105:
@@ -3411,7 +3416,7 @@ private int jjMoveStringLiteralDfa24_0(long old1, long active1, long old5, long
          return jjMoveStringLiteralDfa25_0(active1, 0x100000000000L, active5, 0L, active7, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa25_0(active1, 0L, active5, 0xc0L, active7, 0L);
+         return jjMoveStringLiteralDfa25_0(active1, 0L, active5, 0x180L, active7, 0L);
       default :
          break;
    }
@@ -3432,13 +3437,13 @@ private int jjMoveStringLiteralDfa25_0(long old1, long active1, long old5, long
          return jjMoveStringLiteralDfa26_0(active1, 0x100000000000L, active5, 0L);
       case 71:
       case 103:
-         if ((active5 & 0x80L) != 0L)
-            return jjStartNfaWithStates_0(25, 327, 80);
+         if ((active5 & 0x100L) != 0L)
+            return jjStartNfaWithStates_0(25, 328, 80);
          break;
       case 78:
       case 110:
-         if ((active5 & 0x40L) != 0L)
-            return jjStartNfaWithStates_0(25, 326, 80);
+         if ((active5 & 0x80L) != 0L)
+            return jjStartNfaWithStates_0(25, 327, 80);
          break;
       case 79:
       case 111:
@@ -3603,15 +3608,18 @@ static final long[] jjbitVec4 = {
    0x0L, 0x0L, 0x0L, 0xff7fffffff7fffffL
 };
 static final long[] jjbitVec5 = {
-   0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL
+   0x3fffffffffL, 0x0L, 0x0L, 0x0L
 };
 static final long[] jjbitVec6 = {
-   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffL, 0x0L
+   0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL
 };
 static final long[] jjbitVec7 = {
-   0xffffffffffffffffL, 0xffffffffffffffffL, 0x0L, 0x0L
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffL, 0x0L
 };
 static final long[] jjbitVec8 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0x0L, 0x0L
+};
+static final long[] jjbitVec9 = {
    0x3fffffffffffL, 0x0L, 0x0L, 0x0L
 };
 private int jjMoveNfa_0(int startState, int curPos)
@@ -3641,8 +3649,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(46, 47);
                   else if (curChar == 7)
                   {
-                     if (kind > 580)
-                        kind = 580;
+                     if (kind > 581)
+                        kind = 581;
                   }
                   else if (curChar == 34)
                      jjCheckNAddTwoStates(28, 30);
@@ -3650,18 +3658,18 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 17;
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 520)
-                        kind = 520;
+                     if (kind > 521)
+                        kind = 521;
                      jjCheckNAddStates(7, 13);
                   }
                   else if (curChar == 36)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   break;
-               case 82:
+               case 81:
                   if (curChar == 32)
                      jjCheckNAddTwoStates(76, 77);
                   if (curChar == 32)
@@ -3674,8 +3682,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 79:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 522)
-                        kind = 522;
+                     if (kind > 523)
+                        kind = 523;
                      jjCheckNAdd(47);
                   }
                   if ((0x3ff000000000000L & l) != 0L)
@@ -3688,8 +3696,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 63;
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   else if (curChar == 38)
@@ -3699,7 +3707,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if (curChar == 36)
                      jjCheckNAdd(22);
                   break;
-               case 83:
+               case 82:
                   if ((0xfffffffbffffdbffL & l) != 0L)
                      jjCheckNAddStates(14, 16);
                   else if (curChar == 34)
@@ -3710,8 +3718,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(17, 19);
                   else if (curChar == 39)
                   {
-                     if (kind > 527)
-                        kind = 527;
+                     if (kind > 528)
+                        kind = 528;
                   }
                   if ((0xfc00f7faffffc9ffL & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 54;
@@ -3725,8 +3733,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(20, 22);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   if ((0x3ff001000000000L & l) != 0L)
@@ -3745,8 +3753,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(20, 21);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   if ((0x3ff001000000000L & l) != 0L)
@@ -3754,15 +3762,15 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if (curChar == 36)
                      jjCheckNAdd(22);
                   break;
-               case 81:
+               case 83:
                   if ((0x7ff601000000000L & l) != 0L)
                      jjCheckNAddTwoStates(20, 21);
                   else if (curChar == 39)
                      jjCheckNAddStates(23, 25);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   if ((0x3ff001000000000L & l) != 0L)
@@ -3783,8 +3791,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 3;
                   break;
                case 5:
-                  if (curChar == 39 && kind > 526)
-                     kind = 526;
+                  if (curChar == 39 && kind > 527)
+                     kind = 527;
                   break;
                case 7:
                   if ((0x3ff000000000000L & l) != 0L)
@@ -3808,16 +3816,16 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 11;
                   break;
                case 13:
-                  if (curChar == 39 && kind > 528)
-                     kind = 528;
+                  if (curChar == 39 && kind > 529)
+                     kind = 529;
                   break;
                case 15:
                   if (curChar == 42)
                      jjstateSet[jjnewStateCnt++] = 16;
                   break;
                case 16:
-                  if ((0xffff7fffffffffffL & l) != 0L && kind > 566)
-                     kind = 566;
+                  if ((0xffff7fffffffffffL & l) != 0L && kind > 567)
+                     kind = 567;
                   break;
                case 17:
                   if (curChar == 42)
@@ -3842,8 +3850,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 22:
                   if (curChar != 36)
                      break;
-                  if (kind > 574)
-                     kind = 574;
+                  if (kind > 575)
+                     kind = 575;
                   jjCheckNAddTwoStates(22, 23);
                   break;
                case 23:
@@ -3853,22 +3861,22 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 24:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 574)
-                     kind = 574;
+                  if (kind > 575)
+                     kind = 575;
                   jjCheckNAdd(24);
                   break;
                case 25:
                   if (curChar != 36)
                      break;
-                  if (kind > 575)
-                     kind = 575;
+                  if (kind > 576)
+                     kind = 576;
                   jjCheckNAdd(26);
                   break;
                case 26:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 575)
-                     kind = 575;
+                  if (kind > 576)
+                     kind = 576;
                   jjCheckNAdd(26);
                   break;
                case 27:
@@ -3888,25 +3896,25 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 31:
-                  if (curChar == 34 && kind > 576)
-                     kind = 576;
+                  if (curChar == 34 && kind > 577)
+                     kind = 577;
                   break;
                case 32:
-                  if (curChar == 7 && kind > 580)
-                     kind = 580;
+                  if (curChar == 7 && kind > 581)
+                     kind = 581;
                   break;
                case 33:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 520)
-                     kind = 520;
+                  if (kind > 521)
+                     kind = 521;
                   jjCheckNAddStates(7, 13);
                   break;
                case 34:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 520)
-                     kind = 520;
+                  if (kind > 521)
+                     kind = 521;
                   jjCheckNAdd(34);
                   break;
                case 35:
@@ -3920,8 +3928,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 38:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 521)
-                     kind = 521;
+                  if (kind > 522)
+                     kind = 522;
                   jjCheckNAdd(38);
                   break;
                case 39:
@@ -3935,22 +3943,22 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 41:
                   if (curChar != 46)
                      break;
-                  if (kind > 522)
-                     kind = 522;
+                  if (kind > 523)
+                     kind = 523;
                   jjCheckNAdd(42);
                   break;
                case 42:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 522)
-                     kind = 522;
+                  if (kind > 523)
+                     kind = 523;
                   jjCheckNAdd(42);
                   break;
                case 43:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 522)
-                     kind = 522;
+                  if (kind > 523)
+                     kind = 523;
                   jjCheckNAddStates(26, 28);
                   break;
                case 44:
@@ -3968,8 +3976,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 47:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 522)
-                     kind = 522;
+                  if (kind > 523)
+                     kind = 523;
                   jjCheckNAdd(47);
                   break;
                case 48:
@@ -3989,12 +3997,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 50;
                   break;
                case 52:
-                  if (curChar == 39 && kind > 527)
-                     kind = 527;
+                  if (curChar == 39 && kind > 528)
+                     kind = 528;
                   break;
                case 54:
-                  if (curChar == 39 && kind > 531)
-                     kind = 531;
+                  if (curChar == 39 && kind > 532)
+                     kind = 532;
                   break;
                case 57:
                case 59:
@@ -4010,8 +4018,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 59;
                   break;
                case 61:
-                  if (curChar == 39 && kind > 529)
-                     kind = 529;
+                  if (curChar == 39 && kind > 530)
+                     kind = 530;
                   break;
                case 62:
                   if (curChar == 38)
@@ -4034,8 +4042,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 65;
                   break;
                case 67:
-                  if (curChar == 34 && kind > 577)
-                     kind = 577;
+                  if (curChar == 34 && kind > 578)
+                     kind = 578;
                   break;
                case 69:
                   if (curChar == 32)
@@ -4067,8 +4075,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 0:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   else if (curChar == 123)
@@ -4084,27 +4092,27 @@ private int jjMoveNfa_0(int startState, int curPos)
                   else if (curChar == 95)
                      jjstateSet[jjnewStateCnt++] = 7;
                   break;
-               case 82:
+               case 81:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 78;
                   else if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 75;
                   else if ((0x1000000010L & l) != 0L)
                   {
-                     if (kind > 534)
-                        kind = 534;
+                     if (kind > 535)
+                        kind = 535;
                   }
                   if ((0x10000000100000L & l) != 0L)
                   {
-                     if (kind > 535)
-                        kind = 535;
+                     if (kind > 536)
+                        kind = 536;
                   }
                   break;
                case 56:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   if ((0x7fffffe87fffffeL & l) != 0L)
@@ -4112,7 +4120,7 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if ((0x7fffffe87fffffeL & l) != 0L)
                      jjCheckNAddStates(0, 2);
                   break;
-               case 83:
+               case 82:
                case 28:
                   jjCheckNAddStates(14, 16);
                   break;
@@ -4124,8 +4132,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 1:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   if ((0x7fffffe87fffffeL & l) != 0L)
@@ -4141,8 +4149,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 80:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   if ((0x7fffffe87fffffeL & l) != 0L)
@@ -4150,11 +4158,11 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if ((0x7fffffe87fffffeL & l) != 0L)
                      jjCheckNAddStates(0, 2);
                   break;
-               case 81:
+               case 83:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   if ((0x7fffffe87fffffeL & l) != 0L)
@@ -4185,8 +4193,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAdd(9);
                   break;
                case 16:
-                  if (kind > 566)
-                     kind = 566;
+                  if (kind > 567)
+                     kind = 567;
                   break;
                case 19:
                   if ((0x7fffffe87fffffeL & l) != 0L)
@@ -4195,29 +4203,29 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 22:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 574)
-                     kind = 574;
+                  if (kind > 575)
+                     kind = 575;
                   jjAddStates(49, 50);
                   break;
                case 24:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 574)
-                     kind = 574;
+                  if (kind > 575)
+                     kind = 575;
                   jjstateSet[jjnewStateCnt++] = 24;
                   break;
                case 25:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 575)
-                     kind = 575;
+                  if (kind > 576)
+                     kind = 576;
                   jjCheckNAdd(26);
                   break;
                case 26:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 575)
-                     kind = 575;
+                  if (kind > 576)
+                     kind = 576;
                   jjCheckNAdd(26);
                   break;
                case 36:
@@ -4242,28 +4250,28 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(39, 46);
                   break;
                case 70:
-                  if ((0x1000000010L & l) != 0L && kind > 534)
-                     kind = 534;
+                  if ((0x1000000010L & l) != 0L && kind > 535)
+                     kind = 535;
                   break;
                case 72:
-                  if ((0x10000000100000L & l) != 0L && kind > 535)
-                     kind = 535;
+                  if ((0x10000000100000L & l) != 0L && kind > 536)
+                     kind = 536;
                   break;
                case 74:
                   if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 75;
                   break;
                case 75:
-                  if ((0x8000000080000L & l) != 0L && kind > 536)
-                     kind = 536;
+                  if ((0x8000000080000L & l) != 0L && kind > 537)
+                     kind = 537;
                   break;
                case 77:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 78;
                   break;
                case 78:
-                  if ((0x400000004000L & l) != 0L && kind > 537)
-                     kind = 537;
+                  if ((0x400000004000L & l) != 0L && kind > 538)
+                     kind = 538;
                   break;
                default : break;
             }
@@ -4285,8 +4293,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   break;
@@ -4297,12 +4305,12 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(20, 21);
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   break;
-               case 83:
+               case 82:
                case 28:
                   if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                      jjCheckNAddStates(14, 16);
@@ -4320,8 +4328,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(20, 21);
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   break;
@@ -4337,20 +4345,20 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(20, 21);
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   break;
-               case 81:
+               case 83:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                      jjCheckNAddStates(0, 2);
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                      jjCheckNAddTwoStates(20, 21);
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 575)
-                        kind = 575;
+                     if (kind > 576)
+                        kind = 576;
                      jjCheckNAdd(26);
                   }
                   break;
@@ -4363,8 +4371,8 @@ private int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(23, 25);
                   break;
                case 16:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 566)
-                     kind = 566;
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 567)
+                     kind = 567;
                   break;
                case 19:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -4373,29 +4381,29 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 22:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 574)
-                     kind = 574;
+                  if (kind > 575)
+                     kind = 575;
                   jjAddStates(49, 50);
                   break;
                case 24:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 574)
-                     kind = 574;
+                  if (kind > 575)
+                     kind = 575;
                   jjstateSet[jjnewStateCnt++] = 24;
                   break;
                case 25:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 575)
-                     kind = 575;
+                  if (kind > 576)
+                     kind = 576;
                   jjCheckNAdd(26);
                   break;
                case 26:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 575)
-                     kind = 575;
+                  if (kind > 576)
+                     kind = 576;
                   jjCheckNAdd(26);
                   break;
                case 49:
@@ -4432,7 +4440,7 @@ private int jjMoveStringLiteralDfa0_3()
    switch(curChar)
    {
       case 42:
-         return jjMoveStringLiteralDfa1_3(0x1000000000000000L);
+         return jjMoveStringLiteralDfa1_3(0x2000000000000000L);
       default :
          return 1;
    }
@@ -4446,8 +4454,8 @@ private int jjMoveStringLiteralDfa1_3(long active8)
    switch(curChar)
    {
       case 47:
-         if ((active8 & 0x1000000000000000L) != 0L)
-            return jjStopAtPos(1, 572);
+         if ((active8 & 0x2000000000000000L) != 0L)
+            return jjStopAtPos(1, 573);
          break;
       default :
          return 2;
@@ -4479,15 +4487,15 @@ private int jjMoveNfa_1(int startState, int curPos)
                case 0:
                   if ((0x2400L & l) != 0L)
                   {
-                     if (kind > 570)
-                        kind = 570;
+                     if (kind > 571)
+                        kind = 571;
                   }
                   if (curChar == 13)
                      jjstateSet[jjnewStateCnt++] = 1;
                   break;
                case 1:
-                  if (curChar == 10 && kind > 570)
-                     kind = 570;
+                  if (curChar == 10 && kind > 571)
+                     kind = 571;
                   break;
                case 2:
                   if (curChar == 13)
@@ -4541,7 +4549,7 @@ private int jjMoveStringLiteralDfa0_2()
    switch(curChar)
    {
       case 42:
-         return jjMoveStringLiteralDfa1_2(0x800000000000000L);
+         return jjMoveStringLiteralDfa1_2(0x1000000000000000L);
       default :
          return 1;
    }
@@ -4555,8 +4563,8 @@ private int jjMoveStringLiteralDfa1_2(long active8)
    switch(curChar)
    {
       case 47:
-         if ((active8 & 0x800000000000000L) != 0L)
-            return jjStopAtPos(1, 571);
+         if ((active8 & 0x1000000000000000L) != 0L)
+            return jjStopAtPos(1, 572);
          break;
       default :
          return 2;
@@ -4587,14 +4595,16 @@ private static final boolean jjCanMove_1(int hiByte, int i1, int i2, long l1, lo
    {
       case 0:
          return ((jjbitVec4[i2] & l2) != 0L);
-      case 48:
+      case 45:
          return ((jjbitVec5[i2] & l2) != 0L);
-      case 49:
+      case 48:
          return ((jjbitVec6[i2] & l2) != 0L);
-      case 51:
+      case 49:
          return ((jjbitVec7[i2] & l2) != 0L);
-      case 61:
+      case 51:
          return ((jjbitVec8[i2] & l2) != 0L);
+      case 61:
+         return ((jjbitVec9[i2] & l2) != 0L);
       default :
          if ((jjbitVec3[i1] & l1) != 0L)
             return true;
@@ -4642,11 +4652,11 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, "\50", "\51", null, null, null, null, "\173", "\175", "\133", "\135", "\73", 
-"\56", "\54", "\75", "\76", "\74", "\77", "\72", "\74\75", "\76\75", "\74\76", "\53", 
-"\55", "\52", "\57", "\174\174", "\56\56", "\47", "\42", null, null, null, null, null, 
+null, null, "\50", "\51", null, null, null, null, "\173", "\175", "\133", "\135", 
+"\73", "\56", "\54", "\75", "\76", "\74", "\77", "\72", "\74\75", "\76\75", "\74\76", 
+"\53", "\55", "\52", "\57", "\174\174", "\56\56", "\47", "\42", null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, };
+null, null, null, };
 
 /** Lexer state names. */
 public static final String[] lexStateNames = {
@@ -4680,28 +4690,28 @@ public static final int[] jjnewLexState = {
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 2, 1, 1, 3, 0, 0, 0, -1, -1, 
-   -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 2, 1, 1, 3, 0, 0, 0, -1, 
+   -1, -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
    0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 
    0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 
-   0xc001fffffffbc7ffL, 0x13L, 
+   0x8003fffffff78fffL, 0x27L, 
 };
 static final long[] jjtoSkip = {
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
-   0x1c3e000000000000L, 0x0L, 
+   0x387c000000000000L, 0x0L, 
 };
 static final long[] jjtoSpecial = {
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
-   0x1c00000000000000L, 0x0L, 
+   0x3800000000000000L, 0x0L, 
 };
 static final long[] jjtoMore = {
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
-   0x23c0000000000000L, 0x0L, 
+   0x4780000000000000L, 0x0L, 
 };
 protected SimpleCharStream input_stream;
 private final int[] jjrounds = new int[79];
@@ -4830,27 +4840,27 @@ public Token getNextToken()
          jjmatchedKind = 0x7fffffff;
          jjmatchedPos = 0;
          curPos = jjMoveStringLiteralDfa0_1();
-         if (jjmatchedPos == 0 && jjmatchedKind > 573)
+         if (jjmatchedPos == 0 && jjmatchedKind > 574)
          {
-            jjmatchedKind = 573;
+            jjmatchedKind = 574;
          }
          break;
        case 2:
          jjmatchedKind = 0x7fffffff;
          jjmatchedPos = 0;
          curPos = jjMoveStringLiteralDfa0_2();
-         if (jjmatchedPos == 0 && jjmatchedKind > 573)
+         if (jjmatchedPos == 0 && jjmatchedKind > 574)
          {
-            jjmatchedKind = 573;
+            jjmatchedKind = 574;
          }
          break;
        case 3:
          jjmatchedKind = 0x7fffffff;
          jjmatchedPos = 0;
          curPos = jjMoveStringLiteralDfa0_3();
-         if (jjmatchedPos == 0 && jjmatchedKind > 573)
+         if (jjmatchedPos == 0 && jjmatchedKind > 574)
          {
-            jjmatchedKind = 573;
+            jjmatchedKind = 574;
          }
          break;
      }
@@ -170,6 +170,14 @@ public class SelectScope
         if ((orderList.size() > 0)) {
             SqlNode order0 = (SqlNode) orderList.get(0);
             monotonicity = SqlMonotonicity.Increasing;
+            if ((order0 instanceof SqlCall)
+                && (((SqlCall) order0).getOperator()
+                    == SqlStdOperatorTable.nullsFirstOperator
+                    || ((SqlCall) order0).getOperator()
+                    == SqlStdOperatorTable.nullsLastOperator))
+            {
+                order0 = ((SqlCall) order0).getOperands()[0];
+            }
             if ((order0 instanceof SqlCall)
                 && (((SqlCall) order0).getOperator()
                     == SqlStdOperatorTable.descendingOperator))
@@ -1031,14 +1031,24 @@ public class SqlValidatorImpl
             SqlNodeList orderList =
                 (SqlNodeList)
                 orderBy.getOperands()[SqlOrderByOperator.ORDER_OPERAND];
+            SqlNode offset =
+                orderBy.getOperands()[SqlOrderByOperator.OFFSET_OPERAND];
+            SqlNode fetch =
+                orderBy.getOperands()[SqlOrderByOperator.FETCH_OPERAND];
             if (query instanceof SqlSelect) {
                 SqlSelect select = (SqlSelect) query;
 
                 // Don't clobber existing ORDER BY.  It may be needed for
-                // an order-sensitive function like RANK.
-                if (select.getOrderList() == null) {
-                    // push ORDER BY into existing select
+                // an order-sensitive function like RANK. Likewise OFFSET
+                // and FETCH, which apply after the existing ORDER BY.
+                if (select.getOrderList() == null
+                    && select.getOffset() == null
+                    && select.getFetch() == null)
+                {
+                    // push ORDER BY, OFFSET and FETCH into existing select
                     select.setOperand(SqlSelect.ORDER_OPERAND, orderList);
+                    select.setOperand(SqlSelect.OFFSET_OPERAND, offset);
+                    select.setOperand(SqlSelect.FETCH_OPERAND, fetch);
                     return select;
                 }
             }
@@ -1053,6 +1063,8 @@ public class SqlValidatorImpl
                 null,
                 null,
                 orderList,
+                offset,
+                fetch,
                 SqlParserPos.ZERO);
         }
 
@@ -3152,6 +3164,18 @@ public class SqlValidatorImpl
 
     private void validateOrderItem(SqlSelect select, SqlNode orderItem)
     {
+        if (SqlUtil.isCallTo(
+                orderItem,
+                SqlStdOperatorTable.nullsFirstOperator)
+            || SqlUtil.isCallTo(
+                orderItem,
+                SqlStdOperatorTable.nullsLastOperator))
+        {
+            validateOrderItem(
+                select,
+                ((SqlCall) orderItem).operands[0]);
+            return;
+        }
         if (SqlUtil.isCallTo(
                 orderItem,
                 SqlStdOperatorTable.descendingOperator))
@@ -283,9 +283,9 @@ public class RelDecorrelator
 
         for (RelFieldCollation oldCollation : oldCollations) {
             newCollations.add(
-                new RelFieldCollation(
-                    childMapOldToNewOutputPos.get(oldCollation.getFieldIndex()),
-                    oldCollation.getDirection()));
+                oldCollation.copy(
+                    childMapOldToNewOutputPos.get(
+                        oldCollation.getFieldIndex())));
         }
 
         SortRel newRel =
@@ -293,7 +293,9 @@ public class RelDecorrelator
                 rel.getCluster(),
                 rel.getCluster().traitSetOf(CallingConvention.NONE),
                 newChildRel,
-                newCollations);
+                newCollations,
+                rel.getOffset(),
+                rel.getFetch());
 
         mapOldToNewRel.put(rel, newRel);
 
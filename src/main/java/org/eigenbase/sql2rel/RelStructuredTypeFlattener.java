@@ -344,16 +344,16 @@ public class RelStructuredTypeFlattener
                 throw Util.needToImplement("sorting on structured types");
             }
             newCollations.add(
-                new RelFieldCollation(
-                    getNewForOldInput(oldInput),
-                    oldCollation.getDirection()));
+                oldCollation.copy(getNewForOldInput(oldInput)));
         }
         SortRel newRel =
             new SortRel(
                 rel.getCluster(),
                 rel.getCluster().traitSetOf(CallingConvention.NONE),
                 getNewForOldRel(rel.getChild()),
-                newCollations);
+                newCollations,
+                rel.getOffset(),
+                rel.getFetch());
         setNewForOldRel(rel, newRel);
     }
 
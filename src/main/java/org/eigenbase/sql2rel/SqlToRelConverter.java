@@ -682,7 +682,20 @@ public class SqlToRelConverter
     }
 
     /**
-     * Converts a query's ORDER BY clause, if any.
+     * Converts the literal in an OFFSET or FETCH clause to an exact integer
+     * literal, or returns null if the clause is not present.
+     */
+    private RexNode convertRowCount(SqlNode node)
+    {
+        if (node == null) {
+            return null;
+        }
+        final int n = ((SqlLiteral) node).intValue(true);
+        return rexBuilder.makeExactLiteral(BigDecimal.valueOf(n));
+    }
+
+    /**
+     * Converts a query's ORDER BY, OFFSET and FETCH clauses, if any.
      *
      * @param select Query
      * @param bb Blackboard
@@ -696,7 +709,10 @@ public class SqlToRelConverter
         List<RelFieldCollation> collationList,
         List<SqlNode> orderExprList)
     {
-        if (select.getOrderList() == null) {
+        if (select.getOrderList() == null
+            && select.getOffset() == null
+            && select.getFetch() == null)
+        {
             assert collationList.isEmpty();
             return;
         }
@@ -707,7 +723,9 @@ public class SqlToRelConverter
                 cluster,
                 cluster.traitSetOf(CallingConvention.NONE),
                 bb.root,
-                collationList),
+                collationList,
+                convertRowCount(select.getOffset()),
+                convertRowCount(select.getFetch())),
             false);
 
         // If extra exressions were added to the project list for sorting,
@@ -2557,7 +2575,8 @@ public class SqlToRelConverter
                     select,
                     orderItem,
                     extraOrderExprs,
-                    RelFieldCollation.Direction.Ascending));
+                    RelFieldCollation.Direction.Ascending,
+                    RelFieldCollation.NullDirection.UNSPECIFIED));
         }
     }
 
@@ -2565,9 +2584,11 @@ public class SqlToRelConverter
         SqlSelect select,
         SqlNode orderItem,
         List<SqlNode> extraExprs,
-        RelFieldCollation.Direction direction)
+        RelFieldCollation.Direction direction,
+        RelFieldCollation.NullDirection nullDirection)
     {
         // DESC keyword, e.g. 'select a, b from t order by a desc'.
+        // NULLS FIRST and NULLS LAST, e.g. 'order by a desc nulls last'.
         if (orderItem instanceof SqlCall) {
             SqlCall call = (SqlCall) orderItem;
             if (call.getOperator() == SqlStdOperatorTable.descendingOperator) {
@@ -2575,7 +2596,24 @@ public class SqlToRelConverter
                     select,
                     call.operands[0],
                     extraExprs,
-                    RelFieldCollation.Direction.Descending);
+                    RelFieldCollation.Direction.Descending,
+                    nullDirection);
+            }
+            if (call.getOperator() == SqlStdOperatorTable.nullsFirstOperator) {
+                return convertOrderItem(
+                    select,
+                    call.operands[0],
+                    extraExprs,
+                    direction,
+                    RelFieldCollation.NullDirection.FIRST);
+            }
+            if (call.getOperator() == SqlStdOperatorTable.nullsLastOperator) {
+                return convertOrderItem(
+                    select,
+                    call.operands[0],
+                    extraExprs,
+                    direction,
+                    RelFieldCollation.NullDirection.LAST);
             }
         }
 
@@ -2591,14 +2629,16 @@ public class SqlToRelConverter
                     selectItem = ((SqlCall) selectItem).operands[0];
                 }
                 if (converted.equalsDeep(selectItem, false)) {
-                    return new RelFieldCollation(ordinal, direction);
+                    return new RelFieldCollation(
+                        ordinal, direction, nullDirection);
                 }
             }
 
             for (SqlNode extraExpr : extraExprs) {
                 ++ordinal;
                 if (converted.equalsDeep(extraExpr, false)) {
-                    return new RelFieldCollation(ordinal, direction);
+                    return new RelFieldCollation(
+                        ordinal, direction, nullDirection);
                 }
             }
         }
@@ -2608,7 +2648,7 @@ public class SqlToRelConverter
 
         int ordinal = select.getSelectList().size() + extraExprs.size();
         extraExprs.add(converted);
-        return new RelFieldCollation(ordinal, direction);
+        return new RelFieldCollation(ordinal, direction, nullDirection);
     }
 
     protected boolean enableDecorrelation()
@@ -0,0 +1,44 @@
+/*
+// Licensed to Julian Hyde under one or more contributor license
+// agreements. See the NOTICE file distributed with this work for
+// additional information regarding copyright ownership.
+//
+// Julian Hyde licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except in
+// compliance with the License. You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+*/
+package org.eigenbase.stat;
+
+/**
+ * Object, typically a {@link org.eigenbase.relopt.RelOptTable}, that can
+ * supply statistics about the data set it represents.
+ *
+ * <p>{@link org.eigenbase.rel.metadata.RelMdStatistics} uses this interface
+ * to answer {@link
+ * org.eigenbase.rel.metadata.RelMetadataQuery#getStatistics} for a table
+ * access.
+ *
+ * @author jhyde
+ * @version $Id$
+ */
+public interface RelStatSourceProvider
+{
+    //~ Methods ----------------------------------------------------------------
+
+    /**
+     * Returns statistics about this data set.
+     *
+     * @return statistics, or null if no statistics are available
+     */
+    RelStatSource getStatistics();
+}
+
+// End RelStatSourceProvider.java
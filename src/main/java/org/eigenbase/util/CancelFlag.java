@@ -27,7 +27,12 @@ public class CancelFlag
 {
     //~ Instance fields --------------------------------------------------------
 
-    private boolean cancelRequested;
+    /**
+     * Whether a cancellation has been requested. Volatile, because the
+     * request usually comes from a different thread than the one that checks
+     * the flag.
+     */
+    private volatile boolean cancelRequested;
 
     //~ Methods ----------------------------------------------------------------
 
@@ -41,6 +41,28 @@ public class JdbcFrontJdbcBackTest extends TestCase {
                 "day=1; week_day=Sunday\n"
                 + "day=2; week_day=Monday\n");
     }
+
+    public void testAggregatePushDown() {
+        assertThat()
+            .inJdbcFoodmart2()
+            .query(
+                "select count(*) as c from \"foodmart\".\"days\"\n"
+                + "where \"day\" < 4")
+            .returns("C=3\n");
+    }
+
+    public void testSortPushDown() {
+        assertThat()
+            .inJdbcFoodmart2()
+            .query(
+                "select \"week_day\" from \"foodmart\".\"days\"\n"
+                + "where \"day\" < 4\n"
+                + "order by \"day\" desc")
+            .returns(
+                "week_day=Tuesday\n"
+                + "week_day=Monday\n"
+                + "week_day=Sunday\n");
+    }
 }
 
 // End JdbcFrontJdbcBackTest.java
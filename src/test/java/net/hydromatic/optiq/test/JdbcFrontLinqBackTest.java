@@ -56,6 +56,57 @@ public class JdbcFrontLinqBackTest extends TestCase {
                 + "cust_id=150; prod_id=20; empid=150; deptno=10; name=Sebastian\n");
     }
 
+    /**
+     * Join on two keys, plus a non-equi condition.
+     */
+    public void testJoinCompositeKey() {
+        assertThat()
+            .query(
+                "select e.\"name\", s.\"prod_id\"\n"
+                + "from \"foodmart\".\"sales_fact_1997\" as s\n"
+                + "join \"hr\".\"emps\" as e\n"
+                + "on e.\"empid\" = s.\"cust_id\"\n"
+                + "and e.\"deptno\" = s.\"prod_id\"\n"
+                + "and e.\"name\" <> 'Eric'")
+            .returns(
+                "name=Bill; prod_id=10\n");
+    }
+
+    /**
+     * Left outer join, with a condition that is not an equi-join.
+     */
+    public void testLeftJoin() {
+        assertThat()
+            .query(
+                "select e.\"name\", d.\"name\" as dname\n"
+                + "from \"hr\".\"emps\" as e\n"
+                + "left join \"hr\".\"depts\" as d\n"
+                + "on e.\"deptno\" = d.\"deptno\"\n"
+                + "and e.\"empid\" > 120")
+            .returns(
+                "name=Bill; DNAME=null\n"
+                + "name=Eric; DNAME=null\n"
+                + "name=Sebastian; DNAME=Sales\n");
+    }
+
+    /**
+     * Full outer join.
+     */
+    public void testFullJoin() {
+        assertThat()
+            .query(
+                "select e.\"name\", d.\"name\" as dname\n"
+                + "from \"hr\".\"emps\" as e\n"
+                + "full join \"hr\".\"depts\" as d\n"
+                + "on e.\"deptno\" = d.\"deptno\"")
+            .returns(
+                "name=Bill; DNAME=Sales\n"
+                + "name=Eric; DNAME=null\n"
+                + "name=Sebastian; DNAME=Sales\n"
+                + "name=null; DNAME=Marketing\n"
+                + "name=null; DNAME=HR\n");
+    }
+
     /**
      * Simple GROUP BY.
      */
@@ -70,6 +121,36 @@ public class JdbcFrontLinqBackTest extends TestCase {
                 + "deptno=10; S=250; C=2\n");
     }
 
+    /**
+     * GROUP BY with several aggregate functions, including AVG and
+     * COUNT(DISTINCT), computed in a single pass.
+     */
+    public void testGroupByAggregates() {
+        assertThat()
+            .query(
+                "select \"deptno\", avg(\"empid\") as a,\n"
+                + "  count(distinct \"name\") as dn, min(\"name\") as mn,\n"
+                + "  max(\"empid\") as mx, count(*) as c\n"
+                + "from \"hr\".\"emps\" as e\n"
+                + "group by \"deptno\"")
+            .returns(
+                "deptno=20; A=200; DN=1; MN=Eric; MX=200; C=1\n"
+                + "deptno=10; A=125; DN=2; MN=Bill; MX=150; C=2\n");
+    }
+
+    /**
+     * Aggregate without GROUP BY over an empty input returns one row.
+     */
+    public void testAggregateEmpty() {
+        assertThat()
+            .query(
+                "select count(*) as c, sum(\"empid\") as s\n"
+                + "from \"hr\".\"emps\" as e\n"
+                + "where \"empid\" > 1000")
+            .returns(
+                "C=0; S=null\n");
+    }
+
     /**
      * Simple ORDER BY.
      */
@@ -85,6 +166,34 @@ public class JdbcFrontLinqBackTest extends TestCase {
                 + "UN=ERIC; deptno=20\n");
     }
 
+    /**
+     * ORDER BY with NULLS FIRST and NULLS LAST.
+     */
+    public void testOrderByNulls() {
+        assertThat()
+            .query(
+                "select e.\"name\", d.\"name\" as dname\n"
+                + "from \"hr\".\"emps\" as e\n"
+                + "left join \"hr\".\"depts\" as d\n"
+                + "on e.\"deptno\" = d.\"deptno\"\n"
+                + "order by 2 nulls first, 1 desc")
+            .returns(
+                "name=Eric; DNAME=null\n"
+                + "name=Sebastian; DNAME=Sales\n"
+                + "name=Bill; DNAME=Sales\n");
+        assertThat()
+            .query(
+                "select e.\"name\", d.\"name\" as dname\n"
+                + "from \"hr\".\"emps\" as e\n"
+                + "left join \"hr\".\"depts\" as d\n"
+                + "on e.\"deptno\" = d.\"deptno\"\n"
+                + "order by 2 desc nulls last, 1")
+            .returns(
+                "name=Bill; DNAME=Sales\n"
+                + "name=Sebastian; DNAME=Sales\n"
+                + "name=Eric; DNAME=null\n");
+    }
+
     /**
      * Simple UNION, plus ORDER BY.
      *
@@ -24,6 +24,8 @@ import net.hydromatic.linq4j.function.Function1;
 import net.hydromatic.linq4j.function.Predicate1;
 
 import net.hydromatic.optiq.*;
+import net.hydromatic.optiq.impl.java.ColumnarTable;
+import net.hydromatic.optiq.impl.java.IndexedTable;
 import net.hydromatic.optiq.impl.java.JavaTypeFactory;
 import net.hydromatic.optiq.impl.java.MapSchema;
 import net.hydromatic.optiq.impl.java.ReflectiveSchema;
@@ -31,12 +33,16 @@ import net.hydromatic.optiq.impl.jdbc.JdbcSchema;
 import net.hydromatic.optiq.jdbc.OptiqConnection;
 import net.hydromatic.optiq.jdbc.OptiqPrepare;
 import net.hydromatic.optiq.prepare.Factory;
+import net.hydromatic.optiq.prepare.PlanCache;
 
 import junit.framework.TestCase;
 
 import org.apache.commons.dbcp.BasicDataSource;
 
 import org.eigenbase.oj.stmt.OJPreparingStmt;
+import org.eigenbase.rel.RelCollation;
+import org.eigenbase.rel.RelCollationImpl;
+import org.eigenbase.rel.RelFieldCollation;
 import org.eigenbase.rel.RelNode;
 import org.eigenbase.relopt.RelOptTable;
 import org.eigenbase.relopt.RelOptUtil;
@@ -44,6 +50,8 @@ import org.eigenbase.reltype.RelDataType;
 import org.eigenbase.sql.SqlDialect;
 import org.eigenbase.util.Util;
 
+import java.io.File;
+import java.io.FilenameFilter;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.sql.*;
@@ -327,6 +335,14 @@ public class JdbcTest extends TestCase {
                             public Schema getRootSchema() {
                                 return optiqConnection.getRootSchema();
                             }
+
+                            public PlanCache getPlanCache() {
+                                return null;
+                            }
+
+                            public Properties getProperties() {
+                                return optiqConnection.getProperties();
+                            }
                         },
                         viewSql);
                 return new ViewTable<T>(
@@ -416,6 +432,1132 @@ public class JdbcTest extends TestCase {
         connection.close();
     }
 
+    /**
+     * Tests that a statement is compiled once and then served from the plan
+     * cache, and that modifying the schema invalidates the cached plan.
+     */
+    public void testPlanCache() throws ClassNotFoundException, SQLException {
+        Connection connection = getConnectionWithHrFoodmart();
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        PlanCache planCache = optiqConnection.getPlanCache();
+        assertNotNull(planCache);
+        Statement statement = connection.createStatement();
+        final String sql =
+            "select \"empid\" from \"hr\".\"emps\" where \"deptno\" = 10";
+        assertEquals(
+            "empid=100\nempid=150\n",
+            toString(statement.executeQuery(sql)));
+        assertEquals(0, planCache.getHitCount());
+        assertEquals(1, planCache.getMissCount());
+
+        // Same statement, different white space.
+        assertEquals(
+            "empid=100\nempid=150\n",
+            toString(statement.executeQuery(sql.replace(" ", "\n  "))));
+        assertEquals(1, planCache.getHitCount());
+        assertEquals(1, planCache.size());
+
+        // Modifying the schema makes the cached plan stale.
+        MapSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "s");
+        assertEquals(
+            "empid=100\nempid=150\n",
+            toString(statement.executeQuery(sql)));
+        assertEquals(1, planCache.getHitCount());
+        assertEquals(1, planCache.getInvalidationCount());
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests that an EXPLAIN statement returns its plan, and that it can
+     * be served from the plan cache. */
+    public void testExplainPlanCache()
+        throws ClassNotFoundException, SQLException
+    {
+        Connection connection = getConnectionWithHrFoodmart();
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        PlanCache planCache = optiqConnection.getPlanCache();
+        Statement statement = connection.createStatement();
+        final String sql =
+            "explain plan for\n"
+            + "select \"empid\" from \"hr\".\"emps\" where \"deptno\" = 10";
+        final String plan = toString(statement.executeQuery(sql));
+        assertTrue(plan, plan.startsWith("PLAN="));
+        assertTrue(plan, plan.contains("EnumerableTableAccessRel"));
+        assertEquals(0, planCache.getHitCount());
+
+        // Second time, the plan comes from the cache.
+        assertEquals(plan, toString(statement.executeQuery(sql)));
+        assertEquals(1, planCache.getHitCount());
+        statement.close();
+        connection.close();
+    }
+
+    /**
+     * Tests that a JDBC schema reads table definitions once, and reads them
+     * again after it is refreshed.
+     */
+    public void testJdbcSchemaMetadataCache()
+        throws ClassNotFoundException, SQLException
+    {
+        OptiqConnection connection = getConnection(null);
+        JdbcSchema schema =
+            (JdbcSchema) connection.getRootSchema().getSubSchema("foodmart");
+        Table customer = schema.getTable("customer");
+        assertNotNull(customer);
+        assertSame(customer, schema.getTable("customer"));
+        assertNull(schema.getTable("no_such_table"));
+        assertNotNull(schema.getTableFunctions());
+
+        schema.refresh();
+        Table customer2 = schema.getTable("customer");
+        assertNotNull(customer2);
+        assertNotSame(customer, customer2);
+        assertEquals(customer.getElementType(), customer2.getElementType());
+        connection.close();
+    }
+
+    /** Tests that a JDBC schema limits the number of connections to its
+     * data source that are in use at a time. */
+    public void testJdbcSchemaMaxActiveConnections()
+        throws ClassNotFoundException, SQLException
+    {
+        OptiqConnection connection = getConnection(null);
+        JdbcSchema schema =
+            (JdbcSchema) connection.getRootSchema().getSubSchema("foodmart");
+        schema.setMaxActiveConnections(1, 100L);
+        final String sql =
+            "select \"customer_id\" from \"foodmart\".\"customer\"";
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(sql);
+        assertTrue(resultSet.next());
+
+        // The only connection is in use, so a second query times out.
+        Statement statement2 = connection.createStatement();
+        try {
+            ResultSet resultSet2 = statement2.executeQuery(sql);
+            resultSet2.next();
+            fail("expected error");
+        } catch (Exception e) {
+            final String stack = Util.getStackTrace(e);
+            assertTrue(stack, stack.contains("Timed out"));
+        }
+
+        // Closing the first query frees the connection.
+        resultSet.close();
+        ResultSet resultSet3 = statement2.executeQuery(sql);
+        assertTrue(resultSet3.next());
+        resultSet3.close();
+        statement.close();
+        statement2.close();
+        connection.close();
+    }
+
+    /** Tests that closing a result set before all of its rows have been
+     * read returns the JDBC schema's connection to the pool. */
+    public void testJdbcSchemaReleasesConnection()
+        throws ClassNotFoundException, SQLException
+    {
+        OptiqConnection connection = getConnection(null);
+        JdbcSchema schema =
+            (JdbcSchema) connection.getRootSchema().getSubSchema("foodmart");
+        assertEquals(0, schema.getActiveConnectionCount());
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "select \"customer_id\" from \"foodmart\".\"customer\"");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(resultSet.next());
+        }
+        assertEquals(1, schema.getActiveConnectionCount());
+        resultSet.close();
+        assertEquals(0, schema.getActiveConnectionCount());
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests the statistics that a {@link ReflectiveSchema} computes for a
+     * table by sampling its rows. */
+    public void testReflectiveSchemaStatistics()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection = DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema schema =
+            ReflectiveSchema.create(
+                optiqConnection, optiqConnection.getRootSchema(), "hr",
+                new HrSchema());
+        Statistic statistic = schema.getTable("emps").getStatistic();
+        assertEquals(3d, statistic.getRowCount());
+
+        // Columns are empid, deptno, name.
+        ColumnStatistic deptno = statistic.getColumnStatistic(1);
+        assertEquals(2d, deptno.getDistinctCount());
+        assertEquals(0d, deptno.getNullFraction());
+        assertEquals(10d, deptno.getMin());
+        assertEquals(20d, deptno.getMax());
+        assertEquals(
+            0.75d, deptno.getHistogram().getFractionBelow(15d, false), 0.01d);
+        ColumnStatistic name = statistic.getColumnStatistic(2);
+        assertEquals(3d, name.getDistinctCount());
+        assertEquals("Bill", name.getMin());
+        assertNull(statistic.getColumnStatistic(3));
+        connection.close();
+    }
+
+    public void testPlanCacheNormalize() {
+        assertEquals(
+            "select 'a  b' from \"x  y\" where a = 1",
+            PlanCache.normalize(
+                "  select 'a  b'\nfrom \"x  y\"\n\twhere a =  1 \n"));
+
+        // Comments are white space; a "--" comment ends at the line break.
+        assertEquals(
+            "select a from t",
+            PlanCache.normalize("select a -- x\nfrom t"));
+        assertEquals(
+            "select a from t",
+            PlanCache.normalize("select a/* x\ny */from t -- z"));
+        assertFalse(
+            PlanCache.normalize("select a -- x\nfrom t").equals(
+                PlanCache.normalize("select a -- x from t")));
+        assertEquals(
+            "select '-- x', \"/* y */\" from t",
+            PlanCache.normalize("select '-- x', \"/* y */\" from t"));
+    }
+
+    /**
+     * Tests a sort whose buffer is too small to hold all of its input, so
+     * that it spills sorted runs to disk and merges them.
+     */
+    public void testSortSpill() throws ClassNotFoundException, SQLException {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        final Properties info = new Properties();
+        info.setProperty("sortBufferSize", "1");
+        Connection connection =
+            DriverManager.getConnection("jdbc:optiq:", info);
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "hr",
+            new HrSchema());
+        Statement statement = connection.createStatement();
+        assertEquals(
+            "name=Eric; deptno=20\n"
+            + "name=Bill; deptno=10\n"
+            + "name=Sebastian; deptno=10\n",
+            toString(
+                statement.executeQuery(
+                    "select \"name\", \"deptno\"\n"
+                    + "from \"hr\".\"emps\"\n"
+                    + "order by \"deptno\" desc, \"name\"")));
+
+        // Closing the result set before reading all rows deletes the runs.
+        final int runCount = sortRunCount();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "select \"name\" from \"hr\".\"emps\" order by \"name\"");
+        assertTrue(resultSet.next());
+        assertEquals("Bill", resultSet.getString(1));
+        resultSet.close();
+        assertEquals(runCount, sortRunCount());
+        statement.close();
+        connection.close();
+    }
+
+    /** Returns the number of sort run files in the temporary directory. */
+    private static int sortRunCount() {
+        final String[] names =
+            new File(System.getProperty("java.io.tmpdir")).list(
+                new FilenameFilter() {
+                    public boolean accept(File dir, String name) {
+                        return name.startsWith("optiq-sort")
+                            && name.endsWith(".run");
+                    }
+                });
+        return names == null ? 0 : names.length;
+    }
+
+    /** Tests that the planner stops, and returns a valid plan, when its
+     * rule-firing budget is exhausted. */
+    public void testPlannerRuleLimit()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        final Properties info = new Properties();
+        info.setProperty("plannerRuleLimit", "1");
+        info.setProperty("plannerTimeLimit", "1");
+        Connection connection =
+            DriverManager.getConnection("jdbc:optiq:", info);
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "hr",
+            new HrSchema());
+        Statement statement = connection.createStatement();
+        assertEquals(
+            "name=Bill; dname=Sales\n"
+            + "name=Sebastian; dname=Sales\n",
+            toString(
+                statement.executeQuery(
+                    "select e.\"name\", d.\"name\" as \"dname\"\n"
+                    + "from \"hr\".\"emps\" as e\n"
+                    + "join \"hr\".\"depts\" as d\n"
+                    + "on e.\"deptno\" = d.\"deptno\"\n"
+                    + "where e.\"empid\" > 50\n"
+                    + "order by e.\"name\"")));
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests arithmetic, CASE, CAST and IS NULL in a projection, and
+     * three-valued logic in a filter. */
+    public void testNullableExpressions()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection =
+            DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "hr",
+            new HrSchema());
+        Statement statement = connection.createStatement();
+        assertEquals(
+            "s=110; c=null; d=33; n=false\n"
+            + "s=160; c=300; d=50; n=false\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" + \"deptno\" as \"s\",\n"
+                    + " case when \"empid\" > 120 then \"empid\" * 2 end"
+                    + " as \"c\",\n"
+                    + " cast(\"empid\" as bigint) / 3 as \"d\",\n"
+                    + " \"name\" is null as \"n\"\n"
+                    + "from \"hr\".\"emps\"\n"
+                    + "where (\"empid\" < 200 or \"name\" is null)\n"
+                    + "and not (\"deptno\" = 30)")));
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests queries whose intermediate results are held in synthetic row
+     * classes: a set operation, which relies on the rows' value semantics,
+     * and an outer join whose nullable output is read by a projection and
+     * then sorted. */
+    public void testSyntheticRows()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection =
+            DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "hr",
+            new HrSchema());
+        Statement statement = connection.createStatement();
+        assertEquals(
+            "deptno=10; x=2\n"
+            + "deptno=10; x=3\n"
+            + "deptno=30; x=2\n"
+            + "deptno=40; x=2\n",
+            toString(
+                statement.executeQuery(
+                    "select \"deptno\", \"empid\" / 50 as \"x\"\n"
+                    + "from \"hr\".\"emps\"\n"
+                    + "where \"deptno\" = 10\n"
+                    + "union\n"
+                    + "select \"deptno\", 2 from \"hr\".\"depts\"\n"
+                    + "order by 1, 2")));
+        assertEquals(
+            "deptno=10; e=101\n"
+            + "deptno=10; e=151\n"
+            + "deptno=30; e=null\n"
+            + "deptno=40; e=null\n",
+            toString(
+                statement.executeQuery(
+                    "select d.\"deptno\", e.\"empid\" + 1 as \"e\"\n"
+                    + "from \"hr\".\"depts\" as d\n"
+                    + "left join \"hr\".\"emps\" as e\n"
+                    + "on d.\"deptno\" = e.\"deptno\"\n"
+                    + "order by 1, 2")));
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests that queries whose calcs and aggregate are fused into a
+     * single loop return the same results as the same queries run operator
+     * by operator. */
+    public void testFusePipelines()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        for (String fuse : new String[] {"true", "false"}) {
+            final Properties info = new Properties();
+            info.setProperty("fusePipelines", fuse);
+            Connection connection =
+                DriverManager.getConnection("jdbc:optiq:", info);
+            OptiqConnection optiqConnection =
+                connection.unwrap(OptiqConnection.class);
+            ReflectiveSchema.create(
+                optiqConnection, optiqConnection.getRootSchema(), "hr",
+                new HrSchema());
+            Statement statement = connection.createStatement();
+            assertEquals(
+                "deptno=10; c=1; s=151\n"
+                + "deptno=20; c=1; s=201\n",
+                toString(
+                    statement.executeQuery(
+                        "select \"deptno\", count(*) as \"c\",\n"
+                        + " sum(\"empid\" + 1) as \"s\"\n"
+                        + "from \"hr\".\"emps\"\n"
+                        + "where \"empid\" > 100\n"
+                        + "group by \"deptno\"\n"
+                        + "order by \"deptno\"")));
+            assertEquals(
+                "x=302\n",
+                toString(
+                    statement.executeQuery(
+                        "select \"e\" * 2 as \"x\"\n"
+                        + "from (\n"
+                        + "  select \"empid\" + 1 as \"e\", \"name\"\n"
+                        + "  from \"hr\".\"emps\"\n"
+                        + "  where \"deptno\" = 10)\n"
+                        + "where \"name\" <> 'Bill'")));
+            statement.close();
+            connection.close();
+        }
+    }
+
+    /** Tests that aggregates and joins executed in parallel return the
+     * same results as when they are executed serially. */
+    public void testParallel()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        for (String parallelism : new String[] {"1", "3"}) {
+            final Properties info = new Properties();
+            info.setProperty("parallelism", parallelism);
+            Connection connection =
+                DriverManager.getConnection("jdbc:optiq:", info);
+            OptiqConnection optiqConnection =
+                connection.unwrap(OptiqConnection.class);
+            ReflectiveSchema.create(
+                optiqConnection, optiqConnection.getRootSchema(), "hr",
+                new HrSchema());
+            Statement statement = connection.createStatement();
+            assertEquals(
+                "deptno=10; c=2; s=252\n"
+                + "deptno=20; c=1; s=201\n",
+                toString(
+                    statement.executeQuery(
+                        "select \"deptno\", count(*) as \"c\",\n"
+                        + " sum(\"empid\" + 1) as \"s\"\n"
+                        + "from \"hr\".\"emps\"\n"
+                        + "group by \"deptno\"\n"
+                        + "order by \"deptno\"")));
+            assertEquals(
+                "c=2\n",
+                toString(
+                    statement.executeQuery(
+                        "select count(*) as \"c\"\n"
+                        + "from \"hr\".\"emps\"\n"
+                        + "where \"empid\" < 200")));
+            // Each partition aggregates its own rows; the partial groups
+            // are merged.
+            assertEquals(
+                "deptno=10; n=Bill; m=150; a=125\n"
+                + "deptno=20; n=Eric; m=200; a=200\n",
+                toString(
+                    statement.executeQuery(
+                        "select \"deptno\", min(\"name\") as \"n\",\n"
+                        + " max(\"empid\") as \"m\", avg(\"empid\") as \"a\"\n"
+                        + "from \"hr\".\"emps\"\n"
+                        + "group by \"deptno\"\n"
+                        + "order by \"deptno\"")));
+            assertEquals(
+                "m=100; n=Sebastian\n",
+                toString(
+                    statement.executeQuery(
+                        "select min(\"empid\") as \"m\",\n"
+                        + " max(\"name\") as \"n\"\n"
+                        + "from \"hr\".\"emps\"")));
+            // DISTINCT cannot merge partial groups, so the rows are
+            // distributed instead.
+            assertEquals(
+                "deptno=10; c=2\n"
+                + "deptno=20; c=1\n",
+                toString(
+                    statement.executeQuery(
+                        "select \"deptno\", count(distinct \"name\") as \"c\"\n"
+                        + "from \"hr\".\"emps\"\n"
+                        + "group by \"deptno\"\n"
+                        + "order by \"deptno\"")));
+            assertEquals(
+                "dname=HR; ename=null\n"
+                + "dname=Marketing; ename=null\n"
+                + "dname=Sales; ename=Bill\n"
+                + "dname=Sales; ename=Sebastian\n",
+                toString(
+                    statement.executeQuery(
+                        "select d.\"name\" as \"dname\",\n"
+                        + " e.\"name\" as \"ename\"\n"
+                        + "from \"hr\".\"depts\" as d\n"
+                        + "left join \"hr\".\"emps\" as e\n"
+                        + "on d.\"deptno\" = e.\"deptno\"\n"
+                        + "order by 1, 2")));
+            statement.close();
+            connection.close();
+        }
+    }
+
+    /** Tests a prepared statement with dynamic parameters, executed
+     * several times with different values. */
+    public void testPreparedStatement()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection =
+            DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "hr",
+            new HrSchema());
+        PreparedStatement preparedStatement =
+            connection.prepareStatement(
+                "select \"name\", \"empid\" + ? as \"e\"\n"
+                + "from \"hr\".\"emps\"\n"
+                + "where \"deptno\" = ?\n"
+                + "order by \"empid\"");
+        final ParameterMetaData parameterMetaData =
+            preparedStatement.getParameterMetaData();
+        assertEquals(2, parameterMetaData.getParameterCount());
+        assertEquals(
+            java.sql.Types.INTEGER, parameterMetaData.getParameterType(2));
+        assertEquals(
+            ParameterMetaData.parameterNullable,
+            parameterMetaData.isNullable(2));
+        try {
+            preparedStatement.executeQuery();
+            fail("expected error");
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("is not set"));
+        }
+        preparedStatement.setInt(1, 1);
+        preparedStatement.setInt(2, 10);
+        assertEquals(
+            "name=Bill; e=101\n"
+            + "name=Sebastian; e=151\n",
+            toString(preparedStatement.executeQuery()));
+        preparedStatement.setLong(1, 2);
+        preparedStatement.setInt(2, 20);
+        assertEquals(
+            "name=Eric; e=202\n",
+            toString(preparedStatement.executeQuery()));
+        preparedStatement.setNull(2, java.sql.Types.INTEGER);
+        assertEquals(
+            "",
+            toString(preparedStatement.executeQuery()));
+        preparedStatement.close();
+        connection.close();
+    }
+
+    /** Tests that a query stops, and reports an error, after it has been
+     * cancelled or has exceeded its time limit. */
+    public void testCancel()
+        throws ClassNotFoundException, SQLException, InterruptedException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection =
+            DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "hr",
+            new HrSchema());
+        Statement statement = connection.createStatement();
+        final String sql =
+            "select e.\"name\" as \"ename\", d.\"name\" as \"dname\"\n"
+            + "from \"hr\".\"emps\" as e\n"
+            + "join \"hr\".\"depts\" as d\n"
+            + "on e.\"deptno\" = d.\"deptno\"";
+        ResultSet resultSet = statement.executeQuery(sql);
+        assertTrue(resultSet.next());
+        statement.cancel();
+        try {
+            resultSet.next();
+            fail("expected error");
+        } catch (SQLException e) {
+            assertEquals("Query cancelled", e.getMessage());
+        }
+
+        // A new query on the same statement is not affected.
+        assertEquals(
+            "ename=Bill; dname=Sales\n"
+            + "ename=Sebastian; dname=Sales\n",
+            toString(statement.executeQuery(sql + "\norder by 1")));
+
+        statement.setQueryTimeout(1);
+        resultSet = statement.executeQuery(sql);
+        assertTrue(resultSet.next());
+        Thread.sleep(1500);
+        try {
+            resultSet.next();
+            fail("expected error");
+        } catch (SQLException e) {
+            assertEquals("Query timed out", e.getMessage());
+        }
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests that a query that needs more memory than its limit allows
+     * fails cleanly, or, if it is a sort, spills to disk. */
+    public void testMemoryLimit()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        for (String limit : new String[] {"100", "1000"}) {
+            final Properties info = new Properties();
+            info.setProperty("queryMemoryLimit", limit);
+            Connection connection =
+                DriverManager.getConnection("jdbc:optiq:", info);
+            OptiqConnection optiqConnection =
+                connection.unwrap(OptiqConnection.class);
+            ReflectiveSchema.create(
+                optiqConnection, optiqConnection.getRootSchema(), "hr",
+                new HrSchema());
+            Statement statement = connection.createStatement();
+            if (limit.equals("100")) {
+                try {
+                    toString(
+                        statement.executeQuery(
+                            "select \"deptno\", count(*) as \"c\"\n"
+                            + "from \"hr\".\"emps\"\n"
+                            + "group by \"deptno\""));
+                    fail("expected error");
+                } catch (SQLException e) {
+                    assertTrue(
+                        e.getMessage(),
+                        e.getMessage().startsWith(
+                            "Memory limit of 100 bytes for query exceeded by "
+                            + "hash aggregate"));
+                }
+                // The values seen by COUNT(DISTINCT ...) count too, even
+                // though there is only one group.
+                try {
+                    toString(
+                        statement.executeQuery(
+                            "select count(distinct \"name\") as \"c\"\n"
+                            + "from \"hr\".\"emps\""));
+                    fail("expected error");
+                } catch (SQLException e) {
+                    assertTrue(
+                        e.getMessage(),
+                        e.getMessage().startsWith(
+                            "Memory limit of 100 bytes for query exceeded by "
+                            + "hash aggregate"));
+                }
+                // The failed query's memory was returned; a query that
+                // needs none still runs.
+                assertEquals(
+                    "c=3\n",
+                    toString(
+                        statement.executeQuery(
+                            "select count(*) as \"c\"\n"
+                            + "from \"hr\".\"emps\"")));
+            } else {
+                // Not enough memory to hold two rows; the sort spills each
+                // row to its own run, and merges them.
+                assertEquals(
+                    "name=Eric; empid=200\n"
+                    + "name=Sebastian; empid=150\n"
+                    + "name=Bill; empid=100\n",
+                    toString(
+                        statement.executeQuery(
+                            "select \"name\", \"empid\"\n"
+                            + "from \"hr\".\"emps\"\n"
+                            + "order by \"empid\" desc")));
+            }
+            statement.close();
+            connection.close();
+        }
+    }
+
+    /** Tests OFFSET, FETCH and LIMIT, with and without ORDER BY. */
+    public void testOffsetFetch()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection = DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        ReflectiveSchema.create(
+            optiqConnection, optiqConnection.getRootSchema(), "hr",
+            new HrSchema());
+        Statement statement = connection.createStatement();
+        // Top-N: the sort keeps only 2 rows.
+        assertEquals(
+            "empid=200\n"
+            + "empid=150\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"hr\".\"emps\"\n"
+                    + "order by \"empid\" desc\n"
+                    + "fetch first 2 rows only")));
+        assertEquals(
+            "empid=150\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"hr\".\"emps\"\n"
+                    + "order by \"empid\" limit 1 offset 1")));
+        // Without ORDER BY, rows come in the order of the input.
+        assertEquals(
+            "name=Eric\n",
+            toString(
+                statement.executeQuery(
+                    "select \"name\" from \"hr\".\"emps\"\n"
+                    + "offset 1 row fetch next 1 row only")));
+        assertEquals(
+            "c=2\n",
+            toString(
+                statement.executeQuery(
+                    "select count(*) as \"c\" from (\n"
+                    + "  select * from \"hr\".\"emps\" limit 2)")));
+        assertEquals(
+            "",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"hr\".\"emps\"\n"
+                    + "order by 1 offset 5 rows")));
+        // The limit closes the hash join early, releasing its build table.
+        assertEquals(
+            "c=1\n",
+            toString(
+                statement.executeQuery(
+                    "select count(*) as \"c\" from (\n"
+                    + "  select e.\"name\" from \"hr\".\"emps\" as e\n"
+                    + "  join \"hr\".\"depts\" as d\n"
+                    + "  on e.\"deptno\" = d.\"deptno\"\n"
+                    + "  limit 1)")));
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests that the rules of the heuristic planning phase can be set per
+     * connection, and do not change the results of queries. */
+    public void testHeuristicRules()
+        throws ClassNotFoundException, SQLException
+    {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        for (String rules
+            : new String[] {
+                "default",
+                "",
+                "org.eigenbase.rel.rules.PushFilterPastJoinRule,"
+                + " org.eigenbase.rel.rules.MergeFilterRule",
+                "no.such.Rule"})
+        {
+            final Properties info = new Properties();
+            info.setProperty("heuristicRules", rules);
+            Connection connection =
+                DriverManager.getConnection("jdbc:optiq:", info);
+            OptiqConnection optiqConnection =
+                connection.unwrap(OptiqConnection.class);
+            ReflectiveSchema.create(
+                optiqConnection, optiqConnection.getRootSchema(), "hr",
+                new HrSchema());
+            Statement statement = connection.createStatement();
+            final String sql =
+                "select e.\"name\", d.\"name\" as \"dname\"\n"
+                + "from \"hr\".\"emps\" as e\n"
+                + "join \"hr\".\"depts\" as d\n"
+                + "on e.\"deptno\" = d.\"deptno\"\n"
+                + "where e.\"empid\" > 120 and d.\"name\" <> 'HR'";
+            if (rules.equals("no.such.Rule")) {
+                try {
+                    statement.executeQuery(sql);
+                    fail("expected error");
+                } catch (RuntimeException e) {
+                    assertTrue(
+                        Util.getStackTrace(e).contains(
+                            "Unknown planner rule no.such.Rule"));
+                }
+            } else {
+                assertEquals(
+                    "name=Sebastian; dname=Sales\n",
+                    toString(statement.executeQuery(sql)));
+            }
+            statement.close();
+            connection.close();
+        }
+    }
+
+    /** Tests that the planner uses the order in which a table declares its
+     * rows to be sorted: it removes sorts that are not needed, and uses
+     * merge joins and sorted aggregates. */
+    public void testCollation() throws ClassNotFoundException, SQLException {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection = DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        MutableSchema rootSchema = optiqConnection.getRootSchema();
+        MapSchema schema = MapSchema.create(optiqConnection, rootSchema, "s");
+        // Sorted on deptno, then empid.
+        schema.addTable(
+            "emps",
+            new ListTable<Employee>(
+                Employee.class, schema, "emps",
+                Collections.<RelCollation>singletonList(
+                    new RelCollationImpl(
+                        Arrays.asList(
+                            new RelFieldCollation(1),
+                            new RelFieldCollation(0)))),
+                Arrays.asList(
+                    new Employee(100, 10, "Bill"),
+                    new Employee(150, 10, "Sebastian"),
+                    new Employee(200, 20, "Eric"),
+                    new Employee(120, 40, "Theodore"))));
+        // Sorted on deptno.
+        schema.addTable(
+            "depts",
+            new ListTable<Department>(
+                Department.class, schema, "depts",
+                RelCollationImpl.createSingleton(0),
+                Arrays.asList(
+                    new Department(10, "Sales"),
+                    new Department(30, "Marketing"),
+                    new Department(40, "HR"))));
+        // Claims to be sorted on empid, but is not.
+        schema.addTable(
+            "unsorted",
+            new ListTable<Employee>(
+                Employee.class, schema, "unsorted",
+                RelCollationImpl.createSingleton(0),
+                Arrays.asList(new HrSchema().emps)));
+        // Sorted on deptno, and empty.
+        schema.addTable(
+            "empty",
+            new ListTable<Employee>(
+                Employee.class, schema, "empty",
+                RelCollationImpl.createSingleton(1),
+                Collections.<Employee>emptyList()));
+        Statement statement = connection.createStatement();
+
+        // The planner trusts the declared order, so does not sort again.
+        assertEquals(
+            "empid=100\n"
+            + "empid=200\n"
+            + "empid=150\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"s\".\"unsorted\"\n"
+                    + "order by \"empid\"")));
+        assertEquals(
+            "empid=200\n"
+            + "empid=150\n"
+            + "empid=100\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"s\".\"unsorted\"\n"
+                    + "order by \"empid\" desc")));
+        assertEquals(
+            "name=Bill\n"
+            + "name=Sebastian\n",
+            toString(
+                statement.executeQuery(
+                    "select \"name\" from \"s\".\"emps\"\n"
+                    + "order by \"deptno\", \"empid\"\n"
+                    + "fetch next 2 rows only")));
+
+        // Merge join.
+        assertEquals(
+            "name=Bill; dname=Sales\n"
+            + "name=Sebastian; dname=Sales\n"
+            + "name=Theodore; dname=HR\n",
+            toString(
+                statement.executeQuery(
+                    "select e.\"name\", d.\"name\" as \"dname\"\n"
+                    + "from \"s\".\"emps\" as e\n"
+                    + "join \"s\".\"depts\" as d\n"
+                    + "on e.\"deptno\" = d.\"deptno\"\n"
+                    + "order by e.\"name\"")));
+        assertEquals(
+            "name=Bill; dname=Sales\n"
+            + "name=Eric; dname=null\n"
+            + "name=Sebastian; dname=Sales\n"
+            + "name=Theodore; dname=HR\n",
+            toString(
+                statement.executeQuery(
+                    "select e.\"name\", d.\"name\" as \"dname\"\n"
+                    + "from \"s\".\"emps\" as e\n"
+                    + "left join \"s\".\"depts\" as d\n"
+                    + "on e.\"deptno\" = d.\"deptno\"\n"
+                    + "order by e.\"name\"")));
+
+        // Sorted aggregate.
+        assertEquals(
+            "deptno=10; c=2; m=100\n"
+            + "deptno=20; c=1; m=200\n"
+            + "deptno=40; c=1; m=120\n",
+            toString(
+                statement.executeQuery(
+                    "select \"deptno\", count(*) as \"c\",\n"
+                    + " min(\"empid\") as \"m\"\n"
+                    + "from \"s\".\"emps\"\n"
+                    + "group by \"deptno\"\n"
+                    + "order by \"deptno\"")));
+
+        // Sorted aggregate of an empty input returns no rows.
+        assertEquals(
+            "",
+            toString(
+                statement.executeQuery(
+                    "select \"deptno\", count(*) as \"c\"\n"
+                    + "from \"s\".\"empty\"\n"
+                    + "group by \"deptno\"")));
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests that a filter on an {@link IndexedTable} is evaluated by looking
+     * up one of its indexes, and that indexes are maintained when rows are
+     * added and removed. */
+    public void testIndex() throws ClassNotFoundException, SQLException {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection = DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        MutableSchema rootSchema = optiqConnection.getRootSchema();
+        MapSchema schema = MapSchema.create(optiqConnection, rootSchema, "s");
+        final CountingIndexedTable emps =
+            new CountingIndexedTable(schema, "emps");
+        schema.addTable("emps", emps);
+        final HrSchema hr = new HrSchema();
+        emps.addAll(Arrays.asList(hr.emps));
+        emps.add(new Employee(120, 40, "Theodore"));
+        emps.createIndex("empid", IndexedTable.IndexType.HASH, "empid");
+        emps.createIndex(
+            "deptno_name", IndexedTable.IndexType.TREE, "deptno", "name");
+        Statement statement = connection.createStatement();
+
+        // Lookup in a hash index.
+        assertEquals(
+            "empid=150; deptno=10; name=Sebastian\n",
+            toString(
+                statement.executeQuery(
+                    "select * from \"s\".\"emps\" where \"empid\" = 150")));
+        assertEquals(1, emps.lookupCount);
+
+        // Several lookups, and a residual condition.
+        assertEquals(
+            "name=Bill\n",
+            toString(
+                statement.executeQuery(
+                    "select \"name\" from \"s\".\"emps\"\n"
+                    + "where \"empid\" in (100, 200) and \"name\" <> 'Eric'")));
+        assertEquals(3, emps.lookupCount);
+
+        // Prefix of a tree index, and a range on the next column.
+        assertEquals(
+            "empid=150\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"s\".\"emps\"\n"
+                    + "where \"deptno\" = 10 and \"name\" > 'C'")));
+        assertEquals(4, emps.lookupCount);
+
+        // Range on the leading column of a tree index; rows come back in
+        // index order.
+        assertEquals(
+            "name=Eric\n"
+            + "name=Theodore\n",
+            toString(
+                statement.executeQuery(
+                    "select \"name\" from \"s\".\"emps\"\n"
+                    + "where \"deptno\" >= 20")));
+        assertEquals(5, emps.lookupCount);
+
+        // No index on the column; reads the whole table.
+        assertEquals(
+            "empid=200\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"s\".\"emps\"\n"
+                    + "where \"name\" = 'Eric'")));
+        assertEquals(5, emps.lookupCount);
+
+        // Indexes see rows that are added and removed.
+        assertTrue(emps.remove(hr.emps[2]));
+        emps.add(new Employee(160, 10, "Wilma"));
+        assertEquals(
+            "empid=100; deptno=10; name=Bill\n"
+            + "empid=160; deptno=10; name=Wilma\n",
+            toString(
+                statement.executeQuery(
+                    "select * from \"s\".\"emps\" where \"deptno\" = 10")));
+        assertEquals(
+            "",
+            toString(
+                statement.executeQuery(
+                    "select * from \"s\".\"emps\" where \"empid\" = 150")));
+        emps.clear();
+        assertEquals(
+            "",
+            toString(
+                statement.executeQuery(
+                    "select * from \"s\".\"emps\" where \"deptno\" = 10")));
+        assertEquals(8, emps.lookupCount);
+
+        // Dropping an index invalidates the cached plans, including one that
+        // uses the index.
+        final PlanCache planCache = optiqConnection.getPlanCache();
+        final long invalidationCount = planCache.getInvalidationCount();
+        assertTrue(emps.dropIndex("empid"));
+        assertEquals(
+            "",
+            toString(
+                statement.executeQuery(
+                    "select * from \"s\".\"emps\" where \"empid\" = 150")));
+        assertEquals(8, emps.lookupCount);
+        assertEquals(invalidationCount + 1, planCache.getInvalidationCount());
+        statement.close();
+        connection.close();
+    }
+
+    /** Tests a table that stores each column in an array, loaded from a
+     * collection of objects and from a JDBC result set. */
+    public void testColumnar() throws ClassNotFoundException, SQLException {
+        Class.forName("net.hydromatic.optiq.jdbc.Driver");
+        Connection connection = DriverManager.getConnection("jdbc:optiq:");
+        OptiqConnection optiqConnection =
+            connection.unwrap(OptiqConnection.class);
+        MutableSchema rootSchema = optiqConnection.getRootSchema();
+        ReflectiveSchema.create(
+            optiqConnection, rootSchema, "hr", new HrSchema());
+        MapSchema schema = MapSchema.create(optiqConnection, rootSchema, "s");
+        final JavaTypeFactory typeFactory = optiqConnection.getTypeFactory();
+        final ColumnarTable emps =
+            ColumnarTable.load(
+                schema, typeFactory, "emps", Employee.class,
+                Arrays.asList(new HrSchema().emps));
+        assertEquals(
+            Arrays.asList(
+                ColumnarTable.Representation.INT,
+                ColumnarTable.Representation.INT,
+                ColumnarTable.Representation.STRING),
+            emps.getRepresentations());
+        Statement statement = connection.createStatement();
+
+        // Scan.
+        assertEquals(
+            "empid=100; deptno=10; name=Bill\n"
+            + "empid=200; deptno=20; name=Eric\n"
+            + "empid=150; deptno=10; name=Sebastian\n",
+            toString(statement.executeQuery("select * from \"s\".\"emps\"")));
+
+        // Filter and project, evaluated over the column arrays.
+        assertEquals(
+            "name=Bill; e=101\n"
+            + "name=Sebastian; e=151\n",
+            toString(
+                statement.executeQuery(
+                    "select \"name\", \"empid\" + 1 as \"e\"\n"
+                    + "from \"s\".\"emps\"\n"
+                    + "where \"deptno\" = 10")));
+
+        // Aggregate.
+        assertEquals(
+            "deptno=10; c=2; s=250\n"
+            + "deptno=20; c=1; s=200\n",
+            toString(
+                statement.executeQuery(
+                    "select \"deptno\", count(*) as \"c\",\n"
+                    + " sum(\"empid\") as \"s\"\n"
+                    + "from \"s\".\"emps\"\n"
+                    + "group by \"deptno\"\n"
+                    + "order by \"deptno\"")));
+
+        // A NOT NULL column rejects null, and the row is not added.
+        try {
+            emps.add(null, 10, "Zed");
+            fail("expected error");
+        } catch (IllegalArgumentException e) {
+            assertEquals("column 'empid' is NOT NULL", e.getMessage());
+        }
+        assertEquals(3, emps.size());
+        assertEquals(
+            3d, emps.getStatistic().getColumnStatistic(2).getDistinctCount());
+
+        // Load from a JDBC result set. Nullable numeric columns have a null
+        // bitmap; character columns encode null in their dictionary.
+        ResultSet resultSet =
+            statement.executeQuery(
+                "select \"empid\", \"name\",\n"
+                + " case when \"deptno\" = 20 then null else \"deptno\" end"
+                + " as \"deptno\"\n"
+                + "from \"hr\".\"emps\"");
+        final ColumnarTable emps2 =
+            ColumnarTable.load(schema, typeFactory, "emps2", resultSet);
+        resultSet.close();
+        emps2.add(300, null, 30);
+        assertEquals(4, emps2.size());
+        assertEquals(
+            "empid=200\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\" from \"s\".\"emps2\"\n"
+                    + "where \"deptno\" is null")));
+        assertEquals(
+            "empid=300; deptno=30\n",
+            toString(
+                statement.executeQuery(
+                    "select \"empid\", \"deptno\" from \"s\".\"emps2\"\n"
+                    + "where \"name\" is null")));
+        assertEquals(
+            "c=3; s=50\n",
+            toString(
+                statement.executeQuery(
+                    "select count(\"deptno\") as \"c\",\n"
+                    + " sum(\"deptno\") as \"s\"\n"
+                    + "from \"s\".\"emps2\"")));
+
+        // Rows added after a snapshot is taken are not in it. The snapshot
+        // shares the table's arrays and null bitmaps, which are copied as
+        // they grow.
+        final ColumnarTable.Snapshot snapshot = emps2.snapshot();
+        emps2.add(400, "Wilma", 10);
+        for (int i = 0; i < 100; i++) {
+            emps2.add(1000 + i, null, null);
+        }
+        assertEquals(4, snapshot.getRowCount());
+        assertNull(snapshot.get(1, 2));
+        assertEquals(30, snapshot.get(3, 2));
+        assertEquals(105, emps2.size());
+        emps2.clear();
+        assertEquals(
+            "",
+            toString(
+                statement.executeQuery(
+                    "select * from \"s\".\"emps2\"")));
+
+        // Columns that were nullable are still nullable after clear.
+        emps2.add(500, null, null);
+        assertEquals(
+            "empid=500; name=null; deptno=null\n",
+            toString(
+                statement.executeQuery(
+                    "select * from \"s\".\"emps2\"")));
+        statement.close();
+        connection.close();
+    }
+
     public static class HrSchema {
         public final Employee[] emps = {
             new Employee(100, 10, "Bill"),
@@ -555,6 +1697,10 @@ public class JdbcTest extends TestCase {
             return elementType;
         }
 
+        public Statistic getStatistic() {
+            return Statistics.UNKNOWN;
+        }
+
         public Expression getExpression() {
             return Expressions.call(
                 schema.getExpression(),
@@ -571,6 +1717,64 @@ public class JdbcTest extends TestCase {
         }
     }
 
+    /** Table whose rows are held in a list, and which declares the order in
+     * which they are sorted. */
+    static class ListTable<T> extends AbstractTable<T> {
+        private final List<RelCollation> collations;
+        private final List<T> rows;
+
+        ListTable(
+            Class<T> elementType,
+            Schema schema,
+            String tableName,
+            List<RelCollation> collations,
+            List<T> rows)
+        {
+            super(elementType, schema, tableName);
+            this.collations = collations;
+            this.rows = rows;
+        }
+
+        @Override
+        public Statistic getStatistic() {
+            return Statistics.of((double) rows.size(), null, collations);
+        }
+
+        public Enumerator<T> enumerator() {
+            return Linq4j.asEnumerable(rows).enumerator();
+        }
+    }
+
+    /** Table of employees that counts the lookups in its indexes. */
+    static class CountingIndexedTable extends IndexedTable<Employee> {
+        int lookupCount;
+
+        CountingIndexedTable(Schema schema, String tableName) {
+            super(schema, Employee.class, tableName);
+        }
+
+        @Override
+        public synchronized Enumerable<Employee> lookup(
+            String indexName, Object[] key)
+        {
+            ++lookupCount;
+            return super.lookup(indexName, key);
+        }
+
+        @Override
+        public synchronized Enumerable<Employee> range(
+            String indexName,
+            Object[] lower,
+            boolean lowerInclusive,
+            Object[] upper,
+            boolean upperInclusive)
+        {
+            ++lookupCount;
+            return super.range(
+                indexName, lower, lowerInclusive, upper, upperInclusive);
+        }
+    }
+
     static class ViewTable<T>
         extends AbstractTable<T>
         implements TranslatableTable<T>
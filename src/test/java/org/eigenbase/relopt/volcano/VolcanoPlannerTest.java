@@ -25,6 +25,7 @@ import openjava.mop.*;
 
 import org.eigenbase.rel.*;
 import org.eigenbase.rel.convert.*;
+import org.eigenbase.rel.metadata.*;
 import org.eigenbase.rel.rules.*;
 import org.eigenbase.relopt.*;
 import org.eigenbase.reltype.*;
@@ -299,6 +300,211 @@ public class VolcanoPlannerTest
             resultLeaf.getLabel());
     }
 
+    /**
+     * Tests that the planner stops firing rules once it has an implementable
+     * plan and has reached its rule-firing limit. Without the limit, the
+     * planner would go on to fire GoodRemoveSingleRule, as in {@link
+     * #testRemoveSingleGood()}.
+     */
+    public void testRuleFiringLimit()
+    {
+        VolcanoPlanner planner = new VolcanoPlanner();
+        planner.ambitious = true;
+        planner.addRelTraitDef(CallingConventionTraitDef.instance);
+        planner.setPlanningLimits(0, 1);
+
+        planner.addRule(new PhysLeafRule());
+        planner.addRule(new GoodSingleRule());
+        planner.addRule(new GoodRemoveSingleRule());
+
+        RelOptCluster cluster = newCluster(planner);
+        NoneLeafRel leafRel =
+            new NoneLeafRel(
+                cluster,
+                "a");
+        NoneSingleRel singleRel =
+            new NoneSingleRel(
+                cluster,
+                leafRel);
+        RelNode convertedRel =
+            planner.changeTraits(
+                singleRel,
+                cluster.traitSetOf(PHYS_CALLING_CONVENTION));
+        planner.setRoot(convertedRel);
+        RelNode result = planner.chooseDelegate().findBestExp();
+        assertTrue(result instanceof PhysSingleRel);
+
+        // Two rules fire before there is an implementable plan; the limit
+        // does not apply until then.
+        assertEquals(
+            VolcanoPlanner.StopReason.RULE_FIRING_LIMIT,
+            planner.getStopReason());
+        assertEquals(2, planner.getRuleFiringCount());
+
+        // The planner stopped in the middle of a phase, but still discarded
+        // that phase's rule matches.
+        assertFalse(
+            planner.ruleQueue.matchListMap.containsKey(
+                VolcanoPlannerPhase.PRE_PROCESS));
+    }
+
+    /**
+     * Tests that when two sets merge, metadata cached for the rels in and
+     * above the merged sets becomes stale, but metadata cached for other rels
+     * remains valid.
+     */
+    public void testMetadataCacheAfterMerge()
+    {
+        VolcanoPlanner planner = new VolcanoPlanner();
+        planner.addRelTraitDef(CallingConventionTraitDef.instance);
+
+        RelOptCluster cluster = newCluster(planner);
+        ChainedRelMetadataProvider chain = new ChainedRelMetadataProvider();
+        chain.addProvider(new DefaultRelMetadataProvider());
+        planner.registerMetadataProviders(chain);
+        CachingRelMetadataProvider provider =
+            new CachingRelMetadataProvider(chain, planner);
+        cluster.setMetadataProvider(provider);
+
+        NoneLeafRel leafA =
+            new NoneLeafRel(
+                cluster,
+                "a");
+        NoneLeafRel leafB =
+            new NoneLeafRel(
+                cluster,
+                "b");
+        NoneLeafRel leafC =
+            new NoneLeafRel(
+                cluster,
+                "c");
+        RelNode subsetA =
+            planner.ensureRegistered(
+                new NoneSingleRel(cluster, leafA),
+                null);
+        RelNode subsetB =
+            planner.ensureRegistered(
+                new NoneSingleRel(cluster, leafB),
+                null);
+        RelNode subsetC =
+            planner.ensureRegistered(
+                new NoneSingleRel(cluster, leafC),
+                null);
+
+        // First queries miss; a repeated query hits.
+        RelMetadataQuery.getRowCount(subsetA);
+        RelMetadataQuery.getRowCount(subsetB);
+        RelMetadataQuery.getRowCount(subsetC);
+        assertEquals(0, provider.getHitCount());
+        RelMetadataQuery.getRowCount(subsetC);
+        assertEquals(1, provider.getHitCount());
+
+        // Merge the sets of "a" and "b". The rels above them now have the
+        // same input, so their sets merge too.
+        planner.ensureRegistered(leafB, leafA);
+        final long recomputeCount = provider.getRecomputeCount();
+
+        // Metadata of "c" is still valid.
+        RelMetadataQuery.getRowCount(subsetC);
+        assertEquals(2, provider.getHitCount());
+        assertEquals(recomputeCount, provider.getRecomputeCount());
+
+        // Metadata of "a" is computed again.
+        RelMetadataQuery.getRowCount(leafA);
+        assertEquals(2, provider.getHitCount());
+        assertEquals(recomputeCount + 1, provider.getRecomputeCount());
+    }
+
+    /**
+     * Tests that {@link RuleQueue.MatchHeap} pops rule-matches in the same
+     * order as sorting them by decreasing importance, as the rule queue used
+     * to, including after importances are raised and lowered.
+     */
+    public void testMatchHeap()
+    {
+        VolcanoPlanner planner = new VolcanoPlanner();
+        planner.addRelTraitDef(CallingConventionTraitDef.instance);
+        RelOptCluster cluster = newCluster(planner);
+        RelOptRule rule = new PhysLeafRule();
+
+        final Map<VolcanoRuleMatch, Double> importances =
+            new HashMap<VolcanoRuleMatch, Double>();
+        final Comparator<VolcanoRuleMatch> comparator =
+            new Comparator<VolcanoRuleMatch>() {
+                public int compare(
+                    VolcanoRuleMatch match1,
+                    VolcanoRuleMatch match2)
+                {
+                    int c =
+                        Double.compare(
+                            importances.get(match1),
+                            importances.get(match2));
+                    if (c == 0) {
+                        c = RuleQueue.compareRels(
+                            match1.getRels(),
+                            match2.getRels());
+                    }
+                    return -c;
+                }
+            };
+
+        // Few distinct importances, so that many ties are broken by rel id.
+        final Random random = new Random(1);
+        final RuleQueue.MatchHeap heap = new RuleQueue.MatchHeap();
+        final List<VolcanoRuleMatch> matches =
+            new ArrayList<VolcanoRuleMatch>();
+        for (int i = 0; i < 100; i++) {
+            NoneLeafRel leafRel =
+                new NoneLeafRel(
+                    cluster,
+                    "leaf" + i);
+            planner.ensureRegistered(leafRel, null);
+            VolcanoRuleMatch match =
+                new VolcanoRuleMatch(
+                    planner,
+                    rule.getOperand(),
+                    new RelNode[] { leafRel });
+            final double importance = random.nextInt(5) / 4d;
+            importances.put(match, importance);
+            heap.add(match, importance);
+            matches.add(match);
+        }
+
+        // Raise and lower the importance of some matches.
+        updateImportances(heap, matches, importances, random);
+
+        // Pop some matches, then change the importance of some of those
+        // that remain, and pop the rest.
+        Collections.sort(matches, comparator);
+        for (int i = 0; i < 40; i++) {
+            assertSame(matches.remove(0), heap.poll());
+        }
+        updateImportances(heap, matches, importances, random);
+        Collections.sort(matches, comparator);
+        while (!matches.isEmpty()) {
+            assertSame(matches.remove(0), heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    /**
+     * Gives every third rule-match a new importance, which may be higher or
+     * lower than its previous importance.
+     */
+    private static void updateImportances(
+        RuleQueue.MatchHeap heap,
+        List<VolcanoRuleMatch> matches,
+        Map<VolcanoRuleMatch, Double> importances,
+        Random random)
+    {
+        for (int i = 0; i < matches.size(); i += 3) {
+            final VolcanoRuleMatch match = matches.get(i);
+            final double importance = random.nextInt(5) / 4d;
+            importances.put(match, importance);
+            heap.update(match, importance);
+        }
+    }
+
     /**
      * Tests whether planner correctly notifies listeners of events.
      */
@@ -1242,6 +1242,18 @@ public class SqlParserTest
                 }));
     }
 
+    public void testOrderNullsFirst()
+    {
+        check(
+            "select * from emp order by gender desc nulls last, deptno asc nulls first, empno nulls last",
+            TestUtil.fold(
+                new String[] {
+                    "SELECT *",
+                    "FROM `EMP`",
+                    "ORDER BY `GENDER` DESC NULLS LAST, `DEPTNO` NULLS FIRST, `EMPNO` NULLS LAST"
+                }));
+    }
+
     public void testOrderInternal()
     {
         check(
@@ -1266,6 +1278,63 @@ public class SqlParserTest
                 + "WHERE (`A` = `B`)"));
     }
 
+    public void testOffsetFetch()
+    {
+        check(
+            "select a from foo order by b, c offset 1 row fetch first 2 row only",
+            TestUtil.fold(
+                "SELECT `A`\n"
+                + "FROM `FOO`\n"
+                + "ORDER BY `B`, `C`\n"
+                + "OFFSET 1 ROWS\n"
+                + "FETCH NEXT 2 ROWS ONLY"));
+        check(
+            "select a from foo fetch next 3 rows only",
+            TestUtil.fold(
+                "SELECT `A`\n"
+                + "FROM `FOO`\n"
+                + "FETCH NEXT 3 ROWS ONLY"));
+        check(
+            "select a from foo union all select b from bar offset 5 rows",
+            TestUtil.fold(
+                "(SELECT `A`\n"
+                + "FROM `FOO`\n"
+                + "UNION ALL\n"
+                + "SELECT `B`\n"
+                + "FROM `BAR`)\n"
+                + "OFFSET 5 ROWS"));
+        checkFails(
+            "select a from foo fetch first 2 rows ^offset^ 1 row",
+            "(?s).*Encountered \"offset\" at .*");
+    }
+
+    public void testLimit()
+    {
+        check(
+            "select a from foo order by b limit 2 offset 1",
+            TestUtil.fold(
+                "SELECT `A`\n"
+                + "FROM `FOO`\n"
+                + "ORDER BY `B`\n"
+                + "OFFSET 1 ROWS\n"
+                + "FETCH NEXT 2 ROWS ONLY"));
+        check(
+            "select a from foo limit 10",
+            TestUtil.fold(
+                "SELECT `A`\n"
+                + "FROM `FOO`\n"
+                + "FETCH NEXT 10 ROWS ONLY"));
+
+        // LIMIT and FETCH are mutually exclusive
+        checkFails(
+            "select a from foo limit 2 ^fetch^ first 3 rows only",
+            "(?s).*Encountered \"fetch\" at line 1, column 27.*");
+        checkFails(
+            "select a from foo order by b limit 2 offset 1 "
+            + "^fetch^ next 3 rows only",
+            "(?s).*Encountered \"fetch\" at line 1, column 47.*");
+    }
+
     public void testOrderIllegalInExpression()
     {
         check(
@@ -550,6 +550,113 @@ public class RelMetadataTest
                 null);
         assertTrue(result == null);
     }
+
+    // ----------------------------------------------------------------------
+    // Tests for ReflectiveRelMetadataProvider dispatch
+    // ----------------------------------------------------------------------
+
+    private void checkCustomRowCount(
+        ReflectiveRelMetadataProvider customProvider,
+        double expected)
+    {
+        RelNode rel = convertSql("select * from emp");
+        ChainedRelMetadataProvider provider = new ChainedRelMetadataProvider();
+        provider.addProvider(new DefaultRelMetadataProvider());
+        provider.addProvider(customProvider);
+        rel.getCluster().setMetadataProvider(provider);
+
+        // The project's row count comes from the default provider, which
+        // asks for the row count of the table, which comes from the custom
+        // provider. Ask twice, so that the second call uses the dispatch
+        // table.
+        for (int i = 0; i < 2; i++) {
+            assertEquals(
+                expected,
+                RelMetadataQuery.getRowCount(rel),
+                EPSILON);
+        }
+    }
+
+    /**
+     * Tests a provider that is public, whose handlers can be generated.
+     */
+    public void testCustomProviderPublic()
+    {
+        checkCustomRowCount(new PublicRowCountProvider(), 42d);
+    }
+
+    /**
+     * Tests a provider that is not public, whose methods must be invoked by
+     * reflection.
+     */
+    public void testCustomProviderPrivate()
+    {
+        checkCustomRowCount(new PrivateRowCountProvider(), 43d);
+    }
+
+    /**
+     * Tests that {@link CachingRelMetadataProvider} answers repeated queries
+     * from its cache, and computes them again when the planner changes the
+     * metadata timestamp of the relational expressions.
+     */
+    public void testCachingProvider()
+    {
+        RelNode rel = convertSql("select * from emp");
+        final long [] timestamp = { 0 };
+        final RelOptPlanner planner =
+            new MockRelOptPlanner() {
+                public long getRelMetadataTimestamp(RelNode rel)
+                {
+                    return timestamp[0];
+                }
+            };
+        CachingRelMetadataProvider provider =
+            new CachingRelMetadataProvider(
+                rel.getCluster().getMetadataProvider(),
+                planner);
+        rel.getCluster().setMetadataProvider(provider);
+
+        // First query misses, once for each relational expression in the
+        // tree.
+        assertEquals(EMP_SIZE, RelMetadataQuery.getRowCount(rel), EPSILON);
+        assertEquals(0, provider.getHitCount());
+        final long missCount = provider.getMissCount();
+        assertTrue(missCount > 0);
+        assertEquals(missCount, provider.size());
+
+        // Second query hits.
+        assertEquals(EMP_SIZE, RelMetadataQuery.getRowCount(rel), EPSILON);
+        assertEquals(1, provider.getHitCount());
+        assertEquals(missCount, provider.getMissCount());
+        assertEquals(0, provider.getRecomputeCount());
+
+        // After the timestamp changes, results are stale.
+        ++timestamp[0];
+        assertEquals(EMP_SIZE, RelMetadataQuery.getRowCount(rel), EPSILON);
+        assertEquals(1, provider.getHitCount());
+        assertEquals(missCount, provider.getRecomputeCount());
+        assertEquals(missCount, provider.size());
+    }
+
+    //~ Inner Classes ----------------------------------------------------------
+
+    public static class PublicRowCountProvider
+        extends ReflectiveRelMetadataProvider
+    {
+        public Double getRowCount(TableAccessRelBase rel)
+        {
+            return 42d;
+        }
+    }
+
+    private static class PrivateRowCountProvider
+        extends ReflectiveRelMetadataProvider
+    {
+        public Double getRowCount(TableAccessRelBase rel)
+        {
+            return 43d;
+        }
+    }
 }
 
 // End RelMetadataTest.java